@@ -80,12 +80,15 @@ public abstract class BaseValidator<A extends Annotation, T> implements Constrai
 
     @Override
     public void initialize(A constraintAnnotation) {
-        initializePredicate(constraintAnnotation);
+        PlanSnapshot.initialize(getClass(),
+                () -> PhaseTimings.initialize(constraintAnnotation, getClass(), recorder -> initializePredicate(constraintAnnotation, recorder)));
         initializeMessage(constraintAnnotation);
     }
 
-    private void initializePredicate(A constraintAnnotation) {
-        predicate = predicateExtractor.apply(constraintAnnotation);
+    private void initializePredicate(A constraintAnnotation, PhaseTimings.Recorder recorder) {
+        BiPredicate<T, ClockProvider> extractedPredicate = predicateExtractor.apply(constraintAnnotation);
+        // predicates of validators like MomentValueValidator record their own phases; the time spent in other predicates cannot be split up
+        predicate = recorder == null ? extractedPredicate : recorder.unattributed(extractedPredicate);
     }
 
     private void initializeMessage(A constraintAnnotation) {
@@ -111,6 +114,18 @@ public abstract class BaseValidator<A extends Annotation, T> implements Constrai
         return valid;
     }
 
+    /**
+     * Returns the predicate that was extracted from the constraint annotation when this validator was initialized.
+     * This allows the predicate to be used without a {@link ConstraintValidatorContext}; messages are ignored.
+     * <p>
+     * If {@link PhaseTimings} are recorded for this validator, the predicate that is returned does not record any timings.
+     *
+     * @return The extracted predicate, or {@code null} if this validator has not been initialized yet.
+     */
+    final BiPredicate<T, ClockProvider> predicate() {
+        return PhaseTimings.untimed(predicate);
+    }
+
     /**
      * Negates a predicate. This is a utility method that simply returns {@code predicate.negate()}, and is equivalent to the static method that was
      * added to {@link Predicate} in Java 11.
@@ -126,6 +141,36 @@ public abstract class BaseValidator<A extends Annotation, T> implements Constrai
         return predicate.negate();
     }
 
+    /**
+     * Marks a predicate as a comparison of the order of a value (the first argument) and a moment (the second argument), like
+     * {@link Instant#isAfter(Instant)} or {@link java.time.LocalDate#isBefore(java.time.chrono.ChronoLocalDate)}.
+     * The outcome of such a predicate may only depend on whether the value is before, equal to or after the moment. This allows values to be
+     * validated by comparing primitive representations of the value and the moment, or constraints to be turned into ranges of valid values.
+     * Predicates that are not marked are always called for each value.
+     * <p>
+     * This method can be used with method references. Example: {@code comparison(LocalDate::isAfter)}. Negating the result, for instance using
+     * {@link #not(BiPredicate)}, retains the mark.
+     *
+     * @param <T> The type to test.
+     * @param predicate The predicate to mark.
+     * @return A predicate that returns the same result as the given predicate, and that is marked as a comparison.
+     * @throws NullPointerException If the given predicate is {@code null}.
+     */
+    protected static <T> BiPredicate<T, T> comparison(BiPredicate<T, T> predicate) {
+        return new Comparison<>(predicate);
+    }
+
+    /**
+     * Returns whether or not a predicate is marked as a comparison of the order of a value and a moment.
+     *
+     * @param predicate The predicate to check.
+     * @return {@code true} if the given predicate was returned by {@link #comparison(BiPredicate)} or is a negation of such a predicate,
+     *         or {@code false} otherwise.
+     */
+    static boolean isComparison(BiPredicate<?, ?> predicate) {
+        return predicate instanceof Comparison<?>;
+    }
+
     /**
      * Adds a {@link TemporalAmount} to an {@link Instant}.
      * <p>
@@ -167,4 +212,29 @@ public abstract class BaseValidator<A extends Annotation, T> implements Constrai
         zonedDateTime = zonedDateTime.minus(amount);
         return zonedDateTime.toInstant();
     }
+
+    /**
+     * A predicate that is marked as a comparison of the order of a value and a moment.
+     *
+     * @author Rob Spoor
+     * @param <T> The type to test.
+     */
+    private static final class Comparison<T> implements BiPredicate<T, T> {
+
+        private final BiPredicate<T, T> predicate;
+
+        private Comparison(BiPredicate<T, T> predicate) {
+            this.predicate = Objects.requireNonNull(predicate);
+        }
+
+        @Override
+        public boolean test(T value, T moment) {
+            return predicate.test(value, moment);
+        }
+
+        @Override
+        public BiPredicate<T, T> negate() {
+            return new Comparison<>(predicate.negate());
+        }
+    }
 }
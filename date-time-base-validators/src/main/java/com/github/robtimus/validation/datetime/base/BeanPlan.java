@@ -0,0 +1,365 @@
+/*
+ * BeanPlan.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.validation.datetime.base;
+
+import java.lang.annotation.Annotation;
+import java.lang.annotation.Repeatable;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.BiPredicate;
+import jakarta.validation.ClockProvider;
+import jakarta.validation.Constraint;
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.groups.Default;
+
+/**
+ * The compiled constraint annotations of a bean class: a {@link MethodHandle} per constrained field or getter, and the initialized validators
+ * of each constraint annotation. Plans are cached per bean class.
+ * <p>
+ * Plans are kept in a {@link ClassValue}, so they can be garbage collected together with their bean class. Its statistics are available through
+ * {@link CacheStats} as cache {@value #CACHE_NAME}; because a {@link ClassValue} cannot be iterated, its size is
+ * {@link CacheStats#UNKNOWN_SIZE unknown}.
+ * <p>
+ * See {@link CompiledValidator} for the constraint annotations that are part of a plan.
+ *
+ * @author Rob Spoor
+ */
+final class BeanPlan {
+
+    static final String CACHE_NAME = "BeanPlan"; //$NON-NLS-1$
+
+    private static final CacheStats.Counter COUNTER = CacheStats.register(CACHE_NAME);
+
+    private static final ClassValue<BeanPlan> PLANS = new ClassValue<BeanPlan>() {
+        @Override
+        protected BeanPlan computeValue(Class<?> type) {
+            COUNTER.recordComputation();
+            return compile(type);
+        }
+    };
+
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    private final Property[] properties;
+    private final List<String> propertyNames;
+
+    private BeanPlan(List<Property> properties) {
+        this.properties = properties.toArray(new Property[0]);
+
+        List<String> names = new ArrayList<>(properties.size());
+        for (Property property : properties) {
+            names.add(property.name);
+        }
+        this.propertyNames = Collections.unmodifiableList(names);
+    }
+
+    /**
+     * Returns the plan for a bean class. Plans are compiled only once per bean class.
+     *
+     * @param beanType The bean class.
+     * @return The plan for the given bean class.
+     * @throws IllegalArgumentException If a constraint annotation of the given bean class does not support the type of its field or getter.
+     * @throws IllegalStateException If a validator of a constraint annotation could not be instantiated,
+     *                                   or if a constrained field or getter could not be accessed.
+     */
+    static BeanPlan forType(Class<?> beanType) {
+        // every lookup is recorded as a hit; computeValue turns the hit of a lookup that compiles a plan into a miss
+        COUNTER.recordHit();
+        return PLANS.get(beanType);
+    }
+
+    // for testing purposes
+    static void removePlan(Class<?> beanType) {
+        PLANS.remove(beanType);
+    }
+
+    Property[] properties() {
+        return properties;
+    }
+
+    List<String> propertyNames() {
+        return propertyNames;
+    }
+
+    private static BeanPlan compile(Class<?> beanType) {
+        List<Property> properties = new ArrayList<>();
+        for (Class<?> type = beanType; type != null && type != Object.class; type = type.getSuperclass()) {
+            addFieldProperties(type, properties);
+            addGetterProperties(type, properties);
+        }
+        addInterfaceGetterProperties(beanType, properties, new HashSet<>());
+        return new BeanPlan(properties);
+    }
+
+    private static MethodHandles.Lookup lookup(Class<?> type) {
+        // private access is needed to read non-public fields, and is only granted per class
+        BeanPlan.class.getModule().addReads(type.getModule());
+        try {
+            return MethodHandles.privateLookupIn(type, MethodHandles.lookup());
+        } catch (@SuppressWarnings("unused") IllegalAccessException e) {
+            // the package of the class is not opened; only public fields and getters can be validated
+            return MethodHandles.publicLookup();
+        }
+    }
+
+    private static void addFieldProperties(Class<?> type, List<Property> properties) {
+        MethodHandles.Lookup lookup = null;
+        for (Field field : type.getDeclaredFields()) {
+            if (!Modifier.isStatic(field.getModifiers()) && !field.isSynthetic()) {
+                List<Annotation> constraints = constraints(field);
+                if (!constraints.isEmpty()) {
+                    lookup = lookup == null ? lookup(type) : lookup;
+                    MethodHandle getter = getter(lookup, field);
+                    properties.add(new Property(field.getName(), field.getType(), getter, constraints));
+                }
+            }
+        }
+    }
+
+    private static void addGetterProperties(Class<?> type, List<Property> properties) {
+        MethodHandles.Lookup lookup = null;
+        for (Method method : type.getDeclaredMethods()) {
+            String propertyName = propertyName(method);
+            if (propertyName != null) {
+                List<Annotation> constraints = constraints(method);
+                if (!constraints.isEmpty()) {
+                    lookup = lookup == null ? lookup(type) : lookup;
+                    MethodHandle getter = getter(lookup, method);
+                    properties.add(new Property(propertyName, method.getReturnType(), getter, constraints));
+                }
+            }
+        }
+    }
+
+    private static void addInterfaceGetterProperties(Class<?> type, List<Property> properties, Set<Class<?>> visited) {
+        for (Class<?> iface : type.getInterfaces()) {
+            if (visited.add(iface)) {
+                addGetterProperties(iface, properties);
+                addInterfaceGetterProperties(iface, properties, visited);
+            }
+        }
+        Class<?> superclass = type.getSuperclass();
+        if (superclass != null) {
+            addInterfaceGetterProperties(superclass, properties, visited);
+        }
+    }
+
+    @SuppressWarnings("nls")
+    private static String propertyName(Method method) {
+        if (Modifier.isStatic(method.getModifiers()) || method.isSynthetic() || method.isBridge() || method.getParameterCount() != 0
+                || method.getReturnType() == void.class) {
+            return null;
+        }
+        String name = method.getName();
+        if (name.startsWith("get") && name.length() > 3) {
+            return decapitalize(name.substring(3));
+        }
+        if (name.startsWith("is") && name.length() > 2 && method.getReturnType() == boolean.class) {
+            return decapitalize(name.substring(2));
+        }
+        return null;
+    }
+
+    private static String decapitalize(String name) {
+        // the same rules as java.beans.Introspector.decapitalize, without requiring module java.desktop
+        if (name.length() > 1 && Character.isUpperCase(name.charAt(0)) && Character.isUpperCase(name.charAt(1))) {
+            return name;
+        }
+        return Character.toLowerCase(name.charAt(0)) + name.substring(1);
+    }
+
+    private static List<Annotation> constraints(AnnotatedElement element) {
+        List<Annotation> constraints = new ArrayList<>();
+        for (Annotation annotation : element.getDeclaredAnnotations()) {
+            if (isConstraint(annotation.annotationType())) {
+                addIfApplicable(annotation, constraints);
+            } else {
+                for (Annotation repeated : repeatedConstraints(annotation)) {
+                    addIfApplicable(repeated, constraints);
+                }
+            }
+        }
+        return constraints;
+    }
+
+    private static boolean isConstraint(Class<? extends Annotation> annotationType) {
+        return annotationType.isAnnotationPresent(Constraint.class);
+    }
+
+    private static void addIfApplicable(Annotation constraint, List<Annotation> constraints) {
+        if (definesValidators(constraint.annotationType()) && isDefaultGroup(constraint)) {
+            constraints.add(constraint);
+        }
+    }
+
+    private static boolean definesValidators(Class<? extends Annotation> annotationType) {
+        if (annotationType.getAnnotation(Constraint.class).validatedBy().length > 0) {
+            return true;
+        }
+        for (Annotation composingConstraint : annotationType.getAnnotations()) {
+            if (isConstraint(composingConstraint.annotationType())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isDefaultGroup(Annotation constraint) {
+        Object groups = attribute(constraint, "groups"); //$NON-NLS-1$
+        if (!(groups instanceof Class<?>[])) {
+            return true;
+        }
+        Class<?>[] groupArray = (Class<?>[]) groups;
+        return groupArray.length == 0 || Arrays.asList(groupArray).contains(Default.class);
+    }
+
+    static Annotation[] repeatedConstraints(Annotation annotation) {
+        Object value = attribute(annotation, "value"); //$NON-NLS-1$
+        if (value instanceof Annotation[]) {
+            Annotation[] values = (Annotation[]) value;
+            Class<?> componentType = value.getClass().getComponentType();
+            Repeatable repeatable = componentType.getAnnotation(Repeatable.class);
+            if (repeatable != null && repeatable.value() == annotation.annotationType() && componentType.isAnnotationPresent(Constraint.class)) {
+                return values;
+            }
+        }
+        return new Annotation[0];
+    }
+
+    private static Object attribute(Annotation annotation, String name) {
+        try {
+            Method method = annotation.annotationType().getMethod(name);
+            return method.invoke(annotation);
+        } catch (@SuppressWarnings("unused") NoSuchMethodException e) {
+            return null;
+        } catch (InvocationTargetException e) {
+            throw new IllegalStateException(e.getCause());
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static MethodHandle getter(MethodHandles.Lookup lookup, Field field) {
+        try {
+            return lookup.unreflectGetter(field).asType(GETTER_TYPE);
+        } catch (IllegalAccessException e) {
+            throw inaccessible(field, e);
+        }
+    }
+
+    private static MethodHandle getter(MethodHandles.Lookup lookup, Method method) {
+        try {
+            return lookup.unreflect(method).asType(GETTER_TYPE);
+        } catch (IllegalAccessException e) {
+            throw inaccessible(method, e);
+        }
+    }
+
+    private static IllegalStateException inaccessible(Object member, IllegalAccessException cause) {
+        return new IllegalStateException(String.format("Cannot access %s", member), cause); //$NON-NLS-1$
+    }
+
+    /**
+     * A constrained field or getter.
+     *
+     * @author Rob Spoor
+     */
+    static final class Property {
+
+        private final String name;
+        private final Class<?> valueType;
+        private final MethodHandle getter;
+        private final Check[] checks;
+
+        private Property(String name, Class<?> type, MethodHandle getter, List<Annotation> constraints) {
+            this.name = name;
+            // primitive properties are validated using the validators for their wrapper types
+            this.valueType = MethodType.methodType(type).wrap().returnType();
+            this.getter = getter;
+            this.checks = constraints.stream()
+                    .map(constraint -> new Check(constraint, valueType))
+                    .toArray(Check[]::new);
+        }
+
+        String name() {
+            return name;
+        }
+
+        Class<?> valueType() {
+            return valueType;
+        }
+
+        Check[] checks() {
+            return checks;
+        }
+
+        Object read(Object bean) {
+            try {
+                return getter.invokeExact(bean);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    /**
+     * A single constraint annotation of a constrained field or getter.
+     *
+     * @author Rob Spoor
+     */
+    static final class Check {
+
+        private final Annotation constraint;
+        private final List<ConstraintValidator<?, Object>> validators;
+        private final BiPredicate<Object, ClockProvider> predicate;
+
+        @SuppressWarnings({ "unchecked", "rawtypes" })
+        private Check(Annotation constraint, Class<?> valueType) {
+            this.constraint = constraint;
+            // the getter only returns instances of the value type
+            this.validators = (List) ConstraintPredicates.validators(constraint, valueType);
+            this.predicate = ConstraintPredicates.forValidators(validators);
+        }
+
+        Annotation constraint() {
+            return constraint;
+        }
+
+        List<ConstraintValidator<?, Object>> validators() {
+            return validators;
+        }
+
+        boolean test(Object value, ClockProvider clockProvider) {
+            return predicate.test(value, clockProvider);
+        }
+    }
+}
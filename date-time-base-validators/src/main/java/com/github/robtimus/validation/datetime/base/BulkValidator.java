@@ -0,0 +1,260 @@
+/*
+ * BulkValidator.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.validation.datetime.base;
+
+import java.lang.annotation.Annotation;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.BiPredicate;
+import java.util.function.LongPredicate;
+import jakarta.validation.ClockProvider;
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+
+/**
+ * A validator for validating large numbers of date/time values against a single constraint annotation.
+ * <p>
+ * Instances are created from a constraint annotation instance, such as one obtained from a field or method using reflection. The validators of
+ * the constraint annotation are selected and initialized once, and then applied directly to each value, without the need for beans,
+ * a {@link jakarta.validation.Validator} or a {@link ConstraintValidatorContext} per value. Composed constraint annotations are supported;
+ * the validators of each of its composing constraints are then applied.
+ * <p>
+ * Each call to one of the {@code validate} methods retrieves the current time from the {@link ClockProvider} once; all values are validated
+ * against that same time. This means that for constraints with a moment of {@code now}, all values of a batch are validated consistently.
+ * <p>
+ * If the constraint annotation only validates values against a moment in time, for instance {@code After} or {@code MinBefore}, epoch values
+ * are validated by comparing them to the bounds of the {@link #epochRange(EpochUnit) range of valid epoch values}, without converting them to
+ * {@link Instant}s.
+ * <p>
+ * Instances of this class are thread-safe.
+ *
+ * @author Rob Spoor
+ */
+public final class BulkValidator {
+
+    private final Annotation constraint;
+    private final ClockProvider clockProvider;
+    private final List<ConstraintValidator<?, ? super Instant>> validators;
+    private final BiPredicate<Instant, ClockProvider> predicate;
+
+    private BulkValidator(Annotation constraint, ClockProvider clockProvider) {
+        this.constraint = constraint;
+        this.clockProvider = clockProvider;
+        this.validators = ConstraintPredicates.validators(constraint, Instant.class);
+        this.predicate = ConstraintPredicates.forValidators(validators);
+    }
+
+    /**
+     * Creates a new bulk validator that uses {@link Clock#systemDefaultZone()} to determine the current time.
+     *
+     * @param constraint The constraint annotation to validate values against.
+     * @return The created bulk validator.
+     * @throws NullPointerException If the given constraint annotation is {@code null}.
+     * @throws IllegalArgumentException If the given annotation is not a constraint annotation, or if it does not support {@link Instant}.
+     * @throws IllegalStateException If a validator of the constraint annotation could not be instantiated.
+     */
+    public static BulkValidator forConstraint(Annotation constraint) {
+        return forConstraint(constraint, Clock::systemDefaultZone);
+    }
+
+    /**
+     * Creates a new bulk validator.
+     *
+     * @param constraint The constraint annotation to validate values against.
+     * @param clockProvider The {@link ClockProvider} that defines the current time.
+     * @return The created bulk validator.
+     * @throws NullPointerException If the given constraint annotation or {@link ClockProvider} is {@code null}.
+     * @throws IllegalArgumentException If the given annotation is not a constraint annotation, or if it does not support {@link Instant}.
+     * @throws IllegalStateException If a validator of the constraint annotation could not be instantiated.
+     */
+    public static BulkValidator forConstraint(Annotation constraint, ClockProvider clockProvider) {
+        Objects.requireNonNull(constraint);
+        Objects.requireNonNull(clockProvider);
+        return new BulkValidator(constraint, clockProvider);
+    }
+
+    /**
+     * Returns the constraint annotation that values are validated against.
+     *
+     * @return The constraint annotation that values are validated against.
+     */
+    public Annotation constraint() {
+        return constraint;
+    }
+
+    /**
+     * Validates an array of {@link Instant}s.
+     *
+     * @param values The array of {@link Instant}s to validate. {@code null} elements are considered valid.
+     * @return A bit set with the indexes of all invalid values.
+     * @throws NullPointerException If the given array is {@code null}.
+     */
+    public BitSet validate(Instant[] values) {
+        return validate(values, 0, values.length);
+    }
+
+    /**
+     * Validates a portion of an array of {@link Instant}s.
+     *
+     * @param values The array of {@link Instant}s to validate. {@code null} elements are considered valid.
+     * @param offset The index of the first value to validate.
+     * @param length The number of values to validate.
+     * @return A bit set with the indexes of all invalid values. These are indexes in the given array, not relative to the given offset.
+     * @throws NullPointerException If the given array is {@code null}.
+     * @throws IndexOutOfBoundsException If the given offset or length is negative,
+     *                                       or if the given offset and length combined exceed the array's length.
+     */
+    public BitSet validate(Instant[] values, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, values.length);
+
+        ClockProvider batchClockProvider = ConstraintPredicates.fixedClockProvider(clockProvider);
+        BitSet invalid = new BitSet(offset + length);
+        for (int i = offset, end = offset + length; i < end; i++) {
+            if (!predicate.test(values[i], batchClockProvider)) {
+                invalid.set(i);
+            }
+        }
+        return invalid;
+    }
+
+    /**
+     * Validates an array of epoch values.
+     *
+     * @param epochValues The array of epoch values to validate. Values that exceed the minimum or maximum {@link Instant} are considered invalid.
+     * @param unit The unit of the epoch values.
+     * @return A bit set with the indexes of all invalid values.
+     * @throws NullPointerException If the given array or unit is {@code null}.
+     */
+    public BitSet validate(long[] epochValues, EpochUnit unit) {
+        return validate(epochValues, 0, epochValues.length, unit);
+    }
+
+    /**
+     * Validates a portion of an array of epoch values.
+     *
+     * @param epochValues The array of epoch values to validate. Values that exceed the minimum or maximum {@link Instant} are considered invalid.
+     * @param offset The index of the first value to validate.
+     * @param length The number of values to validate.
+     * @param unit The unit of the epoch values.
+     * @return A bit set with the indexes of all invalid values. These are indexes in the given array, not relative to the given offset.
+     * @throws NullPointerException If the given array or unit is {@code null}.
+     * @throws IndexOutOfBoundsException If the given offset or length is negative,
+     *                                       or if the given offset and length combined exceed the array's length.
+     */
+    public BitSet validate(long[] epochValues, int offset, int length, EpochUnit unit) {
+        Objects.checkFromIndexSize(offset, length, epochValues.length);
+        Objects.requireNonNull(unit);
+
+        ClockProvider batchClockProvider = ConstraintPredicates.fixedClockProvider(clockProvider);
+        EpochRange range = EpochRange.forValidators(validators, unit, batchClockProvider);
+        if (range != null) {
+            return toBitSet(range.outsideMask(epochValues, offset, length), offset);
+        }
+
+        BitSet invalid = new BitSet(offset + length);
+        for (int i = offset, end = offset + length; i < end; i++) {
+            long epochValue = epochValues[i];
+            if (!unit.isSupported(epochValue) || !predicate.test(unit.toInstant(epochValue), batchClockProvider)) {
+                invalid.set(i);
+            }
+        }
+        return invalid;
+    }
+
+    private static BitSet toBitSet(long[] mask, int offset) {
+        BitSet bitSet = BitSet.valueOf(mask);
+        if (offset == 0) {
+            return bitSet;
+        }
+        BitSet invalid = new BitSet();
+        for (int i = bitSet.nextSetBit(0); i >= 0; i = bitSet.nextSetBit(i + 1)) {
+            invalid.set(offset + i);
+        }
+        return invalid;
+    }
+
+    /**
+     * Returns the range of valid epoch values.
+     * This is only possible if the constraint annotation and all of its composing constraints validate values against a moment in time,
+     * for instance {@code After}, {@code NotBefore} or {@code MinAfter}, but not constraints that validate only a part of values.
+     * <p>
+     * If the constraint annotation uses the current time, the range is calculated using the current time at the moment this method is called.
+     * Epoch values that exceed the minimum or maximum {@link Instant} are never contained in the range.
+     *
+     * @param unit The unit of the epoch values.
+     * @return An {@link Optional} describing the range of valid epoch values,
+     *         or {@link Optional#empty()} if the valid epoch values cannot be expressed as a single range.
+     * @throws NullPointerException If the given unit is {@code null}.
+     */
+    public Optional<EpochRange> epochRange(EpochUnit unit) {
+        Objects.requireNonNull(unit);
+        return Optional.ofNullable(EpochRange.forValidators(validators, unit, ConstraintPredicates.fixedClockProvider(clockProvider)));
+    }
+
+    /**
+     * Returns a predicate for epoch values.
+     * This allows epoch values to be validated one at a time, for instance while reading them from a file, without the need to first copy them
+     * into an array.
+     * <p>
+     * All values tested by the returned predicate are validated against the current time at the moment this method is called.
+     * If the valid epoch values can be expressed as a {@link #epochRange(EpochUnit) range}, the predicate only compares values to the bounds of
+     * that range. Epoch values that exceed the minimum or maximum {@link Instant} are considered invalid.
+     * <p>
+     * The returned predicate is thread-safe.
+     *
+     * @param unit The unit of the epoch values.
+     * @return A predicate that returns {@code true} for valid epoch values, or {@code false} for invalid epoch values.
+     * @throws NullPointerException If the given unit is {@code null}.
+     */
+    public LongPredicate epochValuePredicate(EpochUnit unit) {
+        Objects.requireNonNull(unit);
+
+        ClockProvider batchClockProvider = ConstraintPredicates.fixedClockProvider(clockProvider);
+        EpochRange range = EpochRange.forValidators(validators, unit, batchClockProvider);
+        if (range != null) {
+            return range::contains;
+        }
+        return epochValuePredicate(unit, batchClockProvider);
+    }
+
+    /**
+     * Returns a predicate for epoch values that converts each epoch value to an {@link Instant}, and validates it using a specific
+     * {@link ClockProvider}. Unlike {@link #epochValuePredicate(EpochUnit)}, the current time is not fixed when the predicate is created.
+     *
+     * @param unit The unit of the epoch values.
+     * @param valueClockProvider The {@link ClockProvider} to validate each converted epoch value with.
+     * @return A predicate that returns {@code true} for valid epoch values, or {@code false} for invalid epoch values.
+     */
+    LongPredicate epochValuePredicate(EpochUnit unit, ClockProvider valueClockProvider) {
+        return epochValue -> unit.isSupported(epochValue) && predicate.test(unit.toInstant(epochValue), valueClockProvider);
+    }
+
+    List<ConstraintValidator<?, ? super Instant>> validators() {
+        return validators;
+    }
+
+    @Override
+    @SuppressWarnings("nls")
+    public String toString() {
+        return "BulkValidator[constraint=" + constraint + "]";
+    }
+}
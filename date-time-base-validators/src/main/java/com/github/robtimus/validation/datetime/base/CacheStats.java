@@ -0,0 +1,381 @@
+/*
+ * CacheStats.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.validation.datetime.base;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.InstanceNotFoundException;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.MalformedObjectNameException;
+import javax.management.ObjectName;
+import javax.management.StandardMBean;
+
+/**
+ * A snapshot of the statistics of one of the internal caches of the date/time validators.
+ * <p>
+ * All caches keep track of their statistics, which can be retrieved using {@link #forCache(String)} or {@link #all()}. The counters are updated
+ * without any synchronization between them, so a snapshot is not necessarily consistent; for instance, a lookup may be included in the
+ * {@link #hitCount()} but the corresponding eviction not yet in the {@link #evictionCount()}.
+ * <p>
+ * The statistics can also be made available through JMX using {@link #registerMBeans()}. Each cache is then registered as a
+ * {@link CacheStatsMXBean} with object name {@code com.github.robtimus.validation.datetime:type=CacheStats,name=<cache name>}.
+ *
+ * @author Rob Spoor
+ */
+public final class CacheStats {
+
+    /** The JMX domain of the MBeans that are registered by {@link #registerMBeans()}. */
+    public static final String JMX_DOMAIN = "com.github.robtimus.validation.datetime"; //$NON-NLS-1$
+
+    /** The {@link #size()} of caches that cannot determine their size. */
+    public static final long UNKNOWN_SIZE = -1;
+
+    private static final ConcurrentMap<String, Counter> COUNTERS = new ConcurrentHashMap<>();
+
+    private static volatile MBeanServer mbeanServer;
+
+    private final String name;
+    private final long hitCount;
+    private final long missCount;
+    private final long evictionCount;
+    private final long size;
+
+    private CacheStats(String name, long hitCount, long missCount, long evictionCount, long size) {
+        this.name = name;
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.evictionCount = evictionCount;
+        this.size = size;
+    }
+
+    /**
+     * Returns the name of the cache.
+     *
+     * @return The name of the cache.
+     */
+    public String name() {
+        return name;
+    }
+
+    /**
+     * Returns the number of lookups that returned a cached value.
+     *
+     * @return The number of lookups that returned a cached value.
+     */
+    public long hitCount() {
+        return hitCount;
+    }
+
+    /**
+     * Returns the number of lookups that did not return a cached value.
+     *
+     * @return The number of lookups that did not return a cached value.
+     */
+    public long missCount() {
+        return missCount;
+    }
+
+    /**
+     * Returns the total number of lookups.
+     *
+     * @return The sum of {@link #hitCount()} and {@link #missCount()}.
+     */
+    public long requestCount() {
+        return hitCount + missCount;
+    }
+
+    /**
+     * Returns the ratio of lookups that returned a cached value.
+     *
+     * @return The ratio of lookups that returned a cached value, or {@code 1.0} if there have been no lookups.
+     */
+    public double hitRate() {
+        long requestCount = requestCount();
+        return requestCount == 0 ? 1.0 : (double) hitCount / requestCount;
+    }
+
+    /**
+     * Returns the number of values that were removed from the cache to make room for other values.
+     *
+     * @return The number of values that were removed from the cache to make room for other values.
+     */
+    public long evictionCount() {
+        return evictionCount;
+    }
+
+    /**
+     * Returns the number of values in the cache.
+     *
+     * @return The number of values in the cache at the moment this snapshot was taken, or {@link #UNKNOWN_SIZE} if the cache cannot determine
+     *         its size.
+     */
+    public long size() {
+        return size;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        CacheStats other = (CacheStats) o;
+        return name.equals(other.name)
+                && hitCount == other.hitCount
+                && missCount == other.missCount
+                && evictionCount == other.evictionCount
+                && size == other.size;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(name, hitCount, missCount, evictionCount, size);
+    }
+
+    @Override
+    @SuppressWarnings("nls")
+    public String toString() {
+        return "CacheStats[name=" + name
+                + ",hitCount=" + hitCount
+                + ",missCount=" + missCount
+                + ",evictionCount=" + evictionCount
+                + ",size=" + size
+                + "]";
+    }
+
+    /**
+     * Returns the statistics of a specific cache.
+     *
+     * @param name The name of the cache.
+     * @return An {@link Optional} with the current statistics of the cache with the given name,
+     *         or {@link Optional#empty()} if there is no such cache.
+     * @throws NullPointerException If the given name is {@code null}.
+     */
+    public static Optional<CacheStats> forCache(String name) {
+        Objects.requireNonNull(name);
+        return Optional.ofNullable(COUNTERS.get(name)).map(Counter::snapshot);
+    }
+
+    /**
+     * Returns the statistics of all caches.
+     *
+     * @return A list with the current statistics of all caches, sorted by name.
+     */
+    public static List<CacheStats> all() {
+        List<CacheStats> result = new ArrayList<>(COUNTERS.size());
+        for (Counter counter : COUNTERS.values()) {
+            result.add(counter.snapshot());
+        }
+        result.sort(Comparator.comparing(CacheStats::name));
+        return Collections.unmodifiableList(result);
+    }
+
+    /**
+     * Registers a {@link CacheStatsMXBean} for each cache with the platform MBean server.
+     * Caches that are created after this method has been called are registered when they are created.
+     * Calling this method more than once has no additional effect.
+     *
+     * @throws IllegalStateException If the MBeans could not be registered.
+     */
+    public static synchronized void registerMBeans() {
+        if (mbeanServer == null) {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            for (Counter counter : COUNTERS.values()) {
+                register(counter, server);
+            }
+            mbeanServer = server;
+        }
+    }
+
+    /**
+     * Unregisters all MBeans that were registered by {@link #registerMBeans()}.
+     * Calling this method if {@link #registerMBeans()} has not been called has no effect.
+     *
+     * @throws IllegalStateException If the MBeans could not be unregistered.
+     */
+    public static synchronized void unregisterMBeans() {
+        MBeanServer server = mbeanServer;
+        if (server != null) {
+            mbeanServer = null;
+            for (Counter counter : COUNTERS.values()) {
+                unregister(counter, server);
+            }
+        }
+    }
+
+    static ObjectName objectName(String name) {
+        try {
+            return new ObjectName(JMX_DOMAIN + ":type=CacheStats,name=" + ObjectName.quote(name)); //$NON-NLS-1$
+        } catch (MalformedObjectNameException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+
+    /**
+     * Creates the counter for a new cache that cannot determine its size.
+     *
+     * @param name The name of the cache.
+     * @return The counter for the cache.
+     * @throws IllegalStateException If there is already a cache with the given name.
+     */
+    static Counter register(String name) {
+        return register(name, () -> UNKNOWN_SIZE);
+    }
+
+    /**
+     * Creates the counter for a new cache.
+     *
+     * @param name The name of the cache.
+     * @param sizeSupplier A supplier for the current size of the cache.
+     * @return The counter for the cache.
+     * @throws IllegalStateException If there is already a cache with the given name.
+     */
+    static Counter register(String name, LongSupplier sizeSupplier) {
+        Counter counter = new Counter(name, sizeSupplier);
+        synchronized (CacheStats.class) {
+            if (COUNTERS.putIfAbsent(name, counter) != null) {
+                throw new IllegalStateException(String.format("Duplicate cache name: %s", name)); //$NON-NLS-1$
+            }
+            MBeanServer server = mbeanServer;
+            if (server != null) {
+                register(counter, server);
+            }
+        }
+        return counter;
+    }
+
+    private static void register(Counter counter, MBeanServer server) {
+        try {
+            server.registerMBean(new StandardMBean(counter, CacheStatsMXBean.class, true), objectName(counter.name));
+        } catch (@SuppressWarnings("unused") InstanceAlreadyExistsException e) {
+            // registered by a different class loader; ignore
+        } catch (JMException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void unregister(Counter counter, MBeanServer server) {
+        try {
+            server.unregisterMBean(objectName(counter.name));
+        } catch (@SuppressWarnings("unused") InstanceNotFoundException e) {
+            // not registered or already unregistered; ignore
+        } catch (JMException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * The mutable statistics of a single cache. Caches should call the {@code record} methods from their lookup methods.
+     * These use {@link LongAdder}s, so concurrent lookups do not contend on the counters.
+     *
+     * @author Rob Spoor
+     */
+    static final class Counter implements CacheStatsMXBean {
+
+        private final String name;
+        private final LongSupplier sizeSupplier;
+
+        private final LongAdder hits = new LongAdder();
+        private final LongAdder misses = new LongAdder();
+        private final LongAdder evictions = new LongAdder();
+
+        private Counter(String name, LongSupplier sizeSupplier) {
+            this.name = Objects.requireNonNull(name);
+            this.sizeSupplier = Objects.requireNonNull(sizeSupplier);
+        }
+
+        void recordHit() {
+            hits.increment();
+        }
+
+        void recordMiss() {
+            misses.increment();
+        }
+
+        /**
+         * Records that a lookup that was already recorded as a hit had to compute its value. This is meant for caches that cannot tell whether
+         * or not a lookup will return a cached value, like {@link ClassValue}, but that are notified when a value is computed.
+         */
+        void recordComputation() {
+            misses.increment();
+            hits.decrement();
+        }
+
+        void recordEviction() {
+            evictions.increment();
+        }
+
+        void recordEvictions(long count) {
+            evictions.add(count);
+        }
+
+        CacheStats snapshot() {
+            return new CacheStats(name, hits.sum(), misses.sum(), evictions.sum(), sizeSupplier.getAsLong());
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public long getHitCount() {
+            return hits.sum();
+        }
+
+        @Override
+        public long getMissCount() {
+            return misses.sum();
+        }
+
+        @Override
+        public long getRequestCount() {
+            return getHitCount() + getMissCount();
+        }
+
+        @Override
+        public double getHitRate() {
+            long hitCount = getHitCount();
+            long requestCount = hitCount + getMissCount();
+            return requestCount == 0 ? 1.0 : (double) hitCount / requestCount;
+        }
+
+        @Override
+        public long getEvictionCount() {
+            return evictions.sum();
+        }
+
+        @Override
+        public long getSize() {
+            return sizeSupplier.getAsLong();
+        }
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * CacheStatsMXBean.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.validation.datetime.base;
+
+/**
+ * The JMX view of the statistics of one of the internal caches of the date/time validators.
+ * Unlike {@link CacheStats}, each attribute returns the current value.
+ *
+ * @author Rob Spoor
+ * @see CacheStats#registerMBeans()
+ */
+public interface CacheStatsMXBean {
+
+    /**
+     * Returns the name of the cache.
+     *
+     * @return The name of the cache.
+     * @see CacheStats#name()
+     */
+    String getName();
+
+    /**
+     * Returns the number of lookups that returned a cached value.
+     *
+     * @return The number of lookups that returned a cached value.
+     * @see CacheStats#hitCount()
+     */
+    long getHitCount();
+
+    /**
+     * Returns the number of lookups that did not return a cached value.
+     *
+     * @return The number of lookups that did not return a cached value.
+     * @see CacheStats#missCount()
+     */
+    long getMissCount();
+
+    /**
+     * Returns the total number of lookups.
+     *
+     * @return The total number of lookups.
+     * @see CacheStats#requestCount()
+     */
+    long getRequestCount();
+
+    /**
+     * Returns the ratio of lookups that returned a cached value.
+     *
+     * @return The ratio of lookups that returned a cached value, or {@code 1.0} if there have been no lookups.
+     * @see CacheStats#hitRate()
+     */
+    double getHitRate();
+
+    /**
+     * Returns the number of values that were removed from the cache to make room for other values.
+     *
+     * @return The number of values that were removed from the cache to make room for other values.
+     * @see CacheStats#evictionCount()
+     */
+    long getEvictionCount();
+
+    /**
+     * Returns the number of values in the cache.
+     *
+     * @return The number of values in the cache, or {@link CacheStats#UNKNOWN_SIZE} if the cache cannot determine its size.
+     * @see CacheStats#size()
+     */
+    long getSize();
+}
@@ -24,6 +24,7 @@ import java.util.Calendar;
 import java.util.Objects;
 import jakarta.validation.ConstraintValidator;
 import jakarta.validation.ConstraintValidatorContext;
+import com.github.robtimus.validation.datetime.base.PhaseTimings.Phase;
 
 /**
  * The base for all {@link Calendar} validators. These delegate to {@link ZonedDateTime} validators.
@@ -35,6 +36,8 @@ public abstract class CalendarValidator<A extends Annotation> implements Constra
 
     private final ConstraintValidator<A, ? super ZonedDateTime> validator;
 
+    private PhaseTimings.Recorder recorder;
+
     /**
      * Creates a new validator.
      *
@@ -46,7 +49,10 @@ public abstract class CalendarValidator<A extends Annotation> implements Constra
 
     @Override
     public void initialize(A constraintAnnotation) {
-        validator.initialize(constraintAnnotation);
+        PhaseTimings.initialize(constraintAnnotation, getClass(), r -> {
+            recorder = r;
+            validator.initialize(constraintAnnotation);
+        });
     }
 
     @Override
@@ -55,7 +61,14 @@ public abstract class CalendarValidator<A extends Annotation> implements Constra
             return true;
         }
 
-        return validator.isValid(toZonedDateTime(value), context);
+        if (recorder == null) {
+            return validator.isValid(toZonedDateTime(value), context);
+        }
+
+        long start = System.nanoTime();
+        ZonedDateTime zonedDateTime = toZonedDateTime(value);
+        recorder.record(Phase.CONVERSION, start);
+        return validator.isValid(zonedDateTime, context);
     }
 
     private ZonedDateTime toZonedDateTime(Calendar calendar) {
@@ -0,0 +1,429 @@
+/*
+ * CharSequenceValidator.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.validation.datetime.base;
+
+import static com.github.robtimus.validation.datetime.base.ISOScanner.LOCAL_DATE;
+import static com.github.robtimus.validation.datetime.base.ISOScanner.LOCAL_DATE_TIME;
+import static com.github.robtimus.validation.datetime.base.ISOScanner.LOCAL_TIME;
+import static com.github.robtimus.validation.datetime.base.ISOScanner.MALFORMED;
+import static com.github.robtimus.validation.datetime.base.ISOScanner.NANOS_PER_SECOND;
+import static com.github.robtimus.validation.datetime.base.ISOScanner.OFFSET_DATE_TIME;
+import static com.github.robtimus.validation.datetime.base.ISOScanner.SECONDS_PER_DAY;
+import static com.github.robtimus.validation.datetime.base.LocalFields.dayOfWeek;
+import java.lang.annotation.Annotation;
+import java.time.Clock;
+import java.time.DateTimeException;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.Year;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoField;
+import java.time.temporal.TemporalField;
+import java.util.Objects;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+import java.util.function.LongPredicate;
+import jakarta.validation.ClockProvider;
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+import com.github.robtimus.validation.datetime.base.FieldValidator.FieldPredicate;
+import com.github.robtimus.validation.datetime.base.MomentValueValidator.MomentPredicate;
+import com.github.robtimus.validation.datetime.base.PartValidator.PartPredicate;
+import com.github.robtimus.validation.datetime.base.PhaseTimings.Phase;
+
+/**
+ * The base for all {@link CharSequence} validators. These validate ISO 8601 text, and delegate to {@link OffsetDateTime},
+ * {@link LocalDateTime}, {@link LocalDate} or {@link LocalTime} validators depending on the form of the text:
+ * <ul>
+ * <li>{@code yyyy-MM-dd} is validated as a {@link LocalDate}.</li>
+ * <li>{@code yyyy-MM-dd'T'HH:mm}, optionally followed by seconds and a fraction of 1 to 9 digits, is validated as a {@link LocalDateTime}.</li>
+ * <li>A date-time followed by {@code Z} or an offset like {@code +01:00} or {@code +01:00:00} is validated as an {@link OffsetDateTime}.</li>
+ * <li>{@code HH:mm}, optionally followed by seconds and a fraction of 1 to 9 digits, is validated as a {@link LocalTime}.</li>
+ * </ul>
+ * Years must have exactly 4 digits. Text that is not in any of these forms is malformed. Text in a form for which there is no delegate
+ * validator, or for which the delegate validator does not support the constraint annotation (for instance, because its moment is not of the
+ * same type, or because it specifies a zone id that cannot be applied to local date-times), is treated like malformed text. Malformed text is
+ * invalid, unless the constraint annotation has {@link IgnoreMalformedText} as payload; in that case malformed text is valid.
+ * <p>
+ * Text is not parsed into a {@code java.time} object if the delegate validator validates values against a moment in time, like
+ * {@code After} or {@code DateMinBefore}, or only validates a {@link LocalDate}, {@link LocalTime}, {@link YearMonth}, {@link Year} or
+ * {@link DayOfWeek} part or a single time field. Instead the fields are extracted from the text into primitives and compared directly. Only
+ * text that is invalid is parsed, so that the delegate validator can report the constraint violation. Other constraints, and constraints for which {@link PhaseTimings} are recorded, parse
+ * all text that is not malformed.
+ *
+ * @author Rob Spoor
+ * @param <A> The constraint annotation type.
+ */
+public abstract class CharSequenceValidator<A extends Annotation> implements ConstraintValidator<A, CharSequence> {
+
+    private static final ClockProvider SYSTEM_CLOCK_PROVIDER = Clock::systemUTC;
+
+    private final Form<A, ?>[] forms;
+    private final LongPredicate nanoOfDayPredicate;
+
+    private boolean ignoreMalformed;
+    private PhaseTimings.Recorder recorder;
+
+    /**
+     * Creates a new validator that delegates to other validators. Text in a form for which no validator is given is treated like malformed text.
+     *
+     * @param offsetDateTimeValidator The validator for text in {@link OffsetDateTime} form; may be {@code null}.
+     * @param localDateTimeValidator The validator for text in {@link LocalDateTime} form; may be {@code null}.
+     * @param localDateValidator The validator for text in {@link LocalDate} form; may be {@code null}.
+     * @param localTimeValidator The validator for text in {@link LocalTime} form; may be {@code null}.
+     */
+    @SuppressWarnings("unchecked")
+    protected CharSequenceValidator(ConstraintValidator<A, ? super OffsetDateTime> offsetDateTimeValidator,
+            ConstraintValidator<A, ? super LocalDateTime> localDateTimeValidator,
+            ConstraintValidator<A, ? super LocalDate> localDateValidator,
+            ConstraintValidator<A, ? super LocalTime> localTimeValidator) {
+
+        forms = (Form<A, ?>[]) new Form<?, ?>[ISOScanner.FORM_COUNT];
+        forms[LOCAL_DATE] = Form.of(LOCAL_DATE, localDateValidator, LocalDate.class, LocalDate::parse);
+        forms[LOCAL_DATE_TIME] = Form.of(LOCAL_DATE_TIME, localDateTimeValidator, LocalDateTime.class, LocalDateTime::parse);
+        forms[OFFSET_DATE_TIME] = Form.of(OFFSET_DATE_TIME, offsetDateTimeValidator, OffsetDateTime.class, OffsetDateTime::parse);
+        forms[LOCAL_TIME] = Form.of(LOCAL_TIME, localTimeValidator, LocalTime.class, LocalTime::parse);
+        nanoOfDayPredicate = null;
+    }
+
+    /**
+     * Creates a new validator that only validates the time of day. Text in {@link LocalDate} form is treated like malformed text; for text in
+     * other forms the time of day is validated as written, without applying any zone.
+     *
+     * @param nanoOfDayPredicate A predicate that determines whether or not a nano of day is valid.
+     * @throws NullPointerException If the given predicate is {@code null}.
+     */
+    @SuppressWarnings("unchecked")
+    protected CharSequenceValidator(LongPredicate nanoOfDayPredicate) {
+        forms = (Form<A, ?>[]) new Form<?, ?>[0];
+        this.nanoOfDayPredicate = Objects.requireNonNull(nanoOfDayPredicate);
+    }
+
+    @Override
+    public void initialize(A constraintAnnotation) {
+        ignoreMalformed = ConstraintPredicates.hasPayload(constraintAnnotation, IgnoreMalformedText.class);
+        PhaseTimings.initialize(constraintAnnotation, getClass(), r -> {
+            recorder = r;
+            initializeForms(constraintAnnotation);
+        });
+    }
+
+    private void initializeForms(A constraintAnnotation) {
+        RuntimeException exception = null;
+        boolean initialized = false;
+        for (Form<A, ?> form : forms) {
+            if (form != null) {
+                try {
+                    form.initialize(constraintAnnotation, recorder == null);
+                    initialized = true;
+                } catch (IllegalArgumentException | IllegalStateException | DateTimeException e) {
+                    // the form is not supported by the constraint annotation
+                    exception = exception == null ? e : exception;
+                }
+            }
+        }
+        if (!initialized && exception != null) {
+            // the constraint annotation is not supported by any form
+            throw exception;
+        }
+    }
+
+    @Override
+    public boolean isValid(CharSequence value, ConstraintValidatorContext context) {
+        if (value == null) {
+            return true;
+        }
+
+        if (recorder != null) {
+            return isValidTimed(value, context);
+        }
+
+        int form = ISOScanner.form(value);
+        if (nanoOfDayPredicate != null) {
+            return form == MALFORMED || form == LOCAL_DATE
+                    ? ignoreMalformed
+                    : nanoOfDayPredicate.test(ISOScanner.nanoOfDay(value, form));
+        }
+        Form<A, ?> validatedForm = form == MALFORMED ? null : forms[form];
+        if (validatedForm == null || !validatedForm.isSupported()) {
+            return ignoreMalformed;
+        }
+        return validatedForm.isValid(value, context);
+    }
+
+    private boolean isValidTimed(CharSequence value, ConstraintValidatorContext context) {
+        long start = System.nanoTime();
+        int form = ISOScanner.form(value);
+        if (nanoOfDayPredicate != null) {
+            if (form == MALFORMED || form == LOCAL_DATE) {
+                recorder.record(Phase.CONVERSION, start);
+                return ignoreMalformed;
+            }
+            long nanoOfDay = ISOScanner.nanoOfDay(value, form);
+            start = recorder.record(Phase.CONVERSION, start);
+            boolean result = nanoOfDayPredicate.test(nanoOfDay);
+            recorder.record(Phase.COMPARISON, start);
+            return result;
+        }
+        Form<A, ?> validatedForm = form == MALFORMED ? null : forms[form];
+        if (validatedForm == null || !validatedForm.isSupported()) {
+            recorder.record(Phase.CONVERSION, start);
+            return ignoreMalformed;
+        }
+        return validatedForm.isValidTimed(value, context, recorder, start);
+    }
+
+    /**
+     * The validation of text in a single form.
+     *
+     * @author Rob Spoor
+     * @param <A> The constraint annotation type.
+     * @param <T> The type that text in the form is parsed into.
+     */
+    private static final class Form<A extends Annotation, T> {
+
+        private final int form;
+        private final ConstraintValidator<A, ? super T> validator;
+        private final Class<T> type;
+        private final Function<CharSequence, T> parser;
+
+        private boolean supported;
+        private FastCheck fastCheck;
+
+        private Form(int form, ConstraintValidator<A, ? super T> validator, Class<T> type, Function<CharSequence, T> parser) {
+            this.form = form;
+            this.validator = validator;
+            this.type = type;
+            this.parser = parser;
+        }
+
+        private static <A extends Annotation, T> Form<A, T> of(int form, ConstraintValidator<A, ? super T> validator, Class<T> type,
+                Function<CharSequence, T> parser) {
+
+            return validator == null ? null : new Form<>(form, validator, type, parser);
+        }
+
+        private void initialize(A constraintAnnotation, boolean useFastCheck) {
+            validator.initialize(constraintAnnotation);
+            supported = true;
+            fastCheck = useFastCheck ? fastCheck() : null;
+        }
+
+        private boolean isSupported() {
+            return supported;
+        }
+
+        private boolean isValid(CharSequence value, ConstraintValidatorContext context) {
+            // only parse the value if the fast check fails, so the delegate validator can report the constraint violation
+            return fastCheck != null && fastCheck.test(value, form, context.getClockProvider())
+                    || validator.isValid(parser.apply(value), context);
+        }
+
+        private boolean isValidTimed(CharSequence value, ConstraintValidatorContext context, PhaseTimings.Recorder recorder, long start) {
+            T parsed = parser.apply(value);
+            recorder.record(Phase.CONVERSION, start);
+            return validator.isValid(parsed, context);
+        }
+
+        private FastCheck fastCheck() {
+            BiPredicate<?, ClockProvider> predicate = validator instanceof BaseValidator<?, ?> ? ((BaseValidator<?, ?>) validator).predicate() : null;
+            if (predicate instanceof MomentPredicate<?>) {
+                return comparisonCheck((MomentPredicate<?>) predicate);
+            }
+            if (predicate instanceof PartPredicate<?, ?>) {
+                return partCheck((PartPredicate<?, ?>) predicate);
+            }
+            if (predicate instanceof FieldPredicate<?>) {
+                return fieldCheck((FieldPredicate<?>) predicate);
+            }
+            return null;
+        }
+
+        private FastCheck comparisonCheck(MomentPredicate<?> predicate) {
+            PrimitiveComparison comparison = PrimitiveComparison.of(predicate, type);
+            if (comparison == null || form == OFFSET_DATE_TIME && !comparesInstants(predicate, comparison)) {
+                return null;
+            }
+            return new ComparisonCheck(comparison, null);
+        }
+
+        private FastCheck partCheck(PartPredicate<?, ?> predicate) {
+            // the part type is declared by the validator, as the type of its moment is only known for moment predicates
+            Class<?> partType = PartValidator.partType(validator.getClass());
+            ZoneOffsets zone = zone(predicate.zoneId());
+            BiPredicate<?, ClockProvider> predicateOfPart = predicate.partPredicate();
+            if (partType == DayOfWeek.class) {
+                @SuppressWarnings("unchecked")
+                BiPredicate<DayOfWeek, ClockProvider> dayOfWeekPredicate = (BiPredicate<DayOfWeek, ClockProvider>) predicateOfPart;
+                return new DayOfWeekCheck(zone, dayOfWeekPredicate);
+            }
+            PrimitiveComparison comparison = predicateOfPart instanceof MomentPredicate<?>
+                    ? PrimitiveComparison.of((MomentPredicate<?>) predicateOfPart, partType)
+                    : null;
+            return comparison != null && comparison.isLocal() ? new ComparisonCheck(comparison, zone) : null;
+        }
+
+        private FastCheck fieldCheck(FieldPredicate<?> predicate) {
+            TemporalField field = predicate.field();
+            return field instanceof ChronoField && LocalFields.isSupported((ChronoField) field)
+                    ? new FieldCheck((ChronoField) field, zone(predicate.zoneId()), predicate)
+                    : null;
+        }
+
+        private ZoneOffsets zone(ZoneId zoneId) {
+            // zones can only be applied to offset date-times; validators of local values ignore them
+            return form == OFFSET_DATE_TIME && zoneId != null ? ZoneOffsets.of(zoneId) : null;
+        }
+
+        // offset date-times are compared as instants only if the same instant with a different offset is considered equal
+        @SuppressWarnings("unchecked")
+        private static boolean comparesInstants(MomentPredicate<?> predicate, PrimitiveComparison comparison) {
+            MomentPredicate<OffsetDateTime> offsetDateTimePredicate = (MomentPredicate<OffsetDateTime>) predicate;
+            OffsetDateTime moment = offsetDateTimePredicate.moment(SYSTEM_CLOCK_PROVIDER);
+            int offsetSeconds = moment.getOffset().getTotalSeconds();
+            int maxOffsetSeconds = ZoneOffset.MAX.getTotalSeconds();
+            for (int hours : new int[] { -1, 1 }) {
+                int otherOffsetSeconds = Math.max(-maxOffsetSeconds, Math.min(maxOffsetSeconds, offsetSeconds + hours * 3600));
+                ZoneOffset offset = ZoneOffset.ofTotalSeconds(otherOffsetSeconds);
+                if (offsetDateTimePredicate.isValid(moment.withOffsetSameInstant(offset), moment) != comparison.validEqual()) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    // Primitive field extraction
+
+    private static long nanoOfDay(CharSequence text, int form) {
+        return form == LOCAL_DATE ? 0 : ISOScanner.nanoOfDay(text, form);
+    }
+
+    /**
+     * Returns the local second of a text value, relative to the epoch. For offset date-times with a zone, the zone is applied first.
+     * For local times this is the second of day.
+     */
+    private static long localSecond(CharSequence text, int form, long nanoOfDay, ZoneOffsets zone) {
+        long epochDay = form == LOCAL_TIME ? 0 : ISOScanner.epochDay(text);
+        long localSecond = epochDay * SECONDS_PER_DAY + nanoOfDay / NANOS_PER_SECOND;
+        if (form == OFFSET_DATE_TIME && zone != null) {
+            long epochSecond = localSecond - ISOScanner.offsetSeconds(text);
+            localSecond = epochSecond + zone.offsetSeconds(epochSecond);
+        }
+        return localSecond;
+    }
+
+    private static int nano(long nanoOfDay) {
+        return (int) (nanoOfDay % NANOS_PER_SECOND);
+    }
+
+    /**
+     * A check that validates text using only primitive fields.
+     *
+     * @author Rob Spoor
+     */
+    private abstract static class FastCheck {
+
+        /**
+         * Returns whether or not text is valid.
+         *
+         * @param text The text to validate.
+         * @param form The form of the text.
+         * @param clockProvider The {@link ClockProvider} to use to determine the current time.
+         * @return {@code true} if the text is valid, or {@code false} if it is invalid or could not be validated using primitive fields only.
+         */
+        abstract boolean test(CharSequence text, int form, ClockProvider clockProvider);
+    }
+
+    /**
+     * A check for values or parts that are validated against a moment in time.
+     *
+     * @author Rob Spoor
+     */
+    private static final class ComparisonCheck extends FastCheck {
+
+        private final PrimitiveComparison comparison;
+        private final ZoneOffsets zone;
+
+        private ComparisonCheck(PrimitiveComparison comparison, ZoneOffsets zone) {
+            this.comparison = comparison;
+            this.zone = zone;
+        }
+
+        @Override
+        boolean test(CharSequence text, int form, ClockProvider clockProvider) {
+            long nanoOfDay = nanoOfDay(text, form);
+            // only offset date-times are compared by their epoch second
+            long second = comparison.isLocal()
+                    ? localSecond(text, form, nanoOfDay, zone)
+                    : localSecond(text, form, nanoOfDay, null) - ISOScanner.offsetSeconds(text);
+            return comparison.isValid(second, nano(nanoOfDay), clockProvider);
+        }
+    }
+
+    /**
+     * A check for {@link DayOfWeek} parts.
+     *
+     * @author Rob Spoor
+     */
+    private static final class DayOfWeekCheck extends FastCheck {
+
+        private final ZoneOffsets zone;
+        private final BiPredicate<DayOfWeek, ClockProvider> predicate;
+
+        private DayOfWeekCheck(ZoneOffsets zone, BiPredicate<DayOfWeek, ClockProvider> predicate) {
+            this.zone = zone;
+            this.predicate = predicate;
+        }
+
+        @Override
+        boolean test(CharSequence text, int form, ClockProvider clockProvider) {
+            return predicate.test(dayOfWeek(localSecond(text, form, nanoOfDay(text, form), zone)), clockProvider);
+        }
+    }
+
+    /**
+     * A check for single fields.
+     *
+     * @author Rob Spoor
+     */
+    private static final class FieldCheck extends FastCheck {
+
+        private final ChronoField field;
+        private final ZoneOffsets zone;
+        private final FieldPredicate<?> predicate;
+
+        private FieldCheck(ChronoField field, ZoneOffsets zone, FieldPredicate<?> predicate) {
+            this.field = field;
+            this.zone = zone;
+            this.predicate = predicate;
+        }
+
+        @Override
+        boolean test(CharSequence text, int form, ClockProvider clockProvider) {
+            long nanoOfDay = nanoOfDay(text, form);
+            int fieldValue = LocalFields.fieldValue(field, localSecond(text, form, nanoOfDay, zone), nano(nanoOfDay));
+            return predicate.isValidFieldValue(fieldValue, clockProvider);
+        }
+    }
+}
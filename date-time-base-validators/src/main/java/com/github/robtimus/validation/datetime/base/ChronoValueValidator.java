@@ -0,0 +1,223 @@
+/*
+ * ChronoValueValidator.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.validation.datetime.base;
+
+import java.lang.annotation.Annotation;
+import java.time.Clock;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.chrono.ChronoLocalDate;
+import java.time.chrono.ChronoLocalDateTime;
+import java.time.chrono.ChronoZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.Temporal;
+import java.time.temporal.TemporalUnit;
+import java.util.Objects;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+import jakarta.validation.ClockProvider;
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+import com.github.robtimus.validation.datetime.base.MomentValueValidator.MomentPredicate;
+import com.github.robtimus.validation.datetime.base.PhaseTimings.Phase;
+
+/**
+ * The base for all validators for {@link ChronoLocalDate}, {@link ChronoLocalDateTime} and {@link ChronoZonedDateTime}, for instance
+ * {@link java.time.chrono.JapaneseDate} or {@link java.time.chrono.HijrahDate}. These delegate to validators for their ISO counterparts
+ * {@link LocalDate}, {@link LocalDateTime} and {@link ZonedDateTime}.
+ * <p>
+ * Values are not converted to their ISO counterparts if the delegate validator validates values against a moment in time using a predicate that is
+ * {@link BaseValidator#comparison(BiPredicate) marked as a comparison}, like {@code After} or {@code MinBefore}. Instead, the epoch day or epoch
+ * second and nano of the value is compared to that of the moment, which is calculated once for fixed moments. Only values that are invalid are
+ * converted, so that the delegate validator can report the constraint violation. Other constraints, including moment constraints with predicates that
+ * are not marked as comparisons, and constraints for which {@link PhaseTimings} are recorded, convert all values.
+ *
+ * @author Rob Spoor
+ * @param <A> The constraint annotation type.
+ * @param <C> The chronology-neutral type to validate.
+ * @param <T> The ISO type to delegate to.
+ */
+public abstract class ChronoValueValidator<A extends Annotation, C extends Temporal, T extends C> implements ConstraintValidator<A, C> {
+
+    private static final ClockProvider SYSTEM_CLOCK_PROVIDER = Clock::systemUTC;
+
+    private final ConstraintValidator<A, ? super T> validator;
+    private final Class<T> isoType;
+    private final Function<? super C, T> converter;
+    private final ToLongFunction<? super C> majorExtractor;
+    private final ToIntFunction<? super C> minorExtractor;
+    private final TemporalUnit precision;
+
+    private PhaseTimings.Recorder recorder;
+    private MomentPredicate<T> predicate;
+    private MomentComparison comparison;
+
+    // only used for fixed moments
+    private long momentMajor;
+    private int momentMinor;
+
+    private ChronoValueValidator(ConstraintValidator<A, ? super T> validator, Class<T> isoType, Function<? super C, T> converter,
+            ToLongFunction<? super C> majorExtractor, ToIntFunction<? super C> minorExtractor, TemporalUnit precision) {
+
+        this.validator = Objects.requireNonNull(validator);
+        this.isoType = isoType;
+        this.converter = converter;
+        this.majorExtractor = majorExtractor;
+        this.minorExtractor = minorExtractor;
+        this.precision = precision;
+    }
+
+    @Override
+    public void initialize(A constraintAnnotation) {
+        PhaseTimings.initialize(constraintAnnotation, getClass(), r -> {
+            recorder = r;
+            validator.initialize(constraintAnnotation);
+            if (r == null) {
+                initializeComparison();
+            }
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private void initializeComparison() {
+        BiPredicate<?, ClockProvider> validatorPredicate = validator instanceof BaseValidator<?, ?>
+                ? ((BaseValidator<?, ?>) validator).predicate()
+                : null;
+        if (!(validatorPredicate instanceof MomentPredicate<?>) || !((MomentPredicate<?>) validatorPredicate).isComparison()) {
+            // only predicates that are known to compare values to the moment can be replaced by comparing epoch values
+            return;
+        }
+        try {
+            MomentPredicate<T> momentPredicate = (MomentPredicate<T>) validatorPredicate;
+            T moment = isoType.cast(momentPredicate.moment(SYSTEM_CLOCK_PROVIDER));
+            T before = isoType.cast(moment.minus(1, precision));
+            T after = isoType.cast(moment.plus(1, precision));
+
+            comparison = MomentComparison.of(momentPredicate, moment, before, after);
+            predicate = momentPredicate;
+            momentMajor = majorExtractor.applyAsLong(moment);
+            momentMinor = minorExtractor.applyAsInt(moment);
+        } catch (@SuppressWarnings("unused") DateTimeException | ClassCastException e) {
+            // the moment is not of the ISO type, or it is too close to the minimum or maximum value
+            comparison = null;
+        }
+    }
+
+    @Override
+    public boolean isValid(C value, ConstraintValidatorContext context) {
+        if (value == null) {
+            return true;
+        }
+
+        if (recorder != null) {
+            long start = System.nanoTime();
+            T isoValue = converter.apply(value);
+            recorder.record(Phase.CONVERSION, start);
+            return validator.isValid(isoValue, context);
+        }
+        // only convert the value if the comparison fails, so the delegate validator can report the constraint violation
+        return comparison != null && isValidComparison(value, context.getClockProvider())
+                || validator.isValid(converter.apply(value), context);
+    }
+
+    private boolean isValidComparison(C value, ClockProvider clockProvider) {
+        long momentMajorValue;
+        int momentMinorValue;
+        if (predicate.isNow()) {
+            T moment = predicate.moment(clockProvider);
+            momentMajorValue = majorExtractor.applyAsLong(moment);
+            momentMinorValue = minorExtractor.applyAsInt(moment);
+        } else {
+            momentMajorValue = momentMajor;
+            momentMinorValue = momentMinor;
+        }
+
+        long major = majorExtractor.applyAsLong(value);
+        return comparison.isValid(major != momentMajorValue
+                ? Long.compare(major, momentMajorValue)
+                : Integer.compare(minorExtractor.applyAsInt(value), momentMinorValue));
+    }
+
+    /**
+     * The base for all {@link ChronoLocalDate} validators. These compare the {@link ChronoLocalDate#toEpochDay() epoch day} of values.
+     *
+     * @author Rob Spoor
+     * @param <A> The constraint annotation type.
+     */
+    public abstract static class ForChronoLocalDate<A extends Annotation> extends ChronoValueValidator<A, ChronoLocalDate, LocalDate> {
+
+        /**
+         * Creates a new validator.
+         *
+         * @param localDateValidator The {@link LocalDate} validator to delegate to.
+         * @throws NullPointerException If the given validator is {@code null}.
+         */
+        protected ForChronoLocalDate(ConstraintValidator<A, ? super LocalDate> localDateValidator) {
+            super(localDateValidator, LocalDate.class, LocalDate::from, ChronoLocalDate::toEpochDay, value -> 0, ChronoUnit.DAYS);
+        }
+    }
+
+    /**
+     * The base for all {@link ChronoLocalDateTime} validators. These compare the {@link ChronoLocalDateTime#toEpochSecond(ZoneOffset) epoch second}
+     * in UTC and nano of values.
+     *
+     * @author Rob Spoor
+     * @param <A> The constraint annotation type.
+     */
+    public abstract static class ForChronoLocalDateTime<A extends Annotation>
+            extends ChronoValueValidator<A, ChronoLocalDateTime<?>, LocalDateTime> {
+
+        /**
+         * Creates a new validator.
+         *
+         * @param localDateTimeValidator The {@link LocalDateTime} validator to delegate to.
+         * @throws NullPointerException If the given validator is {@code null}.
+         */
+        protected ForChronoLocalDateTime(ConstraintValidator<A, ? super LocalDateTime> localDateTimeValidator) {
+            super(localDateTimeValidator, LocalDateTime.class, LocalDateTime::from, value -> value.toEpochSecond(ZoneOffset.UTC),
+                    value -> value.toLocalTime().getNano(), ChronoUnit.NANOS);
+        }
+    }
+
+    /**
+     * The base for all {@link ChronoZonedDateTime} validators. These compare the {@link ChronoZonedDateTime#toEpochSecond() epoch second} and
+     * nano of values.
+     *
+     * @author Rob Spoor
+     * @param <A> The constraint annotation type.
+     */
+    public abstract static class ForChronoZonedDateTime<A extends Annotation>
+            extends ChronoValueValidator<A, ChronoZonedDateTime<?>, ZonedDateTime> {
+
+        /**
+         * Creates a new validator.
+         *
+         * @param zonedDateTimeValidator The {@link ZonedDateTime} validator to delegate to.
+         * @throws NullPointerException If the given validator is {@code null}.
+         */
+        protected ForChronoZonedDateTime(ConstraintValidator<A, ? super ZonedDateTime> zonedDateTimeValidator) {
+            super(zonedDateTimeValidator, ZonedDateTime.class, ZonedDateTime::from, ChronoZonedDateTime::toEpochSecond,
+                    value -> value.toLocalTime().getNano(), ChronoUnit.NANOS);
+        }
+    }
+}
@@ -0,0 +1,661 @@
+/*
+ * ColumnarValidator.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.validation.datetime.base;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAccessor;
+import java.time.temporal.ValueRange;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.BiPredicate;
+import jakarta.validation.ClockProvider;
+import jakarta.validation.ConstraintValidator;
+import com.github.robtimus.validation.datetime.base.BeanPlan.Check;
+import com.github.robtimus.validation.datetime.base.BeanPlan.Property;
+import com.github.robtimus.validation.datetime.base.FieldValidator.FieldPredicate;
+import com.github.robtimus.validation.datetime.base.MomentValueValidator.MomentPredicate;
+import com.github.robtimus.validation.datetime.base.PartValidator.PartPredicate;
+
+/**
+ * A validator for the date/time constraint annotations of lists of beans that validates one property at a time.
+ * <p>
+ * The constraint annotations of the bean class are compiled the same way as for {@link CompiledValidator}, and the same restrictions apply.
+ * Instead of validating one bean at a time, the values of each constrained property are first extracted into a column. Where possible, each
+ * constraint annotation is then evaluated against that column using a tight loop over primitive values:
+ * <ul>
+ * <li>{@link Instant} properties with constraints that validate values against a moment in time, like {@code After} or {@code MinBefore},
+ *     are turned into a column of epoch nanoseconds that is compared to the range of valid epoch nanoseconds.</li>
+ * <li>{@link LocalDate} properties with constraints that validate values against a moment in time, and properties with constraints that
+ *     validate their date against a moment in time, like {@code DateAfter}, are turned into a column of epoch days that is compared to the
+ *     range of valid epoch days.</li>
+ * <li>Properties with constraints that validate a single field, like {@code HourIn}, are turned into a column of field values that is checked
+ *     against a bit mask of valid field values.</li>
+ * <li>Properties with constraints that validate an enum part, like {@code DayOfWeekIn}, are turned into a column of ordinals that is checked
+ *     against a bit mask of valid ordinals.</li>
+ * </ul>
+ * All other constraint annotations are evaluated for each value in the column.
+ * <p>
+ * Each call to {@link #validate(List)} retrieves the current time from the {@link ClockProvider} once; all beans are validated against that
+ * same time.
+ * <p>
+ * Instances of this class are thread-safe.
+ *
+ * @author Rob Spoor
+ * @param <T> The bean type.
+ */
+public final class ColumnarValidator<T> {
+
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+    private static final Instant MIN_NANOS_INSTANT = EpochUnit.NANOSECONDS.toInstant(Long.MIN_VALUE);
+    private static final Instant MAX_NANOS_INSTANT = EpochUnit.NANOSECONDS.toInstant(Long.MAX_VALUE);
+
+    private final Class<T> beanType;
+    private final ClockProvider clockProvider;
+    private final BeanPlan plan;
+    private final Kernel[][] kernels;
+
+    private ColumnarValidator(Class<T> beanType, ClockProvider clockProvider) {
+        this.beanType = beanType;
+        this.clockProvider = clockProvider;
+        this.plan = BeanPlan.forType(beanType);
+
+        Property[] properties = plan.properties();
+        this.kernels = new Kernel[properties.length][];
+        for (int i = 0; i < properties.length; i++) {
+            kernels[i] = kernels(properties[i]);
+        }
+    }
+
+    /**
+     * Returns a validator for a bean class that uses {@link Clock#systemDefaultZone()} to determine the current time.
+     *
+     * @param <T> The bean type.
+     * @param beanType The bean class.
+     * @return A validator for the given bean class.
+     * @throws NullPointerException If the given bean class is {@code null}.
+     * @throws IllegalArgumentException If a constraint annotation of the given bean class does not support the type of its field or getter.
+     * @throws IllegalStateException If a validator of a constraint annotation could not be instantiated,
+     *                                   or if a constrained field or getter could not be accessed.
+     */
+    public static <T> ColumnarValidator<T> forType(Class<T> beanType) {
+        return forType(beanType, Clock::systemDefaultZone);
+    }
+
+    /**
+     * Returns a validator for a bean class.
+     *
+     * @param <T> The bean type.
+     * @param beanType The bean class.
+     * @param clockProvider The {@link ClockProvider} that defines the current time.
+     * @return A validator for the given bean class.
+     * @throws NullPointerException If the given bean class or {@link ClockProvider} is {@code null}.
+     * @throws IllegalArgumentException If a constraint annotation of the given bean class does not support the type of its field or getter.
+     * @throws IllegalStateException If a validator of a constraint annotation could not be instantiated,
+     *                                   or if a constrained field or getter could not be accessed.
+     */
+    public static <T> ColumnarValidator<T> forType(Class<T> beanType, ClockProvider clockProvider) {
+        Objects.requireNonNull(beanType);
+        Objects.requireNonNull(clockProvider);
+        return new ColumnarValidator<>(beanType, clockProvider);
+    }
+
+    /**
+     * Returns the bean class.
+     *
+     * @return The bean class.
+     */
+    public Class<T> beanType() {
+        return beanType;
+    }
+
+    /**
+     * Returns the names of all constrained properties.
+     *
+     * @return An unmodifiable list with the names of all constrained properties.
+     */
+    public List<String> constrainedProperties() {
+        return plan.propertyNames();
+    }
+
+    /**
+     * Validates a list of beans.
+     *
+     * @param beans The list of beans to validate.
+     * @return The validation result.
+     * @throws NullPointerException If the given list is {@code null} or contains {@code null} elements.
+     */
+    public Result validate(List<? extends T> beans) {
+        Object[] beanArray = beans.toArray();
+        int size = beanArray.length;
+        for (Object bean : beanArray) {
+            Objects.requireNonNull(bean);
+        }
+
+        ClockProvider batchClockProvider = ConstraintPredicates.fixedClockProvider(clockProvider);
+        Property[] properties = plan.properties();
+        Map<String, long[]> invalid = new LinkedHashMap<>();
+        for (int i = 0; i < properties.length; i++) {
+            Column column = new Column(properties[i], beanArray);
+            long[] mask = invalid.computeIfAbsent(properties[i].name(), k -> new long[EpochRange.wordCount(size)]);
+            for (Kernel kernel : kernels[i]) {
+                kernel.markInvalid(column, mask, batchClockProvider);
+            }
+        }
+        return new Result(size, invalid);
+    }
+
+    @Override
+    @SuppressWarnings("nls")
+    public String toString() {
+        return "ColumnarValidator[beanType=" + beanType.getName() + ",properties=" + plan.propertyNames() + "]";
+    }
+
+    /**
+     * The result of validating a list of beans.
+     *
+     * @author Rob Spoor
+     */
+    public static final class Result {
+
+        private final int size;
+        private final Map<String, long[]> invalid;
+
+        private Result(int size, Map<String, long[]> invalid) {
+            this.size = size;
+            this.invalid = invalid;
+        }
+
+        /**
+         * Returns the number of validated beans.
+         *
+         * @return The number of validated beans.
+         */
+        public int size() {
+            return size;
+        }
+
+        /**
+         * Returns whether or not all beans are valid.
+         *
+         * @return {@code true} if all beans are valid, or {@code false} otherwise.
+         */
+        public boolean isValid() {
+            for (long[] mask : invalid.values()) {
+                for (long word : mask) {
+                    if (word != 0) {
+                        return false;
+                    }
+                }
+            }
+            return true;
+        }
+
+        /**
+         * Returns the names of all properties that are invalid for at least one bean.
+         *
+         * @return An unmodifiable list with the names of all properties that are invalid for at least one bean.
+         */
+        public List<String> invalidProperties() {
+            List<String> result = new ArrayList<>();
+            for (Map.Entry<String, long[]> entry : invalid.entrySet()) {
+                for (long word : entry.getValue()) {
+                    if (word != 0) {
+                        result.add(entry.getKey());
+                        break;
+                    }
+                }
+            }
+            return Collections.unmodifiableList(result);
+        }
+
+        /**
+         * Returns the indexes of all beans for which a property is invalid.
+         *
+         * @param propertyName The name of the property.
+         * @return A bit set with the indexes of all beans for which the given property is invalid.
+         * @throws NullPointerException If the given property name is {@code null}.
+         * @throws IllegalArgumentException If the given property is not a constrained property.
+         */
+        public BitSet invalid(String propertyName) {
+            long[] mask = invalid.get(Objects.requireNonNull(propertyName));
+            if (mask == null) {
+                throw new IllegalArgumentException(String.format("%s is not a constrained property", propertyName)); //$NON-NLS-1$
+            }
+            return BitSet.valueOf(mask);
+        }
+
+        /**
+         * Returns the indexes of all beans for which at least one property is invalid.
+         *
+         * @return A bit set with the indexes of all beans for which at least one property is invalid.
+         */
+        public BitSet invalidBeans() {
+            long[] result = new long[EpochRange.wordCount(size)];
+            for (long[] mask : invalid.values()) {
+                for (int i = 0; i < result.length; i++) {
+                    result[i] |= mask[i];
+                }
+            }
+            return BitSet.valueOf(result);
+        }
+
+        @Override
+        @SuppressWarnings("nls")
+        public String toString() {
+            StringBuilder sb = new StringBuilder("Result[size=").append(size).append(",invalid={");
+            String separator = "";
+            for (String propertyName : invalid.keySet()) {
+                sb.append(separator).append(propertyName).append('=').append(invalid(propertyName));
+                separator = ", ";
+            }
+            return sb.append("}]").toString();
+        }
+    }
+
+    // Kernels
+
+    private static Kernel[] kernels(Property property) {
+        List<Kernel> result = new ArrayList<>();
+        for (Check check : property.checks()) {
+            for (ConstraintValidator<?, Object> validator : check.validators()) {
+                result.add(kernel(validator, property.valueType()));
+            }
+        }
+        return result.toArray(new Kernel[0]);
+    }
+
+    private static Kernel kernel(ConstraintValidator<?, Object> validator, Class<?> valueType) {
+        BiPredicate<?, ClockProvider> predicate = validator instanceof BaseValidator<?, ?> ? ((BaseValidator<?, ?>) validator).predicate() : null;
+        if (predicate instanceof MomentPredicate<?> && valueType == Instant.class) {
+            return new EpochNanoRangeKernel(validator);
+        }
+        if (predicate instanceof MomentPredicate<?> && valueType == LocalDate.class) {
+            return new EpochDayRangeKernel(validator, (MomentPredicate<?>) predicate);
+        }
+        if (predicate instanceof FieldPredicate<?>) {
+            return new FieldMaskKernel(validator, (FieldPredicate<?>) predicate);
+        }
+        if (predicate instanceof PartPredicate<?, ?>) {
+            return new PartKernel(validator, (PartPredicate<?, ?>) predicate);
+        }
+        return new ValueKernel(validator);
+    }
+
+    /**
+     * The values of a single property of all beans, with primitive views that are created when needed.
+     *
+     * @author Rob Spoor
+     */
+    private static final class Column {
+
+        private final Object[] values;
+
+        // bits are set for null values, and for values that do not fit in the primitive column
+        private long[] irregular;
+        private long[] epochNanos;
+        private long[] epochDays;
+
+        private Column(Property property, Object[] beans) {
+            values = new Object[beans.length];
+            for (int i = 0; i < beans.length; i++) {
+                values[i] = property.read(beans[i]);
+            }
+        }
+
+        private int size() {
+            return values.length;
+        }
+
+        private long[] epochNanos() {
+            if (epochNanos == null) {
+                irregular = new long[EpochRange.wordCount(values.length)];
+                epochNanos = new long[values.length];
+                for (int i = 0; i < values.length; i++) {
+                    Instant instant = (Instant) values[i];
+                    if (instant == null || instant.isBefore(MIN_NANOS_INSTANT) || instant.isAfter(MAX_NANOS_INSTANT)) {
+                        irregular[i >>> 6] |= 1L << i;
+                    } else {
+                        epochNanos[i] = instant.getEpochSecond() * NANOS_PER_SECOND + instant.getNano();
+                    }
+                }
+            }
+            return epochNanos;
+        }
+
+        private long[] epochDays() {
+            if (epochDays == null) {
+                irregular = new long[EpochRange.wordCount(values.length)];
+                epochDays = new long[values.length];
+                for (int i = 0; i < values.length; i++) {
+                    LocalDate date = (LocalDate) values[i];
+                    if (date == null) {
+                        irregular[i >>> 6] |= 1L << i;
+                    } else {
+                        epochDays[i] = date.toEpochDay();
+                    }
+                }
+            }
+            return epochDays;
+        }
+    }
+
+    /**
+     * Marks the invalid values of a column for a single validator.
+     *
+     * @author Rob Spoor
+     */
+    private abstract static class Kernel {
+
+        private final BiPredicate<Object, ClockProvider> predicate;
+
+        private Kernel(ConstraintValidator<?, Object> validator) {
+            this.predicate = ConstraintPredicates.forValidators(Collections.singletonList(validator));
+        }
+
+        abstract void markInvalid(Column column, long[] invalid, ClockProvider clockProvider);
+
+        final void markInvalidValues(Object[] values, long[] invalid, ClockProvider clockProvider) {
+            for (int i = 0; i < values.length; i++) {
+                if (!predicate.test(values[i], clockProvider)) {
+                    invalid[i >>> 6] |= 1L << i;
+                }
+            }
+        }
+
+        final void markOutsideRange(long[] range, long[] primitives, long[] irregular, Object[] values, long[] invalid,
+                ClockProvider clockProvider) {
+
+            long[] outside = EpochRange.outsideMask(range[0], range[1], primitives, 0, primitives.length);
+            for (int w = 0; w < invalid.length; w++) {
+                invalid[w] |= outside[w] & ~irregular[w];
+                // irregular values that are not null are validated one by one
+                for (long bits = irregular[w]; bits != 0; bits &= bits - 1) {
+                    int i = (w << 6) + Long.numberOfTrailingZeros(bits);
+                    if (!predicate.test(values[i], clockProvider)) {
+                        invalid[w] |= 1L << i;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * A kernel for constraints that cannot be evaluated on a primitive column.
+     *
+     * @author Rob Spoor
+     */
+    private static final class ValueKernel extends Kernel {
+
+        private ValueKernel(ConstraintValidator<?, Object> validator) {
+            super(validator);
+        }
+
+        @Override
+        void markInvalid(Column column, long[] invalid, ClockProvider clockProvider) {
+            markInvalidValues(column.values, invalid, clockProvider);
+        }
+    }
+
+    /**
+     * A kernel for {@link Instant} properties with a constraint that validates values against a moment in time.
+     *
+     * @author Rob Spoor
+     */
+    private static final class EpochNanoRangeKernel extends Kernel {
+
+        private final List<ConstraintValidator<?, ? super Instant>> validators;
+
+        private EpochNanoRangeKernel(ConstraintValidator<?, Object> validator) {
+            super(validator);
+            this.validators = Collections.singletonList(validator);
+        }
+
+        @Override
+        void markInvalid(Column column, long[] invalid, ClockProvider clockProvider) {
+            EpochRange range = EpochRange.forValidators(validators, EpochUnit.NANOSECONDS, clockProvider);
+            if (range == null) {
+                markInvalidValues(column.values, invalid, clockProvider);
+            } else {
+                long[] epochNanos = column.epochNanos();
+                markOutsideRange(new long[] { range.lowerBound(), range.upperBound() }, epochNanos, column.irregular, column.values, invalid,
+                        clockProvider);
+            }
+        }
+    }
+
+    /**
+     * A kernel for {@link LocalDate} properties with a constraint that validates values against a moment in time.
+     *
+     * @author Rob Spoor
+     */
+    private static final class EpochDayRangeKernel extends Kernel {
+
+        private final MomentPredicate<?> momentPredicate;
+
+        private EpochDayRangeKernel(ConstraintValidator<?, Object> validator, MomentPredicate<?> momentPredicate) {
+            super(validator);
+            this.momentPredicate = momentPredicate;
+        }
+
+        @Override
+        void markInvalid(Column column, long[] invalid, ClockProvider clockProvider) {
+            long[] range = epochDayRange(momentPredicate, clockProvider);
+            if (range == null) {
+                markInvalidValues(column.values, invalid, clockProvider);
+            } else {
+                long[] epochDays = column.epochDays();
+                markOutsideRange(range, epochDays, column.irregular, column.values, invalid, clockProvider);
+            }
+        }
+    }
+
+    /**
+     * A kernel for constraints that validate a single field.
+     *
+     * @author Rob Spoor
+     */
+    private static final class FieldMaskKernel extends Kernel {
+
+        private final FieldPredicate<TemporalAccessor> fieldPredicate;
+        private final ValueRange range;
+
+        @SuppressWarnings("unchecked")
+        private FieldMaskKernel(ConstraintValidator<?, Object> validator, FieldPredicate<?> fieldPredicate) {
+            super(validator);
+            this.fieldPredicate = (FieldPredicate<TemporalAccessor>) fieldPredicate;
+            this.range = fieldPredicate.field().range();
+        }
+
+        @Override
+        void markInvalid(Column column, long[] invalid, ClockProvider clockProvider) {
+            if (range.getMinimum() < 0 || range.getMaximum() >= Long.SIZE) {
+                markInvalidValues(column.values, invalid, clockProvider);
+                return;
+            }
+
+            long validMask = 0;
+            for (int v = (int) range.getMinimum(); v <= range.getMaximum(); v++) {
+                validMask |= fieldPredicate.isValidFieldValue(v, clockProvider) ? 1L << v : 0L;
+            }
+
+            Object[] values = column.values;
+            int[] fieldValues = new int[values.length];
+            long[] nulls = new long[invalid.length];
+            for (int i = 0; i < values.length; i++) {
+                Object value = values[i];
+                if (value == null) {
+                    nulls[i >>> 6] |= 1L << i;
+                } else {
+                    fieldValues[i] = fieldPredicate.fieldValue((TemporalAccessor) value);
+                }
+            }
+            markInvalidOrdinals(fieldValues, validMask, nulls, invalid);
+        }
+    }
+
+    /**
+     * A kernel for constraints that validate a part of values.
+     * Parts that are {@link LocalDate}s validated against a moment in time are validated using a range of epoch days; parts that are enum
+     * constants are validated using a bit mask of ordinals.
+     *
+     * @author Rob Spoor
+     */
+    private static final class PartKernel extends Kernel {
+
+        private final PartPredicate<Object, Object> partPredicate;
+
+        @SuppressWarnings("unchecked")
+        private PartKernel(ConstraintValidator<?, Object> validator, PartPredicate<?, ?> partPredicate) {
+            super(validator);
+            this.partPredicate = (PartPredicate<Object, Object>) partPredicate;
+        }
+
+        @Override
+        void markInvalid(Column column, long[] invalid, ClockProvider clockProvider) {
+            Object[] values = column.values;
+            Object[] parts = new Object[values.length];
+            Object firstPart = null;
+            for (int i = 0; i < values.length; i++) {
+                Object value = values[i];
+                if (value != null) {
+                    parts[i] = partPredicate.part(value);
+                    firstPart = firstPart == null ? parts[i] : firstPart;
+                }
+            }
+
+            BiPredicate<Object, ClockProvider> predicate = partPredicate.partPredicate();
+            if (firstPart instanceof LocalDate && predicate instanceof MomentPredicate<?>) {
+                markInvalidDates(parts, (MomentPredicate<?>) predicate, invalid, clockProvider);
+            } else if (firstPart instanceof Enum<?> && ((Enum<?>) firstPart).getDeclaringClass().getEnumConstants().length <= Long.SIZE) {
+                markInvalidEnums(parts, ((Enum<?>) firstPart).getDeclaringClass().getEnumConstants(), predicate, invalid, clockProvider);
+            } else {
+                markInvalidParts(parts, predicate, invalid, clockProvider);
+            }
+        }
+
+        private static void markInvalidDates(Object[] parts, MomentPredicate<?> predicate, long[] invalid, ClockProvider clockProvider) {
+            long[] range = epochDayRange(predicate, clockProvider);
+            if (range == null) {
+                markInvalidParts(parts, predicate, invalid, clockProvider);
+                return;
+            }
+
+            long[] epochDays = new long[parts.length];
+            long[] nulls = new long[invalid.length];
+            for (int i = 0; i < parts.length; i++) {
+                Object part = parts[i];
+                if (part == null) {
+                    nulls[i >>> 6] |= 1L << i;
+                } else {
+                    epochDays[i] = ((LocalDate) part).toEpochDay();
+                }
+            }
+            long[] outside = EpochRange.outsideMask(range[0], range[1], epochDays, 0, epochDays.length);
+            for (int w = 0; w < invalid.length; w++) {
+                invalid[w] |= outside[w] & ~nulls[w];
+            }
+        }
+
+        private static void markInvalidEnums(Object[] parts, Enum<?>[] constants, BiPredicate<Object, ClockProvider> predicate, long[] invalid,
+                ClockProvider clockProvider) {
+
+            long validMask = 0;
+            for (Enum<?> constant : constants) {
+                validMask |= predicate.test(constant, clockProvider) ? 1L << constant.ordinal() : 0L;
+            }
+
+            int[] ordinals = new int[parts.length];
+            long[] nulls = new long[invalid.length];
+            for (int i = 0; i < parts.length; i++) {
+                Object part = parts[i];
+                if (part == null) {
+                    nulls[i >>> 6] |= 1L << i;
+                } else {
+                    ordinals[i] = ((Enum<?>) part).ordinal();
+                }
+            }
+            markInvalidOrdinals(ordinals, validMask, nulls, invalid);
+        }
+
+        private static void markInvalidParts(Object[] parts, BiPredicate<?, ClockProvider> predicate, long[] invalid,
+                ClockProvider clockProvider) {
+
+            @SuppressWarnings("unchecked")
+            BiPredicate<Object, ClockProvider> partPredicate = (BiPredicate<Object, ClockProvider>) predicate;
+            for (int i = 0; i < parts.length; i++) {
+                Object part = parts[i];
+                if (part != null && !partPredicate.test(part, clockProvider)) {
+                    invalid[i >>> 6] |= 1L << i;
+                }
+            }
+        }
+    }
+
+    private static void markInvalidOrdinals(int[] ordinals, long validMask, long[] nulls, long[] invalid) {
+        long invalidMask = ~validMask;
+        long[] outside = new long[invalid.length];
+        for (int i = 0; i < ordinals.length; i++) {
+            // shifts only use the lowest 6 bits, so this is the bit index within the word
+            outside[i >>> 6] |= ((invalidMask >>> ordinals[i]) & 1L) << i;
+        }
+        for (int w = 0; w < invalid.length; w++) {
+            // null values are valid, but have ordinal 0 which may be invalid
+            invalid[w] |= outside[w] & ~nulls[w];
+        }
+    }
+
+    /**
+     * Returns the range of valid epoch days for a predicate that validates {@link LocalDate}s against a moment in time.
+     *
+     * @param predicate The predicate.
+     * @param clockProvider The {@link ClockProvider} to use to determine the current time.
+     * @return An array with the inclusive lower and upper bound of the range, or {@code null} if the valid dates are not a single range.
+     */
+    private static long[] epochDayRange(MomentPredicate<?> predicate, ClockProvider clockProvider) {
+        Object moment = predicate.moment(clockProvider);
+        if (!(moment instanceof LocalDate) || LocalDate.MIN.equals(moment) || LocalDate.MAX.equals(moment)) {
+            return null;
+        }
+        @SuppressWarnings("unchecked")
+        MomentPredicate<LocalDate> datePredicate = (MomentPredicate<LocalDate>) predicate;
+        LocalDate date = (LocalDate) moment;
+        MomentComparison comparison = MomentComparison.of(datePredicate, date, date.minusDays(1), date.plusDays(1));
+        if (comparison == null || !comparison.isRange()) {
+            return null;
+        }
+        if (comparison.allValid()) {
+            return new long[] { Long.MIN_VALUE, Long.MAX_VALUE };
+        }
+        long epochDay = date.toEpochDay();
+        boolean equal = comparison.validEqual();
+        if (comparison.validAfter()) {
+            return new long[] { equal ? epochDay : epochDay + 1, Long.MAX_VALUE };
+        }
+        if (comparison.validBefore()) {
+            return new long[] { Long.MIN_VALUE, equal ? epochDay : epochDay - 1 };
+        }
+        return equal ? new long[] { epochDay, epochDay } : new long[] { 0, -1 };
+    }
+}
@@ -0,0 +1,269 @@
+/*
+ * CompiledValidator.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.validation.datetime.base;
+
+import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import jakarta.validation.ClockProvider;
+import jakarta.validation.groups.Default;
+import com.github.robtimus.validation.datetime.base.BeanPlan.Check;
+import com.github.robtimus.validation.datetime.base.BeanPlan.Property;
+
+/**
+ * A validator for the date/time constraint annotations of beans, without the need for a {@link jakarta.validation.Validator}.
+ * <p>
+ * The constraint annotations of a bean class are read once, and compiled into a plan: a {@link MethodHandle} per constrained field or getter,
+ * and the initialized validators of each constraint annotation. Plans are cached per bean class, and shared by all instances of this class for
+ * the same bean class. Validating a bean then only reads the constrained properties and applies the validators. No property paths, constraint
+ * violations or {@link jakarta.validation.ConstraintValidatorContext} instances are created for valid beans.
+ * <p>
+ * Validating a valid bean is not free of allocations though. Properties are read as {@link Object}, so values of primitive fields and getters
+ * are boxed. Constraint annotations with moment {@code now} get the current time from the {@link ClockProvider}'s clock for each validation.
+ * Validators may also create objects of their own, for instance when converting a value to the zone of their constraint annotation.
+ * <p>
+ * Compared to a {@link jakarta.validation.Validator}, the following restrictions apply:
+ * <ul>
+ * <li>Only constraint annotations of fields and getters are validated. Constraint annotations of classes, container elements, parameters and
+ *     return values of other methods are ignored.</li>
+ * <li>Only constraint annotations of the {@link Default} group are validated. There is no support for group sequences.</li>
+ * <li>Constraint annotations that do not define their validators themselves, like the ones defined by the Bean Validation API, are ignored.
+ *     </li>
+ * <li>Nested beans are not validated; {@link jakarta.validation.Valid} is ignored.</li>
+ * <li>Constraint annotations that are composed of other constraint annotations are valid only if all of their composing constraints are valid,
+ *     as if they were annotated with {@link jakarta.validation.ReportAsSingleViolation}.</li>
+ * </ul>
+ * <p>
+ * If a bean class is in a named module, the package of the bean class must be opened to module
+ * {@code com.github.robtimus.validation.datetime.base} to validate non-public fields and getters.
+ * <p>
+ * Instances of this class are thread-safe.
+ *
+ * @author Rob Spoor
+ * @param <T> The bean type.
+ */
+public final class CompiledValidator<T> {
+
+    private final Class<T> beanType;
+    private final ClockProvider clockProvider;
+    private final BeanPlan plan;
+
+    private CompiledValidator(Class<T> beanType, ClockProvider clockProvider) {
+        this.beanType = beanType;
+        this.clockProvider = clockProvider;
+        this.plan = BeanPlan.forType(beanType);
+    }
+
+    /**
+     * Returns a validator for a bean class that uses {@link Clock#systemDefaultZone()} to determine the current time.
+     *
+     * @param <T> The bean type.
+     * @param beanType The bean class.
+     * @return A validator for the given bean class.
+     * @throws NullPointerException If the given bean class is {@code null}.
+     * @throws IllegalArgumentException If a constraint annotation of the given bean class does not support the type of its field or getter.
+     * @throws IllegalStateException If a validator of a constraint annotation could not be instantiated,
+     *                                   or if a constrained field or getter could not be accessed.
+     */
+    public static <T> CompiledValidator<T> forType(Class<T> beanType) {
+        return forType(beanType, Clock::systemDefaultZone);
+    }
+
+    /**
+     * Returns a validator for a bean class.
+     *
+     * @param <T> The bean type.
+     * @param beanType The bean class.
+     * @param clockProvider The {@link ClockProvider} that defines the current time.
+     * @return A validator for the given bean class.
+     * @throws NullPointerException If the given bean class or {@link ClockProvider} is {@code null}.
+     * @throws IllegalArgumentException If a constraint annotation of the given bean class does not support the type of its field or getter.
+     * @throws IllegalStateException If a validator of a constraint annotation could not be instantiated,
+     *                                   or if a constrained field or getter could not be accessed.
+     */
+    public static <T> CompiledValidator<T> forType(Class<T> beanType, ClockProvider clockProvider) {
+        Objects.requireNonNull(beanType);
+        Objects.requireNonNull(clockProvider);
+        return new CompiledValidator<>(beanType, clockProvider);
+    }
+
+    /**
+     * Returns the bean class.
+     *
+     * @return The bean class.
+     */
+    public Class<T> beanType() {
+        return beanType;
+    }
+
+    /**
+     * Returns the names of all constrained properties, in the order in which they are validated.
+     *
+     * @return An unmodifiable list with the names of all constrained properties.
+     */
+    public List<String> constrainedProperties() {
+        return plan.propertyNames();
+    }
+
+    /**
+     * Checks whether or not a bean is valid. Validation stops at the first invalid property.
+     *
+     * @param bean The bean to validate.
+     * @return {@code true} if the given bean is valid, or {@code false} otherwise.
+     * @throws NullPointerException If the given bean is {@code null}.
+     */
+    public boolean isValid(T bean) {
+        Objects.requireNonNull(bean);
+
+        for (Property property : plan.properties()) {
+            Object value = property.read(bean);
+            for (Check check : property.checks()) {
+                if (!check.test(value, clockProvider)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Validates a bean.
+     *
+     * @param bean The bean to validate.
+     * @return The validation result.
+     * @throws NullPointerException If the given bean is {@code null}.
+     */
+    public Result validate(T bean) {
+        Objects.requireNonNull(bean);
+
+        List<Violation> violations = null;
+        for (Property property : plan.properties()) {
+            Object value = property.read(bean);
+            for (Check check : property.checks()) {
+                if (!check.test(value, clockProvider)) {
+                    if (violations == null) {
+                        violations = new ArrayList<>();
+                    }
+                    violations.add(new Violation(property.name(), check.constraint(), value));
+                }
+            }
+        }
+        return violations == null ? Result.VALID : new Result(violations);
+    }
+
+    @Override
+    @SuppressWarnings("nls")
+    public String toString() {
+        return "CompiledValidator[beanType=" + beanType.getName() + ",properties=" + plan.propertyNames() + "]";
+    }
+
+    /**
+     * The result of validating a bean.
+     *
+     * @author Rob Spoor
+     */
+    public static final class Result {
+
+        private static final Result VALID = new Result(Collections.emptyList());
+
+        private final List<Violation> violations;
+
+        private Result(List<Violation> violations) {
+            this.violations = Collections.unmodifiableList(violations);
+        }
+
+        /**
+         * Returns whether or not the bean is valid.
+         *
+         * @return {@code true} if the bean is valid, or {@code false} otherwise.
+         */
+        public boolean isValid() {
+            return violations.isEmpty();
+        }
+
+        /**
+         * Returns the violations of the bean, in the order in which the constrained properties are validated.
+         *
+         * @return An unmodifiable list with the violations of the bean; empty if the bean is valid.
+         */
+        public List<Violation> violations() {
+            return violations;
+        }
+
+        @Override
+        @SuppressWarnings("nls")
+        public String toString() {
+            return "Result[violations=" + violations + "]";
+        }
+    }
+
+    /**
+     * A violation of a constraint annotation by a single property.
+     *
+     * @author Rob Spoor
+     */
+    public static final class Violation {
+
+        private final String propertyName;
+        private final Annotation constraint;
+        private final Object invalidValue;
+
+        private Violation(String propertyName, Annotation constraint, Object invalidValue) {
+            this.propertyName = propertyName;
+            this.constraint = constraint;
+            this.invalidValue = invalidValue;
+        }
+
+        /**
+         * Returns the name of the invalid property.
+         *
+         * @return The name of the invalid property.
+         */
+        public String propertyName() {
+            return propertyName;
+        }
+
+        /**
+         * Returns the constraint annotation that is violated.
+         *
+         * @return The constraint annotation that is violated.
+         */
+        public Annotation constraint() {
+            return constraint;
+        }
+
+        /**
+         * Returns the invalid value.
+         *
+         * @return The invalid value.
+         */
+        public Object invalidValue() {
+            return invalidValue;
+        }
+
+        @Override
+        @SuppressWarnings("nls")
+        public String toString() {
+            return "Violation[propertyName=" + propertyName + ",constraint=" + constraint + ",invalidValue=" + invalidValue + "]";
+        }
+    }
+}
@@ -0,0 +1,543 @@
+/*
+ * ConstraintPredicates.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.validation.datetime.base;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Array;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Proxy;
+import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
+import java.lang.reflect.WildcardType;
+import java.time.Clock;
+import java.time.DateTimeException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.BiPredicate;
+import jakarta.validation.ClockProvider;
+import jakarta.validation.Constraint;
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+import jakarta.validation.OverridesAttribute;
+import jakarta.validation.ValidationException;
+
+/**
+ * Utility class for turning constraint annotations into predicates, without the need for a {@link jakarta.validation.Validator}.
+ * <p>
+ * The validators of a constraint annotation are selected, instantiated and initialized the same way a Bean Validation provider would.
+ * Composed constraints are supported; attributes annotated with {@link OverridesAttribute} are applied to the composing constraints.
+ *
+ * @author Rob Spoor
+ */
+final class ConstraintPredicates {
+
+    private ConstraintPredicates() {
+    }
+
+    /**
+     * Returns a predicate for a constraint annotation.
+     * The predicate will return {@code true} for {@code null} values, and for values that are valid according to the constraint annotation
+     * and all of its composing constraints.
+     *
+     * @param <T> The type of values to validate.
+     * @param constraint The constraint annotation.
+     * @param valueType The type of values to validate.
+     * @return A predicate for the given constraint annotation.
+     * @throws NullPointerException If the given constraint annotation or value type is {@code null}.
+     * @throws IllegalArgumentException If the given annotation is not a constraint annotation,
+     *                                      or if the constraint annotation does not support the given value type.
+     * @throws IllegalStateException If a validator could not be instantiated.
+     */
+    static <T> BiPredicate<T, ClockProvider> forConstraint(Annotation constraint, Class<T> valueType) {
+        return forValidators(validators(constraint, valueType));
+    }
+
+    /**
+     * Returns a predicate that combines several validators.
+     *
+     * @param <T> The type of values to validate.
+     * @param validators The initialized validators to combine, as returned by {@link #validators(Annotation, Class)}.
+     * @return A predicate that returns {@code true} only for values that are valid according to all of the given validators.
+     */
+    static <T> BiPredicate<T, ClockProvider> forValidators(List<ConstraintValidator<?, ? super T>> validators) {
+        BiPredicate<T, ClockProvider> predicate = validatorPredicate(validators.get(0));
+        for (int i = 1; i < validators.size(); i++) {
+            predicate = predicate.and(validatorPredicate(validators.get(i)));
+        }
+        return predicate;
+    }
+
+    private static <T> BiPredicate<T, ClockProvider> validatorPredicate(ConstraintValidator<?, ? super T> validator) {
+        if (validator instanceof BaseValidator<?, ?>) {
+            BiPredicate<? super T, ClockProvider> predicate = ((BaseValidator<?, ? super T>) validator).predicate();
+            return (value, clockProvider) -> value == null || predicate.test(value, clockProvider);
+        }
+        return new ContextPredicate<>(validator);
+    }
+
+    /**
+     * A predicate for validators that are not {@link BaseValidator}s, and therefore need a {@link ConstraintValidatorContext}.
+     * Contexts are stateless, so the context for the last used {@link ClockProvider} is reused. That means that validating a batch of values
+     * with the same {@link ClockProvider} does not create a context per value.
+     *
+     * @author Rob Spoor
+     * @param <T> The type of values to validate.
+     */
+    private static final class ContextPredicate<T> implements BiPredicate<T, ClockProvider> {
+
+        private final ConstraintValidator<?, ? super T> validator;
+        private volatile ContextHandler lastHandler;
+
+        private ContextPredicate(ConstraintValidator<?, ? super T> validator) {
+            this.validator = validator;
+        }
+
+        @Override
+        public boolean test(T value, ClockProvider clockProvider) {
+            ContextHandler handler = lastHandler;
+            if (handler == null || handler.clockProvider != clockProvider) {
+                handler = new ContextHandler(clockProvider);
+                lastHandler = handler;
+            }
+            return validator.isValid(value, handler.context);
+        }
+    }
+
+    /**
+     * Returns the initialized validators for a constraint annotation and all of its composing constraints.
+     *
+     * @param <T> The type of values to validate.
+     * @param constraint The constraint annotation.
+     * @param valueType The type of values to validate.
+     * @return A non-empty list with the initialized validators for the given constraint annotation.
+     * @throws NullPointerException If the given constraint annotation or value type is {@code null}.
+     * @throws IllegalArgumentException If the given annotation is not a constraint annotation,
+     *                                      or if the constraint annotation does not support the given value type.
+     * @throws IllegalStateException If a validator could not be instantiated.
+     */
+    static <T> List<ConstraintValidator<?, ? super T>> validators(Annotation constraint, Class<T> valueType) {
+        Objects.requireNonNull(valueType);
+
+        List<ConstraintValidator<?, ? super T>> validators = new ArrayList<>();
+        addValidators(constraint, valueType, validators);
+        return validators;
+    }
+
+    private static <T> void addValidators(Annotation constraint, Class<T> valueType, List<ConstraintValidator<?, ? super T>> validators) {
+        Class<? extends Annotation> annotationType = constraint.annotationType();
+        Constraint constraintAnnotation = annotationType.getAnnotation(Constraint.class);
+        if (constraintAnnotation == null) {
+            throw new IllegalArgumentException(String.format("%s is not a constraint annotation", annotationType.getName())); //$NON-NLS-1$
+        }
+
+        int count = validators.size();
+        if (constraintAnnotation.validatedBy().length > 0) {
+            validators.add(validator(constraint, constraintAnnotation.validatedBy(), valueType));
+        }
+        for (Annotation composingConstraint : annotationType.getAnnotations()) {
+            if (composingConstraint.annotationType().isAnnotationPresent(Constraint.class)) {
+                addValidators(applyOverrides(constraint, composingConstraint), valueType, validators);
+            }
+        }
+
+        if (validators.size() == count) {
+            throw new IllegalArgumentException(unsupportedTypeMessage(annotationType, valueType));
+        }
+    }
+
+    /**
+     * Returns an initialized validator for a constraint annotation, selected from a set of validator types.
+     * Like a Bean Validation provider would, the validator type with the most specific validated type that supports the given value type is used.
+     *
+     * @param <A> The constraint annotation type.
+     * @param <T> The type of values to validate.
+     * @param constraint The constraint annotation.
+     * @param validatorTypes The validator types to select from.
+     * @param valueType The type of values to validate.
+     * @return An initialized validator for the given constraint annotation and value type.
+     * @throws IllegalArgumentException If none of the given validator types supports the given value type.
+     * @throws IllegalStateException If the validator could not be instantiated.
+     */
+    static <A extends Annotation, T> ConstraintValidator<A, ? super T> validator(A constraint,
+            Class<? extends ConstraintValidator<?, ?>>[] validatorTypes, Class<T> valueType) {
+
+        Class<? extends ConstraintValidator<?, ?>> validatorType = findValidatorType(validatorTypes, valueType);
+        if (validatorType == null) {
+            throw new IllegalArgumentException(unsupportedTypeMessage(constraint.annotationType(), valueType));
+        }
+
+        @SuppressWarnings("unchecked")
+        ConstraintValidator<A, ? super T> validator = (ConstraintValidator<A, ? super T>) instantiate(validatorType);
+        validator.initialize(constraint);
+        return validator;
+    }
+
+    /**
+     * Instantiates and initializes the validators of a constraint annotation and all of its composing constraints, regardless of the types they
+     * support. Validators that cannot be initialized for the constraint annotation are ignored.
+     *
+     * @param constraint The constraint annotation.
+     * @throws IllegalStateException If a validator could not be instantiated.
+     */
+    static void initializeAll(Annotation constraint) {
+        Class<? extends Annotation> annotationType = constraint.annotationType();
+        Constraint constraintAnnotation = annotationType.getAnnotation(Constraint.class);
+        if (constraintAnnotation == null) {
+            return;
+        }
+
+        for (Class<? extends ConstraintValidator<?, ?>> validatorType : constraintAnnotation.validatedBy()) {
+            initialize(constraint, validatorType);
+        }
+        for (Annotation composingConstraint : annotationType.getAnnotations()) {
+            if (composingConstraint.annotationType().isAnnotationPresent(Constraint.class)) {
+                initializeAll(applyOverrides(constraint, composingConstraint));
+            }
+        }
+    }
+
+    private static <A extends Annotation> void initialize(A constraint, Class<? extends ConstraintValidator<?, ?>> validatorType) {
+        @SuppressWarnings("unchecked")
+        ConstraintValidator<A, ?> validator = (ConstraintValidator<A, ?>) instantiate(validatorType);
+        try {
+            validator.initialize(constraint);
+        } catch (@SuppressWarnings("unused") IllegalArgumentException | IllegalStateException | DateTimeException e) {
+            // the validator does not support the constraint annotation, for instance because of its zone id;
+            // a Bean Validation provider would not select it for any type
+        }
+    }
+
+    static String unsupportedTypeMessage(Class<? extends Annotation> annotationType, Class<?> valueType) {
+        return String.format("%s does not support %s", annotationType.getName(), valueType.getName()); //$NON-NLS-1$
+    }
+
+    static Class<? extends ConstraintValidator<?, ?>> findValidatorType(Class<? extends ConstraintValidator<?, ?>>[] validatorTypes,
+            Class<?> valueType) {
+
+        Class<? extends ConstraintValidator<?, ?>> result = null;
+        Class<?> resultType = null;
+        for (Class<? extends ConstraintValidator<?, ?>> validatorType : validatorTypes) {
+            Class<?> validatedType = validatedType(validatorType);
+            if (validatedType.isAssignableFrom(valueType) && (resultType == null || resultType.isAssignableFrom(validatedType))) {
+                result = validatorType;
+                resultType = validatedType;
+            }
+        }
+        return result;
+    }
+
+    static Class<?> validatedType(Class<?> validatorType) {
+        return typeArgument(validatorType, ConstraintValidator.class, 1);
+    }
+
+    /**
+     * Returns the type argument that a class declares for a type parameter of one of its generic super types.
+     *
+     * @param type The class to return the type argument for.
+     * @param genericType The generic super type that declares the type parameter.
+     * @param index The index of the type parameter.
+     * @return The raw type of the type argument, or {@code Object} if the given class does not declare a type argument for the type parameter.
+     *         If the type argument is a type variable, the raw type of its bound is returned.
+     */
+    static Class<?> typeArgument(Class<?> type, Class<?> genericType, int index) {
+        Type typeArgument = findTypeArgument(type, genericType, index, new HashMap<>());
+        return typeArgument == null ? Object.class : rawType(typeArgument);
+    }
+
+    private static Type findTypeArgument(Type type, Class<?> genericType, int index, Map<TypeVariable<?>, Type> typeArguments) {
+        Class<?> rawType;
+        if (type instanceof ParameterizedType) {
+            ParameterizedType parameterizedType = (ParameterizedType) type;
+            rawType = (Class<?>) parameterizedType.getRawType();
+            TypeVariable<?>[] typeParameters = rawType.getTypeParameters();
+            Type[] actualTypeArguments = parameterizedType.getActualTypeArguments();
+            for (int i = 0; i < typeParameters.length; i++) {
+                typeArguments.put(typeParameters[i], resolve(actualTypeArguments[i], typeArguments));
+            }
+            if (rawType == genericType) {
+                return typeArguments.get(typeParameters[index]);
+            }
+        } else if (type instanceof Class<?>) {
+            rawType = (Class<?>) type;
+        } else {
+            return null;
+        }
+
+        for (Type genericInterface : rawType.getGenericInterfaces()) {
+            Type typeArgument = findTypeArgument(genericInterface, genericType, index, typeArguments);
+            if (typeArgument != null) {
+                return typeArgument;
+            }
+        }
+        Type genericSuperclass = rawType.getGenericSuperclass();
+        return genericSuperclass == null ? null : findTypeArgument(genericSuperclass, genericType, index, typeArguments);
+    }
+
+    private static Type resolve(Type type, Map<TypeVariable<?>, Type> typeArguments) {
+        Type result = type;
+        while (result instanceof TypeVariable<?> && typeArguments.containsKey(result)) {
+            result = typeArguments.get(result);
+        }
+        return result;
+    }
+
+    private static Class<?> rawType(Type type) {
+        if (type instanceof Class<?>) {
+            return (Class<?>) type;
+        }
+        if (type instanceof ParameterizedType) {
+            return rawType(((ParameterizedType) type).getRawType());
+        }
+        if (type instanceof WildcardType) {
+            return rawType(((WildcardType) type).getUpperBounds()[0]);
+        }
+        if (type instanceof TypeVariable<?>) {
+            return rawType(((TypeVariable<?>) type).getBounds()[0]);
+        }
+        return Object.class;
+    }
+
+    private static <V> V instantiate(Class<V> type) {
+        try {
+            return type.getConstructor().newInstance();
+        } catch (InvocationTargetException e) {
+            throw new IllegalStateException(e.getCause());
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // Payload
+
+    /**
+     * Returns the payload of a constraint annotation.
+     *
+     * @param constraint The constraint annotation.
+     * @return The payload of the given constraint annotation, or an empty array if it has no payload attribute.
+     */
+    static Class<?>[] payload(Annotation constraint) {
+        try {
+            Object payload = attributeValue(constraint, constraint.annotationType().getMethod("payload")); //$NON-NLS-1$
+            return payload instanceof Class<?>[] ? (Class<?>[]) payload : new Class<?>[0];
+        } catch (@SuppressWarnings("unused") NoSuchMethodException e) {
+            return new Class<?>[0];
+        }
+    }
+
+    /**
+     * Returns whether or not a constraint annotation has a specific payload type.
+     *
+     * @param constraint The constraint annotation.
+     * @param payloadType The payload type to check for.
+     * @return {@code true} if the payload of the given constraint annotation contains the given payload type or a sub type of it,
+     *         or {@code false} otherwise.
+     */
+    static boolean hasPayload(Annotation constraint, Class<?> payloadType) {
+        for (Class<?> type : payload(constraint)) {
+            if (payloadType.isAssignableFrom(type)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // Composed constraints
+
+    static Annotation applyOverrides(Annotation constraint, Annotation composingConstraint) {
+        Class<? extends Annotation> composingType = composingConstraint.annotationType();
+        Map<String, Object> overrides = new HashMap<>();
+        for (Method method : constraint.annotationType().getDeclaredMethods()) {
+            for (OverridesAttribute overridesAttribute : method.getAnnotationsByType(OverridesAttribute.class)) {
+                if (overridesAttribute.constraint() == composingType) {
+                    String name = overridesAttribute.name().isEmpty() ? method.getName() : overridesAttribute.name();
+                    overrides.put(name, attributeValue(constraint, method));
+                }
+            }
+        }
+        if (overrides.isEmpty()) {
+            return composingConstraint;
+        }
+
+        Map<String, Object> attributes = new LinkedHashMap<>();
+        for (Method method : composingType.getDeclaredMethods()) {
+            String name = method.getName();
+            attributes.put(name, overrides.containsKey(name) ? overrides.get(name) : attributeValue(composingConstraint, method));
+        }
+        return composingType.cast(Proxy.newProxyInstance(composingType.getClassLoader(), new Class<?>[] { composingType },
+                new AnnotationHandler(composingType, attributes)));
+    }
+
+    private static Object attributeValue(Annotation annotation, Method method) {
+        try {
+            return method.invoke(annotation);
+        } catch (InvocationTargetException e) {
+            throw new IllegalStateException(e.getCause());
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static final class AnnotationHandler implements InvocationHandler {
+
+        private final Class<? extends Annotation> annotationType;
+        private final Map<String, Object> attributes;
+
+        private AnnotationHandler(Class<? extends Annotation> annotationType, Map<String, Object> attributes) {
+            this.annotationType = annotationType;
+            this.attributes = attributes;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "annotationType": //$NON-NLS-1$
+                    return annotationType;
+                case "equals": //$NON-NLS-1$
+                    return isEqual(args[0]);
+                case "hashCode": //$NON-NLS-1$
+                    return hashCodeOfAttributes();
+                case "toString": //$NON-NLS-1$
+                    return toStringOfAttributes();
+                default:
+                    return cloneIfArray(attributes.get(method.getName()));
+            }
+        }
+
+        private boolean isEqual(Object o) {
+            if (!annotationType.isInstance(o)) {
+                return false;
+            }
+            for (Method method : annotationType.getDeclaredMethods()) {
+                if (!Objects.deepEquals(attributes.get(method.getName()), attributeValue((Annotation) o, method))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private int hashCodeOfAttributes() {
+            // as defined by Annotation.hashCode(); Arrays.deepHashCode(new Object[] { value }) is 31 + the hash code of value
+            int hashCode = 0;
+            for (Map.Entry<String, Object> entry : attributes.entrySet()) {
+                hashCode += (127 * entry.getKey().hashCode()) ^ (Arrays.deepHashCode(new Object[] { entry.getValue() }) - 31);
+            }
+            return hashCode;
+        }
+
+        @SuppressWarnings("nls")
+        private String toStringOfAttributes() {
+            StringBuilder sb = new StringBuilder().append('@').append(annotationType.getName()).append('(');
+            String separator = "";
+            for (Map.Entry<String, Object> entry : attributes.entrySet()) {
+                String value = Arrays.deepToString(new Object[] { entry.getValue() });
+                sb.append(separator).append(entry.getKey()).append('=').append(value, 1, value.length() - 1);
+                separator = ", ";
+            }
+            return sb.append(')').toString();
+        }
+
+        private static Object cloneIfArray(Object value) {
+            if (value != null && value.getClass().isArray()) {
+                int length = Array.getLength(value);
+                Object copy = Array.newInstance(value.getClass().getComponentType(), length);
+                System.arraycopy(value, 0, copy, 0, length);
+                return copy;
+            }
+            return value;
+        }
+    }
+
+    // Validator contexts
+
+    /**
+     * Returns a {@link ConstraintValidatorContext} that returns a specific {@link ClockProvider}.
+     * Any constraint violations that are built using the context are discarded.
+     *
+     * @param clockProvider The {@link ClockProvider} to return.
+     * @return A {@link ConstraintValidatorContext} that returns the given {@link ClockProvider}.
+     */
+    static ConstraintValidatorContext context(ClockProvider clockProvider) {
+        return new ContextHandler(clockProvider).context;
+    }
+
+    /**
+     * Returns a {@link ClockProvider} with a clock that is fixed at the current time of another {@link ClockProvider}'s clock.
+     * This can be used to validate several values against the same time.
+     *
+     * @param clockProvider The {@link ClockProvider} to take the current time and zone from.
+     * @return A {@link ClockProvider} with a clock that is fixed at the current time of the given {@link ClockProvider}'s clock.
+     */
+    static ClockProvider fixedClockProvider(ClockProvider clockProvider) {
+        Clock clock = clockProvider.getClock();
+        Clock fixedClock = Clock.fixed(clock.instant(), clock.getZone());
+        return () -> fixedClock;
+    }
+
+    private static <P> P proxy(Class<P> type, InvocationHandler handler) {
+        return type.cast(Proxy.newProxyInstance(ConstraintPredicates.class.getClassLoader(), new Class<?>[] { type }, handler));
+    }
+
+    private static final class ContextHandler implements InvocationHandler {
+
+        private final ClockProvider clockProvider;
+        private final ConstraintValidatorContext context;
+
+        private ContextHandler(ClockProvider clockProvider) {
+            this.clockProvider = clockProvider;
+            this.context = proxy(ConstraintValidatorContext.class, this);
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Class<?> returnType = method.getReturnType();
+            switch (method.getName()) {
+                case "getClockProvider": //$NON-NLS-1$
+                    return clockProvider;
+                case "getDefaultConstraintMessageTemplate": //$NON-NLS-1$
+                    return ""; //$NON-NLS-1$
+                case "unwrap": //$NON-NLS-1$
+                    Class<?> type = (Class<?>) args[0];
+                    if (type.isInstance(proxy)) {
+                        return proxy;
+                    }
+                    throw new ValidationException(String.format("Cannot unwrap to %s", type.getName())); //$NON-NLS-1$
+                case "equals": //$NON-NLS-1$
+                    return proxy == args[0];
+                case "hashCode": //$NON-NLS-1$
+                    return System.identityHashCode(proxy);
+                case "toString": //$NON-NLS-1$
+                    return ConstraintValidatorContext.class.getName();
+                default:
+                    break;
+            }
+            if (returnType == boolean.class) {
+                return false;
+            }
+            // violation builders and their node builders; these are all interfaces
+            return returnType.isInterface() ? proxy(returnType, this) : null;
+        }
+    }
+}
@@ -23,6 +23,7 @@ import java.util.Date;
 import java.util.Objects;
 import jakarta.validation.ConstraintValidator;
 import jakarta.validation.ConstraintValidatorContext;
+import com.github.robtimus.validation.datetime.base.PhaseTimings.Phase;
 
 /**
  * The base for all {@link Date} validators. These delegate to {@link Instant} validators.
@@ -34,6 +35,8 @@ public abstract class DateValidator<A extends Annotation> implements ConstraintV
 
     private final ConstraintValidator<A, ? super Instant> validator;
 
+    private PhaseTimings.Recorder recorder;
+
     /**
      * Creates a new validator.
      *
@@ -45,7 +48,10 @@ public abstract class DateValidator<A extends Annotation> implements ConstraintV
 
     @Override
     public void initialize(A constraintAnnotation) {
-        validator.initialize(constraintAnnotation);
+        PhaseTimings.initialize(constraintAnnotation, getClass(), r -> {
+            recorder = r;
+            validator.initialize(constraintAnnotation);
+        });
     }
 
     @Override
@@ -54,6 +60,13 @@ public abstract class DateValidator<A extends Annotation> implements ConstraintV
             return true;
         }
 
-        return validator.isValid(value.toInstant(), context);
+        if (recorder == null) {
+            return validator.isValid(value.toInstant(), context);
+        }
+
+        long start = System.nanoTime();
+        Instant instant = value.toInstant();
+        recorder.record(Phase.CONVERSION, start);
+        return validator.isValid(instant, context);
     }
 }
@@ -0,0 +1,278 @@
+/*
+ * DispatchingValidator.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.validation.datetime.base;
+
+import java.lang.annotation.Annotation;
+import java.time.DateTimeException;
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.Month;
+import java.time.MonthDay;
+import java.time.OffsetDateTime;
+import java.time.OffsetTime;
+import java.time.Year;
+import java.time.YearMonth;
+import java.time.ZonedDateTime;
+import java.time.temporal.TemporalAccessor;
+import java.time.temporal.TemporalQuery;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import jakarta.validation.Constraint;
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+
+/**
+ * A validator that can validate values of any type supported by a constraint annotation. The type-specific validator to use is determined by
+ * the runtime class of each value, the same way a Bean Validation provider selects a validator for a declared type. This means that only the
+ * type-specific validators for classes that are actually validated are instantiated and initialized.
+ * <p>
+ * The type-specific validators are cached per constraint annotation and class. This cache is shared by all instances, so validators for equal
+ * constraint annotations share their type-specific validators. It holds at most 1024 validators; when it is full, an arbitrary validator is
+ * evicted to make room for a new one. Its statistics are available through {@link CacheStats} as cache {@value #CACHE_NAME}.
+ * <p>
+ * Each instance only uses this shared cache the first time it validates a value of a class. Afterwards it uses its own snapshot of the
+ * type-specific validators it has resolved, for at most {@value #MAX_RESOLVED_TYPES} classes, without computing any hash codes.
+ * Lookups from these snapshots are not included in the statistics of the shared cache.
+ * <p>
+ * Besides the types supported by the type-specific validators of the constraint annotation, including their sub types, this validator supports
+ * any other {@link TemporalAccessor} implementation. Such values are converted to the most precise {@code java.time} type that is supported by
+ * both the constraint annotation and the value, from {@link ZonedDateTime} to {@link Month}.
+ * <p>
+ * The type-specific validators are taken from the {@link Constraint#validatedBy()} attribute of the constraint annotation. Because this validator
+ * is defined for {@link Annotation}, the same class can be used for every constraint annotation. It can replace the type-specific validators in
+ * XML or programmatic constraint mappings, or it can be added to the validators of custom constraint annotations to support properties declared
+ * as {@link Object} or {@link TemporalAccessor}.
+ * Type-specific validators are initialized when a value of their type is validated for the first time. Validating values of types that are not
+ * supported, or for which the type-specific validator does not support the constraint annotation, for instance because its moment cannot be
+ * parsed for that type, causes an exception to be thrown.
+ *
+ * @author Rob Spoor
+ */
+public class DispatchingValidator implements ConstraintValidator<Annotation, Object> {
+
+    /** The name of the cache with type-specific validators, as used by {@link CacheStats}. */
+    public static final String CACHE_NAME = "DispatchingValidator"; //$NON-NLS-1$
+
+    static final int MAX_CACHE_SIZE = 1024;
+
+    static final int MAX_RESOLVED_TYPES = 16;
+
+    private static final Map<Class<?>, TemporalQuery<?>> TEMPORAL_CONVERSIONS = temporalConversions();
+
+    // Not a ClassValue; its values would reference the validators from the value classes, which are often system classes like Instant
+    private static final ConcurrentMap<Key, ConstraintValidator<Annotation, Object>> VALIDATORS = new ConcurrentHashMap<>();
+    private static final CacheStats.Counter COUNTER = CacheStats.register(CACHE_NAME, VALIDATORS::size);
+
+    private Annotation constraint;
+    // annotations compute their hash codes on each call, so compute it only once
+    private int constraintHashCode;
+    private Class<? extends ConstraintValidator<?, ?>>[] validatorTypes;
+
+    // not volatile; all fields of Resolved are final, so other threads see either an older snapshot or a complete newer one
+    private Resolved resolved = Resolved.NONE;
+
+    private static Map<Class<?>, TemporalQuery<?>> temporalConversions() {
+        // from most to least precise
+        Map<Class<?>, TemporalQuery<?>> conversions = new LinkedHashMap<>();
+        conversions.put(ZonedDateTime.class, ZonedDateTime::from);
+        conversions.put(OffsetDateTime.class, OffsetDateTime::from);
+        conversions.put(Instant.class, Instant::from);
+        conversions.put(LocalDateTime.class, LocalDateTime::from);
+        conversions.put(LocalDate.class, LocalDate::from);
+        conversions.put(OffsetTime.class, OffsetTime::from);
+        conversions.put(LocalTime.class, LocalTime::from);
+        conversions.put(YearMonth.class, YearMonth::from);
+        conversions.put(MonthDay.class, MonthDay::from);
+        conversions.put(Year.class, Year::from);
+        conversions.put(DayOfWeek.class, DayOfWeek::from);
+        conversions.put(Month.class, Month::from);
+        return conversions;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void initialize(Annotation constraintAnnotation) {
+        Constraint constraintDefinition = constraintAnnotation.annotationType().getAnnotation(Constraint.class);
+        Class<? extends ConstraintValidator<?, ?>>[] types = constraintDefinition == null
+                ? new Class[0]
+                : constraintDefinition.validatedBy();
+
+        constraint = constraintAnnotation;
+        constraintHashCode = constraintAnnotation.hashCode();
+        validatorTypes = Arrays.stream(types)
+                .filter(type -> !DispatchingValidator.class.isAssignableFrom(type))
+                .toArray(Class[]::new);
+        resolved = Resolved.NONE;
+    }
+
+    @Override
+    public boolean isValid(Object value, ConstraintValidatorContext context) {
+        return value == null || cachedValidator(value.getClass()).isValid(value, context);
+    }
+
+    private ConstraintValidator<Annotation, Object> cachedValidator(Class<?> type) {
+        Resolved current = resolved;
+        if (current.lastType == type) {
+            return current.lastValidator;
+        }
+        ConstraintValidator<Annotation, Object> validator = current.validators.get(type);
+        if (validator == null) {
+            validator = sharedValidator(type);
+            if (current.validators.size() < MAX_RESOLVED_TYPES) {
+                resolved = current.with(type, validator);
+            }
+        }
+        return validator;
+    }
+
+    private ConstraintValidator<Annotation, Object> sharedValidator(Class<?> type) {
+        Key key = new Key(constraint, constraintHashCode, type);
+        ConstraintValidator<Annotation, Object> validator = VALIDATORS.get(key);
+        if (validator != null) {
+            COUNTER.recordHit();
+            return validator;
+        }
+        COUNTER.recordMiss();
+
+        validator = validator(type);
+        if (VALIDATORS.size() >= MAX_CACHE_SIZE) {
+            evict();
+        }
+        // if another thread created a validator for the same key concurrently, use its validator so all callers use the same instance
+        ConstraintValidator<Annotation, Object> existing = VALIDATORS.putIfAbsent(key, validator);
+        return existing != null ? existing : validator;
+    }
+
+    private static void evict() {
+        Iterator<Key> iterator = VALIDATORS.keySet().iterator();
+        if (iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+            COUNTER.recordEviction();
+        }
+    }
+
+    // for testing purposes
+    static void clearCache() {
+        VALIDATORS.clear();
+    }
+
+    @SuppressWarnings("unchecked")
+    private ConstraintValidator<Annotation, Object> validator(Class<?> type) {
+        if (ConstraintPredicates.findValidatorType(validatorTypes, type) != null || !TemporalAccessor.class.isAssignableFrom(type)) {
+            return (ConstraintValidator<Annotation, Object>) ConstraintPredicates.validator(constraint, validatorTypes, type);
+        }
+
+        List<TemporalQuery<?>> conversions = new ArrayList<>();
+        for (Map.Entry<Class<?>, TemporalQuery<?>> entry : TEMPORAL_CONVERSIONS.entrySet()) {
+            if (ConstraintPredicates.findValidatorType(validatorTypes, entry.getKey()) != null) {
+                conversions.add(entry.getValue());
+            }
+        }
+        if (conversions.isEmpty()) {
+            throw new IllegalArgumentException(ConstraintPredicates.unsupportedTypeMessage(constraint.annotationType(), type));
+        }
+        return (value, context) -> isValidConverted((TemporalAccessor) value, conversions, context);
+    }
+
+    private boolean isValidConverted(TemporalAccessor value, List<TemporalQuery<?>> conversions, ConstraintValidatorContext context) {
+        for (TemporalQuery<?> conversion : conversions) {
+            Object converted;
+            try {
+                converted = value.query(conversion);
+            } catch (@SuppressWarnings("unused") DateTimeException e) {
+                // the value does not support this conversion, try the next one
+                continue;
+            }
+            // the converted value is of a supported type, and the validator for it is only created when needed
+            return cachedValidator(converted.getClass()).isValid(converted, context);
+        }
+        throw new IllegalArgumentException(ConstraintPredicates.unsupportedTypeMessage(constraint.annotationType(), value.getClass()));
+    }
+
+    /**
+     * An immutable snapshot of the type-specific validators that an instance has resolved. The most recently resolved class and its validator
+     * are also stored separately, so values of only one class need no map lookup at all.
+     *
+     * @author Rob Spoor
+     */
+    private static final class Resolved {
+
+        private static final Resolved NONE = new Resolved(null, null, Collections.emptyMap());
+
+        private final Class<?> lastType;
+        private final ConstraintValidator<Annotation, Object> lastValidator;
+        private final Map<Class<?>, ConstraintValidator<Annotation, Object>> validators;
+
+        private Resolved(Class<?> lastType, ConstraintValidator<Annotation, Object> lastValidator,
+                Map<Class<?>, ConstraintValidator<Annotation, Object>> validators) {
+
+            this.lastType = lastType;
+            this.lastValidator = lastValidator;
+            this.validators = validators;
+        }
+
+        private Resolved with(Class<?> type, ConstraintValidator<Annotation, Object> validator) {
+            // copy on write; snapshots are only replaced when an instance resolves a class for the first time
+            Map<Class<?>, ConstraintValidator<Annotation, Object>> newValidators = new IdentityHashMap<>(validators);
+            newValidators.put(type, validator);
+            return new Resolved(type, validator, newValidators);
+        }
+    }
+
+    private static final class Key {
+
+        private final Annotation constraint;
+        private final Class<?> type;
+        private final int hashCode;
+
+        private Key(Annotation constraint, int constraintHashCode, Class<?> type) {
+            this.constraint = constraint;
+            this.type = type;
+            this.hashCode = 31 * constraintHashCode + type.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            Key other = (Key) o;
+            return type == other.type && hashCode == other.hashCode && (constraint == other.constraint || constraint.equals(other.constraint));
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+}
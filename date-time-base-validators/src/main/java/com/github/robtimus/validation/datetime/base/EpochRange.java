@@ -0,0 +1,333 @@
+/*
+ * EpochRange.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.validation.datetime.base;
+
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.BiPredicate;
+import jakarta.validation.ClockProvider;
+import jakarta.validation.ConstraintValidator;
+import com.github.robtimus.validation.datetime.base.MomentValueValidator.MomentPredicate;
+
+/**
+ * An inclusive range of epoch values.
+ * <p>
+ * Constraints that validate {@link Instant}s against a moment in time, like {@code After}, {@code NotBefore} or {@code MinAfter}, only accept
+ * the epoch values in a single range. Such a range can be obtained using {@link BulkValidator#epochRange(EpochUnit)}, and can then be used to
+ * validate large arrays of epoch values using simple comparisons only. The kernel methods of this class are written as branch-free loops that
+ * can be vectorized by the JIT compiler.
+ *
+ * @author Rob Spoor
+ */
+public final class EpochRange {
+
+    private static final int ADDRESS_BITS_PER_WORD = 6;
+    private static final int BITS_PER_WORD = 1 << ADDRESS_BITS_PER_WORD;
+
+    private final long lowerBound;
+    private final long upperBound;
+    private final EpochUnit unit;
+
+    private EpochRange(long lowerBound, long upperBound, EpochUnit unit) {
+        this.lowerBound = lowerBound;
+        this.upperBound = upperBound;
+        this.unit = unit;
+    }
+
+    /**
+     * Creates a new range of epoch values.
+     *
+     * @param lowerBound The lower bound of the range, inclusive.
+     * @param upperBound The upper bound of the range, inclusive. If this is smaller than the given lower bound, the range is empty.
+     * @param unit The unit of the epoch values.
+     * @return The created range.
+     * @throws NullPointerException If the given unit is {@code null}.
+     */
+    public static EpochRange of(long lowerBound, long upperBound, EpochUnit unit) {
+        Objects.requireNonNull(unit);
+        return new EpochRange(lowerBound, upperBound, unit);
+    }
+
+    /**
+     * Returns the lower bound of this range.
+     *
+     * @return The lower bound of this range, inclusive.
+     */
+    public long lowerBound() {
+        return lowerBound;
+    }
+
+    /**
+     * Returns the upper bound of this range.
+     *
+     * @return The upper bound of this range, inclusive.
+     */
+    public long upperBound() {
+        return upperBound;
+    }
+
+    /**
+     * Returns the unit of the epoch values of this range.
+     *
+     * @return The unit of the epoch values of this range.
+     */
+    public EpochUnit unit() {
+        return unit;
+    }
+
+    /**
+     * Returns whether or not this range is empty.
+     *
+     * @return {@code true} if the upper bound of this range is smaller than its lower bound, or {@code false} otherwise.
+     */
+    public boolean isEmpty() {
+        return upperBound < lowerBound;
+    }
+
+    /**
+     * Returns whether or not this range contains an epoch value.
+     *
+     * @param epochValue The epoch value to check.
+     * @return {@code true} if this range contains the given epoch value, or {@code false} otherwise.
+     */
+    public boolean contains(long epochValue) {
+        return epochValue >= lowerBound && epochValue <= upperBound;
+    }
+
+    /**
+     * Counts the number of epoch values in a portion of an array that are not contained in this range.
+     *
+     * @param epochValues The array of epoch values.
+     * @param offset The index of the first epoch value to check.
+     * @param length The number of epoch values to check.
+     * @return The number of epoch values that are not contained in this range.
+     * @throws NullPointerException If the given array is {@code null}.
+     * @throws IndexOutOfBoundsException If the given offset or length is negative,
+     *                                       or if the given offset and length combined exceed the array's length.
+     */
+    public long countOutside(long[] epochValues, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, epochValues.length);
+
+        if (isEmpty()) {
+            return length;
+        }
+
+        // A value is inside the range if value - lowerBound, as an unsigned value, is at most upperBound - lowerBound.
+        // Flipping the sign bit of both turns this into a single signed comparison.
+        long lower = lowerBound;
+        long limit = (upperBound - lowerBound) ^ Long.MIN_VALUE;
+        long count = 0;
+        for (int i = offset, end = offset + length; i < end; i++) {
+            count += ((epochValues[i] - lower) ^ Long.MIN_VALUE) > limit ? 1 : 0;
+        }
+        return count;
+    }
+
+    /**
+     * Marks the epoch values in a portion of an array that are not contained in this range.
+     * <p>
+     * The result uses the same layout as {@link java.util.BitSet#toLongArray()}; bit {@code i} is set if the epoch value at index
+     * {@code offset + i} is not contained in this range. Use {@link java.util.BitSet#valueOf(long[])} to turn the result into a
+     * {@link java.util.BitSet}.
+     *
+     * @param epochValues The array of epoch values.
+     * @param offset The index of the first epoch value to check.
+     * @param length The number of epoch values to check.
+     * @return An array of {@code (length + 63) / 64} words with a bit set for each epoch value that is not contained in this range.
+     * @throws NullPointerException If the given array is {@code null}.
+     * @throws IndexOutOfBoundsException If the given offset or length is negative,
+     *                                       or if the given offset and length combined exceed the array's length.
+     */
+    public long[] outsideMask(long[] epochValues, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, epochValues.length);
+
+        return outsideMask(lowerBound, upperBound, epochValues, offset, length);
+    }
+
+    /**
+     * Marks the values in a portion of an array that are not contained in an inclusive range of values.
+     * This method does not check its arguments.
+     *
+     * @param lowerBound The lower bound of the range.
+     * @param upperBound The upper bound of the range. If it is smaller than the lower bound, the range is empty.
+     * @param values The array of values.
+     * @param offset The index of the first value to check.
+     * @param length The number of values to check.
+     * @return An array of {@code (length + 63) / 64} words with a bit set for each value that is not contained in the range.
+     */
+    static long[] outsideMask(long lowerBound, long upperBound, long[] values, int offset, int length) {
+        long[] mask = new long[wordCount(length)];
+        if (upperBound < lowerBound) {
+            Arrays.fill(mask, -1L);
+            clearTrailingBits(mask, length);
+            return mask;
+        }
+
+        long lower = lowerBound;
+        long limit = (upperBound - lowerBound) ^ Long.MIN_VALUE;
+        for (int i = 0; i < length; i++) {
+            long outside = ((values[offset + i] - lower) ^ Long.MIN_VALUE) > limit ? 1L : 0L;
+            // shifts only use the lowest 6 bits, so this is the bit index within the word
+            mask[i >>> ADDRESS_BITS_PER_WORD] |= outside << i;
+        }
+        return mask;
+    }
+
+    /**
+     * Returns the number of words that are needed for a mask.
+     *
+     * @param length The number of bits in the mask.
+     * @return The number of words that are needed for a mask with the given number of bits.
+     */
+    static int wordCount(int length) {
+        return (length + BITS_PER_WORD - 1) >>> ADDRESS_BITS_PER_WORD;
+    }
+
+    private static void clearTrailingBits(long[] mask, int length) {
+        int trailingBits = length & (BITS_PER_WORD - 1);
+        if (trailingBits != 0) {
+            mask[mask.length - 1] &= (1L << trailingBits) - 1;
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        EpochRange other = (EpochRange) o;
+        return lowerBound == other.lowerBound
+                && upperBound == other.upperBound
+                && unit == other.unit;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(lowerBound, upperBound, unit);
+    }
+
+    @Override
+    @SuppressWarnings("nls")
+    public String toString() {
+        return "EpochRange[lowerBound=" + lowerBound
+                + ",upperBound=" + upperBound
+                + ",unit=" + unit
+                + "]";
+    }
+
+    /**
+     * Returns the range of epoch values that are valid for a list of validators.
+     * This is only possible if all validators validate values against a single moment in time, as determined by {@link MomentValueValidator}.
+     *
+     * @param validators The initialized validators.
+     * @param unit The unit of the epoch values.
+     * @param clockProvider The {@link ClockProvider} to use to determine the current time.
+     * @return The range of valid epoch values, or {@code null} if the validators do not define a single range of valid values.
+     */
+    static EpochRange forValidators(List<ConstraintValidator<?, ? super Instant>> validators, EpochUnit unit, ClockProvider clockProvider) {
+        long minEpochValue = unit.minEpochValue();
+        long maxEpochValue = unit.maxEpochValue();
+        Instant min = unit.toInstant(minEpochValue);
+        Instant max = unit.toInstant(maxEpochValue);
+
+        long lower = minEpochValue;
+        long upper = maxEpochValue;
+        for (ConstraintValidator<?, ? super Instant> validator : validators) {
+            MomentPredicate<Instant> predicate = momentPredicate(validator);
+            Instant moment = predicate == null ? null : momentOrNull(predicate, clockProvider);
+            if (moment == null) {
+                return null;
+            }
+            MomentComparison comparison = comparison(predicate, moment);
+            if (comparison == null) {
+                return null;
+            }
+            if (comparison.noneValid()) {
+                return empty(unit);
+            }
+            if (moment.isBefore(min)) {
+                // every epoch value is after the moment
+                if (!comparison.validAfter()) {
+                    return empty(unit);
+                }
+                continue;
+            }
+            if (comparison.allValid()) {
+                continue;
+            }
+            long floor = moment.isAfter(max) ? maxEpochValue : unit.floorEpochValue(moment);
+            boolean exact = !moment.isAfter(max) && unit.isExactEpochValue(moment);
+            if (comparison.validAfter() && !comparison.validBefore()) {
+                if (exact && comparison.validEqual()) {
+                    lower = Math.max(lower, floor);
+                } else if (floor == maxEpochValue) {
+                    return empty(unit);
+                } else {
+                    lower = Math.max(lower, floor + 1);
+                }
+            } else if (comparison.validBefore() && !comparison.validAfter()) {
+                if (comparison.validEqual() || !exact) {
+                    upper = Math.min(upper, floor);
+                } else if (floor == minEpochValue) {
+                    return empty(unit);
+                } else {
+                    upper = Math.min(upper, floor - 1);
+                }
+            } else {
+                // the valid values are not a single range
+                return null;
+            }
+        }
+        return lower <= upper ? new EpochRange(lower, upper, unit) : empty(unit);
+    }
+
+    private static EpochRange empty(EpochUnit unit) {
+        return new EpochRange(0, -1, unit);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static MomentPredicate<Instant> momentPredicate(ConstraintValidator<?, ? super Instant> validator) {
+        if (validator instanceof BaseValidator<?, ?>) {
+            BiPredicate<?, ClockProvider> predicate = ((BaseValidator<?, ?>) validator).predicate();
+            if (predicate instanceof MomentPredicate<?>) {
+                return (MomentPredicate<Instant>) predicate;
+            }
+        }
+        return null;
+    }
+
+    private static Instant momentOrNull(MomentPredicate<?> predicate, ClockProvider clockProvider) {
+        Object moment = predicate.moment(clockProvider);
+        return moment instanceof Instant ? (Instant) moment : null;
+    }
+
+    private static MomentComparison comparison(MomentPredicate<Instant> predicate, Instant moment) {
+        try {
+            return MomentComparison.of(predicate, moment, moment.minusNanos(1), moment.plusNanos(1));
+        } catch (@SuppressWarnings("unused") DateTimeException e) {
+            // the moment is Instant.MIN or Instant.MAX
+            return null;
+        }
+    }
+}
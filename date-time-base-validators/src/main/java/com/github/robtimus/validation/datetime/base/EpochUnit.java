@@ -0,0 +1,223 @@
+/*
+ * EpochUnit.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.validation.datetime.base;
+
+import java.time.Instant;
+
+/**
+ * The possible units of epoch values, which are the number of units since the epoch of 1970-01-01T00:00:00Z.
+ *
+ * @author Rob Spoor
+ */
+public enum EpochUnit {
+
+    /** Indicates that epoch values are the number of seconds since the epoch. */
+    SECONDS(1L) {
+        @Override
+        public Instant toInstant(long epochValue) {
+            return Instant.ofEpochSecond(epochValue);
+        }
+
+        @Override
+        long minEpochValue() {
+            return Instant.MIN.getEpochSecond();
+        }
+
+        @Override
+        long maxEpochValue() {
+            return Instant.MAX.getEpochSecond();
+        }
+
+        @Override
+        long floorEpochValue(Instant instant) {
+            return instant.getEpochSecond();
+        }
+
+        @Override
+        boolean isExactEpochValue(Instant instant) {
+            return instant.getNano() == 0;
+        }
+    },
+
+    /** Indicates that epoch values are the number of milliseconds since the epoch. */
+    MILLISECONDS(1_000L) {
+        @Override
+        public Instant toInstant(long epochValue) {
+            return Instant.ofEpochMilli(epochValue);
+        }
+
+        @Override
+        long minEpochValue() {
+            return Long.MIN_VALUE;
+        }
+
+        @Override
+        long maxEpochValue() {
+            return Long.MAX_VALUE;
+        }
+
+        @Override
+        long floorEpochValue(Instant instant) {
+            // the nano part is never negative, so this rounds down
+            return instant.getEpochSecond() * MILLIS_PER_SECOND + instant.getNano() / NANOS_PER_MILLI;
+        }
+
+        @Override
+        boolean isExactEpochValue(Instant instant) {
+            return instant.getNano() % NANOS_PER_MILLI == 0;
+        }
+    },
+
+    /** Indicates that epoch values are the number of microseconds since the epoch. */
+    MICROSECONDS(1_000_000L) {
+        @Override
+        public Instant toInstant(long epochValue) {
+            long epochSecond = Math.floorDiv(epochValue, MICROS_PER_SECOND);
+            long microOfSecond = Math.floorMod(epochValue, MICROS_PER_SECOND);
+            return Instant.ofEpochSecond(epochSecond, microOfSecond * NANOS_PER_MICRO);
+        }
+
+        @Override
+        long minEpochValue() {
+            return Long.MIN_VALUE;
+        }
+
+        @Override
+        long maxEpochValue() {
+            return Long.MAX_VALUE;
+        }
+
+        @Override
+        long floorEpochValue(Instant instant) {
+            // the nano part is never negative, so this rounds down
+            return instant.getEpochSecond() * MICROS_PER_SECOND + instant.getNano() / NANOS_PER_MICRO;
+        }
+
+        @Override
+        boolean isExactEpochValue(Instant instant) {
+            return instant.getNano() % NANOS_PER_MICRO == 0;
+        }
+    },
+
+    /** Indicates that epoch values are the number of nanoseconds since the epoch. */
+    NANOSECONDS(1_000_000_000L) {
+        @Override
+        public Instant toInstant(long epochValue) {
+            return Instant.ofEpochSecond(Math.floorDiv(epochValue, NANOS_PER_SECOND), Math.floorMod(epochValue, NANOS_PER_SECOND));
+        }
+
+        @Override
+        long minEpochValue() {
+            return Long.MIN_VALUE;
+        }
+
+        @Override
+        long maxEpochValue() {
+            return Long.MAX_VALUE;
+        }
+
+        @Override
+        long floorEpochValue(Instant instant) {
+            return instant.getEpochSecond() * NANOS_PER_SECOND + instant.getNano();
+        }
+
+        @Override
+        boolean isExactEpochValue(Instant instant) {
+            return true;
+        }
+    },
+    ;
+
+    private static final long MILLIS_PER_SECOND = 1_000L;
+    private static final long MICROS_PER_SECOND = 1_000_000L;
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+    private static final int NANOS_PER_MILLI = 1_000_000;
+    private static final int NANOS_PER_MICRO = 1_000;
+
+    private final long unitsPerSecond;
+    private final long nanosPerUnit;
+
+    EpochUnit(long unitsPerSecond) {
+        this.unitsPerSecond = unitsPerSecond;
+        this.nanosPerUnit = NANOS_PER_SECOND / unitsPerSecond;
+    }
+
+    /**
+     * Converts an epoch value to an {@link Instant}.
+     *
+     * @param epochValue The epoch value to convert, in this unit.
+     * @return An {@link Instant} that represents the given epoch value.
+     * @throws java.time.DateTimeException If the given epoch value exceeds the minimum or maximum {@link Instant}.
+     */
+    public abstract Instant toInstant(long epochValue);
+
+    /**
+     * Returns the minimum epoch value that can be converted to an {@link Instant}.
+     *
+     * @return The minimum epoch value that can be converted to an {@link Instant}.
+     */
+    abstract long minEpochValue();
+
+    /**
+     * Returns the maximum epoch value that can be converted to an {@link Instant}.
+     *
+     * @return The maximum epoch value that can be converted to an {@link Instant}.
+     */
+    abstract long maxEpochValue();
+
+    /**
+     * Converts an {@link Instant} to an epoch value, rounding down if needed.
+     *
+     * @param instant The {@link Instant} to convert. This must not be before the {@link Instant} for {@link #minEpochValue()},
+     *                    or after the {@link Instant} for {@link #maxEpochValue()}.
+     * @return The largest epoch value that is not after the given {@link Instant}.
+     */
+    abstract long floorEpochValue(Instant instant);
+
+    /**
+     * Returns whether or not an {@link Instant} can be converted to an epoch value without rounding.
+     *
+     * @param instant The {@link Instant} to check.
+     * @return {@code true} if the given {@link Instant} has no precision finer than this unit, or {@code false} otherwise.
+     */
+    abstract boolean isExactEpochValue(Instant instant);
+
+    boolean isSupported(long epochValue) {
+        return epochValue >= minEpochValue() && epochValue <= maxEpochValue();
+    }
+
+    /**
+     * Returns the epoch second of an epoch value, rounding down if needed. Unlike {@link #toInstant(long)} this does not create any objects.
+     *
+     * @param epochValue The epoch value, in this unit.
+     * @return The epoch second of the given epoch value.
+     */
+    long epochSecond(long epochValue) {
+        return Math.floorDiv(epochValue, unitsPerSecond);
+    }
+
+    /**
+     * Returns the nano of second of an epoch value. Unlike {@link #toInstant(long)} this does not create any objects.
+     *
+     * @param epochValue The epoch value, in this unit.
+     * @return The nano of second of the given epoch value.
+     */
+    int nano(long epochValue) {
+        return (int) (Math.floorMod(epochValue, unitsPerSecond) * nanosPerUnit);
+    }
+}
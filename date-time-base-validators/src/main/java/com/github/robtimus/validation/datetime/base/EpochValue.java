@@ -0,0 +1,113 @@
+/*
+ * EpochValue.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.validation.datetime.base;
+
+import java.lang.annotation.Annotation;
+import jakarta.validation.Payload;
+
+/**
+ * Payload types that define the unit of epoch values.
+ * <p>
+ * Constraint annotations that support {@link Long} validate values as epoch values, which are the number of units since the epoch of
+ * 1970-01-01T00:00:00Z. By default these are milliseconds, like the values returned by {@link System#currentTimeMillis()}. For other units,
+ * add one of the payload types of this class to the constraint annotation. For instance:
+ * <pre><code>
+ * &#64;After(moment = "2007-12-03T10:15:30.00Z", payload = EpochValue.Seconds.class)
+ * private long createdAt;
+ * </code></pre>
+ *
+ * @author Rob Spoor
+ */
+public final class EpochValue {
+
+    private EpochValue() {
+    }
+
+    /**
+     * Indicates that epoch values are the number of seconds since the epoch.
+     *
+     * @author Rob Spoor
+     */
+    public interface Seconds extends Payload {
+        // marker interface
+    }
+
+    /**
+     * Indicates that epoch values are the number of milliseconds since the epoch. This is the default.
+     *
+     * @author Rob Spoor
+     */
+    public interface Milliseconds extends Payload {
+        // marker interface
+    }
+
+    /**
+     * Indicates that epoch values are the number of microseconds since the epoch.
+     *
+     * @author Rob Spoor
+     */
+    public interface Microseconds extends Payload {
+        // marker interface
+    }
+
+    /**
+     * Indicates that epoch values are the number of nanoseconds since the epoch.
+     *
+     * @author Rob Spoor
+     */
+    public interface Nanoseconds extends Payload {
+        // marker interface
+    }
+
+    /**
+     * Returns the unit of epoch values for a constraint annotation.
+     *
+     * @param constraint The constraint annotation.
+     * @return The unit of epoch values defined by the payload of the given constraint annotation, or {@link EpochUnit#MILLISECONDS} if its payload
+     *         does not define a unit.
+     * @throws IllegalStateException If the payload of the given constraint annotation defines more than one unit.
+     */
+    static EpochUnit unit(Annotation constraint) {
+        EpochUnit unit = null;
+        for (Class<?> payloadType : ConstraintPredicates.payload(constraint)) {
+            EpochUnit payloadUnit = unit(payloadType);
+            if (payloadUnit != null && unit != null && payloadUnit != unit) {
+                throw new IllegalStateException(String.format("payload should define at most one epoch unit, defines %s and %s", //$NON-NLS-1$
+                        unit, payloadUnit));
+            }
+            unit = payloadUnit != null ? payloadUnit : unit;
+        }
+        return unit != null ? unit : EpochUnit.MILLISECONDS;
+    }
+
+    private static EpochUnit unit(Class<?> payloadType) {
+        if (Seconds.class.isAssignableFrom(payloadType)) {
+            return EpochUnit.SECONDS;
+        }
+        if (Milliseconds.class.isAssignableFrom(payloadType)) {
+            return EpochUnit.MILLISECONDS;
+        }
+        if (Microseconds.class.isAssignableFrom(payloadType)) {
+            return EpochUnit.MICROSECONDS;
+        }
+        if (Nanoseconds.class.isAssignableFrom(payloadType)) {
+            return EpochUnit.NANOSECONDS;
+        }
+        return null;
+    }
+}
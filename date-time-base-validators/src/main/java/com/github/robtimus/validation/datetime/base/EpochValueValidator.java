@@ -0,0 +1,321 @@
+/*
+ * EpochValueValidator.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.validation.datetime.base;
+
+import static com.github.robtimus.validation.datetime.base.LocalFields.monthOfYear;
+import static com.github.robtimus.validation.datetime.base.LocalFields.nanoOfDay;
+import java.lang.annotation.Annotation;
+import java.time.Clock;
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.Month;
+import java.time.Year;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.time.temporal.ChronoField;
+import java.time.temporal.TemporalField;
+import java.util.Collections;
+import java.util.Objects;
+import java.util.function.BiPredicate;
+import java.util.function.LongFunction;
+import java.util.function.LongPredicate;
+import jakarta.validation.ClockProvider;
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+import com.github.robtimus.validation.datetime.base.FieldValidator.FieldPredicate;
+import com.github.robtimus.validation.datetime.base.MomentValueValidator.MomentPredicate;
+import com.github.robtimus.validation.datetime.base.PartValidator.PartPredicate;
+import com.github.robtimus.validation.datetime.base.PhaseTimings.Phase;
+
+/**
+ * The base for all {@link Long} validators. These validate epoch values, and delegate to {@link Instant} validators. The unit of the epoch values
+ * is defined by the payload of the constraint annotation, using one of the payload types of {@link EpochValue}; by default epoch values are
+ * milliseconds. Epoch values that exceed the minimum or maximum {@link Instant} are invalid.
+ * <p>
+ * Epoch values are not converted to {@link Instant}s if the delegate validator validates values against a moment in time, like {@code After} or
+ * {@code MinBefore}, or only validates a {@link LocalDate}, {@link LocalTime}, {@link YearMonth}, {@link Year}, {@link Month} or {@link DayOfWeek}
+ * part, or a single field like the hour or the day of the month. For fixed moments, epoch values are compared to bounds that are calculated once.
+ * Otherwise the fields are calculated from the epoch value using arithmetic only, applying the offset of the zone id from a precomputed table of zone
+ * offset transitions. Only epoch values that are invalid are converted, so that the delegate validator can report the constraint violation. Other
+ * constraints, and constraints for which {@link PhaseTimings} are recorded, convert all epoch values.
+ *
+ * @author Rob Spoor
+ * @param <A> The constraint annotation type.
+ */
+public abstract class EpochValueValidator<A extends Annotation> implements ConstraintValidator<A, Long> {
+
+    private static final ClockProvider SYSTEM_CLOCK_PROVIDER = Clock::systemUTC;
+
+    private final ConstraintValidator<A, ? super Instant> validator;
+    private final LongPredicate nanoOfDayPredicate;
+
+    private EpochUnit unit;
+    private PhaseTimings.Recorder recorder;
+    private Check check;
+
+    /**
+     * Creates a new validator that delegates to an {@link Instant} validator.
+     *
+     * @param instantValidator The validator to delegate to.
+     * @throws NullPointerException If the given validator is {@code null}.
+     */
+    protected EpochValueValidator(ConstraintValidator<A, ? super Instant> instantValidator) {
+        validator = Objects.requireNonNull(instantValidator);
+        nanoOfDayPredicate = null;
+    }
+
+    /**
+     * Creates a new validator that only validates the time of day, in UTC.
+     *
+     * @param nanoOfDayPredicate A predicate that determines whether or not a nano of day is valid.
+     * @throws NullPointerException If the given predicate is {@code null}.
+     */
+    protected EpochValueValidator(LongPredicate nanoOfDayPredicate) {
+        validator = null;
+        this.nanoOfDayPredicate = Objects.requireNonNull(nanoOfDayPredicate);
+    }
+
+    @Override
+    public void initialize(A constraintAnnotation) {
+        unit = EpochValue.unit(constraintAnnotation);
+        PhaseTimings.initialize(constraintAnnotation, getClass(), r -> {
+            recorder = r;
+            if (validator != null) {
+                validator.initialize(constraintAnnotation);
+                check = r == null ? check() : null;
+            }
+        });
+    }
+
+    @Override
+    public boolean isValid(Long value, ConstraintValidatorContext context) {
+        if (value == null) {
+            return true;
+        }
+
+        long epochValue = value;
+        if (recorder != null) {
+            return isValidTimed(epochValue, context);
+        }
+        if (!unit.isSupported(epochValue)) {
+            return false;
+        }
+        if (nanoOfDayPredicate != null) {
+            return nanoOfDayPredicate.test(nanoOfDay(unit.epochSecond(epochValue), unit.nano(epochValue)));
+        }
+        // only convert the value if the check fails, so the delegate validator can report the constraint violation
+        return check != null && check.test(epochValue, context.getClockProvider())
+                || validator.isValid(unit.toInstant(epochValue), context);
+    }
+
+    private boolean isValidTimed(long epochValue, ConstraintValidatorContext context) {
+        long start = System.nanoTime();
+        if (!unit.isSupported(epochValue)) {
+            recorder.record(Phase.CONVERSION, start);
+            return false;
+        }
+        if (nanoOfDayPredicate != null) {
+            long nanoOfDay = nanoOfDay(unit.epochSecond(epochValue), unit.nano(epochValue));
+            start = recorder.record(Phase.CONVERSION, start);
+            boolean result = nanoOfDayPredicate.test(nanoOfDay);
+            recorder.record(Phase.COMPARISON, start);
+            return result;
+        }
+        Instant instant = unit.toInstant(epochValue);
+        recorder.record(Phase.CONVERSION, start);
+        return validator.isValid(instant, context);
+    }
+
+    private Check check() {
+        BiPredicate<?, ClockProvider> predicate = validator instanceof BaseValidator<?, ?> ? ((BaseValidator<?, ?>) validator).predicate() : null;
+        if (predicate instanceof MomentPredicate<?>) {
+            return momentCheck((MomentPredicate<?>) predicate);
+        }
+        if (predicate instanceof PartPredicate<?, ?>) {
+            return partCheck((PartPredicate<?, ?>) predicate);
+        }
+        if (predicate instanceof FieldPredicate<?>) {
+            return fieldCheck((FieldPredicate<?>) predicate);
+        }
+        return null;
+    }
+
+    private Check momentCheck(MomentPredicate<?> predicate) {
+        if (!predicate.isNow()) {
+            EpochRange range = EpochRange.forValidators(Collections.<ConstraintValidator<?, ? super Instant>>singletonList(validator), unit,
+                    SYSTEM_CLOCK_PROVIDER);
+            return range == null ? null : new RangeCheck(range);
+        }
+        PrimitiveComparison comparison = PrimitiveComparison.of(predicate, Instant.class);
+        return comparison == null ? null : new ComparisonCheck(unit, null, comparison);
+    }
+
+    private Check partCheck(PartPredicate<?, ?> predicate) {
+        // the part type is declared by the validator, as the type of its moment is only known for moment predicates
+        Class<?> partType = PartValidator.partType(validator.getClass());
+        ZoneOffsets zone = zone(predicate.zoneId());
+        BiPredicate<?, ClockProvider> predicateOfPart = predicate.partPredicate();
+        if (partType == DayOfWeek.class) {
+            @SuppressWarnings("unchecked")
+            BiPredicate<DayOfWeek, ClockProvider> dayOfWeekPredicate = (BiPredicate<DayOfWeek, ClockProvider>) predicateOfPart;
+            return new PartCheck<>(unit, zone, LocalFields::dayOfWeek, dayOfWeekPredicate);
+        }
+        if (partType == Month.class) {
+            @SuppressWarnings("unchecked")
+            BiPredicate<Month, ClockProvider> monthPredicate = (BiPredicate<Month, ClockProvider>) predicateOfPart;
+            return new PartCheck<>(unit, zone, localSecond -> Month.of(monthOfYear(localSecond)), monthPredicate);
+        }
+        PrimitiveComparison comparison = predicateOfPart instanceof MomentPredicate<?>
+                ? PrimitiveComparison.of((MomentPredicate<?>) predicateOfPart, partType)
+                : null;
+        return comparison != null && comparison.isLocal() ? new ComparisonCheck(unit, zone, comparison) : null;
+    }
+
+    private Check fieldCheck(FieldPredicate<?> predicate) {
+        TemporalField field = predicate.field();
+        return field instanceof ChronoField && LocalFields.isSupported((ChronoField) field)
+                ? new FieldCheck(unit, (ChronoField) field, zone(predicate.zoneId()), predicate)
+                : null;
+    }
+
+    private static ZoneOffsets zone(ZoneId zoneId) {
+        return zoneId != null ? ZoneOffsets.of(zoneId) : null;
+    }
+
+    /**
+     * Returns the local second of an epoch value. If the zone is not {@code null}, its offset is applied first.
+     */
+    private static long localSecond(EpochUnit unit, long epochValue, ZoneOffsets zone) {
+        long epochSecond = unit.epochSecond(epochValue);
+        return zone != null ? epochSecond + zone.offsetSeconds(epochSecond) : epochSecond;
+    }
+
+    /**
+     * A check that validates epoch values using only arithmetic.
+     *
+     * @author Rob Spoor
+     */
+    private abstract static class Check {
+
+        /**
+         * Returns whether or not an epoch value is valid.
+         *
+         * @param epochValue The epoch value to validate. This must not exceed the minimum or maximum {@link Instant}.
+         * @param clockProvider The {@link ClockProvider} to use to determine the current time.
+         * @return {@code true} if the epoch value is valid, or {@code false} if it is invalid.
+         */
+        abstract boolean test(long epochValue, ClockProvider clockProvider);
+    }
+
+    /**
+     * A check for values that are validated against a fixed moment in time.
+     *
+     * @author Rob Spoor
+     */
+    private static final class RangeCheck extends Check {
+
+        private final EpochRange range;
+
+        private RangeCheck(EpochRange range) {
+            this.range = range;
+        }
+
+        @Override
+        boolean test(long epochValue, ClockProvider clockProvider) {
+            return range.contains(epochValue);
+        }
+    }
+
+    /**
+     * A check for values or parts that are validated against a moment in time.
+     *
+     * @author Rob Spoor
+     */
+    private static final class ComparisonCheck extends Check {
+
+        private final EpochUnit unit;
+        private final ZoneOffsets zone;
+        private final PrimitiveComparison comparison;
+
+        private ComparisonCheck(EpochUnit unit, ZoneOffsets zone, PrimitiveComparison comparison) {
+            this.unit = unit;
+            this.zone = zone;
+            this.comparison = comparison;
+        }
+
+        @Override
+        boolean test(long epochValue, ClockProvider clockProvider) {
+            // without a zone, the local second is the epoch second
+            return comparison.isValid(localSecond(unit, epochValue, zone), unit.nano(epochValue), clockProvider);
+        }
+    }
+
+    /**
+     * A check for parts that are calculated from the local second, like {@link DayOfWeek} and {@link Month}.
+     *
+     * @author Rob Spoor
+     * @param <P> The part type.
+     */
+    private static final class PartCheck<P> extends Check {
+
+        private final EpochUnit unit;
+        private final ZoneOffsets zone;
+        private final LongFunction<P> partExtractor;
+        private final BiPredicate<P, ClockProvider> predicate;
+
+        private PartCheck(EpochUnit unit, ZoneOffsets zone, LongFunction<P> partExtractor, BiPredicate<P, ClockProvider> predicate) {
+            this.unit = unit;
+            this.zone = zone;
+            this.partExtractor = partExtractor;
+            this.predicate = predicate;
+        }
+
+        @Override
+        boolean test(long epochValue, ClockProvider clockProvider) {
+            return predicate.test(partExtractor.apply(localSecond(unit, epochValue, zone)), clockProvider);
+        }
+    }
+
+    /**
+     * A check for single fields.
+     *
+     * @author Rob Spoor
+     */
+    private static final class FieldCheck extends Check {
+
+        private final EpochUnit unit;
+        private final ChronoField field;
+        private final ZoneOffsets zone;
+        private final FieldPredicate<?> predicate;
+
+        private FieldCheck(EpochUnit unit, ChronoField field, ZoneOffsets zone, FieldPredicate<?> predicate) {
+            this.unit = unit;
+            this.field = field;
+            this.zone = zone;
+            this.predicate = predicate;
+        }
+
+        @Override
+        boolean test(long epochValue, ClockProvider clockProvider) {
+            int fieldValue = LocalFields.fieldValue(field, localSecond(unit, epochValue, zone), unit.nano(epochValue));
+            return predicate.isValidFieldValue(fieldValue, clockProvider);
+        }
+    }
+}
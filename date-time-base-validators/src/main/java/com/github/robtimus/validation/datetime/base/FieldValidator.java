@@ -17,9 +17,12 @@
 
 package com.github.robtimus.validation.datetime.base;
 
-import static com.github.robtimus.validation.datetime.base.ZoneIdUtils.extractZoneId;
+import static com.github.robtimus.validation.datetime.base.ZoneIdUtils.isInZone;
+import static com.github.robtimus.validation.datetime.base.ZoneIdUtils.isTrackedSystemZone;
 import static com.github.robtimus.validation.datetime.base.ZoneIdUtils.nonProvidedZoneId;
 import static com.github.robtimus.validation.datetime.base.ZoneIdUtils.systemOnlyZoneId;
+import static com.github.robtimus.validation.datetime.base.ZoneIdUtils.trackedSystemZone;
+import static com.github.robtimus.validation.datetime.base.ZoneIdUtils.toZoneId;
 import java.lang.annotation.Annotation;
 import java.time.Instant;
 import java.time.LocalDate;
@@ -35,6 +38,7 @@ import java.util.function.BiPredicate;
 import java.util.function.Function;
 import jakarta.validation.ClockProvider;
 import jakarta.validation.ConstraintValidatorContext;
+import com.github.robtimus.validation.datetime.base.PhaseTimings.Phase;
 
 /**
  * The base for all {@link TemporalAccessor} validators that validate only a specific field of the value.
@@ -112,17 +116,95 @@ public abstract class FieldValidator<A extends Annotation, T extends TemporalAcc
 
         return annotation -> {
             TemporalField field = fieldExtractor.apply(annotation);
-            ZoneId zoneId = extractZoneId(annotation, zoneIdExtractor);
+            String zoneIdText = zoneIdExtractor.apply(annotation);
+            ZoneId zoneId = toZoneId(zoneIdText);
+            boolean trackSystemZone = isTrackedSystemZone(zoneIdText);
             BiPredicate<Integer, ClockProvider> fieldPredicate = fieldPredicateExtractor.apply(annotation);
 
-            return (value, clockProvider) -> {
-                TemporalAccessor temporalAccessor = zoneId == null ? value : zoneIdApplier.apply(value, zoneId);
-                int fieldValue = temporalAccessor.get(field);
-                return fieldPredicate.test(fieldValue, clockProvider);
-            };
+            BiPredicate<T, ClockProvider> predicate = trackSystemZone
+                    // not a FieldPredicate, as its zone id may change between values
+                    ? (value, clockProvider) -> {
+                        int fieldValue = withZoneId(value, trackedSystemZone(), zoneIdApplier).get(field);
+                        return fieldPredicate.test(fieldValue, clockProvider);
+                    }
+                    : new FieldPredicate<>(field, zoneId, zoneIdApplier, fieldPredicate);
+
+            PhaseTimings.Recorder recorder = PhaseTimings.current();
+            return recorder != null
+                    ? timedFieldPredicate(predicate, field, zoneId, trackSystemZone, zoneIdApplier, fieldPredicate, recorder)
+                    : predicate;
         };
     }
 
+    /**
+     * A predicate that validates a single field of values.
+     * Unlike a lambda, this allows the field value and the predicate for field values to be retrieved separately, so the field values of many
+     * values can be extracted first and then be validated together.
+     *
+     * @author Rob Spoor
+     * @param <T> The type to validate.
+     */
+    static final class FieldPredicate<T extends TemporalAccessor> implements BiPredicate<T, ClockProvider> {
+
+        private final TemporalField field;
+        private final ZoneId zoneId;
+        private final BiFunction<T, ZoneId, TemporalAccessor> zoneIdApplier;
+        private final BiPredicate<Integer, ClockProvider> fieldPredicate;
+
+        private FieldPredicate(TemporalField field, ZoneId zoneId, BiFunction<T, ZoneId, TemporalAccessor> zoneIdApplier,
+                BiPredicate<Integer, ClockProvider> fieldPredicate) {
+
+            this.field = field;
+            this.zoneId = zoneId;
+            this.zoneIdApplier = zoneIdApplier;
+            this.fieldPredicate = fieldPredicate;
+        }
+
+        TemporalField field() {
+            return field;
+        }
+
+        ZoneId zoneId() {
+            return zoneId;
+        }
+
+        int fieldValue(T value) {
+            return withZoneId(value, zoneId, zoneIdApplier).get(field);
+        }
+
+        boolean isValidFieldValue(int fieldValue, ClockProvider clockProvider) {
+            return fieldPredicate.test(fieldValue, clockProvider);
+        }
+
+        @Override
+        public boolean test(T value, ClockProvider clockProvider) {
+            return fieldPredicate.test(fieldValue(value), clockProvider);
+        }
+    }
+
+    private static <T extends TemporalAccessor> BiPredicate<T, ClockProvider> timedFieldPredicate(BiPredicate<T, ClockProvider> predicate,
+            TemporalField field, ZoneId zoneId, boolean trackSystemZone, BiFunction<T, ZoneId, TemporalAccessor> zoneIdApplier,
+            BiPredicate<Integer, ClockProvider> fieldPredicate, PhaseTimings.Recorder recorder) {
+
+        BiFunction<T, ZoneId, TemporalAccessor> timedZoneIdApplier = recorder.zoneIdApplier(zoneIdApplier);
+        BiPredicate<Integer, ClockProvider> timedFieldPredicate = recorder.comparison(fieldPredicate);
+
+        return new PhaseTimings.TimedPredicate<>(predicate, (value, clockProvider) -> {
+            TemporalAccessor temporalAccessor = withZoneId(value, trackSystemZone ? trackedSystemZone() : zoneId, timedZoneIdApplier);
+            long start = System.nanoTime();
+            int fieldValue = temporalAccessor.get(field);
+            recorder.record(Phase.PART_EXTRACTION, start);
+            return timedFieldPredicate.test(fieldValue, clockProvider);
+        });
+    }
+
+    private static <T extends TemporalAccessor> TemporalAccessor withZoneId(T value, ZoneId zoneId,
+            BiFunction<T, ZoneId, TemporalAccessor> zoneIdApplier) {
+
+        // if the value is already in the zone, applying it would only create a copy with the same fields
+        return zoneId == null || isInZone(value, zoneId) ? value : zoneIdApplier.apply(value, zoneId);
+    }
+
     /**
      * The base for all {@link TemporalAccessor} validators that validate only a specific field of the value.
      * This sub type of {@link FieldValidator} can be used for types that don't use zones like {@link LocalDate}.
@@ -34,6 +34,18 @@ final class ISODuration implements TemporalAmount {
         this.duration = duration;
     }
 
+    static ISODuration of(Period period, Duration duration) {
+        return new ISODuration(period, duration);
+    }
+
+    Period period() {
+        return period;
+    }
+
+    Duration duration() {
+        return duration;
+    }
+
     @Override
     public long get(TemporalUnit unit) {
         throw new UnsupportedOperationException();
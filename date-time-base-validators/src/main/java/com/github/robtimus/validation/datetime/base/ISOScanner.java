@@ -0,0 +1,290 @@
+/*
+ * ISOScanner.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.validation.datetime.base;
+
+/**
+ * A scanner for ISO 8601 text values that extracts fields as primitives, without creating any objects.
+ * <p>
+ * The following forms are supported:
+ * <ul>
+ * <li>{@link #LOCAL_DATE}: {@code yyyy-MM-dd}.</li>
+ * <li>{@link #LOCAL_DATE_TIME}: a date followed by {@code T} and a time.</li>
+ * <li>{@link #OFFSET_DATE_TIME}: a date-time followed by {@code Z} or an offset like {@code +01:00} or {@code +01:00:00}.</li>
+ * <li>{@link #LOCAL_TIME}: {@code HH:mm}, {@code HH:mm:ss} or {@code HH:mm:ss.fraction}, with 1 to 9 fraction digits.</li>
+ * </ul>
+ * Years must have exactly 4 digits. Each form is a subset of what is supported by the matching {@link java.time.format.DateTimeFormatter ISO
+ * formatter}, so text that is accepted by this scanner can also be parsed using {@code LocalDate.parse}, {@code OffsetDateTime.parse} etc.
+ * <p>
+ * The field extraction methods do not validate the text; they should only be called for text for which {@link #form(CharSequence)} did not
+ * return {@link #MALFORMED}.
+ *
+ * @author Rob Spoor
+ */
+final class ISOScanner {
+
+    static final int MALFORMED = -1;
+    static final int LOCAL_DATE = 0;
+    static final int LOCAL_DATE_TIME = 1;
+    static final int OFFSET_DATE_TIME = 2;
+    static final int LOCAL_TIME = 3;
+
+    static final int FORM_COUNT = 4;
+
+    static final long NANOS_PER_SECOND = 1_000_000_000L;
+    static final int SECONDS_PER_DAY = 86_400;
+
+    private static final int SECONDS_PER_MINUTE = 60;
+    private static final int SECONDS_PER_HOUR = 3600;
+    private static final long DAYS_0000_TO_1970 = 719_528L;
+    private static final int MAX_FRACTION_DIGITS = 9;
+    private static final int MAX_OFFSET_HOURS = 18;
+
+    private static final int DATE_LENGTH = 10;
+    private static final int TIME_START = DATE_LENGTH + 1;
+    private static final int SHORT_OFFSET_LENGTH = 6;
+    private static final int LONG_OFFSET_LENGTH = 9;
+
+    private ISOScanner() {
+    }
+
+    /**
+     * Returns the form of a text value.
+     *
+     * @param text The text value to scan.
+     * @return The form of the given text value, or {@link #MALFORMED} if the text is not a valid value in any of the supported forms.
+     */
+    static int form(CharSequence text) {
+        int length = text.length();
+        if (length >= DATE_LENGTH && isDate(text)) {
+            if (length == DATE_LENGTH) {
+                return LOCAL_DATE;
+            }
+            if (text.charAt(DATE_LENGTH) != 'T') {
+                return MALFORMED;
+            }
+            int end = timeEnd(text, TIME_START, length);
+            if (end == -1) {
+                return MALFORMED;
+            }
+            if (end == length) {
+                return LOCAL_DATE_TIME;
+            }
+            return isOffset(text, end, length) ? OFFSET_DATE_TIME : MALFORMED;
+        }
+        return timeEnd(text, 0, length) == length ? LOCAL_TIME : MALFORMED;
+    }
+
+    /**
+     * Returns whether or not a text value is a time followed by {@code Z} or an offset, like {@code 10:15:30+01:00}.
+     * The nano of day and offset of such text values can be extracted using {@link #nanoOfDay(CharSequence, int)} with form {@link #LOCAL_TIME}
+     * and {@link #offsetSeconds(CharSequence)}.
+     *
+     * @param text The text value to scan.
+     * @return {@code true} if the given text value is a time with an offset, or {@code false} otherwise.
+     */
+    static boolean isOffsetTime(CharSequence text) {
+        int length = text.length();
+        int end = timeEnd(text, 0, length);
+        return end != -1 && end < length && isOffset(text, end, length);
+    }
+
+    /**
+     * Returns the epoch day of a text value in form {@link #LOCAL_DATE}, {@link #LOCAL_DATE_TIME} or {@link #OFFSET_DATE_TIME}.
+     *
+     * @param text The text value.
+     * @return The epoch day of the given text value.
+     */
+    static long epochDay(CharSequence text) {
+        int year = parseDigits(text, 0, 4);
+        int month = parseDigits(text, 5, 2);
+        int day = parseDigits(text, 8, 2);
+        return epochDay(year, month, day);
+    }
+
+    /**
+     * Returns the nano of day of a text value in form {@link #LOCAL_DATE_TIME}, {@link #OFFSET_DATE_TIME} or {@link #LOCAL_TIME}.
+     *
+     * @param text The text value.
+     * @param form The form of the text value.
+     * @return The nano of day of the given text value.
+     */
+    static long nanoOfDay(CharSequence text, int form) {
+        int start = form == LOCAL_TIME ? 0 : TIME_START;
+        int length = text.length();
+
+        int hour = parseDigits(text, start, 2);
+        int minute = parseDigits(text, start + 3, 2);
+        long secondOfDay = hour * SECONDS_PER_HOUR + minute * SECONDS_PER_MINUTE;
+        int nano = 0;
+
+        int index = start + 5;
+        if (index < length && text.charAt(index) == ':') {
+            secondOfDay += parseDigits(text, index + 1, 2);
+            index += 3;
+            if (index < length && text.charAt(index) == '.') {
+                int fractionStart = ++index;
+                while (index < length && isDigit(text.charAt(index))) {
+                    index++;
+                }
+                int digits = index - fractionStart;
+                nano = parseDigits(text, fractionStart, digits);
+                for (int i = digits; i < MAX_FRACTION_DIGITS; i++) {
+                    nano *= 10;
+                }
+            }
+        }
+        return secondOfDay * NANOS_PER_SECOND + nano;
+    }
+
+    /**
+     * Returns the offset in seconds of a text value in form {@link #OFFSET_DATE_TIME}.
+     *
+     * @param text The text value.
+     * @return The offset in seconds of the given text value.
+     */
+    static int offsetSeconds(CharSequence text) {
+        int length = text.length();
+        if (text.charAt(length - 1) == 'Z') {
+            return 0;
+        }
+        int start = isSign(text.charAt(length - SHORT_OFFSET_LENGTH)) ? length - SHORT_OFFSET_LENGTH : length - LONG_OFFSET_LENGTH;
+        int seconds = parseDigits(text, start + 1, 2) * SECONDS_PER_HOUR + parseDigits(text, start + 4, 2) * SECONDS_PER_MINUTE;
+        if (length - start == LONG_OFFSET_LENGTH) {
+            seconds += parseDigits(text, start + 7, 2);
+        }
+        return text.charAt(start) == '-' ? -seconds : seconds;
+    }
+
+    private static boolean isDate(CharSequence text) {
+        if (text.charAt(4) != '-' || text.charAt(7) != '-') {
+            return false;
+        }
+        int year = parseDigits(text, 0, 4);
+        int month = parseDigits(text, 5, 2);
+        int day = parseDigits(text, 8, 2);
+        return year >= 0 && month >= 1 && month <= 12 && day >= 1 && day <= lengthOfMonth(year, month);
+    }
+
+    private static int timeEnd(CharSequence text, int start, int length) {
+        // HH:mm
+        if (length - start < 5 || text.charAt(start + 2) != ':') {
+            return -1;
+        }
+        int hour = parseDigits(text, start, 2);
+        int minute = parseDigits(text, start + 3, 2);
+        if (hour < 0 || hour > 23 || minute < 0 || minute > 59) {
+            return -1;
+        }
+        int index = start + 5;
+        // :ss
+        if (index < length && text.charAt(index) == ':') {
+            int second = length - index < 3 ? -1 : parseDigits(text, index + 1, 2);
+            if (second < 0 || second > 59) {
+                return -1;
+            }
+            index += 3;
+            // .fraction
+            if (index < length && text.charAt(index) == '.') {
+                int fractionStart = ++index;
+                while (index < length && isDigit(text.charAt(index))) {
+                    index++;
+                }
+                int digits = index - fractionStart;
+                if (digits == 0 || digits > MAX_FRACTION_DIGITS) {
+                    return -1;
+                }
+            }
+        }
+        return index;
+    }
+
+    private static boolean isOffset(CharSequence text, int start, int length) {
+        int offsetLength = length - start;
+        if (offsetLength == 1) {
+            return text.charAt(start) == 'Z';
+        }
+        if (offsetLength != SHORT_OFFSET_LENGTH && offsetLength != LONG_OFFSET_LENGTH || !isSign(text.charAt(start))
+                || text.charAt(start + 3) != ':') {
+            return false;
+        }
+        // +HH:mm
+        int hours = parseDigits(text, start + 1, 2);
+        int minutes = parseDigits(text, start + 4, 2);
+        int seconds = 0;
+        if (offsetLength == LONG_OFFSET_LENGTH) {
+            // +HH:mm:ss
+            seconds = text.charAt(start + 6) == ':' ? parseDigits(text, start + 7, 2) : -1;
+        }
+        if (hours < 0 || hours > MAX_OFFSET_HOURS || minutes < 0 || minutes > 59 || seconds < 0 || seconds > 59) {
+            return false;
+        }
+        return hours < MAX_OFFSET_HOURS || minutes == 0 && seconds == 0;
+    }
+
+    private static boolean isSign(char c) {
+        return c == '+' || c == '-';
+    }
+
+    private static int parseDigits(CharSequence text, int start, int count) {
+        int value = 0;
+        for (int i = start, end = start + count; i < end; i++) {
+            char c = text.charAt(i);
+            if (!isDigit(c)) {
+                return -1;
+            }
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    static int lengthOfMonth(int year, int month) {
+        switch (month) {
+            case 2:
+                return isLeapYear(year) ? 29 : 28;
+            case 4:
+            case 6:
+            case 9:
+            case 11:
+                return 30;
+            default:
+                return 31;
+        }
+    }
+
+    private static boolean isLeapYear(int year) {
+        return (year & 3) == 0 && (year % 100 != 0 || year % 400 == 0);
+    }
+
+    // the same algorithm as LocalDate.toEpochDay, for non-negative years only
+    static long epochDay(int year, int month, int day) {
+        long total = 365L * year + (year + 3) / 4 - (year + 99) / 100 + (year + 399) / 400;
+        total += (367 * month - 362) / 12;
+        total += day - 1;
+        if (month > 2) {
+            total--;
+            if (!isLeapYear(year)) {
+                total--;
+            }
+        }
+        return total - DAYS_0000_TO_1970;
+    }
+}
@@ -0,0 +1,36 @@
+/*
+ * IgnoreMalformedText.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.validation.datetime.base;
+
+import jakarta.validation.Payload;
+
+/**
+ * A payload that specifies that {@link CharSequence} values that are not valid ISO 8601 text should be ignored by {@link CharSequenceValidator}s.
+ * By default such values are invalid. Example:
+ * <pre><code>
+ * &#64;NotAfter(moment = "now", payload = IgnoreMalformedText.class)
+ * private String timestamp;
+ * </code></pre>
+ * Ignoring malformed text is useful if the format is already validated using another constraint, like {@code Pattern}; otherwise the same value
+ * would be reported twice.
+ *
+ * @author Rob Spoor
+ */
+public interface IgnoreMalformedText extends Payload {
+    // marker interface
+}
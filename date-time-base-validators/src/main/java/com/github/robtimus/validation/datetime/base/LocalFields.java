@@ -0,0 +1,156 @@
+/*
+ * LocalFields.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.validation.datetime.base;
+
+import java.time.DayOfWeek;
+import java.time.temporal.ChronoField;
+
+/**
+ * Utility methods for extracting fields from local seconds, without creating any objects. A local second is the number of seconds since
+ * 1970-01-01T00:00:00 of a local date-time, so after any offset has been applied.
+ *
+ * @author Rob Spoor
+ */
+final class LocalFields {
+
+    static final long NANOS_PER_SECOND = 1_000_000_000L;
+    static final int SECONDS_PER_DAY = 86_400;
+
+    private static final int SECONDS_PER_MINUTE = 60;
+    private static final int SECONDS_PER_HOUR = 3600;
+
+    private static final int DAYS_PER_CYCLE = 146_097;
+    private static final long DAYS_0000_TO_1970 = DAYS_PER_CYCLE * 5L - (30L * 365L + 7L);
+
+    private LocalFields() {
+    }
+
+    static long epochDay(long localSecond) {
+        return Math.floorDiv(localSecond, SECONDS_PER_DAY);
+    }
+
+    static long secondOfDay(long localSecond) {
+        return Math.floorMod(localSecond, SECONDS_PER_DAY);
+    }
+
+    static long nanoOfDay(long localSecond, int nano) {
+        return secondOfDay(localSecond) * NANOS_PER_SECOND + nano;
+    }
+
+    static DayOfWeek dayOfWeek(long localSecond) {
+        // 1970-01-01 was a Thursday
+        return DayOfWeek.of(Math.floorMod(epochDay(localSecond) + 3, 7) + 1);
+    }
+
+    static int year(long localSecond) {
+        return (int) Math.floorDiv(yearMonthDay(localSecond), 10_000);
+    }
+
+    static int monthOfYear(long localSecond) {
+        return (int) Math.floorMod(yearMonthDay(localSecond), 10_000) / 100;
+    }
+
+    static int dayOfMonth(long localSecond) {
+        return (int) Math.floorMod(yearMonthDay(localSecond), 100);
+    }
+
+    /**
+     * Returns the year, month and day of a local second, as {@code year * 10000 + month * 100 + day}.
+     * This uses the same algorithm as {@link java.time.LocalDate#ofEpochDay(long)}.
+     */
+    private static long yearMonthDay(long localSecond) {
+        long zeroDay = epochDay(localSecond) + DAYS_0000_TO_1970;
+        // find the march-based year
+        zeroDay -= 60;
+        long adjust = 0;
+        if (zeroDay < 0) {
+            // adjust negative years to positive for calculation
+            long adjustCycles = (zeroDay + 1) / DAYS_PER_CYCLE - 1;
+            adjust = adjustCycles * 400;
+            zeroDay += -adjustCycles * DAYS_PER_CYCLE;
+        }
+        long yearEst = (400 * zeroDay + 591) / DAYS_PER_CYCLE;
+        long doyEst = zeroDay - (365 * yearEst + yearEst / 4 - yearEst / 100 + yearEst / 400);
+        if (doyEst < 0) {
+            // fix estimate
+            yearEst--;
+            doyEst = zeroDay - (365 * yearEst + yearEst / 4 - yearEst / 100 + yearEst / 400);
+        }
+        yearEst += adjust;
+        int marchDoy0 = (int) doyEst;
+
+        // convert march-based values back to january-based
+        int marchMonth0 = (marchDoy0 * 5 + 2) / 153;
+        int month = (marchMonth0 + 2) % 12 + 1;
+        int dom = marchDoy0 - (marchMonth0 * 306 + 5) / 10 + 1;
+        yearEst += marchMonth0 / 10;
+
+        return yearEst * 10_000 + month * 100 + dom;
+    }
+
+    /**
+     * Returns whether or not {@link #fieldValue(ChronoField, long, int)} supports a field.
+     *
+     * @param field The field to check.
+     * @return {@code true} if the given field is supported, or {@code false} otherwise.
+     */
+    static boolean isSupported(ChronoField field) {
+        switch (field) {
+            case NANO_OF_SECOND:
+            case SECOND_OF_MINUTE:
+            case MINUTE_OF_HOUR:
+            case HOUR_OF_DAY:
+            case DAY_OF_WEEK:
+            case DAY_OF_MONTH:
+            case MONTH_OF_YEAR:
+            case YEAR:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Returns the value of a field.
+     *
+     * @param field The field to return the value of. This must be {@link #isSupported(ChronoField) supported}.
+     * @param localSecond The local second.
+     * @param nano The nano of second.
+     * @return The value of the given field.
+     */
+    static int fieldValue(ChronoField field, long localSecond, int nano) {
+        switch (field) {
+            case NANO_OF_SECOND:
+                return nano;
+            case SECOND_OF_MINUTE:
+                return Math.floorMod(localSecond, SECONDS_PER_MINUTE);
+            case MINUTE_OF_HOUR:
+                return Math.floorMod(localSecond, SECONDS_PER_HOUR) / SECONDS_PER_MINUTE;
+            case HOUR_OF_DAY:
+                return (int) secondOfDay(localSecond) / SECONDS_PER_HOUR;
+            case DAY_OF_WEEK:
+                return dayOfWeek(localSecond).getValue();
+            case DAY_OF_MONTH:
+                return dayOfMonth(localSecond);
+            case MONTH_OF_YEAR:
+                return monthOfYear(localSecond);
+            default:
+                return year(localSecond);
+        }
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * MomentComparison.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.validation.datetime.base;
+
+import com.github.robtimus.validation.datetime.base.MomentValueValidator.MomentPredicate;
+
+/**
+ * The outcome of a {@link MomentPredicate} for values before, equal to and after its moment. Moment predicates that are
+ * {@link MomentPredicate#isComparison() comparisons} compare values to their moment only, so once these outcomes are known, values can be
+ * validated by comparing primitive representations of the value and the moment.
+ *
+ * @author Rob Spoor
+ */
+final class MomentComparison {
+
+    private final boolean validBefore;
+    private final boolean validEqual;
+    private final boolean validAfter;
+
+    private MomentComparison(boolean validBefore, boolean validEqual, boolean validAfter) {
+        this.validBefore = validBefore;
+        this.validEqual = validEqual;
+        this.validAfter = validAfter;
+    }
+
+    /**
+     * Determines the outcome of a {@link MomentPredicate} by testing it with values around a moment.
+     *
+     * @param <T> The type of moment.
+     * @param predicate The predicate to test.
+     * @param moment The moment to test the predicate with.
+     * @param before The largest possible value before the given moment, or {@code null} if there is no value before the given moment.
+     * @param after The smallest possible value after the given moment, or {@code null} if there is no value after the given moment.
+     * @return The outcome of the given predicate, or {@code null} if the predicate is not a {@link MomentPredicate#isComparison() comparison}.
+     *         Values that do not exist are considered to be invalid.
+     */
+    static <T> MomentComparison of(MomentPredicate<T> predicate, T moment, T before, T after) {
+        if (!predicate.isComparison()) {
+            return null;
+        }
+        return new MomentComparison(
+                before != null && predicate.isValid(before, moment),
+                predicate.isValid(moment, moment),
+                after != null && predicate.isValid(after, moment));
+    }
+
+    /**
+     * Returns whether or not values before the moment are valid.
+     *
+     * @return {@code true} if values before the moment are valid, or {@code false} otherwise.
+     */
+    boolean validBefore() {
+        return validBefore;
+    }
+
+    /**
+     * Returns whether or not values equal to the moment are valid.
+     *
+     * @return {@code true} if values equal to the moment are valid, or {@code false} otherwise.
+     */
+    boolean validEqual() {
+        return validEqual;
+    }
+
+    /**
+     * Returns whether or not values after the moment are valid.
+     *
+     * @return {@code true} if values after the moment are valid, or {@code false} otherwise.
+     */
+    boolean validAfter() {
+        return validAfter;
+    }
+
+    /**
+     * Returns whether or not all values are valid.
+     *
+     * @return {@code true} if all values are valid, or {@code false} otherwise.
+     */
+    boolean allValid() {
+        return validBefore && validEqual && validAfter;
+    }
+
+    /**
+     * Returns whether or not no value is valid.
+     *
+     * @return {@code true} if no value is valid, or {@code false} otherwise.
+     */
+    boolean noneValid() {
+        return !validBefore && !validEqual && !validAfter;
+    }
+
+    /**
+     * Returns whether or not the valid values are a single range. This is the case for all outcomes except the one where all values except the
+     * moment itself are valid.
+     *
+     * @return {@code true} if the valid values are a single, possibly empty, range, or {@code false} otherwise.
+     */
+    boolean isRange() {
+        return validEqual || !(validBefore && validAfter);
+    }
+
+    /**
+     * Returns whether or not a value is valid.
+     *
+     * @param comparison The result of comparing the value to the moment; negative if the value is before the moment, zero if it is equal to
+     *                       the moment, and positive if it is after the moment.
+     * @return {@code true} if a value with the given comparison result is valid, or {@code false} otherwise.
+     */
+    boolean isValid(int comparison) {
+        if (comparison < 0) {
+            return validBefore;
+        }
+        return comparison == 0 ? validEqual : validAfter;
+    }
+}
@@ -0,0 +1,204 @@
+/*
+ * MomentParsers.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.validation.datetime.base;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.Month;
+import java.time.MonthDay;
+import java.time.OffsetDateTime;
+import java.time.OffsetTime;
+import java.time.Year;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Parsers for the moments of constraint annotations. These can be used as moment parser for {@link MomentValueValidator} and
+ * {@link MomentPartValidator}, and parse the same text as the {@code parse} methods of the {@code java.time} classes.
+ * <p>
+ * Unlike those {@code parse} methods, these parsers do not use a {@link java.time.format.DateTimeFormatter} for the most common forms, like
+ * {@code 2007-12-03}, {@code 2007-12-03T10:15:30} and {@code 2007-12-03T10:15:30+01:00} with 4-digit years. Other text, like text with a zone
+ * id or a year with more than 4 digits, is parsed using the {@code parse} method of the matching class. In addition, parsed moments are cached,
+ * so constraint annotations that use the same moment do not need to parse it again. The cache is available in {@link CacheStats} as
+ * {@code ParseCache}.
+ *
+ * @author Rob Spoor
+ */
+public final class MomentParsers {
+
+    /** A parser for {@link Instant} moments, like {@link Instant#parse(CharSequence)}. */
+    public static final Function<String, Instant> INSTANT = new Parser<>(Instant.class, MomentParsers::instant, Instant::parse);
+
+    /** A parser for {@link LocalDate} moments, like {@link LocalDate#parse(CharSequence)}. */
+    public static final Function<String, LocalDate> LOCAL_DATE = new Parser<>(LocalDate.class, MomentParsers::localDate, LocalDate::parse);
+
+    /** A parser for {@link LocalDateTime} moments, like {@link LocalDateTime#parse(CharSequence)}. */
+    public static final Function<String, LocalDateTime> LOCAL_DATE_TIME = new Parser<>(LocalDateTime.class, MomentParsers::localDateTime,
+            LocalDateTime::parse);
+
+    /** A parser for {@link LocalTime} moments, like {@link LocalTime#parse(CharSequence)}. */
+    public static final Function<String, LocalTime> LOCAL_TIME = new Parser<>(LocalTime.class, MomentParsers::localTime, LocalTime::parse);
+
+    /** A parser for {@link MonthDay} moments, like {@link MonthDay#parse(CharSequence)}. */
+    public static final Function<String, MonthDay> MONTH_DAY = new Parser<>(MonthDay.class, MomentParsers::monthDay, MonthDay::parse);
+
+    /** A parser for {@link OffsetDateTime} moments, like {@link OffsetDateTime#parse(CharSequence)}. */
+    public static final Function<String, OffsetDateTime> OFFSET_DATE_TIME = new Parser<>(OffsetDateTime.class, MomentParsers::offsetDateTime,
+            OffsetDateTime::parse);
+
+    /** A parser for {@link OffsetTime} moments, like {@link OffsetTime#parse(CharSequence)}. */
+    public static final Function<String, OffsetTime> OFFSET_TIME = new Parser<>(OffsetTime.class, MomentParsers::offsetTime, OffsetTime::parse);
+
+    /** A parser for {@link Year} moments, like {@link Year#parse(CharSequence)}. */
+    public static final Function<String, Year> YEAR = new Parser<>(Year.class, MomentParsers::year, Year::parse);
+
+    /** A parser for {@link YearMonth} moments, like {@link YearMonth#parse(CharSequence)}. */
+    public static final Function<String, YearMonth> YEAR_MONTH = new Parser<>(YearMonth.class, MomentParsers::yearMonth, YearMonth::parse);
+
+    /** A parser for {@link ZonedDateTime} moments, like {@link ZonedDateTime#parse(CharSequence)}. */
+    public static final Function<String, ZonedDateTime> ZONED_DATE_TIME = new Parser<>(ZonedDateTime.class, MomentParsers::zonedDateTime,
+            ZonedDateTime::parse);
+
+    private static final int YEAR_LENGTH = 4;
+    private static final int YEAR_MONTH_LENGTH = 7;
+    private static final int MONTH_DAY_LENGTH = 7;
+
+    private MomentParsers() {
+    }
+
+    // The following methods return null if the text is not in one of the forms that are parsed without a DateTimeFormatter
+
+    private static Instant instant(String text) {
+        // Instant.parse only supports offsets other than Z as of Java 12, and it requires seconds
+        if (ISOScanner.form(text) != ISOScanner.OFFSET_DATE_TIME || text.charAt(text.length() - 1) != 'Z' || text.charAt(16) != ':') {
+            return null;
+        }
+        long nanoOfDay = ISOScanner.nanoOfDay(text, ISOScanner.OFFSET_DATE_TIME);
+        long epochSecond = ISOScanner.epochDay(text) * ISOScanner.SECONDS_PER_DAY + nanoOfDay / ISOScanner.NANOS_PER_SECOND;
+        return Instant.ofEpochSecond(epochSecond, nanoOfDay % ISOScanner.NANOS_PER_SECOND);
+    }
+
+    private static LocalDate localDate(String text) {
+        return ISOScanner.form(text) == ISOScanner.LOCAL_DATE ? LocalDate.ofEpochDay(ISOScanner.epochDay(text)) : null;
+    }
+
+    private static LocalDateTime localDateTime(String text) {
+        return ISOScanner.form(text) == ISOScanner.LOCAL_DATE_TIME ? toLocalDateTime(text, ISOScanner.LOCAL_DATE_TIME) : null;
+    }
+
+    private static LocalTime localTime(String text) {
+        return ISOScanner.form(text) == ISOScanner.LOCAL_TIME ? LocalTime.ofNanoOfDay(ISOScanner.nanoOfDay(text, ISOScanner.LOCAL_TIME)) : null;
+    }
+
+    private static MonthDay monthDay(String text) {
+        if (text.length() != MONTH_DAY_LENGTH || text.charAt(0) != '-' || text.charAt(1) != '-' || text.charAt(4) != '-') {
+            return null;
+        }
+        int month = parseDigits(text, 2, 2);
+        int day = parseDigits(text, 5, 2);
+        return month >= 1 && month <= 12 && day >= 1 && day <= Month.of(month).maxLength() ? MonthDay.of(month, day) : null;
+    }
+
+    private static OffsetDateTime offsetDateTime(String text) {
+        return ISOScanner.form(text) == ISOScanner.OFFSET_DATE_TIME
+                ? OffsetDateTime.of(toLocalDateTime(text, ISOScanner.OFFSET_DATE_TIME), offset(text))
+                : null;
+    }
+
+    private static OffsetTime offsetTime(String text) {
+        return ISOScanner.isOffsetTime(text)
+                ? OffsetTime.of(LocalTime.ofNanoOfDay(ISOScanner.nanoOfDay(text, ISOScanner.LOCAL_TIME)), offset(text))
+                : null;
+    }
+
+    private static Year year(String text) {
+        int year = text.length() == YEAR_LENGTH ? parseDigits(text, 0, YEAR_LENGTH) : -1;
+        return year >= 0 ? Year.of(year) : null;
+    }
+
+    private static YearMonth yearMonth(String text) {
+        if (text.length() != YEAR_MONTH_LENGTH || text.charAt(YEAR_LENGTH) != '-') {
+            return null;
+        }
+        int year = parseDigits(text, 0, YEAR_LENGTH);
+        int month = parseDigits(text, YEAR_LENGTH + 1, 2);
+        return year >= 0 && month >= 1 && month <= 12 ? YearMonth.of(year, month) : null;
+    }
+
+    private static ZonedDateTime zonedDateTime(String text) {
+        // text with a zone id like [Europe/Paris] is not in form OFFSET_DATE_TIME
+        return ISOScanner.form(text) == ISOScanner.OFFSET_DATE_TIME
+                ? ZonedDateTime.of(toLocalDateTime(text, ISOScanner.OFFSET_DATE_TIME), offset(text))
+                : null;
+    }
+
+    private static LocalDateTime toLocalDateTime(String text, int form) {
+        return LocalDateTime.of(LocalDate.ofEpochDay(ISOScanner.epochDay(text)), LocalTime.ofNanoOfDay(ISOScanner.nanoOfDay(text, form)));
+    }
+
+    private static ZoneOffset offset(String text) {
+        return ZoneOffset.ofTotalSeconds(ISOScanner.offsetSeconds(text));
+    }
+
+    private static int parseDigits(String text, int start, int count) {
+        int value = 0;
+        for (int i = start, end = start + count; i < end; i++) {
+            char c = text.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
+
+    /**
+     * A cached parser for moments of a specific type.
+     *
+     * @author Rob Spoor
+     * @param <T> The type of moment.
+     */
+    private static final class Parser<T> implements Function<String, T> {
+
+        private final Class<T> type;
+        private final Function<String, T> fastParser;
+        private final Function<String, T> parser;
+
+        private Parser(Class<T> type, Function<String, T> fastParser, Function<String, T> parser) {
+            this.type = type;
+            this.fastParser = fastParser;
+            this.parser = parser;
+        }
+
+        @Override
+        public T apply(String text) {
+            Objects.requireNonNull(text);
+            return ParseCache.get(type, text, this::parse);
+        }
+
+        private T parse(String text) {
+            T result = fastParser.apply(text);
+            return result != null ? result : parser.apply(text);
+        }
+    }
+}
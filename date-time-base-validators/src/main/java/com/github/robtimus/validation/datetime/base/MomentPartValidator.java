@@ -249,7 +249,8 @@ public abstract class MomentPartValidator<A extends Annotation, T extends Tempor
                 Function<ZonedDateTime, P> partExtractor,
                 BiPredicate<P, P> validPredicate) {
 
-            super(momentExtractor, momentParser, momentCreator, nonProvidedZoneId(zoneIdExtractor), partExtractor(partExtractor), validPredicate);
+            super(momentExtractor, momentParser, momentCreator, nonProvidedZoneId(zoneIdExtractor), instantPartExtractor(partExtractor),
+                    validPredicate);
         }
 
         /**
@@ -272,13 +273,7 @@ public abstract class MomentPartValidator<A extends Annotation, T extends Tempor
                 BiPredicate<P, P> validPredicate) {
 
             super(momentExtractor, momentParser, momentCreator, durationExtractor, durationApplier, nonProvidedZoneId(zoneIdExtractor),
-                    partExtractor(partExtractor), validPredicate);
-        }
-
-        private static <P> BiFunction<Instant, ZoneId, P> partExtractor(Function<ZonedDateTime, P> partExtractor) {
-            Objects.requireNonNull(partExtractor);
-
-            return (t, z) -> partExtractor.apply(t.atZone(z));
+                    instantPartExtractor(partExtractor), validPredicate);
         }
     }
 
@@ -26,6 +26,7 @@ import java.util.function.BiFunction;
 import java.util.function.BiPredicate;
 import java.util.function.Function;
 import jakarta.validation.ClockProvider;
+import com.github.robtimus.validation.datetime.base.PhaseTimings.Phase;
 
 /**
  * The base for all {@link TemporalAccessor} validators that validate the entire value against a specific moment in time.
@@ -83,14 +84,31 @@ public abstract class MomentValueValidator<A extends Annotation, T extends Tempo
 
         return annotation -> {
             T moment = extractMoment(annotation, momentExtractor, momentParser);
+            MomentPredicate<T> predicate = new MomentPredicate<>(moment, momentCreator, null, null, validPredicate);
 
-            return (value, clockProvider) -> {
-                T temporalAccessor = moment != null ? moment : momentCreator.apply(clockProvider.getClock());
-                return validPredicate.test(value, temporalAccessor);
-            };
+            PhaseTimings.Recorder recorder = PhaseTimings.current();
+            return recorder != null
+                    ? timedMomentPredicate(predicate, moment, momentCreator, validPredicate, recorder)
+                    : predicate;
         };
     }
 
+    private static <T> BiPredicate<T, ClockProvider> timedMomentPredicate(MomentPredicate<T> predicate, T moment, Function<Clock, T> momentCreator,
+            BiPredicate<T, T> validPredicate, PhaseTimings.Recorder recorder) {
+
+        return new PhaseTimings.TimedPredicate<>(predicate, (value, clockProvider) -> {
+            long start = System.nanoTime();
+            T temporalAccessor = moment;
+            if (temporalAccessor == null) {
+                temporalAccessor = momentCreator.apply(clockProvider.getClock());
+                start = recorder.record(Phase.NOW, start);
+            }
+            boolean result = validPredicate.test(value, temporalAccessor);
+            recorder.record(Phase.COMPARISON, start);
+            return result;
+        });
+    }
+
     static <A, T> Function<A, BiPredicate<T, ClockProvider>> momentPredicate(
             Function<A, String> momentExtractor, Function<String, T> momentParser, Function<Clock, T> momentCreator,
             Function<A, String> durationExtractor, BiFunction<T, TemporalAmount, T> durationApplier,
@@ -106,20 +124,39 @@ public abstract class MomentValueValidator<A extends Annotation, T extends Tempo
         return annotation -> {
             T moment = extractMoment(annotation, momentExtractor, momentParser);
             TemporalAmount duration = extractDuration(annotation, momentCreator, durationExtractor, durationApplier);
+            MomentPredicate<T> predicate = new MomentPredicate<>(moment, momentCreator, duration, durationApplier, validPredicate);
 
-            return (value, clockProvider) -> {
-                T temporalAccessor = moment != null ? moment : momentCreator.apply(clockProvider.getClock());
-                temporalAccessor = durationApplier.apply(temporalAccessor, duration);
-                return validPredicate.test(value, temporalAccessor);
-            };
+            PhaseTimings.Recorder recorder = PhaseTimings.current();
+            return recorder != null
+                    ? timedMomentPredicate(predicate, moment, momentCreator, duration, durationApplier, validPredicate, recorder)
+                    : predicate;
         };
     }
 
+    private static <T> BiPredicate<T, ClockProvider> timedMomentPredicate(MomentPredicate<T> predicate, T moment, Function<Clock, T> momentCreator,
+            TemporalAmount duration, BiFunction<T, TemporalAmount, T> durationApplier,
+            BiPredicate<T, T> validPredicate, PhaseTimings.Recorder recorder) {
+
+        return new PhaseTimings.TimedPredicate<>(predicate, (value, clockProvider) -> {
+            long start = System.nanoTime();
+            T temporalAccessor = moment;
+            if (temporalAccessor == null) {
+                temporalAccessor = momentCreator.apply(clockProvider.getClock());
+                start = recorder.record(Phase.NOW, start);
+            }
+            temporalAccessor = durationApplier.apply(temporalAccessor, duration);
+            start = recorder.record(Phase.DURATION_APPLICATION, start);
+            boolean result = validPredicate.test(value, temporalAccessor);
+            recorder.record(Phase.COMPARISON, start);
+            return result;
+        });
+    }
+
     private static <A, T> T extractMoment(A annotation,
             Function<A, String> momentExtractor, Function<String, T> momentParser) {
 
         String text = momentExtractor.apply(annotation);
-        return NOW.equals(text) ? null : momentParser.apply(text);
+        return NOW.equals(text) ? null : PlanSnapshot.moment(text, momentParser);
     }
 
     private static <A, T> TemporalAmount extractDuration(A annotation,
@@ -127,9 +164,83 @@ public abstract class MomentValueValidator<A extends Annotation, T extends Tempo
             Function<A, String> durationExtractor, BiFunction<T, TemporalAmount, T> durationApplier) {
 
         String text = durationExtractor.apply(annotation);
-        TemporalAmount duration = ISODuration.parse(text);
-        // apply the duration to validate it
-        durationApplier.apply(momentCreator.apply(Clock.systemUTC()), duration);
-        return duration;
+        return PlanSnapshot.duration(text, t -> {
+            TemporalAmount duration = ParseCache.get(TemporalAmount.class, t, ISODuration::parse);
+            // apply the duration to validate it
+            durationApplier.apply(momentCreator.apply(Clock.systemUTC()), duration);
+            return duration;
+        });
+    }
+
+    /**
+     * A predicate that validates values against a moment, optionally with a duration applied to it.
+     * Unlike a lambda, this allows the moment and predicate to be retrieved, so the predicate can be turned into a range of valid values.
+     *
+     * @author Rob Spoor
+     * @param <T> The type to validate.
+     */
+    static final class MomentPredicate<T> implements BiPredicate<T, ClockProvider> {
+
+        private final T moment;
+        private final Function<Clock, T> momentCreator;
+        private final TemporalAmount duration;
+        private final BiFunction<T, TemporalAmount, T> durationApplier;
+        private final BiPredicate<T, T> validPredicate;
+
+        private MomentPredicate(T moment, Function<Clock, T> momentCreator, TemporalAmount duration, BiFunction<T, TemporalAmount, T> durationApplier,
+                BiPredicate<T, T> validPredicate) {
+
+            this.moment = moment;
+            this.momentCreator = momentCreator;
+            this.duration = duration;
+            this.durationApplier = durationApplier;
+            this.validPredicate = validPredicate;
+        }
+
+        /**
+         * Returns whether or not the moment to validate against is the current date/time.
+         *
+         * @return {@code true} if the moment is {@code now}, or {@code false} if it is a fixed moment.
+         */
+        boolean isNow() {
+            return moment == null;
+        }
+
+        /**
+         * Returns the moment to validate against, with the duration applied if there is one.
+         *
+         * @param clockProvider The {@link ClockProvider} to use to create the current moment, if the moment is {@code now}.
+         * @return The moment to validate against.
+         */
+        T moment(ClockProvider clockProvider) {
+            T temporalAccessor = moment != null ? moment : momentCreator.apply(clockProvider.getClock());
+            return duration != null ? durationApplier.apply(temporalAccessor, duration) : temporalAccessor;
+        }
+
+        /**
+         * Returns whether or not the predicate only compares the order of values and the moment.
+         * Only then can values be validated by comparing them to the moment, or can the valid values be expressed as a range.
+         *
+         * @return {@code true} if the predicate is {@link BaseValidator#comparison(BiPredicate) marked as a comparison}, or {@code false} otherwise.
+         */
+        boolean isComparison() {
+            return BaseValidator.isComparison(validPredicate);
+        }
+
+        /**
+         * Returns whether or not a value is valid compared to a moment.
+         *
+         * @param value The value to test.
+         * @param momentValue The moment as returned by {@link #moment(ClockProvider)}.
+         * @return {@code true} if the value is valid compared to the given moment, or {@code false} otherwise.
+         */
+        boolean isValid(T value, T momentValue) {
+            return validPredicate.test(value, momentValue);
+        }
+
+        @Override
+        public boolean test(T value, ClockProvider clockProvider) {
+            return validPredicate.test(value, moment(clockProvider));
+        }
     }
 }
@@ -0,0 +1,118 @@
+/*
+ * ParseCache.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.validation.datetime.base;
+
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+/**
+ * A bounded intern table for values that are parsed from constraint annotation attributes, like moments, durations and zone ids, and for values
+ * that are derived from these, like {@link ZoneOffsets}. Many constraint annotations use the same values, so each distinct text is parsed only
+ * once per type.
+ * <p>
+ * Cached values must be immutable. Text that cannot be parsed is not cached.
+ * When the table is full, an arbitrary value is evicted to make room for a new one.
+ *
+ * @author Rob Spoor
+ */
+final class ParseCache {
+
+    static final String NAME = "ParseCache"; //$NON-NLS-1$
+
+    static final int MAX_SIZE = 4096;
+
+    private static final ConcurrentMap<Key, Object> VALUES = new ConcurrentHashMap<>();
+    private static final CacheStats.Counter COUNTER = CacheStats.register(NAME, VALUES::size);
+
+    private ParseCache() {
+    }
+
+    /**
+     * Returns the parsed value for a text.
+     *
+     * @param <T> The type of parsed value.
+     * @param type The type of parsed value. Together with the text this is used as the cache key.
+     * @param text The text to parse.
+     * @param parser The function to parse the text with if it has not been parsed before.
+     * @return The parsed value.
+     */
+    @SuppressWarnings("unchecked")
+    static <T> T get(Class<? super T> type, String text, Function<String, T> parser) {
+        Key key = new Key(type, text);
+        Object value = VALUES.get(key);
+        if (value != null) {
+            COUNTER.recordHit();
+            return (T) value;
+        }
+        COUNTER.recordMiss();
+
+        T parsed = parser.apply(text);
+        if (VALUES.size() >= MAX_SIZE) {
+            evict();
+        }
+        // if another thread parsed the same text concurrently, use its value so all callers get the same instance
+        Object existing = VALUES.putIfAbsent(key, parsed);
+        return existing != null ? (T) existing : parsed;
+    }
+
+    private static void evict() {
+        Iterator<Key> iterator = VALUES.keySet().iterator();
+        if (iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+            COUNTER.recordEviction();
+        }
+    }
+
+    // for testing purposes
+    static void clear() {
+        VALUES.clear();
+    }
+
+    private static final class Key {
+
+        private final Class<?> type;
+        private final String text;
+        private final int hashCode;
+
+        private Key(Class<?> type, String text) {
+            this.type = type;
+            this.text = text;
+            this.hashCode = 31 * type.hashCode() + text.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            Key other = (Key) o;
+            return type == other.type && text.equals(other.text);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+}
@@ -17,9 +17,12 @@
 
 package com.github.robtimus.validation.datetime.base;
 
-import static com.github.robtimus.validation.datetime.base.ZoneIdUtils.extractZoneId;
+import static com.github.robtimus.validation.datetime.base.ZoneIdUtils.isInZone;
+import static com.github.robtimus.validation.datetime.base.ZoneIdUtils.isTrackedSystemZone;
 import static com.github.robtimus.validation.datetime.base.ZoneIdUtils.nonProvidedZoneId;
 import static com.github.robtimus.validation.datetime.base.ZoneIdUtils.systemOnlyZoneId;
+import static com.github.robtimus.validation.datetime.base.ZoneIdUtils.trackedSystemZone;
+import static com.github.robtimus.validation.datetime.base.ZoneIdUtils.toZoneId;
 import java.lang.annotation.Annotation;
 import java.time.Instant;
 import java.time.LocalDate;
@@ -33,6 +36,7 @@ import java.util.function.BiPredicate;
 import java.util.function.Function;
 import jakarta.validation.ClockProvider;
 import jakarta.validation.ConstraintValidatorContext;
+import com.github.robtimus.validation.datetime.base.PhaseTimings.Phase;
 
 /**
  * The base for all {@link TemporalAccessor} validators that validate only a specific part of the value.
@@ -101,16 +105,82 @@ public abstract class PartValidator<A extends Annotation, T extends TemporalAcce
         Objects.requireNonNull(partExtractor);
 
         return annotation -> {
-            ZoneId zoneId = extractZoneId(annotation, zoneIdExtractor);
+            String zoneIdText = zoneIdExtractor.apply(annotation);
+            ZoneId zoneId = toZoneId(zoneIdText);
+            boolean trackSystemZone = isTrackedSystemZone(zoneIdText);
             BiPredicate<P, ClockProvider> partPredicate = partPredicateExtractor.apply(annotation);
+            // the part predicate is timed below, so if it is already timed only its untimed predicate needs to be inspected
+            BiPredicate<P, ClockProvider> untimedPartPredicate = PhaseTimings.untimed(partPredicate);
 
-            return (value, clockProvider) -> {
-                P part = partExtractor.apply(value, zoneId);
-                return partPredicate.test(part, clockProvider);
-            };
+            BiPredicate<T, ClockProvider> predicate = trackSystemZone
+                    // not a PartPredicate, as its zone id may change between values
+                    ? (value, clockProvider) -> untimedPartPredicate.test(partExtractor.apply(value, trackedSystemZone()), clockProvider)
+                    : new PartPredicate<>(zoneId, partExtractor, untimedPartPredicate);
+
+            PhaseTimings.Recorder recorder = PhaseTimings.current();
+            if (recorder != null) {
+                BiFunction<T, ZoneId, P> timedPartExtractor = recorder.partExtractor(partExtractor);
+                BiPredicate<P, ClockProvider> timedPartPredicate = recorder.comparison(partPredicate);
+
+                return new PhaseTimings.TimedPredicate<>(predicate, (value, clockProvider) -> {
+                    P part = timedPartExtractor.apply(value, trackSystemZone ? trackedSystemZone() : zoneId);
+                    return timedPartPredicate.test(part, clockProvider);
+                });
+            }
+            return predicate;
         };
     }
 
+    /**
+     * A predicate that validates a part of values.
+     * Unlike a lambda, this allows the part and the predicate for parts to be retrieved separately, so the parts of many values can be extracted
+     * first and then be validated together.
+     *
+     * @author Rob Spoor
+     * @param <T> The type to validate.
+     * @param <P> The type of part to validate.
+     */
+    static final class PartPredicate<T, P> implements BiPredicate<T, ClockProvider> {
+
+        private final ZoneId zoneId;
+        private final BiFunction<T, ZoneId, P> partExtractor;
+        private final BiPredicate<P, ClockProvider> partPredicate;
+
+        private PartPredicate(ZoneId zoneId, BiFunction<T, ZoneId, P> partExtractor, BiPredicate<P, ClockProvider> partPredicate) {
+            this.zoneId = zoneId;
+            this.partExtractor = partExtractor;
+            this.partPredicate = partPredicate;
+        }
+
+        ZoneId zoneId() {
+            return zoneId;
+        }
+
+        P part(T value) {
+            return partExtractor.apply(value, zoneId);
+        }
+
+        BiPredicate<P, ClockProvider> partPredicate() {
+            return partPredicate;
+        }
+
+        @Override
+        public boolean test(T value, ClockProvider clockProvider) {
+            return partPredicate.test(partExtractor.apply(value, zoneId), clockProvider);
+        }
+    }
+
+    /**
+     * Returns the type of part that a validator validates, as declared by its class.
+     *
+     * @param validatorType The validator type.
+     * @return The type of part that validators of the given type validate,
+     *         or {@link TemporalAccessor} if the given type does not declare the type of part.
+     */
+    static Class<?> partType(Class<?> validatorType) {
+        return ConstraintPredicates.typeArgument(validatorType, PartValidator.class, 2);
+    }
+
     static <T, P> BiFunction<T, ZoneId, P> partExtractor(Function<T, P> partExtractor,
             BiFunction<T, ZoneId, ZonedDateTime> zoneIdApplier, Function<ZonedDateTime, P> zonedDateTimePartExtractor) {
 
@@ -118,7 +188,60 @@ public abstract class PartValidator<A extends Annotation, T extends TemporalAcce
         Objects.requireNonNull(zoneIdApplier);
         Objects.requireNonNull(zonedDateTimePartExtractor);
 
-        return (t, z) -> z == null ? partExtractor.apply(t) : zonedDateTimePartExtractor.apply(zoneIdApplier.apply(t, z));
+        return new ZonedPartExtractor<>(partExtractor, zoneIdApplier, zonedDateTimePartExtractor);
+    }
+
+    static <P> BiFunction<Instant, ZoneId, P> instantPartExtractor(Function<ZonedDateTime, P> partExtractor) {
+        Objects.requireNonNull(partExtractor);
+
+        // The zone id is never null, because the zone id extractor is wrapped using nonProvidedZoneId
+        return new ZonedPartExtractor<>(null, Instant::atZone, partExtractor);
+    }
+
+    /**
+     * A part extractor that applies the zone id, if not {@code null} and the value is not already in that zone, before extracting the part.
+     * This is split in two so the zone application and part extraction can be timed separately.
+     *
+     * @author Rob Spoor
+     * @param <T> The type to extract the part from.
+     * @param <P> The type of part.
+     */
+    private static final class ZonedPartExtractor<T, P> implements PhaseTimings.TimeablePartExtractor<T, P> {
+
+        private final Function<T, P> partExtractor;
+        private final BiFunction<T, ZoneId, ZonedDateTime> zoneIdApplier;
+        private final Function<ZonedDateTime, P> zonedDateTimePartExtractor;
+
+        private ZonedPartExtractor(Function<T, P> partExtractor,
+                BiFunction<T, ZoneId, ZonedDateTime> zoneIdApplier, Function<ZonedDateTime, P> zonedDateTimePartExtractor) {
+
+            this.partExtractor = partExtractor;
+            this.zoneIdApplier = zoneIdApplier;
+            this.zonedDateTimePartExtractor = zonedDateTimePartExtractor;
+        }
+
+        @Override
+        public P apply(T t, ZoneId z) {
+            // if the value is already in the zone, applying it would only create a copy with the same part
+            return z == null || isInZone(t, z) ? partExtractor.apply(t) : zonedDateTimePartExtractor.apply(zoneIdApplier.apply(t, z));
+        }
+
+        @Override
+        public BiFunction<T, ZoneId, P> timed(PhaseTimings.Recorder recorder) {
+            return (t, z) -> {
+                long start = System.nanoTime();
+                if (z == null || isInZone(t, z)) {
+                    P part = partExtractor.apply(t);
+                    recorder.record(Phase.PART_EXTRACTION, start);
+                    return part;
+                }
+                ZonedDateTime zonedDateTime = zoneIdApplier.apply(t, z);
+                start = recorder.record(Phase.ZONE_APPLICATION, start);
+                P part = zonedDateTimePartExtractor.apply(zonedDateTime);
+                recorder.record(Phase.PART_EXTRACTION, start);
+                return part;
+            };
+        }
     }
 
     /**
@@ -182,13 +305,7 @@ public abstract class PartValidator<A extends Annotation, T extends TemporalAcce
                 Function<ZonedDateTime, P> partExtractor,
                 Function<A, BiPredicate<P, ClockProvider>> partPredicateExtractor) {
 
-            super(nonProvidedZoneId(zoneIdExtractor), partExtractor(partExtractor), partPredicateExtractor);
-        }
-
-        private static <P> BiFunction<Instant, ZoneId, P> partExtractor(Function<ZonedDateTime, P> partExtractor) {
-            Objects.requireNonNull(partExtractor);
-
-            return (t, z) -> partExtractor.apply(t.atZone(z));
+            super(nonProvidedZoneId(zoneIdExtractor), instantPartExtractor(partExtractor), partPredicateExtractor);
         }
     }
 
@@ -0,0 +1,459 @@
+/*
+ * PhaseTimings.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.validation.datetime.base;
+
+import java.lang.annotation.Annotation;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiFunction;
+import java.util.function.BiPredicate;
+import java.util.function.Consumer;
+import jakarta.validation.ClockProvider;
+
+/**
+ * A snapshot of the time spent in the different phases of validating values for a single constraint.
+ * <p>
+ * Timing is a diagnostic mode that is disabled by default. It can be enabled using {@link #enable()}, or by setting system property
+ * {@value #ENABLED_PROPERTY} to {@code true}. Timing only applies to validators that are initialized while it is enabled; validators that were
+ * initialized before are not affected, and validators that are initialized while it is disabled have no overhead at all. Note that validator
+ * factories usually initialize validators only once, the first time a constraint is validated.
+ * <p>
+ * The timings are collected per constraint, where a constraint is the combination of a constraint annotation (including its attributes) and
+ * the validator type that was initialized with it. Validating a constraint may not involve all phases; for instance, {@link Phase#NOW} is only
+ * used for constraints with a moment of {@code now}.
+ *
+ * @author Rob Spoor
+ */
+public final class PhaseTimings {
+
+    /**
+     * The name of the system property that can be set to {@code true} to enable timing at startup.
+     */
+    public static final String ENABLED_PROPERTY = "com.github.robtimus.validation.datetime.phaseTimings"; //$NON-NLS-1$
+
+    private static final ConcurrentMap<Key, Recorder> RECORDERS = new ConcurrentHashMap<>();
+
+    private static final ThreadLocal<Recorder> CURRENT = new ThreadLocal<>();
+
+    private static volatile boolean enabled = Boolean.getBoolean(ENABLED_PROPERTY);
+
+    private final Annotation constraint;
+    private final Class<?> validatorType;
+    private final Map<Phase, long[]> values;
+
+    private PhaseTimings(Annotation constraint, Class<?> validatorType, Map<Phase, long[]> values) {
+        this.constraint = constraint;
+        this.validatorType = validatorType;
+        this.values = values;
+    }
+
+    /**
+     * Returns the constraint annotation.
+     *
+     * @return The constraint annotation.
+     */
+    public Annotation constraint() {
+        return constraint;
+    }
+
+    /**
+     * Returns the type of the validator that was initialized with the constraint annotation.
+     *
+     * @return The type of the validator that was initialized with the constraint annotation.
+     */
+    public Class<?> validatorType() {
+        return validatorType;
+    }
+
+    /**
+     * Returns the number of times a phase was executed.
+     *
+     * @param phase The phase to return the number of executions of.
+     * @return The number of times the given phase was executed.
+     * @throws NullPointerException If the given phase is {@code null}.
+     */
+    public long count(Phase phase) {
+        return values.get(Objects.requireNonNull(phase))[0];
+    }
+
+    /**
+     * Returns the total time spent in a phase.
+     *
+     * @param phase The phase to return the total time of.
+     * @return The total time spent in the given phase, in nanoseconds.
+     * @throws NullPointerException If the given phase is {@code null}.
+     */
+    public long totalNanos(Phase phase) {
+        return values.get(Objects.requireNonNull(phase))[1];
+    }
+
+    /**
+     * Returns the maximum time spent in a single execution of a phase.
+     *
+     * @param phase The phase to return the maximum time of.
+     * @return The maximum time spent in a single execution of the given phase, in nanoseconds, or {@code 0} if the phase was never executed.
+     * @throws NullPointerException If the given phase is {@code null}.
+     */
+    public long maxNanos(Phase phase) {
+        return values.get(Objects.requireNonNull(phase))[2];
+    }
+
+    /**
+     * Returns the average time spent in a single execution of a phase.
+     *
+     * @param phase The phase to return the average time of.
+     * @return The average time spent in a single execution of the given phase, in nanoseconds, or {@code 0} if the phase was never executed.
+     * @throws NullPointerException If the given phase is {@code null}.
+     */
+    public double averageNanos(Phase phase) {
+        long count = count(phase);
+        return count == 0 ? 0 : (double) totalNanos(phase) / count;
+    }
+
+    @Override
+    @SuppressWarnings("nls")
+    public String toString() {
+        StringBuilder sb = new StringBuilder()
+                .append("PhaseTimings[constraint=").append(constraint)
+                .append(",validatorType=").append(validatorType.getName());
+        for (Phase phase : Phase.values()) {
+            long count = count(phase);
+            if (count > 0) {
+                sb.append(',').append(phase).append("=[count=").append(count)
+                        .append(",totalNanos=").append(totalNanos(phase))
+                        .append(",maxNanos=").append(maxNanos(phase))
+                        .append(']');
+            }
+        }
+        return sb.append(']').toString();
+    }
+
+    /**
+     * Enables timing for validators that are initialized after this method is called.
+     */
+    public static void enable() {
+        enabled = true;
+    }
+
+    /**
+     * Disables timing for validators that are initialized after this method is called.
+     * Validators that were initialized while timing was enabled keep recording their timings.
+     */
+    public static void disable() {
+        enabled = false;
+    }
+
+    /**
+     * Returns whether or not timing is enabled.
+     *
+     * @return {@code true} if timing is enabled, or {@code false} otherwise.
+     */
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Returns the timings of all constraints.
+     *
+     * @return A list with the current timings of all constraints, sorted by the total time spent in all phases, with the highest time first.
+     */
+    public static List<PhaseTimings> all() {
+        List<PhaseTimings> result = new ArrayList<>(RECORDERS.size());
+        for (Recorder recorder : RECORDERS.values()) {
+            result.add(recorder.snapshot());
+        }
+        result.sort(Comparator.comparingLong(PhaseTimings::totalNanosOfAllPhases).reversed());
+        return Collections.unmodifiableList(result);
+    }
+
+    /**
+     * Resets the timings of all constraints to zero.
+     */
+    public static void reset() {
+        for (Recorder recorder : RECORDERS.values()) {
+            recorder.reset();
+        }
+    }
+
+    private static long totalNanosOfAllPhases(PhaseTimings timings) {
+        long total = 0;
+        for (Phase phase : Phase.values()) {
+            total += timings.totalNanos(phase);
+        }
+        return total;
+    }
+
+    /**
+     * Runs the initialization of a validator. If timing is enabled and no other initialization is in progress for the current thread, the given
+     * initializer is called with a recorder for the given constraint and validator type. That recorder is also returned by {@link #current()}
+     * until the initializer is finished. If another initialization is in progress, the initializer is called with the recorder of that
+     * initialization, so the timings of validators that delegate to other validators are recorded for the outer validator.
+     *
+     * @param constraint The constraint annotation that is used to initialize the validator.
+     * @param validatorType The type of validator that is initialized.
+     * @param initializer The initializer to run. Its argument is {@code null} if timing is disabled.
+     */
+    static void initialize(Annotation constraint, Class<?> validatorType, Consumer<Recorder> initializer) {
+        Recorder current = CURRENT.get();
+        if (current != null || !enabled) {
+            initializer.accept(current);
+            return;
+        }
+        Recorder recorder = RECORDERS.computeIfAbsent(new Key(constraint, validatorType), Recorder::new);
+        CURRENT.set(recorder);
+        try {
+            initializer.accept(recorder);
+        } finally {
+            CURRENT.remove();
+        }
+    }
+
+    /**
+     * Returns the recorder for the current initialization.
+     *
+     * @return The recorder for the current initialization, or {@code null} if timing is disabled or there is no current initialization.
+     */
+    static Recorder current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * A phase of validating a value.
+     *
+     * @author Rob Spoor
+     */
+    public enum Phase {
+        /**
+         * Converting {@link java.util.Date} and {@link java.util.Calendar} values to their {@code java.time} counterparts,
+         * scanning or parsing {@link CharSequence} values, and converting epoch values to {@link java.time.Instant}s.
+         */
+        CONVERSION,
+        /** Applying a zone id to a value, for instance using {@link java.time.Instant#atZone(ZoneId)}. */
+        ZONE_APPLICATION,
+        /** Extracting the part or field to validate from a value. */
+        PART_EXTRACTION,
+        /** Retrieving the clock and creating the current moment, for constraints with a moment of {@code now}. */
+        NOW,
+        /** Applying the duration of a constraint to its moment. */
+        DURATION_APPLICATION,
+        /** Comparing the value or the extracted part or field with the constraint. */
+        COMPARISON,
+        /**
+         * Validating a value using a predicate that does not record the time spent in the other phases, for instance a predicate of a validator
+         * that extends {@link BaseValidator} or {@link ValueValidator} directly.
+         */
+        UNATTRIBUTED,
+    }
+
+    /**
+     * Returns the predicate that a timed predicate records the timings of.
+     *
+     * @param <T> The type of value to test.
+     * @param predicate The predicate to return the untimed predicate of.
+     * @return The predicate that the given predicate records the timings of if it is a {@link TimedPredicate}, or the given predicate otherwise.
+     */
+    @SuppressWarnings("unchecked")
+    static <T> BiPredicate<T, ClockProvider> untimed(BiPredicate<T, ClockProvider> predicate) {
+        return predicate instanceof TimedPredicate<?> ? ((TimedPredicate<T>) predicate).untimed : predicate;
+    }
+
+    /**
+     * A predicate that records its own timings. Predicates of this type are not timed again as {@link Phase#COMPARISON} or
+     * {@link Phase#UNATTRIBUTED}.
+     * <p>
+     * Each timed predicate wraps the predicate that it records the timings of. This predicate is returned by
+     * {@link PhaseTimings#untimed(BiPredicate)}, so code that depends on the type of predicate, like {@link EpochRange} or {@link TemporalBounds},
+     * is not affected by timing.
+     *
+     * @author Rob Spoor
+     * @param <T> The type of value to test.
+     */
+    static final class TimedPredicate<T> implements BiPredicate<T, ClockProvider> {
+
+        private final BiPredicate<T, ClockProvider> untimed;
+        private final BiPredicate<T, ClockProvider> timed;
+
+        /**
+         * Creates a new timed predicate.
+         *
+         * @param untimed The predicate to record the timings of.
+         * @param timed A predicate that returns the same results as the untimed predicate, and that records its timings.
+         */
+        TimedPredicate(BiPredicate<T, ClockProvider> untimed, BiPredicate<T, ClockProvider> timed) {
+            this.untimed = untimed;
+            this.timed = timed;
+        }
+
+        @Override
+        public boolean test(T value, ClockProvider clockProvider) {
+            return timed.test(value, clockProvider);
+        }
+    }
+
+    /**
+     * A part extractor that can split its timings over {@link Phase#ZONE_APPLICATION} and {@link Phase#PART_EXTRACTION}.
+     *
+     * @author Rob Spoor
+     * @param <T> The type of value to extract a part from.
+     * @param <P> The type of part.
+     */
+    interface TimeablePartExtractor<T, P> extends BiFunction<T, ZoneId, P> {
+
+        BiFunction<T, ZoneId, P> timed(Recorder recorder);
+    }
+
+    /**
+     * The mutable timings of a single constraint.
+     *
+     * @author Rob Spoor
+     */
+    static final class Recorder {
+
+        private final Key key;
+        private final LongAdder[] counts;
+        private final LongAdder[] totals;
+        private final LongAccumulator[] maximums;
+
+        private Recorder(Key key) {
+            this.key = key;
+
+            int phaseCount = Phase.values().length;
+            counts = new LongAdder[phaseCount];
+            totals = new LongAdder[phaseCount];
+            maximums = new LongAccumulator[phaseCount];
+            for (int i = 0; i < phaseCount; i++) {
+                counts[i] = new LongAdder();
+                totals[i] = new LongAdder();
+                maximums[i] = new LongAccumulator(Math::max, 0);
+            }
+        }
+
+        /**
+         * Records a single execution of a phase.
+         *
+         * @param phase The phase that was executed.
+         * @param startNanos The value of {@link System#nanoTime()} when the phase started.
+         * @return The value of {@link System#nanoTime()} when the phase ended; this can be used as start of the next phase.
+         */
+        long record(Phase phase, long startNanos) {
+            long endNanos = System.nanoTime();
+            long duration = endNanos - startNanos;
+            int index = phase.ordinal();
+            counts[index].increment();
+            totals[index].add(duration);
+            maximums[index].accumulate(duration);
+            return endNanos;
+        }
+
+        <T> BiPredicate<T, ClockProvider> comparison(BiPredicate<T, ClockProvider> predicate) {
+            return timed(predicate, Phase.COMPARISON);
+        }
+
+        <T> BiPredicate<T, ClockProvider> unattributed(BiPredicate<T, ClockProvider> predicate) {
+            return timed(predicate, Phase.UNATTRIBUTED);
+        }
+
+        private <T> BiPredicate<T, ClockProvider> timed(BiPredicate<T, ClockProvider> predicate, Phase phase) {
+            if (predicate instanceof TimedPredicate<?>) {
+                return predicate;
+            }
+            return new TimedPredicate<>(predicate, (value, clockProvider) -> {
+                long start = System.nanoTime();
+                boolean result = predicate.test(value, clockProvider);
+                record(phase, start);
+                return result;
+            });
+        }
+
+        <T, P> BiFunction<T, ZoneId, P> partExtractor(BiFunction<T, ZoneId, P> partExtractor) {
+            if (partExtractor instanceof TimeablePartExtractor<?, ?>) {
+                return ((TimeablePartExtractor<T, P>) partExtractor).timed(this);
+            }
+            return (value, zoneId) -> {
+                long start = System.nanoTime();
+                P part = partExtractor.apply(value, zoneId);
+                record(Phase.PART_EXTRACTION, start);
+                return part;
+            };
+        }
+
+        <T, R> BiFunction<T, ZoneId, R> zoneIdApplier(BiFunction<T, ZoneId, R> zoneIdApplier) {
+            return (value, zoneId) -> {
+                long start = System.nanoTime();
+                R result = zoneIdApplier.apply(value, zoneId);
+                record(Phase.ZONE_APPLICATION, start);
+                return result;
+            };
+        }
+
+        private PhaseTimings snapshot() {
+            Map<Phase, long[]> values = new EnumMap<>(Phase.class);
+            for (Phase phase : Phase.values()) {
+                int index = phase.ordinal();
+                values.put(phase, new long[] { counts[index].sum(), totals[index].sum(), maximums[index].get() });
+            }
+            return new PhaseTimings(key.constraint, key.validatorType, values);
+        }
+
+        private void reset() {
+            for (int i = 0; i < counts.length; i++) {
+                counts[i].reset();
+                totals[i].reset();
+                maximums[i].reset();
+            }
+        }
+    }
+
+    private static final class Key {
+
+        private final Annotation constraint;
+        private final Class<?> validatorType;
+
+        private Key(Annotation constraint, Class<?> validatorType) {
+            this.constraint = constraint;
+            this.validatorType = validatorType;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            Key other = (Key) o;
+            return constraint.equals(other.constraint) && validatorType == other.validatorType;
+        }
+
+        @Override
+        public int hashCode() {
+            return constraint.hashCode() ^ validatorType.hashCode();
+        }
+    }
+}
@@ -0,0 +1,779 @@
+/*
+ * PlanSnapshot.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.validation.datetime.base;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.AnnotatedArrayType;
+import java.lang.reflect.AnnotatedParameterizedType;
+import java.lang.reflect.AnnotatedType;
+import java.lang.reflect.Executable;
+import java.lang.reflect.Field;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.MonthDay;
+import java.time.OffsetDateTime;
+import java.time.OffsetTime;
+import java.time.Period;
+import java.time.Year;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.temporal.TemporalAmount;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.zip.CRC32;
+import jakarta.validation.Constraint;
+
+/**
+ * A snapshot of the parsed attributes of the date/time constraint annotations of a set of bean classes.
+ * <p>
+ * Initializing a validator parses the moment, duration and zone id of its constraint annotation. For applications with many constraint
+ * annotations, this can take a noticeable part of the startup time. A snapshot stores the parsed values, so it can be created once, for
+ * instance at build time, and be installed at startup. Validators that are initialized while a snapshot is installed take their parsed values
+ * from the snapshot instead of parsing them again:
+ * <pre><code>
+ * // at build time
+ * PlanSnapshot snapshot = PlanSnapshot.create(Arrays.asList(Order.class, Payment.class));
+ * try (OutputStream output = Files.newOutputStream(path)) {
+ *     snapshot.write(output);
+ * }
+ *
+ * // at startup, before any validator is initialized
+ * try (InputStream input = Files.newInputStream(path)) {
+ *     PlanSnapshot.read(input).install();
+ * }
+ * </code></pre>
+ * Parsed moments are stored as epoch values; durations and zone ids are stored in resolved form. Moment and duration values are stored per
+ * validator class. Values that are not part of the installed snapshot are parsed as usual.
+ * <p>
+ * A snapshot contains a checksum of the class file of each bean class it was created for, and of each validator class it contains values for.
+ * A snapshot is only installed if none of these class files has changed; otherwise it is outdated and should be created again.
+ * <p>
+ * Instances of this class are immutable and thread-safe.
+ *
+ * @author Rob Spoor
+ */
+public final class PlanSnapshot {
+
+    // "DTVP"
+    private static final int MAGIC = 0x44545650;
+    private static final int FORMAT_VERSION = 1;
+
+    private static final byte INSTANT = 1;
+    private static final byte LOCAL_DATE = 2;
+    private static final byte LOCAL_TIME = 3;
+    private static final byte LOCAL_DATE_TIME = 4;
+    private static final byte OFFSET_TIME = 5;
+    private static final byte OFFSET_DATE_TIME = 6;
+    private static final byte ZONED_DATE_TIME = 7;
+    private static final byte YEAR_MONTH = 8;
+    private static final byte YEAR = 9;
+    private static final byte MONTH_DAY = 10;
+
+    private static final byte PERIOD = 1;
+    private static final byte DURATION = 2;
+    private static final byte PERIOD_AND_DURATION = 3;
+
+    private static final byte UNSUPPORTED = 0;
+
+    private static final ThreadLocal<Class<?>> VALIDATOR_TYPE = new ThreadLocal<>();
+    private static final ThreadLocal<PlanSnapshot> RECORDING = new ThreadLocal<>();
+
+    private static volatile PlanSnapshot installed;
+
+    private final Map<String, Long> checksums;
+    private final Map<String, ZoneId> zoneIds;
+    private final Map<String, Map<String, TemporalAmount>> durations;
+    private final Map<String, Map<String, Object>> moments;
+
+    private PlanSnapshot(Map<String, Long> checksums, Map<String, ZoneId> zoneIds, Map<String, Map<String, TemporalAmount>> durations,
+            Map<String, Map<String, Object>> moments) {
+
+        this.checksums = checksums;
+        this.zoneIds = zoneIds;
+        this.durations = durations;
+        this.moments = moments;
+    }
+
+    /**
+     * Creates a snapshot for a collection of bean classes.
+     * <p>
+     * The constraint annotations of the bean classes, their superclasses and their interfaces are collected from all fields, methods,
+     * constructors, parameters and type arguments, for all groups. The validators of these constraint annotations are then initialized, and
+     * the values they parse are stored in the snapshot.
+     *
+     * @param beanTypes The bean classes.
+     * @return The created snapshot.
+     * @throws NullPointerException If the given collection is {@code null} or contains {@code null} elements.
+     * @throws IllegalArgumentException If the class file of one of the bean classes or validator classes cannot be read.
+     * @throws IllegalStateException If a validator of a constraint annotation could not be instantiated.
+     */
+    public static PlanSnapshot create(Collection<? extends Class<?>> beanTypes) {
+        PlanSnapshot snapshot = new PlanSnapshot(new HashMap<>(), new HashMap<>(), new HashMap<>(), new HashMap<>());
+
+        Set<Annotation> constraints = new LinkedHashSet<>();
+        Set<Class<?>> visited = new HashSet<>();
+        for (Class<?> beanType : beanTypes) {
+            snapshot.addChecksum(beanType);
+            collectConstraints(beanType, constraints, visited);
+        }
+
+        PlanSnapshot previous = RECORDING.get();
+        RECORDING.set(snapshot);
+        try {
+            for (Annotation constraint : constraints) {
+                ConstraintPredicates.initializeAll(constraint);
+            }
+        } finally {
+            restore(RECORDING, previous);
+        }
+        return snapshot;
+    }
+
+    /**
+     * Reads a snapshot that was written using {@link #write(OutputStream)}.
+     *
+     * @param input The input stream to read from. It will not be closed.
+     * @return The snapshot that was read.
+     * @throws NullPointerException If the given input stream is {@code null}.
+     * @throws IOException If an I/O error occurs, or if the input stream does not contain a snapshot in a supported format.
+     */
+    @SuppressWarnings("resource")
+    public static PlanSnapshot read(InputStream input) throws IOException {
+        DataInputStream data = new DataInputStream(new BufferedInputStream(input));
+        if (data.readInt() != MAGIC) {
+            throw new IOException("Not a plan snapshot"); //$NON-NLS-1$
+        }
+        int version = data.readInt();
+        if (version != FORMAT_VERSION) {
+            throw new IOException(String.format("Unsupported plan snapshot format version: %d", version)); //$NON-NLS-1$
+        }
+
+        int checksumCount = data.readInt();
+        Map<String, Long> checksums = new HashMap<>(capacity(checksumCount));
+        for (int i = 0; i < checksumCount; i++) {
+            checksums.put(data.readUTF(), data.readLong());
+        }
+
+        int zoneIdCount = data.readInt();
+        Map<String, ZoneId> zoneIds = new HashMap<>(capacity(zoneIdCount));
+        // the same zone is often used with different texts
+        Map<String, ZoneId> zoneIdsById = new HashMap<>();
+        for (int i = 0; i < zoneIdCount; i++) {
+            String text = data.readUTF();
+            zoneIds.put(text, zoneIdsById.computeIfAbsent(data.readUTF(), ZoneId::of));
+        }
+
+        Map<String, Map<String, TemporalAmount>> durations = readValues(data, PlanSnapshot::readDuration);
+        Map<String, Map<String, Object>> moments = readValues(data, PlanSnapshot::readMoment);
+
+        return new PlanSnapshot(checksums, zoneIds, durations, moments);
+    }
+
+    private static <V> Map<String, Map<String, V>> readValues(DataInput data, ValueReader<V> reader) throws IOException {
+        int validatorCount = data.readInt();
+        Map<String, Map<String, V>> result = new HashMap<>(capacity(validatorCount));
+        for (int i = 0; i < validatorCount; i++) {
+            String validatorType = data.readUTF();
+            int valueCount = data.readInt();
+            Map<String, V> values = new HashMap<>(capacity(valueCount));
+            for (int j = 0; j < valueCount; j++) {
+                values.put(data.readUTF(), reader.read(data));
+            }
+            result.put(validatorType, values);
+        }
+        return result;
+    }
+
+    private static int capacity(int size) {
+        return size * 4 / 3 + 1;
+    }
+
+    /**
+     * Writes this snapshot.
+     *
+     * @param output The output stream to write to. It will be flushed but not closed.
+     * @throws NullPointerException If the given output stream is {@code null}.
+     * @throws IOException If an I/O error occurs.
+     */
+    @SuppressWarnings("resource")
+    public void write(OutputStream output) throws IOException {
+        DataOutputStream data = new DataOutputStream(new BufferedOutputStream(output));
+        data.writeInt(MAGIC);
+        data.writeInt(FORMAT_VERSION);
+
+        // entries are written in sorted order, so the same snapshot always results in the same bytes
+        data.writeInt(checksums.size());
+        for (Map.Entry<String, Long> entry : new TreeMap<>(checksums).entrySet()) {
+            data.writeUTF(entry.getKey());
+            data.writeLong(entry.getValue());
+        }
+
+        data.writeInt(zoneIds.size());
+        for (Map.Entry<String, ZoneId> entry : new TreeMap<>(zoneIds).entrySet()) {
+            data.writeUTF(entry.getKey());
+            data.writeUTF(entry.getValue().getId());
+        }
+
+        writeValues(data, durations, PlanSnapshot::writeDuration);
+        writeValues(data, moments, PlanSnapshot::writeMoment);
+
+        data.flush();
+    }
+
+    private static <V> void writeValues(DataOutput data, Map<String, Map<String, V>> values, ValueWriter<V> writer) throws IOException {
+        data.writeInt(values.size());
+        for (Map.Entry<String, Map<String, V>> entry : new TreeMap<>(values).entrySet()) {
+            data.writeUTF(entry.getKey());
+            data.writeInt(entry.getValue().size());
+            for (Map.Entry<String, V> valueEntry : new TreeMap<>(entry.getValue()).entrySet()) {
+                data.writeUTF(valueEntry.getKey());
+                writer.write(data, valueEntry.getValue());
+            }
+        }
+    }
+
+    /**
+     * Returns the names of the bean classes and validator classes that this snapshot contains checksums for.
+     *
+     * @return An unmodifiable list with the names of the bean classes and validator classes that this snapshot contains checksums for.
+     */
+    public List<String> classNames() {
+        List<String> classNames = new ArrayList<>(checksums.keySet());
+        Collections.sort(classNames);
+        return Collections.unmodifiableList(classNames);
+    }
+
+    /**
+     * Returns whether or not this snapshot is up-to-date.
+     *
+     * @param classLoader The class loader to load class files with.
+     * @return {@code true} if the class files of all bean classes and validator classes are unchanged since this snapshot was created,
+     *         or {@code false} otherwise.
+     * @throws NullPointerException If the given class loader is {@code null}.
+     */
+    public boolean isCurrent(ClassLoader classLoader) {
+        Objects.requireNonNull(classLoader);
+        for (Map.Entry<String, Long> entry : checksums.entrySet()) {
+            long checksum = checksum(classLoader.getResourceAsStream(classFileName(entry.getKey())));
+            if (checksum != entry.getValue()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Installs this snapshot if it is up-to-date. This replaces any previously installed snapshot.
+     * Class files are loaded using the current thread's context class loader, or the class loader of this class if there is none.
+     *
+     * @return {@code true} if this snapshot was installed, or {@code false} if it is outdated.
+     * @see #isCurrent(ClassLoader)
+     */
+    public boolean install() {
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        return install(classLoader != null ? classLoader : PlanSnapshot.class.getClassLoader());
+    }
+
+    /**
+     * Installs this snapshot if it is up-to-date. This replaces any previously installed snapshot.
+     *
+     * @param classLoader The class loader to load class files with.
+     * @return {@code true} if this snapshot was installed, or {@code false} if it is outdated.
+     * @throws NullPointerException If the given class loader is {@code null}.
+     * @see #isCurrent(ClassLoader)
+     */
+    public boolean install(ClassLoader classLoader) {
+        if (!isCurrent(classLoader)) {
+            return false;
+        }
+        installed = this;
+        return true;
+    }
+
+    /**
+     * Uninstalls the currently installed snapshot, if any.
+     * Validators that are initialized afterwards parse their values again; validators that are already initialized are not affected.
+     */
+    public static void uninstall() {
+        installed = null;
+    }
+
+    /**
+     * Returns the currently installed snapshot.
+     *
+     * @return An {@link Optional} describing the currently installed snapshot, or {@link Optional#empty()} if no snapshot is installed.
+     */
+    public static Optional<PlanSnapshot> installed() {
+        return Optional.ofNullable(installed);
+    }
+
+    @Override
+    @SuppressWarnings("nls")
+    public String toString() {
+        return "PlanSnapshot[classes=" + checksums.size()
+                + ",zoneIds=" + zoneIds.size()
+                + ",durations=" + valueCount(durations)
+                + ",moments=" + valueCount(moments)
+                + "]";
+    }
+
+    private static int valueCount(Map<String, ? extends Map<String, ?>> values) {
+        int count = 0;
+        for (Map<String, ?> validatorValues : values.values()) {
+            count += validatorValues.size();
+        }
+        return count;
+    }
+
+    // Hooks for validators
+
+    /**
+     * Initializes a validator. While the validator is initialized, the values it parses are taken from the installed snapshot or recorded for the
+     * snapshot that is being created.
+     *
+     * @param validatorType The validator class.
+     * @param initializer The action that initializes the validator.
+     */
+    static void initialize(Class<?> validatorType, Runnable initializer) {
+        if (installed == null && RECORDING.get() == null) {
+            initializer.run();
+            return;
+        }
+
+        Class<?> previous = VALIDATOR_TYPE.get();
+        VALIDATOR_TYPE.set(validatorType);
+        try {
+            initializer.run();
+        } finally {
+            restore(VALIDATOR_TYPE, previous);
+        }
+    }
+
+    /**
+     * Parses a moment, or returns it from the installed snapshot.
+     *
+     * @param <T> The type of moment.
+     * @param text The text to parse.
+     * @param parser The function to parse the text with.
+     * @return The parsed moment.
+     */
+    @SuppressWarnings("unchecked")
+    static <T> T moment(String text, Function<String, T> parser) {
+        Class<?> validatorType = VALIDATOR_TYPE.get();
+        if (validatorType == null) {
+            return parser.apply(text);
+        }
+
+        PlanSnapshot snapshot = installed;
+        Object moment = snapshot == null ? null : lookup(snapshot.moments, validatorType, text);
+        if (moment != null) {
+            // the checksum of the validator class guarantees that the type is correct
+            return (T) moment;
+        }
+
+        T result = parser.apply(text);
+        PlanSnapshot recording = RECORDING.get();
+        if (recording != null && momentType(result) != UNSUPPORTED) {
+            recording.record(recording.moments, validatorType, text, result);
+        }
+        return result;
+    }
+
+    /**
+     * Parses and validates a duration, or returns it from the installed snapshot.
+     *
+     * @param text The text to parse.
+     * @param parser The function to parse and validate the text with.
+     * @return The parsed duration.
+     */
+    static TemporalAmount duration(String text, Function<String, TemporalAmount> parser) {
+        Class<?> validatorType = VALIDATOR_TYPE.get();
+        if (validatorType == null) {
+            return parser.apply(text);
+        }
+
+        PlanSnapshot snapshot = installed;
+        TemporalAmount duration = snapshot == null ? null : lookup(snapshot.durations, validatorType, text);
+        if (duration != null) {
+            return duration;
+        }
+
+        TemporalAmount result = parser.apply(text);
+        PlanSnapshot recording = RECORDING.get();
+        if (recording != null && durationType(result) != UNSUPPORTED) {
+            recording.record(recording.durations, validatorType, text, result);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the {@link ZoneId} for a text, or returns it from the installed snapshot.
+     *
+     * @param text The text to return the {@link ZoneId} for.
+     * @return The result of calling {@link ZoneId#of(String)}, which is cached in {@link ParseCache}.
+     */
+    static ZoneId zoneId(String text) {
+        PlanSnapshot snapshot = installed;
+        ZoneId zoneId = snapshot == null ? null : snapshot.zoneIds.get(text);
+        if (zoneId != null) {
+            return zoneId;
+        }
+
+        ZoneId result = ParseCache.get(ZoneId.class, text, ZoneId::of);
+        PlanSnapshot recording = RECORDING.get();
+        if (recording != null) {
+            recording.zoneIds.put(text, result);
+        }
+        return result;
+    }
+
+    private static <V> V lookup(Map<String, Map<String, V>> values, Class<?> validatorType, String text) {
+        Map<String, V> validatorValues = values.get(validatorType.getName());
+        return validatorValues == null ? null : validatorValues.get(text);
+    }
+
+    private <V> void record(Map<String, Map<String, V>> values, Class<?> validatorType, String text, V value) {
+        values.computeIfAbsent(validatorType.getName(), k -> new HashMap<>()).put(text, value);
+        addChecksum(validatorType);
+    }
+
+    private static <V> void restore(ThreadLocal<V> threadLocal, V previous) {
+        if (previous == null) {
+            threadLocal.remove();
+        } else {
+            threadLocal.set(previous);
+        }
+    }
+
+    // Constraint collection
+
+    private static void collectConstraints(Class<?> type, Set<Annotation> constraints, Set<Class<?>> visited) {
+        if (type == null || type == Object.class || !visited.add(type)) {
+            return;
+        }
+
+        addConstraints(type.getDeclaredAnnotations(), constraints);
+        for (Field field : type.getDeclaredFields()) {
+            addConstraints(field.getDeclaredAnnotations(), constraints);
+            addConstraints(field.getAnnotatedType(), constraints);
+        }
+        for (Executable executable : executables(type)) {
+            addConstraints(executable.getDeclaredAnnotations(), constraints);
+            addConstraints(executable.getAnnotatedReturnType(), constraints);
+            for (Annotation[] parameterAnnotations : executable.getParameterAnnotations()) {
+                addConstraints(parameterAnnotations, constraints);
+            }
+            for (AnnotatedType parameterType : executable.getAnnotatedParameterTypes()) {
+                addConstraints(parameterType, constraints);
+            }
+        }
+
+        collectConstraints(type.getSuperclass(), constraints, visited);
+        for (Class<?> iface : type.getInterfaces()) {
+            collectConstraints(iface, constraints, visited);
+        }
+    }
+
+    private static List<Executable> executables(Class<?> type) {
+        List<Executable> executables = new ArrayList<>();
+        executables.addAll(Arrays.asList(type.getDeclaredMethods()));
+        executables.addAll(Arrays.asList(type.getDeclaredConstructors()));
+        return executables;
+    }
+
+    private static void addConstraints(AnnotatedType annotatedType, Set<Annotation> constraints) {
+        addConstraints(annotatedType.getDeclaredAnnotations(), constraints);
+        if (annotatedType instanceof AnnotatedParameterizedType) {
+            for (AnnotatedType typeArgument : ((AnnotatedParameterizedType) annotatedType).getAnnotatedActualTypeArguments()) {
+                addConstraints(typeArgument, constraints);
+            }
+        } else if (annotatedType instanceof AnnotatedArrayType) {
+            addConstraints(((AnnotatedArrayType) annotatedType).getAnnotatedGenericComponentType(), constraints);
+        }
+    }
+
+    private static void addConstraints(Annotation[] annotations, Set<Annotation> constraints) {
+        for (Annotation annotation : annotations) {
+            if (annotation.annotationType().isAnnotationPresent(Constraint.class)) {
+                constraints.add(annotation);
+            } else {
+                constraints.addAll(Arrays.asList(BeanPlan.repeatedConstraints(annotation)));
+            }
+        }
+    }
+
+    // Checksums
+
+    private void addChecksum(Class<?> type) {
+        checksums.computeIfAbsent(type.getName(), name -> {
+            long checksum = checksum(type.getResourceAsStream("/" + classFileName(name))); //$NON-NLS-1$
+            if (checksum == -1) {
+                throw new IllegalArgumentException(String.format("Cannot read the class file of %s", name)); //$NON-NLS-1$
+            }
+            return checksum;
+        });
+    }
+
+    private static String classFileName(String className) {
+        return className.replace('.', '/') + ".class"; //$NON-NLS-1$
+    }
+
+    private static long checksum(InputStream input) {
+        if (input == null) {
+            return -1;
+        }
+        try (InputStream classFile = input) {
+            CRC32 crc = new CRC32();
+            byte[] buffer = new byte[4096];
+            int n;
+            while ((n = classFile.read(buffer)) != -1) {
+                crc.update(buffer, 0, n);
+            }
+            return crc.getValue();
+        } catch (@SuppressWarnings("unused") IOException e) {
+            return -1;
+        }
+    }
+
+    // Encoding
+
+    private static byte momentType(Object moment) {
+        if (moment instanceof Instant) {
+            return INSTANT;
+        }
+        if (moment instanceof LocalDate) {
+            return LOCAL_DATE;
+        }
+        if (moment instanceof LocalTime) {
+            return LOCAL_TIME;
+        }
+        if (moment instanceof LocalDateTime) {
+            return LOCAL_DATE_TIME;
+        }
+        if (moment instanceof OffsetTime) {
+            return OFFSET_TIME;
+        }
+        if (moment instanceof OffsetDateTime) {
+            return OFFSET_DATE_TIME;
+        }
+        if (moment instanceof ZonedDateTime) {
+            return ZONED_DATE_TIME;
+        }
+        if (moment instanceof YearMonth) {
+            return YEAR_MONTH;
+        }
+        if (moment instanceof Year) {
+            return YEAR;
+        }
+        if (moment instanceof MonthDay) {
+            return MONTH_DAY;
+        }
+        return UNSUPPORTED;
+    }
+
+    private static void writeMoment(DataOutput data, Object moment) throws IOException {
+        byte type = momentType(moment);
+        data.writeByte(type);
+        switch (type) {
+            case INSTANT:
+                data.writeLong(((Instant) moment).getEpochSecond());
+                data.writeInt(((Instant) moment).getNano());
+                break;
+            case LOCAL_DATE:
+                data.writeLong(((LocalDate) moment).toEpochDay());
+                break;
+            case LOCAL_TIME:
+                data.writeLong(((LocalTime) moment).toNanoOfDay());
+                break;
+            case LOCAL_DATE_TIME:
+                writeLocalDateTime(data, (LocalDateTime) moment);
+                break;
+            case OFFSET_TIME:
+                data.writeLong(((OffsetTime) moment).toLocalTime().toNanoOfDay());
+                data.writeInt(((OffsetTime) moment).getOffset().getTotalSeconds());
+                break;
+            case OFFSET_DATE_TIME:
+                writeLocalDateTime(data, ((OffsetDateTime) moment).toLocalDateTime());
+                data.writeInt(((OffsetDateTime) moment).getOffset().getTotalSeconds());
+                break;
+            case ZONED_DATE_TIME:
+                writeLocalDateTime(data, ((ZonedDateTime) moment).toLocalDateTime());
+                data.writeInt(((ZonedDateTime) moment).getOffset().getTotalSeconds());
+                data.writeUTF(((ZonedDateTime) moment).getZone().getId());
+                break;
+            case YEAR_MONTH:
+                data.writeInt(((YearMonth) moment).getYear());
+                data.writeByte(((YearMonth) moment).getMonthValue());
+                break;
+            case YEAR:
+                data.writeInt(((Year) moment).getValue());
+                break;
+            case MONTH_DAY:
+                data.writeByte(((MonthDay) moment).getMonthValue());
+                data.writeByte(((MonthDay) moment).getDayOfMonth());
+                break;
+            default:
+                throw new IllegalStateException(String.format("Unsupported moment type: %s", moment.getClass().getName())); //$NON-NLS-1$
+        }
+    }
+
+    private static void writeLocalDateTime(DataOutput data, LocalDateTime dateTime) throws IOException {
+        data.writeLong(dateTime.toLocalDate().toEpochDay());
+        data.writeLong(dateTime.toLocalTime().toNanoOfDay());
+    }
+
+    private static Object readMoment(DataInput data) throws IOException {
+        byte type = data.readByte();
+        switch (type) {
+            case INSTANT:
+                return Instant.ofEpochSecond(data.readLong(), data.readInt());
+            case LOCAL_DATE:
+                return LocalDate.ofEpochDay(data.readLong());
+            case LOCAL_TIME:
+                return LocalTime.ofNanoOfDay(data.readLong());
+            case LOCAL_DATE_TIME:
+                return readLocalDateTime(data);
+            case OFFSET_TIME:
+                return OffsetTime.of(LocalTime.ofNanoOfDay(data.readLong()), ZoneOffset.ofTotalSeconds(data.readInt()));
+            case OFFSET_DATE_TIME:
+                return OffsetDateTime.of(readLocalDateTime(data), ZoneOffset.ofTotalSeconds(data.readInt()));
+            case ZONED_DATE_TIME:
+                LocalDateTime dateTime = readLocalDateTime(data);
+                ZoneOffset offset = ZoneOffset.ofTotalSeconds(data.readInt());
+                return ZonedDateTime.ofLocal(dateTime, ZoneId.of(data.readUTF()), offset);
+            case YEAR_MONTH:
+                return YearMonth.of(data.readInt(), data.readByte());
+            case YEAR:
+                return Year.of(data.readInt());
+            case MONTH_DAY:
+                return MonthDay.of(data.readByte(), data.readByte());
+            default:
+                throw new IOException(String.format("Unsupported moment type: %d", type)); //$NON-NLS-1$
+        }
+    }
+
+    private static LocalDateTime readLocalDateTime(DataInput data) throws IOException {
+        LocalDate date = LocalDate.ofEpochDay(data.readLong());
+        return LocalDateTime.of(date, LocalTime.ofNanoOfDay(data.readLong()));
+    }
+
+    private static byte durationType(TemporalAmount duration) {
+        if (duration instanceof Period) {
+            return PERIOD;
+        }
+        if (duration instanceof Duration) {
+            return DURATION;
+        }
+        if (duration instanceof ISODuration) {
+            return PERIOD_AND_DURATION;
+        }
+        return UNSUPPORTED;
+    }
+
+    private static void writeDuration(DataOutput data, TemporalAmount duration) throws IOException {
+        byte type = durationType(duration);
+        data.writeByte(type);
+        switch (type) {
+            case PERIOD:
+                writePeriod(data, (Period) duration);
+                break;
+            case DURATION:
+                writeDuration(data, (Duration) duration);
+                break;
+            case PERIOD_AND_DURATION:
+                writePeriod(data, ((ISODuration) duration).period());
+                writeDuration(data, ((ISODuration) duration).duration());
+                break;
+            default:
+                throw new IllegalStateException(String.format("Unsupported duration type: %s", duration.getClass().getName())); //$NON-NLS-1$
+        }
+    }
+
+    private static void writePeriod(DataOutput data, Period period) throws IOException {
+        data.writeInt(period.getYears());
+        data.writeInt(period.getMonths());
+        data.writeInt(period.getDays());
+    }
+
+    private static void writeDuration(DataOutput data, Duration duration) throws IOException {
+        data.writeLong(duration.getSeconds());
+        data.writeInt(duration.getNano());
+    }
+
+    private static TemporalAmount readDuration(DataInput data) throws IOException {
+        byte type = data.readByte();
+        switch (type) {
+            case PERIOD:
+                return readPeriod(data);
+            case DURATION:
+                return readDurationValue(data);
+            case PERIOD_AND_DURATION:
+                Period period = readPeriod(data);
+                return ISODuration.of(period, readDurationValue(data));
+            default:
+                throw new IOException(String.format("Unsupported duration type: %d", type)); //$NON-NLS-1$
+        }
+    }
+
+    private static Period readPeriod(DataInput data) throws IOException {
+        int years = data.readInt();
+        int months = data.readInt();
+        return Period.of(years, months, data.readInt());
+    }
+
+    private static Duration readDurationValue(DataInput data) throws IOException {
+        long seconds = data.readLong();
+        return Duration.ofSeconds(seconds, data.readInt());
+    }
+
+    private interface ValueReader<V> {
+
+        V read(DataInput data) throws IOException;
+    }
+
+    private interface ValueWriter<V> {
+
+        void write(DataOutput data, V value) throws IOException;
+    }
+}
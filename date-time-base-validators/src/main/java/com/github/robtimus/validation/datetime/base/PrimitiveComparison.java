@@ -0,0 +1,329 @@
+/*
+ * PrimitiveComparison.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.validation.datetime.base;
+
+import static com.github.robtimus.validation.datetime.base.LocalFields.epochDay;
+import static com.github.robtimus.validation.datetime.base.LocalFields.monthOfYear;
+import static com.github.robtimus.validation.datetime.base.LocalFields.nanoOfDay;
+import static com.github.robtimus.validation.datetime.base.LocalFields.year;
+import java.time.Clock;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.Year;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import jakarta.validation.ClockProvider;
+import com.github.robtimus.validation.datetime.base.MomentValueValidator.MomentPredicate;
+
+/**
+ * A comparison of values against the moment of a {@link MomentPredicate}, using primitive representations of both. Values and moments are
+ * represented by a major and a minor value, and are compared by their major value first, then by their minor value.
+ * <p>
+ * The primitive representation of values is calculated from a second and a nano of second. For {@link Instant} and {@link OffsetDateTime} moments
+ * the second is the epoch second; for all other moments it is the local second, relative to the epoch.
+ *
+ * @author Rob Spoor
+ */
+final class PrimitiveComparison {
+
+    private static final ClockProvider SYSTEM_CLOCK_PROVIDER = Clock::systemUTC;
+
+    private final Key key;
+    private final MomentPredicate<Object> predicate;
+
+    private final MomentComparison comparison;
+
+    // only used for fixed moments
+    private final long momentMajor;
+    private final int momentMinor;
+
+    private PrimitiveComparison(Key key, MomentPredicate<Object> predicate, Object moment) {
+        this.key = key;
+        this.predicate = predicate;
+
+        this.comparison = MomentComparison.of(predicate, moment, key.plusUnits(moment, -1), key.plusUnits(moment, 1));
+
+        this.momentMajor = key.major(moment);
+        this.momentMinor = key.minor(moment);
+    }
+
+    /**
+     * Creates a comparison for a {@link MomentPredicate}.
+     *
+     * @param predicate The predicate to create a comparison for.
+     * @param momentType The type of moment of the predicate.
+     * @return The created comparison, or {@code null} if the predicate is not a {@link MomentPredicate#isComparison() comparison}, or if there
+     *         is no primitive representation for the given moment type.
+     */
+    @SuppressWarnings("unchecked")
+    static PrimitiveComparison of(MomentPredicate<?> predicate, Class<?> momentType) {
+        Key key = Key.forType(momentType);
+        if (key == null || !predicate.isComparison()) {
+            return null;
+        }
+        Object moment;
+        try {
+            moment = predicate.moment(SYSTEM_CLOCK_PROVIDER);
+        } catch (@SuppressWarnings("unused") DateTimeException e) {
+            // the duration cannot be applied to the moment; leave it to the delegate validator to report that
+            return null;
+        }
+        return key.momentType.isInstance(moment) ? new PrimitiveComparison(key, (MomentPredicate<Object>) predicate, moment) : null;
+    }
+
+    /**
+     * Returns whether or not values are compared by their local second.
+     *
+     * @return {@code true} if values are compared by their local second, or {@code false} if they are compared by their epoch second.
+     */
+    boolean isLocal() {
+        return key.local;
+    }
+
+    /**
+     * Returns whether or not values equal to the moment are valid.
+     *
+     * @return {@code true} if values equal to the moment are valid, or {@code false} otherwise.
+     */
+    boolean validEqual() {
+        return comparison.validEqual();
+    }
+
+    /**
+     * Returns whether or not a value is valid.
+     *
+     * @param second The epoch second or local second of the value, depending on {@link #isLocal()}.
+     * @param nano The nano of second of the value.
+     * @param clockProvider The {@link ClockProvider} to use to determine the current time.
+     * @return {@code true} if the value is valid, or {@code false} otherwise.
+     */
+    boolean isValid(long second, int nano, ClockProvider clockProvider) {
+        long major;
+        int minor;
+        if (predicate.isNow()) {
+            Object moment = predicate.moment(clockProvider);
+            major = key.major(moment);
+            minor = key.minor(moment);
+        } else {
+            major = momentMajor;
+            minor = momentMinor;
+        }
+
+        long valueMajor = key.major(second, nano);
+        return comparison.isValid(valueMajor != major
+                ? Long.compare(valueMajor, major)
+                : Integer.compare(key.minor(nano), minor));
+    }
+
+    /**
+     * The primitive representations of the supported moment types.
+     *
+     * @author Rob Spoor
+     */
+    private enum Key {
+        INSTANT(Instant.class, false) {
+            @Override
+            long major(long second, int nano) {
+                return second;
+            }
+
+            @Override
+            int minor(int nano) {
+                return nano;
+            }
+
+            @Override
+            long major(Object moment) {
+                return ((Instant) moment).getEpochSecond();
+            }
+
+            @Override
+            int minor(Object moment) {
+                return ((Instant) moment).getNano();
+            }
+
+            @Override
+            Object plus(Object moment, long units) {
+                return ((Instant) moment).plusNanos(units);
+            }
+        },
+        OFFSET_DATE_TIME(OffsetDateTime.class, false) {
+            @Override
+            long major(long second, int nano) {
+                return second;
+            }
+
+            @Override
+            int minor(int nano) {
+                return nano;
+            }
+
+            @Override
+            long major(Object moment) {
+                return ((OffsetDateTime) moment).toEpochSecond();
+            }
+
+            @Override
+            int minor(Object moment) {
+                return ((OffsetDateTime) moment).getNano();
+            }
+
+            @Override
+            Object plus(Object moment, long units) {
+                return ((OffsetDateTime) moment).plusNanos(units);
+            }
+        },
+        LOCAL_DATE_TIME(LocalDateTime.class, true) {
+            @Override
+            long major(long second, int nano) {
+                return second;
+            }
+
+            @Override
+            int minor(int nano) {
+                return nano;
+            }
+
+            @Override
+            long major(Object moment) {
+                return ((LocalDateTime) moment).toEpochSecond(ZoneOffset.UTC);
+            }
+
+            @Override
+            int minor(Object moment) {
+                return ((LocalDateTime) moment).getNano();
+            }
+
+            @Override
+            Object plus(Object moment, long units) {
+                return ((LocalDateTime) moment).plusNanos(units);
+            }
+        },
+        LOCAL_DATE(LocalDate.class, true) {
+            @Override
+            long major(long second, int nano) {
+                return epochDay(second);
+            }
+
+            @Override
+            long major(Object moment) {
+                return ((LocalDate) moment).toEpochDay();
+            }
+
+            @Override
+            Object plus(Object moment, long units) {
+                return ((LocalDate) moment).plusDays(units);
+            }
+        },
+        LOCAL_TIME(LocalTime.class, true) {
+            @Override
+            long major(long second, int nano) {
+                return nanoOfDay(second, nano);
+            }
+
+            @Override
+            long major(Object moment) {
+                return ((LocalTime) moment).toNanoOfDay();
+            }
+
+            @Override
+            Object plus(Object moment, long units) {
+                // this wraps around midnight, but then there are no values before or after the moment to validate
+                return ((LocalTime) moment).plusNanos(units);
+            }
+        },
+        YEAR_MONTH(YearMonth.class, true) {
+            @Override
+            long major(long second, int nano) {
+                return year(second) * 12L + monthOfYear(second) - 1;
+            }
+
+            @Override
+            long major(Object moment) {
+                YearMonth yearMonth = (YearMonth) moment;
+                return yearMonth.getYear() * 12L + yearMonth.getMonthValue() - 1;
+            }
+
+            @Override
+            Object plus(Object moment, long units) {
+                return ((YearMonth) moment).plusMonths(units);
+            }
+        },
+        YEAR(Year.class, true) {
+            @Override
+            long major(long second, int nano) {
+                return year(second);
+            }
+
+            @Override
+            long major(Object moment) {
+                return ((Year) moment).getValue();
+            }
+
+            @Override
+            Object plus(Object moment, long units) {
+                return ((Year) moment).plusYears(units);
+            }
+        },
+        ;
+
+        private final Class<?> momentType;
+        private final boolean local;
+
+        Key(Class<?> momentType, boolean local) {
+            this.momentType = momentType;
+            this.local = local;
+        }
+
+        private static Key forType(Class<?> momentType) {
+            for (Key key : values()) {
+                if (key.momentType == momentType) {
+                    return key;
+                }
+            }
+            return null;
+        }
+
+        abstract long major(long second, int nano);
+
+        int minor(int nano) {
+            return 0;
+        }
+
+        abstract long major(Object moment);
+
+        int minor(Object moment) {
+            return 0;
+        }
+
+        abstract Object plus(Object moment, long units);
+
+        Object plusUnits(Object moment, long units) {
+            try {
+                return plus(moment, units);
+            } catch (@SuppressWarnings("unused") DateTimeException e) {
+                // the moment is the minimum or maximum value, so there is no value before or after it
+                return null;
+            }
+        }
+    }
+}
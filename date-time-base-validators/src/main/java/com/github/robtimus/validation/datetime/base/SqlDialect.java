@@ -0,0 +1,237 @@
+/*
+ * SqlDialect.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.validation.datetime.base;
+
+import java.lang.annotation.Annotation;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoField;
+import java.time.temporal.TemporalField;
+import java.util.List;
+import java.util.function.Function;
+import jakarta.validation.ClockProvider;
+
+/**
+ * The SQL dialects supported by {@link SqlPredicate}.
+ * <p>
+ * The SQL of a predicate is only correct if the column has the type that the dialect expects for the column type of the predicate.
+ * {@link LocalDate}, {@link LocalDateTime} and {@link LocalTime} values are compared and split into fields as they are stored, so their columns
+ * should not include a time zone. Zones of constraint annotations are only applied to {@link Instant} values; the expected type of their columns,
+ * and any other requirements, are documented per dialect. {@link SqlPredicate#forConstraint(Annotation, Class, String, SqlDialect)} returns
+ * {@link java.util.Optional#empty()} for constraint annotations with zones that a dialect cannot apply reliably.
+ *
+ * @author Rob Spoor
+ */
+public enum SqlDialect {
+
+    /**
+     * The PostgreSQL dialect.
+     * <p>
+     * Expected column types:
+     * <ul>
+     *   <li>{@code TIMESTAMP WITH TIME ZONE} for {@link Instant} values. {@code AT TIME ZONE} converts values of type
+     *       {@code TIMESTAMP WITHOUT TIME ZONE} in the opposite direction, so zones are applied incorrectly to columns of that type.</li>
+     *   <li>{@code DATE} for {@link LocalDate} values.</li>
+     *   <li>{@code TIMESTAMP WITHOUT TIME ZONE} for {@link LocalDateTime} values.</li>
+     *   <li>{@code TIME WITHOUT TIME ZONE} for {@link LocalTime} values.</li>
+     * </ul>
+     */
+    POSTGRESQL {
+        @Override
+        String atZone(String expression, ZoneId zoneId, List<Function<ClockProvider, Object>> parameters) {
+            ZoneId normalized = zoneId.normalized();
+            if (normalized instanceof ZoneOffset) {
+                // PostgreSQL interprets offsets as POSIX time zones, which have the opposite sign; add the offset to UTC instead
+                int offsetSeconds = ((ZoneOffset) normalized).getTotalSeconds();
+                if (offsetSeconds == 0) {
+                    return "(" + expression + " AT TIME ZONE 'UTC')"; //$NON-NLS-1$ //$NON-NLS-2$
+                }
+                parameters.add(clockProvider -> offsetSeconds);
+                return "(" + expression + " AT TIME ZONE 'UTC' + ? * INTERVAL '1 second')"; //$NON-NLS-1$ //$NON-NLS-2$
+            }
+            String id = normalized.getId();
+            parameters.add(clockProvider -> id);
+            return "(" + expression + " AT TIME ZONE ?)"; //$NON-NLS-1$ //$NON-NLS-2$
+        }
+
+        @Override
+        String dayOfWeek(String expression) {
+            return "EXTRACT(ISODOW FROM " + expression + ")"; //$NON-NLS-1$ //$NON-NLS-2$
+        }
+    },
+
+    /**
+     * The MySQL dialect.
+     * <p>
+     * Expected column types:
+     * <ul>
+     *   <li>{@code TIMESTAMP} for {@link Instant} values. MySQL converts these from and to the session time zone, which must therefore be UTC.
+     *       Alternatively, {@code DATETIME} columns that contain UTC date-times can be used regardless of the session time zone.</li>
+     *   <li>{@code DATE} for {@link LocalDate} values.</li>
+     *   <li>{@code DATETIME} for {@link LocalDateTime} values.</li>
+     *   <li>{@code TIME} for {@link LocalTime} values.</li>
+     * </ul>
+     * Only zones with a fixed offset in whole minutes can be applied. {@code CONVERT_TZ} returns {@code NULL} for named zones if the time zone
+     * tables have not been loaded, which would make the SQL predicate silently reject all values.
+     */
+    MYSQL {
+        @Override
+        String atZone(String expression, ZoneId zoneId, List<Function<ClockProvider, Object>> parameters) {
+            if (!(zoneId.normalized() instanceof ZoneOffset)) {
+                return null;
+            }
+            String id = zoneIdText(zoneId);
+            if (id == null) {
+                return null;
+            }
+            parameters.add(clockProvider -> id);
+            return "CONVERT_TZ(" + expression + ", '+00:00', ?)"; //$NON-NLS-1$ //$NON-NLS-2$
+        }
+
+        @Override
+        String dayOfWeek(String expression) {
+            // WEEKDAY returns 0 for Monday
+            return "(WEEKDAY(" + expression + ") + 1)"; //$NON-NLS-1$ //$NON-NLS-2$
+        }
+    },
+
+    /**
+     * The Oracle dialect.
+     * <p>
+     * Expected column types:
+     * <ul>
+     *   <li>{@code TIMESTAMP WITH TIME ZONE} for {@link Instant} values. {@code AT TIME ZONE} interprets values of type {@code DATE} or
+     *       {@code TIMESTAMP} in the session time zone, so zones are only applied correctly to columns of these types if that is UTC.</li>
+     *   <li>{@code DATE} for {@link LocalDate} values.</li>
+     *   <li>{@code DATE} or {@code TIMESTAMP} for {@link LocalDateTime} values.</li>
+     * </ul>
+     * Oracle has no type for times without dates, so {@link LocalTime} values are not supported.
+     */
+    ORACLE {
+        @Override
+        String atZone(String expression, ZoneId zoneId, List<Function<ClockProvider, Object>> parameters) {
+            String id = zoneIdText(zoneId);
+            if (id == null) {
+                return null;
+            }
+            parameters.add(clockProvider -> id);
+            // EXTRACT returns UTC values for TIMESTAMP WITH TIME ZONE, so remove the zone
+            return "CAST(" + expression + " AT TIME ZONE ? AS TIMESTAMP)"; //$NON-NLS-1$ //$NON-NLS-2$
+        }
+
+        @Override
+        String dayOfWeek(String expression) {
+            // TO_CHAR(..., 'D') depends on NLS settings, so count the days since a known Monday
+            // The expression is used only once, so its parameters are only needed once
+            return "(MOD(MOD(TRUNC(" + expression + ") - DATE '2001-01-01', 7) + 7, 7) + 1)"; //$NON-NLS-1$ //$NON-NLS-2$
+        }
+
+        @Override
+        String extract(TemporalField field, String expression) {
+            // EXTRACT does not support HOUR and MINUTE for DATE values; expressions returned by atZone are already timestamps
+            boolean timestamp = expression.startsWith("CAST(") && expression.endsWith(" AS TIMESTAMP)"); //$NON-NLS-1$ //$NON-NLS-2$
+            return !timestamp && (field == ChronoField.HOUR_OF_DAY || field == ChronoField.MINUTE_OF_HOUR)
+                    ? super.extract(field, "CAST(" + expression + " AS TIMESTAMP)") //$NON-NLS-1$ //$NON-NLS-2$
+                    : super.extract(field, expression);
+        }
+
+        @Override
+        boolean supports(Class<?> columnType) {
+            return columnType != LocalTime.class;
+        }
+    },
+    ;
+
+    /**
+     * Returns whether or not this dialect supports columns for a specific type.
+     *
+     * @param columnType The type of values in the column.
+     * @return {@code true} if this dialect supports columns for the given type, or {@code false} otherwise.
+     */
+    boolean supports(Class<?> columnType) {
+        return true;
+    }
+
+    /**
+     * Returns an expression for the local date-time of a timestamp in a specific zone.
+     *
+     * @param expression The expression for the timestamp.
+     * @param zoneId The zone id.
+     * @param parameters The list to add the parameters of the returned expression to.
+     * @return An expression for the local date-time, or {@code null} if the zone id is not supported.
+     */
+    abstract String atZone(String expression, ZoneId zoneId, List<Function<ClockProvider, Object>> parameters);
+
+    /**
+     * Returns an expression for the ISO day of week of a date or date-time, where 1 is Monday and 7 is Sunday.
+     *
+     * @param expression The expression for the date or date-time.
+     * @return An expression for the ISO day of week.
+     */
+    abstract String dayOfWeek(String expression);
+
+    /**
+     * Returns an expression for a field of a date, time or date-time.
+     *
+     * @param field The field to return an expression for.
+     * @param expression The expression for the date, time or date-time.
+     * @return An expression for the field, or {@code null} if the field is not supported.
+     */
+    String extract(TemporalField field, String expression) {
+        if (field == ChronoField.DAY_OF_WEEK) {
+            return dayOfWeek(expression);
+        }
+        String unit = extractUnit(field);
+        return unit != null
+                ? "EXTRACT(" + unit + " FROM " + expression + ")" //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+                : null;
+    }
+
+    private static String extractUnit(TemporalField field) {
+        if (field == ChronoField.MONTH_OF_YEAR) {
+            return "MONTH"; //$NON-NLS-1$
+        }
+        if (field == ChronoField.DAY_OF_MONTH) {
+            return "DAY"; //$NON-NLS-1$
+        }
+        if (field == ChronoField.HOUR_OF_DAY) {
+            return "HOUR"; //$NON-NLS-1$
+        }
+        if (field == ChronoField.MINUTE_OF_HOUR) {
+            return "MINUTE"; //$NON-NLS-1$
+        }
+        return null;
+    }
+
+    private static String zoneIdText(ZoneId zoneId) {
+        ZoneId normalized = zoneId.normalized();
+        if (normalized instanceof ZoneOffset) {
+            ZoneOffset offset = (ZoneOffset) normalized;
+            if (offset.getTotalSeconds() % 60 != 0) {
+                // only offsets in whole minutes are supported
+                return null;
+            }
+            return offset.getTotalSeconds() == 0 ? "+00:00" : offset.getId(); //$NON-NLS-1$
+        }
+        return normalized.getId();
+    }
+}
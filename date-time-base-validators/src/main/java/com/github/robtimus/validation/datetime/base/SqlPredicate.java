@@ -0,0 +1,360 @@
+/*
+ * SqlPredicate.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.validation.datetime.base;
+
+import java.lang.annotation.Annotation;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoField;
+import java.time.temporal.TemporalField;
+import java.time.temporal.ValueRange;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.IntPredicate;
+import jakarta.validation.ClockProvider;
+import jakarta.validation.ConstraintValidator;
+import com.github.robtimus.validation.datetime.base.FieldValidator.FieldPredicate;
+import com.github.robtimus.validation.datetime.base.MomentValueValidator.MomentPredicate;
+import com.github.robtimus.validation.datetime.base.PartValidator.PartPredicate;
+
+/**
+ * A parameterized SQL predicate for a constraint annotation. This can be used in {@code WHERE} clauses to let the database filter out rows
+ * with invalid values, instead of loading all rows and validating the values in memory.
+ * <p>
+ * SQL predicates are created for a single column, using {@link #forConstraint(Annotation, Class, String, SqlDialect)}. Like the validators of
+ * the constraint annotation, a SQL predicate considers {@code NULL} values to be valid. The {@link #sql() SQL} contains a {@code ?} placeholder
+ * for each of the {@link #parameters(Clock) parameters}, in the order of the parameters. Parameters are {@link LocalDate}, {@link LocalTime},
+ * {@link LocalDateTime}, {@link OffsetDateTime}, {@link Integer} or {@link String} values, which can be set using
+ * {@code PreparedStatement.setObject}.
+ * <p>
+ * Fixed moments, like {@code 2007-12-03T10:15:30Z}, are resolved when the SQL predicate is created. Moments that depend on the current time are
+ * resolved each time the {@link #parameters(Clock) parameters} are requested, so the same SQL can be reused.
+ *
+ * @author Rob Spoor
+ */
+public final class SqlPredicate {
+
+    private static final Set<Class<?>> COLUMN_TYPES = Set.of(Instant.class, LocalDate.class, LocalDateTime.class, LocalTime.class);
+
+    // Fields with larger ranges than this are not written as IN lists
+    private static final long MAX_FIELD_VALUES = 100;
+
+    private final String sql;
+    private final List<Function<ClockProvider, Object>> parameters;
+    private final boolean dependsOnCurrentTime;
+
+    private SqlPredicate(String sql, List<Function<ClockProvider, Object>> parameters, boolean dependsOnCurrentTime) {
+        this.sql = sql;
+        this.parameters = parameters;
+        this.dependsOnCurrentTime = dependsOnCurrentTime;
+    }
+
+    /**
+     * Returns a SQL predicate for a constraint annotation.
+     * This is only possible if the constraint annotation and all of its composing constraints validate values in one of the following ways:
+     * <ul>
+     *   <li>Against a moment in time, like {@code After} or {@code NotBefore}. These become range predicates on the column itself.
+     *       Constraints that validate the date, year or year-month part of values, like {@code DateAfter}, are supported as well.</li>
+     *   <li>Against a set of allowed hours, minutes, days of the month, days of the week or months, like {@code HourIn} or {@code DayOfWeekIn}.
+     *       These become {@code IN} predicates on the field of the column in the zone of the constraint annotation.</li>
+     * </ul>
+     * The column is used as-is in the SQL, and should therefore never come from untrusted input.
+     *
+     * @param <T> The type of values in the column.
+     * @param constraint The constraint annotation.
+     * @param columnType The type of values in the column. This must be {@link Instant}, {@link LocalDate}, {@link LocalDateTime} or
+     *                       {@link LocalTime}, and must be supported by the given dialect.
+     * @param column The column or other SQL expression to create the SQL predicate for.
+     * @param dialect The SQL dialect to use. The column must be of the type that this dialect expects for the given column type.
+     * @return An {@link Optional} describing the SQL predicate,
+     *         or {@link Optional#empty()} if the constraint annotation cannot be expressed as SQL predicate in the given dialect.
+     * @throws NullPointerException If the given constraint annotation, column type, column or dialect is {@code null}.
+     * @throws IllegalArgumentException If the given annotation is not a constraint annotation, if the given column type is not supported
+     *                                      by the given dialect, or if the constraint annotation does not support the given column type.
+     * @throws IllegalStateException If a validator of the constraint annotation could not be instantiated.
+     */
+    public static <T extends Comparable<? super T>> Optional<SqlPredicate> forConstraint(Annotation constraint, Class<T> columnType,
+            String column, SqlDialect dialect) {
+
+        Objects.requireNonNull(constraint);
+        Objects.requireNonNull(column);
+        Objects.requireNonNull(dialect);
+        if (!COLUMN_TYPES.contains(columnType)) {
+            throw new IllegalArgumentException(String.format("SQL predicates are not supported for %s", //$NON-NLS-1$
+                    Objects.requireNonNull(columnType).getName()));
+        }
+        if (!dialect.supports(columnType)) {
+            throw new IllegalArgumentException(String.format("SQL predicates are not supported for %s in %s", //$NON-NLS-1$
+                    columnType.getName(), dialect));
+        }
+
+        List<ConstraintValidator<?, ? super T>> validators = ConstraintPredicates.validators(constraint, columnType);
+
+        Conditions conditions = new Conditions(column, dialect, ConstraintPredicates.fixedClockProvider(Clock::systemDefaultZone));
+        for (ConstraintValidator<?, ? super T> validator : validators) {
+            if (!conditions.add(validator, columnType)) {
+                return Optional.empty();
+            }
+        }
+        return Optional.of(conditions.toPredicate());
+    }
+
+    /**
+     * Returns the SQL of this predicate.
+     *
+     * @return The SQL of this predicate.
+     */
+    public String sql() {
+        return sql;
+    }
+
+    /**
+     * Returns the parameters of this predicate, using {@link Clock#systemDefaultZone()} to determine the current time.
+     *
+     * @return An unmodifiable list with the parameters of this predicate.
+     * @see #parameters(Clock)
+     */
+    public List<Object> parameters() {
+        return parameters(Clock.systemDefaultZone());
+    }
+
+    /**
+     * Returns the parameters of this predicate.
+     *
+     * @param clock The clock that defines the current time. This is ignored if this predicate does not
+     *                  {@link #dependsOnCurrentTime() depend on the current time}.
+     * @return An unmodifiable list with the parameters of this predicate.
+     * @throws NullPointerException If the given clock is {@code null}.
+     */
+    public List<Object> parameters(Clock clock) {
+        Objects.requireNonNull(clock);
+
+        ClockProvider clockProvider = ConstraintPredicates.fixedClockProvider(() -> clock);
+        List<Object> result = new ArrayList<>(parameters.size());
+        for (Function<ClockProvider, Object> parameter : parameters) {
+            result.add(parameter.apply(clockProvider));
+        }
+        return Collections.unmodifiableList(result);
+    }
+
+    /**
+     * Returns whether or not the parameters of this predicate depend on the current time.
+     *
+     * @return {@code true} if the parameters of this predicate depend on the current time, or {@code false} otherwise.
+     */
+    public boolean dependsOnCurrentTime() {
+        return dependsOnCurrentTime;
+    }
+
+    @Override
+    @SuppressWarnings("nls")
+    public String toString() {
+        return getClass().getSimpleName()
+                + "[sql=" + sql
+                + ",dependsOnCurrentTime=" + dependsOnCurrentTime
+                + "]";
+    }
+
+    private static final class Conditions {
+
+        private final String column;
+        private final SqlDialect dialect;
+        private final ClockProvider clockProvider;
+
+        private final List<String> conditions = new ArrayList<>();
+        private final List<Function<ClockProvider, Object>> parameters = new ArrayList<>();
+        private boolean dependsOnCurrentTime = false;
+        private boolean none = false;
+
+        private Conditions(String column, SqlDialect dialect, ClockProvider clockProvider) {
+            this.column = column;
+            this.dialect = dialect;
+            this.clockProvider = clockProvider;
+        }
+
+        private <T extends Comparable<? super T>> boolean add(ConstraintValidator<?, ? super T> validator, Class<T> columnType) {
+            BiPredicate<?, ClockProvider> predicate = validator instanceof BaseValidator<?, ?> ? ((BaseValidator<?, ?>) validator).predicate() : null;
+            if (predicate instanceof MomentPredicate<?> || predicate instanceof PartPredicate<?, ?>) {
+                boolean now = isNow(predicate);
+                TemporalBounds<T> bounds = TemporalBounds.forValidator(validator, columnType, clockProvider);
+                if (bounds != null) {
+                    addRange(bounds, now ? cp -> TemporalBounds.forValidator(validator, columnType, cp) : null, null);
+                    return true;
+                }
+                if (predicate instanceof PartPredicate<?, ?> && columnType == Instant.class && addLocalRange((PartPredicate<?, ?>) predicate, now)) {
+                    return true;
+                }
+            }
+            if (predicate instanceof FieldPredicate<?>) {
+                FieldPredicate<?> fieldPredicate = (FieldPredicate<?>) predicate;
+                return addFieldValues(fieldPredicate.field(), fieldPredicate.zoneId(), columnType,
+                        fieldValue -> fieldPredicate.isValidFieldValue(fieldValue, clockProvider));
+            }
+            if (predicate instanceof PartPredicate<?, ?>) {
+                return addPartValues(predicate, columnType);
+            }
+            return false;
+        }
+
+        private boolean isNow(BiPredicate<?, ClockProvider> predicate) {
+            BiPredicate<?, ClockProvider> momentPredicate = predicate instanceof PartPredicate<?, ?>
+                    ? ((PartPredicate<?, ?>) predicate).partPredicate()
+                    : predicate;
+            return momentPredicate instanceof MomentPredicate<?> && ((MomentPredicate<?>) momentPredicate).isNow();
+        }
+
+        private boolean addLocalRange(PartPredicate<?, ?> predicate, boolean now) {
+            // The zone has no fixed offset, so compare the local date-time of the column in the zone with the start of the part
+            ZoneId zoneId = predicate.zoneId();
+            TemporalBounds<LocalDateTime> bounds = zoneId != null ? TemporalBounds.partBounds(predicate, LocalDateTime.class, clockProvider) : null;
+            if (bounds == null || dialect.atZone(column, zoneId, new ArrayList<>()) == null) {
+                return false;
+            }
+            addRange(bounds, now ? cp -> TemporalBounds.partBounds(predicate, LocalDateTime.class, cp) : null, zoneId);
+            return true;
+        }
+
+        private <T extends Comparable<? super T>> void addRange(TemporalBounds<T> bounds, Function<ClockProvider, TemporalBounds<T>> currentBounds,
+                ZoneId zoneId) {
+
+            if (bounds.isEmpty()) {
+                none = true;
+                return;
+            }
+            if (bounds.lowerBound().isPresent()) {
+                Function<ClockProvider, Object> parameter = currentBounds == null
+                        ? constant(bounds.lowerBound().get())
+                        : cp -> jdbcValue(currentBounds.apply(cp).lowerBound().orElse(null));
+                addCondition(bounds.isLowerInclusive() ? " >= ?" : " > ?", parameter, zoneId); //$NON-NLS-1$ //$NON-NLS-2$
+            }
+            if (bounds.upperBound().isPresent()) {
+                Function<ClockProvider, Object> parameter = currentBounds == null
+                        ? constant(bounds.upperBound().get())
+                        : cp -> jdbcValue(currentBounds.apply(cp).upperBound().orElse(null));
+                addCondition(bounds.isUpperInclusive() ? " <= ?" : " < ?", parameter, zoneId); //$NON-NLS-1$ //$NON-NLS-2$
+            }
+            dependsOnCurrentTime |= currentBounds != null;
+        }
+
+        private void addCondition(String comparison, Function<ClockProvider, Object> parameter, ZoneId zoneId) {
+            String expression = zoneId != null ? dialect.atZone(column, zoneId, parameters) : column;
+            conditions.add(expression + comparison);
+            parameters.add(parameter);
+        }
+
+        @SuppressWarnings("unchecked")
+        private boolean addPartValues(BiPredicate<?, ClockProvider> predicate, Class<?> columnType) {
+            PartPredicate<Object, ?> partPredicate = (PartPredicate<Object, ?>) predicate;
+            // the type of part does not depend on the value, so it can be determined using any value
+            Object part = partPredicate.part(sampleValue(columnType));
+            BiPredicate<Object, ClockProvider> partValidator = (BiPredicate<Object, ClockProvider>) partPredicate.partPredicate();
+            for (TemporalField field : List.of(ChronoField.DAY_OF_WEEK, ChronoField.MONTH_OF_YEAR)) {
+                IntFunction<?> partFactory = TemporalPredicates.partFactory(field, part);
+                if (partFactory != null) {
+                    return addFieldValues(field, partPredicate.zoneId(), columnType,
+                            fieldValue -> partValidator.test(partFactory.apply(fieldValue), clockProvider));
+                }
+            }
+            return false;
+        }
+
+        private boolean addFieldValues(TemporalField field, ZoneId zoneId, Class<?> columnType, IntPredicate fieldValuePredicate) {
+            ValueRange range = field.range();
+            boolean applyZone = columnType == Instant.class;
+            if (range.getMaximum() - range.getMinimum() >= MAX_FIELD_VALUES || applyZone && zoneId == null) {
+                return false;
+            }
+
+            List<Function<ClockProvider, Object>> fieldParameters = new ArrayList<>();
+            String expression = applyZone ? dialect.atZone(column, zoneId, fieldParameters) : column;
+            String fieldExpression = expression != null ? dialect.extract(field, expression) : null;
+            if (fieldExpression == null) {
+                return false;
+            }
+
+            StringJoiner values = new StringJoiner(", ", fieldExpression + " IN (", ")"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+            int validCount = 0;
+            for (int fieldValue = (int) range.getMinimum(); fieldValue <= range.getMaximum(); fieldValue++) {
+                if (fieldValuePredicate.test(fieldValue)) {
+                    values.add("?"); //$NON-NLS-1$
+                    fieldParameters.add(constant(fieldValue));
+                    validCount++;
+                }
+            }
+            if (validCount == 0) {
+                none = true;
+            } else if (validCount <= range.getMaximum() - range.getMinimum()) {
+                // not all field values are valid
+                conditions.add(values.toString());
+                parameters.addAll(fieldParameters);
+            }
+            return true;
+        }
+
+        private SqlPredicate toPredicate() {
+            if (none) {
+                return new SqlPredicate(column + " IS NULL", Collections.emptyList(), false); //$NON-NLS-1$
+            }
+            if (conditions.isEmpty()) {
+                return new SqlPredicate("1 = 1", Collections.emptyList(), false); //$NON-NLS-1$
+            }
+            String joined = String.join(" AND ", conditions); //$NON-NLS-1$
+            String sql = "(" + column + " IS NULL OR " //$NON-NLS-1$ //$NON-NLS-2$
+                    + (conditions.size() == 1 ? joined : "(" + joined + ")") //$NON-NLS-1$ //$NON-NLS-2$
+                    + ")"; //$NON-NLS-1$
+            return new SqlPredicate(sql, Collections.unmodifiableList(new ArrayList<>(parameters)), dependsOnCurrentTime);
+        }
+    }
+
+    private static Object sampleValue(Class<?> columnType) {
+        if (columnType == Instant.class) {
+            return Instant.EPOCH;
+        }
+        if (columnType == LocalDate.class) {
+            return LocalDate.MIN;
+        }
+        if (columnType == LocalDateTime.class) {
+            return LocalDateTime.MIN;
+        }
+        return LocalTime.MIN;
+    }
+
+    private static Function<ClockProvider, Object> constant(Object value) {
+        Object jdbcValue = jdbcValue(value);
+        return clockProvider -> jdbcValue;
+    }
+
+    private static Object jdbcValue(Object value) {
+        // JDBC has no standard mapping for Instant
+        return value instanceof Instant ? OffsetDateTime.ofInstant((Instant) value, ZoneOffset.UTC) : value;
+    }
+}
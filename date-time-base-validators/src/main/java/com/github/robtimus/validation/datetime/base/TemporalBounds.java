@@ -0,0 +1,758 @@
+/*
+ * TemporalBounds.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.validation.datetime.base;
+
+import java.lang.annotation.Annotation;
+import java.time.Clock;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.Month;
+import java.time.MonthDay;
+import java.time.Year;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.zone.ZoneRules;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.NavigableSet;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+import jakarta.validation.ClockProvider;
+import jakarta.validation.ConstraintValidator;
+import com.github.robtimus.validation.datetime.base.MomentValueValidator.MomentPredicate;
+import com.github.robtimus.validation.datetime.base.PartValidator.PartPredicate;
+
+/**
+ * The lower and upper bounds of valid date/time values. Each bound can be inclusive or exclusive, or be absent if values are not bounded at
+ * that side.
+ * <p>
+ * Constraints that validate values against a moment in time, like {@code After}, {@code NotBefore}, {@code DateMinAfter} or
+ * {@code YearBefore}, only accept the values between two bounds. Such bounds can be obtained using
+ * {@link #forConstraint(Annotation, Class, ClockProvider)}, and can then be applied to sorted collections and arrays of values. This allows all
+ * valid or invalid values of a {@link NavigableSet} or {@link NavigableMap} to be found without validating each value separately.
+ * <p>
+ * Bounds are only supported for types whose natural ordering is the same as their order on the time-line: {@link Instant}, {@link LocalDate},
+ * {@link LocalDateTime}, {@link LocalTime}, {@link MonthDay}, {@link Year} and {@link YearMonth}. Types like {@link java.time.OffsetDateTime}
+ * are not supported, because their natural ordering also compares offsets or zones.
+ * <p>
+ * Instances of this class are immutable.
+ *
+ * @author Rob Spoor
+ * @param <T> The type of values.
+ */
+public final class TemporalBounds<T extends Comparable<? super T>> {
+
+    private static final Map<Class<?>, Steps<?>> STEPS = steps();
+
+    @SuppressWarnings("rawtypes")
+    private static final TemporalBounds EMPTY = new TemporalBounds<>(null, false, null, false, true);
+
+    private final T lowerBound;
+    private final boolean lowerInclusive;
+    private final T upperBound;
+    private final boolean upperInclusive;
+    private final boolean empty;
+
+    private TemporalBounds(T lowerBound, boolean lowerInclusive, T upperBound, boolean upperInclusive, boolean empty) {
+        this.lowerBound = lowerBound;
+        this.lowerInclusive = lowerInclusive;
+        this.upperBound = upperBound;
+        this.upperInclusive = upperInclusive;
+        this.empty = empty;
+    }
+
+    private static Map<Class<?>, Steps<?>> steps() {
+        Map<Class<?>, Steps<?>> steps = new HashMap<>();
+        steps.put(Instant.class, new Steps<Instant>(i -> i.minusNanos(1), i -> i.plusNanos(1)));
+        steps.put(LocalDate.class, new Steps<LocalDate>(d -> d.minusDays(1), d -> d.plusDays(1)));
+        steps.put(LocalDateTime.class, new Steps<LocalDateTime>(dt -> dt.minusNanos(1), dt -> dt.plusNanos(1)));
+        // LocalTime wraps around midnight, so there is no time before MIN or after MAX
+        steps.put(LocalTime.class, new Steps<LocalTime>(
+                t -> t.equals(LocalTime.MIN) ? null : t.minusNanos(1),
+                t -> t.equals(LocalTime.MAX) ? null : t.plusNanos(1)));
+        steps.put(MonthDay.class, new Steps<MonthDay>(TemporalBounds::previousMonthDay, TemporalBounds::nextMonthDay));
+        steps.put(Year.class, new Steps<Year>(y -> y.minusYears(1), y -> y.plusYears(1)));
+        steps.put(YearMonth.class, new Steps<YearMonth>(ym -> ym.minusMonths(1), ym -> ym.plusMonths(1)));
+        return steps;
+    }
+
+    private static MonthDay previousMonthDay(MonthDay monthDay) {
+        if (monthDay.getDayOfMonth() > 1) {
+            return monthDay.withDayOfMonth(monthDay.getDayOfMonth() - 1);
+        }
+        if (monthDay.getMonth() == Month.JANUARY) {
+            return null;
+        }
+        Month month = monthDay.getMonth().minus(1);
+        return MonthDay.of(month, month.maxLength());
+    }
+
+    private static MonthDay nextMonthDay(MonthDay monthDay) {
+        if (monthDay.getDayOfMonth() < monthDay.getMonth().maxLength()) {
+            return monthDay.withDayOfMonth(monthDay.getDayOfMonth() + 1);
+        }
+        if (monthDay.getMonth() == Month.DECEMBER) {
+            return null;
+        }
+        return MonthDay.of(monthDay.getMonth().plus(1), 1);
+    }
+
+    /**
+     * Creates new bounds.
+     *
+     * @param <T> The type of values.
+     * @param lowerBound The lower bound, or {@code null} if values are not bounded from below.
+     * @param lowerInclusive {@code true} if the lower bound is inclusive, or {@code false} if it is exclusive.
+     *                           This is ignored if the lower bound is {@code null}.
+     * @param upperBound The upper bound, or {@code null} if values are not bounded from above.
+     * @param upperInclusive {@code true} if the upper bound is inclusive, or {@code false} if it is exclusive.
+     *                           This is ignored if the upper bound is {@code null}.
+     * @return The created bounds. If no value is between the given bounds, the result is {@link #isEmpty() empty}.
+     */
+    public static <T extends Comparable<? super T>> TemporalBounds<T> of(T lowerBound, boolean lowerInclusive, T upperBound,
+            boolean upperInclusive) {
+
+        if (lowerBound != null && upperBound != null) {
+            int comparison = lowerBound.compareTo(upperBound);
+            if (comparison > 0 || comparison == 0 && !(lowerInclusive && upperInclusive)) {
+                return empty();
+            }
+        }
+        return new TemporalBounds<>(lowerBound, lowerBound != null && lowerInclusive, upperBound, upperBound != null && upperInclusive, false);
+    }
+
+    /**
+     * Returns bounds that contain no values.
+     *
+     * @param <T> The type of values.
+     * @return Bounds that contain no values.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T extends Comparable<? super T>> TemporalBounds<T> empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Returns the bounds of the values that are valid for a constraint annotation.
+     * {@link Clock#systemDefaultZone()} is used to determine the current time.
+     *
+     * @param <T> The type of values.
+     * @param constraint The constraint annotation.
+     * @param valueType The type of values.
+     * @return An {@link Optional} describing the bounds of valid values,
+     *         or {@link Optional#empty()} if the valid values cannot be expressed using a lower and upper bound.
+     * @throws NullPointerException If the given constraint annotation or value type is {@code null}.
+     * @throws IllegalArgumentException If the given annotation is not a constraint annotation, if the given value type is not supported,
+     *                                      or if the constraint annotation does not support the given value type.
+     * @throws IllegalStateException If a validator of the constraint annotation could not be instantiated.
+     * @see #forConstraint(Annotation, Class, ClockProvider)
+     */
+    public static <T extends Comparable<? super T>> Optional<TemporalBounds<T>> forConstraint(Annotation constraint, Class<T> valueType) {
+        return forConstraint(constraint, valueType, Clock::systemDefaultZone);
+    }
+
+    /**
+     * Returns the bounds of the values that are valid for a constraint annotation.
+     * This is only possible if the constraint annotation and all of its composing constraints validate values against a moment in time:
+     * <ul>
+     *   <li>Constraints that validate entire values, like {@code After} or {@code MinBefore}.</li>
+     *   <li>Constraints that validate the date, year or year-month part of {@link LocalDate}, {@link LocalDateTime} or {@link YearMonth}
+     *       values, like {@code YearAfter} for {@link LocalDate}. For {@link Instant}, this is only possible if the constraint annotation uses
+     *       a zone id with a fixed offset, like {@code UTC}.</li>
+     *   <li>Constraints that validate a part of values, if the given value type is the type of that part. For instance, {@code TimeAfter}
+     *       returns bounds for {@link LocalTime}, {@code DateAfter} for {@link LocalDate}, and {@code YearMonthAfter} for
+     *       {@link YearMonth}.</li>
+     * </ul>
+     * If the constraint annotation uses the current time, the bounds are calculated using the current time at the moment this method is called.
+     *
+     * @param <T> The type of values.
+     * @param constraint The constraint annotation.
+     * @param valueType The type of values.
+     * @param clockProvider The {@link ClockProvider} that defines the current time.
+     * @return An {@link Optional} describing the bounds of valid values,
+     *         or {@link Optional#empty()} if the valid values cannot be expressed using a lower and upper bound.
+     * @throws NullPointerException If the given constraint annotation, value type or {@link ClockProvider} is {@code null}.
+     * @throws IllegalArgumentException If the given annotation is not a constraint annotation, if the given value type is not supported,
+     *                                      or if the constraint annotation does not support the given value type.
+     * @throws IllegalStateException If a validator of the constraint annotation could not be instantiated.
+     */
+    public static <T extends Comparable<? super T>> Optional<TemporalBounds<T>> forConstraint(Annotation constraint, Class<T> valueType,
+            ClockProvider clockProvider) {
+
+        Objects.requireNonNull(constraint);
+        Objects.requireNonNull(clockProvider);
+        Steps<T> steps = steps(valueType);
+        if (steps == null) {
+            throw new IllegalArgumentException(String.format("Bounds are not supported for %s", valueType.getName())); //$NON-NLS-1$
+        }
+
+        ClockProvider fixedClockProvider = ConstraintPredicates.fixedClockProvider(clockProvider);
+
+        List<ConstraintValidator<?, ? super T>> validators;
+        try {
+            validators = ConstraintPredicates.validators(constraint, valueType);
+        } catch (IllegalArgumentException e) {
+            return Optional.ofNullable(forPartValidators(partValidators(constraint, e), valueType, steps, fixedClockProvider));
+        }
+        return Optional.ofNullable(forValidators(validators, valueType, steps, fixedClockProvider));
+    }
+
+    private static List<ConstraintValidator<?, ? super LocalDateTime>> partValidators(Annotation constraint, IllegalArgumentException exception) {
+        // Constraints that validate parts support LocalDateTime in all modules, and do not apply zones to it
+        try {
+            return ConstraintPredicates.validators(constraint, LocalDateTime.class);
+        } catch (@SuppressWarnings("unused") IllegalArgumentException e) {
+            throw exception;
+        }
+    }
+
+    private static <T extends Comparable<? super T>> TemporalBounds<T> forValidators(List<ConstraintValidator<?, ? super T>> validators,
+            Class<T> valueType, Steps<T> steps, ClockProvider clockProvider) {
+
+        TemporalBounds<T> bounds = new TemporalBounds<>(null, false, null, false, false);
+        for (ConstraintValidator<?, ? super T> validator : validators) {
+            TemporalBounds<T> validatorBounds = forValidator(validator, valueType, steps, clockProvider);
+            if (validatorBounds == null) {
+                return null;
+            }
+            bounds = bounds.intersect(validatorBounds);
+        }
+        return bounds;
+    }
+
+    /**
+     * Returns the bounds of the values that are valid for a single validator.
+     *
+     * @param <T> The type of values.
+     * @param validator The initialized validator.
+     * @param valueType The type of values. This must be one of the types supported by this class.
+     * @param clockProvider The {@link ClockProvider} to use to determine the current time.
+     * @return The bounds of valid values, or {@code null} if the valid values cannot be expressed using a lower and upper bound.
+     */
+    static <T extends Comparable<? super T>> TemporalBounds<T> forValidator(ConstraintValidator<?, ? super T> validator, Class<T> valueType,
+            ClockProvider clockProvider) {
+
+        return forValidator(validator, valueType, steps(valueType), clockProvider);
+    }
+
+    private static <T extends Comparable<? super T>> TemporalBounds<T> forValidator(ConstraintValidator<?, ? super T> validator,
+            Class<T> valueType, Steps<T> steps, ClockProvider clockProvider) {
+
+        BiPredicate<?, ClockProvider> predicate = predicate(validator);
+        if (predicate instanceof MomentPredicate<?>) {
+            return momentBounds((MomentPredicate<?>) predicate, valueType, steps, clockProvider);
+        }
+        if (predicate instanceof PartPredicate<?, ?>) {
+            return partBounds((PartPredicate<?, ?>) predicate, valueType, clockProvider);
+        }
+        return null;
+    }
+
+    private static <T extends Comparable<? super T>> TemporalBounds<T> forPartValidators(
+            List<ConstraintValidator<?, ? super LocalDateTime>> validators, Class<T> valueType, Steps<T> steps, ClockProvider clockProvider) {
+
+        TemporalBounds<T> bounds = new TemporalBounds<>(null, false, null, false, false);
+        for (ConstraintValidator<?, ? super LocalDateTime> validator : validators) {
+            BiPredicate<?, ClockProvider> predicate = predicate(validator);
+            BiPredicate<?, ClockProvider> partPredicate = predicate instanceof PartPredicate<?, ?>
+                    ? ((PartPredicate<?, ?>) predicate).partPredicate()
+                    : null;
+            TemporalBounds<T> validatorBounds = partPredicate instanceof MomentPredicate<?>
+                    ? momentBounds((MomentPredicate<?>) partPredicate, valueType, steps, clockProvider)
+                    : null;
+            if (validatorBounds == null) {
+                return null;
+            }
+            bounds = bounds.intersect(validatorBounds);
+        }
+        return bounds;
+    }
+
+    private static BiPredicate<?, ClockProvider> predicate(ConstraintValidator<?, ?> validator) {
+        return validator instanceof BaseValidator<?, ?> ? ((BaseValidator<?, ?>) validator).predicate() : null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T extends Comparable<? super T>> TemporalBounds<T> momentBounds(MomentPredicate<?> predicate, Class<T> valueType,
+            Steps<T> steps, ClockProvider clockProvider) {
+
+        Object moment = predicate.moment(clockProvider);
+        return valueType.isInstance(moment)
+                ? momentBounds((MomentPredicate<T>) predicate, valueType.cast(moment), steps)
+                : null;
+    }
+
+    private static <T extends Comparable<? super T>> TemporalBounds<T> momentBounds(MomentPredicate<T> predicate, T moment, Steps<T> steps) {
+        MomentComparison comparison = MomentComparison.of(predicate, moment, steps.before(moment), steps.after(moment));
+        if (comparison == null || !comparison.isRange()) {
+            return null;
+        }
+        if (comparison.noneValid()) {
+            return empty();
+        }
+        boolean validEqual = comparison.validEqual();
+        return new TemporalBounds<>(comparison.validBefore() ? null : moment, validEqual, comparison.validAfter() ? null : moment, validEqual,
+                false);
+    }
+
+    /**
+     * Returns the bounds of the values that are valid for a part predicate.
+     *
+     * @param <T> The type of values.
+     * @param predicate The part predicate.
+     * @param valueType The type of values. This must be one of the types supported by this class.
+     * @param clockProvider The {@link ClockProvider} to use to determine the current time.
+     * @return The bounds of valid values, or {@code null} if the valid values cannot be expressed using a lower and upper bound.
+     */
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    static <T extends Comparable<? super T>> TemporalBounds<T> partBounds(PartPredicate<?, ?> predicate, Class<T> valueType,
+            ClockProvider clockProvider) {
+
+        if (!(predicate.partPredicate() instanceof MomentPredicate<?>)) {
+            return null;
+        }
+        MomentPredicate<?> partPredicate = (MomentPredicate<?>) predicate.partPredicate();
+        Object moment = partPredicate.moment(clockProvider);
+        // partStart only supports parts of type LocalDate, YearMonth and Year, which are all comparable
+        Class partType = moment.getClass();
+        Function<Object, T> partStart = partStart(valueType, partType, fixedOffset(predicate.zoneId()));
+        return partStart != null
+                ? partBounds(partPredicate, partType, partStart, clockProvider)
+                : null;
+    }
+
+    private static <T extends Comparable<? super T>, P extends Comparable<? super P>> TemporalBounds<T> partBounds(
+            MomentPredicate<?> partPredicate, Class<P> partType, Function<Object, T> partStart, ClockProvider clockProvider) {
+
+        Steps<P> partSteps = steps(partType);
+        TemporalBounds<P> partBounds = momentBounds(partPredicate, partType, partSteps, clockProvider);
+        if (partBounds == null || partBounds.empty) {
+            return partBounds == null ? null : empty();
+        }
+
+        // A part is larger than or equal to another part if and only if the value is larger than or equal to the start of the other part
+        T lower = null;
+        if (partBounds.lowerBound != null) {
+            P lowerPart = partBounds.lowerInclusive ? partBounds.lowerBound : partSteps.after(partBounds.lowerBound);
+            if (lowerPart == null) {
+                return empty();
+            }
+            lower = partStart.apply(lowerPart);
+        }
+        T upper = null;
+        if (partBounds.upperBound != null) {
+            P upperPart = partBounds.upperInclusive ? partSteps.after(partBounds.upperBound) : partBounds.upperBound;
+            upper = upperPart == null ? null : partStart.apply(upperPart);
+        }
+        return of(lower, true, upper, false);
+    }
+
+    private static <T> Function<Object, T> partStart(Class<T> valueType, Class<?> partType, ZoneOffset offset) {
+        Function<Object, LocalDate> startDate = startDate(partType);
+        if (startDate == null) {
+            return null;
+        }
+        if (valueType == LocalDate.class && partType != LocalDate.class) {
+            return part -> valueType.cast(startDate.apply(part));
+        }
+        if (valueType == LocalDateTime.class) {
+            return part -> valueType.cast(startDate.apply(part).atStartOfDay());
+        }
+        if (valueType == YearMonth.class && partType == Year.class) {
+            return part -> valueType.cast(((Year) part).atMonth(Month.JANUARY));
+        }
+        if (valueType == Instant.class && offset != null) {
+            return part -> valueType.cast(startDate.apply(part).atStartOfDay().toInstant(offset));
+        }
+        return null;
+    }
+
+    private static Function<Object, LocalDate> startDate(Class<?> partType) {
+        if (partType == LocalDate.class) {
+            return LocalDate.class::cast;
+        }
+        if (partType == YearMonth.class) {
+            return part -> ((YearMonth) part).atDay(1);
+        }
+        if (partType == Year.class) {
+            return part -> ((Year) part).atDay(1);
+        }
+        return null;
+    }
+
+    private static ZoneOffset fixedOffset(ZoneId zoneId) {
+        if (zoneId == null) {
+            return null;
+        }
+        ZoneRules rules = zoneId.getRules();
+        return rules.isFixedOffset() ? rules.getOffset(Instant.EPOCH) : null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Steps<T> steps(Class<T> type) {
+        return (Steps<T>) STEPS.get(Objects.requireNonNull(type));
+    }
+
+    private TemporalBounds<T> intersect(TemporalBounds<T> other) {
+        if (empty || other.empty) {
+            return empty();
+        }
+
+        T lower = lowerBound;
+        boolean lowerIncl = lowerInclusive;
+        if (lower == null || other.lowerBound != null && other.lowerBound.compareTo(lower) >= 0) {
+            lowerIncl = lower != null && other.lowerBound.compareTo(lower) == 0 ? lowerIncl && other.lowerInclusive : other.lowerInclusive;
+            lower = other.lowerBound;
+        }
+        T upper = upperBound;
+        boolean upperIncl = upperInclusive;
+        if (upper == null || other.upperBound != null && other.upperBound.compareTo(upper) <= 0) {
+            upperIncl = upper != null && other.upperBound.compareTo(upper) == 0 ? upperIncl && other.upperInclusive : other.upperInclusive;
+            upper = other.upperBound;
+        }
+        return of(lower, lowerIncl, upper, upperIncl);
+    }
+
+    /**
+     * Returns the lower bound.
+     *
+     * @return An {@link Optional} describing the lower bound, or {@link Optional#empty()} if values are not bounded from below or if these
+     *         bounds are {@link #isEmpty() empty}.
+     */
+    public Optional<T> lowerBound() {
+        return Optional.ofNullable(lowerBound);
+    }
+
+    /**
+     * Returns whether or not the lower bound is inclusive.
+     *
+     * @return {@code true} if the lower bound is inclusive, or {@code false} if it is exclusive or absent.
+     */
+    public boolean isLowerInclusive() {
+        return lowerInclusive;
+    }
+
+    /**
+     * Returns the upper bound.
+     *
+     * @return An {@link Optional} describing the upper bound, or {@link Optional#empty()} if values are not bounded from above or if these
+     *         bounds are {@link #isEmpty() empty}.
+     */
+    public Optional<T> upperBound() {
+        return Optional.ofNullable(upperBound);
+    }
+
+    /**
+     * Returns whether or not the upper bound is inclusive.
+     *
+     * @return {@code true} if the upper bound is inclusive, or {@code false} if it is exclusive or absent.
+     */
+    public boolean isUpperInclusive() {
+        return upperInclusive;
+    }
+
+    /**
+     * Returns whether or not these bounds are empty.
+     *
+     * @return {@code true} if no value is between these bounds, or {@code false} otherwise.
+     */
+    public boolean isEmpty() {
+        return empty;
+    }
+
+    /**
+     * Returns whether or not a value is between these bounds.
+     *
+     * @param value The value to check.
+     * @return {@code true} if the given value is between these bounds, or {@code false} otherwise.
+     * @throws NullPointerException If the given value is {@code null}.
+     */
+    public boolean contains(T value) {
+        Objects.requireNonNull(value);
+        return !empty && !isBelowLowerBound(value) && !isAboveUpperBound(value);
+    }
+
+    private boolean isBelowLowerBound(T value) {
+        if (lowerBound == null) {
+            return false;
+        }
+        int comparison = value.compareTo(lowerBound);
+        return comparison < 0 || comparison == 0 && !lowerInclusive;
+    }
+
+    private boolean isAboveUpperBound(T value) {
+        if (upperBound == null) {
+            return false;
+        }
+        int comparison = value.compareTo(upperBound);
+        return comparison > 0 || comparison == 0 && !upperInclusive;
+    }
+
+    /**
+     * Returns a view of the portion of a set with the values that are between these bounds.
+     *
+     * @param set The set to return a portion of. It must be sorted according to the natural ordering of its elements.
+     * @return A view of the portion of the given set with the values that are between these bounds,
+     *         or an empty set if these bounds are {@link #isEmpty() empty}.
+     * @throws NullPointerException If the given set is {@code null}.
+     * @throws IllegalArgumentException If the given set is sorted using a {@link java.util.Comparator}.
+     */
+    public NavigableSet<T> subSet(NavigableSet<T> set) {
+        checkNaturalOrdering(set.comparator());
+
+        if (empty) {
+            return Collections.emptyNavigableSet();
+        }
+        if (lowerBound == null) {
+            return upperBound == null ? set : set.headSet(upperBound, upperInclusive);
+        }
+        return upperBound == null
+                ? set.tailSet(lowerBound, lowerInclusive)
+                : set.subSet(lowerBound, lowerInclusive, upperBound, upperInclusive);
+    }
+
+    /**
+     * Returns a view of the portion of a set with the values that are below the lower bound of these bounds.
+     *
+     * @param set The set to return a portion of. It must be sorted according to the natural ordering of its elements.
+     * @return A view of the portion of the given set with the values that are below the lower bound of these bounds,
+     *         or the given set itself if these bounds are {@link #isEmpty() empty}.
+     * @throws NullPointerException If the given set is {@code null}.
+     * @throws IllegalArgumentException If the given set is sorted using a {@link java.util.Comparator}.
+     */
+    public NavigableSet<T> headSetBelow(NavigableSet<T> set) {
+        checkNaturalOrdering(set.comparator());
+
+        if (empty) {
+            return set;
+        }
+        return lowerBound == null ? Collections.emptyNavigableSet() : set.headSet(lowerBound, !lowerInclusive);
+    }
+
+    /**
+     * Returns a view of the portion of a set with the values that are above the upper bound of these bounds.
+     *
+     * @param set The set to return a portion of. It must be sorted according to the natural ordering of its elements.
+     * @return A view of the portion of the given set with the values that are above the upper bound of these bounds,
+     *         or an empty set if these bounds are {@link #isEmpty() empty}.
+     * @throws NullPointerException If the given set is {@code null}.
+     * @throws IllegalArgumentException If the given set is sorted using a {@link java.util.Comparator}.
+     */
+    public NavigableSet<T> tailSetAbove(NavigableSet<T> set) {
+        checkNaturalOrdering(set.comparator());
+
+        return empty || upperBound == null ? Collections.emptyNavigableSet() : set.tailSet(upperBound, !upperInclusive);
+    }
+
+    /**
+     * Returns a view of the portion of a map with the keys that are between these bounds.
+     *
+     * @param <V> The type of values in the map.
+     * @param map The map to return a portion of. It must be sorted according to the natural ordering of its keys.
+     * @return A view of the portion of the given map with the keys that are between these bounds,
+     *         or an empty map if these bounds are {@link #isEmpty() empty}.
+     * @throws NullPointerException If the given map is {@code null}.
+     * @throws IllegalArgumentException If the given map is sorted using a {@link java.util.Comparator}.
+     */
+    public <V> NavigableMap<T, V> subMap(NavigableMap<T, V> map) {
+        checkNaturalOrdering(map.comparator());
+
+        if (empty) {
+            return Collections.emptyNavigableMap();
+        }
+        if (lowerBound == null) {
+            return upperBound == null ? map : map.headMap(upperBound, upperInclusive);
+        }
+        return upperBound == null
+                ? map.tailMap(lowerBound, lowerInclusive)
+                : map.subMap(lowerBound, lowerInclusive, upperBound, upperInclusive);
+    }
+
+    /**
+     * Returns a view of the portion of a map with the keys that are below the lower bound of these bounds.
+     *
+     * @param <V> The type of values in the map.
+     * @param map The map to return a portion of. It must be sorted according to the natural ordering of its keys.
+     * @return A view of the portion of the given map with the keys that are below the lower bound of these bounds,
+     *         or the given map itself if these bounds are {@link #isEmpty() empty}.
+     * @throws NullPointerException If the given map is {@code null}.
+     * @throws IllegalArgumentException If the given map is sorted using a {@link java.util.Comparator}.
+     */
+    public <V> NavigableMap<T, V> headMapBelow(NavigableMap<T, V> map) {
+        checkNaturalOrdering(map.comparator());
+
+        if (empty) {
+            return map;
+        }
+        return lowerBound == null ? Collections.emptyNavigableMap() : map.headMap(lowerBound, !lowerInclusive);
+    }
+
+    /**
+     * Returns a view of the portion of a map with the keys that are above the upper bound of these bounds.
+     *
+     * @param <V> The type of values in the map.
+     * @param map The map to return a portion of. It must be sorted according to the natural ordering of its keys.
+     * @return A view of the portion of the given map with the keys that are above the upper bound of these bounds,
+     *         or an empty map if these bounds are {@link #isEmpty() empty}.
+     * @throws NullPointerException If the given map is {@code null}.
+     * @throws IllegalArgumentException If the given map is sorted using a {@link java.util.Comparator}.
+     */
+    public <V> NavigableMap<T, V> tailMapAbove(NavigableMap<T, V> map) {
+        checkNaturalOrdering(map.comparator());
+
+        return empty || upperBound == null ? Collections.emptyNavigableMap() : map.tailMap(upperBound, !upperInclusive);
+    }
+
+    private static void checkNaturalOrdering(Object comparator) {
+        if (comparator != null) {
+            throw new IllegalArgumentException("Only collections sorted according to natural ordering are supported"); //$NON-NLS-1$
+        }
+    }
+
+    /**
+     * Returns the index of the first value of a sorted array that is not below the lower bound of these bounds.
+     * Together with {@link #toIndex(Comparable[])}, this defines the range of the array with the values that are between these bounds.
+     * The values before this index are below the lower bound.
+     *
+     * @param sortedValues The array of values. It must be sorted according to the natural ordering of its values, and not contain
+     *                         {@code null} values.
+     * @return The index of the first value that is not below the lower bound of these bounds,
+     *         or the length of the given array if there is no such value or if these bounds are {@link #isEmpty() empty}.
+     * @throws NullPointerException If the given array is {@code null}.
+     */
+    public int fromIndex(T[] sortedValues) {
+        if (empty) {
+            return sortedValues.length;
+        }
+        return lowerBound == null ? 0 : firstIndexAbove(sortedValues, lowerBound, lowerInclusive);
+    }
+
+    /**
+     * Returns the index after the last value of a sorted array that is not above the upper bound of these bounds.
+     * Together with {@link #fromIndex(Comparable[])}, this defines the range of the array with the values that are between these bounds.
+     * The values at and after this index are above the upper bound.
+     *
+     * @param sortedValues The array of values. It must be sorted according to the natural ordering of its values, and not contain
+     *                         {@code null} values.
+     * @return The index of the first value that is above the upper bound of these bounds,
+     *         or the length of the given array if there is no such value or if these bounds are {@link #isEmpty() empty}.
+     * @throws NullPointerException If the given array is {@code null}.
+     */
+    public int toIndex(T[] sortedValues) {
+        if (empty || upperBound == null) {
+            return sortedValues.length;
+        }
+        return firstIndexAbove(sortedValues, upperBound, !upperInclusive);
+    }
+
+    // returns the index of the first value that is larger than the given bound, or equal to it if inclusive is true
+    private int firstIndexAbove(T[] sortedValues, T bound, boolean inclusive) {
+        int low = 0;
+        int high = sortedValues.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            int comparison = sortedValues[mid].compareTo(bound);
+            if (comparison > 0 || comparison == 0 && inclusive) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        return low;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        TemporalBounds<?> other = (TemporalBounds<?>) o;
+        return Objects.equals(lowerBound, other.lowerBound)
+                && lowerInclusive == other.lowerInclusive
+                && Objects.equals(upperBound, other.upperBound)
+                && upperInclusive == other.upperInclusive
+                && empty == other.empty;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(lowerBound, lowerInclusive, upperBound, upperInclusive, empty);
+    }
+
+    @Override
+    @SuppressWarnings("nls")
+    public String toString() {
+        if (empty) {
+            return "TemporalBounds[empty]";
+        }
+        return "TemporalBounds[lowerBound=" + lowerBound
+                + ",lowerInclusive=" + lowerInclusive
+                + ",upperBound=" + upperBound
+                + ",upperInclusive=" + upperInclusive
+                + "]";
+    }
+
+    /**
+     * The smallest possible steps before and after values of a specific type.
+     *
+     * @author Rob Spoor
+     * @param <T> The type of values.
+     */
+    private static final class Steps<T> {
+
+        private final UnaryOperator<T> before;
+        private final UnaryOperator<T> after;
+
+        private Steps(UnaryOperator<T> before, UnaryOperator<T> after) {
+            this.before = before;
+            this.after = after;
+        }
+
+        // returns null if there is no value before the given value
+        private T before(T value) {
+            return step(before, value);
+        }
+
+        // returns null if there is no value after the given value
+        private T after(T value) {
+            return step(after, value);
+        }
+
+        private T step(UnaryOperator<T> step, T value) {
+            try {
+                return step.apply(value);
+            } catch (@SuppressWarnings("unused") DateTimeException e) {
+                // the value is the minimum or maximum value
+                return null;
+            }
+        }
+    }
+}
@@ -0,0 +1,230 @@
+/*
+ * TemporalPredicates.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.validation.datetime.base;
+
+import java.lang.annotation.Annotation;
+import java.time.Clock;
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.Month;
+import java.time.temporal.ChronoField;
+import java.time.temporal.TemporalField;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.BiPredicate;
+import java.util.function.IntFunction;
+import java.util.function.IntPredicate;
+import java.util.function.LongPredicate;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import jakarta.validation.ClockProvider;
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+import com.github.robtimus.validation.datetime.base.FieldValidator.FieldPredicate;
+import com.github.robtimus.validation.datetime.base.MomentValueValidator.MomentPredicate;
+import com.github.robtimus.validation.datetime.base.PartValidator.PartPredicate;
+
+/**
+ * Predicates for constraint annotations.
+ * <p>
+ * The predicates returned by this class use the same validators as the Bean Validation provider would use for the constraint annotation and all
+ * of its composing constraints. The validators are selected and initialized once, and then applied directly to each value. No
+ * {@link ConstraintValidatorContext} is created and no constraint violations are built, so invalid values are as cheap to test as valid values.
+ * This makes these predicates suitable for filtering streams or for eviction rules of caches.
+ * <p>
+ * Constraint annotations with a moment of {@code now} use the current time of the given {@link Clock} each time a value is tested.
+ * Use a {@link Clock#fixed(Instant, java.time.ZoneId) fixed clock} to test all values against the same time, or
+ * {@link #forBatches(Annotation, Class, Clock)} to test each batch of values against its own time.
+ * <p>
+ * The returned predicates are thread-safe.
+ *
+ * @author Rob Spoor
+ */
+public final class TemporalPredicates {
+
+    private TemporalPredicates() {
+    }
+
+    /**
+     * Returns a predicate for values of a specific type.
+     *
+     * @param <T> The type of values to test.
+     * @param constraint The constraint annotation to test values against.
+     * @param valueType The type of values to test.
+     * @param clock The clock that defines the current time.
+     * @return A predicate that returns {@code true} for valid values, including {@code null}, or {@code false} for invalid values.
+     * @throws NullPointerException If the given constraint annotation, value type or clock is {@code null}.
+     * @throws IllegalArgumentException If the given annotation is not a constraint annotation, or if it does not support the given value type.
+     * @throws IllegalStateException If a validator of the constraint annotation could not be instantiated.
+     */
+    public static <T> Predicate<T> forValues(Annotation constraint, Class<T> valueType, Clock clock) {
+        Objects.requireNonNull(constraint);
+        Objects.requireNonNull(clock);
+
+        BiPredicate<T, ClockProvider> predicate = ConstraintPredicates.forConstraint(constraint, valueType);
+        ClockProvider clockProvider = () -> clock;
+        return value -> predicate.test(value, clockProvider);
+    }
+
+    /**
+     * Returns a supplier of predicates for batches of values of a specific type.
+     * Each predicate returned by the supplier tests all values against the current time of the given clock at the moment it was supplied.
+     * The validators of the constraint annotation are selected and initialized only once, and are shared by all supplied predicates.
+     * <p>
+     * The returned supplier is thread-safe.
+     *
+     * @param <T> The type of values to test.
+     * @param constraint The constraint annotation to test values against.
+     * @param valueType The type of values to test.
+     * @param clock The clock that defines the current time.
+     * @return A supplier of predicates that return {@code true} for valid values, including {@code null}, or {@code false} for invalid values.
+     * @throws NullPointerException If the given constraint annotation, value type or clock is {@code null}.
+     * @throws IllegalArgumentException If the given annotation is not a constraint annotation, or if it does not support the given value type.
+     * @throws IllegalStateException If a validator of the constraint annotation could not be instantiated.
+     */
+    public static <T> Supplier<Predicate<T>> forBatches(Annotation constraint, Class<T> valueType, Clock clock) {
+        Objects.requireNonNull(constraint);
+        Objects.requireNonNull(clock);
+
+        BiPredicate<T, ClockProvider> predicate = ConstraintPredicates.forConstraint(constraint, valueType);
+        ClockProvider clockProvider = () -> clock;
+        return () -> {
+            ClockProvider batchClockProvider = ConstraintPredicates.fixedClockProvider(clockProvider);
+            return value -> predicate.test(value, batchClockProvider);
+        };
+    }
+
+    /**
+     * Returns a predicate for epoch values. The epoch values are validated as {@link Instant}s.
+     * <p>
+     * If the constraint annotation and all of its composing constraints validate values against a fixed moment in time, for instance
+     * {@code After(moment = "2007-12-03T10:15:30Z")}, the predicate only compares epoch values to the bounds of the
+     * {@link BulkValidator#epochRange(EpochUnit) range of valid epoch values}, without converting them to {@link Instant}s.
+     * Epoch values that exceed the minimum or maximum {@link Instant} are considered invalid.
+     *
+     * @param constraint The constraint annotation to test epoch values against.
+     * @param unit The unit of the epoch values.
+     * @param clock The clock that defines the current time.
+     * @return A predicate that returns {@code true} for valid epoch values, or {@code false} for invalid epoch values.
+     * @throws NullPointerException If the given constraint annotation, unit or clock is {@code null}.
+     * @throws IllegalArgumentException If the given annotation is not a constraint annotation, or if it does not support {@link Instant}.
+     * @throws IllegalStateException If a validator of the constraint annotation could not be instantiated.
+     */
+    public static LongPredicate forEpochValues(Annotation constraint, EpochUnit unit, Clock clock) {
+        Objects.requireNonNull(constraint);
+        Objects.requireNonNull(unit);
+        Objects.requireNonNull(clock);
+
+        ClockProvider clockProvider = () -> clock;
+        BulkValidator validator = BulkValidator.forConstraint(constraint, clockProvider);
+        // without a moment of now the valid epoch values do not depend on the current time, so the bulk validator's fixed clock can be used
+        return hasFixedMoments(validator.validators())
+                ? validator.epochValuePredicate(unit)
+                : validator.epochValuePredicate(unit, clockProvider);
+    }
+
+    private static boolean hasFixedMoments(List<? extends ConstraintValidator<?, ?>> validators) {
+        for (ConstraintValidator<?, ?> validator : validators) {
+            BiPredicate<?, ClockProvider> predicate = predicate(validator);
+            if (!(predicate instanceof MomentPredicate<?>) || ((MomentPredicate<?>) predicate).isNow()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns a predicate for field values, like hours or days of the week.
+     * This is only possible if the constraint annotation and all of its composing constraints validate only the given field,
+     * for instance {@code HourIn} for {@link ChronoField#HOUR_OF_DAY} or {@code DayOfWeekIn} for {@link ChronoField#DAY_OF_WEEK}.
+     * <p>
+     * Field values that are not in the {@link TemporalField#range() range} of the field are considered invalid.
+     *
+     * @param constraint The constraint annotation to test field values against.
+     * @param field The field of the field values.
+     * @param clock The clock that defines the current time.
+     * @return A predicate that returns {@code true} for valid field values, or {@code false} for invalid field values.
+     * @throws NullPointerException If the given constraint annotation, field or clock is {@code null}.
+     * @throws IllegalArgumentException If the given annotation is not a constraint annotation, or if it does not validate only the given field.
+     * @throws IllegalStateException If a validator of the constraint annotation could not be instantiated.
+     */
+    public static IntPredicate forFieldValues(Annotation constraint, TemporalField field, Clock clock) {
+        Objects.requireNonNull(constraint);
+        Objects.requireNonNull(field);
+        Objects.requireNonNull(clock);
+
+        // Constraints that validate fields support LocalDateTime in all modules, and do not apply zones to it
+        List<ConstraintValidator<?, ? super LocalDateTime>> validators = ConstraintPredicates.validators(constraint, LocalDateTime.class);
+        ClockProvider clockProvider = () -> clock;
+        IntPredicate predicate = fieldValue -> field.range().isValidIntValue(fieldValue);
+        for (ConstraintValidator<?, ? super LocalDateTime> validator : validators) {
+            IntPredicate fieldValuePredicate = fieldValuePredicate(validator, field, clockProvider);
+            if (fieldValuePredicate == null) {
+                throw new IllegalArgumentException(String.format("%s does not validate only field %s", //$NON-NLS-1$
+                        constraint.annotationType().getName(), field));
+            }
+            predicate = predicate.and(fieldValuePredicate);
+        }
+        return predicate;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static IntPredicate fieldValuePredicate(ConstraintValidator<?, ? super LocalDateTime> validator, TemporalField field,
+            ClockProvider clockProvider) {
+
+        BiPredicate<?, ClockProvider> predicate = predicate(validator);
+        if (predicate instanceof FieldPredicate<?>) {
+            FieldPredicate<?> fieldPredicate = (FieldPredicate<?>) predicate;
+            return field.equals(fieldPredicate.field())
+                    ? fieldValue -> fieldPredicate.isValidFieldValue(fieldValue, clockProvider)
+                    : null;
+        }
+        if (predicate instanceof PartPredicate<?, ?>) {
+            PartPredicate<LocalDateTime, ?> partPredicate = (PartPredicate<LocalDateTime, ?>) predicate;
+            // the type of part does not depend on the value, so it can be determined using any value
+            IntFunction<?> partFactory = partFactory(field, partPredicate.part(LocalDateTime.MIN));
+            if (partFactory != null) {
+                BiPredicate<Object, ClockProvider> partValidator = (BiPredicate<Object, ClockProvider>) partPredicate.partPredicate();
+                return fieldValue -> partValidator.test(partFactory.apply(fieldValue), clockProvider);
+            }
+        }
+        return null;
+    }
+
+    private static BiPredicate<?, ClockProvider> predicate(ConstraintValidator<?, ?> validator) {
+        return validator instanceof BaseValidator<?, ?> ? ((BaseValidator<?, ?>) validator).predicate() : null;
+    }
+
+    /**
+     * Returns a factory for parts from field values.
+     *
+     * @param field The field of the field values.
+     * @param part An example part.
+     * @return A factory for parts of the same type as the given part, or {@code null} if the given field does not match the type of part.
+     */
+    static IntFunction<?> partFactory(TemporalField field, Object part) {
+        if (field == ChronoField.DAY_OF_WEEK && part instanceof DayOfWeek) {
+            return DayOfWeek::of;
+        }
+        if (field == ChronoField.MONTH_OF_YEAR && part instanceof Month) {
+            return Month::of;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,391 @@
+/*
+ * TemporalStreams.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.validation.datetime.base;
+
+import java.lang.annotation.Annotation;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.BiPredicate;
+import java.util.stream.Stream;
+import jakarta.validation.ClockProvider;
+
+/**
+ * Utility class for validating streams and collections of date/time values against a single constraint annotation, using the fork-join pool.
+ * <p>
+ * The values can be of any type that is supported by the constraint annotation, for instance {@link java.time.Instant},
+ * {@link java.time.ZonedDateTime} or {@link java.util.Date}. The validators of the constraint annotation are selected and initialized once per
+ * call, and are then shared by all tasks, without the need for beans, a {@link jakarta.validation.Validator} or a
+ * {@link jakarta.validation.ConstraintValidatorContext} per value. Composed constraint annotations are supported.
+ * <p>
+ * The values are split into chunks that are validated in parallel. If a call is made from within a {@link ForkJoinPool}, that pool is used;
+ * otherwise the {@link ForkJoinPool#commonPool() common pool} is used. To report the index of violations, {@code violations} first copies
+ * streams and collections whose spliterators do not report their exact sizes when split, for instance filtered streams or hash sets, into a
+ * list. {@code countViolations} does not need these indexes, and never copies values.
+ * <p>
+ * The current time is retrieved from the {@link ClockProvider} once per call; all values are validated against that same time.
+ * <p>
+ * Violations are reported using the index of the value in the encounter order of the stream or collection. For collections without a defined
+ * order, such as hash sets, this is their iteration order.
+ *
+ * @author Rob Spoor
+ */
+public final class TemporalStreams {
+
+    private static final int MIN_CHUNK_SIZE = 1024;
+
+    private TemporalStreams() {
+    }
+
+    /**
+     * Validates a collection of values, using {@link Clock#systemDefaultZone()} to determine the current time.
+     * <p>
+     * If the spliterator of the collection does not report its exact size when split, for instance for hash sets, all values are first copied
+     * into a list, to be able to determine the index of each value.
+     *
+     * @param <T> The type of values to validate.
+     * @param values The collection of values to validate. {@code null} elements are considered valid.
+     * @param valueType The type of values to validate.
+     * @param constraint The constraint annotation to validate values against.
+     * @return A list with the violations, sorted by index.
+     * @throws NullPointerException If the given collection, value type or constraint annotation is {@code null}.
+     * @throws IllegalArgumentException If the given annotation is not a constraint annotation, or if it does not support the given value type.
+     * @throws IllegalStateException If a validator of the constraint annotation could not be instantiated.
+     */
+    public static <T> List<Violation<T>> violations(Collection<? extends T> values, Class<T> valueType, Annotation constraint) {
+        return violations(values, valueType, constraint, Clock::systemDefaultZone);
+    }
+
+    /**
+     * Validates a collection of values.
+     * <p>
+     * If the spliterator of the collection does not report its exact size when split, for instance for hash sets, all values are first copied
+     * into a list, to be able to determine the index of each value.
+     *
+     * @param <T> The type of values to validate.
+     * @param values The collection of values to validate. {@code null} elements are considered valid.
+     * @param valueType The type of values to validate.
+     * @param constraint The constraint annotation to validate values against.
+     * @param clockProvider The {@link ClockProvider} that defines the current time.
+     * @return A list with the violations, sorted by index.
+     * @throws NullPointerException If the given collection, value type, constraint annotation or {@link ClockProvider} is {@code null}.
+     * @throws IllegalArgumentException If the given annotation is not a constraint annotation, or if it does not support the given value type.
+     * @throws IllegalStateException If a validator of the constraint annotation could not be instantiated.
+     */
+    public static <T> List<Violation<T>> violations(Collection<? extends T> values, Class<T> valueType, Annotation constraint,
+            ClockProvider clockProvider) {
+
+        return violations(values.spliterator(), valueType, constraint, clockProvider);
+    }
+
+    /**
+     * Validates a stream of values, using {@link Clock#systemDefaultZone()} to determine the current time.
+     * This is a terminal operation.
+     * <p>
+     * If the stream cannot be split into parts of an exact size, for instance because it is filtered, all values are first copied into a list,
+     * to be able to determine the index of each value.
+     *
+     * @param <T> The type of values to validate.
+     * @param values The stream of values to validate. {@code null} elements are considered valid.
+     * @param valueType The type of values to validate.
+     * @param constraint The constraint annotation to validate values against.
+     * @return A list with the violations, sorted by index.
+     * @throws NullPointerException If the given stream, value type or constraint annotation is {@code null}.
+     * @throws IllegalArgumentException If the given annotation is not a constraint annotation, or if it does not support the given value type.
+     * @throws IllegalStateException If a validator of the constraint annotation could not be instantiated.
+     */
+    public static <T> List<Violation<T>> violations(Stream<? extends T> values, Class<T> valueType, Annotation constraint) {
+        return violations(values, valueType, constraint, Clock::systemDefaultZone);
+    }
+
+    /**
+     * Validates a stream of values.
+     * This is a terminal operation.
+     * <p>
+     * If the stream cannot be split into parts of an exact size, for instance because it is filtered, all values are first copied into a list,
+     * to be able to determine the index of each value.
+     *
+     * @param <T> The type of values to validate.
+     * @param values The stream of values to validate. {@code null} elements are considered valid.
+     * @param valueType The type of values to validate.
+     * @param constraint The constraint annotation to validate values against.
+     * @param clockProvider The {@link ClockProvider} that defines the current time.
+     * @return A list with the violations, sorted by index.
+     * @throws NullPointerException If the given stream, value type, constraint annotation or {@link ClockProvider} is {@code null}.
+     * @throws IllegalArgumentException If the given annotation is not a constraint annotation, or if it does not support the given value type.
+     * @throws IllegalStateException If a validator of the constraint annotation could not be instantiated.
+     */
+    public static <T> List<Violation<T>> violations(Stream<? extends T> values, Class<T> valueType, Annotation constraint,
+            ClockProvider clockProvider) {
+
+        // a sequential stream with intermediate operations does not split
+        return violations(values.parallel().spliterator(), valueType, constraint, clockProvider);
+    }
+
+    private static <T> List<Violation<T>> violations(Spliterator<? extends T> spliterator, Class<T> valueType, Annotation constraint,
+            ClockProvider clockProvider) {
+
+        BiPredicate<T, ClockProvider> predicate = ConstraintPredicates.forConstraint(constraint, valueType);
+        Spliterator<? extends T> splittable = splittable(spliterator);
+        ClockProvider fixedClockProvider = ConstraintPredicates.fixedClockProvider(clockProvider);
+        List<Violation<T>> violations = new ViolationsTask<>(predicate, fixedClockProvider, splittable, 0, chunkSize(splittable)).invoke();
+        return Collections.unmodifiableList(violations);
+    }
+
+    /**
+     * Counts the number of invalid values in a collection, using {@link Clock#systemDefaultZone()} to determine the current time.
+     *
+     * @param <T> The type of values to validate.
+     * @param values The collection of values to validate. {@code null} elements are considered valid.
+     * @param valueType The type of values to validate.
+     * @param constraint The constraint annotation to validate values against.
+     * @return The number of invalid values.
+     * @throws NullPointerException If the given collection, value type or constraint annotation is {@code null}.
+     * @throws IllegalArgumentException If the given annotation is not a constraint annotation, or if it does not support the given value type.
+     * @throws IllegalStateException If a validator of the constraint annotation could not be instantiated.
+     */
+    public static <T> long countViolations(Collection<? extends T> values, Class<T> valueType, Annotation constraint) {
+        return countViolations(values, valueType, constraint, Clock::systemDefaultZone);
+    }
+
+    /**
+     * Counts the number of invalid values in a collection.
+     *
+     * @param <T> The type of values to validate.
+     * @param values The collection of values to validate. {@code null} elements are considered valid.
+     * @param valueType The type of values to validate.
+     * @param constraint The constraint annotation to validate values against.
+     * @param clockProvider The {@link ClockProvider} that defines the current time.
+     * @return The number of invalid values.
+     * @throws NullPointerException If the given collection, value type, constraint annotation or {@link ClockProvider} is {@code null}.
+     * @throws IllegalArgumentException If the given annotation is not a constraint annotation, or if it does not support the given value type.
+     * @throws IllegalStateException If a validator of the constraint annotation could not be instantiated.
+     */
+    public static <T> long countViolations(Collection<? extends T> values, Class<T> valueType, Annotation constraint,
+            ClockProvider clockProvider) {
+
+        return countViolations(values.parallelStream(), valueType, constraint, clockProvider);
+    }
+
+    /**
+     * Counts the number of invalid values in a stream, using {@link Clock#systemDefaultZone()} to determine the current time.
+     * This is a terminal operation.
+     *
+     * @param <T> The type of values to validate.
+     * @param values The stream of values to validate. {@code null} elements are considered valid.
+     * @param valueType The type of values to validate.
+     * @param constraint The constraint annotation to validate values against.
+     * @return The number of invalid values.
+     * @throws NullPointerException If the given stream, value type or constraint annotation is {@code null}.
+     * @throws IllegalArgumentException If the given annotation is not a constraint annotation, or if it does not support the given value type.
+     * @throws IllegalStateException If a validator of the constraint annotation could not be instantiated.
+     */
+    public static <T> long countViolations(Stream<? extends T> values, Class<T> valueType, Annotation constraint) {
+        return countViolations(values, valueType, constraint, Clock::systemDefaultZone);
+    }
+
+    /**
+     * Counts the number of invalid values in a stream.
+     * This is a terminal operation.
+     *
+     * @param <T> The type of values to validate.
+     * @param values The stream of values to validate. {@code null} elements are considered valid.
+     * @param valueType The type of values to validate.
+     * @param constraint The constraint annotation to validate values against.
+     * @param clockProvider The {@link ClockProvider} that defines the current time.
+     * @return The number of invalid values.
+     * @throws NullPointerException If the given stream, value type, constraint annotation or {@link ClockProvider} is {@code null}.
+     * @throws IllegalArgumentException If the given annotation is not a constraint annotation, or if it does not support the given value type.
+     * @throws IllegalStateException If a validator of the constraint annotation could not be instantiated.
+     */
+    public static <T> long countViolations(Stream<? extends T> values, Class<T> valueType, Annotation constraint, ClockProvider clockProvider) {
+        // a sequential stream with intermediate operations does not split
+        Stream<? extends T> parallelValues = values.parallel();
+        BiPredicate<T, ClockProvider> predicate = ConstraintPredicates.forConstraint(constraint, valueType);
+        ClockProvider fixedClockProvider = ConstraintPredicates.fixedClockProvider(clockProvider);
+        // without indexes, the stream can split its values itself, even if it cannot split them into parts of an exact size
+        return parallelValues.filter(value -> !predicate.test(value, fixedClockProvider)).count();
+    }
+
+    private static <T> Spliterator<? extends T> splittable(Spliterator<? extends T> spliterator) {
+        if (spliterator.hasCharacteristics(Spliterator.SUBSIZED)) {
+            return spliterator;
+        }
+        // the index of the first value of a split-off part is only known if split-off parts have an exact size
+        List<T> list = new ArrayList<>();
+        spliterator.forEachRemaining(list::add);
+        return list.spliterator();
+    }
+
+    private static long chunkSize(Spliterator<?> spliterator) {
+        long chunkSize = spliterator.estimateSize() / (ForkJoinPool.getCommonPoolParallelism() * 4L);
+        return Math.max(chunkSize, MIN_CHUNK_SIZE);
+    }
+
+    /**
+     * A task that splits its values until they are no larger than a specific chunk size, and validates each chunk.
+     *
+     * @author Rob Spoor
+     * @param <T> The type of values to validate.
+     * @param <R> The result type.
+     */
+    @SuppressWarnings("serial")
+    private abstract static class ValidationTask<T, R> extends RecursiveTask<R> {
+
+        final BiPredicate<T, ClockProvider> predicate;
+        final ClockProvider clockProvider;
+        final Spliterator<? extends T> spliterator;
+        final long startIndex;
+        final long chunkSize;
+
+        ValidationTask(BiPredicate<T, ClockProvider> predicate, ClockProvider clockProvider, Spliterator<? extends T> spliterator,
+                long startIndex, long chunkSize) {
+
+            this.predicate = predicate;
+            this.clockProvider = clockProvider;
+            this.spliterator = spliterator;
+            this.startIndex = startIndex;
+            this.chunkSize = chunkSize;
+        }
+
+        @Override
+        protected final R compute() {
+            Spliterator<? extends T> prefix;
+            if (spliterator.estimateSize() > chunkSize && (prefix = spliterator.trySplit()) != null) {
+                ValidationTask<T, R> prefixTask = createTask(prefix, startIndex);
+                ValidationTask<T, R> suffixTask = createTask(spliterator, startIndex + prefix.getExactSizeIfKnown());
+                prefixTask.fork();
+                R suffixResult = suffixTask.compute();
+                return combine(prefixTask.join(), suffixResult);
+            }
+            return validate();
+        }
+
+        abstract ValidationTask<T, R> createTask(Spliterator<? extends T> split, long splitStartIndex);
+
+        abstract R validate();
+
+        abstract R combine(R prefixResult, R suffixResult);
+    }
+
+    @SuppressWarnings("serial")
+    private static final class ViolationsTask<T> extends ValidationTask<T, List<Violation<T>>> {
+
+        private ViolationsTask(BiPredicate<T, ClockProvider> predicate, ClockProvider clockProvider, Spliterator<? extends T> spliterator,
+                long startIndex, long chunkSize) {
+
+            super(predicate, clockProvider, spliterator, startIndex, chunkSize);
+        }
+
+        @Override
+        ValidationTask<T, List<Violation<T>>> createTask(Spliterator<? extends T> split, long splitStartIndex) {
+            return new ViolationsTask<>(predicate, clockProvider, split, splitStartIndex, chunkSize);
+        }
+
+        @Override
+        List<Violation<T>> validate() {
+            List<Violation<T>> violations = new ArrayList<>();
+            long[] index = { startIndex };
+            spliterator.forEachRemaining(value -> {
+                if (!predicate.test(value, clockProvider)) {
+                    violations.add(new Violation<>(index[0], value));
+                }
+                index[0]++;
+            });
+            return violations;
+        }
+
+        @Override
+        List<Violation<T>> combine(List<Violation<T>> prefixResult, List<Violation<T>> suffixResult) {
+            if (prefixResult.isEmpty()) {
+                return suffixResult;
+            }
+            if (suffixResult.isEmpty()) {
+                return prefixResult;
+            }
+            List<Violation<T>> result = new ArrayList<>(prefixResult.size() + suffixResult.size());
+            result.addAll(prefixResult);
+            result.addAll(suffixResult);
+            return result;
+        }
+    }
+
+    /**
+     * A single invalid value in a stream or collection.
+     *
+     * @author Rob Spoor
+     * @param <T> The type of value.
+     */
+    public static final class Violation<T> {
+
+        private final long index;
+        private final T value;
+
+        Violation(long index, T value) {
+            this.index = index;
+            this.value = value;
+        }
+
+        /**
+         * Returns the index of the invalid value in the stream or collection.
+         *
+         * @return The index of the invalid value in the stream or collection.
+         */
+        public long index() {
+            return index;
+        }
+
+        /**
+         * Returns the invalid value.
+         *
+         * @return The invalid value.
+         */
+        public T value() {
+            return value;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            Violation<?> other = (Violation<?>) o;
+            return index == other.index && Objects.equals(value, other.value);
+        }
+
+        @Override
+        public int hashCode() {
+            return Long.hashCode(index) ^ Objects.hashCode(value);
+        }
+
+        @Override
+        @SuppressWarnings("nls")
+        public String toString() {
+            return "Violation[index=" + index + ",value=" + value + "]";
+        }
+    }
+}
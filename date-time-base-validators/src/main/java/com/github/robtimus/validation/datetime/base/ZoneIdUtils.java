@@ -20,13 +20,28 @@ package com.github.robtimus.validation.datetime.base;
 import java.lang.annotation.Annotation;
 import java.time.Instant;
 import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.OffsetTime;
 import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.zone.ZoneRules;
 import java.util.Date;
 import java.util.Objects;
+import java.util.TimeZone;
 import java.util.function.Function;
 
 /**
  * A utility class for {@link ZoneId}s.
+ * <p>
+ * By default, validators that use the {@link #SYSTEM_ZONE_ID system zone id} use the value of {@link ZoneId#systemDefault()} at the time they
+ * are initialized. Changes to the default time zone made afterwards using {@link TimeZone#setDefault(TimeZone)} are not picked up, because
+ * validator factories usually initialize validators only once. Tracking the system zone id can be enabled using
+ * {@link #enableSystemZoneTracking()}, or by setting system property {@value #TRACK_SYSTEM_ZONE_PROPERTY} to {@code true}. Validators that
+ * are initialized while it is enabled use the tracked system zone id at the time each value is validated instead.
+ * <p>
+ * The tracked system zone id is only read from a volatile field for each value, because {@link ZoneId#systemDefault()} copies the default
+ * time zone on each call. Because {@link TimeZone#setDefault(TimeZone)} does not notify anyone, the tracked system zone id must be updated by
+ * calling {@link #refreshSystemZone()} after each change of the default time zone.
  *
  * @author Rob Spoor
  */
@@ -44,12 +59,92 @@ public final class ZoneIdUtils {
      */
     public static final String PROVIDED_ZONE_ID = "provided"; //$NON-NLS-1$
 
+    /**
+     * The name of the system property that can be set to {@code true} to enable tracking the system zone id at startup.
+     */
+    public static final String TRACK_SYSTEM_ZONE_PROPERTY = "com.github.robtimus.validation.datetime.trackSystemZone"; //$NON-NLS-1$
+
+    private static volatile boolean trackSystemZone = Boolean.getBoolean(TRACK_SYSTEM_ZONE_PROPERTY);
+
+    private static volatile ZoneId systemZone = ZoneId.systemDefault();
+
     private ZoneIdUtils() {
     }
 
-    static <A> ZoneId extractZoneId(A annotation, Function<A, String> zoneIdExtractor) {
-        String text = zoneIdExtractor.apply(annotation);
-        return toZoneId(text);
+    static boolean isTrackedSystemZone(String text) {
+        return trackSystemZone && SYSTEM_ZONE_ID.equals(text);
+    }
+
+    static ZoneId trackedSystemZone() {
+        return systemZone;
+    }
+
+    /**
+     * Returns whether or not a value is already in a specific zone. If so, applying the zone to the value would not change its local date and
+     * time, and parts or fields can be read from the value directly.
+     * <p>
+     * {@link java.time.ZonedDateTime} values are not checked, because {@link java.time.ZonedDateTime#withZoneSameInstant(ZoneId)} already returns
+     * the value itself if it is in the given zone.
+     *
+     * @param value The value to check.
+     * @param zoneId The zone to check.
+     * @return {@code true} if the value is an {@link OffsetDateTime} or {@link OffsetTime} with the fixed offset of the given zone,
+     *         or {@code false} otherwise.
+     */
+    static boolean isInZone(Object value, ZoneId zoneId) {
+        if (value instanceof OffsetDateTime) {
+            return isFixedOffset(zoneId, ((OffsetDateTime) value).getOffset());
+        }
+        if (value instanceof OffsetTime) {
+            return isFixedOffset(zoneId, ((OffsetTime) value).getOffset());
+        }
+        return false;
+    }
+
+    private static boolean isFixedOffset(ZoneId zoneId, ZoneOffset offset) {
+        if (zoneId instanceof ZoneOffset) {
+            return zoneId.equals(offset);
+        }
+        // for instance UTC or Etc/GMT+1
+        ZoneRules rules = zoneId.getRules();
+        return rules.isFixedOffset() && rules.getOffset(Instant.EPOCH).equals(offset);
+    }
+
+    /**
+     * Enables tracking the system zone id for validators that are initialized after this method is called.
+     * These validators use the system zone id as last set by {@link #refreshSystemZone()} for each value they validate, instead of the system zone
+     * id at the time they are initialized.
+     * <p>
+     * This method also refreshes the tracked system zone id.
+     */
+    public static void enableSystemZoneTracking() {
+        systemZone = ZoneId.systemDefault();
+        trackSystemZone = true;
+    }
+
+    /**
+     * Refreshes the system zone id for validators that track it. This should be called after each call to {@link TimeZone#setDefault(TimeZone)}.
+     * Validators that do not track the system zone id are not affected.
+     */
+    public static void refreshSystemZone() {
+        systemZone = ZoneId.systemDefault();
+    }
+
+    /**
+     * Disables tracking the system zone id for validators that are initialized after this method is called.
+     * Validators that were initialized while tracking was enabled keep tracking the system zone id.
+     */
+    public static void disableSystemZoneTracking() {
+        trackSystemZone = false;
+    }
+
+    /**
+     * Returns whether or not tracking the system zone id is enabled.
+     *
+     * @return {@code true} if tracking the system zone id is enabled, or {@code false} otherwise.
+     */
+    public static boolean isSystemZoneTrackingEnabled() {
+        return trackSystemZone;
     }
 
     /**
@@ -58,7 +153,8 @@ public final class ZoneIdUtils {
      * @param text The text value for which to return a {@link ZoneId}.
      * @return {@link ZoneId#systemDefault()} if the given text equals {@link #SYSTEM_ZONE_ID},
      *         {@code null} if the given text equals {@link #PROVIDED_ZONE_ID},
-     *         or the result of calling {@link ZoneId#of(String)} otherwise.
+     *         or the result of calling {@link ZoneId#of(String)} otherwise. The latter is cached, so calling this method again with the same
+     *         text value returns the same {@link ZoneId}, with its {@link ZoneId#getRules() rules} already loaded.
      * @throws NullPointerException If the given text value is {@code null}.
      */
     public static ZoneId toZoneId(String text) {
@@ -69,7 +165,7 @@ public final class ZoneIdUtils {
             case PROVIDED_ZONE_ID:
                 return null;
             default:
-                return ZoneId.of(text);
+                return PlanSnapshot.zoneId(text);
         }
     }
 
@@ -0,0 +1,102 @@
+/*
+ * ZoneOffsets.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.validation.datetime.base;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A table of the offsets of a zone, that can be used to find the offset for an epoch second without creating any objects.
+ * <p>
+ * The transitions of a zone are precomputed up to the end of {@value #LAST_PRECOMPUTED_YEAR}; the offsets of later epoch seconds are retrieved from
+ * the zone's {@link ZoneRules}.
+ *
+ * @author Rob Spoor
+ */
+final class ZoneOffsets {
+
+    static final int LAST_PRECOMPUTED_YEAR = 2100;
+
+    // 2101-01-01T00:00:00Z
+    private static final long PRECOMPUTED_END = 4_133_980_800L;
+
+    private final ZoneRules rules;
+    private final long[] transitions;
+    // offsets[i] is the offset before transitions[i]; the last offset is the offset after the last transition
+    private final int[] offsets;
+    private final long end;
+
+    private ZoneOffsets(ZoneId zoneId) {
+        this.rules = zoneId.getRules();
+
+        List<ZoneOffsetTransition> transitionList = new ArrayList<>(rules.getTransitions());
+        ZoneOffsetTransition next = transitionList.isEmpty()
+                ? rules.nextTransition(Instant.EPOCH)
+                : rules.nextTransition(transitionList.get(transitionList.size() - 1).getInstant());
+        while (next != null && next.toEpochSecond() < PRECOMPUTED_END) {
+            transitionList.add(next);
+            next = rules.nextTransition(next.getInstant());
+        }
+
+        int count = transitionList.size();
+        this.transitions = new long[count];
+        this.offsets = new int[count + 1];
+        for (int i = 0; i < count; i++) {
+            ZoneOffsetTransition transition = transitionList.get(i);
+            transitions[i] = transition.toEpochSecond();
+            offsets[i] = transition.getOffsetBefore().getTotalSeconds();
+            offsets[i + 1] = transition.getOffsetAfter().getTotalSeconds();
+        }
+        if (count == 0) {
+            offsets[0] = rules.getOffset(Instant.EPOCH).getTotalSeconds();
+        }
+        // if there are transitions after the precomputed ones, they are retrieved from the rules
+        this.end = next == null ? Long.MAX_VALUE : PRECOMPUTED_END;
+    }
+
+    /**
+     * Returns the offset table for a zone. Tables are cached in {@link ParseCache} together with the zone ids they are created for,
+     * so each zone's transitions are usually computed only once.
+     *
+     * @param zoneId The zone to return the offset table for.
+     * @return The offset table for the given zone.
+     */
+    static ZoneOffsets of(ZoneId zoneId) {
+        return ParseCache.get(ZoneOffsets.class, zoneId.getId(), id -> new ZoneOffsets(zoneId));
+    }
+
+    /**
+     * Returns the offset of the zone at a specific epoch second.
+     *
+     * @param epochSecond The epoch second.
+     * @return The offset of the zone at the given epoch second, in seconds.
+     */
+    int offsetSeconds(long epochSecond) {
+        if (epochSecond >= end) {
+            return rules.getOffset(Instant.ofEpochSecond(epochSecond)).getTotalSeconds();
+        }
+        int index = Arrays.binarySearch(transitions, epochSecond);
+        // a transition's own epoch second already uses the offset after the transition
+        return offsets[index >= 0 ? index + 1 : -index - 1];
+    }
+}
@@ -20,6 +20,7 @@
  */
 module com.github.robtimus.validation.datetime.base {
     requires transitive jakarta.validation;
+    requires java.management;
 
     exports com.github.robtimus.validation.datetime.base;
 }
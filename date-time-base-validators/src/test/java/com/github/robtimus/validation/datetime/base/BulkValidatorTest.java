@@ -0,0 +1,511 @@
+/*
+ * BulkValidatorTest.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.validation.datetime.base;
+
+import static java.lang.annotation.ElementType.ANNOTATION_TYPE;
+import static java.lang.annotation.ElementType.CONSTRUCTOR;
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.ElementType.PARAMETER;
+import static java.lang.annotation.ElementType.TYPE_USE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.lang.annotation.Annotation;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.BitSet;
+import java.util.Date;
+import java.util.Optional;
+import java.util.function.LongPredicate;
+import jakarta.validation.ClockProvider;
+import jakarta.validation.Constraint;
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+import jakarta.validation.OverridesAttribute;
+import jakarta.validation.Payload;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import com.github.robtimus.validation.datetime.base.TestConstraints.AfterConstraint;
+import com.github.robtimus.validation.datetime.base.TestConstraints.SameMinuteConstraint;
+
+@SuppressWarnings({ "javadoc", "nls" })
+// public because of the constraints and validators
+public class BulkValidatorTest {
+
+    private static final Instant INSTANT = Instant.parse("2007-12-03T10:15:30.00Z");
+
+    private static final Instant[] INSTANTS = {
+            INSTANT.minusSeconds(1),
+            INSTANT,
+            null,
+            INSTANT.plusSeconds(1),
+            INSTANT.minusSeconds(2),
+            INSTANT.plusSeconds(2),
+    };
+
+    @Nested
+    @DisplayName("forConstraint")
+    class ForConstraint {
+
+        @Test
+        @DisplayName("not a constraint annotation")
+        void testNotAConstraintAnnotation() {
+            Annotation annotation = AfterConstraint.class.getAnnotation(Retention.class);
+
+            IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> BulkValidator.forConstraint(annotation));
+            assertEquals("java.lang.annotation.Retention is not a constraint annotation", exception.getMessage());
+        }
+
+        @Test
+        @DisplayName("Instant not supported")
+        void testInstantNotSupported() {
+            Annotation annotation = annotation("dateOnly");
+
+            IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> BulkValidator.forConstraint(annotation));
+            assertEquals(DateOnlyConstraint.class.getName() + " does not support java.time.Instant", exception.getMessage());
+        }
+    }
+
+    @Nested
+    @DisplayName("validate(Instant[])")
+    class ValidateInstants {
+
+        @Test
+        @DisplayName("entire array")
+        void testEntireArray() {
+            BulkValidator validator = BulkValidator.forConstraint(annotation("after"));
+
+            assertEquals(bitSet(0, 1, 4), validator.validate(INSTANTS));
+        }
+
+        @Test
+        @DisplayName("portion of array")
+        void testPortionOfArray() {
+            BulkValidator validator = BulkValidator.forConstraint(annotation("after"));
+
+            assertEquals(bitSet(1, 4), validator.validate(INSTANTS, 1, 4));
+            assertEquals(bitSet(), validator.validate(INSTANTS, 2, 0));
+        }
+
+        @Test
+        @DisplayName("invalid offset or length")
+        void testInvalidOffsetOrLength() {
+            BulkValidator validator = BulkValidator.forConstraint(annotation("after"));
+
+            assertThrows(IndexOutOfBoundsException.class, () -> validator.validate(INSTANTS, -1, 2));
+            assertThrows(IndexOutOfBoundsException.class, () -> validator.validate(INSTANTS, 2, -1));
+            assertThrows(IndexOutOfBoundsException.class, () -> validator.validate(INSTANTS, 2, INSTANTS.length - 1));
+        }
+
+        @Test
+        @DisplayName("composed constraint")
+        void testComposedConstraint() {
+            BulkValidator validator = BulkValidator.forConstraint(annotation("composed"));
+
+            // after moment and before moment + 2 seconds
+            assertEquals(bitSet(0, 1, 4, 5), validator.validate(INSTANTS));
+        }
+
+        @Test
+        @DisplayName("now")
+        void testNow() {
+            Clock clock = Clock.fixed(INSTANT, ZoneOffset.UTC);
+            BulkValidator validator = BulkValidator.forConstraint(annotation("afterNow"), () -> clock);
+
+            assertEquals(bitSet(0, 1, 4), validator.validate(INSTANTS));
+        }
+
+        @Test
+        @DisplayName("non-base validator")
+        void testNonBaseValidator() {
+            Clock clock = Clock.fixed(INSTANT, ZoneOffset.UTC);
+            BulkValidator validator = BulkValidator.forConstraint(annotation("custom"), () -> clock);
+
+            assertEquals(bitSet(0, 1, 4), validator.validate(INSTANTS));
+        }
+    }
+
+    @Nested
+    @DisplayName("validate(long[], EpochUnit)")
+    class ValidateEpochValues {
+
+        @Test
+        @DisplayName("epoch seconds")
+        void testEpochSeconds() {
+            BulkValidator validator = BulkValidator.forConstraint(annotation("after"));
+
+            long[] epochSeconds = { INSTANT.getEpochSecond() - 1, INSTANT.getEpochSecond(), INSTANT.getEpochSecond() + 1 };
+
+            assertEquals(bitSet(0, 1), validator.validate(epochSeconds, EpochUnit.SECONDS));
+            assertEquals(bitSet(1), validator.validate(epochSeconds, 1, 2, EpochUnit.SECONDS));
+        }
+
+        @Test
+        @DisplayName("epoch milliseconds")
+        void testEpochMilliseconds() {
+            BulkValidator validator = BulkValidator.forConstraint(annotation("after"));
+
+            long[] epochMillis = { INSTANT.toEpochMilli() - 1, INSTANT.toEpochMilli(), INSTANT.toEpochMilli() + 1 };
+
+            assertEquals(bitSet(0, 1), validator.validate(epochMillis, EpochUnit.MILLISECONDS));
+            assertEquals(bitSet(1), validator.validate(epochMillis, 1, 2, EpochUnit.MILLISECONDS));
+        }
+
+        @Test
+        @DisplayName("epoch microseconds")
+        void testEpochMicroseconds() {
+            BulkValidator validator = BulkValidator.forConstraint(annotation("after"));
+
+            long epochMicros = INSTANT.getEpochSecond() * 1_000_000L;
+            long[] values = { epochMicros - 1, epochMicros, epochMicros + 1 };
+
+            assertEquals(bitSet(0, 1), validator.validate(values, EpochUnit.MICROSECONDS));
+        }
+
+        @Test
+        @DisplayName("epoch nanoseconds")
+        void testEpochNanoseconds() {
+            BulkValidator validator = BulkValidator.forConstraint(annotation("after"));
+
+            long epochNanos = INSTANT.getEpochSecond() * 1_000_000_000L;
+            long[] values = { epochNanos - 1, epochNanos, epochNanos + 1 };
+
+            assertEquals(bitSet(0, 1), validator.validate(values, EpochUnit.NANOSECONDS));
+        }
+
+        @Test
+        @DisplayName("negative epoch values")
+        void testNegativeEpochValues() {
+            Instant instant = Instant.parse("1969-12-31T23:59:59.999999999Z");
+            for (EpochUnit unit : EpochUnit.values()) {
+                assertEquals(instant.truncatedTo(precision(unit)), unit.toInstant(-1), unit.name());
+            }
+        }
+
+        @Test
+        @DisplayName("invalid offset or length")
+        void testInvalidOffsetOrLength() {
+            BulkValidator validator = BulkValidator.forConstraint(annotation("after"));
+
+            long[] epochMillis = new long[3];
+
+            assertThrows(IndexOutOfBoundsException.class, () -> validator.validate(epochMillis, -1, 2, EpochUnit.MILLISECONDS));
+            assertThrows(IndexOutOfBoundsException.class, () -> validator.validate(epochMillis, 2, -1, EpochUnit.MILLISECONDS));
+            assertThrows(IndexOutOfBoundsException.class, () -> validator.validate(epochMillis, 2, 2, EpochUnit.MILLISECONDS));
+        }
+
+        @Test
+        @DisplayName("epoch seconds outside of Instant range")
+        void testEpochSecondsOutsideOfInstantRange() {
+            BulkValidator validator = BulkValidator.forConstraint(annotation("after"));
+
+            long[] epochSeconds = { INSTANT.getEpochSecond() + 1, Long.MAX_VALUE };
+
+            assertEquals(bitSet(1), validator.validate(epochSeconds, EpochUnit.SECONDS));
+        }
+
+        @Test
+        @DisplayName("non-comparison predicate")
+        void testNonComparisonPredicate() {
+            BulkValidator validator = BulkValidator.forConstraint(annotation("sameMinute"));
+
+            long epochSecond = INSTANT.getEpochSecond();
+            long[] epochSeconds = { epochSecond - 60, epochSecond, epochSecond + 1, epochSecond + 60 };
+
+            assertEquals(bitSet(0, 3), validator.validate(epochSeconds, EpochUnit.SECONDS));
+        }
+
+        @Test
+        @DisplayName("non-base validator")
+        void testNonBaseValidator() {
+            Clock clock = Clock.fixed(INSTANT, ZoneOffset.UTC);
+            BulkValidator validator = BulkValidator.forConstraint(annotation("custom"), () -> clock);
+
+            long[] epochMillis = { INSTANT.toEpochMilli() - 1, INSTANT.toEpochMilli(), INSTANT.toEpochMilli() + 1 };
+
+            assertEquals(bitSet(0, 1), validator.validate(epochMillis, EpochUnit.MILLISECONDS));
+        }
+    }
+
+    @Nested
+    @DisplayName("epochValuePredicate")
+    class EpochValuePredicate {
+
+        @Test
+        @DisplayName("range constraint")
+        void testRangeConstraint() {
+            BulkValidator validator = BulkValidator.forConstraint(annotation("after"));
+
+            LongPredicate predicate = validator.epochValuePredicate(EpochUnit.MILLISECONDS);
+
+            assertFalse(predicate.test(INSTANT.toEpochMilli() - 1));
+            assertFalse(predicate.test(INSTANT.toEpochMilli()));
+            assertTrue(predicate.test(INSTANT.toEpochMilli() + 1));
+        }
+
+        @Test
+        @DisplayName("non-base validator")
+        void testNonBaseValidator() {
+            Clock clock = Clock.fixed(INSTANT, ZoneOffset.UTC);
+            BulkValidator validator = BulkValidator.forConstraint(annotation("custom"), () -> clock);
+
+            LongPredicate predicate = validator.epochValuePredicate(EpochUnit.SECONDS);
+
+            assertFalse(predicate.test(INSTANT.getEpochSecond() - 1));
+            assertFalse(predicate.test(INSTANT.getEpochSecond()));
+            assertTrue(predicate.test(INSTANT.getEpochSecond() + 1));
+            assertFalse(predicate.test(Long.MAX_VALUE));
+        }
+    }
+
+    @Nested
+    @DisplayName("epochRange")
+    class EpochRangeForUnit {
+
+        @Test
+        @DisplayName("epoch seconds")
+        void testEpochSeconds() {
+            BulkValidator validator = BulkValidator.forConstraint(annotation("after"));
+
+            EpochRange expected = EpochRange.of(INSTANT.getEpochSecond() + 1, Instant.MAX.getEpochSecond(), EpochUnit.SECONDS);
+
+            assertEquals(Optional.of(expected), validator.epochRange(EpochUnit.SECONDS));
+        }
+
+        @Test
+        @DisplayName("epoch milliseconds")
+        void testEpochMilliseconds() {
+            BulkValidator validator = BulkValidator.forConstraint(annotation("after"));
+
+            EpochRange expected = EpochRange.of(INSTANT.toEpochMilli() + 1, Long.MAX_VALUE, EpochUnit.MILLISECONDS);
+
+            assertEquals(Optional.of(expected), validator.epochRange(EpochUnit.MILLISECONDS));
+        }
+
+        @Test
+        @DisplayName("epoch nanoseconds")
+        void testEpochNanoseconds() {
+            BulkValidator validator = BulkValidator.forConstraint(annotation("after"));
+
+            EpochRange expected = EpochRange.of(INSTANT.getEpochSecond() * 1_000_000_000L + 1, Long.MAX_VALUE, EpochUnit.NANOSECONDS);
+
+            assertEquals(Optional.of(expected), validator.epochRange(EpochUnit.NANOSECONDS));
+        }
+
+        @Test
+        @DisplayName("composed constraint")
+        void testComposedConstraint() {
+            BulkValidator validator = BulkValidator.forConstraint(annotation("composed"));
+
+            EpochRange expected = EpochRange.of(INSTANT.toEpochMilli() + 1, INSTANT.toEpochMilli() + 1_999, EpochUnit.MILLISECONDS);
+
+            assertEquals(Optional.of(expected), validator.epochRange(EpochUnit.MILLISECONDS));
+        }
+
+        @Test
+        @DisplayName("now")
+        void testNow() {
+            Clock clock = Clock.fixed(INSTANT, ZoneOffset.UTC);
+            BulkValidator validator = BulkValidator.forConstraint(annotation("afterNow"), () -> clock);
+
+            EpochRange expected = EpochRange.of(INSTANT.toEpochMilli() + 1, Long.MAX_VALUE, EpochUnit.MILLISECONDS);
+
+            assertEquals(Optional.of(expected), validator.epochRange(EpochUnit.MILLISECONDS));
+        }
+
+        @Test
+        @DisplayName("non-comparison predicate")
+        void testNonComparisonPredicate() {
+            BulkValidator validator = BulkValidator.forConstraint(annotation("sameMinute"));
+
+            // values directly around the moment are all valid, but values in other minutes are not
+            assertEquals(Optional.empty(), validator.epochRange(EpochUnit.MILLISECONDS));
+        }
+
+        @Test
+        @DisplayName("with phase timings")
+        void testWithPhaseTimings() {
+            PhaseTimings.enable();
+            try {
+                BulkValidator validator = BulkValidator.forConstraint(annotation("after"));
+
+                EpochRange expected = EpochRange.of(INSTANT.toEpochMilli() + 1, Long.MAX_VALUE, EpochUnit.MILLISECONDS);
+
+                assertEquals(Optional.of(expected), validator.epochRange(EpochUnit.MILLISECONDS));
+            } finally {
+                PhaseTimings.disable();
+            }
+        }
+
+        @Test
+        @DisplayName("non-base validator")
+        void testNonBaseValidator() {
+            BulkValidator validator = BulkValidator.forConstraint(annotation("custom"));
+
+            assertEquals(Optional.empty(), validator.epochRange(EpochUnit.MILLISECONDS));
+        }
+    }
+
+    @Test
+    @DisplayName("overridden attributes")
+    void testOverriddenAttributes() {
+        Annotation composed = annotation("composed");
+        Annotation composing = ComposedConstraint.class.getAnnotation(AfterConstraint.class);
+        Annotation expected = annotation("overridden");
+
+        Annotation overridden = ConstraintPredicates.applyOverrides(composed, composing);
+
+        assertEquals(AfterConstraint.class, overridden.annotationType());
+        assertEquals("2007-12-03T10:15:30.00Z", ((AfterConstraint) overridden).moment());
+        assertEquals(expected, overridden);
+        assertEquals(overridden, expected);
+        assertEquals(expected.hashCode(), overridden.hashCode());
+        assertNotEquals(composing, overridden);
+    }
+
+    private static Annotation annotation(String fieldName) {
+        return TestConstraints.annotation(TestClass.class, fieldName);
+    }
+
+    private static ChronoUnit precision(EpochUnit unit) {
+        switch (unit) {
+            case SECONDS:
+                return ChronoUnit.SECONDS;
+            case MILLISECONDS:
+                return ChronoUnit.MILLIS;
+            case MICROSECONDS:
+                return ChronoUnit.MICROS;
+            default:
+                return ChronoUnit.NANOS;
+        }
+    }
+
+    private static BitSet bitSet(int... indexes) {
+        BitSet bitSet = new BitSet();
+        for (int index : indexes) {
+            bitSet.set(index);
+        }
+        return bitSet;
+    }
+
+    private static final class TestClass {
+
+        @AfterConstraint(moment = "2007-12-03T10:15:30.00Z")
+        private Instant after;
+
+        @AfterConstraint(moment = "now")
+        private Instant afterNow;
+
+        @ComposedConstraint(moment = "2007-12-03T10:15:30.00Z")
+        private Instant composed;
+
+        @AfterConstraint(moment = "2007-12-03T10:15:30.00Z", message = "composed message")
+        private Instant overridden;
+
+        @SameMinuteConstraint(moment = "2007-12-03T10:15:30.00Z")
+        private Instant sameMinute;
+
+        @DateOnlyConstraint
+        private Date dateOnly;
+
+        @CustomConstraint
+        private Instant custom;
+    }
+
+    @Constraint(validatedBy = BeforeTestValidator.class)
+    @AfterConstraint(moment = "1970-01-01T00:00:00Z", message = "composed message")
+    @Target({ METHOD, FIELD, ANNOTATION_TYPE, CONSTRUCTOR, PARAMETER, TYPE_USE })
+    @Retention(RUNTIME)
+    public @interface ComposedConstraint {
+
+        String message() default "default message";
+
+        Class<?>[] groups() default {};
+
+        Class<? extends Payload>[] payload() default {};
+
+        @OverridesAttribute(constraint = AfterConstraint.class)
+        String moment();
+    }
+
+    public static final class BeforeTestValidator extends MomentValueValidator<ComposedConstraint, Instant> {
+
+        public BeforeTestValidator() {
+            super(ComposedConstraint::moment, Instant::parse, Instant::now, a -> "PT2S", Instant::plus, comparison(Instant::isBefore));
+        }
+    }
+
+    @Constraint(validatedBy = DateOnlyValidator.class)
+    @Target({ METHOD, FIELD, ANNOTATION_TYPE, CONSTRUCTOR, PARAMETER, TYPE_USE })
+    @Retention(RUNTIME)
+    public @interface DateOnlyConstraint {
+
+        String message() default "default message";
+
+        Class<?>[] groups() default {};
+
+        Class<? extends Payload>[] payload() default {};
+    }
+
+    public static final class DateOnlyValidator extends DateValidator<DateOnlyConstraint> {
+
+        public DateOnlyValidator() {
+            super(new ValueValidator<DateOnlyConstraint, Instant>(annotation -> (i, p) -> true) {
+                // no body
+            });
+        }
+    }
+
+    @Constraint(validatedBy = CustomValidator.class)
+    @Target({ METHOD, FIELD, ANNOTATION_TYPE, CONSTRUCTOR, PARAMETER, TYPE_USE })
+    @Retention(RUNTIME)
+    public @interface CustomConstraint {
+
+        String message() default "default message";
+
+        Class<?>[] groups() default {};
+
+        Class<? extends Payload>[] payload() default {};
+    }
+
+    public static final class CustomValidator implements ConstraintValidator<CustomConstraint, Instant> {
+
+        @Override
+        public boolean isValid(Instant value, ConstraintValidatorContext context) {
+            if (value == null) {
+                return true;
+            }
+            ClockProvider clockProvider = context.getClockProvider();
+            if (value.isAfter(Instant.now(clockProvider.getClock()))) {
+                return true;
+            }
+            context.disableDefaultConstraintViolation();
+            context.buildConstraintViolationWithTemplate("custom message").addConstraintViolation();
+            return false;
+        }
+    }
+}
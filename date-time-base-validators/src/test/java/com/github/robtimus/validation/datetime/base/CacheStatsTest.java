@@ -0,0 +1,191 @@
+/*
+ * CacheStatsTest.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.validation.datetime.base;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings({ "javadoc", "nls" })
+class CacheStatsTest {
+
+    @Nested
+    @DisplayName("forCache")
+    class ForCache {
+
+        @Test
+        @DisplayName("unknown cache")
+        void testUnknownCache() {
+            assertEquals(Optional.empty(), CacheStats.forCache("CacheStatsTest.unknown"));
+        }
+
+        @Test
+        @DisplayName("new cache")
+        void testNewCache() {
+            CacheStats.register("CacheStatsTest.new", () -> 0);
+
+            CacheStats stats = CacheStats.forCache("CacheStatsTest.new").orElseThrow();
+
+            assertEquals("CacheStatsTest.new", stats.name());
+            assertEquals(0, stats.hitCount());
+            assertEquals(0, stats.missCount());
+            assertEquals(0, stats.requestCount());
+            assertEquals(1.0, stats.hitRate());
+            assertEquals(0, stats.evictionCount());
+            assertEquals(0, stats.size());
+        }
+
+        @Test
+        @DisplayName("used cache")
+        void testUsedCache() {
+            AtomicLong size = new AtomicLong();
+            CacheStats.Counter counter = CacheStats.register("CacheStatsTest.used", size::get);
+
+            counter.recordMiss();
+            counter.recordMiss();
+            counter.recordMiss();
+            counter.recordHit();
+            counter.recordEviction();
+            counter.recordEvictions(2);
+            size.set(5);
+
+            CacheStats stats = CacheStats.forCache("CacheStatsTest.used").orElseThrow();
+
+            assertEquals("CacheStatsTest.used", stats.name());
+            assertEquals(1, stats.hitCount());
+            assertEquals(3, stats.missCount());
+            assertEquals(4, stats.requestCount());
+            assertEquals(0.25, stats.hitRate());
+            assertEquals(3, stats.evictionCount());
+            assertEquals(5, stats.size());
+        }
+
+        @Test
+        @DisplayName("cache without size")
+        void testCacheWithoutSize() {
+            CacheStats.Counter counter = CacheStats.register("CacheStatsTest.withoutSize");
+
+            counter.recordHit();
+            counter.recordHit();
+            counter.recordComputation();
+
+            CacheStats stats = CacheStats.forCache("CacheStatsTest.withoutSize").orElseThrow();
+
+            assertEquals(1, stats.hitCount());
+            assertEquals(1, stats.missCount());
+            assertEquals(2, stats.requestCount());
+            assertEquals(0, stats.evictionCount());
+            assertEquals(CacheStats.UNKNOWN_SIZE, stats.size());
+        }
+
+        @Test
+        @DisplayName("snapshots are not updated")
+        void testSnapshotsAreNotUpdated() {
+            CacheStats.Counter counter = CacheStats.register("CacheStatsTest.snapshot", () -> 0);
+
+            CacheStats stats = CacheStats.forCache("CacheStatsTest.snapshot").orElseThrow();
+
+            counter.recordHit();
+
+            assertEquals(0, stats.hitCount());
+            assertEquals(1, CacheStats.forCache("CacheStatsTest.snapshot").orElseThrow().hitCount());
+        }
+    }
+
+    @Test
+    @DisplayName("all")
+    void testAll() {
+        CacheStats.register("CacheStatsTest.all.b", () -> 2);
+        CacheStats.register("CacheStatsTest.all.a", () -> 1);
+
+        List<CacheStats> stats = CacheStats.all().stream()
+                .filter(s -> s.name().startsWith("CacheStatsTest.all."))
+                .collect(Collectors.toList());
+
+        assertEquals(2, stats.size());
+        assertEquals("CacheStatsTest.all.a", stats.get(0).name());
+        assertEquals(1, stats.get(0).size());
+        assertEquals("CacheStatsTest.all.b", stats.get(1).name());
+        assertEquals(2, stats.get(1).size());
+    }
+
+    @Test
+    @DisplayName("duplicate cache name")
+    void testDuplicateCacheName() {
+        CacheStats.register("CacheStatsTest.duplicate", () -> 0);
+
+        IllegalStateException exception = assertThrows(IllegalStateException.class, () -> CacheStats.register("CacheStatsTest.duplicate", () -> 0));
+        assertEquals("Duplicate cache name: CacheStatsTest.duplicate", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("MBeans")
+    void testMBeans() throws JMException {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+
+        CacheStats.Counter existingCounter = CacheStats.register("CacheStatsTest.mbean.existing", () -> 3);
+        ObjectName existingName = CacheStats.objectName("CacheStatsTest.mbean.existing");
+        ObjectName newName = CacheStats.objectName("CacheStatsTest.mbean.new");
+
+        existingCounter.recordMiss();
+        existingCounter.recordHit();
+
+        assertFalse(server.isRegistered(existingName));
+
+        CacheStats.registerMBeans();
+        try {
+            assertTrue(server.isRegistered(existingName));
+            assertEquals("CacheStatsTest.mbean.existing", server.getAttribute(existingName, "Name"));
+            assertEquals(1L, server.getAttribute(existingName, "HitCount"));
+            assertEquals(1L, server.getAttribute(existingName, "MissCount"));
+            assertEquals(2L, server.getAttribute(existingName, "RequestCount"));
+            assertEquals(0.5, server.getAttribute(existingName, "HitRate"));
+            assertEquals(0L, server.getAttribute(existingName, "EvictionCount"));
+            assertEquals(3L, server.getAttribute(existingName, "Size"));
+
+            // registering again has no effect
+            CacheStats.registerMBeans();
+
+            CacheStats.Counter newCounter = CacheStats.register("CacheStatsTest.mbean.new", () -> 0);
+            assertTrue(server.isRegistered(newName));
+
+            newCounter.recordEviction();
+            assertEquals(1L, server.getAttribute(newName, "EvictionCount"));
+        } finally {
+            CacheStats.unregisterMBeans();
+        }
+
+        assertFalse(server.isRegistered(existingName));
+        assertFalse(server.isRegistered(newName));
+
+        // unregistering again has no effect
+        CacheStats.unregisterMBeans();
+    }
+}
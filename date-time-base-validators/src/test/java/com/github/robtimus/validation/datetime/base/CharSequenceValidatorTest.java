@@ -0,0 +1,655 @@
+/*
+ * CharSequenceValidatorTest.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.validation.datetime.base;
+
+import static com.github.robtimus.validation.datetime.base.FastChecks.assertMatchesDelegate;
+import static com.github.robtimus.validation.datetime.base.FastChecks.constraint;
+import static com.github.robtimus.validation.datetime.base.FastChecks.context;
+import static com.github.robtimus.validation.datetime.base.ZoneIdUtils.SYSTEM_ZONE_ID;
+import static java.lang.annotation.ElementType.ANNOTATION_TYPE;
+import static java.lang.annotation.ElementType.CONSTRUCTOR;
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.ElementType.PARAMETER;
+import static java.lang.annotation.ElementType.TYPE_USE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+import java.time.Clock;
+import java.time.DateTimeException;
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoField;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import jakarta.validation.ClockProvider;
+import jakarta.validation.Constraint;
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Payload;
+import com.github.robtimus.validation.datetime.base.FastChecks.FastCheckConstraint;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+@SuppressWarnings({ "javadoc", "nls" })
+//public because of the constraint and validators
+public class CharSequenceValidatorTest extends AbstractValidatorTest {
+
+    private static final ClockProvider CLOCK_PROVIDER = () -> Clock.fixed(Instant.parse("2007-12-03T10:15:30Z"), ZoneOffset.UTC);
+
+    @Nested
+    @DisplayName("with moment 'now'")
+    class WithMomentNow {
+
+        @Test
+        @DisplayName("null value")
+        void testNullValue() {
+            List<?> violations = validate(CLOCK_PROVIDER, TestClass.class, "now", null);
+            assertEquals(Collections.emptyList(), violations);
+        }
+
+        @ParameterizedTest(name = "{0}")
+        @ValueSource(strings = { "2007-12-03", "2007-12-04", "2007-12-03T10:15:30", "2007-12-03T10:15:30.000000001", "2007-12-03T10:15:30Z",
+                "2007-12-03T11:15:30+01:00", "2007-12-03T10:15:29-00:00:01" })
+        @DisplayName("valid value")
+        void testValidValue(String value) {
+            List<?> violations = validate(CLOCK_PROVIDER, TestClass.class, "now", value);
+            assertEquals(Collections.emptyList(), violations);
+        }
+
+        @ParameterizedTest(name = "{0}")
+        @ValueSource(strings = { "2007-12-02", "2007-12-03T10:15:29.999999999", "2007-12-03T10:15:29.999999999Z", "2007-12-03T10:15:30+00:00:01" })
+        @DisplayName("invalid value")
+        void testInvalidValue(String value) {
+            List<ConstraintViolation<TestClass>> violations = validate(CLOCK_PROVIDER, TestClass.class, "now", value);
+            assertEquals(1, violations.size());
+
+            ConstraintViolation<?> violation = violations.get(0);
+            assertAnnotation(violation, TestConstraint.class);
+        }
+
+        @Test
+        @DisplayName("non-String value")
+        void testNonStringValue() {
+            List<?> violations = validate(CLOCK_PROVIDER, TestClass.class, "now", new StringBuilder("2007-12-03T10:15:30Z"));
+            assertEquals(Collections.emptyList(), violations);
+        }
+    }
+
+    @Nested
+    @DisplayName("with explicit moment")
+    class WithExplicitMoment {
+
+        @ParameterizedTest(name = "{0}")
+        @ValueSource(strings = { "2007-12-03T10:15:30+01:00", "2007-12-03T09:15:30Z", "2007-12-03T10:15:30.000000001+01:00", "2008-01-01T00:00Z" })
+        @DisplayName("valid value")
+        void testValidValue(String value) {
+            List<?> violations = validate(TestClass.class, "offsetDateTime", value);
+            assertEquals(Collections.emptyList(), violations);
+        }
+
+        @ParameterizedTest(name = "{0}")
+        @ValueSource(strings = { "2007-12-03T09:15:29.999999999Z", "2007-12-03T10:15:30+01:00:01", "1970-01-01T00:00Z" })
+        @DisplayName("invalid value")
+        void testInvalidValue(String value) {
+            List<ConstraintViolation<TestClass>> violations = validate(TestClass.class, "offsetDateTime", value);
+            assertEquals(1, violations.size());
+
+            ConstraintViolation<?> violation = violations.get(0);
+            assertAnnotation(violation, TestConstraint.class);
+        }
+
+        // The moment cannot be parsed as a local date-time or local date, so text in those forms is not supported
+        @ParameterizedTest(name = "{0}")
+        @ValueSource(strings = { "2008-12-03T10:15:30", "2008-12-03" })
+        @DisplayName("unsupported form")
+        void testUnsupportedForm(String value) {
+            List<ConstraintViolation<TestClass>> violations = validate(TestClass.class, "offsetDateTime", value);
+            assertEquals(1, violations.size());
+
+            ConstraintViolation<?> violation = violations.get(0);
+            assertAnnotation(violation, TestConstraint.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("with zone across daylight saving time transitions")
+    class WithZoneAcrossDaylightSavingTimeTransitions {
+
+        @ParameterizedTest(name = "{0}")
+        @ValueSource(strings = { "2007-03-24T23:00Z", "2007-03-25T01:30Z", "2007-03-25T02:30+01:00", "2007-10-28T01:30Z" })
+        @DisplayName("valid date part")
+        void testValidDatePart(String value) {
+            List<?> violations = validate(TestClass.class, "dateInParis", value);
+            assertEquals(Collections.emptyList(), violations);
+        }
+
+        @ParameterizedTest(name = "{0}")
+        @ValueSource(strings = { "2007-03-24T22:59:59.999999999Z", "2007-03-25T00:30+02:00", "2007-03-25T00:59:59+02:00" })
+        @DisplayName("invalid date part")
+        void testInvalidDatePart(String value) {
+            List<ConstraintViolation<TestClass>> violations = validate(TestClass.class, "dateInParis", value);
+            assertEquals(1, violations.size());
+
+            ConstraintViolation<?> violation = violations.get(0);
+            assertAnnotation(violation, TestDateConstraint.class);
+        }
+
+        @ParameterizedTest(name = "{0}")
+        @ValueSource(strings = { "2007-03-24T23:00Z", "2007-03-25T01:00Z", "2007-10-27T22:00Z", "2007-10-28T22:59:59.999999999Z" })
+        @DisplayName("valid day of week part")
+        void testValidDayOfWeekPart(String value) {
+            List<?> violations = validate(TestClass.class, "dayOfWeekInParis", value);
+            assertEquals(Collections.emptyList(), violations);
+        }
+
+        @ParameterizedTest(name = "{0}")
+        @ValueSource(strings = { "2007-03-24T22:59:59Z", "2007-10-27T21:59:59Z", "2007-10-28T23:00Z", "2007-10-29T00:30+01:00" })
+        @DisplayName("invalid day of week part")
+        void testInvalidDayOfWeekPart(String value) {
+            List<ConstraintViolation<TestClass>> violations = validate(TestClass.class, "dayOfWeekInParis", value);
+            assertEquals(1, violations.size());
+
+            ConstraintViolation<?> violation = violations.get(0);
+            assertAnnotation(violation, TestDayOfWeekConstraint.class);
+        }
+
+        // both 02:30+02:00 and 02:30+01:00 occur in the overlap at the end of daylight saving time
+        @ParameterizedTest(name = "{0}")
+        @ValueSource(strings = { "2007-10-28T00:30Z", "2007-10-28T01:30Z", "2007-10-28T02:30+01:00", "2007-10-28T01:59:59.999999999Z" })
+        @DisplayName("valid hour field")
+        void testValidHourField(String value) {
+            List<?> violations = validate(TestClass.class, "hourInParis", value);
+            assertEquals(Collections.emptyList(), violations);
+        }
+
+        // 02:00 to 03:00 does not occur in the gap at the start of daylight saving time
+        @ParameterizedTest(name = "{0}")
+        @ValueSource(strings = { "2007-03-25T00:59:59.999999999Z", "2007-03-25T01:00Z", "2007-03-25T02:30+01:00", "2007-10-28T02:00Z" })
+        @DisplayName("invalid hour field")
+        void testInvalidHourField(String value) {
+            List<ConstraintViolation<TestClass>> violations = validate(TestClass.class, "hourInParis", value);
+            assertEquals(1, violations.size());
+
+            ConstraintViolation<?> violation = violations.get(0);
+            assertAnnotation(violation, TestHourConstraint.class);
+        }
+
+        // the zone cannot be applied to local date-times, so text in that form is not supported
+        @Test
+        @DisplayName("unsupported form")
+        void testUnsupportedForm() {
+            List<ConstraintViolation<TestClass>> violations = validate(TestClass.class, "hourInParis", "2007-10-28T02:30");
+            assertEquals(1, violations.size());
+
+            ConstraintViolation<?> violation = violations.get(0);
+            assertAnnotation(violation, TestHourConstraint.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("malformed text")
+    class MalformedText {
+
+        @ParameterizedTest(name = "{0}")
+        @ValueSource(strings = { "", "now", "10:15:30", "2007-12-32", "2007-12-03T10:15:30+01:00[Europe/Paris]", "+12007-12-03", "2007-12-03T24:00" })
+        @DisplayName("without payload")
+        void testWithoutPayload(String value) {
+            List<ConstraintViolation<TestClass>> violations = validate(CLOCK_PROVIDER, TestClass.class, "now", value);
+            assertEquals(1, violations.size());
+
+            ConstraintViolation<?> violation = violations.get(0);
+            assertAnnotation(violation, TestConstraint.class);
+        }
+
+        @ParameterizedTest(name = "{0}")
+        @ValueSource(strings = { "", "now", "10:15:30", "2007-12-32", "2007-12-03T10:15:30+01:00[Europe/Paris]", "+12007-12-03", "2007-12-03T24:00" })
+        @DisplayName("with IgnoreMalformedText payload")
+        void testWithIgnoreMalformedTextPayload(String value) {
+            List<?> violations = validate(CLOCK_PROVIDER, TestClass.class, "ignoreMalformed", value);
+            assertEquals(Collections.emptyList(), violations);
+        }
+
+        @Test
+        @DisplayName("invalid value with IgnoreMalformedText payload")
+        void testInvalidValueWithIgnoreMalformedTextPayload() {
+            List<ConstraintViolation<TestClass>> violations = validate(CLOCK_PROVIDER, TestClass.class, "ignoreMalformed", "2007-12-02");
+            assertEquals(1, violations.size());
+
+            ConstraintViolation<?> violation = violations.get(0);
+            assertAnnotation(violation, TestConstraint.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("fast checks match delegate validators")
+    class FastChecksMatchDelegateValidators {
+
+        // texts in all forms, around the daylight saving time transitions of Europe/Paris and Australia/Lord_Howe, and with extreme offsets
+        private final String[] texts = {
+                "2007-03-24", "2007-03-25", "2007-03-26", "2007-10-28", "2007-12-03", "1969-12-31", "2024-02-29", "0001-01-01", "9999-12-31",
+                "2007-03-25T01:59:59.999999999", "2007-03-25T02:00", "2007-03-25T02:30", "2007-03-25T03:00", "2007-10-28T02:30",
+                "2007-12-03T10:15:29.999999999", "2007-12-03T10:15:30", "2007-12-03T10:15:30.000000001", "1969-12-31T23:59:59.999",
+                "2007-03-24T22:59:59.999999999Z", "2007-03-24T23:00Z", "2007-03-25T00:59:59.999999999Z", "2007-03-25T01:00Z",
+                "2007-03-25T00:30+02:00", "2007-03-25T02:30+01:00", "2007-10-27T21:59:59Z", "2007-10-28T00:30Z", "2007-10-28T01:30Z",
+                "2007-10-28T02:30+01:00", "2007-10-28T02:30+02:00", "2007-10-28T22:59:59.999999999Z", "2007-03-24T14:30Z", "2007-03-24T15:00Z",
+                "2007-03-24T15:30Z", "2007-10-27T15:29:59Z", "2007-10-27T15:30Z", "2007-10-27T16:00Z", "2007-12-03T09:15:29.999999999Z",
+                "2007-12-03T09:15:30Z", "2007-12-03T09:15:30.000000001Z", "2007-12-03T10:15:30+01:00", "2007-12-03T10:15:30+14:00",
+                "2007-12-03T10:15:30-18:00", "2007-12-03T15:00:30+05:45", "2007-12-03T06:45:30-03:30", "1969-12-31T23:30:00.5Z",
+                "2024-02-29T23:59:59-05:30", "0001-01-01T00:00+18:00", "9999-12-31T23:59:59.999999999-18:00",
+                "00:00", "02:29:59.999999999", "02:30", "10:15:29.999999999", "10:15:30", "10:15:30.000000001", "23:59:59.999999999",
+        };
+
+        @ParameterizedTest(name = "{0}")
+        @ValueSource(strings = {
+                "now", "2007-12-03T10:15:30+01:00", "2007-03-25T02:30", "2007-12-03", "+999999999-12-31", "-999999999-01-01", "10:15:30", "00:00",
+                "23:59:59.999999999"
+        })
+        @DisplayName("values")
+        void testValues(String moment) {
+            assertFastChecksMatch(constraint(moment, SYSTEM_ZONE_ID), OffsetDateTimeNotBefore::new, LocalDateTimeNotBefore::new,
+                    LocalDateNotBefore::new, LocalTimeNotBefore::new);
+        }
+
+        @ParameterizedTest(name = "{0}")
+        @ValueSource(strings = {
+                "Europe/Paris", "Australia/Lord_Howe", "America/St_Johns", "Asia/Kathmandu", "Pacific/Kiritimati", "system", "provided" })
+        @DisplayName("date parts")
+        void testDateParts(String zoneId) {
+            for (String moment : new String[] { "now", "2007-03-25", "2007-10-28" }) {
+                assertFastChecksMatch(constraint(moment, zoneId), OffsetDateTimeDateNotBefore::new, LocalDateTimeDateNotBefore::new, null, null);
+            }
+        }
+
+        @ParameterizedTest(name = "{0}")
+        @ValueSource(strings = {
+                "Europe/Paris", "Australia/Lord_Howe", "America/St_Johns", "Asia/Kathmandu", "Pacific/Kiritimati", "system", "provided" })
+        @DisplayName("time parts")
+        void testTimeParts(String zoneId) {
+            for (String moment : new String[] { "now", "00:00", "02:30", "23:59:59.999999999" }) {
+                assertFastChecksMatch(constraint(moment, zoneId), OffsetDateTimeTimeNotBefore::new, LocalDateTimeTimeNotBefore::new, null, null);
+            }
+        }
+
+        @ParameterizedTest(name = "{0}")
+        @ValueSource(strings = {
+                "Europe/Paris", "Australia/Lord_Howe", "America/St_Johns", "Asia/Kathmandu", "Pacific/Kiritimati", "system", "provided" })
+        @DisplayName("year-month parts")
+        void testYearMonthParts(String zoneId) {
+            for (String moment : new String[] { "now", "2007-03", "2007-10" }) {
+                assertFastChecksMatch(constraint(moment, zoneId), OffsetDateTimeYearMonthNotBefore::new, null, LocalDateYearMonthNotBefore::new,
+                        null);
+            }
+        }
+
+        @ParameterizedTest(name = "{0}")
+        @ValueSource(strings = {
+                "Europe/Paris", "Australia/Lord_Howe", "America/St_Johns", "Asia/Kathmandu", "Pacific/Kiritimati", "system", "provided" })
+        @DisplayName("day of week parts")
+        void testDayOfWeekParts(String zoneId) {
+            for (DayOfWeek dayOfWeek : new DayOfWeek[] { DayOfWeek.SATURDAY, DayOfWeek.SUNDAY, DayOfWeek.MONDAY }) {
+                assertFastChecksMatch(constraint(dayOfWeek.name(), zoneId), OffsetDateTimeDayOfWeekIs::new, null, null, null);
+            }
+        }
+
+        @ParameterizedTest(name = "{0}")
+        @ValueSource(strings = {
+                "Europe/Paris", "Australia/Lord_Howe", "America/St_Johns", "Asia/Kathmandu", "Pacific/Kiritimati", "system", "provided" })
+        @DisplayName("hour fields")
+        void testHourFields(String zoneId) {
+            for (int hour : new int[] { 0, 2, 3, 10 }) {
+                assertFastChecksMatch(constraint(Integer.toString(hour), zoneId), OffsetDateTimeHourIs::new, LocalDateTimeHourIs::new, null, null);
+            }
+        }
+
+        private void assertFastChecksMatch(FastCheckConstraint constraint,
+                Supplier<ConstraintValidator<FastCheckConstraint, ? super OffsetDateTime>> offsetDateTimeValidator,
+                Supplier<ConstraintValidator<FastCheckConstraint, ? super LocalDateTime>> localDateTimeValidator,
+                Supplier<ConstraintValidator<FastCheckConstraint, ? super LocalDate>> localDateValidator,
+                Supplier<ConstraintValidator<FastCheckConstraint, ? super LocalTime>> localTimeValidator) {
+
+            CharSequenceValidator<FastCheckConstraint> validator = new CharSequenceValidator<FastCheckConstraint>(get(offsetDateTimeValidator),
+                    get(localDateTimeValidator), get(localDateValidator), get(localTimeValidator)) {
+                // no additional behaviour needed
+            };
+            validator.initialize(constraint);
+
+            Map<Integer, Predicate<String>> delegates = new HashMap<>();
+            delegates.put(ISOScanner.OFFSET_DATE_TIME, delegate(offsetDateTimeValidator, OffsetDateTime::parse, constraint));
+            delegates.put(ISOScanner.LOCAL_DATE_TIME, delegate(localDateTimeValidator, LocalDateTime::parse, constraint));
+            delegates.put(ISOScanner.LOCAL_DATE, delegate(localDateValidator, LocalDate::parse, constraint));
+            delegates.put(ISOScanner.LOCAL_TIME, delegate(localTimeValidator, LocalTime::parse, constraint));
+
+            for (String text : texts) {
+                Predicate<String> delegate = delegates.get(ISOScanner.form(text));
+                if (delegate != null) {
+                    assertMatchesDelegate(delegate.test(text), context -> validator.isValid(text, context), CLOCK_PROVIDER, constraint + ": " + text);
+                }
+            }
+        }
+
+        private <T> ConstraintValidator<FastCheckConstraint, ? super T> get(Supplier<ConstraintValidator<FastCheckConstraint, ? super T>> supplier) {
+            return supplier == null ? null : supplier.get();
+        }
+
+        private <T> Predicate<String> delegate(Supplier<ConstraintValidator<FastCheckConstraint, ? super T>> supplier, Function<String, T> parser,
+                FastCheckConstraint constraint) {
+
+            if (supplier == null) {
+                return null;
+            }
+            ConstraintValidator<FastCheckConstraint, ? super T> validator = supplier.get();
+            try {
+                validator.initialize(constraint);
+            } catch (@SuppressWarnings("unused") IllegalStateException | DateTimeException e) {
+                // the form is not supported by the constraint
+                return null;
+            }
+            return text -> validator.isValid(parser.apply(text), context(CLOCK_PROVIDER));
+        }
+    }
+
+    private static final class TestClass {
+
+        @TestConstraint(moment = "now")
+        private CharSequence now;
+
+        @TestConstraint(moment = "2007-12-03T10:15:30+01:00")
+        private CharSequence offsetDateTime;
+
+        @TestConstraint(moment = "now", payload = IgnoreMalformedText.class)
+        private CharSequence ignoreMalformed;
+
+        @TestDateConstraint(moment = "2007-03-25", zoneId = "Europe/Paris")
+        private CharSequence dateInParis;
+
+        @TestDayOfWeekConstraint(value = DayOfWeek.SUNDAY, zoneId = "Europe/Paris")
+        private CharSequence dayOfWeekInParis;
+
+        @TestHourConstraint(value = 2, zoneId = "Europe/Paris")
+        private CharSequence hourInParis;
+    }
+
+    @Constraint(validatedBy = CharSequenceNotBeforeValidator.class)
+    @Target({ METHOD, FIELD, ANNOTATION_TYPE, CONSTRUCTOR, PARAMETER, TYPE_USE })
+    @Retention(RUNTIME)
+    public @interface TestConstraint {
+
+        String message() default "default message";
+
+        Class<?>[] groups() default {};
+
+        Class<? extends Payload>[] payload() default {};
+
+        String moment();
+    }
+
+    // text in local time form is not supported
+    public static final class CharSequenceNotBeforeValidator extends CharSequenceValidator<TestConstraint> {
+
+        public CharSequenceNotBeforeValidator() {
+            super(new OffsetDateTimeNotBeforeValidator(), new LocalDateTimeNotBeforeValidator(), new LocalDateNotBeforeValidator(), null);
+        }
+    }
+
+    public static final class OffsetDateTimeNotBeforeValidator extends MomentValueValidator<TestConstraint, OffsetDateTime> {
+
+        public OffsetDateTimeNotBeforeValidator() {
+            super(TestConstraint::moment, OffsetDateTime::parse, OffsetDateTime::now, not(comparison(OffsetDateTime::isBefore)));
+        }
+    }
+
+    public static final class LocalDateTimeNotBeforeValidator extends MomentValueValidator<TestConstraint, LocalDateTime> {
+
+        public LocalDateTimeNotBeforeValidator() {
+            super(TestConstraint::moment, LocalDateTime::parse, LocalDateTime::now, not(comparison(LocalDateTime::isBefore)));
+        }
+    }
+
+    public static final class LocalDateNotBeforeValidator extends MomentValueValidator<TestConstraint, LocalDate> {
+
+        public LocalDateNotBeforeValidator() {
+            super(TestConstraint::moment, LocalDate::parse, LocalDate::now, not(comparison(LocalDate::isBefore)));
+        }
+    }
+
+    @Constraint(validatedBy = CharSequenceDateNotBeforeValidator.class)
+    @Target({ METHOD, FIELD, ANNOTATION_TYPE, CONSTRUCTOR, PARAMETER, TYPE_USE })
+    @Retention(RUNTIME)
+    public @interface TestDateConstraint {
+
+        String message() default "default message";
+
+        Class<?>[] groups() default {};
+
+        Class<? extends Payload>[] payload() default {};
+
+        String moment();
+
+        String zoneId();
+    }
+
+    public static final class CharSequenceDateNotBeforeValidator extends CharSequenceValidator<TestDateConstraint> {
+
+        public CharSequenceDateNotBeforeValidator() {
+            super(new OffsetDateTimeDateNotBeforeValidator(), new LocalDateTimeDateNotBeforeValidator(), null, null);
+        }
+    }
+
+    public static final class OffsetDateTimeDateNotBeforeValidator extends MomentPartValidator<TestDateConstraint, OffsetDateTime, LocalDate> {
+
+        public OffsetDateTimeDateNotBeforeValidator() {
+            super(TestDateConstraint::moment, LocalDate::parse, LocalDate::now, TestDateConstraint::zoneId,
+                    OffsetDateTime::toLocalDate, OffsetDateTime::atZoneSameInstant, ZonedDateTime::toLocalDate, not(comparison(LocalDate::isBefore)));
+        }
+    }
+
+    public static final class LocalDateTimeDateNotBeforeValidator
+            extends MomentPartValidator.WithoutZoneId<TestDateConstraint, LocalDateTime, LocalDate> {
+
+        public LocalDateTimeDateNotBeforeValidator() {
+            super(TestDateConstraint::moment, LocalDate::parse, LocalDate::now, TestDateConstraint::zoneId,
+                    LocalDateTime::toLocalDate, not(comparison(LocalDate::isBefore)));
+        }
+    }
+
+    @Constraint(validatedBy = CharSequenceDayOfWeekIsValidator.class)
+    @Target({ METHOD, FIELD, ANNOTATION_TYPE, CONSTRUCTOR, PARAMETER, TYPE_USE })
+    @Retention(RUNTIME)
+    public @interface TestDayOfWeekConstraint {
+
+        String message() default "default message";
+
+        Class<?>[] groups() default {};
+
+        Class<? extends Payload>[] payload() default {};
+
+        DayOfWeek value();
+
+        String zoneId();
+    }
+
+    public static final class CharSequenceDayOfWeekIsValidator extends CharSequenceValidator<TestDayOfWeekConstraint> {
+
+        public CharSequenceDayOfWeekIsValidator() {
+            super(new OffsetDateTimeDayOfWeekIsValidator(), null, null, null);
+        }
+    }
+
+    public static final class OffsetDateTimeDayOfWeekIsValidator extends PartValidator<TestDayOfWeekConstraint, OffsetDateTime, DayOfWeek> {
+
+        public OffsetDateTimeDayOfWeekIsValidator() {
+            super(TestDayOfWeekConstraint::zoneId, OffsetDateTime::getDayOfWeek, OffsetDateTime::atZoneSameInstant, ZonedDateTime::getDayOfWeek,
+                    annotation -> (dayOfWeek, clockProvider) -> dayOfWeek == annotation.value());
+        }
+    }
+
+    @Constraint(validatedBy = CharSequenceHourIsValidator.class)
+    @Target({ METHOD, FIELD, ANNOTATION_TYPE, CONSTRUCTOR, PARAMETER, TYPE_USE })
+    @Retention(RUNTIME)
+    public @interface TestHourConstraint {
+
+        String message() default "default message";
+
+        Class<?>[] groups() default {};
+
+        Class<? extends Payload>[] payload() default {};
+
+        int value();
+
+        String zoneId();
+    }
+
+    public static final class CharSequenceHourIsValidator extends CharSequenceValidator<TestHourConstraint> {
+
+        public CharSequenceHourIsValidator() {
+            super(new OffsetDateTimeHourIsValidator(), new LocalDateTimeHourIsValidator(), null, null);
+        }
+    }
+
+    public static final class OffsetDateTimeHourIsValidator extends FieldValidator<TestHourConstraint, OffsetDateTime> {
+
+        public OffsetDateTimeHourIsValidator() {
+            super(ChronoField.HOUR_OF_DAY, TestHourConstraint::zoneId, OffsetDateTime::atZoneSameInstant,
+                    annotation -> (hour, clockProvider) -> hour == annotation.value());
+        }
+    }
+
+    public static final class LocalDateTimeHourIsValidator extends FieldValidator.WithoutZoneId<TestHourConstraint, LocalDateTime> {
+
+        public LocalDateTimeHourIsValidator() {
+            super(ChronoField.HOUR_OF_DAY, TestHourConstraint::zoneId, annotation -> (hour, clockProvider) -> hour == annotation.value());
+        }
+    }
+
+    private static final class OffsetDateTimeNotBefore extends MomentValueValidator<FastCheckConstraint, OffsetDateTime> {
+
+        private OffsetDateTimeNotBefore() {
+            super(FastCheckConstraint::value, OffsetDateTime::parse, OffsetDateTime::now, not(comparison(OffsetDateTime::isBefore)));
+        }
+    }
+
+    private static final class LocalDateTimeNotBefore extends MomentValueValidator<FastCheckConstraint, LocalDateTime> {
+
+        private LocalDateTimeNotBefore() {
+            super(FastCheckConstraint::value, LocalDateTime::parse, LocalDateTime::now, not(comparison(LocalDateTime::isBefore)));
+        }
+    }
+
+    private static final class LocalDateNotBefore extends MomentValueValidator<FastCheckConstraint, LocalDate> {
+
+        private LocalDateNotBefore() {
+            super(FastCheckConstraint::value, LocalDate::parse, LocalDate::now, not(comparison(LocalDate::isBefore)));
+        }
+    }
+
+    private static final class LocalTimeNotBefore extends MomentValueValidator<FastCheckConstraint, LocalTime> {
+
+        private LocalTimeNotBefore() {
+            super(FastCheckConstraint::value, LocalTime::parse, LocalTime::now, not(comparison(LocalTime::isBefore)));
+        }
+    }
+
+    private static final class OffsetDateTimeDateNotBefore extends MomentPartValidator<FastCheckConstraint, OffsetDateTime, LocalDate> {
+
+        private OffsetDateTimeDateNotBefore() {
+            super(FastCheckConstraint::value, LocalDate::parse, LocalDate::now, FastCheckConstraint::zoneId,
+                    OffsetDateTime::toLocalDate, OffsetDateTime::atZoneSameInstant, ZonedDateTime::toLocalDate, not(comparison(LocalDate::isBefore)));
+        }
+    }
+
+    private static final class LocalDateTimeDateNotBefore extends MomentPartValidator.WithoutZoneId<FastCheckConstraint, LocalDateTime, LocalDate> {
+
+        private LocalDateTimeDateNotBefore() {
+            super(FastCheckConstraint::value, LocalDate::parse, LocalDate::now, FastCheckConstraint::zoneId,
+                    LocalDateTime::toLocalDate, not(comparison(LocalDate::isBefore)));
+        }
+    }
+
+    private static final class OffsetDateTimeTimeNotBefore extends MomentPartValidator<FastCheckConstraint, OffsetDateTime, LocalTime> {
+
+        private OffsetDateTimeTimeNotBefore() {
+            super(FastCheckConstraint::value, LocalTime::parse, LocalTime::now, FastCheckConstraint::zoneId,
+                    OffsetDateTime::toLocalTime, OffsetDateTime::atZoneSameInstant, ZonedDateTime::toLocalTime, not(comparison(LocalTime::isBefore)));
+        }
+    }
+
+    private static final class LocalDateTimeTimeNotBefore extends MomentPartValidator.WithoutZoneId<FastCheckConstraint, LocalDateTime, LocalTime> {
+
+        private LocalDateTimeTimeNotBefore() {
+            super(FastCheckConstraint::value, LocalTime::parse, LocalTime::now, FastCheckConstraint::zoneId,
+                    LocalDateTime::toLocalTime, not(comparison(LocalTime::isBefore)));
+        }
+    }
+
+    private static final class OffsetDateTimeYearMonthNotBefore extends MomentPartValidator<FastCheckConstraint, OffsetDateTime, YearMonth> {
+
+        private OffsetDateTimeYearMonthNotBefore() {
+            super(FastCheckConstraint::value, YearMonth::parse, YearMonth::now, FastCheckConstraint::zoneId,
+                    YearMonth::from, OffsetDateTime::atZoneSameInstant, YearMonth::from, not(comparison(YearMonth::isBefore)));
+        }
+    }
+
+    private static final class LocalDateYearMonthNotBefore extends MomentPartValidator.WithoutZoneId<FastCheckConstraint, LocalDate, YearMonth> {
+
+        private LocalDateYearMonthNotBefore() {
+            super(FastCheckConstraint::value, YearMonth::parse, YearMonth::now, FastCheckConstraint::zoneId,
+                    YearMonth::from, not(comparison(YearMonth::isBefore)));
+        }
+    }
+
+    private static final class OffsetDateTimeDayOfWeekIs extends PartValidator<FastCheckConstraint, OffsetDateTime, DayOfWeek> {
+
+        private OffsetDateTimeDayOfWeekIs() {
+            super(FastCheckConstraint::zoneId, OffsetDateTime::getDayOfWeek, OffsetDateTime::atZoneSameInstant, ZonedDateTime::getDayOfWeek,
+                    annotation -> (dayOfWeek, clockProvider) -> dayOfWeek == DayOfWeek.valueOf(annotation.value()));
+        }
+    }
+
+    private static final class OffsetDateTimeHourIs extends FieldValidator<FastCheckConstraint, OffsetDateTime> {
+
+        private OffsetDateTimeHourIs() {
+            super(ChronoField.HOUR_OF_DAY, FastCheckConstraint::zoneId, OffsetDateTime::atZoneSameInstant,
+                    annotation -> (hour, clockProvider) -> hour == Integer.parseInt(annotation.value()));
+        }
+    }
+
+    private static final class LocalDateTimeHourIs extends FieldValidator.WithoutZoneId<FastCheckConstraint, LocalDateTime> {
+
+        private LocalDateTimeHourIs() {
+            super(ChronoField.HOUR_OF_DAY, FastCheckConstraint::zoneId,
+                    annotation -> (hour, clockProvider) -> hour == Integer.parseInt(annotation.value()));
+        }
+    }
+}
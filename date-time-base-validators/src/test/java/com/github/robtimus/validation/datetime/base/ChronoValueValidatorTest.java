@@ -0,0 +1,161 @@
+/*
+ * ChronoValueValidatorTest.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.validation.datetime.base;
+
+import static java.lang.annotation.ElementType.ANNOTATION_TYPE;
+import static java.lang.annotation.ElementType.CONSTRUCTOR;
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.ElementType.PARAMETER;
+import static java.lang.annotation.ElementType.TYPE_USE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+import java.time.LocalDate;
+import java.time.chrono.JapaneseDate;
+import java.util.Collections;
+import java.util.List;
+import jakarta.validation.Constraint;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Payload;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings({ "javadoc", "nls" })
+//public because of the constraints and validators
+public class ChronoValueValidatorTest extends AbstractValidatorTest {
+
+    @Nested
+    @DisplayName("comparison")
+    class Comparison {
+
+        @Test
+        @DisplayName("null value")
+        void testNullValue() {
+            List<?> violations = validate(TestClass.class, "after", null);
+            assertEquals(Collections.emptyList(), violations);
+        }
+
+        @Test
+        @DisplayName("valid value")
+        void testValidValue() {
+            List<?> violations = validate(TestClass.class, "after", JapaneseDate.from(LocalDate.parse("2007-12-04")));
+            assertEquals(Collections.emptyList(), violations);
+        }
+
+        @Test
+        @DisplayName("invalid value")
+        void testInvalidValue() {
+            List<ConstraintViolation<TestClass>> violations = validate(TestClass.class, "after", JapaneseDate.from(LocalDate.parse("2007-12-03")));
+            assertEquals(1, violations.size());
+
+            ConstraintViolation<?> violation = violations.get(0);
+            assertAnnotation(violation, AfterConstraint.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("non-comparison")
+    class NonComparison {
+
+        @Test
+        @DisplayName("valid value")
+        void testValidValue() {
+            // the predicate is not an order comparison, so values other than the moment must not be validated by comparing them to the moment
+            List<?> violations = validate(TestClass.class, "sameYear", JapaneseDate.from(LocalDate.parse("2007-01-01")));
+            assertEquals(Collections.emptyList(), violations);
+        }
+
+        @Test
+        @DisplayName("invalid value")
+        void testInvalidValue() {
+            List<ConstraintViolation<TestClass>> violations = validate(TestClass.class, "sameYear", JapaneseDate.from(LocalDate.parse("2008-01-01")));
+            assertEquals(1, violations.size());
+
+            ConstraintViolation<?> violation = violations.get(0);
+            assertAnnotation(violation, SameYearConstraint.class);
+        }
+    }
+
+    private static final class TestClass {
+
+        @AfterConstraint(moment = "2007-12-03")
+        private JapaneseDate after;
+
+        @SameYearConstraint(moment = "2007-12-03")
+        private JapaneseDate sameYear;
+    }
+
+    @Constraint(validatedBy = AfterValidator.class)
+    @Target({ METHOD, FIELD, ANNOTATION_TYPE, CONSTRUCTOR, PARAMETER, TYPE_USE })
+    @Retention(RUNTIME)
+    public @interface AfterConstraint {
+
+        String message() default "default message";
+
+        Class<?>[] groups() default {};
+
+        Class<? extends Payload>[] payload() default {};
+
+        String moment();
+    }
+
+    public static final class AfterValidator extends ChronoValueValidator.ForChronoLocalDate<AfterConstraint> {
+
+        public AfterValidator() {
+            super(new LocalDateAfterValidator());
+        }
+    }
+
+    private static final class LocalDateAfterValidator extends MomentValueValidator<AfterConstraint, LocalDate> {
+
+        private LocalDateAfterValidator() {
+            super(AfterConstraint::moment, LocalDate::parse, LocalDate::now, comparison(LocalDate::isAfter));
+        }
+    }
+
+    @Constraint(validatedBy = SameYearValidator.class)
+    @Target({ METHOD, FIELD, ANNOTATION_TYPE, CONSTRUCTOR, PARAMETER, TYPE_USE })
+    @Retention(RUNTIME)
+    public @interface SameYearConstraint {
+
+        String message() default "default message";
+
+        Class<?>[] groups() default {};
+
+        Class<? extends Payload>[] payload() default {};
+
+        String moment();
+    }
+
+    public static final class SameYearValidator extends ChronoValueValidator.ForChronoLocalDate<SameYearConstraint> {
+
+        public SameYearValidator() {
+            super(new LocalDateSameYearValidator());
+        }
+    }
+
+    private static final class LocalDateSameYearValidator extends MomentValueValidator<SameYearConstraint, LocalDate> {
+
+        private LocalDateSameYearValidator() {
+            super(SameYearConstraint::moment, LocalDate::parse, LocalDate::now, (value, moment) -> value.getYear() == moment.getYear());
+        }
+    }
+}
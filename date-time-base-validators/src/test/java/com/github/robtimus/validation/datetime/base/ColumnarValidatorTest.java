@@ -0,0 +1,281 @@
+/*
+ * ColumnarValidatorTest.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.validation.datetime.base;
+
+import static java.lang.annotation.ElementType.ANNOTATION_TYPE;
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import jakarta.validation.Constraint;
+import jakarta.validation.Payload;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import com.github.robtimus.validation.datetime.base.ColumnarValidator.Result;
+import com.github.robtimus.validation.datetime.base.CompiledValidatorTest.NotAfterConstraint;
+import com.github.robtimus.validation.datetime.base.TestConstraints.AfterConstraint;
+
+@SuppressWarnings({ "javadoc", "nls" })
+// public because of the constraints and validators
+public class ColumnarValidatorTest {
+
+    private static final Instant INSTANT = Instant.parse("2007-12-03T10:15:30.00Z");
+
+    private static final Clock CLOCK = Clock.fixed(INSTANT, ZoneOffset.UTC);
+
+    @Test
+    @DisplayName("constrainedProperties")
+    void testConstrainedProperties() {
+        ColumnarValidator<Bean> validator = ColumnarValidator.forType(Bean.class);
+
+        assertEquals(CompiledValidator.forType(Bean.class).constrainedProperties(), validator.constrainedProperties());
+    }
+
+    @Nested
+    @DisplayName("validate")
+    class Validate {
+
+        @Test
+        @DisplayName("empty list")
+        void testEmptyList() {
+            ColumnarValidator<Bean> validator = ColumnarValidator.forType(Bean.class, () -> CLOCK);
+
+            Result result = validator.validate(Collections.emptyList());
+
+            assertEquals(0, result.size());
+            assertTrue(result.isValid());
+            assertEquals(Collections.emptyList(), result.invalidProperties());
+            assertEquals(new BitSet(), result.invalidBeans());
+        }
+
+        @Test
+        @DisplayName("valid beans")
+        void testValidBeans() {
+            ColumnarValidator<Bean> validator = ColumnarValidator.forType(Bean.class, () -> CLOCK);
+
+            Result result = validator.validate(Arrays.asList(new Bean(), new Bean()));
+
+            assertEquals(2, result.size());
+            assertTrue(result.isValid());
+            assertEquals(Collections.emptyList(), result.invalidProperties());
+            assertEquals(new BitSet(), result.invalidBeans());
+        }
+
+        @Test
+        @DisplayName("null values")
+        void testNullValues() {
+            ColumnarValidator<Bean> validator = ColumnarValidator.forType(Bean.class, () -> CLOCK);
+
+            Bean bean = new Bean();
+            bean.instant = null;
+            bean.instantNow = null;
+            bean.date = null;
+            bean.dateTime = null;
+            bean.month = null;
+            bean.monthPart = null;
+            bean.custom = null;
+
+            assertTrue(validator.validate(Arrays.asList(bean, new Bean())).isValid());
+        }
+
+        @Test
+        @DisplayName("invalid beans")
+        void testInvalidBeans() {
+            ColumnarValidator<Bean> validator = ColumnarValidator.forType(Bean.class, () -> CLOCK);
+
+            Bean invalidInstant = new Bean();
+            invalidInstant.instant = INSTANT;
+
+            Bean invalidDate = new Bean();
+            invalidDate.date = LocalDate.of(2007, 12, 3);
+
+            Bean invalidDateTime = new Bean();
+            invalidDateTime.dateTime = LocalDateTime.of(2007, 12, 4, 0, 0);
+
+            Bean invalidMonth = new Bean();
+            invalidMonth.month = INSTANT.minus(Duration.ofDays(31));
+            invalidMonth.monthPart = INSTANT.minus(Duration.ofDays(31));
+
+            Bean invalidCustom = new Bean();
+            invalidCustom.custom = INSTANT.plusSeconds(1);
+
+            Result result = validator.validate(Arrays.asList(new Bean(), invalidInstant, invalidDate, invalidDateTime, invalidMonth, invalidCustom));
+
+            assertEquals(6, result.size());
+            assertFalse(result.isValid());
+            assertEquals(Arrays.asList("instant", "date", "dateTime", "month", "monthPart", "custom"), result.invalidProperties());
+            assertEquals(BitSet.valueOf(new long[] { 0b10 }), result.invalid("instant"));
+            assertEquals(new BitSet(), result.invalid("instantNow"));
+            assertEquals(BitSet.valueOf(new long[] { 0b100 }), result.invalid("date"));
+            assertEquals(BitSet.valueOf(new long[] { 0b1000 }), result.invalid("dateTime"));
+            assertEquals(BitSet.valueOf(new long[] { 0b10000 }), result.invalid("month"));
+            assertEquals(BitSet.valueOf(new long[] { 0b10000 }), result.invalid("monthPart"));
+            assertEquals(BitSet.valueOf(new long[] { 0b100000 }), result.invalid("custom"));
+            assertEquals(BitSet.valueOf(new long[] { 0b111110 }), result.invalidBeans());
+        }
+
+        @Test
+        @DisplayName("now")
+        void testNow() {
+            List<Bean> beans = Collections.singletonList(new Bean());
+
+            assertTrue(ColumnarValidator.forType(Bean.class, () -> CLOCK).validate(beans).isValid());
+
+            Result result = ColumnarValidator.forType(Bean.class, () -> Clock.offset(CLOCK, Duration.ofDays(1))).validate(beans);
+            assertEquals(Collections.singletonList("instantNow"), result.invalidProperties());
+        }
+
+        @Test
+        @DisplayName("instants outside the range of epoch nanoseconds")
+        void testInstantsOutsideEpochNanos() {
+            ColumnarValidator<Bean> validator = ColumnarValidator.forType(Bean.class, () -> CLOCK);
+
+            Bean min = new Bean();
+            min.instant = Instant.MIN;
+
+            Bean max = new Bean();
+            max.instant = Instant.MAX;
+
+            Result result = validator.validate(Arrays.asList(min, max));
+
+            assertEquals(BitSet.valueOf(new long[] { 0b01 }), result.invalid("instant"));
+        }
+
+        @Test
+        @DisplayName("same result as CompiledValidator")
+        void testSameResultAsCompiledValidator() {
+            ColumnarValidator<Bean> validator = ColumnarValidator.forType(Bean.class, () -> CLOCK);
+            CompiledValidator<Bean> compiledValidator = CompiledValidator.forType(Bean.class, () -> CLOCK);
+
+            Random random = new Random(0);
+            List<Bean> beans = new ArrayList<>();
+            BitSet expected = new BitSet();
+            for (int i = 0; i < 200; i++) {
+                Bean bean = new Bean();
+                bean.instant = random.nextInt(10) == 0 ? null : INSTANT.plusNanos(random.nextInt(5) - 2);
+                bean.date = random.nextInt(10) == 0 ? null : LocalDate.of(2007, 12, 1 + random.nextInt(5));
+                bean.dateTime = LocalDateTime.of(2007, 12, 1 + random.nextInt(5), 12, 0);
+                bean.month = INSTANT.minus(Duration.ofDays(random.nextInt(60)));
+                bean.monthPart = random.nextInt(10) == 0 ? null : bean.month;
+                beans.add(bean);
+                if (!compiledValidator.isValid(bean)) {
+                    expected.set(i);
+                }
+            }
+
+            Result result = validator.validate(beans);
+
+            assertEquals(expected, result.invalidBeans());
+        }
+
+        @Test
+        @DisplayName("null bean")
+        void testNullBean() {
+            ColumnarValidator<Bean> validator = ColumnarValidator.forType(Bean.class);
+            List<Bean> beans = Arrays.asList(new Bean(), null);
+
+            assertThrows(NullPointerException.class, () -> validator.validate(beans));
+        }
+    }
+
+    @Test
+    @DisplayName("invalid of unknown property")
+    void testInvalidOfUnknownProperty() {
+        Result result = ColumnarValidator.forType(Bean.class).validate(Collections.emptyList());
+
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> result.invalid("unknown"));
+        assertEquals("unknown is not a constrained property", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("toString")
+    void testToString() {
+        ColumnarValidator<SimpleBean> validator = ColumnarValidator.forType(SimpleBean.class);
+
+        assertEquals("ColumnarValidator[beanType=" + SimpleBean.class.getName() + ",properties=[value]]", validator.toString());
+    }
+
+    static final class Bean {
+
+        @AfterConstraint(moment = "2007-12-03T10:15:30.00Z")
+        private Instant instant = INSTANT.plusNanos(1);
+
+        @AfterConstraint(moment = "now")
+        private Instant instantNow = INSTANT.plusNanos(1);
+
+        @DateAfterConstraint(moment = "2007-12-03")
+        private LocalDate date = LocalDate.of(2007, 12, 4);
+
+        @MomentPartValidatorTest.TestConstraint(moment = "2007-12-03", zoneId = "system")
+        private LocalDateTime dateTime = LocalDateTime.of(2007, 12, 3, 23, 59);
+
+        @FieldValidatorTest.TestConstraint(zoneId = "UTC")
+        private Instant month = INSTANT;
+
+        @PartValidatorTest.TestConstraint(zoneId = "UTC")
+        private Instant monthPart = INSTANT;
+
+        @NotAfterConstraint(moment = "2007-12-03T10:15:30.00Z")
+        private Instant custom = INSTANT.minusSeconds(3600);
+    }
+
+    static final class SimpleBean {
+
+        @AfterConstraint(moment = "2007-12-03T10:15:30.00Z")
+        private Instant value;
+    }
+
+    @Constraint(validatedBy = DateAfterValidator.class)
+    @Target({ METHOD, FIELD, ANNOTATION_TYPE })
+    @Retention(RUNTIME)
+    public @interface DateAfterConstraint {
+
+        String message() default "default message";
+
+        Class<?>[] groups() default {};
+
+        Class<? extends Payload>[] payload() default {};
+
+        String moment();
+    }
+
+    public static final class DateAfterValidator extends MomentValueValidator<DateAfterConstraint, LocalDate> {
+
+        public DateAfterValidator() {
+            super(DateAfterConstraint::moment, LocalDate::parse, LocalDate::now, comparison(LocalDate::isAfter));
+        }
+    }
+}
@@ -0,0 +1,334 @@
+/*
+ * CompiledValidatorTest.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.validation.datetime.base;
+
+import static java.lang.annotation.ElementType.ANNOTATION_TYPE;
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.lang.annotation.Repeatable;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import jakarta.validation.Constraint;
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+import jakarta.validation.Payload;
+import jakarta.validation.constraints.Past;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import com.github.robtimus.validation.datetime.base.CompiledValidator.Result;
+import com.github.robtimus.validation.datetime.base.CompiledValidator.Violation;
+import com.github.robtimus.validation.datetime.base.TestConstraints.AfterConstraint;
+
+@SuppressWarnings({ "javadoc", "nls" })
+// public because of the constraints and validators
+public class CompiledValidatorTest {
+
+    private static final Instant INSTANT = Instant.parse("2007-12-03T10:15:30.00Z");
+
+    private static final Clock CLOCK = Clock.fixed(INSTANT, ZoneOffset.UTC);
+
+    @Test
+    @DisplayName("constrainedProperties")
+    void testConstrainedProperties() {
+        CompiledValidator<Bean> validator = CompiledValidator.forType(Bean.class);
+
+        List<String> expected = Arrays.asList("created", "repeated", "updated", "inherited", "URL");
+        List<String> properties = validator.constrainedProperties();
+
+        assertEquals(expected.stream().sorted().collect(Collectors.toList()), properties.stream().sorted().collect(Collectors.toList()));
+        // the properties of a class are validated before the properties of its superclass
+        assertEquals(Arrays.asList("URL", "inherited"), properties.subList(3, 5).stream().sorted().collect(Collectors.toList()));
+    }
+
+    @Nested
+    @DisplayName("isValid")
+    class IsValid {
+
+        @Test
+        @DisplayName("valid bean")
+        void testValidBean() {
+            CompiledValidator<Bean> validator = CompiledValidator.forType(Bean.class, () -> CLOCK);
+
+            assertTrue(validator.isValid(new Bean()));
+        }
+
+        @Test
+        @DisplayName("null values")
+        void testNullValues() {
+            CompiledValidator<Bean> validator = CompiledValidator.forType(Bean.class, () -> CLOCK);
+
+            Bean bean = new Bean();
+            bean.created = null;
+            bean.repeated = null;
+            bean.updated = null;
+            bean.inherited = null;
+            bean.url = null;
+
+            assertTrue(validator.isValid(bean));
+        }
+
+        @Test
+        @DisplayName("invalid field")
+        void testInvalidField() {
+            CompiledValidator<Bean> validator = CompiledValidator.forType(Bean.class, () -> CLOCK);
+
+            Bean bean = new Bean();
+            bean.created = INSTANT;
+
+            assertFalse(validator.isValid(bean));
+        }
+
+        @Test
+        @DisplayName("invalid inherited field")
+        void testInvalidInheritedField() {
+            CompiledValidator<Bean> validator = CompiledValidator.forType(Bean.class, () -> CLOCK);
+
+            Bean bean = new Bean();
+            bean.inherited = INSTANT;
+
+            assertFalse(validator.isValid(bean));
+        }
+
+        @Test
+        @DisplayName("now")
+        void testNow() {
+            Bean bean = new Bean();
+
+            assertTrue(CompiledValidator.forType(Bean.class, () -> CLOCK).isValid(bean));
+            assertFalse(CompiledValidator.forType(Bean.class, () -> Clock.offset(CLOCK, Duration.ofDays(1))).isValid(bean));
+        }
+
+        @Test
+        @DisplayName("null bean")
+        void testNullBean() {
+            CompiledValidator<Bean> validator = CompiledValidator.forType(Bean.class);
+
+            assertThrows(NullPointerException.class, () -> validator.isValid(null));
+        }
+    }
+
+    @Nested
+    @DisplayName("validate")
+    class Validate {
+
+        @Test
+        @DisplayName("valid bean")
+        void testValidBean() {
+            CompiledValidator<Bean> validator = CompiledValidator.forType(Bean.class, () -> CLOCK);
+
+            Result result = validator.validate(new Bean());
+
+            assertTrue(result.isValid());
+            assertEquals(Collections.emptyList(), result.violations());
+            // valid results are shared
+            assertSame(result, validator.validate(new Bean()));
+        }
+
+        @Test
+        @DisplayName("invalid bean")
+        void testInvalidBean() throws ReflectiveOperationException {
+            CompiledValidator<Bean> validator = CompiledValidator.forType(Bean.class, () -> CLOCK);
+
+            Bean bean = new Bean();
+            bean.repeated = INSTANT.plusSeconds(7200);
+            bean.updated = INSTANT.atZone(ZoneOffset.UTC);
+            bean.url = INSTANT;
+
+            Result result = validator.validate(bean);
+
+            assertFalse(result.isValid());
+
+            List<String> violations = result.violations().stream()
+                    .map(v -> v.propertyName() + "=" + v.invalidValue() + ":" + v.constraint().annotationType().getSimpleName())
+                    .sorted()
+                    .collect(Collectors.toList());
+
+            List<String> expected = Arrays.asList(
+                    "URL=" + INSTANT + ":AfterConstraint",
+                    "repeated=" + bean.repeated + ":NotAfterConstraint",
+                    "updated=" + bean.updated + ":AfterConstraint");
+
+            assertEquals(expected, violations);
+
+            Violation violation = result.violations().stream()
+                    .filter(v -> "repeated".equals(v.propertyName()))
+                    .findAny()
+                    .orElseThrow();
+            assertEquals(Bean.class.getDeclaredField("repeated").getAnnotation(NotAfterConstraint.List.class).value()[1], violation.constraint());
+        }
+    }
+
+    @Nested
+    @DisplayName("forType")
+    class ForType {
+
+        @Test
+        @DisplayName("unsupported type")
+        void testUnsupportedType() {
+            IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                    () -> CompiledValidator.forType(UnsupportedBean.class));
+            assertEquals(AfterConstraint.class.getName() + " does not support java.time.LocalDate", exception.getMessage());
+        }
+
+        @Test
+        @DisplayName("without constraints")
+        void testWithoutConstraints() {
+            CompiledValidator<String> validator = CompiledValidator.forType(String.class);
+
+            assertEquals(Collections.emptyList(), validator.constrainedProperties());
+            assertTrue(validator.isValid("foo"));
+        }
+
+        @Test
+        @DisplayName("plans are cached")
+        void testPlansAreCached() {
+            BeanPlan.removePlan(SimpleBean.class);
+            CacheStats before = CacheStats.forCache(BeanPlan.CACHE_NAME).orElseThrow();
+
+            CompiledValidator.forType(SimpleBean.class);
+            CompiledValidator.forType(SimpleBean.class);
+
+            CacheStats after = CacheStats.forCache(BeanPlan.CACHE_NAME).orElseThrow();
+            assertEquals(1, after.missCount() - before.missCount());
+            assertEquals(1, after.hitCount() - before.hitCount());
+            assertEquals(CacheStats.UNKNOWN_SIZE, after.size());
+        }
+    }
+
+    @Test
+    @DisplayName("toString")
+    void testToString() {
+        CompiledValidator<SimpleBean> validator = CompiledValidator.forType(SimpleBean.class);
+
+        assertEquals("CompiledValidator[beanType=" + SimpleBean.class.getName() + ",properties=[value]]", validator.toString());
+    }
+
+    public interface OtherGroup {
+        // validation group
+    }
+
+    static class Parent {
+
+        @AfterConstraint(moment = "2007-12-03T10:15:30.00Z")
+        Instant inherited = INSTANT.plusSeconds(1);
+
+        Instant url = INSTANT.plusSeconds(1);
+
+        @AfterConstraint(moment = "2007-12-03T10:15:30.00Z")
+        public Instant getURL() {
+            return url;
+        }
+    }
+
+    static final class Bean extends Parent {
+
+        @AfterConstraint(moment = "2007-12-03T10:15:30.00Z")
+        private Instant created = INSTANT.plusSeconds(1);
+
+        @NotAfterConstraint(moment = "2007-12-03T12:15:30.00Z")
+        @NotAfterConstraint(moment = "2007-12-03T11:15:30.00Z")
+        private Instant repeated = INSTANT;
+
+        private ZonedDateTime updated = INSTANT.plusSeconds(1).atZone(ZoneOffset.UTC);
+
+        // ignored because of its group
+        @AfterConstraint(moment = "2007-12-03T10:15:30.00Z", groups = OtherGroup.class)
+        private Instant otherGroup = INSTANT;
+
+        // ignored because it does not define its validators
+        @Past
+        private Instant past = INSTANT.plusSeconds(3600);
+
+        @AfterConstraint(moment = "now")
+        ZonedDateTime getUpdated() {
+            return updated;
+        }
+
+        // not a getter
+        @AfterConstraint(moment = "now")
+        Instant instant() {
+            return INSTANT;
+        }
+    }
+
+    static final class UnsupportedBean {
+
+        @AfterConstraint(moment = "2007-12-03T10:15:30.00Z")
+        private LocalDate date;
+    }
+
+    static final class SimpleBean {
+
+        @AfterConstraint(moment = "2007-12-03T10:15:30.00Z")
+        private Instant value;
+    }
+
+    @Constraint(validatedBy = NotAfterValidator.class)
+    @Target({ METHOD, FIELD, ANNOTATION_TYPE })
+    @Retention(RUNTIME)
+    @Repeatable(NotAfterConstraint.List.class)
+    public @interface NotAfterConstraint {
+
+        String message() default "default message";
+
+        Class<?>[] groups() default {};
+
+        Class<? extends Payload>[] payload() default {};
+
+        String moment();
+
+        @Target({ METHOD, FIELD, ANNOTATION_TYPE })
+        @Retention(RUNTIME)
+        @interface List {
+
+            NotAfterConstraint[] value();
+        }
+    }
+
+    public static final class NotAfterValidator implements ConstraintValidator<NotAfterConstraint, Instant> {
+
+        private Instant moment;
+
+        @Override
+        public void initialize(NotAfterConstraint constraintAnnotation) {
+            moment = Instant.parse(constraintAnnotation.moment());
+        }
+
+        @Override
+        public boolean isValid(Instant value, ConstraintValidatorContext context) {
+            return value == null || !value.isAfter(moment);
+        }
+    }
+}
@@ -0,0 +1,321 @@
+/*
+ * DispatchingValidatorTest.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.validation.datetime.base;
+
+import static com.github.robtimus.validation.datetime.base.FastChecks.context;
+import static java.lang.annotation.ElementType.ANNOTATION_TYPE;
+import static java.lang.annotation.ElementType.CONSTRUCTOR;
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.ElementType.PARAMETER;
+import static java.lang.annotation.ElementType.TYPE_USE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.Year;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.chrono.JapaneseDate;
+import java.time.temporal.ChronoField;
+import java.time.temporal.TemporalAccessor;
+import java.time.temporal.TemporalField;
+import java.time.temporal.UnsupportedTemporalTypeException;
+import java.util.Collections;
+import java.util.Date;
+import java.util.GregorianCalendar;
+import java.util.List;
+import jakarta.validation.Constraint;
+import jakarta.validation.ConstraintValidatorContext;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Payload;
+import jakarta.validation.ValidationException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings({ "javadoc", "nls" })
+//public because of the constraint and validators
+public class DispatchingValidatorTest extends AbstractValidatorTest {
+
+    private static final Instant MOMENT = Instant.parse("2007-12-03T10:15:30Z");
+
+    @Test
+    @DisplayName("null value")
+    void testNullValue() {
+        List<?> violations = validate(TestClass.class, "value", null);
+        assertEquals(Collections.emptyList(), violations);
+    }
+
+    @Test
+    @DisplayName("valid value of supported type")
+    void testValidSupportedType() {
+        List<?> violations = validate(TestClass.class, "value", MOMENT.plusNanos(1));
+        assertEquals(Collections.emptyList(), violations);
+    }
+
+    @Test
+    @DisplayName("invalid value of supported type")
+    void testInvalidSupportedType() {
+        List<ConstraintViolation<TestClass>> violations = validate(TestClass.class, "value", MOMENT.minusNanos(1));
+        assertEquals(1, violations.size());
+
+        ConstraintViolation<?> violation = violations.get(0);
+        assertAnnotation(violation, TestConstraint.class);
+    }
+
+    @Test
+    @DisplayName("valid value of sub type")
+    void testValidSubType() {
+        List<?> violations = validate(TestClass.class, "value", GregorianCalendar.from(MOMENT.plusMillis(1).atZone(ZoneOffset.UTC)));
+        assertEquals(Collections.emptyList(), violations);
+    }
+
+    @Test
+    @DisplayName("invalid value of sub type")
+    void testInvalidSubType() {
+        List<ConstraintViolation<TestClass>> violations = validate(TestClass.class, "value", new CustomDate(MOMENT.toEpochMilli() - 1));
+        assertEquals(1, violations.size());
+
+        ConstraintViolation<?> violation = violations.get(0);
+        assertAnnotation(violation, TestConstraint.class);
+    }
+
+    @Test
+    @DisplayName("valid converted value")
+    void testValidConvertedValue() {
+        List<?> violations = validate(TestClass.class, "value", OffsetDateTime.parse("2007-12-03T11:15:31+01:00"));
+        assertEquals(Collections.emptyList(), violations);
+    }
+
+    @Test
+    @DisplayName("invalid converted value")
+    void testInvalidConvertedValue() {
+        List<ConstraintViolation<TestClass>> violations = validate(TestClass.class, "value", OffsetDateTime.parse("2007-12-03T11:15:29+01:00"));
+        assertEquals(1, violations.size());
+
+        ConstraintViolation<?> violation = violations.get(0);
+        assertAnnotation(violation, TestConstraint.class);
+    }
+
+    @Test
+    @DisplayName("valid custom temporal accessor")
+    void testValidCustomTemporalAccessor() {
+        List<?> violations = validate(TestClass.class, "value", new InstantAccessor(MOMENT.plusSeconds(1)));
+        assertEquals(Collections.emptyList(), violations);
+    }
+
+    @Test
+    @DisplayName("invalid custom temporal accessor")
+    void testInvalidCustomTemporalAccessor() {
+        List<ConstraintViolation<TestClass>> violations = validate(TestClass.class, "value", new InstantAccessor(MOMENT.minusSeconds(1)));
+        assertEquals(1, violations.size());
+
+        ConstraintViolation<?> violation = violations.get(0);
+        assertAnnotation(violation, TestConstraint.class);
+    }
+
+    @Test
+    @DisplayName("temporal accessor without supported conversion")
+    void testTemporalAccessorWithoutSupportedConversion() {
+        Year value = Year.of(2007);
+        ValidationException exception = assertThrows(ValidationException.class, () -> validate(TestClass.class, "value", value));
+
+        Throwable cause = exception.getCause();
+        assertInstanceOf(IllegalArgumentException.class, cause);
+        assertEquals(TestConstraint.class.getName() + " does not support " + Year.class.getName(), cause.getMessage());
+    }
+
+    @Test
+    @DisplayName("unsupported type")
+    void testUnsupportedType() {
+        ValidationException exception = assertThrows(ValidationException.class, () -> validate(TestClass.class, "value", "2007-12-03T10:15:30Z"));
+
+        Throwable cause = exception.getCause();
+        assertInstanceOf(IllegalArgumentException.class, cause);
+        assertEquals(TestConstraint.class.getName() + " does not support " + String.class.getName(), cause.getMessage());
+    }
+
+    @Test
+    @DisplayName("valid chronology date")
+    void testValidChronologyDate() {
+        List<?> violations = validate(TestClass.class, "date", JapaneseDate.from(LocalDate.parse("2007-12-03")));
+        assertEquals(Collections.emptyList(), violations);
+    }
+
+    @Test
+    @DisplayName("invalid chronology date")
+    void testInvalidChronologyDate() {
+        List<ConstraintViolation<TestClass>> violations = validate(TestClass.class, "date", JapaneseDate.from(LocalDate.parse("2007-12-02")));
+        assertEquals(1, violations.size());
+
+        ConstraintViolation<?> violation = violations.get(0);
+        assertAnnotation(violation, TestConstraint.class);
+    }
+
+    @Test
+    @DisplayName("type-specific validators are cached")
+    void testCachedValidators() {
+        DispatchingValidator.clearCache();
+        CacheStats before = CacheStats.forCache(DispatchingValidator.CACHE_NAME).orElseThrow();
+
+        DispatchingValidator validator = initializedValidator();
+        DispatchingValidator otherValidator = initializedValidator();
+        ConstraintValidatorContext context = context(Clock::systemUTC);
+
+        assertTrue(validator.isValid(MOMENT.plusNanos(1), context));
+        assertTrue(otherValidator.isValid(MOMENT.plusNanos(2), context));
+
+        CacheStats after = CacheStats.forCache(DispatchingValidator.CACHE_NAME).orElseThrow();
+        assertEquals(1, after.missCount() - before.missCount());
+        assertEquals(1, after.hitCount() - before.hitCount());
+        assertEquals(1, after.size());
+    }
+
+    @Test
+    @DisplayName("resolved type-specific validators are used without the shared cache")
+    void testResolvedValidators() {
+        DispatchingValidator.clearCache();
+        DispatchingValidator validator = initializedValidator();
+        ConstraintValidatorContext context = context(Clock::systemUTC);
+
+        assertTrue(validator.isValid(MOMENT.plusNanos(1), context));
+        assertTrue(validator.isValid(MOMENT.atZone(ZoneOffset.UTC).plusNanos(1), context));
+
+        CacheStats before = CacheStats.forCache(DispatchingValidator.CACHE_NAME).orElseThrow();
+
+        for (int i = 1; i <= 10; i++) {
+            assertTrue(validator.isValid(MOMENT.plusNanos(i), context));
+            assertTrue(validator.isValid(MOMENT.atZone(ZoneOffset.UTC).plusNanos(i), context));
+            assertFalse(validator.isValid(MOMENT.minusNanos(i), context));
+            assertFalse(validator.isValid(MOMENT.atZone(ZoneOffset.UTC).minusNanos(i), context));
+        }
+
+        CacheStats after = CacheStats.forCache(DispatchingValidator.CACHE_NAME).orElseThrow();
+        assertEquals(before.requestCount(), after.requestCount());
+    }
+
+    private static DispatchingValidator initializedValidator() {
+        TestConstraint annotation;
+        try {
+            annotation = TestClass.class.getDeclaredField("value").getAnnotation(TestConstraint.class);
+        } catch (NoSuchFieldException e) {
+            throw new IllegalStateException(e);
+        }
+        DispatchingValidator validator = new DispatchingValidator();
+        validator.initialize(annotation);
+        return validator;
+    }
+
+    private static final class TestClass {
+
+        @TestConstraint(moment = "2007-12-03T10:15:30Z")
+        private Object value;
+
+        @TestConstraint(moment = "2007-12-03")
+        private TemporalAccessor date;
+    }
+
+    private static final class CustomDate extends Date {
+
+        private static final long serialVersionUID = 1L;
+
+        private CustomDate(long date) {
+            super(date);
+        }
+    }
+
+    private static final class InstantAccessor implements TemporalAccessor {
+
+        private final Instant instant;
+
+        private InstantAccessor(Instant instant) {
+            this.instant = instant;
+        }
+
+        @Override
+        public boolean isSupported(TemporalField field) {
+            return field == ChronoField.INSTANT_SECONDS || field == ChronoField.NANO_OF_SECOND;
+        }
+
+        @Override
+        public long getLong(TemporalField field) {
+            if (!isSupported(field)) {
+                throw new UnsupportedTemporalTypeException(field.toString());
+            }
+            return instant.getLong(field);
+        }
+    }
+
+    @Constraint(validatedBy = { DispatchingValidator.class, DateNotBeforeValidator.class, CalendarNotBeforeValidator.class,
+            InstantNotBeforeValidator.class, LocalDateNotBeforeValidator.class, ZonedDateTimeNotBeforeValidator.class })
+    @Target({ METHOD, FIELD, ANNOTATION_TYPE, CONSTRUCTOR, PARAMETER, TYPE_USE })
+    @Retention(RUNTIME)
+    public @interface TestConstraint {
+
+        String message() default "default message";
+
+        Class<?>[] groups() default {};
+
+        Class<? extends Payload>[] payload() default {};
+
+        String moment();
+    }
+
+    public static final class DateNotBeforeValidator extends DateValidator<TestConstraint> {
+
+        public DateNotBeforeValidator() {
+            super(new InstantNotBeforeValidator());
+        }
+    }
+
+    public static final class CalendarNotBeforeValidator extends CalendarValidator<TestConstraint> {
+
+        public CalendarNotBeforeValidator() {
+            super(new ZonedDateTimeNotBeforeValidator());
+        }
+    }
+
+    public static final class InstantNotBeforeValidator extends MomentValueValidator<TestConstraint, Instant> {
+
+        public InstantNotBeforeValidator() {
+            super(TestConstraint::moment, Instant::parse, Instant::now, not(comparison(Instant::isBefore)));
+        }
+    }
+
+    public static final class LocalDateNotBeforeValidator extends MomentValueValidator<TestConstraint, LocalDate> {
+
+        public LocalDateNotBeforeValidator() {
+            super(TestConstraint::moment, LocalDate::parse, LocalDate::now, not(comparison(LocalDate::isBefore)));
+        }
+    }
+
+    public static final class ZonedDateTimeNotBeforeValidator extends MomentValueValidator<TestConstraint, ZonedDateTime> {
+
+        public ZonedDateTimeNotBeforeValidator() {
+            super(TestConstraint::moment, ZonedDateTime::parse, ZonedDateTime::now, not(comparison(ZonedDateTime::isBefore)));
+        }
+    }
+}
@@ -0,0 +1,171 @@
+/*
+ * EpochRangeTest.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.validation.datetime.base;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings({ "javadoc", "nls" })
+class EpochRangeTest {
+
+    private static final long[] VALUES = { Long.MIN_VALUE, -1, 0, 1, 9, 10, 11, 19, 20, 21, Long.MAX_VALUE };
+
+    @Test
+    @DisplayName("contains")
+    void testContains() {
+        EpochRange range = EpochRange.of(10, 20, EpochUnit.SECONDS);
+
+        assertFalse(range.isEmpty());
+        assertFalse(range.contains(Long.MIN_VALUE));
+        assertFalse(range.contains(9));
+        assertTrue(range.contains(10));
+        assertTrue(range.contains(20));
+        assertFalse(range.contains(21));
+        assertFalse(range.contains(Long.MAX_VALUE));
+    }
+
+    @Test
+    @DisplayName("empty")
+    void testEmpty() {
+        EpochRange range = EpochRange.of(20, 10, EpochUnit.SECONDS);
+
+        assertTrue(range.isEmpty());
+        for (long value : VALUES) {
+            assertFalse(range.contains(value));
+        }
+    }
+
+    @Nested
+    @DisplayName("countOutside")
+    class CountOutside {
+
+        @Test
+        @DisplayName("bounded range")
+        void testBoundedRange() {
+            EpochRange range = EpochRange.of(10, 20, EpochUnit.MILLISECONDS);
+
+            assertEquals(7, range.countOutside(VALUES, 0, VALUES.length));
+            assertEquals(2, range.countOutside(VALUES, 3, 5));
+            assertEquals(0, range.countOutside(VALUES, 5, 4));
+            assertEquals(0, range.countOutside(VALUES, 5, 0));
+        }
+
+        @Test
+        @DisplayName("unbounded ranges")
+        void testUnboundedRanges() {
+            assertEquals(5, EpochRange.of(10, Long.MAX_VALUE, EpochUnit.MILLISECONDS).countOutside(VALUES, 0, VALUES.length));
+            assertEquals(5, EpochRange.of(Long.MIN_VALUE, 10, EpochUnit.MILLISECONDS).countOutside(VALUES, 0, VALUES.length));
+            assertEquals(0, EpochRange.of(Long.MIN_VALUE, Long.MAX_VALUE, EpochUnit.MILLISECONDS).countOutside(VALUES, 0, VALUES.length));
+        }
+
+        @Test
+        @DisplayName("empty range")
+        void testEmptyRange() {
+            assertEquals(VALUES.length, EpochRange.of(0, -1, EpochUnit.MILLISECONDS).countOutside(VALUES, 0, VALUES.length));
+        }
+
+        @Test
+        @DisplayName("invalid offset or length")
+        void testInvalidOffsetOrLength() {
+            EpochRange range = EpochRange.of(10, 20, EpochUnit.MILLISECONDS);
+
+            assertThrows(IndexOutOfBoundsException.class, () -> range.countOutside(VALUES, -1, 2));
+            assertThrows(IndexOutOfBoundsException.class, () -> range.countOutside(VALUES, 2, -1));
+            assertThrows(IndexOutOfBoundsException.class, () -> range.countOutside(VALUES, 2, VALUES.length - 1));
+        }
+    }
+
+    @Nested
+    @DisplayName("outsideMask")
+    class OutsideMask {
+
+        @Test
+        @DisplayName("bounded range")
+        void testBoundedRange() {
+            EpochRange range = EpochRange.of(10, 20, EpochUnit.MILLISECONDS);
+
+            assertArrayEquals(new long[] { 0b110_0001_1111L }, range.outsideMask(VALUES, 0, VALUES.length));
+            assertArrayEquals(new long[] { 0b0_0011L }, range.outsideMask(VALUES, 3, 5));
+            assertArrayEquals(new long[0], range.outsideMask(VALUES, 5, 0));
+        }
+
+        @Test
+        @DisplayName("multiple words")
+        void testMultipleWords() {
+            long[] values = new long[130];
+            values[0] = 5;
+            values[63] = 5;
+            values[64] = 5;
+            values[129] = 5;
+
+            EpochRange range = EpochRange.of(Long.MIN_VALUE, 0, EpochUnit.MILLISECONDS);
+
+            assertArrayEquals(new long[] { 1L | 1L << 63, 1L, 1L << 1 }, range.outsideMask(values, 0, values.length));
+            assertArrayEquals(new long[] { 1L << 62 | 1L << 63, 0L, 1L }, range.outsideMask(values, 1, values.length - 1));
+        }
+
+        @Test
+        @DisplayName("empty range")
+        void testEmptyRange() {
+            long[] values = new long[70];
+
+            EpochRange range = EpochRange.of(0, -1, EpochUnit.MILLISECONDS);
+
+            assertArrayEquals(new long[] { -1L, 0b11_1111L }, range.outsideMask(values, 0, values.length));
+            assertArrayEquals(new long[] { -1L }, range.outsideMask(values, 0, 64));
+        }
+
+        @Test
+        @DisplayName("invalid offset or length")
+        void testInvalidOffsetOrLength() {
+            EpochRange range = EpochRange.of(10, 20, EpochUnit.MILLISECONDS);
+
+            assertThrows(IndexOutOfBoundsException.class, () -> range.outsideMask(VALUES, -1, 2));
+            assertThrows(IndexOutOfBoundsException.class, () -> range.outsideMask(VALUES, 2, -1));
+            assertThrows(IndexOutOfBoundsException.class, () -> range.outsideMask(VALUES, 2, VALUES.length - 1));
+        }
+    }
+
+    @Test
+    @DisplayName("equals and hashCode")
+    void testEqualsAndHashCode() {
+        EpochRange range = EpochRange.of(10, 20, EpochUnit.SECONDS);
+
+        assertEquals(range, range);
+        assertEquals(range, EpochRange.of(10, 20, EpochUnit.SECONDS));
+        assertEquals(range.hashCode(), EpochRange.of(10, 20, EpochUnit.SECONDS).hashCode());
+        assertNotEquals(range, EpochRange.of(11, 20, EpochUnit.SECONDS));
+        assertNotEquals(range, EpochRange.of(10, 21, EpochUnit.SECONDS));
+        assertNotEquals(range, EpochRange.of(10, 20, EpochUnit.MILLISECONDS));
+        assertNotEquals(range, null);
+        assertNotEquals(range, "foo");
+    }
+
+    @Test
+    @DisplayName("toString")
+    void testToString() {
+        assertEquals("EpochRange[lowerBound=10,upperBound=20,unit=SECONDS]", EpochRange.of(10, 20, EpochUnit.SECONDS).toString());
+    }
+}
@@ -0,0 +1,404 @@
+/*
+ * EpochValueValidatorTest.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.validation.datetime.base;
+
+import static com.github.robtimus.validation.datetime.base.FastChecks.assertMatchesDelegate;
+import static com.github.robtimus.validation.datetime.base.FastChecks.constraint;
+import static com.github.robtimus.validation.datetime.base.FastChecks.context;
+import static com.github.robtimus.validation.datetime.base.ZoneIdUtils.SYSTEM_ZONE_ID;
+import static java.lang.annotation.ElementType.ANNOTATION_TYPE;
+import static java.lang.annotation.ElementType.CONSTRUCTOR;
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.ElementType.PARAMETER;
+import static java.lang.annotation.ElementType.TYPE_USE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+import java.time.Clock;
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.Month;
+import java.time.Year;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoField;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+import jakarta.validation.ClockProvider;
+import jakarta.validation.Constraint;
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Payload;
+import jakarta.validation.ValidationException;
+import com.github.robtimus.validation.datetime.base.FastChecks.FastCheckConstraint;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+@SuppressWarnings({ "javadoc", "nls" })
+//public because of the constraint and validators
+public class EpochValueValidatorTest extends AbstractValidatorTest {
+
+    private static final ClockProvider CLOCK_PROVIDER = () -> Clock.fixed(Instant.parse("2007-12-03T10:15:30Z"), ZoneOffset.UTC);
+
+    @Nested
+    @DisplayName("with moment 'now'")
+    class WithMomentNow {
+
+        @Test
+        @DisplayName("null value")
+        void testNullValue() {
+            List<?> violations = validate(CLOCK_PROVIDER, TestClass.class, "now", null);
+            assertEquals(Collections.emptyList(), violations);
+        }
+
+        @ParameterizedTest(name = "{0}")
+        @ValueSource(longs = { 1196676930000L, 1196676930001L, Long.MAX_VALUE })
+        @DisplayName("valid value")
+        void testValidValue(long value) {
+            List<?> violations = validate(CLOCK_PROVIDER, TestClass.class, "now", value);
+            assertEquals(Collections.emptyList(), violations);
+        }
+
+        @ParameterizedTest(name = "{0}")
+        @ValueSource(longs = { 1196676929999L, 0L, -1L, Long.MIN_VALUE })
+        @DisplayName("invalid value")
+        void testInvalidValue(long value) {
+            List<ConstraintViolation<TestClass>> violations = validate(CLOCK_PROVIDER, TestClass.class, "now", value);
+            assertEquals(1, violations.size());
+
+            ConstraintViolation<?> violation = violations.get(0);
+            assertAnnotation(violation, TestConstraint.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("with explicit moment")
+    class WithExplicitMoment {
+
+        @ParameterizedTest(name = "{0}")
+        @ValueSource(longs = { 1196676930123L, 1196676930124L, Long.MAX_VALUE })
+        @DisplayName("valid value")
+        void testValidValue(long value) {
+            List<?> violations = validate(TestClass.class, "epochMilli", value);
+            assertEquals(Collections.emptyList(), violations);
+        }
+
+        @ParameterizedTest(name = "{0}")
+        @ValueSource(longs = { 1196676930122L, 0L, Long.MIN_VALUE })
+        @DisplayName("invalid value")
+        void testInvalidValue(long value) {
+            List<ConstraintViolation<TestClass>> violations = validate(TestClass.class, "epochMilli", value);
+            assertEquals(1, violations.size());
+
+            ConstraintViolation<?> violation = violations.get(0);
+            assertAnnotation(violation, TestConstraint.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("with epoch unit payload")
+    class WithEpochUnitPayload {
+
+        @ParameterizedTest(name = "{0}")
+        @ValueSource(longs = { 1196676931L, 31556889864403199L })
+        @DisplayName("valid seconds")
+        void testValidSeconds(long value) {
+            List<?> violations = validate(TestClass.class, "epochSecond", value);
+            assertEquals(Collections.emptyList(), violations);
+        }
+
+        // 1196676930 is 2007-12-03T10:15:30Z, which is before the moment
+        // Long.MAX_VALUE seconds is after Instant.MAX
+        @ParameterizedTest(name = "{0}")
+        @ValueSource(longs = { 1196676930L, 31556889864403200L, Long.MAX_VALUE })
+        @DisplayName("invalid seconds")
+        void testInvalidSeconds(long value) {
+            List<ConstraintViolation<TestClass>> violations = validate(TestClass.class, "epochSecond", value);
+            assertEquals(1, violations.size());
+
+            ConstraintViolation<?> violation = violations.get(0);
+            assertAnnotation(violation, TestConstraint.class);
+        }
+
+        @ParameterizedTest(name = "{0}")
+        @ValueSource(longs = { 1196676930123000000L, 1196676930123000001L })
+        @DisplayName("valid nanoseconds")
+        void testValidNanoseconds(long value) {
+            List<?> violations = validate(TestClass.class, "epochNano", value);
+            assertEquals(Collections.emptyList(), violations);
+        }
+
+        @ParameterizedTest(name = "{0}")
+        @ValueSource(longs = { 1196676930122999999L, Long.MIN_VALUE })
+        @DisplayName("invalid nanoseconds")
+        void testInvalidNanoseconds(long value) {
+            List<ConstraintViolation<TestClass>> violations = validate(TestClass.class, "epochNano", value);
+            assertEquals(1, violations.size());
+
+            ConstraintViolation<?> violation = violations.get(0);
+            assertAnnotation(violation, TestConstraint.class);
+        }
+
+        @Test
+        @DisplayName("multiple units")
+        void testMultipleUnits() {
+            ValidationException exception = assertThrows(ValidationException.class, () -> validate(TestClass.class, "multipleUnits", 0L));
+
+            Throwable cause = exception.getCause();
+            assertInstanceOf(IllegalStateException.class, cause);
+            assertEquals("payload should define at most one epoch unit, defines SECONDS and NANOSECONDS", cause.getMessage());
+        }
+    }
+
+    @Nested
+    @DisplayName("fast checks match delegate validators")
+    class FastChecksMatchDelegateValidators {
+
+        // instants around the daylight saving time transitions of Europe/Paris and Australia/Lord_Howe, and month and year boundaries
+        private final Instant[] instants = {
+                Instant.parse("2007-03-24T22:59:59.999999999Z"), Instant.parse("2007-03-24T23:00:00Z"),
+                Instant.parse("2007-03-25T00:59:59.999999999Z"), Instant.parse("2007-03-25T01:00:00Z"), Instant.parse("2007-10-27T21:59:59Z"),
+                Instant.parse("2007-10-28T00:30:00Z"), Instant.parse("2007-10-28T01:00:00Z"), Instant.parse("2007-10-28T01:30:00Z"),
+                Instant.parse("2007-10-28T22:59:59.999999999Z"),
+                Instant.parse("2007-03-24T14:30:00Z"), Instant.parse("2007-03-24T15:00:00Z"), Instant.parse("2007-10-27T15:30:00Z"),
+                Instant.parse("2007-10-27T16:00:00Z"), Instant.parse("2007-12-03T10:15:30Z"), Instant.parse("2007-12-03T10:15:30.123456789Z"),
+                Instant.parse("2007-02-28T23:00:00Z"), Instant.parse("2007-12-31T23:59:59.999999999Z"), Instant.parse("1969-12-31T23:30:00.5Z"),
+                Instant.parse("1970-01-01T00:00:00Z"), Instant.parse("2024-02-29T23:59:59Z"), Instant.parse("1677-09-21T00:12:44Z"),
+                Instant.parse("2262-04-11T23:47:16Z"),
+        };
+
+        @ParameterizedTest(name = "{0}")
+        @ValueSource(strings = { "now", "2007-12-03T10:15:30.123456789Z", "1970-01-01T00:00:00Z", "1969-12-31T23:59:59.999999999Z" })
+        @DisplayName("values")
+        void testValues(String moment) {
+            assertFastChecksMatch(constraint -> new InstantNotBefore(), moment, SYSTEM_ZONE_ID);
+        }
+
+        @ParameterizedTest(name = "{0}")
+        @ValueSource(strings = { "Europe/Paris", "Australia/Lord_Howe", "America/St_Johns", "Asia/Kathmandu", "Pacific/Kiritimati", "UTC", "system" })
+        @DisplayName("date parts")
+        void testDateParts(String zoneId) {
+            for (String moment : new String[] { "now", "2007-03-25", "2007-10-28" }) {
+                assertFastChecksMatch(constraint -> new InstantDateNotBefore(), moment, zoneId);
+            }
+        }
+
+        @ParameterizedTest(name = "{0}")
+        @ValueSource(strings = { "Europe/Paris", "Australia/Lord_Howe", "America/St_Johns", "Asia/Kathmandu", "Pacific/Kiritimati", "UTC", "system" })
+        @DisplayName("time parts")
+        void testTimeParts(String zoneId) {
+            for (String moment : new String[] { "now", "00:00", "02:30", "23:59:59.999999999" }) {
+                assertFastChecksMatch(constraint -> new InstantTimeNotBefore(), moment, zoneId);
+            }
+        }
+
+        @ParameterizedTest(name = "{0}")
+        @ValueSource(strings = { "Europe/Paris", "Australia/Lord_Howe", "America/St_Johns", "Asia/Kathmandu", "Pacific/Kiritimati", "UTC", "system" })
+        @DisplayName("year-month parts")
+        void testYearMonthParts(String zoneId) {
+            for (String moment : new String[] { "now", "2007-03", "2007-10", "2008-01" }) {
+                assertFastChecksMatch(constraint -> new InstantYearMonthNotBefore(), moment, zoneId);
+            }
+        }
+
+        @ParameterizedTest(name = "{0}")
+        @ValueSource(strings = { "Europe/Paris", "Australia/Lord_Howe", "America/St_Johns", "Asia/Kathmandu", "Pacific/Kiritimati", "UTC", "system" })
+        @DisplayName("year parts")
+        void testYearParts(String zoneId) {
+            for (String moment : new String[] { "now", "1970", "2008" }) {
+                assertFastChecksMatch(constraint -> new InstantYearNotBefore(), moment, zoneId);
+            }
+        }
+
+        @ParameterizedTest(name = "{0}")
+        @ValueSource(strings = { "Europe/Paris", "Australia/Lord_Howe", "America/St_Johns", "Asia/Kathmandu", "Pacific/Kiritimati", "UTC", "system" })
+        @DisplayName("month parts")
+        void testMonthParts(String zoneId) {
+            for (Month month : new Month[] { Month.JANUARY, Month.MARCH, Month.OCTOBER, Month.DECEMBER }) {
+                assertFastChecksMatch(constraint -> new InstantMonthIs(), month.name(), zoneId);
+            }
+        }
+
+        @ParameterizedTest(name = "{0}")
+        @ValueSource(strings = { "Europe/Paris", "Australia/Lord_Howe", "America/St_Johns", "Asia/Kathmandu", "Pacific/Kiritimati", "UTC", "system" })
+        @DisplayName("day of week parts")
+        void testDayOfWeekParts(String zoneId) {
+            for (DayOfWeek dayOfWeek : new DayOfWeek[] { DayOfWeek.SATURDAY, DayOfWeek.SUNDAY, DayOfWeek.MONDAY }) {
+                assertFastChecksMatch(constraint -> new InstantDayOfWeekIs(), dayOfWeek.name(), zoneId);
+            }
+        }
+
+        @ParameterizedTest(name = "{0}")
+        @ValueSource(strings = { "Europe/Paris", "Australia/Lord_Howe", "America/St_Johns", "Asia/Kathmandu", "Pacific/Kiritimati", "UTC", "system" })
+        @DisplayName("hour fields")
+        void testHourFields(String zoneId) {
+            for (int hour : new int[] { 0, 2, 3, 10 }) {
+                assertFastChecksMatch(constraint -> new InstantHourIs(), Integer.toString(hour), zoneId);
+            }
+        }
+
+        private void assertFastChecksMatch(Function<FastCheckConstraint, ConstraintValidator<FastCheckConstraint, ? super Instant>> delegateFactory,
+                String value, String zoneId) {
+
+            List<Class<? extends Payload>> units = Arrays.asList(
+                    EpochValue.Seconds.class, EpochValue.Milliseconds.class, EpochValue.Microseconds.class, EpochValue.Nanoseconds.class);
+            for (Class<? extends Payload> unitType : units) {
+                FastCheckConstraint constraint = constraint(value, zoneId, unitType);
+
+                EpochValueValidator<FastCheckConstraint> validator = new EpochValueValidator<FastCheckConstraint>(delegateFactory.apply(constraint)) {
+                    // no additional behaviour needed
+                };
+                validator.initialize(constraint);
+
+                ConstraintValidator<FastCheckConstraint, ? super Instant> delegate = delegateFactory.apply(constraint);
+                delegate.initialize(constraint);
+
+                EpochUnit unit = EpochValue.unit(constraint);
+                for (Instant instant : instants) {
+                    long floorEpochValue = unit.floorEpochValue(instant);
+                    for (long epochValue = floorEpochValue - 1; epochValue <= floorEpochValue + 1; epochValue++) {
+                        Instant instantValue = unit.toInstant(epochValue);
+                        Long epochValueObject = epochValue;
+                        assertMatchesDelegate(delegate.isValid(instantValue, context(CLOCK_PROVIDER)),
+                                context -> validator.isValid(epochValueObject, context), CLOCK_PROVIDER, constraint + " " + unit + ": " + epochValue);
+                    }
+                }
+            }
+        }
+    }
+
+    private static final class TestClass {
+
+        @TestConstraint(moment = "now")
+        private Long now;
+
+        @TestConstraint(moment = "2007-12-03T10:15:30.123Z")
+        private Long epochMilli;
+
+        @TestConstraint(moment = "2007-12-03T10:15:30.123Z", payload = EpochValue.Seconds.class)
+        private Long epochSecond;
+
+        @TestConstraint(moment = "2007-12-03T10:15:30.123Z", payload = EpochValue.Nanoseconds.class)
+        private Long epochNano;
+
+        @TestConstraint(moment = "now", payload = { EpochValue.Seconds.class, EpochValue.Nanoseconds.class })
+        private Long multipleUnits;
+    }
+
+    @Constraint(validatedBy = EpochValueNotBeforeValidator.class)
+    @Target({ METHOD, FIELD, ANNOTATION_TYPE, CONSTRUCTOR, PARAMETER, TYPE_USE })
+    @Retention(RUNTIME)
+    public @interface TestConstraint {
+
+        String message() default "default message";
+
+        Class<?>[] groups() default {};
+
+        Class<? extends Payload>[] payload() default {};
+
+        String moment();
+    }
+
+    public static final class EpochValueNotBeforeValidator extends EpochValueValidator<TestConstraint> {
+
+        public EpochValueNotBeforeValidator() {
+            super(new InstantNotBeforeValidator());
+        }
+    }
+
+    public static final class InstantNotBeforeValidator extends MomentValueValidator<TestConstraint, Instant> {
+
+        public InstantNotBeforeValidator() {
+            super(TestConstraint::moment, Instant::parse, Instant::now, not(comparison(Instant::isBefore)));
+        }
+    }
+
+    private static final class InstantNotBefore extends MomentValueValidator<FastCheckConstraint, Instant> {
+
+        private InstantNotBefore() {
+            super(FastCheckConstraint::value, Instant::parse, Instant::now, not(comparison(Instant::isBefore)));
+        }
+    }
+
+    private static final class InstantDateNotBefore extends MomentPartValidator.ForInstant<FastCheckConstraint, LocalDate> {
+
+        private InstantDateNotBefore() {
+            super(FastCheckConstraint::value, LocalDate::parse, LocalDate::now, FastCheckConstraint::zoneId, ZonedDateTime::toLocalDate,
+                    not(comparison(LocalDate::isBefore)));
+        }
+    }
+
+    private static final class InstantTimeNotBefore extends MomentPartValidator.ForInstant<FastCheckConstraint, LocalTime> {
+
+        private InstantTimeNotBefore() {
+            super(FastCheckConstraint::value, LocalTime::parse, LocalTime::now, FastCheckConstraint::zoneId, ZonedDateTime::toLocalTime,
+                    not(comparison(LocalTime::isBefore)));
+        }
+    }
+
+    private static final class InstantYearMonthNotBefore extends MomentPartValidator.ForInstant<FastCheckConstraint, YearMonth> {
+
+        private InstantYearMonthNotBefore() {
+            super(FastCheckConstraint::value, YearMonth::parse, YearMonth::now, FastCheckConstraint::zoneId, YearMonth::from,
+                    not(comparison(YearMonth::isBefore)));
+        }
+    }
+
+    private static final class InstantYearNotBefore extends MomentPartValidator.ForInstant<FastCheckConstraint, Year> {
+
+        private InstantYearNotBefore() {
+            super(FastCheckConstraint::value, Year::parse, Year::now, FastCheckConstraint::zoneId, Year::from, not(comparison(Year::isBefore)));
+        }
+    }
+
+    private static final class InstantMonthIs extends PartValidator.ForInstant<FastCheckConstraint, Month> {
+
+        private InstantMonthIs() {
+            super(FastCheckConstraint::zoneId, ZonedDateTime::getMonth,
+                    annotation -> (month, clockProvider) -> month == Month.valueOf(annotation.value()));
+        }
+    }
+
+    private static final class InstantDayOfWeekIs extends PartValidator.ForInstant<FastCheckConstraint, DayOfWeek> {
+
+        private InstantDayOfWeekIs() {
+            super(FastCheckConstraint::zoneId, ZonedDateTime::getDayOfWeek,
+                    annotation -> (dayOfWeek, clockProvider) -> dayOfWeek == DayOfWeek.valueOf(annotation.value()));
+        }
+    }
+
+    private static final class InstantHourIs extends FieldValidator.ForInstant<FastCheckConstraint> {
+
+        private InstantHourIs() {
+            super(ChronoField.HOUR_OF_DAY, FastCheckConstraint::zoneId,
+                    annotation -> (hour, clockProvider) -> hour == Integer.parseInt(annotation.value()));
+        }
+    }
+}
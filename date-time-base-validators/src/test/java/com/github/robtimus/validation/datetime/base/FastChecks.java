@@ -0,0 +1,140 @@
+/*
+ * FastChecks.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.validation.datetime.base;
+
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import java.lang.annotation.Retention;
+import java.lang.reflect.Proxy;
+import java.util.function.Predicate;
+import jakarta.validation.ClockProvider;
+import jakarta.validation.ConstraintValidatorContext;
+import jakarta.validation.Payload;
+
+/**
+ * Fixtures for testing that the checks that {@link CharSequenceValidator} and {@link EpochValueValidator} use instead of converting values
+ * match their delegate validators.
+ */
+@SuppressWarnings({ "javadoc", "nls" })
+final class FastChecks {
+
+    private FastChecks() {
+    }
+
+    /**
+     * Creates a {@link FastCheckConstraint}. Validators are initialized with it directly, so unlike annotations on fields it can be created for
+     * any combination of values and zone ids.
+     */
+    @SafeVarargs
+    static FastCheckConstraint constraint(String value, String zoneId, Class<? extends Payload>... payload) {
+        return (FastCheckConstraint) Proxy.newProxyInstance(FastCheckConstraint.class.getClassLoader(), new Class<?>[] { FastCheckConstraint.class },
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "annotationType":
+                            return FastCheckConstraint.class;
+                        case "value":
+                            return value;
+                        case "zoneId":
+                            return zoneId;
+                        case "payload":
+                            return payload.clone();
+                        case "toString":
+                            return "@FastCheckConstraint(value=" + value + ", zoneId=" + zoneId + ")";
+                        default:
+                            throw new UnsupportedOperationException(method.getName());
+                    }
+                });
+    }
+
+    /**
+     * Creates a context for validating values using delegate validators.
+     */
+    static ConstraintValidatorContext context(ClockProvider clockProvider) {
+        return new CountingContext(clockProvider);
+    }
+
+    /**
+     * Asserts that a validator returns the same result as its delegate validator, and that it only calls its delegate validator if its check
+     * fails. The latter is detected by counting how often the validator requests the {@link ClockProvider}: once for its check, and once more
+     * if it falls back to its delegate validator. A validator without check requests it only once for invalid values, so a missing check is
+     * detected as well.
+     *
+     * @param expected The result of the delegate validator.
+     * @param validation Validates the value using the validator to test.
+     * @param clockProvider The clock provider to use.
+     * @param value The value, for assertion messages.
+     */
+    static void assertMatchesDelegate(boolean expected, Predicate<ConstraintValidatorContext> validation, ClockProvider clockProvider,
+            Object value) {
+
+        CountingContext context = new CountingContext(clockProvider);
+        assertEquals(expected, validation.test(context), "result for " + value);
+        assertEquals(expected ? 1 : 2, context.clockProviderRequests, "clock provider requests for " + value);
+    }
+
+    /**
+     * A constraint for delegate validators that are initialized directly. The meaning of the value depends on the delegate validator.
+     */
+    @Retention(RUNTIME)
+    @interface FastCheckConstraint {
+
+        String value();
+
+        String zoneId();
+
+        Class<? extends Payload>[] payload();
+    }
+
+    private static final class CountingContext implements ConstraintValidatorContext {
+
+        private final ClockProvider clockProvider;
+        private int clockProviderRequests;
+
+        private CountingContext(ClockProvider clockProvider) {
+            this.clockProvider = clockProvider;
+        }
+
+        @Override
+        public ClockProvider getClockProvider() {
+            clockProviderRequests++;
+            return clockProvider;
+        }
+
+        // validators without messages don't use any of the following methods
+
+        @Override
+        public void disableDefaultConstraintViolation() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public String getDefaultConstraintMessageTemplate() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public ConstraintViolationBuilder buildConstraintViolationWithTemplate(String messageTemplate) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public <T> T unwrap(Class<T> type) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
@@ -0,0 +1,172 @@
+/*
+ * ISOScannerTest.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.validation.datetime.base;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.OffsetTime;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+@SuppressWarnings({ "javadoc", "nls" })
+class ISOScannerTest {
+
+    @Nested
+    @DisplayName("local date")
+    class LocalDateForm {
+
+        @ParameterizedTest(name = "{0}")
+        @ValueSource(strings = { "2007-12-03", "0000-01-01", "1970-01-01", "1969-12-31", "2000-02-29", "2100-12-31", "9999-12-31" })
+        @DisplayName("valid value")
+        void testValidValue(String text) {
+            assertEquals(ISOScanner.LOCAL_DATE, ISOScanner.form(text));
+            assertEquals(LocalDate.parse(text).toEpochDay(), ISOScanner.epochDay(text));
+        }
+
+        @ParameterizedTest(name = "{0}")
+        @ValueSource(strings = { "2007-12-3", "2007-1-03", "207-12-03", "02007-12-03", "2007/12/03", "2007-00-03", "2007-13-03", "2007-12-00",
+                "2007-12-32", "2007-02-29", "1900-02-29", "2007-04-31", "+2007-12-03", "-2007-12-03", "2007-12-03 ", "2007-1a-03" })
+        @DisplayName("malformed value")
+        void testMalformedValue(String text) {
+            assertEquals(ISOScanner.MALFORMED, ISOScanner.form(text));
+        }
+    }
+
+    @Nested
+    @DisplayName("local date-time")
+    class LocalDateTimeForm {
+
+        @ParameterizedTest(name = "{0}")
+        @ValueSource(strings = { "2007-12-03T10:15", "2007-12-03T10:15:30", "2007-12-03T10:15:30.1", "2007-12-03T10:15:30.123456789",
+                "2007-12-03T00:00", "2007-12-03T23:59:59.999999999" })
+        @DisplayName("valid value")
+        void testValidValue(String text) {
+            LocalDateTime dateTime = LocalDateTime.parse(text);
+
+            assertEquals(ISOScanner.LOCAL_DATE_TIME, ISOScanner.form(text));
+            assertEquals(dateTime.toLocalDate().toEpochDay(), ISOScanner.epochDay(text));
+            assertEquals(dateTime.toLocalTime().toNanoOfDay(), ISOScanner.nanoOfDay(text, ISOScanner.LOCAL_DATE_TIME));
+        }
+
+        @ParameterizedTest(name = "{0}")
+        @ValueSource(strings = { "2007-12-03T", "2007-12-03t10:15", "2007-12-03 10:15", "2007-12-03T10", "2007-12-03T10:1", "2007-12-03T24:00",
+                "2007-12-03T10:60", "2007-12-03T10:15:60", "2007-12-03T10:15:3", "2007-12-03T10:15:30.", "2007-12-03T10:15:30.1234567890",
+                "2007-12-03T10:15:30,1", "2007-12-03T10:15.1", "2007-12-03T10:15:30.1x" })
+        @DisplayName("malformed value")
+        void testMalformedValue(String text) {
+            assertEquals(ISOScanner.MALFORMED, ISOScanner.form(text));
+        }
+    }
+
+    @Nested
+    @DisplayName("offset date-time")
+    class OffsetDateTimeForm {
+
+        @ParameterizedTest(name = "{0}")
+        @ValueSource(strings = { "2007-12-03T10:15Z", "2007-12-03T10:15:30Z", "2007-12-03T10:15:30.5+01:00", "2007-12-03T10:15:30-05:30",
+                "2007-12-03T10:15:30+01:02:03", "2007-12-03T10:15:30.123456789-01:02:03", "2007-12-03T10:15:30+18:00", "2007-12-03T10:15:30-18:00",
+                "2007-12-03T10:15:30+00:00" })
+        @DisplayName("valid value")
+        void testValidValue(String text) {
+            OffsetDateTime dateTime = OffsetDateTime.parse(text);
+
+            assertEquals(ISOScanner.OFFSET_DATE_TIME, ISOScanner.form(text));
+            assertEquals(dateTime.toLocalDate().toEpochDay(), ISOScanner.epochDay(text));
+            assertEquals(dateTime.toLocalTime().toNanoOfDay(), ISOScanner.nanoOfDay(text, ISOScanner.OFFSET_DATE_TIME));
+            assertEquals(dateTime.getOffset().getTotalSeconds(), ISOScanner.offsetSeconds(text));
+        }
+
+        @ParameterizedTest(name = "{0}")
+        @ValueSource(strings = { "2007-12-03T10:15:30z", "2007-12-03T10:15:30+1", "2007-12-03T10:15:30+01", "2007-12-03T10:15:30+0100",
+                "2007-12-03T10:15:30+01:0", "2007-12-03T10:15:30+01:00:0", "2007-12-03T10:15:30+01:60", "2007-12-03T10:15:30+01:00:60",
+                "2007-12-03T10:15:30+18:01", "2007-12-03T10:15:30+19:00", "2007-12-03T10:15:30+01:00[Europe/Paris]", "2007-12-03T10:15:30ZZ",
+                "2007-12-03T10:15:30 +01:00" })
+        @DisplayName("malformed value")
+        void testMalformedValue(String text) {
+            assertEquals(ISOScanner.MALFORMED, ISOScanner.form(text));
+        }
+    }
+
+    @Nested
+    @DisplayName("local time")
+    class LocalTimeForm {
+
+        @ParameterizedTest(name = "{0}")
+        @ValueSource(strings = { "10:15", "10:15:30", "10:15:30.1", "10:15:30.123456789", "00:00", "23:59:59.999999999" })
+        @DisplayName("valid value")
+        void testValidValue(String text) {
+            assertEquals(ISOScanner.LOCAL_TIME, ISOScanner.form(text));
+            assertEquals(LocalTime.parse(text).toNanoOfDay(), ISOScanner.nanoOfDay(text, ISOScanner.LOCAL_TIME));
+        }
+
+        @ParameterizedTest(name = "{0}")
+        @ValueSource(strings = { "", "1", "10", "10:1", "1:15", "10-15", "24:00", "10:60", "10:15:60", "10:15:30.", "10:15:30Z", "10:15:30+01:00",
+                "T10:15:30", "10:15:30.1234567890", "now" })
+        @DisplayName("malformed value")
+        void testMalformedValue(String text) {
+            assertEquals(ISOScanner.MALFORMED, ISOScanner.form(text));
+        }
+    }
+
+    @Nested
+    @DisplayName("offset time")
+    class OffsetTimeForm {
+
+        @ParameterizedTest(name = "{0}")
+        @ValueSource(strings = { "10:15Z", "10:15:30Z", "10:15:30.5+01:00", "10:15:30-05:30", "10:15:30.123456789-01:02:03", "10:15:30+18:00" })
+        @DisplayName("valid value")
+        void testValidValue(String text) {
+            OffsetTime time = OffsetTime.parse(text);
+
+            assertTrue(ISOScanner.isOffsetTime(text));
+            assertEquals(time.toLocalTime().toNanoOfDay(), ISOScanner.nanoOfDay(text, ISOScanner.LOCAL_TIME));
+            assertEquals(time.getOffset().getTotalSeconds(), ISOScanner.offsetSeconds(text));
+        }
+
+        @ParameterizedTest(name = "{0}")
+        @ValueSource(strings = { "", "10:15", "10:15:30", "10:15:30z", "10:15:30+01", "10:15:30+0100", "10:15:30+18:01", "24:00Z",
+                "2007-12-03T10:15:30Z", "10:15:30+01:00[Europe/Paris]" })
+        @DisplayName("malformed value")
+        void testMalformedValue(String text) {
+            assertFalse(ISOScanner.isOffsetTime(text));
+        }
+    }
+
+    @Nested
+    @DisplayName("calendar calculations")
+    class CalendarCalculations {
+
+        @ParameterizedTest(name = "{0}")
+        @ValueSource(strings = { "2007-12-03", "0000-01-01", "0000-02-01", "1970-01-01", "1969-12-31", "1900-02-01", "2000-02-29", "2007-02-01",
+                "2007-04-30", "2100-02-01", "9999-12-31" })
+        @DisplayName("lengthOfMonth and epochDay")
+        void testCalendarCalculations(String text) {
+            LocalDate date = LocalDate.parse(text);
+
+            assertEquals(date.lengthOfMonth(), ISOScanner.lengthOfMonth(date.getYear(), date.getMonthValue()));
+            assertEquals(date.toEpochDay(), ISOScanner.epochDay(date.getYear(), date.getMonthValue(), date.getDayOfMonth()));
+        }
+    }
+}
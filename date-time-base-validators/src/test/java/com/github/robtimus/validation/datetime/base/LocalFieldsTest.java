@@ -0,0 +1,75 @@
+/*
+ * LocalFieldsTest.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.validation.datetime.base;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoField;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+@SuppressWarnings({ "javadoc", "nls" })
+class LocalFieldsTest {
+
+    @ParameterizedTest(name = "{0}")
+    @ValueSource(strings = { "2007-12-03T10:15:30Z", "2024-02-29T23:59:59Z", "2000-03-01T00:00:00Z", "1970-01-01T00:00:00Z",
+            "1969-12-31T23:59:59Z", "1900-02-28T12:00:00Z", "0000-01-01T00:00:00Z", "-0001-12-31T23:59:59Z", "-999999999-01-01T00:00:00Z",
+            "+999999999-12-31T23:59:59Z" })
+    @DisplayName("fieldValue")
+    void testFieldValue(String text) {
+        long localSecond = Instant.parse(text).getEpochSecond();
+        LocalDateTime localDateTime = LocalDateTime.ofEpochSecond(localSecond, 0, ZoneOffset.UTC);
+
+        for (ChronoField field : ChronoField.values()) {
+            if (LocalFields.isSupported(field)) {
+                assertEquals(localDateTime.get(field), LocalFields.fieldValue(field, localSecond, 0), field.toString());
+            }
+        }
+        assertEquals(localDateTime.toLocalDate().toEpochDay(), LocalFields.epochDay(localSecond));
+        assertEquals(localDateTime.getDayOfWeek(), LocalFields.dayOfWeek(localSecond));
+        assertEquals(localDateTime.toLocalTime().toNanoOfDay() + 500, LocalFields.nanoOfDay(localSecond, 500));
+    }
+
+    @Test
+    @DisplayName("fieldValue for every day from 1600 until 2400")
+    void testFieldValueForEveryDay() {
+        for (long epochDay = -135_140; epochDay < 157_054; epochDay++) {
+            long localSecond = epochDay * LocalFields.SECONDS_PER_DAY;
+            LocalDateTime localDateTime = LocalDateTime.ofEpochSecond(localSecond, 0, ZoneOffset.UTC);
+
+            assertEquals(localDateTime.getYear(), LocalFields.year(localSecond));
+            assertEquals(localDateTime.getMonthValue(), LocalFields.monthOfYear(localSecond));
+            assertEquals(localDateTime.getDayOfMonth(), LocalFields.dayOfMonth(localSecond));
+        }
+    }
+
+    @Test
+    @DisplayName("isSupported")
+    void testIsSupported() {
+        assertTrue(LocalFields.isSupported(ChronoField.HOUR_OF_DAY));
+        assertTrue(LocalFields.isSupported(ChronoField.DAY_OF_MONTH));
+        assertFalse(LocalFields.isSupported(ChronoField.DAY_OF_YEAR));
+        assertFalse(LocalFields.isSupported(ChronoField.INSTANT_SECONDS));
+    }
+}
@@ -0,0 +1,199 @@
+/*
+ * MomentParsersTest.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.validation.datetime.base;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.MonthDay;
+import java.time.OffsetDateTime;
+import java.time.OffsetTime;
+import java.time.Year;
+import java.time.YearMonth;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.function.Function;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+@SuppressWarnings({ "javadoc", "nls" })
+class MomentParsersTest {
+
+    @ParameterizedTest(name = "{0}")
+    @ValueSource(strings = { "2007-12-03T10:15:30Z", "2007-12-03T10:15:30.123456789Z", "1969-12-31T23:59:59.999Z", "0000-01-01T00:00:00Z",
+            "+12345-12-03T10:15:30Z", "2007-12-03t10:15:30Z", "2007-12-03T10:15:30+01:00", "2007-12-03T10:15Z", "2007-12-03T24:00:00Z",
+            "2007-12-03", "now" })
+    @DisplayName("INSTANT")
+    void testInstant(String text) {
+        assertParsesLikeJDK(MomentParsers.INSTANT, Instant::parse, text);
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @ValueSource(strings = { "2007-12-03", "2000-02-29", "0000-01-01", "9999-12-31", "+12345-12-03", "-0001-12-03", "2007-02-29", "2007-13-03",
+            "2007-12-03T10:15", "now" })
+    @DisplayName("LOCAL_DATE")
+    void testLocalDate(String text) {
+        assertParsesLikeJDK(MomentParsers.LOCAL_DATE, LocalDate::parse, text);
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @ValueSource(strings = { "2007-12-03T10:15", "2007-12-03T10:15:30", "2007-12-03T10:15:30.123456789", "2007-12-03t10:15:30",
+            "+12345-12-03T10:15:30", "2007-12-03T24:00", "2007-12-03T10:15:30Z", "2007-12-03", "now" })
+    @DisplayName("LOCAL_DATE_TIME")
+    void testLocalDateTime(String text) {
+        assertParsesLikeJDK(MomentParsers.LOCAL_DATE_TIME, LocalDateTime::parse, text);
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @ValueSource(strings = { "10:15", "10:15:30", "10:15:30.1", "23:59:59.999999999", "24:00", "10:15:30.1234567890", "10:15:30Z", "now" })
+    @DisplayName("LOCAL_TIME")
+    void testLocalTime(String text) {
+        assertParsesLikeJDK(MomentParsers.LOCAL_TIME, LocalTime::parse, text);
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @ValueSource(strings = { "--12-03", "--02-29", "--02-30", "--04-31", "--13-01", "--00-01", "--12-3", "-12-03", "12-03", "now" })
+    @DisplayName("MONTH_DAY")
+    void testMonthDay(String text) {
+        assertParsesLikeJDK(MomentParsers.MONTH_DAY, MonthDay::parse, text);
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @ValueSource(strings = { "2007-12-03T10:15:30+01:00", "2007-12-03T10:15Z", "2007-12-03T10:15:30.5-05:30", "2007-12-03T10:15:30+01:02:03",
+            "2007-12-03T10:15:30+18:00", "2007-12-03T10:15:30-00:00", "+12345-12-03T10:15:30Z", "2007-12-03T10:15:30z", "2007-12-03T10:15:30+0100",
+            "2007-12-03T10:15:30+18:01", "2007-12-03T10:15:30", "now" })
+    @DisplayName("OFFSET_DATE_TIME")
+    void testOffsetDateTime(String text) {
+        assertParsesLikeJDK(MomentParsers.OFFSET_DATE_TIME, OffsetDateTime::parse, text);
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @ValueSource(strings = { "10:15:30+01:00", "10:15Z", "10:15:30.5-05:30", "10:15:30+01:02:03", "10:15:30z", "10:15:30+0100", "24:00Z",
+            "10:15:30", "now" })
+    @DisplayName("OFFSET_TIME")
+    void testOffsetTime(String text) {
+        assertParsesLikeJDK(MomentParsers.OFFSET_TIME, OffsetTime::parse, text);
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @ValueSource(strings = { "2007", "0000", "9999", "+2007", "-2007", "12345", "+12345", "207", "200a", "now" })
+    @DisplayName("YEAR")
+    void testYear(String text) {
+        assertParsesLikeJDK(MomentParsers.YEAR, Year::parse, text);
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @ValueSource(strings = { "2007-12", "0000-01", "+12345-12", "-2007-12", "2007-13", "2007-00", "2007-1", "2007/12", "now" })
+    @DisplayName("YEAR_MONTH")
+    void testYearMonth(String text) {
+        assertParsesLikeJDK(MomentParsers.YEAR_MONTH, YearMonth::parse, text);
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @ValueSource(strings = { "2007-12-03T10:15:30+01:00", "2007-12-03T10:15Z", "2007-12-03T10:15:30.5-05:30",
+            "2007-12-03T10:15:30+01:00[Europe/Paris]", "2007-12-03T10:15:30Z[UTC]", "2007-12-03T10:15:30[Europe/Paris]",
+            "2007-12-03T10:15:30z", "2007-12-03T10:15:30", "now" })
+    @DisplayName("ZONED_DATE_TIME")
+    void testZonedDateTime(String text) {
+        assertParsesLikeJDK(MomentParsers.ZONED_DATE_TIME, ZonedDateTime::parse, text);
+    }
+
+    @Nested
+    @DisplayName("caching")
+    class Caching {
+
+        @Test
+        @DisplayName("same text and type")
+        void testSameTextAndType() {
+            ParseCache.clear();
+
+            CacheStats before = CacheStats.forCache(ParseCache.NAME).orElseThrow();
+
+            LocalDate first = MomentParsers.LOCAL_DATE.apply("2007-12-03");
+            LocalDate second = MomentParsers.LOCAL_DATE.apply("2007-12-03");
+
+            assertSame(first, second);
+
+            CacheStats after = CacheStats.forCache(ParseCache.NAME).orElseThrow();
+            assertEquals(before.hitCount() + 1, after.hitCount());
+            assertEquals(before.missCount() + 1, after.missCount());
+            assertEquals(1, after.size());
+        }
+
+        @Test
+        @DisplayName("same text, different type")
+        void testSameTextDifferentType() {
+            ParseCache.clear();
+
+            OffsetDateTime offsetDateTime = MomentParsers.OFFSET_DATE_TIME.apply("2007-12-03T10:15:30Z");
+            ZonedDateTime zonedDateTime = MomentParsers.ZONED_DATE_TIME.apply("2007-12-03T10:15:30Z");
+            Instant instant = MomentParsers.INSTANT.apply("2007-12-03T10:15:30Z");
+
+            assertEquals(zonedDateTime.toOffsetDateTime(), offsetDateTime);
+            assertEquals(zonedDateTime.toInstant(), instant);
+            assertEquals(3, CacheStats.forCache(ParseCache.NAME).orElseThrow().size());
+        }
+
+        @Test
+        @DisplayName("invalid text")
+        void testInvalidText() {
+            ParseCache.clear();
+
+            assertThrows(DateTimeParseException.class, () -> MomentParsers.LOCAL_DATE.apply("2007-02-29"));
+
+            assertEquals(0, CacheStats.forCache(ParseCache.NAME).orElseThrow().size());
+        }
+
+        @Test
+        @DisplayName("full cache")
+        void testFullCache() {
+            ParseCache.clear();
+
+            long evictionCount = CacheStats.forCache(ParseCache.NAME).orElseThrow().evictionCount();
+
+            for (int i = 0; i <= ParseCache.MAX_SIZE; i++) {
+                MomentParsers.LOCAL_DATE.apply(LocalDate.ofEpochDay(i).toString());
+            }
+
+            CacheStats stats = CacheStats.forCache(ParseCache.NAME).orElseThrow();
+            assertEquals(ParseCache.MAX_SIZE, stats.size());
+            assertEquals(evictionCount + 1, stats.evictionCount());
+        }
+    }
+
+    private static <T> void assertParsesLikeJDK(Function<String, T> parser, Function<String, T> jdkParser, String text) {
+        T expected;
+        try {
+            expected = jdkParser.apply(text);
+        } catch (DateTimeParseException e) {
+            DateTimeParseException exception = assertThrows(DateTimeParseException.class, () -> parser.apply(text));
+            assertEquals(e.getMessage(), exception.getMessage());
+            return;
+        }
+        assertEquals(expected, parser.apply(text));
+        // the second call returns the cached value
+        assertEquals(expected, parser.apply(text));
+    }
+}
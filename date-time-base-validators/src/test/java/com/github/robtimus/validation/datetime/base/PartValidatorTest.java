@@ -25,8 +25,10 @@ import static java.lang.annotation.ElementType.PARAMETER;
 import static java.lang.annotation.ElementType.TYPE_USE;
 import static java.lang.annotation.RetentionPolicy.RUNTIME;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import java.lang.annotation.Retention;
 import java.lang.annotation.Target;
 import java.time.Instant;
@@ -36,6 +38,7 @@ import java.time.OffsetDateTime;
 import java.time.ZonedDateTime;
 import java.util.Collections;
 import java.util.List;
+import java.util.TimeZone;
 import jakarta.validation.Constraint;
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.Payload;
@@ -288,6 +291,66 @@ public class PartValidatorTest extends AbstractValidatorTest {
                 assertAnnotation(violation, TestConstraint.class);
             }
         }
+
+        @Nested
+        @DisplayName("with tracked system zoneId")
+        class WithTrackedSystemZoneId {
+
+            @Test
+            @DisplayName("default time zone changes after initialization")
+            void testDefaultTimeZoneChanges() {
+                TimeZone defaultTimeZone = TimeZone.getDefault();
+                Instant value = Instant.parse("2007-11-30T23:30:00Z");
+                try {
+                    TimeZone.setDefault(TimeZone.getTimeZone("UTC"));
+
+                    InstantValidator validator = new InstantValidator();
+                    ZoneIdUtils.enableSystemZoneTracking();
+                    try {
+                        validator.initialize(annotation("instantWithSystemZoneId"));
+                    } finally {
+                        ZoneIdUtils.disableSystemZoneTracking();
+                    }
+
+                    assertFalse(validator.predicate().test(value, null));
+
+                    TimeZone.setDefault(TimeZone.getTimeZone("Europe/Paris"));
+
+                    // not yet refreshed
+                    assertFalse(validator.predicate().test(value, null));
+
+                    ZoneIdUtils.refreshSystemZone();
+
+                    assertTrue(validator.predicate().test(value, null));
+                } finally {
+                    TimeZone.setDefault(defaultTimeZone);
+                    ZoneIdUtils.refreshSystemZone();
+                }
+            }
+
+            @Test
+            @DisplayName("tracking disabled")
+            void testTrackingDisabled() {
+                TimeZone defaultTimeZone = TimeZone.getDefault();
+                Instant value = Instant.parse("2007-11-30T23:30:00Z");
+                try {
+                    TimeZone.setDefault(TimeZone.getTimeZone("UTC"));
+
+                    InstantValidator validator = new InstantValidator();
+                    validator.initialize(annotation("instantWithSystemZoneId"));
+
+                    assertFalse(validator.predicate().test(value, null));
+
+                    TimeZone.setDefault(TimeZone.getTimeZone("Europe/Paris"));
+                    ZoneIdUtils.refreshSystemZone();
+
+                    assertFalse(validator.predicate().test(value, null));
+                } finally {
+                    TimeZone.setDefault(defaultTimeZone);
+                    ZoneIdUtils.refreshSystemZone();
+                }
+            }
+        }
     }
 
     @Nested
@@ -388,6 +451,29 @@ public class PartValidatorTest extends AbstractValidatorTest {
         }
     }
 
+    @Nested
+    @DisplayName("value already in zoneId")
+    class ValueInZoneIdTest {
+
+        @Test
+        @DisplayName("OffsetDateTime with fixed offset of zoneId")
+        void testOffsetDateTime() {
+            NonApplyingOffsetDateTimeValidator validator = new NonApplyingOffsetDateTimeValidator();
+            validator.initialize(annotation("offsetDateTimeWithExplicitZoneId"));
+
+            assertTrue(validator.predicate().test(OffsetDateTime.parse("2007-12-03T10:15:30Z"), null));
+            assertFalse(validator.predicate().test(OffsetDateTime.parse("2007-11-03T10:15:30Z"), null));
+        }
+    }
+
+    private static TestConstraint annotation(String fieldName) {
+        try {
+            return TestClass.class.getDeclaredField(fieldName).getAnnotation(TestConstraint.class);
+        } catch (NoSuchFieldException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
     private static final class TestClass {
 
         @TestConstraint(zoneId = "system")
@@ -469,4 +555,13 @@ public class PartValidatorTest extends AbstractValidatorTest {
             super(TestConstraint::zoneId, ZonedDateTime::getMonth, annotation -> (m, p) -> m == Month.DECEMBER);
         }
     }
+
+    public static final class NonApplyingOffsetDateTimeValidator extends PartValidator<TestConstraint, OffsetDateTime, Month> {
+
+        public NonApplyingOffsetDateTimeValidator() {
+            super(TestConstraint::zoneId, OffsetDateTime::getMonth, (value, zoneId) -> {
+                throw new AssertionError("zoneId should not be applied");
+            }, ZonedDateTime::getMonth, annotation -> (m, p) -> m == Month.DECEMBER);
+        }
+    }
 }
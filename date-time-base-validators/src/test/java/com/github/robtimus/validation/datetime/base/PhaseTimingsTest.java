@@ -0,0 +1,366 @@
+/*
+ * PhaseTimingsTest.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.validation.datetime.base;
+
+import static java.lang.annotation.ElementType.ANNOTATION_TYPE;
+import static java.lang.annotation.ElementType.CONSTRUCTOR;
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.ElementType.PARAMETER;
+import static java.lang.annotation.ElementType.TYPE_USE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+import java.time.Instant;
+import java.time.Month;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoField;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import jakarta.validation.Constraint;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Payload;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import com.github.robtimus.validation.datetime.base.PhaseTimings.Phase;
+
+@SuppressWarnings({ "javadoc", "nls" })
+// public because of the constraints and validators
+public class PhaseTimingsTest extends AbstractValidatorTest {
+
+    @Test
+    @DisplayName("disabled")
+    void testDisabled() {
+        assertFalse(PhaseTimings.isEnabled());
+
+        List<ConstraintViolation<TestClass>> violations = validate(TestClass.class, "notTimed", Instant.parse("2007-12-03T10:15:30.00Z"));
+        assertEquals(0, violations.size());
+
+        assertEquals(Optional.empty(), timings(NotTimedValidator.class));
+    }
+
+    @Test
+    @DisplayName("part validator")
+    void testPartValidator() {
+        List<ConstraintViolation<TestClass>> violations = validateWithTimings(TestClass.class, "part", Instant.parse("2007-11-03T10:15:30.00Z"));
+        assertEquals(1, violations.size());
+
+        PhaseTimings timings = timings(PartTestValidator.class).orElseThrow();
+
+        assertEquals(PartTestConstraint.class, timings.constraint().annotationType());
+        assertEquals(0, timings.count(Phase.CONVERSION));
+        assertEquals(1, timings.count(Phase.ZONE_APPLICATION));
+        assertEquals(1, timings.count(Phase.PART_EXTRACTION));
+        assertEquals(0, timings.count(Phase.NOW));
+        assertEquals(0, timings.count(Phase.DURATION_APPLICATION));
+        assertEquals(1, timings.count(Phase.COMPARISON));
+        assertEquals(0, timings.count(Phase.UNATTRIBUTED));
+    }
+
+    @Test
+    @DisplayName("field validator")
+    void testFieldValidator() {
+        List<ConstraintViolation<TestClass>> violations = validateWithTimings(TestClass.class, "field", Instant.parse("2007-12-03T10:15:30.00Z"));
+        assertEquals(0, violations.size());
+
+        PhaseTimings timings = timings(FieldTestValidator.class).orElseThrow();
+
+        assertEquals(FieldTestConstraint.class, timings.constraint().annotationType());
+        assertEquals(0, timings.count(Phase.CONVERSION));
+        assertEquals(1, timings.count(Phase.ZONE_APPLICATION));
+        assertEquals(1, timings.count(Phase.PART_EXTRACTION));
+        assertEquals(0, timings.count(Phase.NOW));
+        assertEquals(0, timings.count(Phase.DURATION_APPLICATION));
+        assertEquals(1, timings.count(Phase.COMPARISON));
+        assertEquals(0, timings.count(Phase.UNATTRIBUTED));
+    }
+
+    @Test
+    @DisplayName("date validator delegating to moment validator")
+    void testDateValidator() {
+        List<ConstraintViolation<TestClass>> violations = validateWithTimings(TestClass.class, "date", new Date());
+        assertEquals(0, violations.size());
+
+        PhaseTimings timings = timings(DateTestValidator.class).orElseThrow();
+
+        assertEquals(MomentTestConstraint.class, timings.constraint().annotationType());
+        assertEquals(1, timings.count(Phase.CONVERSION));
+        assertEquals(0, timings.count(Phase.ZONE_APPLICATION));
+        assertEquals(0, timings.count(Phase.PART_EXTRACTION));
+        assertEquals(1, timings.count(Phase.NOW));
+        assertEquals(1, timings.count(Phase.DURATION_APPLICATION));
+        assertEquals(1, timings.count(Phase.COMPARISON));
+        assertEquals(0, timings.count(Phase.UNATTRIBUTED));
+
+        for (Phase phase : Phase.values()) {
+            assertTrue(timings.totalNanos(phase) >= timings.maxNanos(phase));
+            assertTrue(timings.averageNanos(phase) <= timings.maxNanos(phase));
+        }
+
+        // the delegate validator's timings are recorded for the date validator
+        assertEquals(Optional.empty(), timings(InstantTestValidator.class));
+    }
+
+    @Test
+    @DisplayName("validator that does not record its own phases")
+    void testUnattributed() {
+        List<ConstraintViolation<TestClass>> violations = validateWithTimings(TestClass.class, "unattributed",
+                Instant.parse("2007-12-03T10:15:30.00Z"));
+        assertEquals(0, violations.size());
+
+        PhaseTimings timings = timings(UnattributedTestValidator.class).orElseThrow();
+
+        for (Phase phase : Phase.values()) {
+            assertEquals(phase == Phase.UNATTRIBUTED ? 1 : 0, timings.count(phase));
+        }
+    }
+
+    @Test
+    @DisplayName("timings are aggregated per constraint")
+    void testAggregatedPerConstraint() {
+        validateWithTimings(TestClass.class, "aggregated1", Instant.parse("2007-12-03T10:15:30.00Z"));
+        validateWithTimings(TestClass.class, "aggregated2", Instant.parse("2007-12-03T10:15:30.00Z"));
+        validateWithTimings(TestClass.class, "aggregated3", Instant.parse("2007-12-03T10:15:30.00Z"));
+
+        List<PhaseTimings> timings = PhaseTimings.all().stream()
+                .filter(t -> t.validatorType() == AggregatedTestValidator.class)
+                .collect(Collectors.toList());
+
+        assertEquals(2, timings.size());
+        assertEquals(3, timings.stream().mapToLong(t -> t.count(Phase.UNATTRIBUTED)).sum());
+        assertTrue(timings.stream().anyMatch(t -> t.count(Phase.UNATTRIBUTED) == 2));
+    }
+
+    @Test
+    @DisplayName("reset")
+    void testReset() {
+        validateWithTimings(TestClass.class, "reset", Instant.parse("2007-12-03T10:15:30.00Z"));
+
+        assertEquals(1, timings(ResetTestValidator.class).orElseThrow().count(Phase.UNATTRIBUTED));
+
+        PhaseTimings.reset();
+
+        PhaseTimings timings = timings(ResetTestValidator.class).orElseThrow();
+        for (Phase phase : Phase.values()) {
+            assertEquals(0, timings.count(phase));
+            assertEquals(0, timings.totalNanos(phase));
+            assertEquals(0, timings.maxNanos(phase));
+            assertEquals(0, timings.averageNanos(phase));
+        }
+    }
+
+    private <T> List<ConstraintViolation<T>> validateWithTimings(Class<T> beanType, String propertyName, Object value) {
+        PhaseTimings.enable();
+        try {
+            return validate(beanType, propertyName, value);
+        } finally {
+            PhaseTimings.disable();
+        }
+    }
+
+    private static Optional<PhaseTimings> timings(Class<?> validatorType) {
+        return PhaseTimings.all().stream()
+                .filter(t -> t.validatorType() == validatorType)
+                .findAny();
+    }
+
+    private static final class TestClass {
+
+        @NotTimedTestConstraint
+        private Instant notTimed;
+
+        @PartTestConstraint(zoneId = "UTC")
+        private Instant part;
+
+        @FieldTestConstraint(zoneId = "UTC")
+        private Instant field;
+
+        @MomentTestConstraint(moment = "now", duration = "PT1H")
+        private Date date;
+
+        @UnattributedTestConstraint
+        private Instant unattributed;
+
+        @AggregatedTestConstraint(value = 1)
+        private Instant aggregated1;
+
+        @AggregatedTestConstraint(value = 1)
+        private Instant aggregated2;
+
+        @AggregatedTestConstraint(value = 2)
+        private Instant aggregated3;
+
+        @ResetTestConstraint
+        private Instant reset;
+    }
+
+    @Constraint(validatedBy = NotTimedValidator.class)
+    @Target({ METHOD, FIELD, ANNOTATION_TYPE, CONSTRUCTOR, PARAMETER, TYPE_USE })
+    @Retention(RUNTIME)
+    public @interface NotTimedTestConstraint {
+
+        String message() default "default message";
+
+        Class<?>[] groups() default {};
+
+        Class<? extends Payload>[] payload() default {};
+    }
+
+    public static final class NotTimedValidator extends ValueValidator<NotTimedTestConstraint, Instant> {
+
+        public NotTimedValidator() {
+            super(annotation -> (i, p) -> true);
+        }
+    }
+
+    @Constraint(validatedBy = PartTestValidator.class)
+    @Target({ METHOD, FIELD, ANNOTATION_TYPE, CONSTRUCTOR, PARAMETER, TYPE_USE })
+    @Retention(RUNTIME)
+    public @interface PartTestConstraint {
+
+        String message() default "default message";
+
+        Class<?>[] groups() default {};
+
+        Class<? extends Payload>[] payload() default {};
+
+        String zoneId();
+    }
+
+    public static final class PartTestValidator extends PartValidator.ForInstant<PartTestConstraint, Month> {
+
+        public PartTestValidator() {
+            super(PartTestConstraint::zoneId, ZonedDateTime::getMonth, annotation -> (m, p) -> m == Month.DECEMBER);
+        }
+    }
+
+    @Constraint(validatedBy = FieldTestValidator.class)
+    @Target({ METHOD, FIELD, ANNOTATION_TYPE, CONSTRUCTOR, PARAMETER, TYPE_USE })
+    @Retention(RUNTIME)
+    public @interface FieldTestConstraint {
+
+        String message() default "default message";
+
+        Class<?>[] groups() default {};
+
+        Class<? extends Payload>[] payload() default {};
+
+        String zoneId();
+    }
+
+    public static final class FieldTestValidator extends FieldValidator.ForInstant<FieldTestConstraint> {
+
+        public FieldTestValidator() {
+            super(ChronoField.HOUR_OF_DAY, FieldTestConstraint::zoneId, annotation -> (h, p) -> h == 10);
+        }
+    }
+
+    @Constraint(validatedBy = DateTestValidator.class)
+    @Target({ METHOD, FIELD, ANNOTATION_TYPE, CONSTRUCTOR, PARAMETER, TYPE_USE })
+    @Retention(RUNTIME)
+    public @interface MomentTestConstraint {
+
+        String message() default "default message";
+
+        Class<?>[] groups() default {};
+
+        Class<? extends Payload>[] payload() default {};
+
+        String moment();
+
+        String duration();
+    }
+
+    public static final class DateTestValidator extends DateValidator<MomentTestConstraint> {
+
+        public DateTestValidator() {
+            super(new InstantTestValidator());
+        }
+    }
+
+    public static final class InstantTestValidator extends MomentValueValidator<MomentTestConstraint, Instant> {
+
+        public InstantTestValidator() {
+            super(MomentTestConstraint::moment, Instant::parse, Instant::now, MomentTestConstraint::duration, Instant::plus, Instant::isBefore);
+        }
+    }
+
+    @Constraint(validatedBy = UnattributedTestValidator.class)
+    @Target({ METHOD, FIELD, ANNOTATION_TYPE, CONSTRUCTOR, PARAMETER, TYPE_USE })
+    @Retention(RUNTIME)
+    public @interface UnattributedTestConstraint {
+
+        String message() default "default message";
+
+        Class<?>[] groups() default {};
+
+        Class<? extends Payload>[] payload() default {};
+    }
+
+    public static final class UnattributedTestValidator extends ValueValidator<UnattributedTestConstraint, Instant> {
+
+        public UnattributedTestValidator() {
+            super(annotation -> (i, p) -> true);
+        }
+    }
+
+    @Constraint(validatedBy = AggregatedTestValidator.class)
+    @Target({ METHOD, FIELD, ANNOTATION_TYPE, CONSTRUCTOR, PARAMETER, TYPE_USE })
+    @Retention(RUNTIME)
+    public @interface AggregatedTestConstraint {
+
+        String message() default "default message";
+
+        Class<?>[] groups() default {};
+
+        Class<? extends Payload>[] payload() default {};
+
+        int value();
+    }
+
+    public static final class AggregatedTestValidator extends ValueValidator<AggregatedTestConstraint, Instant> {
+
+        public AggregatedTestValidator() {
+            super(annotation -> (i, p) -> true);
+        }
+    }
+
+    @Constraint(validatedBy = ResetTestValidator.class)
+    @Target({ METHOD, FIELD, ANNOTATION_TYPE, CONSTRUCTOR, PARAMETER, TYPE_USE })
+    @Retention(RUNTIME)
+    public @interface ResetTestConstraint {
+
+        String message() default "default message";
+
+        Class<?>[] groups() default {};
+
+        Class<? extends Payload>[] payload() default {};
+    }
+
+    public static final class ResetTestValidator extends ValueValidator<ResetTestConstraint, Instant> {
+
+        public ResetTestValidator() {
+            super(annotation -> (i, p) -> true);
+        }
+    }
+}
@@ -0,0 +1,268 @@
+/*
+ * PlanSnapshotTest.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.validation.datetime.base;
+
+import static java.lang.annotation.ElementType.ANNOTATION_TYPE;
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.ElementType.PARAMETER;
+import static java.lang.annotation.ElementType.TYPE_USE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import jakarta.validation.ClockProvider;
+import jakarta.validation.Constraint;
+import jakarta.validation.Payload;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings({ "javadoc", "nls" })
+// public because of the constraints and validators
+public class PlanSnapshotTest {
+
+    private static final Instant INSTANT = Instant.parse("2007-12-03T10:15:30.00Z");
+
+    private static final ClockProvider CLOCK_PROVIDER = () -> Clock.fixed(INSTANT, ZoneOffset.UTC);
+
+    @Test
+    @DisplayName("create")
+    void testCreate() {
+        ParsingValidator.PARSE_COUNT.set(0);
+
+        PlanSnapshot snapshot = PlanSnapshot.create(Collections.singletonList(Bean.class));
+
+        assertEquals(Arrays.asList(Bean.class.getName(), ParsingValidator.class.getName()), snapshot.classNames());
+        assertEquals("PlanSnapshot[classes=2,zoneIds=1,durations=2,moments=4]", snapshot.toString());
+        // the moment of the parameter, type argument and interface getter are included; the duplicate moment is parsed only once
+        assertEquals(4, ParsingValidator.PARSE_COUNT.get());
+    }
+
+    @Test
+    @DisplayName("write and read")
+    void testWriteAndRead() throws IOException {
+        PlanSnapshot snapshot = PlanSnapshot.create(Collections.singletonList(Bean.class));
+
+        PlanSnapshot read = writeAndRead(snapshot);
+
+        assertEquals(snapshot.classNames(), read.classNames());
+        assertEquals(snapshot.toString(), read.toString());
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        read.write(output);
+        assertEquals(Arrays.toString(toBytes(snapshot)), Arrays.toString(output.toByteArray()));
+    }
+
+    @Nested
+    @DisplayName("install")
+    class Install {
+
+        @Test
+        @DisplayName("current snapshot")
+        void testCurrentSnapshot() throws IOException {
+            PlanSnapshot snapshot = writeAndRead(PlanSnapshot.create(Collections.singletonList(Bean.class)));
+            ParsingValidator.PARSE_COUNT.set(0);
+
+            assertTrue(snapshot.install());
+            try {
+                assertEquals(Optional.of(snapshot), PlanSnapshot.installed());
+
+                ParsingValidator validator = new ParsingValidator();
+                validator.initialize(constraint("created"));
+
+                // the moment and duration are taken from the snapshot
+                assertEquals(0, ParsingValidator.PARSE_COUNT.get());
+                assertFalse(validator.predicate().test(INSTANT.plusSeconds(3600), CLOCK_PROVIDER));
+                assertTrue(validator.predicate().test(INSTANT.plusSeconds(3601), CLOCK_PROVIDER));
+            } finally {
+                PlanSnapshot.uninstall();
+            }
+
+            assertEquals(Optional.empty(), PlanSnapshot.installed());
+        }
+
+        @Test
+        @DisplayName("moment not in snapshot")
+        void testMomentNotInSnapshot() throws IOException {
+            PlanSnapshot snapshot = writeAndRead(PlanSnapshot.create(Collections.singletonList(Bean.class)));
+            ParsingValidator.PARSE_COUNT.set(0);
+
+            assertTrue(snapshot.install());
+            try {
+                ParsingValidator validator = new ParsingValidator();
+                validator.initialize(constraint("other"));
+
+                assertEquals(1, ParsingValidator.PARSE_COUNT.get());
+                assertFalse(validator.predicate().test(INSTANT, CLOCK_PROVIDER));
+            } finally {
+                PlanSnapshot.uninstall();
+            }
+        }
+
+        @Test
+        @DisplayName("outdated snapshot")
+        void testOutdatedSnapshot() throws IOException {
+            PlanSnapshot snapshot = writeAndRead(PlanSnapshot.create(Collections.singletonList(Bean.class)));
+            ClassLoader classLoader = new ClassLoader(PlanSnapshotTest.class.getClassLoader()) {
+                @Override
+                public InputStream getResourceAsStream(String name) {
+                    return name.endsWith("ParsingValidator.class") ? new ByteArrayInputStream(new byte[1]) : super.getResourceAsStream(name);
+                }
+            };
+
+            assertTrue(snapshot.isCurrent(PlanSnapshotTest.class.getClassLoader()));
+            assertFalse(snapshot.isCurrent(classLoader));
+            assertFalse(snapshot.install(classLoader));
+            assertEquals(Optional.empty(), PlanSnapshot.installed());
+        }
+    }
+
+    @Nested
+    @DisplayName("read")
+    class Read {
+
+        @Test
+        @DisplayName("not a snapshot")
+        void testNotASnapshot() {
+            InputStream input = new ByteArrayInputStream(new byte[] { 1, 2, 3, 4 });
+
+            IOException exception = assertThrows(IOException.class, () -> PlanSnapshot.read(input));
+            assertEquals("Not a plan snapshot", exception.getMessage());
+        }
+
+        @Test
+        @DisplayName("unsupported format version")
+        void testUnsupportedFormatVersion() {
+            InputStream input = new ByteArrayInputStream(new byte[] { 'D', 'T', 'V', 'P', 0, 0, 0, 2 });
+
+            IOException exception = assertThrows(IOException.class, () -> PlanSnapshot.read(input));
+            assertEquals("Unsupported plan snapshot format version: 2", exception.getMessage());
+        }
+    }
+
+    private static PlanSnapshot writeAndRead(PlanSnapshot snapshot) throws IOException {
+        return PlanSnapshot.read(new ByteArrayInputStream(toBytes(snapshot)));
+    }
+
+    private static byte[] toBytes(PlanSnapshot snapshot) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        snapshot.write(output);
+        return output.toByteArray();
+    }
+
+    private static ParsingConstraint constraint(String fieldName) {
+        try {
+            return ConstraintHolder.class.getDeclaredField(fieldName).getAnnotation(ParsingConstraint.class);
+        } catch (NoSuchFieldException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    interface Dated {
+
+        @ParsingConstraint(moment = "2007-12-01T00:00:00Z")
+        Instant getDate();
+    }
+
+    static final class Bean implements Dated {
+
+        @ParsingConstraint(moment = "2007-12-03T10:15:30.00Z", duration = "PT1H")
+        private Instant created;
+
+        @ParsingConstraint(moment = "2007-12-03T10:15:30.00Z", duration = "PT1H")
+        private Instant duplicate;
+
+        @ParsingConstraint(moment = "now")
+        private Instant now;
+
+        private List<@ParsingConstraint(moment = "2007-12-02T00:00:00Z") Instant> instants;
+
+        @PartValidatorTest.TestConstraint(zoneId = "Europe/Paris")
+        private ZonedDateTime zoned;
+
+        @Override
+        public Instant getDate() {
+            return created;
+        }
+
+        void update(@ParsingConstraint(moment = "2007-12-04T00:00:00Z") Instant instant) {
+            created = instant;
+        }
+
+        LocalDate notConstrained() {
+            return null;
+        }
+    }
+
+    static final class ConstraintHolder {
+
+        @ParsingConstraint(moment = "2007-12-03T10:15:30.00Z", duration = "PT1H")
+        private Instant created;
+
+        @ParsingConstraint(moment = "2007-12-05T00:00:00Z")
+        private Instant other;
+    }
+
+    @Constraint(validatedBy = ParsingValidator.class)
+    @Target({ METHOD, FIELD, ANNOTATION_TYPE, PARAMETER, TYPE_USE })
+    @Retention(RUNTIME)
+    public @interface ParsingConstraint {
+
+        String message() default "default message";
+
+        Class<?>[] groups() default {};
+
+        Class<? extends Payload>[] payload() default {};
+
+        String moment();
+
+        String duration() default "PT0S";
+    }
+
+    public static final class ParsingValidator extends MomentValueValidator<ParsingConstraint, Instant> {
+
+        private static final AtomicInteger PARSE_COUNT = new AtomicInteger();
+
+        public ParsingValidator() {
+            super(ParsingConstraint::moment, ParsingValidator::parse, Instant::now, ParsingConstraint::duration, Instant::plus, Instant::isAfter);
+        }
+
+        private static Instant parse(String text) {
+            PARSE_COUNT.incrementAndGet();
+            return Instant.parse(text);
+        }
+    }
+}
@@ -0,0 +1,276 @@
+/*
+ * SqlPredicateTest.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.validation.datetime.base;
+
+import static java.lang.annotation.ElementType.ANNOTATION_TYPE;
+import static java.lang.annotation.ElementType.CONSTRUCTOR;
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.ElementType.PARAMETER;
+import static java.lang.annotation.ElementType.TYPE_USE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.lang.annotation.Annotation;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoField;
+import java.util.List;
+import java.util.Optional;
+import jakarta.validation.Constraint;
+import jakarta.validation.Payload;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import com.github.robtimus.validation.datetime.base.TestConstraints.AfterConstraint;
+import com.github.robtimus.validation.datetime.base.TestConstraints.DayOfWeekConstraint;
+import com.github.robtimus.validation.datetime.base.TestConstraints.HourConstraint;
+import com.github.robtimus.validation.datetime.base.TestConstraints.SameMinuteConstraint;
+
+@SuppressWarnings({ "javadoc", "nls" })
+// public because of the constraints and validators
+public class SqlPredicateTest {
+
+    private static final Instant INSTANT = Instant.parse("2007-12-03T10:15:30.00Z");
+
+    private static final Clock CLOCK = Clock.fixed(INSTANT, ZoneOffset.UTC);
+
+    @Test
+    @DisplayName("unsupported column type")
+    void testUnsupportedColumnType() {
+        Annotation annotation = annotation("after");
+
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> SqlPredicate.forConstraint(annotation, ZonedDateTime.class, "col", SqlDialect.POSTGRESQL));
+        assertEquals("SQL predicates are not supported for java.time.ZonedDateTime", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("column type not supported by dialect")
+    void testColumnTypeNotSupportedByDialect() {
+        Annotation annotation = annotation("after");
+
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> SqlPredicate.forConstraint(annotation, LocalTime.class, "col", SqlDialect.ORACLE));
+        assertEquals("SQL predicates are not supported for java.time.LocalTime in ORACLE", exception.getMessage());
+    }
+
+    @Nested
+    @DisplayName("moments")
+    class Moments {
+
+        @Test
+        @DisplayName("fixed moment")
+        void testFixedMoment() {
+            SqlPredicate predicate = SqlPredicate.forConstraint(annotation("after"), Instant.class, "col", SqlDialect.POSTGRESQL).orElseThrow();
+
+            assertEquals("(col IS NULL OR col > ?)", predicate.sql());
+            assertEquals(List.of(OffsetDateTime.ofInstant(INSTANT, ZoneOffset.UTC)), predicate.parameters(CLOCK));
+            assertFalse(predicate.dependsOnCurrentTime());
+        }
+
+        @Test
+        @DisplayName("now")
+        void testNow() {
+            SqlPredicate predicate = SqlPredicate.forConstraint(annotation("afterNow"), Instant.class, "col", SqlDialect.POSTGRESQL).orElseThrow();
+
+            assertEquals("(col IS NULL OR col > ?)", predicate.sql());
+            assertEquals(List.of(OffsetDateTime.ofInstant(INSTANT, ZoneOffset.UTC)), predicate.parameters(CLOCK));
+            assertTrue(predicate.dependsOnCurrentTime());
+
+            Clock clock = Clock.offset(CLOCK, Duration.ofSeconds(1));
+            assertEquals(List.of(OffsetDateTime.ofInstant(INSTANT.plusSeconds(1), ZoneOffset.UTC)), predicate.parameters(clock));
+        }
+
+        @Test
+        @DisplayName("non-comparison predicate")
+        void testNonComparisonPredicate() {
+            assertEquals(Optional.empty(), SqlPredicate.forConstraint(annotation("sameMinute"), Instant.class, "col", SqlDialect.POSTGRESQL));
+        }
+    }
+
+    @Nested
+    @DisplayName("fields")
+    class Fields {
+
+        @Test
+        @DisplayName("without zone")
+        void testWithoutZone() {
+            SqlPredicate predicate = SqlPredicate.forConstraint(annotation("hour"), LocalDateTime.class, "col", SqlDialect.POSTGRESQL)
+                    .orElseThrow();
+
+            assertEquals("(col IS NULL OR EXTRACT(HOUR FROM col) IN (?, ?, ?, ?, ?, ?, ?, ?))", predicate.sql());
+            assertEquals(List.of(9, 10, 11, 12, 13, 14, 15, 16), predicate.parameters(CLOCK));
+            assertFalse(predicate.dependsOnCurrentTime());
+        }
+
+        @Test
+        @DisplayName("with zone")
+        void testWithZone() {
+            SqlPredicate predicate = SqlPredicate.forConstraint(annotation("hourInParis"), Instant.class, "col", SqlDialect.POSTGRESQL)
+                    .orElseThrow();
+
+            assertEquals("(col IS NULL OR EXTRACT(HOUR FROM (col AT TIME ZONE ?)) IN (?, ?, ?, ?, ?, ?, ?, ?))", predicate.sql());
+            assertEquals(List.of("Europe/Paris", 9, 10, 11, 12, 13, 14, 15, 16), predicate.parameters(CLOCK));
+        }
+
+        @Test
+        @DisplayName("with phase timings")
+        void testWithPhaseTimings() {
+            PhaseTimings.enable();
+            try {
+                SqlPredicate predicate = SqlPredicate.forConstraint(annotation("hourInParis"), Instant.class, "col", SqlDialect.POSTGRESQL)
+                        .orElseThrow();
+
+                assertEquals("(col IS NULL OR EXTRACT(HOUR FROM (col AT TIME ZONE ?)) IN (?, ?, ?, ?, ?, ?, ?, ?))", predicate.sql());
+                assertEquals(List.of("Europe/Paris", 9, 10, 11, 12, 13, 14, 15, 16), predicate.parameters(CLOCK));
+            } finally {
+                PhaseTimings.disable();
+            }
+        }
+
+        @Test
+        @DisplayName("with offset")
+        void testWithOffset() {
+            SqlPredicate predicate = SqlPredicate.forConstraint(annotation("hourAtOffset"), Instant.class, "col", SqlDialect.POSTGRESQL)
+                    .orElseThrow();
+
+            assertEquals("(col IS NULL OR EXTRACT(HOUR FROM (col AT TIME ZONE 'UTC' + ? * INTERVAL '1 second')) IN (?, ?, ?, ?, ?, ?, ?, ?))",
+                    predicate.sql());
+            assertEquals(List.of(7200, 9, 10, 11, 12, 13, 14, 15, 16), predicate.parameters(CLOCK));
+        }
+
+        @Test
+        @DisplayName("day of week")
+        void testDayOfWeek() {
+            assertEquals("(col IS NULL OR EXTRACT(ISODOW FROM col) IN (?))",
+                    SqlPredicate.forConstraint(annotation("dayOfWeek"), LocalDateTime.class, "col", SqlDialect.POSTGRESQL).orElseThrow().sql());
+            assertEquals("(col IS NULL OR (WEEKDAY(col) + 1) IN (?))",
+                    SqlPredicate.forConstraint(annotation("dayOfWeek"), LocalDateTime.class, "col", SqlDialect.MYSQL).orElseThrow().sql());
+            assertEquals("(col IS NULL OR (MOD(MOD(TRUNC(col) - DATE '2001-01-01', 7) + 7, 7) + 1) IN (?))",
+                    SqlPredicate.forConstraint(annotation("dayOfWeek"), LocalDateTime.class, "col", SqlDialect.ORACLE).orElseThrow().sql());
+        }
+
+        @Test
+        @DisplayName("MySQL with zone")
+        void testMySQLWithZone() {
+            // CONVERT_TZ returns NULL for named zones if the time zone tables are not loaded
+            assertEquals(Optional.empty(), SqlPredicate.forConstraint(annotation("hourInParis"), Instant.class, "col", SqlDialect.MYSQL));
+        }
+
+        @Test
+        @DisplayName("MySQL with offset")
+        void testMySQLWithOffset() {
+            SqlPredicate predicate = SqlPredicate.forConstraint(annotation("hourAtOffset"), Instant.class, "col", SqlDialect.MYSQL)
+                    .orElseThrow();
+
+            assertEquals("(col IS NULL OR EXTRACT(HOUR FROM CONVERT_TZ(col, '+00:00', ?)) IN (?, ?, ?, ?, ?, ?, ?, ?))", predicate.sql());
+            assertEquals(List.of("+02:00", 9, 10, 11, 12, 13, 14, 15, 16), predicate.parameters(CLOCK));
+        }
+
+        @Test
+        @DisplayName("Oracle without zone")
+        void testOracleWithoutZone() {
+            // EXTRACT(HOUR FROM col) fails for DATE columns
+            SqlPredicate predicate = SqlPredicate.forConstraint(annotation("hour"), LocalDateTime.class, "col", SqlDialect.ORACLE)
+                    .orElseThrow();
+
+            assertEquals("(col IS NULL OR EXTRACT(HOUR FROM CAST(col AS TIMESTAMP)) IN (?, ?, ?, ?, ?, ?, ?, ?))", predicate.sql());
+            assertEquals(List.of(9, 10, 11, 12, 13, 14, 15, 16), predicate.parameters(CLOCK));
+        }
+
+        @Test
+        @DisplayName("Oracle with zone")
+        void testOracleWithZone() {
+            SqlPredicate predicate = SqlPredicate.forConstraint(annotation("hourInParis"), Instant.class, "col", SqlDialect.ORACLE)
+                    .orElseThrow();
+
+            assertEquals("(col IS NULL OR EXTRACT(HOUR FROM CAST(col AT TIME ZONE ? AS TIMESTAMP)) IN (?, ?, ?, ?, ?, ?, ?, ?))", predicate.sql());
+            assertEquals(List.of("Europe/Paris", 9, 10, 11, 12, 13, 14, 15, 16), predicate.parameters(CLOCK));
+        }
+
+        @Test
+        @DisplayName("unsupported field")
+        void testUnsupportedField() {
+            assertEquals(Optional.empty(),
+                    SqlPredicate.forConstraint(annotation("second"), LocalDateTime.class, "col", SqlDialect.POSTGRESQL));
+        }
+    }
+
+    private static Annotation annotation(String fieldName) {
+        return TestConstraints.annotation(TestClass.class, fieldName);
+    }
+
+    private static final class TestClass {
+
+        @AfterConstraint(moment = "2007-12-03T10:15:30.00Z")
+        private Instant after;
+
+        @AfterConstraint(moment = "now")
+        private Instant afterNow;
+
+        @SameMinuteConstraint(moment = "2007-12-03T10:15:30.00Z")
+        private Instant sameMinute;
+
+        @HourConstraint
+        private LocalDateTime hour;
+
+        @HourConstraint(zoneId = "Europe/Paris")
+        private Instant hourInParis;
+
+        @HourConstraint(zoneId = "+02:00")
+        private Instant hourAtOffset;
+
+        @SecondConstraint
+        private LocalDateTime second;
+
+        @DayOfWeekConstraint
+        private LocalDateTime dayOfWeek;
+    }
+
+    @Constraint(validatedBy = SecondValidator.class)
+    @Target({ METHOD, FIELD, ANNOTATION_TYPE, CONSTRUCTOR, PARAMETER, TYPE_USE })
+    @Retention(RUNTIME)
+    public @interface SecondConstraint {
+
+        String message() default "default message";
+
+        Class<?>[] groups() default {};
+
+        Class<? extends Payload>[] payload() default {};
+
+        String zoneId() default ZoneIdUtils.SYSTEM_ZONE_ID;
+    }
+
+    public static final class SecondValidator extends FieldValidator.WithoutZoneId<SecondConstraint, LocalDateTime> {
+
+        public SecondValidator() {
+            super(ChronoField.SECOND_OF_MINUTE, SecondConstraint::zoneId, annotation -> (s, p) -> s == 0);
+        }
+    }
+}
@@ -0,0 +1,509 @@
+/*
+ * TemporalBoundsTest.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.validation.datetime.base;
+
+import static java.lang.annotation.ElementType.ANNOTATION_TYPE;
+import static java.lang.annotation.ElementType.CONSTRUCTOR;
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.ElementType.PARAMETER;
+import static java.lang.annotation.ElementType.TYPE_USE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.lang.annotation.Annotation;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.NavigableMap;
+import java.util.NavigableSet;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import jakarta.validation.Constraint;
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+import jakarta.validation.Payload;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings({ "javadoc", "nls" })
+// public because of the constraints and validators
+public class TemporalBoundsTest {
+
+    private static final LocalDate DATE = LocalDate.parse("2007-12-03");
+
+    private static final LocalDate[] DATES = {
+            DATE.minusDays(2),
+            DATE.minusDays(1),
+            DATE,
+            DATE.plusDays(1),
+            DATE.plusDays(2),
+    };
+
+    @Nested
+    @DisplayName("forConstraint")
+    class ForConstraint {
+
+        @Test
+        @DisplayName("not a constraint annotation")
+        void testNotAConstraintAnnotation() {
+            Annotation annotation = TestConstraint.class.getAnnotation(Retention.class);
+
+            IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                    () -> TemporalBounds.forConstraint(annotation, LocalDate.class));
+            assertEquals("java.lang.annotation.Retention is not a constraint annotation", exception.getMessage());
+        }
+
+        @Test
+        @DisplayName("unsupported value type")
+        void testUnsupportedValueType() {
+            Annotation annotation = annotation("after");
+
+            IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                    () -> TemporalBounds.forConstraint(annotation, OffsetDateTime.class));
+            assertEquals("Bounds are not supported for java.time.OffsetDateTime", exception.getMessage());
+        }
+
+        @Test
+        @DisplayName("moment")
+        void testMoment() {
+            TemporalBounds<LocalDate> expected = TemporalBounds.of(DATE, false, null, false);
+
+            assertEquals(Optional.of(expected), TemporalBounds.forConstraint(annotation("after"), LocalDate.class));
+        }
+
+        @Test
+        @DisplayName("composed constraint")
+        void testComposedConstraint() {
+            TemporalBounds<LocalDate> expected = TemporalBounds.of(DATE, false, DATE.plusDays(2), true);
+
+            assertEquals(Optional.of(expected), TemporalBounds.forConstraint(annotation("composed"), LocalDate.class));
+        }
+
+        @Test
+        @DisplayName("now")
+        void testNow() {
+            Clock clock = Clock.fixed(DATE.atStartOfDay(ZoneOffset.UTC).toInstant(), ZoneOffset.UTC);
+
+            TemporalBounds<LocalDate> expected = TemporalBounds.of(DATE, false, null, false);
+
+            assertEquals(Optional.of(expected), TemporalBounds.forConstraint(annotation("afterNow"), LocalDate.class, () -> clock));
+        }
+
+        @Test
+        @DisplayName("part of values")
+        void testPartOfValues() {
+            TemporalBounds<LocalDateTime> expected = TemporalBounds.of(DATE.plusDays(1).atStartOfDay(), true, null, false);
+
+            assertEquals(Optional.of(expected), TemporalBounds.forConstraint(annotation("partAfter"), LocalDateTime.class));
+        }
+
+        @Test
+        @DisplayName("part type")
+        void testPartType() {
+            TemporalBounds<LocalDate> expected = TemporalBounds.of(DATE, false, null, false);
+
+            assertEquals(Optional.of(expected), TemporalBounds.forConstraint(annotation("partAfter"), LocalDate.class));
+        }
+
+        @Test
+        @DisplayName("with phase timings")
+        void testWithPhaseTimings() {
+            PhaseTimings.enable();
+            try {
+                assertEquals(Optional.of(TemporalBounds.of(DATE, false, null, false)),
+                        TemporalBounds.forConstraint(annotation("after"), LocalDate.class));
+                assertEquals(Optional.of(TemporalBounds.of(DATE.plusDays(1).atStartOfDay(), true, null, false)),
+                        TemporalBounds.forConstraint(annotation("partAfter"), LocalDateTime.class));
+            } finally {
+                PhaseTimings.disable();
+            }
+        }
+
+        @Test
+        @DisplayName("non-matching part type")
+        void testNonMatchingPartType() {
+            assertEquals(Optional.empty(), TemporalBounds.forConstraint(annotation("partAfter"), LocalTime.class));
+        }
+
+        @Test
+        @DisplayName("non-comparison predicate")
+        void testNonComparisonPredicate() {
+            // only the moment itself is valid when probing around it, but other dates in the same year are valid as well
+            assertEquals(Optional.empty(), TemporalBounds.forConstraint(annotation("sameYear"), LocalDate.class));
+        }
+
+        @Test
+        @DisplayName("non-base validator")
+        void testNonBaseValidator() {
+            assertEquals(Optional.empty(), TemporalBounds.forConstraint(annotation("custom"), LocalDate.class));
+        }
+    }
+
+    @Nested
+    @DisplayName("of")
+    class Of {
+
+        @Test
+        @DisplayName("unbounded")
+        void testUnbounded() {
+            TemporalBounds<LocalDate> bounds = TemporalBounds.of(null, true, null, true);
+
+            assertEquals(Optional.empty(), bounds.lowerBound());
+            assertFalse(bounds.isLowerInclusive());
+            assertEquals(Optional.empty(), bounds.upperBound());
+            assertFalse(bounds.isUpperInclusive());
+            assertFalse(bounds.isEmpty());
+        }
+
+        @Test
+        @DisplayName("single value")
+        void testSingleValue() {
+            TemporalBounds<LocalDate> bounds = TemporalBounds.of(DATE, true, DATE, true);
+
+            assertEquals(Optional.of(DATE), bounds.lowerBound());
+            assertTrue(bounds.isLowerInclusive());
+            assertEquals(Optional.of(DATE), bounds.upperBound());
+            assertTrue(bounds.isUpperInclusive());
+            assertFalse(bounds.isEmpty());
+        }
+
+        @Test
+        @DisplayName("empty")
+        void testEmpty() {
+            assertTrue(TemporalBounds.of(DATE, true, DATE, false).isEmpty());
+            assertTrue(TemporalBounds.of(DATE, false, DATE, true).isEmpty());
+            assertTrue(TemporalBounds.of(DATE.plusDays(1), true, DATE, true).isEmpty());
+            assertEquals(TemporalBounds.empty(), TemporalBounds.of(DATE.plusDays(1), true, DATE, true));
+        }
+    }
+
+    @Test
+    @DisplayName("contains")
+    void testContains() {
+        TemporalBounds<LocalDate> bounds = TemporalBounds.of(DATE.minusDays(1), false, DATE.plusDays(1), true);
+
+        assertFalse(bounds.contains(DATE.minusDays(1)));
+        assertTrue(bounds.contains(DATE));
+        assertTrue(bounds.contains(DATE.plusDays(1)));
+        assertFalse(bounds.contains(DATE.plusDays(2)));
+        assertFalse(TemporalBounds.<LocalDate>empty().contains(DATE));
+    }
+
+    @Nested
+    @DisplayName("sets")
+    class Sets {
+
+        @Test
+        @DisplayName("bounded")
+        void testBounded() {
+            NavigableSet<LocalDate> set = new TreeSet<>(Arrays.asList(DATES));
+            TemporalBounds<LocalDate> bounds = TemporalBounds.of(DATE.minusDays(1), false, DATE.plusDays(1), true);
+
+            assertEquals(new TreeSet<>(Arrays.asList(DATE, DATE.plusDays(1))), bounds.subSet(set));
+            assertEquals(new TreeSet<>(Arrays.asList(DATE.minusDays(2), DATE.minusDays(1))), bounds.headSetBelow(set));
+            assertEquals(new TreeSet<>(Arrays.asList(DATE.plusDays(2))), bounds.tailSetAbove(set));
+        }
+
+        @Test
+        @DisplayName("unbounded")
+        void testUnbounded() {
+            NavigableSet<LocalDate> set = new TreeSet<>(Arrays.asList(DATES));
+            TemporalBounds<LocalDate> bounds = TemporalBounds.of(null, false, DATE, false);
+
+            assertEquals(new TreeSet<>(Arrays.asList(DATE.minusDays(2), DATE.minusDays(1))), bounds.subSet(set));
+            assertTrue(bounds.headSetBelow(set).isEmpty());
+            assertEquals(new TreeSet<>(Arrays.asList(DATE, DATE.plusDays(1), DATE.plusDays(2))), bounds.tailSetAbove(set));
+        }
+
+        @Test
+        @DisplayName("empty")
+        void testEmpty() {
+            NavigableSet<LocalDate> set = new TreeSet<>(Arrays.asList(DATES));
+            TemporalBounds<LocalDate> bounds = TemporalBounds.empty();
+
+            assertTrue(bounds.subSet(set).isEmpty());
+            assertEquals(set, bounds.headSetBelow(set));
+            assertTrue(bounds.tailSetAbove(set).isEmpty());
+        }
+
+        @Test
+        @DisplayName("views")
+        void testViews() {
+            NavigableSet<LocalDate> set = new TreeSet<>(Arrays.asList(DATES));
+            TemporalBounds<LocalDate> bounds = TemporalBounds.of(DATE, true, null, false);
+
+            NavigableSet<LocalDate> subSet = bounds.subSet(set);
+            set.add(DATE.plusDays(3));
+
+            assertTrue(subSet.contains(DATE.plusDays(3)));
+        }
+
+        @Test
+        @DisplayName("with comparator")
+        void testWithComparator() {
+            NavigableSet<LocalDate> set = new TreeSet<>(Comparator.reverseOrder());
+            TemporalBounds<LocalDate> bounds = TemporalBounds.of(DATE, true, null, false);
+
+            assertThrows(IllegalArgumentException.class, () -> bounds.subSet(set));
+            assertThrows(IllegalArgumentException.class, () -> bounds.headSetBelow(set));
+            assertThrows(IllegalArgumentException.class, () -> bounds.tailSetAbove(set));
+        }
+    }
+
+    @Nested
+    @DisplayName("maps")
+    class Maps {
+
+        @Test
+        @DisplayName("bounded")
+        void testBounded() {
+            NavigableMap<LocalDate, String> map = map(DATES);
+            TemporalBounds<LocalDate> bounds = TemporalBounds.of(DATE.minusDays(1), true, DATE.plusDays(1), false);
+
+            assertEquals(map(DATE.minusDays(1), DATE), bounds.subMap(map));
+            assertEquals(map(DATE.minusDays(2)), bounds.headMapBelow(map));
+            assertEquals(map(DATE.plusDays(1), DATE.plusDays(2)), bounds.tailMapAbove(map));
+        }
+
+        @Test
+        @DisplayName("unbounded")
+        void testUnbounded() {
+            NavigableMap<LocalDate, String> map = map(DATES);
+            TemporalBounds<LocalDate> bounds = TemporalBounds.of(DATE, true, null, false);
+
+            assertEquals(map(DATE, DATE.plusDays(1), DATE.plusDays(2)), bounds.subMap(map));
+            assertEquals(map(DATE.minusDays(2), DATE.minusDays(1)), bounds.headMapBelow(map));
+            assertTrue(bounds.tailMapAbove(map).isEmpty());
+        }
+
+        @Test
+        @DisplayName("empty")
+        void testEmpty() {
+            NavigableMap<LocalDate, String> map = map(DATES);
+            TemporalBounds<LocalDate> bounds = TemporalBounds.empty();
+
+            assertTrue(bounds.subMap(map).isEmpty());
+            assertEquals(map, bounds.headMapBelow(map));
+            assertTrue(bounds.tailMapAbove(map).isEmpty());
+        }
+
+        @Test
+        @DisplayName("with comparator")
+        void testWithComparator() {
+            NavigableMap<LocalDate, String> map = new TreeMap<>(Comparator.reverseOrder());
+            TemporalBounds<LocalDate> bounds = TemporalBounds.of(DATE, true, null, false);
+
+            assertThrows(IllegalArgumentException.class, () -> bounds.subMap(map));
+            assertThrows(IllegalArgumentException.class, () -> bounds.headMapBelow(map));
+            assertThrows(IllegalArgumentException.class, () -> bounds.tailMapAbove(map));
+        }
+    }
+
+    @Nested
+    @DisplayName("arrays")
+    class SortedArrays {
+
+        @Test
+        @DisplayName("bounded")
+        void testBounded() {
+            TemporalBounds<LocalDate> bounds = TemporalBounds.of(DATE.minusDays(1), false, DATE.plusDays(1), true);
+
+            assertEquals(2, bounds.fromIndex(DATES));
+            assertEquals(4, bounds.toIndex(DATES));
+        }
+
+        @Test
+        @DisplayName("duplicate values")
+        void testDuplicateValues() {
+            LocalDate[] dates = { DATE.minusDays(1), DATE, DATE, DATE, DATE.plusDays(1) };
+            TemporalBounds<LocalDate> bounds = TemporalBounds.of(DATE, true, DATE, true);
+
+            assertEquals(1, bounds.fromIndex(dates));
+            assertEquals(4, bounds.toIndex(dates));
+        }
+
+        @Test
+        @DisplayName("unbounded")
+        void testUnbounded() {
+            TemporalBounds<LocalDate> bounds = TemporalBounds.of(null, false, null, false);
+
+            assertEquals(0, bounds.fromIndex(DATES));
+            assertEquals(DATES.length, bounds.toIndex(DATES));
+        }
+
+        @Test
+        @DisplayName("empty")
+        void testEmpty() {
+            TemporalBounds<LocalDate> bounds = TemporalBounds.empty();
+
+            assertEquals(DATES.length, bounds.fromIndex(DATES));
+            assertEquals(DATES.length, bounds.toIndex(DATES));
+        }
+    }
+
+    private static Annotation annotation(String fieldName) {
+        return TestConstraints.annotation(TestClass.class, fieldName);
+    }
+
+    private static NavigableMap<LocalDate, String> map(LocalDate... dates) {
+        NavigableMap<LocalDate, String> map = new TreeMap<>();
+        for (LocalDate date : dates) {
+            map.put(date, date.toString());
+        }
+        return map;
+    }
+
+    private static final class TestClass {
+
+        @TestConstraint(moment = "2007-12-03")
+        private LocalDate after;
+
+        @TestConstraint(moment = "now")
+        private LocalDate afterNow;
+
+        @ComposedConstraint(moment = "2007-12-03")
+        private LocalDate composed;
+
+        @PartConstraint(moment = "2007-12-03")
+        private LocalDateTime partAfter;
+
+        @SameYearConstraint(moment = "2007-12-03")
+        private LocalDate sameYear;
+
+        @CustomConstraint
+        private LocalDate custom;
+    }
+
+    @Constraint(validatedBy = LocalDateTestValidator.class)
+    @Target({ METHOD, FIELD, ANNOTATION_TYPE, CONSTRUCTOR, PARAMETER, TYPE_USE })
+    @Retention(RUNTIME)
+    public @interface TestConstraint {
+
+        String message() default "default message";
+
+        Class<?>[] groups() default {};
+
+        Class<? extends Payload>[] payload() default {};
+
+        String moment();
+    }
+
+    public static final class LocalDateTestValidator extends MomentValueValidator<TestConstraint, LocalDate> {
+
+        public LocalDateTestValidator() {
+            super(TestConstraint::moment, LocalDate::parse, LocalDate::now, comparison(LocalDate::isAfter));
+        }
+    }
+
+    @Constraint(validatedBy = SameYearTestValidator.class)
+    @Target({ METHOD, FIELD, ANNOTATION_TYPE, CONSTRUCTOR, PARAMETER, TYPE_USE })
+    @Retention(RUNTIME)
+    public @interface SameYearConstraint {
+
+        String message() default "default message";
+
+        Class<?>[] groups() default {};
+
+        Class<? extends Payload>[] payload() default {};
+
+        String moment();
+    }
+
+    public static final class SameYearTestValidator extends MomentValueValidator<SameYearConstraint, LocalDate> {
+
+        public SameYearTestValidator() {
+            super(SameYearConstraint::moment, LocalDate::parse, LocalDate::now, (value, moment) -> value.getYear() == moment.getYear());
+        }
+    }
+
+    @Constraint(validatedBy = NotAfterTestValidator.class)
+    @TestConstraint(moment = "2007-12-03")
+    @Target({ METHOD, FIELD, ANNOTATION_TYPE, CONSTRUCTOR, PARAMETER, TYPE_USE })
+    @Retention(RUNTIME)
+    public @interface ComposedConstraint {
+
+        String message() default "default message";
+
+        Class<?>[] groups() default {};
+
+        Class<? extends Payload>[] payload() default {};
+
+        String moment();
+    }
+
+    public static final class NotAfterTestValidator extends MomentValueValidator<ComposedConstraint, LocalDate> {
+
+        public NotAfterTestValidator() {
+            super(ComposedConstraint::moment, LocalDate::parse, LocalDate::now, a -> "P2D", LocalDate::plus, not(comparison(LocalDate::isAfter)));
+        }
+    }
+
+    @Constraint(validatedBy = PartTestValidator.class)
+    @Target({ METHOD, FIELD, ANNOTATION_TYPE, CONSTRUCTOR, PARAMETER, TYPE_USE })
+    @Retention(RUNTIME)
+    public @interface PartConstraint {
+
+        String message() default "default message";
+
+        Class<?>[] groups() default {};
+
+        Class<? extends Payload>[] payload() default {};
+
+        String moment();
+    }
+
+    public static final class PartTestValidator extends MomentPartValidator.WithoutZoneId<PartConstraint, LocalDateTime, LocalDate> {
+
+        public PartTestValidator() {
+            super(PartConstraint::moment, LocalDate::parse, LocalDate::now, a -> ZoneIdUtils.SYSTEM_ZONE_ID, LocalDateTime::toLocalDate,
+                    comparison(LocalDate::isAfter));
+        }
+    }
+
+    @Constraint(validatedBy = CustomValidator.class)
+    @Target({ METHOD, FIELD, ANNOTATION_TYPE, CONSTRUCTOR, PARAMETER, TYPE_USE })
+    @Retention(RUNTIME)
+    public @interface CustomConstraint {
+
+        String message() default "default message";
+
+        Class<?>[] groups() default {};
+
+        Class<? extends Payload>[] payload() default {};
+    }
+
+    public static final class CustomValidator implements ConstraintValidator<CustomConstraint, LocalDate> {
+
+        @Override
+        public boolean isValid(LocalDate value, ConstraintValidatorContext context) {
+            return value == null || value.isAfter(DATE);
+        }
+    }
+}
@@ -0,0 +1,263 @@
+/*
+ * TemporalPredicatesTest.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.validation.datetime.base;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.lang.annotation.Annotation;
+import java.lang.annotation.Retention;
+import java.time.Clock;
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoField;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntPredicate;
+import java.util.function.LongPredicate;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import com.github.robtimus.validation.datetime.base.TestConstraints.AfterConstraint;
+import com.github.robtimus.validation.datetime.base.TestConstraints.DayOfWeekConstraint;
+import com.github.robtimus.validation.datetime.base.TestConstraints.HourConstraint;
+
+@SuppressWarnings({ "javadoc", "nls" })
+class TemporalPredicatesTest {
+
+    private static final Instant INSTANT = Instant.parse("2007-12-03T10:15:30.00Z");
+
+    private static final Clock CLOCK = Clock.fixed(INSTANT, ZoneOffset.UTC);
+
+    @Nested
+    @DisplayName("forValues")
+    class ForValues {
+
+        @Test
+        @DisplayName("not a constraint annotation")
+        void testNotAConstraintAnnotation() {
+            Annotation annotation = AfterConstraint.class.getAnnotation(Retention.class);
+
+            IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                    () -> TemporalPredicates.forValues(annotation, Instant.class, CLOCK));
+            assertEquals("java.lang.annotation.Retention is not a constraint annotation", exception.getMessage());
+        }
+
+        @Test
+        @DisplayName("fixed moment")
+        void testFixedMoment() {
+            Predicate<Instant> predicate = TemporalPredicates.forValues(annotation("after"), Instant.class, CLOCK);
+
+            assertTrue(predicate.test(null));
+            assertFalse(predicate.test(INSTANT));
+            assertTrue(predicate.test(INSTANT.plusNanos(1)));
+        }
+
+        @Test
+        @DisplayName("now")
+        void testNow() {
+            Predicate<Instant> predicate = TemporalPredicates.forValues(annotation("afterNow"), Instant.class, CLOCK);
+
+            assertFalse(predicate.test(INSTANT));
+            assertTrue(predicate.test(INSTANT.plusNanos(1)));
+
+            Clock clock = Clock.offset(CLOCK, Duration.ofSeconds(1));
+            Predicate<Instant> offsetPredicate = TemporalPredicates.forValues(annotation("afterNow"), Instant.class, clock);
+
+            assertFalse(offsetPredicate.test(INSTANT.plusNanos(1)));
+        }
+    }
+
+    @Nested
+    @DisplayName("forBatches")
+    class ForBatches {
+
+        @Test
+        @DisplayName("fixed moment")
+        void testFixedMoment() {
+            Supplier<Predicate<Instant>> batchPredicates = TemporalPredicates.forBatches(annotation("after"), Instant.class, CLOCK);
+            Predicate<Instant> predicate = batchPredicates.get();
+
+            assertTrue(predicate.test(null));
+            assertFalse(predicate.test(INSTANT));
+            assertTrue(predicate.test(INSTANT.plusSeconds(1)));
+        }
+
+        @Test
+        @DisplayName("clock is queried once per batch")
+        void testClockQueriedOncePerBatch() {
+            SteppingClock clock = new SteppingClock();
+            Supplier<Predicate<Instant>> batchPredicates = TemporalPredicates.forBatches(annotation("afterNow"), Instant.class, clock);
+
+            Predicate<Instant> first = batchPredicates.get();
+            Predicate<Instant> second = batchPredicates.get();
+
+            assertEquals(2, clock.count.get());
+            assertTrue(first.test(INSTANT.plusSeconds(1)));
+            assertTrue(first.test(INSTANT.plusSeconds(1)));
+            assertFalse(second.test(INSTANT.plusSeconds(1)));
+            assertEquals(2, clock.count.get());
+        }
+
+        @Test
+        @DisplayName("unsupported type")
+        void testUnsupportedType() {
+            Annotation annotation = annotation("after");
+
+            IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                    () -> TemporalPredicates.forBatches(annotation, LocalDateTime.class, CLOCK));
+            assertEquals(AfterConstraint.class.getName() + " does not support java.time.LocalDateTime", exception.getMessage());
+        }
+    }
+
+    @Nested
+    @DisplayName("forEpochValues")
+    class ForEpochValues {
+
+        @Test
+        @DisplayName("fixed moment")
+        void testFixedMoment() {
+            LongPredicate predicate = TemporalPredicates.forEpochValues(annotation("after"), EpochUnit.MILLISECONDS, CLOCK);
+
+            assertFalse(predicate.test(INSTANT.toEpochMilli()));
+            assertTrue(predicate.test(INSTANT.toEpochMilli() + 1));
+            assertTrue(predicate.test(Long.MAX_VALUE));
+        }
+
+        @Test
+        @DisplayName("now")
+        void testNow() {
+            LongPredicate predicate = TemporalPredicates.forEpochValues(annotation("afterNow"), EpochUnit.SECONDS, CLOCK);
+
+            assertFalse(predicate.test(INSTANT.getEpochSecond()));
+            assertTrue(predicate.test(INSTANT.getEpochSecond() + 1));
+            // exceeds Instant.MAX
+            assertFalse(predicate.test(Long.MAX_VALUE));
+        }
+    }
+
+    @Nested
+    @DisplayName("forFieldValues")
+    class ForFieldValues {
+
+        @Test
+        @DisplayName("field")
+        void testField() {
+            IntPredicate predicate = TemporalPredicates.forFieldValues(annotation("hour"), ChronoField.HOUR_OF_DAY, CLOCK);
+
+            assertFalse(predicate.test(8));
+            assertTrue(predicate.test(9));
+            assertFalse(predicate.test(-1));
+            assertFalse(predicate.test(24));
+        }
+
+        @Test
+        @DisplayName("part")
+        void testPart() {
+            IntPredicate predicate = TemporalPredicates.forFieldValues(annotation("dayOfWeek"), ChronoField.DAY_OF_WEEK, CLOCK);
+
+            assertTrue(predicate.test(DayOfWeek.MONDAY.getValue()));
+            assertFalse(predicate.test(DayOfWeek.TUESDAY.getValue()));
+            assertFalse(predicate.test(0));
+            assertFalse(predicate.test(8));
+        }
+
+        @Test
+        @DisplayName("with phase timings")
+        void testWithPhaseTimings() {
+            PhaseTimings.enable();
+            try {
+                IntPredicate fieldPredicate = TemporalPredicates.forFieldValues(annotation("hour"), ChronoField.HOUR_OF_DAY, CLOCK);
+
+                assertFalse(fieldPredicate.test(8));
+                assertTrue(fieldPredicate.test(9));
+
+                IntPredicate partPredicate = TemporalPredicates.forFieldValues(annotation("dayOfWeek"), ChronoField.DAY_OF_WEEK, CLOCK);
+
+                assertTrue(partPredicate.test(DayOfWeek.MONDAY.getValue()));
+                assertFalse(partPredicate.test(DayOfWeek.TUESDAY.getValue()));
+            } finally {
+                PhaseTimings.disable();
+            }
+        }
+
+        @Test
+        @DisplayName("different field")
+        void testDifferentField() {
+            Annotation annotation = annotation("hour");
+
+            IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                    () -> TemporalPredicates.forFieldValues(annotation, ChronoField.MINUTE_OF_HOUR, CLOCK));
+            assertEquals(HourConstraint.class.getName() + " does not validate only field MinuteOfHour", exception.getMessage());
+        }
+
+        @Test
+        @DisplayName("different part")
+        void testDifferentPart() {
+            Annotation annotation = annotation("dayOfWeek");
+
+            assertThrows(IllegalArgumentException.class, () -> TemporalPredicates.forFieldValues(annotation, ChronoField.MONTH_OF_YEAR, CLOCK));
+        }
+    }
+
+    private static Annotation annotation(String fieldName) {
+        return TestConstraints.annotation(TestClass.class, fieldName);
+    }
+
+    private static final class SteppingClock extends Clock {
+
+        private final AtomicInteger count = new AtomicInteger();
+
+        @Override
+        public Instant instant() {
+            // each call moves the current time one hour forward
+            return INSTANT.plusSeconds(3600L * count.getAndIncrement());
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    private static final class TestClass {
+
+        @AfterConstraint(moment = "2007-12-03T10:15:30.00Z")
+        private Instant after;
+
+        @AfterConstraint(moment = "now")
+        private Instant afterNow;
+
+        @HourConstraint
+        private LocalDateTime hour;
+
+        @DayOfWeekConstraint
+        private LocalDateTime dayOfWeek;
+    }
+}
@@ -0,0 +1,297 @@
+/*
+ * TemporalStreamsTest.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.validation.datetime.base;
+
+import static java.lang.annotation.ElementType.ANNOTATION_TYPE;
+import static java.lang.annotation.ElementType.CONSTRUCTOR;
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.ElementType.PARAMETER;
+import static java.lang.annotation.ElementType.TYPE_USE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.lang.annotation.Annotation;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collector;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import jakarta.validation.Constraint;
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+import jakarta.validation.Payload;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import com.github.robtimus.validation.datetime.base.TemporalStreams.Violation;
+import com.github.robtimus.validation.datetime.base.TestConstraints.AfterConstraint;
+
+@SuppressWarnings({ "javadoc", "nls" })
+// public because of the constraints and validators
+public class TemporalStreamsTest {
+
+    private static final Instant INSTANT = Instant.parse("2007-12-03T10:15:30.00Z");
+
+    // large enough to be split into several chunks
+    private static final int COUNT = 100_000;
+
+    // every third value is invalid, every seventh value is null
+    private static final List<Instant> INSTANTS = IntStream.range(0, COUNT)
+            .mapToObj(i -> i % 7 == 0 ? null : INSTANT.plusSeconds(i % 3 == 0 ? -i : i))
+            .collect(Collectors.toList());
+
+    private static final List<Violation<Instant>> EXPECTED = IntStream.range(0, COUNT)
+            .filter(i -> i % 7 != 0 && i % 3 == 0)
+            .mapToObj(i -> violation(i, INSTANTS.get(i)))
+            .collect(Collectors.toList());
+
+    @Nested
+    @DisplayName("violations")
+    class Violations {
+
+        @Test
+        @DisplayName("list")
+        void testList() {
+            assertEquals(EXPECTED, TemporalStreams.violations(INSTANTS, Instant.class, annotation("after")));
+        }
+
+        @Test
+        @DisplayName("set")
+        void testSet() {
+            Set<Instant> instants = new LinkedHashSet<>(INSTANTS.subList(0, 10));
+
+            // the nulls at indexes 0 and 7 are merged, so the values at indexes 8 and 9 move one position
+            List<Violation<Instant>> expected = Arrays.asList(violation(3, INSTANTS.get(3)), violation(6, INSTANTS.get(6)),
+                    violation(8, INSTANTS.get(9)));
+
+            assertEquals(expected, TemporalStreams.violations(instants, Instant.class, annotation("after")));
+        }
+
+        @Test
+        @DisplayName("stream")
+        void testStream() {
+            assertEquals(EXPECTED, TemporalStreams.violations(INSTANTS.stream(), Instant.class, annotation("after")));
+        }
+
+        @Test
+        @DisplayName("mapped stream")
+        void testMappedStream() {
+            Stream<ZonedDateTime> stream = INSTANTS.stream()
+                    .map(i -> i == null ? null : i.atZone(ZoneOffset.UTC));
+
+            List<Instant> result = TemporalStreams.violations(stream, ZonedDateTime.class, annotation("after")).stream()
+                    .map(v -> v.value().toInstant())
+                    .collect(Collectors.toList());
+
+            List<Instant> expected = EXPECTED.stream()
+                    .map(Violation::value)
+                    .collect(Collectors.toList());
+
+            assertEquals(expected, result);
+        }
+
+        @Test
+        @DisplayName("filtered stream")
+        void testFilteredStream() {
+            Stream<Date> stream = INSTANTS.stream()
+                    .filter(i -> i != null)
+                    .map(Date::from);
+
+            List<Long> result = TemporalStreams.violations(stream, Date.class, annotation("after")).stream()
+                    .map(Violation::index)
+                    .collect(Collectors.toList());
+
+            List<Long> expected = IntStream.range(0, COUNT)
+                    .filter(i -> i % 7 != 0)
+                    .mapToObj(i -> i % 3 == 0)
+                    .collect(collectingIndexesOfTrue());
+
+            assertEquals(expected, result);
+        }
+
+        @Test
+        @DisplayName("empty")
+        void testEmpty() {
+            assertEquals(Collections.emptyList(), TemporalStreams.violations(Collections.<Instant>emptyList(), Instant.class, annotation("after")));
+            assertEquals(Collections.emptyList(), TemporalStreams.violations(Stream.<Instant>empty(), Instant.class, annotation("after")));
+        }
+
+        @Test
+        @DisplayName("now")
+        void testNow() {
+            Clock clock = Clock.fixed(INSTANT, ZoneOffset.UTC);
+
+            assertEquals(EXPECTED, TemporalStreams.violations(INSTANTS, Instant.class, annotation("afterNow"), () -> clock));
+        }
+
+        @Test
+        @DisplayName("non-base validator")
+        void testNonBaseValidator() {
+            Clock clock = Clock.fixed(INSTANT, ZoneOffset.UTC);
+
+            assertEquals(EXPECTED, TemporalStreams.violations(INSTANTS, Instant.class, annotation("custom"), () -> clock));
+
+            // contexts are not created per value
+            assertTrue(CustomValidator.CONTEXTS.size() <= Runtime.getRuntime().availableProcessors() * 2);
+        }
+
+        @Test
+        @DisplayName("unsupported type")
+        void testUnsupportedType() {
+            Annotation annotation = annotation("after");
+            List<LocalDate> dates = Collections.emptyList();
+
+            IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                    () -> TemporalStreams.violations(dates, LocalDate.class, annotation));
+            assertEquals(AfterConstraint.class.getName() + " does not support java.time.LocalDate", exception.getMessage());
+        }
+    }
+
+    @Nested
+    @DisplayName("countViolations")
+    class CountViolations {
+
+        @Test
+        @DisplayName("collection")
+        void testCollection() {
+            assertEquals(EXPECTED.size(), TemporalStreams.countViolations(INSTANTS, Instant.class, annotation("after")));
+        }
+
+        @Test
+        @DisplayName("stream")
+        void testStream() {
+            assertEquals(EXPECTED.size(), TemporalStreams.countViolations(INSTANTS.stream(), Instant.class, annotation("after")));
+        }
+
+        @Test
+        @DisplayName("filtered stream")
+        void testFilteredStream() {
+            Stream<Instant> stream = INSTANTS.stream()
+                    .filter(i -> i != null);
+
+            assertEquals(EXPECTED.size(), TemporalStreams.countViolations(stream, Instant.class, annotation("after")));
+        }
+
+        @Test
+        @DisplayName("set")
+        void testSet() {
+            Set<Instant> instants = new LinkedHashSet<>(INSTANTS);
+
+            assertEquals(EXPECTED.size(), TemporalStreams.countViolations(instants, Instant.class, annotation("after")));
+        }
+
+        @Test
+        @DisplayName("stream of unknown size")
+        void testStreamOfUnknownSize() {
+            Stream<Instant> stream = StreamSupport.stream(Spliterators.spliteratorUnknownSize(INSTANTS.iterator(), Spliterator.ORDERED), false);
+
+            assertEquals(EXPECTED.size(), TemporalStreams.countViolations(stream, Instant.class, annotation("after")));
+        }
+
+        @Test
+        @DisplayName("now")
+        void testNow() {
+            Clock clock = Clock.fixed(INSTANT, ZoneOffset.UTC);
+
+            assertEquals(EXPECTED.size(), TemporalStreams.countViolations(INSTANTS.stream(), Instant.class, annotation("afterNow"), () -> clock));
+        }
+    }
+
+    @Test
+    @DisplayName("Violation.toString")
+    void testViolationToString() {
+        assertEquals("Violation[index=3,value=2007-12-03T10:15:30Z]", violation(3, INSTANT).toString());
+    }
+
+    private static Violation<Instant> violation(long index, Instant value) {
+        return new Violation<>(index, value);
+    }
+
+    private static Collector<Boolean, ?, List<Long>> collectingIndexesOfTrue() {
+        return Collectors.collectingAndThen(Collectors.toList(), list -> {
+            List<Long> indexes = new ArrayList<>();
+            for (int i = 0; i < list.size(); i++) {
+                if (list.get(i)) {
+                    indexes.add((long) i);
+                }
+            }
+            return indexes;
+        });
+    }
+
+    private static Annotation annotation(String fieldName) {
+        return TestConstraints.annotation(TestClass.class, fieldName);
+    }
+
+    private static final class TestClass {
+
+        @AfterConstraint(moment = "2007-12-03T10:15:30.00Z")
+        private Instant after;
+
+        @AfterConstraint(moment = "now")
+        private Instant afterNow;
+
+        @CustomConstraint
+        private Instant custom;
+    }
+
+    @Constraint(validatedBy = CustomValidator.class)
+    @Target({ METHOD, FIELD, ANNOTATION_TYPE, CONSTRUCTOR, PARAMETER, TYPE_USE })
+    @Retention(RUNTIME)
+    public @interface CustomConstraint {
+
+        String message() default "default message";
+
+        Class<?>[] groups() default {};
+
+        Class<? extends Payload>[] payload() default {};
+    }
+
+    public static final class CustomValidator implements ConstraintValidator<CustomConstraint, Instant> {
+
+        private static final Set<ConstraintValidatorContext> CONTEXTS = ConcurrentHashMap.newKeySet();
+
+        @Override
+        public boolean isValid(Instant value, ConstraintValidatorContext context) {
+            if (value == null) {
+                return true;
+            }
+            CONTEXTS.add(context);
+            return value.isAfter(Instant.now(context.getClockProvider().getClock()));
+        }
+    }
+}
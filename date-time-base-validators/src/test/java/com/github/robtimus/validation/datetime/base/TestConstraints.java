@@ -0,0 +1,179 @@
+/*
+ * TestConstraints.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.validation.datetime.base;
+
+import static java.lang.annotation.ElementType.ANNOTATION_TYPE;
+import static java.lang.annotation.ElementType.CONSTRUCTOR;
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.ElementType.PARAMETER;
+import static java.lang.annotation.ElementType.TYPE_USE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+import java.lang.annotation.Annotation;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoField;
+import jakarta.validation.Constraint;
+import jakarta.validation.Payload;
+
+/**
+ * Constraint annotations and validators that are shared by tests that validate values without a Bean Validation provider.
+ */
+@SuppressWarnings({ "javadoc", "nls" })
+final class TestConstraints {
+
+    private TestConstraints() {
+    }
+
+    /**
+     * Returns the first annotation of a field.
+     *
+     * @param type The class that declares the field.
+     * @param fieldName The name of the field.
+     * @return The first annotation of the field.
+     */
+    static Annotation annotation(Class<?> type, String fieldName) {
+        try {
+            return type.getDeclaredField(fieldName).getAnnotations()[0];
+        } catch (NoSuchFieldException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Validates that values are after a moment. Supports {@link java.util.Date}, {@link Instant} and {@link ZonedDateTime}.
+     */
+    @Constraint(validatedBy = { DateTestValidator.class, InstantTestValidator.class, ZonedDateTimeTestValidator.class })
+    @Target({ METHOD, FIELD, ANNOTATION_TYPE, CONSTRUCTOR, PARAMETER, TYPE_USE })
+    @Retention(RUNTIME)
+    public @interface AfterConstraint {
+
+        String message() default "default message";
+
+        Class<?>[] groups() default {};
+
+        Class<? extends Payload>[] payload() default {};
+
+        String moment();
+    }
+
+    public static final class DateTestValidator extends DateValidator<AfterConstraint> {
+
+        public DateTestValidator() {
+            super(new InstantTestValidator());
+        }
+    }
+
+    public static final class InstantTestValidator extends MomentValueValidator<AfterConstraint, Instant> {
+
+        public InstantTestValidator() {
+            super(AfterConstraint::moment, Instant::parse, Instant::now, comparison(Instant::isAfter));
+        }
+    }
+
+    public static final class ZonedDateTimeTestValidator extends MomentValueValidator<AfterConstraint, ZonedDateTime> {
+
+        public ZonedDateTimeTestValidator() {
+            super(AfterConstraint::moment, ZonedDateTime::parse, ZonedDateTime::now, comparison(ZonedDateTime::isAfter));
+        }
+    }
+
+    /**
+     * Validates that instants are in the same minute as a moment. Its predicate is not a comparison.
+     */
+    @Constraint(validatedBy = SameMinuteValidator.class)
+    @Target({ METHOD, FIELD, ANNOTATION_TYPE, CONSTRUCTOR, PARAMETER, TYPE_USE })
+    @Retention(RUNTIME)
+    public @interface SameMinuteConstraint {
+
+        String message() default "default message";
+
+        Class<?>[] groups() default {};
+
+        Class<? extends Payload>[] payload() default {};
+
+        String moment();
+    }
+
+    public static final class SameMinuteValidator extends MomentValueValidator<SameMinuteConstraint, Instant> {
+
+        public SameMinuteValidator() {
+            super(SameMinuteConstraint::moment, Instant::parse, Instant::now,
+                    (value, moment) -> Math.floorDiv(value.getEpochSecond(), 60) == Math.floorDiv(moment.getEpochSecond(), 60));
+        }
+    }
+
+    /**
+     * Validates that the hour of values is from 9 (inclusive) to 17 (exclusive). Supports {@link LocalDateTime} and {@link Instant}.
+     */
+    @Constraint(validatedBy = { HourValidator.class, InstantHourValidator.class })
+    @Target({ METHOD, FIELD, ANNOTATION_TYPE, CONSTRUCTOR, PARAMETER, TYPE_USE })
+    @Retention(RUNTIME)
+    public @interface HourConstraint {
+
+        String message() default "default message";
+
+        Class<?>[] groups() default {};
+
+        Class<? extends Payload>[] payload() default {};
+
+        String zoneId() default ZoneIdUtils.SYSTEM_ZONE_ID;
+    }
+
+    public static final class HourValidator extends FieldValidator.WithoutZoneId<HourConstraint, LocalDateTime> {
+
+        public HourValidator() {
+            super(ChronoField.HOUR_OF_DAY, HourConstraint::zoneId, annotation -> (h, p) -> h >= 9 && h < 17);
+        }
+    }
+
+    public static final class InstantHourValidator extends FieldValidator.ForInstant<HourConstraint> {
+
+        public InstantHourValidator() {
+            super(ChronoField.HOUR_OF_DAY, HourConstraint::zoneId, annotation -> (h, p) -> h >= 9 && h < 17);
+        }
+    }
+
+    /**
+     * Validates that the day of week of values is Monday. Supports {@link LocalDateTime}.
+     */
+    @Constraint(validatedBy = DayOfWeekValidator.class)
+    @Target({ METHOD, FIELD, ANNOTATION_TYPE, CONSTRUCTOR, PARAMETER, TYPE_USE })
+    @Retention(RUNTIME)
+    public @interface DayOfWeekConstraint {
+
+        String message() default "default message";
+
+        Class<?>[] groups() default {};
+
+        Class<? extends Payload>[] payload() default {};
+
+        String zoneId() default ZoneIdUtils.SYSTEM_ZONE_ID;
+    }
+
+    public static final class DayOfWeekValidator extends PartValidator.WithoutZoneId<DayOfWeekConstraint, LocalDateTime, DayOfWeek> {
+
+        public DayOfWeekValidator() {
+            super(DayOfWeekConstraint::zoneId, LocalDateTime::getDayOfWeek, annotation -> (d, p) -> d == DayOfWeek.MONDAY);
+        }
+    }
+}
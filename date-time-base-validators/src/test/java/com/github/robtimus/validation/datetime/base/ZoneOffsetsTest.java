@@ -0,0 +1,77 @@
+/*
+ * ZoneOffsetsTest.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.validation.datetime.base;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+@SuppressWarnings({ "javadoc", "nls" })
+class ZoneOffsetsTest {
+
+    @ParameterizedTest(name = "{0}")
+    @ValueSource(strings = { "UTC", "Europe/Paris", "America/New_York", "Asia/Kolkata", "Australia/Lord_Howe", "Pacific/Apia", "Africa/Casablanca" })
+    @DisplayName("offsetSeconds")
+    void testOffsetSeconds(String zone) {
+        ZoneId zoneId = ZoneId.of(zone);
+        ZoneRules rules = zoneId.getRules();
+        ZoneOffsets offsets = ZoneOffsets.of(zoneId);
+
+        // every 6 hours from 1900 until 2200, which covers the precomputed transitions as well as those retrieved from the rules
+        for (long epochSecond = -2_208_988_800L; epochSecond < 7_258_118_400L; epochSecond += 6 * 3600) {
+            assertEquals(rules.getOffset(Instant.ofEpochSecond(epochSecond)).getTotalSeconds(), offsets.offsetSeconds(epochSecond));
+        }
+
+        // around transitions
+        ZoneOffsetTransition transition = rules.nextTransition(Instant.parse("1900-01-01T00:00:00Z"));
+        while (transition != null && transition.toEpochSecond() < 7_258_118_400L) {
+            long epochSecond = transition.toEpochSecond();
+            assertEquals(transition.getOffsetBefore().getTotalSeconds(), offsets.offsetSeconds(epochSecond - 1));
+            assertEquals(transition.getOffsetAfter().getTotalSeconds(), offsets.offsetSeconds(epochSecond));
+            transition = rules.nextTransition(transition.getInstant());
+        }
+    }
+
+    @Test
+    @DisplayName("of returns cached instances")
+    void testOfReturnsCachedInstances() {
+        assertSame(ZoneOffsets.of(ZoneId.of("Europe/Paris")), ZoneOffsets.of(ZoneId.of("Europe/Paris")));
+    }
+
+    @Test
+    @DisplayName("of uses ParseCache")
+    void testOfUsesParseCache() {
+        ParseCache.clear();
+        CacheStats before = CacheStats.forCache(ParseCache.NAME).orElseThrow();
+
+        ZoneOffsets.of(ZoneId.of("Europe/Paris"));
+        ZoneOffsets.of(ZoneId.of("Europe/Paris"));
+
+        CacheStats after = CacheStats.forCache(ParseCache.NAME).orElseThrow();
+        assertEquals(1, after.missCount() - before.missCount());
+        assertEquals(1, after.hitCount() - before.hitCount());
+        assertEquals(1, after.size());
+    }
+}
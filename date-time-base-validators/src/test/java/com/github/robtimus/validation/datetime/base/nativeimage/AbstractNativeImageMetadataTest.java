@@ -0,0 +1,187 @@
+/*
+ * AbstractNativeImageMetadataTest.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.validation.datetime.base.nativeimage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+import jakarta.validation.Constraint;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Base class for tests of the native image metadata of a module.
+ * <p>
+ * Instead of only checking that the metadata mentions certain names, the metadata is parsed, and every class, constructor, method and field that
+ * it lists is resolved using reflection. This catches entries for classes or members that have been renamed or removed.
+ */
+@SuppressWarnings({ "javadoc", "nls" })
+public abstract class AbstractNativeImageMetadataTest {
+
+    private final NativeImageMetadata metadata;
+    private final List<Class<? extends Annotation>> constraintTypes;
+
+    @SafeVarargs
+    protected AbstractNativeImageMetadataTest(String artifactId, Class<? extends Annotation>... constraintTypes) {
+        this.metadata = new NativeImageMetadata(artifactId, getClass().getClassLoader());
+        this.constraintTypes = Arrays.asList(constraintTypes);
+    }
+
+    @Test
+    @DisplayName("reflection metadata resolves")
+    void testReflectionMetadataResolves() {
+        List<String> unresolved = new ArrayList<>();
+        for (Map<String, Object> entry : metadata.reflectConfig()) {
+            String className = (String) entry.get("name");
+            try {
+                Class<?> type = metadata.resolveType(className);
+                for (Map<String, Object> method : members(entry, "methods")) {
+                    resolveMethod(type, method, unresolved);
+                }
+                for (Map<String, Object> field : members(entry, "fields")) {
+                    resolveField(type, field, unresolved);
+                }
+            } catch (ClassNotFoundException e) {
+                unresolved.add(className);
+            }
+        }
+
+        assertEquals(Collections.emptyList(), unresolved);
+    }
+
+    @Test
+    @DisplayName("constraints are registered for reflection")
+    void testConstraintsRegistered() {
+        Map<String, Map<String, Object>> entries = new HashMap<>();
+        for (Map<String, Object> entry : metadata.reflectConfig()) {
+            entries.put((String) entry.get("name"), entry);
+        }
+
+        for (Class<? extends Annotation> constraintType : constraintTypes) {
+            assertAnnotationRegistered(entries, constraintType.getName());
+            assertAnnotationRegistered(entries, constraintType.getName() + "$List");
+
+            Constraint constraint = constraintType.getAnnotation(Constraint.class);
+            assertNotNull(constraint);
+            for (Class<?> validatorType : constraint.validatedBy()) {
+                assertConstructorRegistered(entries, validatorType.getName());
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("resource metadata resolves")
+    void testResourceMetadataResolves() {
+        if (constraintTypes.isEmpty() && !metadata.exists("resource-config.json")) {
+            return;
+        }
+
+        Map<String, Object> resourceConfig = metadata.resourceConfig();
+
+        @SuppressWarnings("unchecked")
+        Map<String, Object> resources = (Map<String, Object>) resourceConfig.get("resources");
+        assertNotNull(resources);
+        List<Map<String, Object>> includes = members(resources, "includes");
+        assertTrue(includes.stream()
+                .map(include -> Pattern.compile((String) include.get("pattern")))
+                .anyMatch(pattern -> pattern.matcher("ValidationMessages.properties").matches()),
+                "ValidationMessages.properties not included");
+        assertNotNull(getClass().getClassLoader().getResource("ValidationMessages.properties"));
+
+        List<Map<String, Object>> bundles = members(resourceConfig, "bundles");
+        assertTrue(bundles.stream().anyMatch(bundle -> "ValidationMessages".equals(bundle.get("name"))), "ValidationMessages not included");
+    }
+
+    @Test
+    @DisplayName("build time initialized classes resolve and only have constant static fields")
+    void testBuildTimeInitializedClasses() {
+        List<String> invalid = new ArrayList<>();
+        for (String className : metadata.buildTimeInitializedClasses()) {
+            try {
+                Class<?> type = metadata.resolveType(className);
+                for (Field field : type.getDeclaredFields()) {
+                    if (Modifier.isStatic(field.getModifiers()) && !Modifier.isFinal(field.getModifiers())) {
+                        invalid.add(className + "." + field.getName());
+                    }
+                }
+            } catch (ClassNotFoundException e) {
+                invalid.add(className);
+            }
+        }
+
+        assertEquals(Collections.emptyList(), invalid);
+    }
+
+    private void resolveMethod(Class<?> type, Map<String, Object> method, List<String> unresolved) {
+        String name = (String) method.get("name");
+        @SuppressWarnings("unchecked")
+        List<String> parameterTypeNames = (List<String>) method.getOrDefault("parameterTypes", Collections.emptyList());
+        String description = type.getName() + "." + name + "(" + String.join(", ", parameterTypeNames) + ")";
+        try {
+            Class<?>[] parameterTypes = new Class<?>[parameterTypeNames.size()];
+            for (int i = 0; i < parameterTypes.length; i++) {
+                parameterTypes[i] = metadata.resolveType(parameterTypeNames.get(i));
+            }
+            if ("<init>".equals(name)) {
+                type.getDeclaredConstructor(parameterTypes);
+            } else {
+                type.getDeclaredMethod(name, parameterTypes);
+            }
+        } catch (ClassNotFoundException | NoSuchMethodException e) {
+            unresolved.add(description);
+        }
+    }
+
+    private static void resolveField(Class<?> type, Map<String, Object> field, List<String> unresolved) {
+        String name = (String) field.get("name");
+        try {
+            type.getDeclaredField(name);
+        } catch (NoSuchFieldException e) {
+            unresolved.add(type.getName() + "." + name);
+        }
+    }
+
+    private static void assertAnnotationRegistered(Map<String, Map<String, Object>> entries, String className) {
+        Map<String, Object> entry = entries.get(className);
+        assertNotNull(entry, () -> className + " not registered for reflection");
+        assertEquals(Boolean.TRUE, entry.get("allDeclaredMethods"), "methods of " + className + " not registered for reflection");
+    }
+
+    private static void assertConstructorRegistered(Map<String, Map<String, Object>> entries, String className) {
+        Map<String, Object> entry = entries.get(className);
+        assertNotNull(entry, () -> className + " not registered for reflection");
+        assertTrue(members(entry, "methods").stream()
+                .anyMatch(method -> "<init>".equals(method.get("name")) && ((List<?>) method.get("parameterTypes")).isEmpty()),
+                () -> "default constructor of " + className + " not registered for reflection");
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Map<String, Object>> members(Map<String, Object> entry, String key) {
+        return (List<Map<String, Object>>) entry.getOrDefault(key, Collections.emptyList());
+    }
+}
@@ -0,0 +1,292 @@
+/*
+ * NativeImageMetadata.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.validation.datetime.base.nativeimage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Array;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * The native image metadata of a module, as found in {@code META-INF/native-image/com.github.robtimus/<artifactId>}.
+ */
+@SuppressWarnings("nls")
+final class NativeImageMetadata {
+
+    private static final Pattern BUILD_TIME_INITIALIZATION = Pattern.compile("--initialize-at-build-time=(\\S+)");
+
+    private static final Map<String, Class<?>> PRIMITIVE_TYPES = primitiveTypes();
+
+    private final String path;
+    private final ClassLoader classLoader;
+
+    NativeImageMetadata(String artifactId, ClassLoader classLoader) {
+        this.path = "META-INF/native-image/com.github.robtimus/" + artifactId + "/";
+        this.classLoader = classLoader;
+    }
+
+    private static Map<String, Class<?>> primitiveTypes() {
+        Map<String, Class<?>> primitiveTypes = new LinkedHashMap<>();
+        for (Class<?> type : new Class<?>[] { boolean.class, byte.class, short.class, char.class, int.class, long.class, float.class,
+                double.class }) {
+
+            primitiveTypes.put(type.getName(), type);
+        }
+        return Collections.unmodifiableMap(primitiveTypes);
+    }
+
+    boolean exists(String name) {
+        return classLoader.getResource(path + name) != null;
+    }
+
+    @SuppressWarnings("unchecked")
+    List<Map<String, Object>> reflectConfig() {
+        return (List<Map<String, Object>>) JsonParser.parse(read("reflect-config.json"));
+    }
+
+    @SuppressWarnings("unchecked")
+    Map<String, Object> resourceConfig() {
+        return (Map<String, Object>) JsonParser.parse(read("resource-config.json"));
+    }
+
+    List<String> buildTimeInitializedClasses() {
+        if (!exists("native-image.properties")) {
+            return Collections.emptyList();
+        }
+        Properties properties = new Properties();
+        try (InputStream input = classLoader.getResourceAsStream(path + "native-image.properties")) {
+            properties.load(input);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        List<String> classNames = new ArrayList<>();
+        Matcher matcher = BUILD_TIME_INITIALIZATION.matcher(properties.getProperty("Args", ""));
+        while (matcher.find()) {
+            for (String className : matcher.group(1).split(",")) {
+                classNames.add(className.trim());
+            }
+        }
+        return classNames;
+    }
+
+    Class<?> resolveType(String typeName) throws ClassNotFoundException {
+        if (typeName.endsWith("[]")) {
+            Class<?> componentType = resolveType(typeName.substring(0, typeName.length() - 2));
+            return Array.newInstance(componentType, 0).getClass();
+        }
+        Class<?> primitiveType = PRIMITIVE_TYPES.get(typeName);
+        return primitiveType != null ? primitiveType : Class.forName(typeName, false, classLoader);
+    }
+
+    private String read(String name) {
+        try (InputStream input = classLoader.getResourceAsStream(path + name)) {
+            if (input == null) {
+                throw new IllegalStateException(path + name + " not found");
+            }
+            return new String(input.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * A minimal JSON parser. Objects are returned as {@link Map}, arrays as {@link List}, strings as {@link String}, numbers as {@link Double},
+     * and {@code true} and {@code false} as {@link Boolean}.
+     */
+    private static final class JsonParser {
+
+        private final String json;
+        private int index;
+
+        private JsonParser(String json) {
+            this.json = json;
+            this.index = 0;
+        }
+
+        private static Object parse(String json) {
+            JsonParser parser = new JsonParser(json);
+            Object value = parser.readValue();
+            parser.skipWhitespace();
+            if (parser.index != json.length()) {
+                throw parser.error("unexpected trailing content");
+            }
+            return value;
+        }
+
+        private Object readValue() {
+            skipWhitespace();
+            char c = peek();
+            switch (c) {
+                case '{':
+                    return readObject();
+                case '[':
+                    return readArray();
+                case '"':
+                    return readString();
+                case 't':
+                    expect("true");
+                    return Boolean.TRUE;
+                case 'f':
+                    expect("false");
+                    return Boolean.FALSE;
+                case 'n':
+                    expect("null");
+                    return null;
+                default:
+                    return readNumber();
+            }
+        }
+
+        private Map<String, Object> readObject() {
+            Map<String, Object> object = new LinkedHashMap<>();
+            index++;
+            skipWhitespace();
+            if (peek() == '}') {
+                index++;
+                return object;
+            }
+            do {
+                skipWhitespace();
+                String name = readString();
+                skipWhitespace();
+                expect(":");
+                object.put(name, readValue());
+                skipWhitespace();
+            } while (tryConsume(','));
+            expect("}");
+            return object;
+        }
+
+        private List<Object> readArray() {
+            List<Object> array = new ArrayList<>();
+            index++;
+            skipWhitespace();
+            if (peek() == ']') {
+                index++;
+                return array;
+            }
+            do {
+                array.add(readValue());
+                skipWhitespace();
+            } while (tryConsume(','));
+            expect("]");
+            return array;
+        }
+
+        private String readString() {
+            expect("\"");
+            StringBuilder sb = new StringBuilder();
+            char c;
+            while ((c = next()) != '"') {
+                if (c == '\\') {
+                    sb.append(readEscape());
+                } else {
+                    sb.append(c);
+                }
+            }
+            return sb.toString();
+        }
+
+        private char readEscape() {
+            char c = next();
+            switch (c) {
+                case '"':
+                case '\\':
+                case '/':
+                    return c;
+                case 'b':
+                    return '\b';
+                case 'f':
+                    return '\f';
+                case 'n':
+                    return '\n';
+                case 'r':
+                    return '\r';
+                case 't':
+                    return '\t';
+                case 'u':
+                    if (index + 4 > json.length()) {
+                        throw error("incomplete unicode escape");
+                    }
+                    char unicode = (char) Integer.parseInt(json.substring(index, index + 4), 16);
+                    index += 4;
+                    return unicode;
+                default:
+                    throw error("invalid escape: \\" + c);
+            }
+        }
+
+        private Double readNumber() {
+            int start = index;
+            while (index < json.length() && "+-0123456789.eE".indexOf(json.charAt(index)) != -1) {
+                index++;
+            }
+            if (start == index) {
+                throw error("unexpected character: " + peek());
+            }
+            return Double.valueOf(json.substring(start, index));
+        }
+
+        private void skipWhitespace() {
+            while (index < json.length() && Character.isWhitespace(json.charAt(index))) {
+                index++;
+            }
+        }
+
+        private boolean tryConsume(char c) {
+            if (index < json.length() && json.charAt(index) == c) {
+                index++;
+                return true;
+            }
+            return false;
+        }
+
+        private void expect(String expected) {
+            if (!json.startsWith(expected, index)) {
+                throw error("expected " + expected);
+            }
+            index += expected.length();
+        }
+
+        private char peek() {
+            if (index >= json.length()) {
+                throw error("unexpected end of JSON");
+            }
+            return json.charAt(index);
+        }
+
+        private char next() {
+            char c = peek();
+            index++;
+            return c;
+        }
+
+        private IllegalStateException error(String message) {
+            return new IllegalStateException(message + " at index " + index);
+        }
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * BeanValidationBenchmark.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.validation.benchmarks;
+
+import java.time.Clock;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Validates entire beans through a Hibernate {@link Validator}, comparing {@code @NotAfter("now")} and {@code @Before("now")} with the built-in
+ * {@code @PastOrPresent} and {@code @Past}.
+ *
+ * @author Rob Spoor
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+@SuppressWarnings({ "javadoc", "nls" })
+public class BeanValidationBenchmark {
+
+    @Param({ "1", "10", "50" })
+    private int propertyCount;
+
+    @Param({ "library", "builtIn" })
+    private String constraints;
+
+    @Param({ "true", "false" })
+    private boolean valid;
+
+    private ValidatorFactory validatorFactory;
+    private Validator validator;
+    private Object bean;
+
+    @Setup
+    public void setup() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        validator = validatorFactory.getValidator();
+        bean = Beans.create(constraints, propertyCount, Clock.systemDefaultZone(), valid);
+
+        // make sure that the bean metadata is not part of the measurement
+        int violationCount = validator.validate(bean).size();
+        int expectedViolationCount = valid ? 0 : propertyCount;
+        if (violationCount != expectedViolationCount) {
+            throw new IllegalStateException(String.format("Expected %d violations, got %d", expectedViolationCount, violationCount));
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<Object>> validate() {
+        return validator.validate(bean);
+    }
+}
@@ -0,0 +1,494 @@
+/*
+ * Beans.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.validation.benchmarks;
+
+import java.lang.reflect.Field;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZonedDateTime;
+import jakarta.validation.constraints.Past;
+import jakarta.validation.constraints.PastOrPresent;
+import com.github.robtimus.validation.datetime.Before;
+import com.github.robtimus.validation.datetime.NotAfter;
+
+/**
+ * Beans with 1, 10 or 50 temporal properties of mixed types.
+ * The {@code Library} beans use {@link NotAfter @NotAfter("now")} and {@link Before @Before("now")}; the {@code BuiltIn} beans use the equivalent
+ * {@link PastOrPresent @PastOrPresent} and {@link Past @Past}.
+ *
+ * @author Rob Spoor
+ */
+@SuppressWarnings("nls")
+final class Beans {
+
+    private Beans() {
+    }
+
+    static Object create(String constraints, int propertyCount, Clock clock, boolean valid) {
+        Object bean = newBean(constraints, propertyCount);
+        populate(bean, clock, valid);
+        return bean;
+    }
+
+    private static Object newBean(String constraints, int propertyCount) {
+        switch (constraints + propertyCount) {
+            case "library1":
+                return new Library1();
+            case "library10":
+                return new Library10();
+            case "library50":
+                return new Library50();
+            case "builtIn1":
+                return new BuiltIn1();
+            case "builtIn10":
+                return new BuiltIn10();
+            case "builtIn50":
+                return new BuiltIn50();
+            default:
+                throw new IllegalArgumentException(constraints + ", " + propertyCount);
+        }
+    }
+
+    private static void populate(Object bean, Clock clock, boolean valid) {
+        Field[] fields = bean.getClass().getDeclaredFields();
+        for (int i = 0; i < fields.length; i++) {
+            // valid values lie in the past, invalid ones in the future
+            Duration offset = Duration.ofHours(i + 1L);
+            Instant instant = valid ? clock.instant().minus(offset) : clock.instant().plus(offset);
+            ZonedDateTime zonedDateTime = instant.atZone(clock.getZone());
+            set(fields[i], bean, value(fields[i].getType(), zonedDateTime, valid));
+        }
+    }
+
+    private static Object value(Class<?> type, ZonedDateTime zonedDateTime, boolean valid) {
+        if (type == Instant.class) {
+            return zonedDateTime.toInstant();
+        }
+        if (type == LocalDate.class) {
+            // a few hours may not be enough to move to another day
+            return valid ? zonedDateTime.toLocalDate().minusDays(1) : zonedDateTime.toLocalDate().plusDays(1);
+        }
+        if (type == LocalDateTime.class) {
+            return zonedDateTime.toLocalDateTime();
+        }
+        if (type == OffsetDateTime.class) {
+            return zonedDateTime.toOffsetDateTime();
+        }
+        if (type == ZonedDateTime.class) {
+            return zonedDateTime;
+        }
+        throw new IllegalArgumentException(type.getName());
+    }
+
+    private static void set(Field field, Object bean, Object value) {
+        try {
+            field.setAccessible(true);
+            field.set(bean, value);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    static final class Library1 {
+
+        @NotAfter(moment = "now")
+        Instant property1;
+    }
+
+    static final class Library10 {
+
+        @NotAfter(moment = "now")
+        Instant property1;
+
+        @Before(moment = "now")
+        LocalDate property2;
+
+        @NotAfter(moment = "now")
+        LocalDateTime property3;
+
+        @Before(moment = "now")
+        OffsetDateTime property4;
+
+        @NotAfter(moment = "now")
+        ZonedDateTime property5;
+
+        @Before(moment = "now")
+        Instant property6;
+
+        @NotAfter(moment = "now")
+        LocalDate property7;
+
+        @Before(moment = "now")
+        LocalDateTime property8;
+
+        @NotAfter(moment = "now")
+        OffsetDateTime property9;
+
+        @Before(moment = "now")
+        ZonedDateTime property10;
+    }
+
+    static final class Library50 {
+
+        @NotAfter(moment = "now")
+        Instant property1;
+
+        @Before(moment = "now")
+        LocalDate property2;
+
+        @NotAfter(moment = "now")
+        LocalDateTime property3;
+
+        @Before(moment = "now")
+        OffsetDateTime property4;
+
+        @NotAfter(moment = "now")
+        ZonedDateTime property5;
+
+        @Before(moment = "now")
+        Instant property6;
+
+        @NotAfter(moment = "now")
+        LocalDate property7;
+
+        @Before(moment = "now")
+        LocalDateTime property8;
+
+        @NotAfter(moment = "now")
+        OffsetDateTime property9;
+
+        @Before(moment = "now")
+        ZonedDateTime property10;
+
+        @NotAfter(moment = "now")
+        Instant property11;
+
+        @Before(moment = "now")
+        LocalDate property12;
+
+        @NotAfter(moment = "now")
+        LocalDateTime property13;
+
+        @Before(moment = "now")
+        OffsetDateTime property14;
+
+        @NotAfter(moment = "now")
+        ZonedDateTime property15;
+
+        @Before(moment = "now")
+        Instant property16;
+
+        @NotAfter(moment = "now")
+        LocalDate property17;
+
+        @Before(moment = "now")
+        LocalDateTime property18;
+
+        @NotAfter(moment = "now")
+        OffsetDateTime property19;
+
+        @Before(moment = "now")
+        ZonedDateTime property20;
+
+        @NotAfter(moment = "now")
+        Instant property21;
+
+        @Before(moment = "now")
+        LocalDate property22;
+
+        @NotAfter(moment = "now")
+        LocalDateTime property23;
+
+        @Before(moment = "now")
+        OffsetDateTime property24;
+
+        @NotAfter(moment = "now")
+        ZonedDateTime property25;
+
+        @Before(moment = "now")
+        Instant property26;
+
+        @NotAfter(moment = "now")
+        LocalDate property27;
+
+        @Before(moment = "now")
+        LocalDateTime property28;
+
+        @NotAfter(moment = "now")
+        OffsetDateTime property29;
+
+        @Before(moment = "now")
+        ZonedDateTime property30;
+
+        @NotAfter(moment = "now")
+        Instant property31;
+
+        @Before(moment = "now")
+        LocalDate property32;
+
+        @NotAfter(moment = "now")
+        LocalDateTime property33;
+
+        @Before(moment = "now")
+        OffsetDateTime property34;
+
+        @NotAfter(moment = "now")
+        ZonedDateTime property35;
+
+        @Before(moment = "now")
+        Instant property36;
+
+        @NotAfter(moment = "now")
+        LocalDate property37;
+
+        @Before(moment = "now")
+        LocalDateTime property38;
+
+        @NotAfter(moment = "now")
+        OffsetDateTime property39;
+
+        @Before(moment = "now")
+        ZonedDateTime property40;
+
+        @NotAfter(moment = "now")
+        Instant property41;
+
+        @Before(moment = "now")
+        LocalDate property42;
+
+        @NotAfter(moment = "now")
+        LocalDateTime property43;
+
+        @Before(moment = "now")
+        OffsetDateTime property44;
+
+        @NotAfter(moment = "now")
+        ZonedDateTime property45;
+
+        @Before(moment = "now")
+        Instant property46;
+
+        @NotAfter(moment = "now")
+        LocalDate property47;
+
+        @Before(moment = "now")
+        LocalDateTime property48;
+
+        @NotAfter(moment = "now")
+        OffsetDateTime property49;
+
+        @Before(moment = "now")
+        ZonedDateTime property50;
+    }
+
+    static final class BuiltIn1 {
+
+        @PastOrPresent
+        Instant property1;
+    }
+
+    static final class BuiltIn10 {
+
+        @PastOrPresent
+        Instant property1;
+
+        @Past
+        LocalDate property2;
+
+        @PastOrPresent
+        LocalDateTime property3;
+
+        @Past
+        OffsetDateTime property4;
+
+        @PastOrPresent
+        ZonedDateTime property5;
+
+        @Past
+        Instant property6;
+
+        @PastOrPresent
+        LocalDate property7;
+
+        @Past
+        LocalDateTime property8;
+
+        @PastOrPresent
+        OffsetDateTime property9;
+
+        @Past
+        ZonedDateTime property10;
+    }
+
+    static final class BuiltIn50 {
+
+        @PastOrPresent
+        Instant property1;
+
+        @Past
+        LocalDate property2;
+
+        @PastOrPresent
+        LocalDateTime property3;
+
+        @Past
+        OffsetDateTime property4;
+
+        @PastOrPresent
+        ZonedDateTime property5;
+
+        @Past
+        Instant property6;
+
+        @PastOrPresent
+        LocalDate property7;
+
+        @Past
+        LocalDateTime property8;
+
+        @PastOrPresent
+        OffsetDateTime property9;
+
+        @Past
+        ZonedDateTime property10;
+
+        @PastOrPresent
+        Instant property11;
+
+        @Past
+        LocalDate property12;
+
+        @PastOrPresent
+        LocalDateTime property13;
+
+        @Past
+        OffsetDateTime property14;
+
+        @PastOrPresent
+        ZonedDateTime property15;
+
+        @Past
+        Instant property16;
+
+        @PastOrPresent
+        LocalDate property17;
+
+        @Past
+        LocalDateTime property18;
+
+        @PastOrPresent
+        OffsetDateTime property19;
+
+        @Past
+        ZonedDateTime property20;
+
+        @PastOrPresent
+        Instant property21;
+
+        @Past
+        LocalDate property22;
+
+        @PastOrPresent
+        LocalDateTime property23;
+
+        @Past
+        OffsetDateTime property24;
+
+        @PastOrPresent
+        ZonedDateTime property25;
+
+        @Past
+        Instant property26;
+
+        @PastOrPresent
+        LocalDate property27;
+
+        @Past
+        LocalDateTime property28;
+
+        @PastOrPresent
+        OffsetDateTime property29;
+
+        @Past
+        ZonedDateTime property30;
+
+        @PastOrPresent
+        Instant property31;
+
+        @Past
+        LocalDate property32;
+
+        @PastOrPresent
+        LocalDateTime property33;
+
+        @Past
+        OffsetDateTime property34;
+
+        @PastOrPresent
+        ZonedDateTime property35;
+
+        @Past
+        Instant property36;
+
+        @PastOrPresent
+        LocalDate property37;
+
+        @Past
+        LocalDateTime property38;
+
+        @PastOrPresent
+        OffsetDateTime property39;
+
+        @Past
+        ZonedDateTime property40;
+
+        @PastOrPresent
+        Instant property41;
+
+        @Past
+        LocalDate property42;
+
+        @PastOrPresent
+        LocalDateTime property43;
+
+        @Past
+        OffsetDateTime property44;
+
+        @PastOrPresent
+        ZonedDateTime property45;
+
+        @Past
+        Instant property46;
+
+        @PastOrPresent
+        LocalDate property47;
+
+        @Past
+        LocalDateTime property48;
+
+        @PastOrPresent
+        OffsetDateTime property49;
+
+        @Past
+        ZonedDateTime property50;
+    }
+}
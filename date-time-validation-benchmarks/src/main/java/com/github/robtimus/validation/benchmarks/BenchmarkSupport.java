@@ -0,0 +1,92 @@
+/*
+ * BenchmarkSupport.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.validation.benchmarks;
+
+import java.lang.annotation.Annotation;
+import java.util.Objects;
+import jakarta.validation.ClockProvider;
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+
+/**
+ * Utility methods for benchmarks that call {@link ConstraintValidator}s directly.
+ *
+ * @author Rob Spoor
+ */
+final class BenchmarkSupport {
+
+    private BenchmarkSupport() {
+    }
+
+    static <A extends Annotation> A annotation(Class<?> type, String fieldName, Class<A> annotationType) {
+        try {
+            return Objects.requireNonNull(type.getDeclaredField(fieldName).getAnnotation(annotationType));
+        } catch (NoSuchFieldException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    static <A extends Annotation, T> ConstraintValidator<A, T> initialize(ConstraintValidator<A, T> validator, A annotation) {
+        validator.initialize(annotation);
+        return validator;
+    }
+
+    static ConstraintValidatorContext context(ClockProvider clockProvider) {
+        return new ClockOnlyContext(clockProvider);
+    }
+
+    /**
+     * A {@link ConstraintValidatorContext} that only supports {@link #getClockProvider()}.
+     * This removes the cost of creating contexts and violations from the measurements; validators that need to report custom violations will fail.
+     *
+     * @author Rob Spoor
+     */
+    private static final class ClockOnlyContext implements ConstraintValidatorContext {
+
+        private final ClockProvider clockProvider;
+
+        private ClockOnlyContext(ClockProvider clockProvider) {
+            this.clockProvider = Objects.requireNonNull(clockProvider);
+        }
+
+        @Override
+        public void disableDefaultConstraintViolation() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public String getDefaultConstraintMessageTemplate() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public ClockProvider getClockProvider() {
+            return clockProvider;
+        }
+
+        @Override
+        public ConstraintViolationBuilder buildConstraintViolationWithTemplate(String messageTemplate) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public <T> T unwrap(Class<T> type) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
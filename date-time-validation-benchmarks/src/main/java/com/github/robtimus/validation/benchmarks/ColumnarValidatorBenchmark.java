@@ -0,0 +1,88 @@
+/*
+ * ColumnarValidatorBenchmark.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.validation.benchmarks;
+
+import java.time.Clock;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import com.github.robtimus.validation.datetime.base.ColumnarValidator;
+import com.github.robtimus.validation.datetime.base.CompiledValidator;
+
+/**
+ * Compares validating a list of beans using a {@link ColumnarValidator} to validating each bean using a {@link CompiledValidator}.
+ *
+ * @author Rob Spoor
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+@SuppressWarnings({ "javadoc", "nls" })
+public class ColumnarValidatorBenchmark {
+
+    @Param({ "10", "1000", "100000" })
+    private int beanCount;
+
+    @Param({ "1", "10" })
+    private int propertyCount;
+
+    private ColumnarValidator<Object> columnarValidator;
+    private CompiledValidator<Object> compiledValidator;
+    private List<Object> beans;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setup() {
+        Object bean = Beans.create("library", propertyCount, Clock.systemDefaultZone(), true);
+        beans = Collections.nCopies(beanCount, bean);
+        columnarValidator = ColumnarValidator.forType((Class<Object>) bean.getClass());
+        compiledValidator = CompiledValidator.forType((Class<Object>) bean.getClass());
+
+        if (!columnarValidator.validate(beans).isValid()) {
+            throw new IllegalStateException("Expected all beans to be valid");
+        }
+    }
+
+    @Benchmark
+    public ColumnarValidator.Result columnar() {
+        return columnarValidator.validate(beans);
+    }
+
+    @Benchmark
+    public int perBean() {
+        int invalid = 0;
+        for (Object bean : beans) {
+            invalid += compiledValidator.isValid(bean) ? 0 : 1;
+        }
+        return invalid;
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * CompiledValidatorBenchmark.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.validation.benchmarks;
+
+import java.time.Clock;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import com.github.robtimus.validation.datetime.base.CompiledValidator;
+
+/**
+ * Validates the same beans as {@link BeanValidationBenchmark} using a {@link CompiledValidator} instead of a Hibernate
+ * {@link jakarta.validation.Validator}.
+ *
+ * @author Rob Spoor
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+@SuppressWarnings({ "javadoc", "nls" })
+public class CompiledValidatorBenchmark {
+
+    @Param({ "1", "10", "50" })
+    private int propertyCount;
+
+    @Param({ "true", "false" })
+    private boolean valid;
+
+    private CompiledValidator<Object> validator;
+    private Object bean;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setup() {
+        bean = Beans.create("library", propertyCount, Clock.systemDefaultZone(), valid);
+        validator = CompiledValidator.forType((Class<Object>) bean.getClass());
+
+        int violationCount = validator.validate(bean).violations().size();
+        int expectedViolationCount = valid ? 0 : propertyCount;
+        if (violationCount != expectedViolationCount) {
+            throw new IllegalStateException(String.format("Expected %d violations, got %d", expectedViolationCount, violationCount));
+        }
+    }
+
+    @Benchmark
+    public boolean isValid() {
+        return validator.isValid(bean);
+    }
+
+    @Benchmark
+    public CompiledValidator.Result validate() {
+        return validator.validate(bean);
+    }
+}
@@ -0,0 +1,201 @@
+/*
+ * DateMinAfterBenchmark.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.validation.benchmarks;
+
+import static com.github.robtimus.validation.benchmarks.BenchmarkSupport.annotation;
+import static com.github.robtimus.validation.benchmarks.BenchmarkSupport.context;
+import static com.github.robtimus.validation.benchmarks.BenchmarkSupport.initialize;
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.temporal.Temporal;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import jakarta.validation.ClockProvider;
+import jakarta.validation.Constraint;
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Payload;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import com.github.robtimus.validation.date.DateMinAfter;
+import com.github.robtimus.validation.date.validators.DateMinAfterValidator;
+
+/**
+ * Compares {@code @DateMinAfter(moment = "now", duration = "P1D", zoneId = "UTC")} with equivalent hand-written code, both as plain Java code and
+ * as a custom constraint.
+ *
+ * @author Rob Spoor
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+@SuppressWarnings({ "javadoc", "nls" })
+public class DateMinAfterBenchmark {
+
+    @Param({ "Instant", "OffsetDateTime", "ZonedDateTime" })
+    private String type;
+
+    private ValidatorFactory validatorFactory;
+    private Validator validator;
+    private ClockProvider clockProvider;
+    private ConstraintValidatorContext context;
+
+    private Temporal value;
+    private ConstraintValidator<DateMinAfter, Temporal> libraryValidator;
+
+    private String libraryProperty;
+    private String customProperty;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setup() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        validator = validatorFactory.getValidator();
+        clockProvider = validatorFactory.getClockProvider();
+        context = context(clockProvider);
+
+        ZonedDateTime inTwoDays = ZonedDateTime.now(clockProvider.getClock()).plusDays(2);
+        ConstraintValidator<DateMinAfter, ? extends Temporal> constraintValidator;
+        switch (type) {
+            case "Instant":
+                value = inTwoDays.toInstant();
+                constraintValidator = new DateMinAfterValidator.ForInstant();
+                break;
+            case "OffsetDateTime":
+                value = inTwoDays.toOffsetDateTime();
+                constraintValidator = new DateMinAfterValidator.ForOffsetDateTime();
+                break;
+            case "ZonedDateTime":
+                value = inTwoDays;
+                constraintValidator = new DateMinAfterValidator.ForZonedDateTime();
+                break;
+            default:
+                throw new IllegalStateException("Unsupported type: " + type);
+        }
+
+        libraryProperty = "library" + type;
+        customProperty = "custom" + type;
+        libraryValidator = initialize((ConstraintValidator<DateMinAfter, Temporal>) constraintValidator,
+                annotation(Holder.class, libraryProperty, DateMinAfter.class));
+    }
+
+    @TearDown
+    public void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Benchmark
+    public boolean customCode() {
+        return isAtLeastTomorrow(value, clockProvider.getClock());
+    }
+
+    @Benchmark
+    public boolean libraryValidator() {
+        return libraryValidator.isValid(value, context);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<Holder>> libraryValidateValue() {
+        return validator.validateValue(Holder.class, libraryProperty, value);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<Holder>> customValidateValue() {
+        return validator.validateValue(Holder.class, customProperty, value);
+    }
+
+    static boolean isAtLeastTomorrow(Temporal value, Clock clock) {
+        LocalDate date;
+        if (value instanceof Instant) {
+            date = ((Instant) value).atZone(ZoneOffset.UTC).toLocalDate();
+        } else if (value instanceof OffsetDateTime) {
+            date = ((OffsetDateTime) value).atZoneSameInstant(ZoneOffset.UTC).toLocalDate();
+        } else {
+            date = ((ZonedDateTime) value).withZoneSameInstant(ZoneOffset.UTC).toLocalDate();
+        }
+        // like the library, "now" uses the zone of the clock
+        LocalDate minimum = LocalDate.now(clock).plusDays(1);
+        return !date.isBefore(minimum);
+    }
+
+    static final class Holder {
+
+        @DateMinAfter(moment = "now", duration = "P1D", zoneId = "UTC")
+        Instant libraryInstant;
+
+        @DateMinAfter(moment = "now", duration = "P1D", zoneId = "UTC")
+        OffsetDateTime libraryOffsetDateTime;
+
+        @DateMinAfter(moment = "now", duration = "P1D", zoneId = "UTC")
+        ZonedDateTime libraryZonedDateTime;
+
+        @AtLeastTomorrow
+        Instant customInstant;
+
+        @AtLeastTomorrow
+        OffsetDateTime customOffsetDateTime;
+
+        @AtLeastTomorrow
+        ZonedDateTime customZonedDateTime;
+    }
+
+    @Constraint(validatedBy = AtLeastTomorrowValidator.class)
+    @Target(FIELD)
+    @Retention(RUNTIME)
+    public @interface AtLeastTomorrow {
+
+        String message() default "must be at least tomorrow";
+
+        Class<?>[] groups() default { };
+
+        Class<? extends Payload>[] payload() default { };
+    }
+
+    public static final class AtLeastTomorrowValidator implements ConstraintValidator<AtLeastTomorrow, Temporal> {
+
+        @Override
+        public boolean isValid(Temporal value, ConstraintValidatorContext context) {
+            return value == null || isAtLeastTomorrow(value, context.getClockProvider().getClock());
+        }
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ * DispatchingValidatorBenchmark.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.validation.benchmarks;
+
+import static com.github.robtimus.validation.benchmarks.BenchmarkSupport.annotation;
+import static com.github.robtimus.validation.benchmarks.BenchmarkSupport.context;
+import static com.github.robtimus.validation.benchmarks.BenchmarkSupport.initialize;
+import java.lang.annotation.Annotation;
+import java.time.Clock;
+import java.time.ZonedDateTime;
+import java.util.GregorianCalendar;
+import java.util.concurrent.TimeUnit;
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import com.github.robtimus.validation.datetime.After;
+import com.github.robtimus.validation.datetime.base.DispatchingValidator;
+import com.github.robtimus.validation.datetime.validators.AfterValidator;
+
+/**
+ * Compares the type-specific validators of {@code @After(moment = "now")} with a {@link DispatchingValidator} for the same annotation.
+ * <p>
+ * The {@code dispatching} benchmark uses a {@link DispatchingValidator} that has only validated values of the benchmarked type, so it finds
+ * its type-specific validator as the most recently resolved one. The {@code dispatchingPolymorphic} benchmark uses one that has also validated
+ * values of other types afterwards, so it finds its type-specific validator in its snapshot of resolved validators. Neither uses the shared
+ * cache of type-specific validators. Run them with {@code -prof gc} to see that, like the type-specific validators, they do not allocate per
+ * value.
+ *
+ * @author Rob Spoor
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+@SuppressWarnings({ "javadoc", "nls" })
+public class DispatchingValidatorBenchmark {
+
+    @Param({ "Calendar", "Instant", "LocalDate", "OffsetDateTime", "ZonedDateTime" })
+    private String type;
+
+    private ConstraintValidatorContext context;
+
+    private Object value;
+    private ConstraintValidator<After, Object> typedValidator;
+    private ConstraintValidator<Annotation, Object> dispatchingValidator;
+    private ConstraintValidator<Annotation, Object> polymorphicDispatchingValidator;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setup() {
+        Clock clock = Clock.systemDefaultZone();
+        context = context(() -> clock);
+
+        ZonedDateTime tomorrow = ZonedDateTime.now(clock).plusDays(1);
+        ConstraintValidator<After, ?> constraintValidator;
+        switch (type) {
+            case "Calendar":
+                value = GregorianCalendar.from(tomorrow);
+                constraintValidator = new AfterValidator.ForCalendar();
+                break;
+            case "Instant":
+                value = tomorrow.toInstant();
+                constraintValidator = new AfterValidator.ForInstant();
+                break;
+            case "LocalDate":
+                value = tomorrow.toLocalDate();
+                constraintValidator = new AfterValidator.ForLocalDate();
+                break;
+            case "OffsetDateTime":
+                value = tomorrow.toOffsetDateTime();
+                constraintValidator = new AfterValidator.ForOffsetDateTime();
+                break;
+            case "ZonedDateTime":
+                value = tomorrow;
+                constraintValidator = new AfterValidator.ForZonedDateTime();
+                break;
+            default:
+                throw new IllegalStateException("Unsupported type: " + type);
+        }
+
+        After annotation = annotation(Holder.class, "value", After.class);
+        typedValidator = initialize((ConstraintValidator<After, Object>) constraintValidator, annotation);
+        dispatchingValidator = initialize(new DispatchingValidator(), annotation);
+        polymorphicDispatchingValidator = initialize(new DispatchingValidator(), annotation);
+
+        if (!typedValidator.isValid(value, context) || !dispatchingValidator.isValid(value, context)
+                || !polymorphicDispatchingValidator.isValid(value, context)) {
+
+            throw new IllegalStateException("Expected a valid value: " + value);
+        }
+        // resolve validators for other types afterwards, so the validator for the benchmarked type is no longer the most recently resolved one
+        for (Object otherValue : new Object[] { tomorrow.toInstant(), tomorrow.toLocalDate(), tomorrow }) {
+            if (otherValue.getClass() != value.getClass()) {
+                polymorphicDispatchingValidator.isValid(otherValue, context);
+            }
+        }
+    }
+
+    @Benchmark
+    public boolean typed() {
+        return typedValidator.isValid(value, context);
+    }
+
+    @Benchmark
+    public boolean dispatching() {
+        return dispatchingValidator.isValid(value, context);
+    }
+
+    @Benchmark
+    public boolean dispatchingPolymorphic() {
+        return polymorphicDispatchingValidator.isValid(value, context);
+    }
+
+    static final class Holder {
+
+        @After(moment = "now")
+        Object value;
+    }
+}
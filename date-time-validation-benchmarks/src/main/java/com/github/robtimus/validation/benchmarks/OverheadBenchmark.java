@@ -0,0 +1,183 @@
+/*
+ * OverheadBenchmark.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.validation.benchmarks;
+
+import static com.github.robtimus.validation.benchmarks.BenchmarkSupport.annotation;
+import static com.github.robtimus.validation.benchmarks.BenchmarkSupport.context;
+import static com.github.robtimus.validation.benchmarks.BenchmarkSupport.initialize;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZonedDateTime;
+import java.time.temporal.Temporal;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+import jakarta.validation.ClockProvider;
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import jakarta.validation.constraints.PastOrPresent;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import com.github.robtimus.validation.datetime.NotAfter;
+import com.github.robtimus.validation.datetime.validators.NotAfterValidator;
+
+/**
+ * Splits the cost of validating a single value with {@code @NotAfter("now")} into layers, and compares it with {@code @PastOrPresent}:
+ * <ol>
+ * <li>{@link #comparison()}: only the comparison against a pre-computed moment.</li>
+ * <li>{@link #clockAndComparison()}: the comparison, plus retrieving the clock from the {@link ClockProvider} and computing "now".</li>
+ * <li>{@link #libraryValidator()}: calling the library's {@link ConstraintValidator} directly.</li>
+ * <li>{@link #libraryValidateValue()} and {@link #builtInValidateValue()}: validating through a Hibernate {@link Validator}.</li>
+ * </ol>
+ * The difference between consecutive layers is the overhead added by that layer.
+ *
+ * @author Rob Spoor
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+@SuppressWarnings({ "javadoc", "nls" })
+public class OverheadBenchmark {
+
+    @Param({ "Instant", "LocalDate", "ZonedDateTime" })
+    private String type;
+
+    private ValidatorFactory validatorFactory;
+    private Validator validator;
+    private ClockProvider clockProvider;
+    private ConstraintValidatorContext context;
+
+    private Temporal value;
+    private Temporal now;
+    private Function<Clock, Temporal> nowFunction;
+    private BiPredicate<Temporal, Temporal> notAfter;
+    private ConstraintValidator<NotAfter, Temporal> libraryValidator;
+
+    private String libraryProperty;
+    private String builtInProperty;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setup() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        validator = validatorFactory.getValidator();
+        clockProvider = validatorFactory.getClockProvider();
+        context = context(clockProvider);
+
+        Clock clock = clockProvider.getClock();
+        ConstraintValidator<NotAfter, ? extends Temporal> constraintValidator;
+        switch (type) {
+            case "Instant":
+                value = Instant.now(clock).minusSeconds(60);
+                nowFunction = Instant::now;
+                notAfter = (v, n) -> !((Instant) v).isAfter((Instant) n);
+                constraintValidator = new NotAfterValidator.ForInstant();
+                break;
+            case "LocalDate":
+                value = LocalDate.now(clock).minusDays(1);
+                nowFunction = LocalDate::now;
+                notAfter = (v, n) -> !((LocalDate) v).isAfter((LocalDate) n);
+                constraintValidator = new NotAfterValidator.ForLocalDate();
+                break;
+            case "ZonedDateTime":
+                value = ZonedDateTime.now(clock).minusSeconds(60);
+                nowFunction = ZonedDateTime::now;
+                notAfter = (v, n) -> !((ZonedDateTime) v).isAfter((ZonedDateTime) n);
+                constraintValidator = new NotAfterValidator.ForZonedDateTime();
+                break;
+            default:
+                throw new IllegalStateException("Unsupported type: " + type);
+        }
+        now = nowFunction.apply(clock);
+
+        libraryProperty = "library" + type;
+        builtInProperty = "builtIn" + type;
+        libraryValidator = initialize((ConstraintValidator<NotAfter, Temporal>) constraintValidator,
+                annotation(Holder.class, libraryProperty, NotAfter.class));
+    }
+
+    @TearDown
+    public void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Benchmark
+    public boolean comparison() {
+        return notAfter.test(value, now);
+    }
+
+    @Benchmark
+    public boolean clockAndComparison() {
+        return notAfter.test(value, nowFunction.apply(clockProvider.getClock()));
+    }
+
+    @Benchmark
+    public boolean libraryValidator() {
+        return libraryValidator.isValid(value, context);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<Holder>> libraryValidateValue() {
+        return validator.validateValue(Holder.class, libraryProperty, value);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<Holder>> builtInValidateValue() {
+        return validator.validateValue(Holder.class, builtInProperty, value);
+    }
+
+    static final class Holder {
+
+        @NotAfter(moment = "now")
+        Instant libraryInstant;
+
+        @NotAfter(moment = "now")
+        LocalDate libraryLocalDate;
+
+        @NotAfter(moment = "now")
+        ZonedDateTime libraryZonedDateTime;
+
+        @PastOrPresent
+        Instant builtInInstant;
+
+        @PastOrPresent
+        LocalDate builtInLocalDate;
+
+        @PastOrPresent
+        ZonedDateTime builtInZonedDateTime;
+    }
+}
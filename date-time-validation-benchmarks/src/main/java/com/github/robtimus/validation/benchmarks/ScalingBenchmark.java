@@ -0,0 +1,268 @@
+/*
+ * ScalingBenchmark.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.validation.benchmarks;
+
+import static com.github.robtimus.validation.benchmarks.BenchmarkSupport.annotation;
+import static com.github.robtimus.validation.benchmarks.BenchmarkSupport.context;
+import static com.github.robtimus.validation.benchmarks.BenchmarkSupport.initialize;
+import java.lang.annotation.Annotation;
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.Month;
+import java.util.concurrent.TimeUnit;
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+import jakarta.validation.Validation;
+import jakarta.validation.ValidatorFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import com.github.robtimus.validation.date.DateAfter;
+import com.github.robtimus.validation.date.validators.DateAfterValidator;
+import com.github.robtimus.validation.datetime.After;
+import com.github.robtimus.validation.datetime.validators.AfterValidator;
+import com.github.robtimus.validation.dayofmonth.DayOfMonthIn;
+import com.github.robtimus.validation.dayofmonth.validators.DayOfMonthInValidator;
+import com.github.robtimus.validation.dayofweek.DayOfWeekIn;
+import com.github.robtimus.validation.dayofweek.validators.DayOfWeekInValidator;
+import com.github.robtimus.validation.hour.HourIn;
+import com.github.robtimus.validation.hour.validators.HourInValidator;
+import com.github.robtimus.validation.minute.MinuteIn;
+import com.github.robtimus.validation.minute.validators.MinuteInValidator;
+import com.github.robtimus.validation.month.MonthIn;
+import com.github.robtimus.validation.month.validators.MonthInValidator;
+import com.github.robtimus.validation.time.TimeAfter;
+import com.github.robtimus.validation.time.precision.MillisecondPrecision;
+import com.github.robtimus.validation.time.precision.validators.MillisecondPrecisionValidator;
+import com.github.robtimus.validation.time.validators.TimeAfterValidator;
+import com.github.robtimus.validation.year.YearAfter;
+import com.github.robtimus.validation.year.validators.YearAfterValidator;
+import com.github.robtimus.validation.yearmonth.YearMonthAfter;
+import com.github.robtimus.validation.yearmonth.validators.YearMonthAfterValidator;
+
+/**
+ * Measures how validating {@link Instant}s scales with the number of threads, for one constraint of each module.
+ * <p>
+ * The {@code validatorInstances} parameter controls whether all threads share the same validator instances ({@code shared}, like a
+ * {@link jakarta.validation.Validator} does), or whether each thread has its own ({@code perThread}). If shared instances scale worse than
+ * per-thread instances, there is contention or false sharing on the validators themselves; if both scale badly, the contention is in shared JDK
+ * state like the system default time zone. {@link ZoneScalingBenchmark} measures that JDK state in isolation.
+ * <p>
+ * The {@link jakarta.validation.ClockProvider} is the one of the default validator factory, so the "now" paths include its cost.
+ * Use {@link ScalingRunner} to run this benchmark for several thread counts.
+ *
+ * @author Rob Spoor
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(1)
+@State(Scope.Benchmark)
+@SuppressWarnings({ "javadoc", "nls" })
+public class ScalingBenchmark {
+
+    private ValidatorFactory validatorFactory;
+    private ConstraintValidatorContext context;
+    private Validators sharedValidators;
+    private Instant value;
+
+    @Setup
+    public void setup() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        context = context(validatorFactory.getClockProvider());
+        sharedValidators = new Validators();
+        value = Instant.now().plusSeconds(3600);
+    }
+
+    @TearDown
+    public void tearDown() {
+        validatorFactory.close();
+    }
+
+    @State(Scope.Thread)
+    public static class ThreadState {
+
+        @Param({ "shared", "perThread" })
+        private String validatorInstances;
+
+        private Validators validators;
+
+        @Setup
+        public void setup(ScalingBenchmark benchmark) {
+            validators = "shared".equals(validatorInstances) ? benchmark.sharedValidators : new Validators();
+        }
+    }
+
+    @Benchmark
+    public boolean dateTimeFixed(ThreadState state) {
+        return state.validators.dateTimeFixed.isValid(value, context);
+    }
+
+    @Benchmark
+    public boolean dateTimeNow(ThreadState state) {
+        return state.validators.dateTimeNow.isValid(value, context);
+    }
+
+    @Benchmark
+    public boolean dateNowSystemZone(ThreadState state) {
+        return state.validators.dateNowSystemZone.isValid(value, context);
+    }
+
+    @Benchmark
+    public boolean dateNowExplicitZone(ThreadState state) {
+        return state.validators.dateNowExplicitZone.isValid(value, context);
+    }
+
+    @Benchmark
+    public boolean timeNow(ThreadState state) {
+        return state.validators.timeNow.isValid(value, context);
+    }
+
+    @Benchmark
+    public boolean yearMonthNow(ThreadState state) {
+        return state.validators.yearMonthNow.isValid(value, context);
+    }
+
+    @Benchmark
+    public boolean yearNow(ThreadState state) {
+        return state.validators.yearNow.isValid(value, context);
+    }
+
+    @Benchmark
+    public boolean month(ThreadState state) {
+        return state.validators.month.isValid(value, context);
+    }
+
+    @Benchmark
+    public boolean dayOfWeek(ThreadState state) {
+        return state.validators.dayOfWeek.isValid(value, context);
+    }
+
+    @Benchmark
+    public boolean dayOfMonth(ThreadState state) {
+        return state.validators.dayOfMonth.isValid(value, context);
+    }
+
+    @Benchmark
+    public boolean hour(ThreadState state) {
+        return state.validators.hour.isValid(value, context);
+    }
+
+    @Benchmark
+    public boolean minute(ThreadState state) {
+        return state.validators.minute.isValid(value, context);
+    }
+
+    @Benchmark
+    public boolean precision(ThreadState state) {
+        return state.validators.precision.isValid(value, context);
+    }
+
+    static final class Validators {
+
+        private final ConstraintValidator<After, Instant> dateTimeFixed;
+        private final ConstraintValidator<After, Instant> dateTimeNow;
+        private final ConstraintValidator<DateAfter, Instant> dateNowSystemZone;
+        private final ConstraintValidator<DateAfter, Instant> dateNowExplicitZone;
+        private final ConstraintValidator<TimeAfter, Instant> timeNow;
+        private final ConstraintValidator<YearMonthAfter, Instant> yearMonthNow;
+        private final ConstraintValidator<YearAfter, Instant> yearNow;
+        private final ConstraintValidator<MonthIn, Instant> month;
+        private final ConstraintValidator<DayOfWeekIn, Instant> dayOfWeek;
+        private final ConstraintValidator<DayOfMonthIn, Instant> dayOfMonth;
+        private final ConstraintValidator<HourIn, Instant> hour;
+        private final ConstraintValidator<MinuteIn, Instant> minute;
+        private final ConstraintValidator<MillisecondPrecision, ? super Instant> precision;
+
+        private Validators() {
+            dateTimeFixed = create(new AfterValidator.ForInstant(), "dateTimeFixed", After.class);
+            dateTimeNow = create(new AfterValidator.ForInstant(), "dateTimeNow", After.class);
+            dateNowSystemZone = create(new DateAfterValidator.ForInstant(), "dateNowSystemZone", DateAfter.class);
+            dateNowExplicitZone = create(new DateAfterValidator.ForInstant(), "dateNowExplicitZone", DateAfter.class);
+            timeNow = create(new TimeAfterValidator.ForInstant(), "timeNow", TimeAfter.class);
+            yearMonthNow = create(new YearMonthAfterValidator.ForInstant(), "yearMonthNow", YearMonthAfter.class);
+            yearNow = create(new YearAfterValidator.ForInstant(), "yearNow", YearAfter.class);
+            month = create(new MonthInValidator.ForInstant(), "month", MonthIn.class);
+            dayOfWeek = create(new DayOfWeekInValidator.ForInstant(), "dayOfWeek", DayOfWeekIn.class);
+            dayOfMonth = create(new DayOfMonthInValidator.ForInstant(), "dayOfMonth", DayOfMonthIn.class);
+            hour = create(new HourInValidator.ForInstant(), "hour", HourIn.class);
+            minute = create(new MinuteInValidator.ForInstant(), "minute", MinuteIn.class);
+            precision = create(new MillisecondPrecisionValidator.ForTemporalAccessor(), "precision", MillisecondPrecision.class);
+        }
+
+        private static <A extends Annotation, T> ConstraintValidator<A, T> create(ConstraintValidator<A, T> validator, String fieldName,
+                Class<A> annotationType) {
+
+            return initialize(validator, annotation(Holder.class, fieldName, annotationType));
+        }
+    }
+
+    static final class Holder {
+
+        @After(moment = "2000-01-01T00:00:00Z")
+        Instant dateTimeFixed;
+
+        @After(moment = "now")
+        Instant dateTimeNow;
+
+        @DateAfter(moment = "now")
+        Instant dateNowSystemZone;
+
+        @DateAfter(moment = "now", zoneId = "UTC")
+        Instant dateNowExplicitZone;
+
+        @TimeAfter(moment = "now")
+        Instant timeNow;
+
+        @YearMonthAfter(moment = "now")
+        Instant yearMonthNow;
+
+        @YearAfter(moment = "now")
+        Instant yearNow;
+
+        @MonthIn({ Month.JANUARY, Month.APRIL, Month.JULY, Month.OCTOBER })
+        Instant month;
+
+        @DayOfWeekIn({ DayOfWeek.MONDAY, DayOfWeek.TUESDAY, DayOfWeek.WEDNESDAY, DayOfWeek.THURSDAY, DayOfWeek.FRIDAY })
+        Instant dayOfWeek;
+
+        @DayOfMonthIn({ 1, 15 })
+        Instant dayOfMonth;
+
+        @HourIn({ 9, 10, 11, 12, 13, 14, 15, 16, 17 })
+        Instant hour;
+
+        @MinuteIn({ 0, 15, 30, 45 })
+        Instant minute;
+
+        @MillisecondPrecision
+        Instant precision;
+    }
+}
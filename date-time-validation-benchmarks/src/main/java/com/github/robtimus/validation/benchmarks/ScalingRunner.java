@@ -0,0 +1,132 @@
+/*
+ * ScalingRunner.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.validation.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.regex.Pattern;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the scaling benchmarks for several thread counts, and prints how well each benchmark scales compared to the lowest thread count.
+ * <p>
+ * The thread counts are taken from system property {@code benchmark.threads}, as a comma separated list; the default is
+ * {@code 1,2,4,8,16,32,64}. All arguments are passed to JMH, except that any {@code -t} argument is ignored. If no benchmarks are included using
+ * the arguments, {@link ScalingBenchmark}, {@link ZoneScalingBenchmark} and {@link SystemZoneChangeBenchmark} are run. The latter uses one
+ * thread to change the system time zone, and all other threads to validate; it is skipped for a single thread.
+ * <p>
+ * Example: {@code java -Dbenchmark.threads=1,8,64 -cp benchmarks.jar com.github.robtimus.validation.benchmarks.ScalingRunner -f 1}
+ *
+ * @author Rob Spoor
+ */
+@SuppressWarnings({ "javadoc", "nls" })
+public final class ScalingRunner {
+
+    private static final String DEFAULT_THREAD_COUNTS = "1,2,4,8,16,32,64";
+
+    private ScalingRunner() {
+    }
+
+    public static void main(String[] args) throws CommandLineOptionException, RunnerException {
+        CommandLineOptions commandLineOptions = new CommandLineOptions(args);
+        int[] threadCounts = Arrays.stream(System.getProperty("benchmark.threads", DEFAULT_THREAD_COUNTS).split(","))
+                .map(String::trim)
+                .mapToInt(Integer::parseInt)
+                .toArray();
+
+        boolean useDefaultIncludes = commandLineOptions.getIncludes().isEmpty();
+
+        List<RunResult> results = new ArrayList<>();
+        for (int threadCount : threadCounts) {
+            OptionsBuilder builder = new OptionsBuilder();
+            builder.parent(commandLineOptions);
+            builder.threads(threadCount);
+            if (useDefaultIncludes) {
+                builder.include(include(ScalingBenchmark.class));
+                builder.include(include(ZoneScalingBenchmark.class));
+            }
+            results.addAll(run(builder.build()));
+
+            if (useDefaultIncludes && threadCount > 1) {
+                Options groupOptions = new OptionsBuilder()
+                        .parent(commandLineOptions)
+                        .include(include(SystemZoneChangeBenchmark.class))
+                        .threads(threadCount)
+                        .threadGroups(threadCount - 1, 1)
+                        .build();
+                results.addAll(run(groupOptions));
+            }
+        }
+
+        printSummary(results, threadCounts);
+    }
+
+    private static String include(Class<?> benchmarkClass) {
+        return "^" + Pattern.quote(benchmarkClass.getName() + ".");
+    }
+
+    private static Collection<RunResult> run(Options options) throws RunnerException {
+        return new Runner(options).run();
+    }
+
+    private static void printSummary(List<RunResult> results, int[] threadCounts) {
+        // benchmark (including parameters) -> thread count -> score
+        Map<String, TreeMap<Integer, Double>> scores = new TreeMap<>();
+        Map<String, String> units = new TreeMap<>();
+        for (RunResult result : results) {
+            String key = key(result);
+            scores.computeIfAbsent(key, k -> new TreeMap<>()).put(result.getParams().getThreads(), result.getPrimaryResult().getScore());
+            units.put(key, result.getPrimaryResult().getScoreUnit());
+        }
+
+        System.out.println();
+        System.out.println("Scaling summary; each cell is score (efficiency), where efficiency is the score relative to perfectly linear scaling");
+        System.out.println("from the lowest measured thread count");
+        for (Map.Entry<String, TreeMap<Integer, Double>> entry : scores.entrySet()) {
+            StringBuilder line = new StringBuilder(entry.getKey()).append(" [").append(units.get(entry.getKey())).append(']');
+            TreeMap<Integer, Double> scoresPerThreadCount = entry.getValue();
+            Map.Entry<Integer, Double> base = scoresPerThreadCount.firstEntry();
+            for (int threadCount : threadCounts) {
+                Double score = scoresPerThreadCount.get(threadCount);
+                if (score != null) {
+                    double linear = base.getValue() * threadCount / base.getKey();
+                    line.append(String.format("%n    %3d threads: %14.3f (%3.0f%%)", threadCount, score, 100 * score / linear));
+                }
+            }
+            System.out.println(line);
+        }
+    }
+
+    private static String key(RunResult result) {
+        StringBuilder key = new StringBuilder(result.getParams().getBenchmark());
+        for (String paramKey : result.getParams().getParamsKeys()) {
+            key.append(", ").append(paramKey).append('=').append(result.getParams().getParam(paramKey));
+        }
+        return key.toString();
+    }
+}
@@ -0,0 +1,169 @@
+/*
+ * SystemZoneChangeBenchmark.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.validation.benchmarks;
+
+import static com.github.robtimus.validation.benchmarks.BenchmarkSupport.annotation;
+import static com.github.robtimus.validation.benchmarks.BenchmarkSupport.context;
+import static com.github.robtimus.validation.benchmarks.BenchmarkSupport.initialize;
+import java.time.Instant;
+import java.util.TimeZone;
+import java.util.concurrent.TimeUnit;
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+import jakarta.validation.Validation;
+import jakarta.validation.ValidatorFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import com.github.robtimus.validation.date.DateAfter;
+import com.github.robtimus.validation.datetime.base.ZoneIdUtils;
+import com.github.robtimus.validation.date.validators.DateAfterValidator;
+import com.github.robtimus.validation.hour.HourIn;
+import com.github.robtimus.validation.hour.validators.HourInValidator;
+
+/**
+ * Measures validators that use the system default time zone while another thread in the same group keeps changing that time zone.
+ * Each change invalidates the default {@link TimeZone} that all readers copy, so this shows the worst case for {@code zoneId = "system"}.
+ * Compare the {@code validateDate} and {@code validateHour} results with {@link ScalingBenchmark#dateNowSystemZone} and
+ * {@link ScalingBenchmark#hour} at the same number of reader threads.
+ * <p>
+ * The {@code validateTrackedHour} benchmark uses an hour validator that was initialized while
+ * {@link ZoneIdUtils#enableSystemZoneTracking() system zone tracking} was enabled. Its writer calls {@link ZoneIdUtils#refreshSystemZone()}
+ * after each change, and its readers only read the tracked zone id from a volatile field for each value. Run it with {@code -prof gc} to see
+ * that tracking does not allocate per value, unlike {@link java.time.ZoneId#systemDefault()}.
+ * <p>
+ * Use {@link ScalingRunner} to run this benchmark for several thread counts; it keeps one writer per group, and uses all other threads as
+ * readers.
+ *
+ * @author Rob Spoor
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Group)
+@SuppressWarnings({ "javadoc", "nls" })
+public class SystemZoneChangeBenchmark {
+
+    private static final TimeZone[] TIME_ZONES = {
+            TimeZone.getTimeZone("Europe/Amsterdam"),
+            TimeZone.getTimeZone("America/New_York"),
+    };
+
+    private static final TimeZone ORIGINAL_TIME_ZONE = TimeZone.getDefault();
+
+    private int timeZoneIndex;
+
+    private ValidatorFactory validatorFactory;
+    private ConstraintValidatorContext context;
+    private ConstraintValidator<DateAfter, Instant> dateValidator;
+    private ConstraintValidator<HourIn, Instant> hourValidator;
+    private ConstraintValidator<HourIn, Instant> trackedHourValidator;
+    private Instant value;
+
+    @Setup
+    public void setup() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        context = context(validatorFactory.getClockProvider());
+        dateValidator = initialize(new DateAfterValidator.ForInstant(), annotation(Holder.class, "date", DateAfter.class));
+        hourValidator = initialize(new HourInValidator.ForInstant(), annotation(Holder.class, "hour", HourIn.class));
+        ZoneIdUtils.enableSystemZoneTracking();
+        try {
+            trackedHourValidator = initialize(new HourInValidator.ForInstant(), annotation(Holder.class, "hour", HourIn.class));
+        } finally {
+            ZoneIdUtils.disableSystemZoneTracking();
+        }
+        value = Instant.now().plusSeconds(3600);
+    }
+
+    @TearDown
+    public void tearDown() {
+        validatorFactory.close();
+
+        TimeZone.setDefault(ORIGINAL_TIME_ZONE);
+        ZoneIdUtils.refreshSystemZone();
+    }
+
+    @Benchmark
+    @Group("changingDate")
+    @GroupThreads(3)
+    public boolean validateDate() {
+        return dateValidator.isValid(value, context);
+    }
+
+    @Benchmark
+    @Group("changingDate")
+    @GroupThreads(1)
+    public void changeSystemZoneForDate() {
+        changeSystemZone();
+    }
+
+    @Benchmark
+    @Group("changingHour")
+    @GroupThreads(3)
+    public boolean validateHour() {
+        return hourValidator.isValid(value, context);
+    }
+
+    @Benchmark
+    @Group("changingHour")
+    @GroupThreads(1)
+    public void changeSystemZoneForHour() {
+        changeSystemZone();
+    }
+
+    @Benchmark
+    @Group("trackingHour")
+    @GroupThreads(3)
+    public boolean validateTrackedHour() {
+        return trackedHourValidator.isValid(value, context);
+    }
+
+    @Benchmark
+    @Group("trackingHour")
+    @GroupThreads(1)
+    public void changeTrackedSystemZone() {
+        changeSystemZone();
+        ZoneIdUtils.refreshSystemZone();
+    }
+
+    private void changeSystemZone() {
+        timeZoneIndex = (timeZoneIndex + 1) % TIME_ZONES.length;
+        TimeZone.setDefault(TIME_ZONES[timeZoneIndex]);
+    }
+
+    static final class Holder {
+
+        @DateAfter(moment = "now")
+        Instant date;
+
+        @HourIn({ 9, 10, 11, 12, 13, 14, 15, 16, 17 })
+        Instant hour;
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * ZoneScalingBenchmark.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.validation.benchmarks;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.zone.ZoneRules;
+import java.util.concurrent.TimeUnit;
+import jakarta.validation.ClockProvider;
+import jakarta.validation.Validation;
+import jakarta.validation.ValidatorFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures how the JDK and Bean Validation operations that are on the hot path of the validators scale with the number of threads.
+ * These are the operations that touch shared state: the {@link ClockProvider} of the default validator factory, which returns a new
+ * {@link Clock#systemDefaultZone()} for each call, {@link ZoneId#systemDefault()}, which copies the default {@link java.util.TimeZone}, and the
+ * lookup of {@link ZoneRules}.
+ * <p>
+ * Use {@link ScalingRunner} to run this benchmark for several thread counts.
+ *
+ * @author Rob Spoor
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(1)
+@State(Scope.Benchmark)
+@SuppressWarnings({ "javadoc", "nls" })
+public class ZoneScalingBenchmark {
+
+    private static final String ZONE_ID = "Europe/Amsterdam";
+
+    private ValidatorFactory validatorFactory;
+    private ClockProvider clockProvider;
+    private Clock clock;
+    private ZoneId zoneId;
+    private ZoneRules zoneRules;
+    private Instant value;
+
+    @Setup
+    public void setup() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        clockProvider = validatorFactory.getClockProvider();
+        clock = Clock.systemUTC();
+        zoneId = ZoneId.of(ZONE_ID);
+        zoneRules = zoneId.getRules();
+        value = Instant.now();
+    }
+
+    @TearDown
+    public void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Benchmark
+    public Clock clockProvider() {
+        return clockProvider.getClock();
+    }
+
+    @Benchmark
+    public Instant instantNowFromClockProvider() {
+        return Instant.now(clockProvider.getClock());
+    }
+
+    @Benchmark
+    public Instant instantNowFromFixedZoneClock() {
+        return Instant.now(clock);
+    }
+
+    @Benchmark
+    public ZoneId systemDefaultZone() {
+        return ZoneId.systemDefault();
+    }
+
+    @Benchmark
+    public ZoneId zoneIdOf() {
+        return ZoneId.of(ZONE_ID);
+    }
+
+    @Benchmark
+    public ZoneRules zoneRules() {
+        return zoneId.getRules();
+    }
+
+    @Benchmark
+    public ZoneOffset zoneRulesOffset() {
+        return zoneRules.getOffset(value);
+    }
+
+    @Benchmark
+    public ZonedDateTime atSystemDefaultZone() {
+        return value.atZone(ZoneId.systemDefault());
+    }
+
+    @Benchmark
+    public ZonedDateTime atZone() {
+        return value.atZone(zoneId);
+    }
+}
@@ -0,0 +1,265 @@
+/*
+ * ChunkValidator.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.validation.datetime.cli;
+
+import java.nio.charset.StandardCharsets;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.LongPredicate;
+
+/**
+ * A validator for chunks of complete records. Timestamps are parsed directly from the chunk bytes, and validated as epoch values.
+ * <p>
+ * Instances are thread-safe; each call to {@link #validate(byte[], int)} uses its own parse state.
+ *
+ * @author Rob Spoor
+ */
+final class ChunkValidator {
+
+    /** The reason for values that are not epoch values or ISO 8601 dates or date-times. */
+    static final String UNPARSEABLE = "unparseable"; //$NON-NLS-1$
+    /** The reason for records that could not be scanned. */
+    static final String MALFORMED = "malformed record"; //$NON-NLS-1$
+
+    private final RecordFormat format;
+    private final ZoneId zone;
+    private final LongPredicate[] epochValuePredicates;
+    private final LongPredicate[] isoPredicates;
+    private final String[] constraints;
+    private final boolean collectViolations;
+
+    /**
+     * Creates a new chunk validator.
+     *
+     * @param format The format of the records.
+     * @param zone The zone for ISO 8601 values without offset.
+     * @param epochValuePredicates The predicates for numeric values, one per constraint.
+     * @param isoPredicates The predicates for ISO 8601 values, as epoch nanoseconds, one per constraint.
+     * @param constraints The textual representations of the constraints.
+     * @param collectViolations {@code true} to collect violations, or {@code false} to only count them.
+     */
+    ChunkValidator(RecordFormat format, ZoneId zone, LongPredicate[] epochValuePredicates, LongPredicate[] isoPredicates, String[] constraints,
+            boolean collectViolations) {
+
+        this.format = format;
+        this.zone = zone;
+        this.epochValuePredicates = epochValuePredicates.clone();
+        this.isoPredicates = isoPredicates.clone();
+        this.constraints = constraints.clone();
+        this.collectViolations = collectViolations;
+    }
+
+    /**
+     * Validates a chunk of records.
+     *
+     * @param bytes The bytes of the chunk. The chunk must end with a line separator, unless it is the last chunk.
+     * @param length The number of bytes of the chunk.
+     * @return The result of the validation.
+     */
+    Result validate(byte[] bytes, int length) {
+        TimestampParser parser = new TimestampParser(zone);
+        List<String> fieldNames = format.fieldNames();
+        int fieldCount = fieldNames.size();
+        int[] fieldStarts = new int[fieldCount];
+        int[] fieldEnds = new int[fieldCount];
+
+        Result result = new Result();
+        int lineStart = 0;
+        while (lineStart < length) {
+            int lineEnd = indexOf(bytes, (byte) '\n', lineStart, length);
+            int nextLineStart = lineEnd + 1;
+            if (lineEnd > lineStart && bytes[lineEnd - 1] == '\r') {
+                lineEnd--;
+            }
+            long line = result.lineCount++;
+
+            if (lineEnd == lineStart) {
+                // ignore empty lines
+            } else if (!format.scan(bytes, lineStart, lineEnd, fieldStarts, fieldEnds)) {
+                result.recordCount++;
+                result.malformedCount++;
+                result.addViolation(collectViolations, line, null, bytes, lineStart, lineEnd, MALFORMED);
+            } else {
+                result.recordCount++;
+                for (int i = 0; i < fieldCount; i++) {
+                    validateField(bytes, fieldStarts[i], fieldEnds[i], fieldNames.get(i), line, parser, result);
+                }
+            }
+            lineStart = nextLineStart;
+        }
+        return result;
+    }
+
+    private void validateField(byte[] bytes, int fieldStart, int fieldEnd, String fieldName, long line, TimestampParser parser, Result result) {
+        if (fieldStart == RecordFormat.MISSING) {
+            return;
+        }
+        int start = fieldStart;
+        int end = fieldEnd;
+        while (start < end && bytes[start] == ' ') {
+            start++;
+        }
+        while (end > start && bytes[end - 1] == ' ') {
+            end--;
+        }
+        if (start == end) {
+            // empty values are treated like null, and are therefore valid
+            return;
+        }
+
+        result.valueCount++;
+        LongPredicate[] predicates;
+        if (TimestampParser.isEpochValue(bytes, start, end)) {
+            predicates = parser.parseEpochValue(bytes, start, end) ? epochValuePredicates : null;
+        } else {
+            predicates = parser.parseIsoTimestamp(bytes, start, end) ? isoPredicates : null;
+        }
+        if (predicates == null) {
+            result.unparseableCount++;
+            result.addViolation(collectViolations, line, fieldName, bytes, start, end, UNPARSEABLE);
+            return;
+        }
+
+        long epochValue = parser.epochValue();
+        boolean valid = true;
+        for (int i = 0; i < predicates.length; i++) {
+            if (!predicates[i].test(epochValue)) {
+                valid = false;
+                result.addViolation(collectViolations, line, fieldName, bytes, start, end, constraints[i]);
+            }
+        }
+        if (!valid) {
+            result.invalidCount++;
+        }
+    }
+
+    private static int indexOf(byte[] bytes, byte b, int start, int end) {
+        for (int i = start; i < end; i++) {
+            if (bytes[i] == b) {
+                return i;
+            }
+        }
+        return end;
+    }
+
+    /**
+     * The result of validating a chunk.
+     *
+     * @author Rob Spoor
+     */
+    static final class Result {
+
+        private long lineCount;
+        private long recordCount;
+        private long valueCount;
+        private long invalidCount;
+        private long unparseableCount;
+        private long malformedCount;
+        private List<Violation> violations = Collections.emptyList();
+
+        private void addViolation(boolean collect, long line, String field, byte[] bytes, int start, int end, String reason) {
+            if (collect) {
+                if (violations.isEmpty()) {
+                    violations = new ArrayList<>();
+                }
+                violations.add(new Violation(line, field, new String(bytes, start, end - start, StandardCharsets.UTF_8), reason));
+            }
+        }
+
+        long lineCount() {
+            return lineCount;
+        }
+
+        long recordCount() {
+            return recordCount;
+        }
+
+        long valueCount() {
+            return valueCount;
+        }
+
+        long invalidCount() {
+            return invalidCount;
+        }
+
+        long unparseableCount() {
+            return unparseableCount;
+        }
+
+        long malformedCount() {
+            return malformedCount;
+        }
+
+        List<Violation> violations() {
+            return violations;
+        }
+    }
+
+    /**
+     * A single violation.
+     *
+     * @author Rob Spoor
+     */
+    static final class Violation {
+
+        private final long line;
+        private final String field;
+        private final String value;
+        private final String reason;
+
+        private Violation(long line, String field, String value, String reason) {
+            this.line = line;
+            this.field = field;
+            this.value = value;
+            this.reason = reason;
+        }
+
+        /**
+         * Returns the 0-based line index within the chunk.
+         *
+         * @return The 0-based line index within the chunk.
+         */
+        long line() {
+            return line;
+        }
+
+        /**
+         * Returns the name of the field, or {@code null} for malformed records.
+         *
+         * @return The name of the field, or {@code null} for malformed records.
+         */
+        String field() {
+            return field;
+        }
+
+        /**
+         * Returns the value, or the entire record for malformed records.
+         *
+         * @return The value, or the entire record for malformed records.
+         */
+        String value() {
+            return value;
+        }
+
+        String reason() {
+            return reason;
+        }
+    }
+}
@@ -0,0 +1,362 @@
+/*
+ * ConstraintSpec.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.validation.datetime.cli;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Array;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import jakarta.validation.Constraint;
+
+/**
+ * A textual specification of a constraint annotation, for instance {@code DateNotBefore(moment=2024-01-01,zoneId=UTC)}.
+ * <p>
+ * The syntax is {@code Name(attribute=value,...)}. The parentheses can be omitted if no attributes are needed, and the {@code value} attribute
+ * can be given without name if it is the only attribute. Array values are written as {@code [value,...]}. Values can be quoted using single or
+ * double quotes if they contain commas, parentheses or brackets.
+ * <p>
+ * The name can be the simple name of any of the constraint annotations of this project, or the fully qualified name of any other constraint
+ * annotation.
+ *
+ * @author Rob Spoor
+ */
+final class ConstraintSpec {
+
+    private static final String[] PACKAGES = {
+            "com.github.robtimus.validation.datetime", //$NON-NLS-1$
+            "com.github.robtimus.validation.date", //$NON-NLS-1$
+            "com.github.robtimus.validation.time", //$NON-NLS-1$
+            "com.github.robtimus.validation.yearmonth", //$NON-NLS-1$
+            "com.github.robtimus.validation.year", //$NON-NLS-1$
+            "com.github.robtimus.validation.month", //$NON-NLS-1$
+            "com.github.robtimus.validation.dayofweek", //$NON-NLS-1$
+            "com.github.robtimus.validation.dayofmonth", //$NON-NLS-1$
+            "com.github.robtimus.validation.hour", //$NON-NLS-1$
+            "com.github.robtimus.validation.minute", //$NON-NLS-1$
+            "com.github.robtimus.validation.time.precision", //$NON-NLS-1$
+    };
+
+    private static final String VALUE = "value"; //$NON-NLS-1$
+
+    private final String text;
+    private final Annotation annotation;
+
+    private ConstraintSpec(String text, Annotation annotation) {
+        this.text = text;
+        this.annotation = annotation;
+    }
+
+    /**
+     * Parses a constraint specification.
+     *
+     * @param text The constraint specification to parse.
+     * @return The parsed constraint specification.
+     * @throws IllegalArgumentException If the given text is not a valid constraint specification.
+     */
+    static ConstraintSpec parse(String text) {
+        String trimmed = text.trim();
+        int parenthesis = trimmed.indexOf('(');
+        String name = parenthesis == -1 ? trimmed : trimmed.substring(0, parenthesis).trim();
+        Class<? extends Annotation> annotationType = annotationType(name);
+
+        Map<String, String> attributes = new LinkedHashMap<>();
+        if (parenthesis != -1) {
+            if (!trimmed.endsWith(")")) { //$NON-NLS-1$
+                throw new IllegalArgumentException(String.format("Missing ) in constraint: %s", text)); //$NON-NLS-1$
+            }
+            List<String> parts = split(trimmed.substring(parenthesis + 1, trimmed.length() - 1), text);
+            for (String part : parts) {
+                int equals = indexOfUnquoted(part, '=');
+                if (equals == -1) {
+                    if (parts.size() != 1) {
+                        throw new IllegalArgumentException(String.format("Missing attribute name in constraint: %s", text)); //$NON-NLS-1$
+                    }
+                    attributes.put(VALUE, part);
+                } else {
+                    attributes.put(part.substring(0, equals).trim(), part.substring(equals + 1).trim());
+                }
+            }
+        }
+
+        return new ConstraintSpec(trimmed, annotation(annotationType, attributes, text));
+    }
+
+    private static Class<? extends Annotation> annotationType(String name) {
+        if (name.isEmpty()) {
+            throw new IllegalArgumentException("Missing constraint name"); //$NON-NLS-1$
+        }
+        if (name.indexOf('.') != -1) {
+            return annotationType(name, loadClass(name));
+        }
+        for (String packageName : PACKAGES) {
+            Class<?> type = loadClass(packageName + "." + name); //$NON-NLS-1$
+            if (type != null) {
+                return annotationType(name, type);
+            }
+        }
+        throw new IllegalArgumentException(String.format("Unknown constraint: %s", name)); //$NON-NLS-1$
+    }
+
+    private static Class<? extends Annotation> annotationType(String name, Class<?> type) {
+        if (type == null || !type.isAnnotation() || !type.isAnnotationPresent(Constraint.class)) {
+            throw new IllegalArgumentException(String.format("Unknown constraint: %s", name)); //$NON-NLS-1$
+        }
+        return type.asSubclass(Annotation.class);
+    }
+
+    private static Class<?> loadClass(String className) {
+        try {
+            return Class.forName(className, false, ConstraintSpec.class.getClassLoader());
+        } catch (@SuppressWarnings("unused") ClassNotFoundException e) {
+            return null;
+        }
+    }
+
+    private static Annotation annotation(Class<? extends Annotation> annotationType, Map<String, String> attributes, String text) {
+        Map<String, Object> values = new LinkedHashMap<>();
+        for (Method method : annotationType.getDeclaredMethods()) {
+            String attribute = method.getName();
+            String value = attributes.remove(attribute);
+            if (value != null) {
+                values.put(attribute, convert(value, method.getReturnType(), attribute, text));
+            } else if (method.getDefaultValue() != null) {
+                values.put(attribute, method.getDefaultValue());
+            } else {
+                throw new IllegalArgumentException(String.format("Missing attribute %s in constraint: %s", attribute, text)); //$NON-NLS-1$
+            }
+        }
+        if (!attributes.isEmpty()) {
+            throw new IllegalArgumentException(String.format("Unknown attributes %s in constraint: %s", attributes.keySet(), text)); //$NON-NLS-1$
+        }
+        return annotationType.cast(Proxy.newProxyInstance(annotationType.getClassLoader(), new Class<?>[] { annotationType },
+                new AnnotationHandler(annotationType, values)));
+    }
+
+    private static Object convert(String value, Class<?> type, String attribute, String text) {
+        try {
+            if (type.isArray()) {
+                String unquoted = unquote(value);
+                if (!unquoted.startsWith("[") || !unquoted.endsWith("]")) { //$NON-NLS-1$ //$NON-NLS-2$
+                    // a single value
+                    Object array = Array.newInstance(type.getComponentType(), 1);
+                    Array.set(array, 0, convert(unquoted, type.getComponentType()));
+                    return array;
+                }
+                List<String> elements = split(unquoted.substring(1, unquoted.length() - 1), text);
+                Object array = Array.newInstance(type.getComponentType(), elements.size());
+                for (int i = 0; i < elements.size(); i++) {
+                    Array.set(array, i, convert(unquote(elements.get(i)), type.getComponentType()));
+                }
+                return array;
+            }
+            return convert(unquote(value), type);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(String.format("Invalid value for attribute %s in constraint: %s", attribute, text), e); //$NON-NLS-1$
+        }
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private static Object convert(String value, Class<?> type) {
+        if (type == String.class) {
+            return value;
+        }
+        if (type == int.class) {
+            return Integer.parseInt(value);
+        }
+        if (type == long.class) {
+            return Long.parseLong(value);
+        }
+        if (type == double.class) {
+            return Double.parseDouble(value);
+        }
+        if (type == boolean.class) {
+            if (!"true".equals(value) && !"false".equals(value)) { //$NON-NLS-1$ //$NON-NLS-2$
+                throw new IllegalArgumentException(value);
+            }
+            return Boolean.parseBoolean(value);
+        }
+        if (type.isEnum()) {
+            return Enum.valueOf((Class) type, value.toUpperCase());
+        }
+        throw new IllegalArgumentException(String.format("Unsupported attribute type: %s", type.getName())); //$NON-NLS-1$
+    }
+
+    private static List<String> split(String text, String spec) {
+        List<String> parts = new ArrayList<>();
+        if (text.trim().isEmpty()) {
+            return parts;
+        }
+        int depth = 0;
+        char quote = 0;
+        int start = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (quote != 0) {
+                if (c == quote) {
+                    quote = 0;
+                }
+            } else if (c == '"' || c == '\'') {
+                quote = c;
+            } else if (c == '[' || c == '(') {
+                depth++;
+            } else if (c == ']' || c == ')') {
+                depth--;
+            } else if (c == ',' && depth == 0) {
+                parts.add(text.substring(start, i).trim());
+                start = i + 1;
+            }
+        }
+        if (quote != 0 || depth != 0) {
+            throw new IllegalArgumentException(String.format("Unbalanced quotes or brackets in constraint: %s", spec)); //$NON-NLS-1$
+        }
+        parts.add(text.substring(start).trim());
+        return parts;
+    }
+
+    private static int indexOfUnquoted(String text, char c) {
+        char quote = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char current = text.charAt(i);
+            if (quote != 0) {
+                if (current == quote) {
+                    quote = 0;
+                }
+            } else if (current == '"' || current == '\'') {
+                quote = current;
+            } else if (current == c) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static String unquote(String value) {
+        if (value.length() >= 2) {
+            char first = value.charAt(0);
+            if ((first == '"' || first == '\'') && value.charAt(value.length() - 1) == first) {
+                return value.substring(1, value.length() - 1);
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Returns the constraint annotation.
+     *
+     * @return The constraint annotation.
+     */
+    Annotation annotation() {
+        return annotation;
+    }
+
+    @Override
+    public String toString() {
+        return text;
+    }
+
+    private static final class AnnotationHandler implements InvocationHandler {
+
+        private final Class<? extends Annotation> annotationType;
+        private final Map<String, Object> values;
+
+        private AnnotationHandler(Class<? extends Annotation> annotationType, Map<String, Object> values) {
+            this.annotationType = annotationType;
+            this.values = values;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (values.containsKey(name) && method.getParameterCount() == 0) {
+                return cloneIfArray(values.get(name));
+            }
+            switch (name) {
+                case "annotationType": //$NON-NLS-1$
+                    return annotationType;
+                case "equals": //$NON-NLS-1$
+                    return annotationEquals(args[0]);
+                case "hashCode": //$NON-NLS-1$
+                    return annotationHashCode();
+                case "toString": //$NON-NLS-1$
+                    return annotationToString();
+                default:
+                    throw new IllegalStateException(String.format("Unsupported method: %s", method)); //$NON-NLS-1$
+            }
+        }
+
+        private boolean annotationEquals(Object other) throws ReflectiveOperationException {
+            if (!annotationType.isInstance(other)) {
+                return false;
+            }
+            for (Map.Entry<String, Object> entry : values.entrySet()) {
+                Object otherValue = annotationType.getMethod(entry.getKey()).invoke(other);
+                if (!Objects.deepEquals(entry.getValue(), otherValue)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private int annotationHashCode() {
+            // as defined by Annotation.hashCode()
+            int hashCode = 0;
+            for (Map.Entry<String, Object> entry : values.entrySet()) {
+                hashCode += (127 * entry.getKey().hashCode()) ^ valueHashCode(entry.getValue());
+            }
+            return hashCode;
+        }
+
+        private static int valueHashCode(Object value) {
+            if (value.getClass().isArray()) {
+                return Arrays.deepHashCode(new Object[] { value }) - 31;
+            }
+            return value.hashCode();
+        }
+
+        private String annotationToString() {
+            StringBuilder sb = new StringBuilder().append('@').append(annotationType.getName()).append('(');
+            String separator = ""; //$NON-NLS-1$
+            for (Map.Entry<String, Object> entry : values.entrySet()) {
+                String value = Arrays.deepToString(new Object[] { entry.getValue() });
+                sb.append(separator).append(entry.getKey()).append('=').append(value, 1, value.length() - 1);
+                separator = ", "; //$NON-NLS-1$
+            }
+            return sb.append(')').toString();
+        }
+
+        private static Object cloneIfArray(Object value) {
+            if (value instanceof Object[]) {
+                return ((Object[]) value).clone();
+            }
+            if (value instanceof int[]) {
+                return ((int[]) value).clone();
+            }
+            if (value instanceof long[]) {
+                return ((long[]) value).clone();
+            }
+            return value;
+        }
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * DateTimeValidationCli.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.validation.datetime.cli;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintStream;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.function.LongPredicate;
+import com.github.robtimus.validation.datetime.base.BulkValidator;
+import com.github.robtimus.validation.datetime.base.EpochUnit;
+
+/**
+ * A command line tool for validating timestamps in CSV and NDJSON files against constraint annotations.
+ * <p>
+ * Files are read in chunks that are validated in parallel, with a bounded number of chunks in memory at any time. Timestamps are parsed directly
+ * from the bytes of each chunk into epoch values, without creating objects for records or values. Numeric values are treated as epoch values in a
+ * configurable unit; other values are parsed as ISO 8601 dates or date-times. See {@link BulkValidator} for which constraint annotations are
+ * supported. The current time is determined once, before the file is read.
+ * <p>
+ * Run with {@code --help} for a list of all options. The exit code is {@code 0} if all values are valid, {@code 1} if any value is invalid or
+ * could not be parsed, and {@code 2} if the arguments are invalid or the file could not be read.
+ *
+ * @author Rob Spoor
+ */
+public final class DateTimeValidationCli {
+
+    static final int EXIT_VALID = 0;
+    static final int EXIT_INVALID = 1;
+    static final int EXIT_ERROR = 2;
+
+    private static final String STDIN = "-"; //$NON-NLS-1$
+
+    private DateTimeValidationCli() {
+    }
+
+    /**
+     * Runs the command line tool. This method calls {@link System#exit(int)} with the exit code.
+     *
+     * @param args The command line arguments.
+     */
+    public static void main(String... args) {
+        System.exit(run(args, System.in, System.out, System.err));
+    }
+
+    @SuppressWarnings("nls")
+    static int run(String[] args, InputStream in, PrintStream out, PrintStream err) {
+        Options options;
+        LongPredicate[] epochValuePredicates;
+        LongPredicate[] isoPredicates;
+        String[] constraints;
+        try {
+            options = Options.parse(args);
+            if (options.help()) {
+                out.println(Options.USAGE);
+                return EXIT_VALID;
+            }
+
+            List<ConstraintSpec> specs = options.constraints();
+            epochValuePredicates = new LongPredicate[specs.size()];
+            isoPredicates = new LongPredicate[specs.size()];
+            constraints = new String[specs.size()];
+            for (int i = 0; i < specs.size(); i++) {
+                ConstraintSpec spec = specs.get(i);
+                BulkValidator validator = BulkValidator.forConstraint(spec.annotation());
+                // the predicates determine the current time, so create them before reading the file
+                epochValuePredicates[i] = validator.epochValuePredicate(options.epochUnit());
+                isoPredicates[i] = validator.epochValuePredicate(EpochUnit.NANOSECONDS);
+                constraints[i] = spec.toString();
+            }
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            err.println(e.getMessage());
+            err.println();
+            err.println(Options.USAGE);
+            return EXIT_ERROR;
+        }
+
+        PrintWriter writer = new PrintWriter(new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8)));
+        boolean header = options.header() && options.isCsv();
+        StreamValidator streamValidator = new StreamValidator(options.chunkSize(), options.threads());
+        try (InputStream input = STDIN.equals(options.file()) ? in : Files.newInputStream(Paths.get(options.file()))) {
+            Summary summary = streamValidator.validate(input, header,
+                    headerLine -> new ChunkValidator(recordFormat(options, headerLine), options.zone(), epochValuePredicates, isoPredicates,
+                            constraints, !options.countOnly()),
+                    writer::println);
+            writer.flush();
+            err.println(summary);
+            return summary.hasViolations() ? EXIT_INVALID : EXIT_VALID;
+        } catch (IOException | IllegalArgumentException e) {
+            writer.flush();
+            err.println("Error: " + e.getMessage());
+            return EXIT_ERROR;
+        }
+    }
+
+    private static RecordFormat recordFormat(Options options, byte[] headerLine) {
+        List<String> fields = options.fields();
+        if (!options.isCsv()) {
+            return RecordFormat.ndjson(fields);
+        }
+        int[] columnIndexes;
+        if (headerLine != null) {
+            columnIndexes = RecordFormat.csvColumnIndexes(headerLine, fields, options.delimiter());
+        } else {
+            columnIndexes = fields.stream()
+                    .mapToInt(field -> Integer.parseInt(field) - 1)
+                    .toArray();
+        }
+        return RecordFormat.csv(fields, columnIndexes, options.delimiter());
+    }
+}
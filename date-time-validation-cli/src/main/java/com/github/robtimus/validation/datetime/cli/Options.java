@@ -0,0 +1,290 @@
+/*
+ * Options.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.validation.datetime.cli;
+
+import java.time.DateTimeException;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import com.github.robtimus.validation.datetime.base.EpochUnit;
+
+/**
+ * The command line options of {@link DateTimeValidationCli}.
+ *
+ * @author Rob Spoor
+ */
+final class Options {
+
+    /** The usage message. */
+    @SuppressWarnings("nls")
+    static final String USAGE = String.join(System.lineSeparator(),
+            "Usage: date-time-validation-cli [options] <file>",
+            "",
+            "Validates timestamps in a CSV or NDJSON file. Use - as file to read from standard input.",
+            "Violations are written to standard output as: line<TAB>field<TAB>value<TAB>reason",
+            "",
+            "Options:",
+            "  --format <csv|ndjson>      The file format; defaults to ndjson for .ndjson and .jsonl files, and csv otherwise",
+            "  --field <name>             A CSV column or top-level JSON field to validate; can be repeated",
+            "  --constraint <constraint>  A constraint to validate all fields against, e.g. 'DateNotBefore(moment=2024-01-01,zoneId=UTC)';",
+            "                             can be repeated",
+            "  --epoch-unit <unit>        The unit of numeric values: seconds, millis (default), micros or nanos",
+            "  --zone <zone>              The zone of ISO 8601 values without offset; default UTC",
+            "  --delimiter <char>         The CSV delimiter; default ,",
+            "  --no-header                The CSV file has no header; fields are 1-based column indexes",
+            "  --threads <count>          The number of threads; default the number of available processors",
+            "  --chunk-size <size>        The size of chunks, optionally with suffix K or M; default 8M; no line may be longer",
+            "  --count-only               Only report the number of violations",
+            "  --help                     Shows this message");
+
+    private static final int DEFAULT_CHUNK_SIZE = 8 * 1024 * 1024;
+    private static final int MIN_CHUNK_SIZE = 1024;
+    private static final int KILO = 1024;
+
+    private String file;
+    private String format;
+    private final List<String> fields = new ArrayList<>();
+    private final List<ConstraintSpec> constraints = new ArrayList<>();
+    private EpochUnit epochUnit = EpochUnit.MILLISECONDS;
+    private ZoneId zone = ZoneOffset.UTC;
+    private byte delimiter = ',';
+    private boolean header = true;
+    private int threads = Runtime.getRuntime().availableProcessors();
+    private int chunkSize = DEFAULT_CHUNK_SIZE;
+    private boolean countOnly;
+    private boolean help;
+
+    private Options() {
+    }
+
+    /**
+     * Parses command line arguments.
+     *
+     * @param args The command line arguments to parse.
+     * @return The parsed options.
+     * @throws IllegalArgumentException If the arguments are invalid.
+     */
+    @SuppressWarnings("nls")
+    static Options parse(String... args) {
+        Options options = new Options();
+        for (int i = 0; i < args.length; i++) {
+            String arg = args[i];
+            switch (arg) {
+                case "--format":
+                    options.format = format(value(args, ++i, arg));
+                    break;
+                case "--field":
+                case "--column":
+                    options.fields.add(value(args, ++i, arg));
+                    break;
+                case "--constraint":
+                    options.constraints.add(ConstraintSpec.parse(value(args, ++i, arg)));
+                    break;
+                case "--epoch-unit":
+                    options.epochUnit = epochUnit(value(args, ++i, arg));
+                    break;
+                case "--zone":
+                    options.zone = zone(value(args, ++i, arg));
+                    break;
+                case "--delimiter":
+                    options.delimiter = delimiter(value(args, ++i, arg));
+                    break;
+                case "--no-header":
+                    options.header = false;
+                    break;
+                case "--threads":
+                    options.threads = positiveInt(value(args, ++i, arg), arg);
+                    break;
+                case "--chunk-size":
+                    options.chunkSize = chunkSize(value(args, ++i, arg));
+                    break;
+                case "--count-only":
+                    options.countOnly = true;
+                    break;
+                case "--help":
+                    options.help = true;
+                    break;
+                default:
+                    if (arg.startsWith("--")) {
+                        throw new IllegalArgumentException(String.format("Unknown option: %s", arg));
+                    }
+                    if (options.file != null) {
+                        throw new IllegalArgumentException(String.format("Unexpected argument: %s", arg));
+                    }
+                    options.file = arg;
+                    break;
+            }
+        }
+        if (!options.help) {
+            options.validate();
+        }
+        return options;
+    }
+
+    @SuppressWarnings("nls")
+    private void validate() {
+        if (file == null) {
+            throw new IllegalArgumentException("Missing file");
+        }
+        if (fields.isEmpty()) {
+            throw new IllegalArgumentException("Missing --field");
+        }
+        if (constraints.isEmpty()) {
+            throw new IllegalArgumentException("Missing --constraint");
+        }
+        if (format == null) {
+            String lowerCaseFile = file.toLowerCase(Locale.ROOT);
+            format = lowerCaseFile.endsWith(".ndjson") || lowerCaseFile.endsWith(".jsonl") ? "ndjson" : "csv";
+        }
+        if (!header && isCsv()) {
+            for (String field : fields) {
+                positiveInt(field, "--field");
+            }
+        }
+    }
+
+    private static String value(String[] args, int index, String option) {
+        if (index >= args.length) {
+            throw new IllegalArgumentException(String.format("Missing value for option %s", option)); //$NON-NLS-1$
+        }
+        return args[index];
+    }
+
+    @SuppressWarnings("nls")
+    private static String format(String value) {
+        if (!"csv".equals(value) && !"ndjson".equals(value)) {
+            throw new IllegalArgumentException(String.format("Invalid format: %s", value));
+        }
+        return value;
+    }
+
+    @SuppressWarnings("nls")
+    private static EpochUnit epochUnit(String value) {
+        switch (value) {
+            case "seconds":
+                return EpochUnit.SECONDS;
+            case "millis":
+                return EpochUnit.MILLISECONDS;
+            case "micros":
+                return EpochUnit.MICROSECONDS;
+            case "nanos":
+                return EpochUnit.NANOSECONDS;
+            default:
+                throw new IllegalArgumentException(String.format("Invalid epoch unit: %s", value));
+        }
+    }
+
+    private static ZoneId zone(String value) {
+        try {
+            return ZoneId.of(value);
+        } catch (DateTimeException e) {
+            throw new IllegalArgumentException(String.format("Invalid zone: %s", value), e); //$NON-NLS-1$
+        }
+    }
+
+    @SuppressWarnings("nls")
+    private static byte delimiter(String value) {
+        String delimiter = "\\t".equals(value) ? "\t" : value;
+        if (delimiter.length() != 1 || delimiter.charAt(0) > 0x7F || delimiter.charAt(0) == '"') {
+            throw new IllegalArgumentException(String.format("Invalid delimiter: %s", value));
+        }
+        return (byte) delimiter.charAt(0);
+    }
+
+    private static int positiveInt(String value, String option) {
+        try {
+            int result = Integer.parseInt(value);
+            if (result > 0) {
+                return result;
+            }
+        } catch (@SuppressWarnings("unused") NumberFormatException e) {
+            // handled below
+        }
+        throw new IllegalArgumentException(String.format("Invalid value for option %s: %s", option, value)); //$NON-NLS-1$
+    }
+
+    @SuppressWarnings("nls")
+    private static int chunkSize(String value) {
+        String upperCaseValue = value.toUpperCase(Locale.ROOT);
+        long multiplier = 1;
+        String number = upperCaseValue;
+        if (upperCaseValue.endsWith("K")) {
+            multiplier = KILO;
+            number = upperCaseValue.substring(0, upperCaseValue.length() - 1);
+        } else if (upperCaseValue.endsWith("M")) {
+            multiplier = KILO * KILO;
+            number = upperCaseValue.substring(0, upperCaseValue.length() - 1);
+        }
+        long size = positiveInt(number, "--chunk-size") * multiplier;
+        if (size < MIN_CHUNK_SIZE || size > Integer.MAX_VALUE - KILO) {
+            throw new IllegalArgumentException(String.format("Invalid value for option --chunk-size: %s", value));
+        }
+        return (int) size;
+    }
+
+    String file() {
+        return file;
+    }
+
+    boolean isCsv() {
+        return "csv".equals(format); //$NON-NLS-1$
+    }
+
+    List<String> fields() {
+        return Collections.unmodifiableList(fields);
+    }
+
+    List<ConstraintSpec> constraints() {
+        return Collections.unmodifiableList(constraints);
+    }
+
+    EpochUnit epochUnit() {
+        return epochUnit;
+    }
+
+    ZoneId zone() {
+        return zone;
+    }
+
+    byte delimiter() {
+        return delimiter;
+    }
+
+    boolean header() {
+        return header;
+    }
+
+    int threads() {
+        return threads;
+    }
+
+    int chunkSize() {
+        return chunkSize;
+    }
+
+    boolean countOnly() {
+        return countOnly;
+    }
+
+    boolean help() {
+        return help;
+    }
+}
@@ -0,0 +1,337 @@
+/*
+ * RecordFormat.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.validation.datetime.cli;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The format of the records in a file. Each record is a single line.
+ * <p>
+ * Instances locate the timestamp fields in a record, without creating any objects. Instances are thread-safe.
+ *
+ * @author Rob Spoor
+ */
+abstract class RecordFormat {
+
+    /** Indicates that a field is not present in a record, or is {@code null}. */
+    static final int MISSING = -1;
+
+    private final List<String> fieldNames;
+
+    private RecordFormat(List<String> fieldNames) {
+        this.fieldNames = fieldNames;
+    }
+
+    /**
+     * Returns the names of the fields to locate.
+     *
+     * @return The names of the fields to locate.
+     */
+    final List<String> fieldNames() {
+        return fieldNames;
+    }
+
+    /**
+     * Locates the fields in a record.
+     *
+     * @param bytes The bytes containing the record.
+     * @param start The start of the record, inclusive.
+     * @param end The end of the record, exclusive. This excludes any line separator.
+     * @param fieldStarts An array that will be filled with the start of each field, or {@link #MISSING} if the field is missing.
+     * @param fieldEnds An array that will be filled with the end of each field.
+     * @return {@code true} if the record could be scanned, or {@code false} if the record is malformed.
+     */
+    abstract boolean scan(byte[] bytes, int start, int end, int[] fieldStarts, int[] fieldEnds);
+
+    /**
+     * Returns a format for CSV files.
+     * Quoted values are supported, but not with line breaks.
+     *
+     * @param fieldNames The names of the columns to locate.
+     * @param columnIndexes The (0-based) indexes of the columns to locate.
+     * @param delimiter The field delimiter.
+     * @return A format for CSV files.
+     */
+    static RecordFormat csv(List<String> fieldNames, int[] columnIndexes, byte delimiter) {
+        return new Csv(fieldNames, columnIndexes, delimiter);
+    }
+
+    /**
+     * Returns the (0-based) indexes of columns in a CSV header.
+     *
+     * @param header The header of the CSV file, as a single line without line separator.
+     * @param columnNames The names of the columns to locate.
+     * @param delimiter The field delimiter.
+     * @return The (0-based) indexes of the given columns.
+     * @throws IllegalArgumentException If any of the given columns is not present in the header.
+     */
+    static int[] csvColumnIndexes(byte[] header, List<String> columnNames, byte delimiter) {
+        int[] indexes = new int[columnNames.size()];
+        Arrays.fill(indexes, MISSING);
+        int fieldIndex = 0;
+        int position = 0;
+        while (position <= header.length) {
+            int fieldEnd = Csv.fieldEnd(header, position, header.length, delimiter);
+            if (fieldEnd == MISSING) {
+                throw new IllegalArgumentException("Malformed header"); //$NON-NLS-1$
+            }
+            String name = Csv.unquote(new String(header, position, fieldEnd - position, StandardCharsets.UTF_8).trim());
+            for (int i = 0; i < indexes.length; i++) {
+                if (indexes[i] == MISSING && columnNames.get(i).equals(name)) {
+                    indexes[i] = fieldIndex;
+                }
+            }
+            fieldIndex++;
+            position = fieldEnd + 1;
+        }
+        for (int i = 0; i < indexes.length; i++) {
+            if (indexes[i] == MISSING) {
+                throw new IllegalArgumentException(String.format("Column %s not found in header", columnNames.get(i))); //$NON-NLS-1$
+            }
+        }
+        return indexes;
+    }
+
+    /**
+     * Returns a format for NDJSON files, where each line contains a single JSON object.
+     * Only top-level fields are located.
+     *
+     * @param fieldNames The names of the fields to locate.
+     * @return A format for NDJSON files.
+     */
+    static RecordFormat ndjson(List<String> fieldNames) {
+        return new Ndjson(fieldNames);
+    }
+
+    private static final class Csv extends RecordFormat {
+
+        private final int[] slotsByColumn;
+        private final byte delimiter;
+
+        private Csv(List<String> fieldNames, int[] columnIndexes, byte delimiter) {
+            super(fieldNames);
+            int maxColumnIndex = Arrays.stream(columnIndexes).max().orElse(MISSING);
+            this.slotsByColumn = new int[maxColumnIndex + 1];
+            Arrays.fill(slotsByColumn, MISSING);
+            for (int i = 0; i < columnIndexes.length; i++) {
+                slotsByColumn[columnIndexes[i]] = i;
+            }
+            this.delimiter = delimiter;
+        }
+
+        @Override
+        boolean scan(byte[] bytes, int start, int end, int[] fieldStarts, int[] fieldEnds) {
+            Arrays.fill(fieldStarts, MISSING);
+
+            int position = start;
+            for (int column = 0; column < slotsByColumn.length && position <= end; column++) {
+                int fieldEnd = fieldEnd(bytes, position, end, delimiter);
+                if (fieldEnd == MISSING) {
+                    return false;
+                }
+                int slot = slotsByColumn[column];
+                if (slot != MISSING && fieldEnd > position) {
+                    boolean quoted = bytes[position] == '"';
+                    fieldStarts[slot] = quoted ? position + 1 : position;
+                    fieldEnds[slot] = quoted ? fieldEnd - 1 : fieldEnd;
+                }
+                position = fieldEnd + 1;
+            }
+            return true;
+        }
+
+        private static int fieldEnd(byte[] bytes, int start, int end, byte delimiter) {
+            int position = start;
+            if (position < end && bytes[position] == '"') {
+                // a quoted value ends at a quote that is not followed by another quote
+                position++;
+                while (true) {
+                    if (position >= end) {
+                        return MISSING;
+                    }
+                    if (bytes[position] == '"') {
+                        if (position + 1 < end && bytes[position + 1] == '"') {
+                            position += 2;
+                        } else {
+                            position++;
+                            break;
+                        }
+                    } else {
+                        position++;
+                    }
+                }
+                return position == end || bytes[position] == delimiter ? position : MISSING;
+            }
+            while (position < end && bytes[position] != delimiter) {
+                position++;
+            }
+            return position;
+        }
+
+        private static String unquote(String value) {
+            return value.length() >= 2 && value.startsWith("\"") && value.endsWith("\"") //$NON-NLS-1$ //$NON-NLS-2$
+                    ? value.substring(1, value.length() - 1).replace("\"\"", "\"") //$NON-NLS-1$ //$NON-NLS-2$
+                    : value;
+        }
+    }
+
+    private static final class Ndjson extends RecordFormat {
+
+        private final byte[][] names;
+
+        private Ndjson(List<String> fieldNames) {
+            super(fieldNames);
+            this.names = fieldNames.stream()
+                    .map(n -> n.getBytes(StandardCharsets.UTF_8))
+                    .toArray(byte[][]::new);
+        }
+
+        @Override
+        boolean scan(byte[] bytes, int start, int end, int[] fieldStarts, int[] fieldEnds) {
+            Arrays.fill(fieldStarts, MISSING);
+
+            int position = skipWhitespace(bytes, start, end);
+            if (position == end || bytes[position] != '{') {
+                return false;
+            }
+            position = skipWhitespace(bytes, position + 1, end);
+            if (position < end && bytes[position] == '}') {
+                return skipWhitespace(bytes, position + 1, end) == end;
+            }
+            while (position < end) {
+                // "name"
+                int nameEnd = stringEnd(bytes, position, end);
+                if (nameEnd == MISSING) {
+                    return false;
+                }
+                int slot = slot(bytes, position + 1, nameEnd - 1);
+                position = skipWhitespace(bytes, nameEnd, end);
+                if (position == end || bytes[position] != ':') {
+                    return false;
+                }
+                // value
+                int valueStart = skipWhitespace(bytes, position + 1, end);
+                int valueEnd = valueEnd(bytes, valueStart, end);
+                if (valueEnd == MISSING) {
+                    return false;
+                }
+                if (slot != MISSING && !isNull(bytes, valueStart, valueEnd)) {
+                    boolean string = bytes[valueStart] == '"';
+                    fieldStarts[slot] = string ? valueStart + 1 : valueStart;
+                    fieldEnds[slot] = string ? valueEnd - 1 : valueEnd;
+                }
+                // , or }
+                position = skipWhitespace(bytes, valueEnd, end);
+                if (position == end) {
+                    return false;
+                }
+                if (bytes[position] == '}') {
+                    return skipWhitespace(bytes, position + 1, end) == end;
+                }
+                if (bytes[position] != ',') {
+                    return false;
+                }
+                position = skipWhitespace(bytes, position + 1, end);
+            }
+            return false;
+        }
+
+        private int slot(byte[] bytes, int start, int end) {
+            for (int i = 0; i < names.length; i++) {
+                byte[] name = names[i];
+                if (name.length == end - start && Arrays.equals(bytes, start, end, name, 0, name.length)) {
+                    return i;
+                }
+            }
+            return MISSING;
+        }
+
+        private static boolean isNull(byte[] bytes, int start, int end) {
+            return end - start == 4 && bytes[start] == 'n' && bytes[start + 1] == 'u' && bytes[start + 2] == 'l' && bytes[start + 3] == 'l';
+        }
+
+        private static int skipWhitespace(byte[] bytes, int start, int end) {
+            int position = start;
+            while (position < end && (bytes[position] == ' ' || bytes[position] == '\t' || bytes[position] == '\r')) {
+                position++;
+            }
+            return position;
+        }
+
+        private static int stringEnd(byte[] bytes, int start, int end) {
+            if (start == end || bytes[start] != '"') {
+                return MISSING;
+            }
+            for (int position = start + 1; position < end; position++) {
+                byte b = bytes[position];
+                if (b == '\\') {
+                    position++;
+                } else if (b == '"') {
+                    return position + 1;
+                }
+            }
+            return MISSING;
+        }
+
+        private static int valueEnd(byte[] bytes, int start, int end) {
+            if (start == end) {
+                return MISSING;
+            }
+            byte first = bytes[start];
+            if (first == '"') {
+                return stringEnd(bytes, start, end);
+            }
+            if (first == '{' || first == '[') {
+                return nestedEnd(bytes, start, end);
+            }
+            // number, true, false or null
+            int position = start;
+            while (position < end && bytes[position] != ',' && bytes[position] != '}' && bytes[position] != ' ' && bytes[position] != '\t') {
+                position++;
+            }
+            return position;
+        }
+
+        private static int nestedEnd(byte[] bytes, int start, int end) {
+            int depth = 0;
+            int position = start;
+            while (position < end) {
+                byte b = bytes[position];
+                if (b == '"') {
+                    position = stringEnd(bytes, position, end);
+                    if (position == MISSING) {
+                        return MISSING;
+                    }
+                    continue;
+                }
+                if (b == '{' || b == '[') {
+                    depth++;
+                } else if (b == '}' || b == ']') {
+                    depth--;
+                    if (depth == 0) {
+                        return position + 1;
+                    }
+                }
+                position++;
+            }
+            return MISSING;
+        }
+    }
+}
@@ -0,0 +1,239 @@
+/*
+ * StreamValidator.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.validation.datetime.cli;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * A validator for streams of records.
+ * <p>
+ * A single thread reads the stream into chunks that end at a line separator, and submits these chunks for validation. At most a fixed number of
+ * chunks is in flight at any time; the reading thread waits for the oldest chunk to be validated before it reads another one. Memory use is
+ * therefore bounded by the chunk size times the number of threads, regardless of the size of the stream. Chunk buffers are reused.
+ * Results are reported in the order of the chunks.
+ *
+ * @author Rob Spoor
+ */
+final class StreamValidator {
+
+    private static final int CHUNKS_PER_THREAD = 2;
+
+    private final int chunkSize;
+    private final int threads;
+
+    StreamValidator(int chunkSize, int threads) {
+        this.chunkSize = chunkSize;
+        this.threads = threads;
+    }
+
+    /**
+     * Validates a stream of records.
+     *
+     * @param input The stream to validate.
+     * @param header {@code true} if the first line is a header that should not be validated.
+     * @param validatorFactory A function that creates a chunk validator, given the header line or {@code null} if there is no header.
+     * @param violationHandler A consumer for all violations, with line numbers that are relative to the entire stream (1-based).
+     * @return The combined result of all chunks.
+     * @throws IOException If an I/O error occurs, or if a line is longer than the chunk size.
+     */
+    Summary validate(InputStream input, boolean header, Function<byte[], ChunkValidator> validatorFactory,
+            Consumer<Summary.Violation> violationHandler) throws IOException {
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads, r -> {
+            Thread thread = new Thread(r, "date-time-validation-cli"); //$NON-NLS-1$
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            return new Pipeline(input, executor, violationHandler).run(header, validatorFactory);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * The state of a single call to {@link StreamValidator#validate(InputStream, boolean, Function, Consumer)}.
+     * All methods are called from the reading thread only.
+     *
+     * @author Rob Spoor
+     */
+    private final class Pipeline {
+
+        private final InputStream input;
+        private final ExecutorService executor;
+        private final Consumer<Summary.Violation> violationHandler;
+
+        private final int maxInFlight = threads * CHUNKS_PER_THREAD;
+        private final Deque<PendingChunk> inFlight = new ArrayDeque<>();
+        private final Deque<byte[]> freeBuffers = new ArrayDeque<>();
+
+        private Summary summary;
+
+        private Pipeline(InputStream input, ExecutorService executor, Consumer<Summary.Violation> violationHandler) {
+            this.input = input;
+            this.executor = executor;
+            this.violationHandler = violationHandler;
+        }
+
+        private Summary run(boolean header, Function<byte[], ChunkValidator> validatorFactory) throws IOException {
+            byte[] buffer = new byte[chunkSize];
+            int length = 0;
+            byte[] headerLine = null;
+
+            if (header) {
+                int newline = -1;
+                while (newline == -1 && length < buffer.length) {
+                    int n = input.read(buffer, length, buffer.length - length);
+                    if (n == -1) {
+                        break;
+                    }
+                    newline = indexOf(buffer, (byte) '\n', length, length + n);
+                    length += n;
+                }
+                if (newline == -1 && length == buffer.length) {
+                    throw new IOException(String.format("Line 1 is longer than the chunk size of %d bytes", chunkSize)); //$NON-NLS-1$
+                }
+                int headerEnd = newline == -1 ? length : newline;
+                headerLine = Arrays.copyOf(buffer, headerEnd > 0 && buffer[headerEnd - 1] == '\r' ? headerEnd - 1 : headerEnd);
+                int remaining = newline == -1 ? 0 : length - newline - 1;
+                System.arraycopy(buffer, length - remaining, buffer, 0, remaining);
+                length = remaining;
+            }
+            summary = new Summary(header ? 1 : 0);
+
+            ChunkValidator validator = validatorFactory.apply(headerLine);
+
+            while (true) {
+                int n = input.read(buffer, length, buffer.length - length);
+                if (n == -1) {
+                    if (length > 0) {
+                        submit(validator, buffer, length);
+                    }
+                    break;
+                }
+                length += n;
+                if (length == buffer.length) {
+                    int lastNewline = lastIndexOf(buffer, (byte) '\n', length);
+                    if (lastNewline == -1) {
+                        completeAll();
+                        throw new IOException(String.format("Line %d is longer than the chunk size of %d bytes", //$NON-NLS-1$
+                                summary.lineCount() + 1, chunkSize));
+                    }
+                    int chunkLength = lastNewline + 1;
+                    byte[] next = takeBuffer();
+                    System.arraycopy(buffer, chunkLength, next, 0, length - chunkLength);
+                    submit(validator, buffer, chunkLength);
+                    buffer = next;
+                    length -= chunkLength;
+                }
+            }
+            completeAll();
+            return summary;
+        }
+
+        private void submit(ChunkValidator validator, byte[] buffer, int length) {
+            Future<ChunkValidator.Result> future = executor.submit(() -> validator.validate(buffer, length));
+            inFlight.addLast(new PendingChunk(buffer, future));
+        }
+
+        private byte[] takeBuffer() throws IOException {
+            if (freeBuffers.isEmpty()) {
+                if (inFlight.size() < maxInFlight) {
+                    return new byte[chunkSize];
+                }
+                completeOldest();
+            }
+            return freeBuffers.removeFirst();
+        }
+
+        private void completeAll() throws IOException {
+            while (!inFlight.isEmpty()) {
+                completeOldest();
+            }
+        }
+
+        private void completeOldest() throws IOException {
+            PendingChunk chunk = inFlight.removeFirst();
+            ChunkValidator.Result result;
+            try {
+                result = chunk.future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                InterruptedIOException exception = new InterruptedIOException();
+                exception.initCause(e);
+                throw exception;
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof RuntimeException) {
+                    throw (RuntimeException) cause;
+                }
+                if (cause instanceof Error) {
+                    throw (Error) cause;
+                }
+                throw new IllegalStateException(cause);
+            }
+            freeBuffers.addLast(chunk.buffer);
+            summary.add(result, violationHandler);
+        }
+
+        private int indexOf(byte[] bytes, byte b, int start, int end) {
+            for (int i = start; i < end; i++) {
+                if (bytes[i] == b) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        private int lastIndexOf(byte[] bytes, byte b, int end) {
+            for (int i = end - 1; i >= 0; i--) {
+                if (bytes[i] == b) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+    }
+
+    /**
+     * A chunk that has been submitted for validation.
+     *
+     * @author Rob Spoor
+     */
+    private static final class PendingChunk {
+
+        private final byte[] buffer;
+        private final Future<ChunkValidator.Result> future;
+
+        private PendingChunk(byte[] buffer, Future<ChunkValidator.Result> future) {
+            this.buffer = buffer;
+            this.future = future;
+        }
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Summary.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.validation.datetime.cli;
+
+import java.util.function.Consumer;
+
+/**
+ * The combined result of validating all chunks of a stream.
+ *
+ * @author Rob Spoor
+ */
+final class Summary {
+
+    private long lineCount;
+    private long recordCount;
+    private long valueCount;
+    private long invalidCount;
+    private long unparseableCount;
+    private long malformedCount;
+
+    Summary(long headerLineCount) {
+        this.lineCount = headerLineCount;
+    }
+
+    void add(ChunkValidator.Result result, Consumer<Violation> violationHandler) {
+        for (ChunkValidator.Violation violation : result.violations()) {
+            // line numbers are 1-based
+            violationHandler.accept(new Violation(lineCount + violation.line() + 1, violation));
+        }
+        lineCount += result.lineCount();
+        recordCount += result.recordCount();
+        valueCount += result.valueCount();
+        invalidCount += result.invalidCount();
+        unparseableCount += result.unparseableCount();
+        malformedCount += result.malformedCount();
+    }
+
+    long lineCount() {
+        return lineCount;
+    }
+
+    long recordCount() {
+        return recordCount;
+    }
+
+    long valueCount() {
+        return valueCount;
+    }
+
+    long invalidCount() {
+        return invalidCount;
+    }
+
+    long unparseableCount() {
+        return unparseableCount;
+    }
+
+    long malformedCount() {
+        return malformedCount;
+    }
+
+    boolean hasViolations() {
+        return invalidCount > 0 || unparseableCount > 0 || malformedCount > 0;
+    }
+
+    @Override
+    @SuppressWarnings("nls")
+    public String toString() {
+        return "records: " + recordCount
+                + ", values: " + valueCount
+                + ", invalid: " + invalidCount
+                + ", unparseable: " + unparseableCount
+                + ", malformed: " + malformedCount;
+    }
+
+    /**
+     * A single violation, with a line number that is relative to the entire stream.
+     *
+     * @author Rob Spoor
+     */
+    static final class Violation {
+
+        private final long line;
+        private final ChunkValidator.Violation violation;
+
+        private Violation(long line, ChunkValidator.Violation violation) {
+            this.line = line;
+            this.violation = violation;
+        }
+
+        long line() {
+            return line;
+        }
+
+        String field() {
+            return violation.field();
+        }
+
+        String value() {
+            return violation.value();
+        }
+
+        String reason() {
+            return violation.reason();
+        }
+
+        @Override
+        @SuppressWarnings("nls")
+        public String toString() {
+            String field = violation.field();
+            return line + "\t" + (field == null ? "" : field) + "\t" + violation.value() + "\t" + violation.reason();
+        }
+    }
+}
@@ -0,0 +1,298 @@
+/*
+ * TimestampParser.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.validation.datetime.cli;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.chrono.IsoChronology;
+import java.time.zone.ZoneRules;
+
+/**
+ * A parser for timestamps, directly from bytes.
+ * <p>
+ * Two kinds of timestamps are supported:
+ * <ul>
+ * <li>Epoch values: an optional minus sign followed by only digits.</li>
+ * <li>ISO 8601 dates and date-times: {@code yyyy-MM-dd}, optionally followed by {@code T} or a space and {@code HH:mm}, {@code HH:mm:ss} or
+ *     {@code HH:mm:ss.fraction}, optionally followed by {@code Z} or an offset like {@code +01:00}, {@code +0100} or {@code +01}.
+ *     Values without offset are interpreted in a configurable zone. These values are converted to epoch nanoseconds, and are therefore limited
+ *     to the years 1677 to 2262.</li>
+ * </ul>
+ * Instances are not thread-safe, as they keep the result of the last parsed value.
+ *
+ * @author Rob Spoor
+ */
+final class TimestampParser {
+
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+    private static final int SECONDS_PER_MINUTE = 60;
+    private static final int SECONDS_PER_HOUR = 3600;
+    private static final int SECONDS_PER_DAY = 86_400;
+    private static final long DAYS_0000_TO_1970 = 719_528L;
+    private static final int MAX_FRACTION_DIGITS = 9;
+    private static final int MAX_OFFSET_HOURS = 18;
+
+    // epoch seconds that can safely be converted to epoch nanoseconds
+    private static final long MIN_EPOCH_SECOND = Long.MIN_VALUE / NANOS_PER_SECOND;
+    private static final long MAX_EPOCH_SECOND = Long.MAX_VALUE / NANOS_PER_SECOND;
+    private static final long MAX_NANO_OF_MAX_EPOCH_SECOND = Long.MAX_VALUE % NANOS_PER_SECOND;
+
+    private final ZoneOffset fixedOffset;
+    private final ZoneRules zoneRules;
+
+    private long epochValue;
+
+    TimestampParser(ZoneId zone) {
+        this.fixedOffset = zone instanceof ZoneOffset ? (ZoneOffset) zone : null;
+        this.zoneRules = zone.getRules();
+    }
+
+    /**
+     * Returns the result of the last successful call to {@link #parseEpochValue(byte[], int, int)} or {@link #parseIsoTimestamp(byte[], int, int)}.
+     *
+     * @return The result of the last successful parse call.
+     */
+    long epochValue() {
+        return epochValue;
+    }
+
+    /**
+     * Returns whether or not a value is an epoch value.
+     *
+     * @param bytes The bytes containing the value.
+     * @param start The start of the value, inclusive.
+     * @param end The end of the value, exclusive.
+     * @return {@code true} if the value consists of only digits, optionally preceded by a minus sign, or {@code false} otherwise.
+     */
+    static boolean isEpochValue(byte[] bytes, int start, int end) {
+        int index = start < end && bytes[start] == '-' ? start + 1 : start;
+        if (index == end) {
+            return false;
+        }
+        for (; index < end; index++) {
+            if (!isDigit(bytes[index])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Parses an epoch value. If successful, the result is available through {@link #epochValue()}.
+     *
+     * @param bytes The bytes containing the value.
+     * @param start The start of the value, inclusive.
+     * @param end The end of the value, exclusive.
+     * @return {@code true} if the value is a valid epoch value, or {@code false} if it is not or does not fit in a {@code long}.
+     */
+    boolean parseEpochValue(byte[] bytes, int start, int end) {
+        boolean negative = start < end && bytes[start] == '-';
+        int index = negative ? start + 1 : start;
+        if (index == end) {
+            return false;
+        }
+        // accumulate as a negative number, so Long.MIN_VALUE can be parsed as well
+        long value = 0;
+        for (; index < end; index++) {
+            byte b = bytes[index];
+            if (!isDigit(b)) {
+                return false;
+            }
+            if (value < Long.MIN_VALUE / 10) {
+                return false;
+            }
+            value *= 10;
+            int digit = b - '0';
+            if (value < Long.MIN_VALUE + digit) {
+                return false;
+            }
+            value -= digit;
+        }
+        if (!negative) {
+            if (value == Long.MIN_VALUE) {
+                return false;
+            }
+            value = -value;
+        }
+        epochValue = value;
+        return true;
+    }
+
+    /**
+     * Parses an ISO 8601 date or date-time into epoch nanoseconds. If successful, the result is available through {@link #epochValue()}.
+     *
+     * @param bytes The bytes containing the value.
+     * @param start The start of the value, inclusive.
+     * @param end The end of the value, exclusive.
+     * @return {@code true} if the value is a valid date or date-time within the range of epoch nanoseconds, or {@code false} otherwise.
+     */
+    boolean parseIsoTimestamp(byte[] bytes, int start, int end) {
+        // yyyy-MM-dd
+        if (end - start < 10 || bytes[start + 4] != '-' || bytes[start + 7] != '-') {
+            return false;
+        }
+        int year = parseDigits(bytes, start, 4);
+        int month = parseDigits(bytes, start + 5, 2);
+        int day = parseDigits(bytes, start + 8, 2);
+        if (year < 0 || month < 1 || month > 12 || day < 1 || day > lengthOfMonth(year, month)) {
+            return false;
+        }
+        long localSecond = epochDay(year, month, day) * SECONDS_PER_DAY;
+        int nano = 0;
+
+        int index = start + 10;
+        if (index < end && (bytes[index] == 'T' || bytes[index] == ' ')) {
+            // HH:mm
+            if (end - index < 6 || bytes[index + 3] != ':') {
+                return false;
+            }
+            int hour = parseDigits(bytes, index + 1, 2);
+            int minute = parseDigits(bytes, index + 4, 2);
+            if (hour < 0 || hour > 23 || minute < 0 || minute > 59) {
+                return false;
+            }
+            localSecond += hour * SECONDS_PER_HOUR + minute * SECONDS_PER_MINUTE;
+            index += 6;
+            // :ss
+            if (index < end && bytes[index] == ':') {
+                int second = end - index < 3 ? -1 : parseDigits(bytes, index + 1, 2);
+                if (second < 0 || second > 59) {
+                    return false;
+                }
+                localSecond += second;
+                index += 3;
+                // .fraction
+                if (index < end && (bytes[index] == '.' || bytes[index] == ',')) {
+                    int fractionStart = ++index;
+                    while (index < end && isDigit(bytes[index])) {
+                        index++;
+                    }
+                    int digits = index - fractionStart;
+                    if (digits == 0 || digits > MAX_FRACTION_DIGITS) {
+                        return false;
+                    }
+                    nano = parseDigits(bytes, fractionStart, digits);
+                    for (int i = digits; i < MAX_FRACTION_DIGITS; i++) {
+                        nano *= 10;
+                    }
+                }
+            }
+        }
+
+        long epochSecond;
+        if (index == end) {
+            epochSecond = localSecond - offsetSeconds(localSecond);
+        } else {
+            int offsetSeconds = parseOffset(bytes, index, end);
+            if (offsetSeconds == Integer.MIN_VALUE) {
+                return false;
+            }
+            epochSecond = localSecond - offsetSeconds;
+        }
+
+        if (epochSecond < MIN_EPOCH_SECOND || epochSecond > MAX_EPOCH_SECOND
+                || epochSecond == MAX_EPOCH_SECOND && nano > MAX_NANO_OF_MAX_EPOCH_SECOND) {
+            return false;
+        }
+        epochValue = epochSecond * NANOS_PER_SECOND + nano;
+        return true;
+    }
+
+    private int offsetSeconds(long localSecond) {
+        if (fixedOffset != null) {
+            return fixedOffset.getTotalSeconds();
+        }
+        LocalDateTime localDateTime = LocalDateTime.ofEpochSecond(localSecond, 0, ZoneOffset.UTC);
+        return zoneRules.getOffset(localDateTime).getTotalSeconds();
+    }
+
+    private static int parseOffset(byte[] bytes, int start, int end) {
+        int length = end - start;
+        if (length == 1 && bytes[start] == 'Z') {
+            return 0;
+        }
+        byte sign = bytes[start];
+        if (sign != '+' && sign != '-') {
+            return Integer.MIN_VALUE;
+        }
+        int hours;
+        int minutes;
+        if (length == 3) {
+            // +HH
+            hours = parseDigits(bytes, start + 1, 2);
+            minutes = 0;
+        } else if (length == 5) {
+            // +HHmm
+            hours = parseDigits(bytes, start + 1, 2);
+            minutes = parseDigits(bytes, start + 3, 2);
+        } else if (length == 6 && bytes[start + 3] == ':') {
+            // +HH:mm
+            hours = parseDigits(bytes, start + 1, 2);
+            minutes = parseDigits(bytes, start + 4, 2);
+        } else {
+            return Integer.MIN_VALUE;
+        }
+        if (hours < 0 || hours > MAX_OFFSET_HOURS || minutes < 0 || minutes > 59) {
+            return Integer.MIN_VALUE;
+        }
+        int seconds = hours * SECONDS_PER_HOUR + minutes * SECONDS_PER_MINUTE;
+        return sign == '-' ? -seconds : seconds;
+    }
+
+    private static int parseDigits(byte[] bytes, int start, int count) {
+        int value = 0;
+        for (int i = start, end = start + count; i < end; i++) {
+            byte b = bytes[i];
+            if (!isDigit(b)) {
+                return -1;
+            }
+            value = value * 10 + (b - '0');
+        }
+        return value;
+    }
+
+    private static boolean isDigit(byte b) {
+        return b >= '0' && b <= '9';
+    }
+
+    private static int lengthOfMonth(int year, int month) {
+        switch (month) {
+            case 2:
+                return IsoChronology.INSTANCE.isLeapYear(year) ? 29 : 28;
+            case 4:
+            case 6:
+            case 9:
+            case 11:
+                return 30;
+            default:
+                return 31;
+        }
+    }
+
+    // the same algorithm as LocalDate.toEpochDay, for non-negative years only
+    private static long epochDay(int year, int month, int day) {
+        long total = 365L * year + (year + 3) / 4 - (year + 99) / 100 + (year + 399) / 400;
+        total += (367 * month - 362) / 12;
+        total += day - 1;
+        if (month > 2) {
+            total -= IsoChronology.INSTANCE.isLeapYear(year) ? 1 : 2;
+        }
+        return total - DAYS_0000_TO_1970;
+    }
+}
@@ -0,0 +1,37 @@
+/*
+ * module-info.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/**
+ * Contains a command line tool for validating timestamps in CSV and NDJSON files.
+ */
+module com.github.robtimus.validation.datetime.cli {
+    requires com.github.robtimus.validation.datetime.base;
+    requires com.github.robtimus.validation.datetime;
+    requires com.github.robtimus.validation.date;
+    requires com.github.robtimus.validation.time;
+    requires com.github.robtimus.validation.yearmonth;
+    requires com.github.robtimus.validation.year;
+    requires com.github.robtimus.validation.month;
+    requires com.github.robtimus.validation.dayofweek;
+    requires com.github.robtimus.validation.dayofmonth;
+    requires com.github.robtimus.validation.hour;
+    requires com.github.robtimus.validation.minute;
+    requires com.github.robtimus.validation.time.precision;
+    requires jakarta.validation;
+
+    exports com.github.robtimus.validation.datetime.cli;
+}
@@ -0,0 +1,102 @@
+/*
+ * ConstraintSpecTest.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.validation.datetime.cli;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import java.time.DayOfWeek;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import com.github.robtimus.validation.date.DateNotBefore;
+import com.github.robtimus.validation.datetime.After;
+import com.github.robtimus.validation.dayofweek.DayOfWeekIn;
+
+@SuppressWarnings({ "javadoc", "nls" })
+class ConstraintSpecTest {
+
+    @Test
+    @DisplayName("simple name with attributes")
+    void testSimpleNameWithAttributes() {
+        ConstraintSpec spec = ConstraintSpec.parse(" DateNotBefore(moment=2024-01-01, zoneId='UTC') ");
+
+        DateNotBefore annotation = (DateNotBefore) spec.annotation();
+        assertEquals("2024-01-01", annotation.moment());
+        assertEquals("UTC", annotation.zoneId());
+        assertEquals("{com.github.robtimus.validation.date.DateNotBefore.message}", annotation.message());
+        assertArrayEquals(new Class<?>[0], annotation.groups());
+        assertEquals(DateNotBefore.class, annotation.annotationType());
+        assertEquals("DateNotBefore(moment=2024-01-01, zoneId='UTC')", spec.toString());
+    }
+
+    @Test
+    @DisplayName("fully qualified name")
+    void testFullyQualifiedName() {
+        ConstraintSpec spec = ConstraintSpec.parse("com.github.robtimus.validation.datetime.After(moment=\"2007-12-03T10:15:30Z\")");
+
+        After annotation = (After) spec.annotation();
+        assertEquals("2007-12-03T10:15:30Z", annotation.moment());
+    }
+
+    @Test
+    @DisplayName("unnamed value and array")
+    void testUnnamedValueAndArray() {
+        DayOfWeekIn annotation = (DayOfWeekIn) ConstraintSpec.parse("DayOfWeekIn([monday, FRIDAY])").annotation();
+
+        assertArrayEquals(new DayOfWeek[] { DayOfWeek.MONDAY, DayOfWeek.FRIDAY }, annotation.value());
+        assertEquals("system", annotation.zoneId());
+
+        annotation = (DayOfWeekIn) ConstraintSpec.parse("DayOfWeekIn(value=SUNDAY,zoneId=UTC)").annotation();
+
+        assertArrayEquals(new DayOfWeek[] { DayOfWeek.SUNDAY }, annotation.value());
+        assertEquals("UTC", annotation.zoneId());
+    }
+
+    @Test
+    @DisplayName("equals and hashCode")
+    void testEqualsAndHashCode() {
+        DayOfWeekIn annotation = (DayOfWeekIn) ConstraintSpec.parse("DayOfWeekIn([MONDAY,FRIDAY])").annotation();
+        DayOfWeekIn same = (DayOfWeekIn) ConstraintSpec.parse("DayOfWeekIn(value=[MONDAY, FRIDAY], zoneId=system)").annotation();
+        DayOfWeekIn different = (DayOfWeekIn) ConstraintSpec.parse("DayOfWeekIn([MONDAY])").annotation();
+
+        assertEquals(annotation, same);
+        assertEquals(annotation.hashCode(), same.hashCode());
+        assertNotEquals(annotation, different);
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @ValueSource(strings = {
+            "",
+            "Unknown(moment=now)",
+            "java.lang.Override",
+            "com.github.robtimus.validation.datetime.Unknown",
+            "After",
+            "After(moment=now",
+            "After(moment=now,unknown=1)",
+            "After(moment='now)",
+            "DayOfWeekIn([MONDAY,SOMEDAY])",
+            "DateNotBefore(2024-01-01,zoneId=UTC)",
+    })
+    @DisplayName("invalid specification")
+    void testInvalidSpecification(String text) {
+        assertThrows(IllegalArgumentException.class, () -> ConstraintSpec.parse(text));
+    }
+}
@@ -0,0 +1,278 @@
+/*
+ * DateTimeValidationCliTest.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.validation.datetime.cli;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+@SuppressWarnings({ "javadoc", "nls" })
+class DateTimeValidationCliTest {
+
+    private static final Instant INSTANT = Instant.parse("2007-12-03T10:15:30.00Z");
+
+    private static final String AFTER = "After(moment=2007-12-03T10:15:30Z)";
+
+    @TempDir
+    Path tempDir;
+
+    @Nested
+    @DisplayName("csv")
+    class Csv {
+
+        @Test
+        @DisplayName("with header")
+        void testWithHeader() throws IOException {
+            Path file = writeFile("data.csv",
+                    "id,created,name,updated\r\n"
+                            + "1,2007-12-03T10:15:31Z,\"a, b\",1196676931000\r\n"
+                            + "2,2007-12-03T11:15:30+01:00,,1196676930000\r\n"
+                            + "\r\n"
+                            + "3,\"2007-12-03 10:15:30.001\",c,\r\n"
+                            + "4,yesterday,d,-1");
+
+            Result result = run(file, "--field", "created", "--column", "updated", "--constraint", AFTER);
+
+            assertEquals(DateTimeValidationCli.EXIT_INVALID, result.exitCode);
+            assertEquals(lines(
+                    "3\tcreated\t2007-12-03T11:15:30+01:00\t" + AFTER,
+                    "3\tupdated\t1196676930000\t" + AFTER,
+                    "6\tcreated\tyesterday\tunparseable",
+                    "6\tupdated\t-1\t" + AFTER),
+                    result.out);
+            assertEquals(lines("records: 4, values: 7, invalid: 3, unparseable: 1, malformed: 0"), result.err);
+        }
+
+        @Test
+        @DisplayName("without header")
+        void testWithoutHeader() throws IOException {
+            String input = "1196676931;x\n1196676930;y\n";
+
+            Result result = run(new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8)),
+                    "-", "--no-header", "--delimiter", ";", "--field", "1", "--epoch-unit", "seconds", "--constraint", AFTER);
+
+            assertEquals(DateTimeValidationCli.EXIT_INVALID, result.exitCode);
+            assertEquals(lines("2\t1\t1196676930\t" + AFTER), result.out);
+        }
+
+        @Test
+        @DisplayName("unknown column")
+        void testUnknownColumn() throws IOException {
+            Path file = writeFile("data.csv", "id,created\n1,2007-12-03\n");
+
+            Result result = run(file, "--field", "updated", "--constraint", AFTER);
+
+            assertEquals(DateTimeValidationCli.EXIT_ERROR, result.exitCode);
+            assertEquals(lines("Error: Column updated not found in header"), result.err);
+        }
+
+        @Test
+        @DisplayName("malformed record")
+        void testMalformedRecord() throws IOException {
+            Path file = writeFile("data.csv", "created\n\"2007-12-04\n2007-12-04\n");
+
+            Result result = run(file, "--field", "created", "--constraint", AFTER);
+
+            assertEquals(DateTimeValidationCli.EXIT_INVALID, result.exitCode);
+            assertEquals(lines("2\t\t\"2007-12-04\tmalformed record"), result.out);
+            assertEquals(lines("records: 2, values: 1, invalid: 0, unparseable: 0, malformed: 1"), result.err);
+        }
+    }
+
+    @Nested
+    @DisplayName("ndjson")
+    class Ndjson {
+
+        @Test
+        @DisplayName("all valid")
+        void testAllValid() throws IOException {
+            Path file = writeFile("data.ndjson",
+                    "{\"created\": \"2007-12-04\", \"updated\": null}\n"
+                            + "{\"created\": 1196676931000, \"other\": \"2000-01-01\"}\n");
+
+            Result result = run(file, "--field", "created", "--field", "updated", "--constraint", AFTER,
+                    "--constraint", "DateNotBefore(moment=2007-12-03,zoneId=UTC)");
+
+            assertEquals(DateTimeValidationCli.EXIT_VALID, result.exitCode);
+            assertEquals("", result.out);
+            assertEquals(lines("records: 2, values: 2, invalid: 0, unparseable: 0, malformed: 0"), result.err);
+        }
+
+        @Test
+        @DisplayName("multiple constraints")
+        void testMultipleConstraints() throws IOException {
+            Path file = writeFile("data.jsonl", "{\"created\": \"2007-12-02T23:00:00-01:00\"}\n");
+
+            String dateNotBefore = "DateNotBefore(moment=2007-12-04,zoneId=UTC)";
+            Result result = run(file, "--field", "created", "--constraint", AFTER, "--constraint", dateNotBefore);
+
+            assertEquals(DateTimeValidationCli.EXIT_INVALID, result.exitCode);
+            assertEquals(lines("1\tcreated\t2007-12-02T23:00:00-01:00\t" + AFTER, "1\tcreated\t2007-12-02T23:00:00-01:00\t" + dateNotBefore),
+                    result.out);
+            assertEquals(lines("records: 1, values: 1, invalid: 1, unparseable: 0, malformed: 0"), result.err);
+        }
+    }
+
+    @Nested
+    @DisplayName("chunks")
+    class Chunks {
+
+        @Test
+        @DisplayName("multiple chunks")
+        void testMultipleChunks() throws IOException {
+            // every 7th record is invalid
+            String content = "created\n" + IntStream.range(0, 5000)
+                    .mapToObj(i -> Long.toString(INSTANT.toEpochMilli() + (i % 7 == 0 ? 0 : i)))
+                    .collect(Collectors.joining("\n"));
+            Path file = writeFile("data.csv", content);
+
+            Result result = run(file, "--field", "created", "--constraint", AFTER, "--chunk-size", "1K", "--threads", "3");
+
+            String expectedOut = IntStream.range(0, 5000)
+                    .filter(i -> i % 7 == 0)
+                    .mapToObj(i -> (i + 2) + "\tcreated\t" + INSTANT.toEpochMilli() + "\t" + AFTER + System.lineSeparator())
+                    .collect(Collectors.joining());
+
+            assertEquals(DateTimeValidationCli.EXIT_INVALID, result.exitCode);
+            assertEquals(expectedOut, result.out);
+            assertEquals(lines("records: 5000, values: 5000, invalid: 715, unparseable: 0, malformed: 0"), result.err);
+        }
+
+        @Test
+        @DisplayName("count only")
+        void testCountOnly() throws IOException {
+            String content = "created\n" + IntStream.range(0, 5000)
+                    .mapToObj(i -> Long.toString(INSTANT.toEpochMilli() + (i % 7 == 0 ? 0 : i)))
+                    .collect(Collectors.joining("\n", "", "\n"));
+            Path file = writeFile("data.csv", content);
+
+            Result result = run(file, "--field", "created", "--constraint", AFTER, "--chunk-size", "1K", "--count-only");
+
+            assertEquals(DateTimeValidationCli.EXIT_INVALID, result.exitCode);
+            assertEquals("", result.out);
+            assertEquals(lines("records: 5000, values: 5000, invalid: 715, unparseable: 0, malformed: 0"), result.err);
+        }
+
+        @Test
+        @DisplayName("line longer than chunk size")
+        void testLineLongerThanChunkSize() throws IOException {
+            String longValue = IntStream.range(0, 2000)
+                    .mapToObj(i -> "x")
+                    .collect(Collectors.joining());
+            Path file = writeFile("data.csv", "created,other\n1196676931000,x\n1196676931000," + longValue + "\n");
+
+            Result result = run(file, "--field", "created", "--constraint", AFTER, "--chunk-size", "1024");
+
+            assertEquals(DateTimeValidationCli.EXIT_ERROR, result.exitCode);
+            assertEquals(lines("Error: Line 3 is longer than the chunk size of 1024 bytes"), result.err);
+        }
+    }
+
+    @Nested
+    @DisplayName("arguments")
+    class Arguments {
+
+        @Test
+        @DisplayName("help")
+        void testHelp() {
+            Result result = run(InputStream.nullInputStream(), "--help");
+
+            assertEquals(DateTimeValidationCli.EXIT_VALID, result.exitCode);
+            assertEquals(lines(Options.USAGE), result.out);
+        }
+
+        @Test
+        @DisplayName("missing constraint")
+        void testMissingConstraint() {
+            Result result = run(InputStream.nullInputStream(), "data.csv", "--field", "created");
+
+            assertEquals(DateTimeValidationCli.EXIT_ERROR, result.exitCode);
+            assertTrue(result.err.startsWith(lines("Missing --constraint", "", "Usage:").trim()));
+        }
+
+        @Test
+        @DisplayName("constraint that does not support Instant")
+        void testConstraintWithoutInstantSupport() {
+            Result result = run(InputStream.nullInputStream(), "data.csv", "--field", "created", "--constraint", "YearMonthAfter(moment=now)");
+
+            assertEquals(DateTimeValidationCli.EXIT_ERROR, result.exitCode);
+        }
+
+        @Test
+        @DisplayName("non-existing file")
+        void testNonExistingFile() {
+            Result result = run(tempDir.resolve("missing.csv"), "--field", "created", "--constraint", AFTER);
+
+            assertEquals(DateTimeValidationCli.EXIT_ERROR, result.exitCode);
+            assertTrue(result.err.startsWith("Error: "));
+        }
+    }
+
+    private Path writeFile(String name, String content) throws IOException {
+        return Files.write(tempDir.resolve(name), content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static Result run(Path file, String... args) {
+        String[] allArgs = new String[args.length + 1];
+        allArgs[0] = file.toString();
+        System.arraycopy(args, 0, allArgs, 1, args.length);
+        return run(InputStream.nullInputStream(), allArgs);
+    }
+
+    private static Result run(InputStream in, String... args) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ByteArrayOutputStream err = new ByteArrayOutputStream();
+        int exitCode = DateTimeValidationCli.run(args, in, new PrintStream(out, true, StandardCharsets.UTF_8),
+                new PrintStream(err, true, StandardCharsets.UTF_8));
+        return new Result(exitCode, out.toString(StandardCharsets.UTF_8), err.toString(StandardCharsets.UTF_8));
+    }
+
+    private static String lines(String... lines) {
+        return Stream.of(lines)
+                .map(line -> line + System.lineSeparator())
+                .collect(Collectors.joining());
+    }
+
+    private static final class Result {
+
+        private final int exitCode;
+        private final String out;
+        private final String err;
+
+        private Result(int exitCode, String out, String err) {
+            this.exitCode = exitCode;
+            this.out = out;
+            this.err = err;
+        }
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ * RecordFormatTest.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.validation.datetime.cli;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+@SuppressWarnings({ "javadoc", "nls" })
+class RecordFormatTest {
+
+    private static final List<String> FIELDS = Arrays.asList("created", "updated");
+
+    @Nested
+    @DisplayName("csv")
+    class Csv {
+
+        @Test
+        @DisplayName("csvColumnIndexes")
+        void testCsvColumnIndexes() {
+            byte[] header = bytes("id,\"updated\",name,created");
+
+            assertArrayEquals(new int[] { 3, 1 }, RecordFormat.csvColumnIndexes(header, FIELDS, (byte) ','));
+        }
+
+        @Test
+        @DisplayName("csvColumnIndexes with missing column")
+        void testCsvColumnIndexesWithMissingColumn() {
+            byte[] header = bytes("id,updated,name");
+
+            IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                    () -> RecordFormat.csvColumnIndexes(header, FIELDS, (byte) ','));
+            assertEquals("Column created not found in header", exception.getMessage());
+        }
+
+        @Test
+        @DisplayName("csvColumnIndexes with malformed header")
+        void testCsvColumnIndexesWithMalformedHeader() {
+            byte[] header = bytes("id,\"updated,created");
+
+            assertThrows(IllegalArgumentException.class, () -> RecordFormat.csvColumnIndexes(header, FIELDS, (byte) ','));
+        }
+
+        @Test
+        @DisplayName("scan")
+        void testScan() {
+            RecordFormat format = RecordFormat.csv(FIELDS, new int[] { 3, 1 }, (byte) ';');
+
+            assertFields(format, "1;\"2024-01-01\";\"a;\"\"b\"\"\";1700000000000", "1700000000000", "2024-01-01");
+        }
+
+        @Test
+        @DisplayName("scan with missing fields")
+        void testScanWithMissingFields() {
+            RecordFormat format = RecordFormat.csv(FIELDS, new int[] { 3, 1 }, (byte) ',');
+
+            assertFields(format, "1,2024-01-01", null, "2024-01-01");
+            assertFields(format, "1,,x,", null, null);
+        }
+
+        @Test
+        @DisplayName("scan malformed record")
+        void testScanMalformedRecord() {
+            RecordFormat format = RecordFormat.csv(FIELDS, new int[] { 0, 1 }, (byte) ',');
+            byte[] bytes = bytes("\"2024-01-01,2024-01-02");
+
+            assertFalse(format.scan(bytes, 0, bytes.length, new int[2], new int[2]));
+        }
+    }
+
+    @Nested
+    @DisplayName("ndjson")
+    class Ndjson {
+
+        @Test
+        @DisplayName("scan")
+        void testScan() {
+            RecordFormat format = RecordFormat.ndjson(FIELDS);
+
+            assertFields(format, "{\"id\": 1, \"updated\": \"2024-01-01\", \"nested\": {\"created\": 1}, \"created\": 1700000000000}",
+                    "1700000000000", "2024-01-01");
+        }
+
+        @Test
+        @DisplayName("scan with missing and null fields")
+        void testScanWithMissingAndNullFields() {
+            RecordFormat format = RecordFormat.ndjson(FIELDS);
+
+            assertFields(format, "{\"created\":null,\"list\":[\"updated\",{\"a\":\"}\"}]}", null, null);
+            assertFields(format, "{}", null, null);
+        }
+
+        @ParameterizedTest(name = "{0}")
+        @ValueSource(strings = { "[]", "{\"created\" 1}", "{\"created\":1", "{\"created\":1,}", "{\"created\":\"1}", "{} x" })
+        @DisplayName("scan malformed record")
+        void testScanMalformedRecord(String record) {
+            RecordFormat format = RecordFormat.ndjson(FIELDS);
+            byte[] bytes = bytes(record);
+
+            assertFalse(format.scan(bytes, 0, bytes.length, new int[2], new int[2]));
+        }
+    }
+
+    private static void assertFields(RecordFormat format, String record, String... expected) {
+        byte[] bytes = bytes(record);
+        int[] fieldStarts = new int[expected.length];
+        int[] fieldEnds = new int[expected.length];
+
+        assertTrue(format.scan(bytes, 0, bytes.length, fieldStarts, fieldEnds));
+        for (int i = 0; i < expected.length; i++) {
+            String actual = fieldStarts[i] == RecordFormat.MISSING
+                    ? null
+                    : new String(bytes, fieldStarts[i], fieldEnds[i] - fieldStarts[i], StandardCharsets.UTF_8);
+            assertEquals(expected[i], actual);
+        }
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,180 @@
+/*
+ * TimestampParserTest.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.validation.datetime.cli;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+@SuppressWarnings({ "javadoc", "nls" })
+class TimestampParserTest {
+
+    private static final ZoneId ZONE = ZoneId.of("Europe/Amsterdam");
+
+    @Nested
+    @DisplayName("parseEpochValue")
+    class ParseEpochValue {
+
+        @ParameterizedTest(name = "{0}")
+        @ValueSource(longs = { 0, 1, -1, 1_196_676_930_000L, Long.MAX_VALUE, Long.MIN_VALUE })
+        @DisplayName("valid value")
+        void testValidValue(long value) {
+            TimestampParser parser = new TimestampParser(ZONE);
+            byte[] bytes = bytes(Long.toString(value));
+
+            assertTrue(TimestampParser.isEpochValue(bytes, 0, bytes.length));
+            assertTrue(parser.parseEpochValue(bytes, 0, bytes.length));
+            assertEquals(value, parser.epochValue());
+        }
+
+        @ParameterizedTest(name = "{0}")
+        @ValueSource(strings = { "9223372036854775808", "-9223372036854775809", "99999999999999999999" })
+        @DisplayName("overflow")
+        void testOverflow(String value) {
+            TimestampParser parser = new TimestampParser(ZONE);
+            byte[] bytes = bytes(value);
+
+            assertTrue(TimestampParser.isEpochValue(bytes, 0, bytes.length));
+            assertFalse(parser.parseEpochValue(bytes, 0, bytes.length));
+        }
+
+        @ParameterizedTest(name = "{0}")
+        @ValueSource(strings = { "", "-", "12a", "1.5", "+1", "2007-12-03" })
+        @DisplayName("not an epoch value")
+        void testNotAnEpochValue(String value) {
+            byte[] bytes = bytes(value);
+
+            assertFalse(TimestampParser.isEpochValue(bytes, 0, bytes.length));
+        }
+    }
+
+    @Nested
+    @DisplayName("parseIsoTimestamp")
+    class ParseIsoTimestamp {
+
+        @ParameterizedTest(name = "{0}")
+        @ValueSource(strings = {
+                "2007-12-03T10:15:30Z",
+                "2007-12-03T10:15:30.123456789Z",
+                "2007-12-03T10:15:30.1+01:00",
+                "2007-12-03T10:15-05:00",
+                "1970-01-01T00:00:00Z",
+                "1677-09-21T00:12:44Z",
+                "2262-04-11T23:47:16.854775807Z",
+                "2000-02-29T23:59:59.999999999+18:00",
+        })
+        @DisplayName("with offset")
+        void testWithOffset(String value) {
+            Instant expected = OffsetDateTime.parse(value).toInstant();
+
+            assertEpochNanos(expected, value, ZONE);
+        }
+
+        @Test
+        @DisplayName("with compact offsets")
+        void testWithCompactOffsets() {
+            Instant expected = OffsetDateTime.parse("2007-12-03T10:15:30+01:30").toInstant();
+
+            assertEpochNanos(expected, "2007-12-03T10:15:30+0130", ZONE);
+            assertEpochNanos(expected.plusSeconds(1800), "2007-12-03T10:15:30+01", ZONE);
+            assertEpochNanos(expected, "2007-12-03 10:15:30+01:30", ZONE);
+        }
+
+        @ParameterizedTest(name = "{0}")
+        @ValueSource(strings = { "2007-12-03T10:15:30", "2007-07-03T10:15:30.5", "2007-03-25T02:30", "2007-10-28T02:30" })
+        @DisplayName("without offset")
+        void testWithoutOffset(String value) {
+            Instant expected = LocalDateTime.parse(value).atZone(ZONE).toInstant();
+
+            assertEpochNanos(expected, value, ZONE);
+        }
+
+        @Test
+        @DisplayName("date only")
+        void testDateOnly() {
+            assertEpochNanos(LocalDate.of(2007, 12, 3).atStartOfDay(ZONE).toInstant(), "2007-12-03", ZONE);
+            assertEpochNanos(LocalDate.of(2007, 12, 3).atStartOfDay(ZoneOffset.UTC).toInstant(), "2007-12-03", ZoneOffset.UTC);
+        }
+
+        @ParameterizedTest(name = "{0}")
+        @ValueSource(strings = {
+                "",
+                "2007-12-3",
+                "2007/12/03",
+                "2007-13-03",
+                "2007-02-29",
+                "2007-12-03T",
+                "2007-12-03T24:00",
+                "2007-12-03T10:60",
+                "2007-12-03T10:15:60",
+                "2007-12-03T10:15:30.",
+                "2007-12-03T10:15:30.1234567890",
+                "2007-12-03T10:15:30X",
+                "2007-12-03T10:15:30+19:00",
+                "2007-12-03T10:15:30+01:0",
+                "1677-09-21T00:12:43Z",
+                "2262-04-11T23:47:16.854775808Z",
+        })
+        @DisplayName("invalid value")
+        void testInvalidValue(String value) {
+            TimestampParser parser = new TimestampParser(ZONE);
+            byte[] bytes = bytes(value);
+
+            assertFalse(parser.parseIsoTimestamp(bytes, 0, bytes.length));
+        }
+
+        @Test
+        @DisplayName("value inside larger bytes")
+        void testValueInsideLargerBytes() {
+            TimestampParser parser = new TimestampParser(ZONE);
+            byte[] bytes = bytes("x,2007-12-03T10:15:30Z,y");
+
+            assertTrue(parser.parseIsoTimestamp(bytes, 2, 22));
+            assertEquals(epochNanos(Instant.parse("2007-12-03T10:15:30Z")), parser.epochValue());
+        }
+
+        private void assertEpochNanos(Instant expected, String value, ZoneId zone) {
+            TimestampParser parser = new TimestampParser(zone);
+            byte[] bytes = bytes(value);
+
+            assertTrue(parser.parseIsoTimestamp(bytes, 0, bytes.length), value);
+            assertEquals(epochNanos(expected), parser.epochValue(), value);
+        }
+
+        private long epochNanos(Instant instant) {
+            return ChronoUnit.NANOS.between(Instant.EPOCH, instant);
+        }
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
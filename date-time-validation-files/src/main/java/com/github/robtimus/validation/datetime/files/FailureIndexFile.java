@@ -0,0 +1,147 @@
+/*
+ * FailureIndexFile.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.validation.datetime.files;
+
+import java.io.BufferedInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * Utility class for reading failure index files, as written by {@link TimestampFileValidator#validate(Path, Path)}.
+ * <p>
+ * A failure index file contains the indexes of all records with an invalid timestamp, in ascending order. To keep the file compact,
+ * each index is written as the difference with the previous index (or with {@code 0} for the first index), encoded as an unsigned LEB128
+ * variable-length integer: 7 bits per byte, least significant group first, with the most significant bit of each byte set if more bytes follow.
+ * Indexes of invalid records that are close to each other therefore take only one byte each. A file without any bytes means that all timestamps
+ * are valid.
+ *
+ * @author Rob Spoor
+ */
+public final class FailureIndexFile {
+
+    private static final int VALUE_BITS = 7;
+    private static final int VALUE_MASK = 0x7F;
+    private static final int CONTINUATION_BIT = 0x80;
+
+    private FailureIndexFile() {
+    }
+
+    /**
+     * Reads the indexes from a failure index file.
+     *
+     * @param file The failure index file to read.
+     * @return The indexes of all records with an invalid timestamp, in ascending order.
+     * @throws NullPointerException If the given file is {@code null}.
+     * @throws IOException If an I/O error occurs, or if the file ends with an incomplete index.
+     */
+    public static long[] read(Path file) throws IOException {
+        try (InputStream input = new BufferedInputStream(Files.newInputStream(file))) {
+            long[] indexes = new long[16];
+            int count = 0;
+            long index = 0;
+            int b;
+            while ((b = input.read()) != -1) {
+                index += readVarLong(b, input);
+                if (count == indexes.length) {
+                    indexes = Arrays.copyOf(indexes, count * 2);
+                }
+                indexes[count++] = index;
+            }
+            return Arrays.copyOf(indexes, count);
+        }
+    }
+
+    private static long readVarLong(int firstByte, InputStream input) throws IOException {
+        long value = firstByte & VALUE_MASK;
+        int shift = VALUE_BITS;
+        int b = firstByte;
+        while ((b & CONTINUATION_BIT) != 0) {
+            b = input.read();
+            if (b == -1) {
+                throw new EOFException();
+            }
+            value |= (long) (b & VALUE_MASK) << shift;
+            shift += VALUE_BITS;
+        }
+        return value;
+    }
+
+    /**
+     * The indexes of the invalid records of a part of a timestamp file.
+     * The first index is kept separately, so parts can be written one after the other without decoding them.
+     *
+     * @author Rob Spoor
+     */
+    static final class Part {
+
+        private static final int MAX_VAR_LONG_LENGTH = 10;
+
+        private long firstIndex = -1;
+        private long lastIndex = -1;
+        private byte[] bytes = new byte[0];
+        private int length;
+
+        void add(long index) {
+            if (firstIndex == -1) {
+                firstIndex = index;
+            } else {
+                if (bytes.length - length < MAX_VAR_LONG_LENGTH) {
+                    bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, 64));
+                }
+                length = encode(index - lastIndex, bytes, length);
+            }
+            lastIndex = index;
+        }
+
+        boolean isEmpty() {
+            return firstIndex == -1;
+        }
+
+        long firstIndex() {
+            return firstIndex;
+        }
+
+        long lastIndex() {
+            return lastIndex;
+        }
+
+        void writeTo(OutputStream output, long previousIndex) throws IOException {
+            if (!isEmpty()) {
+                byte[] first = new byte[MAX_VAR_LONG_LENGTH];
+                output.write(first, 0, encode(firstIndex - previousIndex, first, 0));
+                output.write(bytes, 0, length);
+            }
+        }
+
+        private static int encode(long value, byte[] target, int offset) {
+            int index = offset;
+            long remaining = value;
+            while ((remaining & ~VALUE_MASK) != 0) {
+                target[index++] = (byte) ((remaining & VALUE_MASK) | CONTINUATION_BIT);
+                remaining >>>= VALUE_BITS;
+            }
+            target[index++] = (byte) remaining;
+            return index;
+        }
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ * TimestampFileFormat.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.validation.datetime.files;
+
+import java.nio.ByteOrder;
+import java.util.Objects;
+import com.github.robtimus.validation.datetime.base.EpochUnit;
+
+/**
+ * The format of a binary file of timestamps.
+ * <p>
+ * A timestamp file consists of fixed-width records. Each record contains a timestamp as a 64-bit epoch value at a fixed offset.
+ * Any other bytes in the records are ignored.
+ *
+ * @author Rob Spoor
+ */
+public final class TimestampFileFormat {
+
+    /** The number of bytes of each timestamp. */
+    public static final int TIMESTAMP_LENGTH = Long.BYTES;
+
+    private final EpochUnit unit;
+    private final ByteOrder byteOrder;
+    private final int recordLength;
+    private final int timestampOffset;
+
+    private TimestampFileFormat(EpochUnit unit, ByteOrder byteOrder, int recordLength, int timestampOffset) {
+        this.unit = unit;
+        this.byteOrder = byteOrder;
+        this.recordLength = recordLength;
+        this.timestampOffset = timestampOffset;
+    }
+
+    /**
+     * Returns a format for files that contain only timestamps.
+     *
+     * @param unit The unit of the timestamps.
+     * @param byteOrder The byte order of the timestamps.
+     * @return A format for files that contain only timestamps.
+     * @throws NullPointerException If the given unit or byte order is {@code null}.
+     */
+    public static TimestampFileFormat of(EpochUnit unit, ByteOrder byteOrder) {
+        return of(unit, byteOrder, TIMESTAMP_LENGTH, 0);
+    }
+
+    /**
+     * Returns a format for files with records that contain a timestamp at a fixed offset.
+     *
+     * @param unit The unit of the timestamps.
+     * @param byteOrder The byte order of the timestamps.
+     * @param recordLength The number of bytes of each record.
+     * @param timestampOffset The offset of the timestamp in each record.
+     * @return A format for files with records that contain a timestamp at the given offset.
+     * @throws NullPointerException If the given unit or byte order is {@code null}.
+     * @throws IllegalArgumentException If the given record length is smaller than {@link #TIMESTAMP_LENGTH},
+     *                                      or if the given offset is negative or leaves less than {@link #TIMESTAMP_LENGTH} bytes in a record.
+     */
+    public static TimestampFileFormat of(EpochUnit unit, ByteOrder byteOrder, int recordLength, int timestampOffset) {
+        Objects.requireNonNull(unit);
+        Objects.requireNonNull(byteOrder);
+        if (recordLength < TIMESTAMP_LENGTH) {
+            throw new IllegalArgumentException(String.format("recordLength must be at least %d: %d", TIMESTAMP_LENGTH, recordLength)); //$NON-NLS-1$
+        }
+        if (timestampOffset < 0 || timestampOffset > recordLength - TIMESTAMP_LENGTH) {
+            throw new IllegalArgumentException(String.format("timestampOffset must be between 0 and %d: %d", //$NON-NLS-1$
+                    recordLength - TIMESTAMP_LENGTH, timestampOffset));
+        }
+        return new TimestampFileFormat(unit, byteOrder, recordLength, timestampOffset);
+    }
+
+    /**
+     * Returns the unit of the timestamps.
+     *
+     * @return The unit of the timestamps.
+     */
+    public EpochUnit unit() {
+        return unit;
+    }
+
+    /**
+     * Returns the byte order of the timestamps.
+     *
+     * @return The byte order of the timestamps.
+     */
+    public ByteOrder byteOrder() {
+        return byteOrder;
+    }
+
+    /**
+     * Returns the number of bytes of each record.
+     *
+     * @return The number of bytes of each record.
+     */
+    public int recordLength() {
+        return recordLength;
+    }
+
+    /**
+     * Returns the offset of the timestamp in each record.
+     *
+     * @return The offset of the timestamp in each record.
+     */
+    public int timestampOffset() {
+        return timestampOffset;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        TimestampFileFormat other = (TimestampFileFormat) o;
+        return unit == other.unit
+                && byteOrder.equals(other.byteOrder)
+                && recordLength == other.recordLength
+                && timestampOffset == other.timestampOffset;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(unit, byteOrder, recordLength, timestampOffset);
+    }
+
+    @Override
+    @SuppressWarnings("nls")
+    public String toString() {
+        return "TimestampFileFormat[unit=" + unit
+                + ",byteOrder=" + byteOrder
+                + ",recordLength=" + recordLength
+                + ",timestampOffset=" + timestampOffset
+                + "]";
+    }
+}
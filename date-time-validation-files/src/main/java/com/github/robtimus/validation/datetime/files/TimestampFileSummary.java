@@ -0,0 +1,123 @@
+/*
+ * TimestampFileSummary.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.validation.datetime.files;
+
+import java.util.OptionalLong;
+
+/**
+ * Summary statistics of the validation of a timestamp file.
+ *
+ * @author Rob Spoor
+ */
+public final class TimestampFileSummary {
+
+    private final long recordCount;
+    private final long invalidCount;
+    private final long firstInvalidIndex;
+    private final long minEpochValue;
+    private final long maxEpochValue;
+    private final int trailingByteCount;
+
+    TimestampFileSummary(long recordCount, long invalidCount, long firstInvalidIndex, long minEpochValue, long maxEpochValue,
+            int trailingByteCount) {
+
+        this.recordCount = recordCount;
+        this.invalidCount = invalidCount;
+        this.firstInvalidIndex = firstInvalidIndex;
+        this.minEpochValue = minEpochValue;
+        this.maxEpochValue = maxEpochValue;
+        this.trailingByteCount = trailingByteCount;
+    }
+
+    /**
+     * Returns the number of records in the file.
+     *
+     * @return The number of records in the file.
+     */
+    public long recordCount() {
+        return recordCount;
+    }
+
+    /**
+     * Returns the number of records with an invalid timestamp.
+     *
+     * @return The number of records with an invalid timestamp.
+     */
+    public long invalidCount() {
+        return invalidCount;
+    }
+
+    /**
+     * Returns the number of records with a valid timestamp.
+     *
+     * @return The number of records with a valid timestamp.
+     */
+    public long validCount() {
+        return recordCount - invalidCount;
+    }
+
+    /**
+     * Returns the index of the first record with an invalid timestamp.
+     *
+     * @return An {@link OptionalLong} with the index of the first record with an invalid timestamp,
+     *         or {@link OptionalLong#empty()} if all timestamps are valid.
+     */
+    public OptionalLong firstInvalidIndex() {
+        return invalidCount == 0 ? OptionalLong.empty() : OptionalLong.of(firstInvalidIndex);
+    }
+
+    /**
+     * Returns the smallest epoch value in the file, valid or not.
+     *
+     * @return An {@link OptionalLong} with the smallest epoch value in the file, or {@link OptionalLong#empty()} if the file contains no records.
+     */
+    public OptionalLong minEpochValue() {
+        return recordCount == 0 ? OptionalLong.empty() : OptionalLong.of(minEpochValue);
+    }
+
+    /**
+     * Returns the largest epoch value in the file, valid or not.
+     *
+     * @return An {@link OptionalLong} with the largest epoch value in the file, or {@link OptionalLong#empty()} if the file contains no records.
+     */
+    public OptionalLong maxEpochValue() {
+        return recordCount == 0 ? OptionalLong.empty() : OptionalLong.of(maxEpochValue);
+    }
+
+    /**
+     * Returns the number of bytes at the end of the file that do not form a complete record.
+     * If this is not {@code 0}, the file is most likely truncated.
+     *
+     * @return The number of bytes at the end of the file that do not form a complete record.
+     */
+    public int trailingByteCount() {
+        return trailingByteCount;
+    }
+
+    @Override
+    @SuppressWarnings("nls")
+    public String toString() {
+        return "TimestampFileSummary[recordCount=" + recordCount
+                + ",invalidCount=" + invalidCount
+                + ",firstInvalidIndex=" + firstInvalidIndex()
+                + ",minEpochValue=" + minEpochValue()
+                + ",maxEpochValue=" + maxEpochValue()
+                + ",trailingByteCount=" + trailingByteCount
+                + "]";
+    }
+}
@@ -0,0 +1,313 @@
+/*
+ * TimestampFileValidator.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.validation.datetime.files;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.lang.annotation.Annotation;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.LongPredicate;
+import jakarta.validation.ClockProvider;
+import com.github.robtimus.validation.datetime.base.BulkValidator;
+
+/**
+ * A validator for binary files of timestamps.
+ * <p>
+ * Files are memory-mapped in chunks that are validated in parallel, reading the timestamps directly from the mapped memory. Timestamps are never
+ * converted to {@link Instant}s if the constraint annotation only validates values against a moment in time, for instance {@code After} or
+ * {@code MinBefore}; otherwise they are converted one at a time. See {@link BulkValidator} for more information about which constraint annotations
+ * are supported, and how the current time is determined. If a call is made from within a {@link ForkJoinPool}, that pool is used; otherwise the
+ * {@link ForkJoinPool#commonPool() common pool} is used.
+ * <p>
+ * Instances of this class are thread-safe.
+ *
+ * @author Rob Spoor
+ */
+public final class TimestampFileValidator {
+
+    private static final long DEFAULT_CHUNK_SIZE = 64L * 1024 * 1024;
+
+    private final BulkValidator validator;
+    private final TimestampFileFormat format;
+    private final long recordsPerChunk;
+
+    private TimestampFileValidator(BulkValidator validator, TimestampFileFormat format, long chunkSize) {
+        this.validator = validator;
+        this.format = format;
+        // a single mapping cannot exceed Integer.MAX_VALUE bytes
+        this.recordsPerChunk = Math.max(Math.min(chunkSize, Integer.MAX_VALUE) / format.recordLength(), 1);
+    }
+
+    /**
+     * Creates a new timestamp file validator that uses {@link Clock#systemDefaultZone()} to determine the current time.
+     *
+     * @param constraint The constraint annotation to validate timestamps against.
+     * @param format The format of the files to validate.
+     * @return The created timestamp file validator.
+     * @throws NullPointerException If the given constraint annotation or format is {@code null}.
+     * @throws IllegalArgumentException If the given annotation is not a constraint annotation, or if it does not support {@link Instant}.
+     * @throws IllegalStateException If a validator of the constraint annotation could not be instantiated.
+     */
+    public static TimestampFileValidator forConstraint(Annotation constraint, TimestampFileFormat format) {
+        return forConstraint(constraint, format, Clock::systemDefaultZone);
+    }
+
+    /**
+     * Creates a new timestamp file validator.
+     *
+     * @param constraint The constraint annotation to validate timestamps against.
+     * @param format The format of the files to validate.
+     * @param clockProvider The {@link ClockProvider} that defines the current time.
+     * @return The created timestamp file validator.
+     * @throws NullPointerException If the given constraint annotation, format or {@link ClockProvider} is {@code null}.
+     * @throws IllegalArgumentException If the given annotation is not a constraint annotation, or if it does not support {@link Instant}.
+     * @throws IllegalStateException If a validator of the constraint annotation could not be instantiated.
+     */
+    public static TimestampFileValidator forConstraint(Annotation constraint, TimestampFileFormat format, ClockProvider clockProvider) {
+        Objects.requireNonNull(format);
+        return new TimestampFileValidator(BulkValidator.forConstraint(constraint, clockProvider), format, DEFAULT_CHUNK_SIZE);
+    }
+
+    // for testing only
+    TimestampFileValidator withChunkSize(long chunkSize) {
+        return new TimestampFileValidator(validator, format, chunkSize);
+    }
+
+    /**
+     * Returns the constraint annotation that timestamps are validated against.
+     *
+     * @return The constraint annotation that timestamps are validated against.
+     */
+    public Annotation constraint() {
+        return validator.constraint();
+    }
+
+    /**
+     * Returns the format of the files to validate.
+     *
+     * @return The format of the files to validate.
+     */
+    public TimestampFileFormat format() {
+        return format;
+    }
+
+    /**
+     * Validates a timestamp file.
+     *
+     * @param file The file to validate.
+     * @return Summary statistics of the validation.
+     * @throws NullPointerException If the given file is {@code null}.
+     * @throws IOException If an I/O error occurs.
+     */
+    public TimestampFileSummary validate(Path file) throws IOException {
+        Objects.requireNonNull(file);
+        return validate(file, false).summary();
+    }
+
+    /**
+     * Validates a timestamp file, and writes the indexes of all records with an invalid timestamp to a {@link FailureIndexFile failure index file}.
+     * Existing failure index files are overwritten.
+     *
+     * @param file The file to validate.
+     * @param failureIndexFile The failure index file to write.
+     * @return Summary statistics of the validation.
+     * @throws NullPointerException If the given file or failure index file is {@code null}.
+     * @throws IOException If an I/O error occurs.
+     */
+    public TimestampFileSummary validate(Path file, Path failureIndexFile) throws IOException {
+        Objects.requireNonNull(file);
+        Objects.requireNonNull(failureIndexFile);
+
+        Result result = validate(file, true);
+
+        try (OutputStream output = new BufferedOutputStream(Files.newOutputStream(failureIndexFile))) {
+            long previousIndex = 0;
+            for (FailureIndexFile.Part part : result.failures) {
+                part.writeTo(output, previousIndex);
+                previousIndex = part.lastIndex();
+            }
+        }
+
+        return result.summary();
+    }
+
+    private Result validate(Path file, boolean collectFailures) throws IOException {
+        // the predicate determines the current time, so create it before reading the file
+        LongPredicate predicate = validator.epochValuePredicate(format.unit());
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            int recordLength = format.recordLength();
+            long recordCount = size / recordLength;
+            long chunkCount = (recordCount + recordsPerChunk - 1) / recordsPerChunk;
+
+            Result result = chunkCount == 0
+                    ? new Result()
+                    : invoke(new ChunkTask(channel, predicate, recordCount, 0, chunkCount, collectFailures));
+            result.trailingByteCount = (int) (size % recordLength);
+            return result;
+        }
+    }
+
+    private static Result invoke(ChunkTask task) throws IOException {
+        try {
+            return task.invoke();
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private Result validateChunk(FileChannel channel, LongPredicate predicate, long recordCount, long chunkIndex, boolean collectFailures)
+            throws IOException {
+
+        int recordLength = format.recordLength();
+        int timestampOffset = format.timestampOffset();
+
+        long firstRecord = chunkIndex * recordsPerChunk;
+        int chunkRecordCount = (int) Math.min(recordsPerChunk, recordCount - firstRecord);
+
+        MappedByteBuffer buffer = channel.map(MapMode.READ_ONLY, firstRecord * recordLength, (long) chunkRecordCount * recordLength);
+        buffer.order(format.byteOrder());
+
+        Result result = new Result();
+        FailureIndexFile.Part failures = collectFailures ? new FailureIndexFile.Part() : null;
+
+        long min = Long.MAX_VALUE;
+        long max = Long.MIN_VALUE;
+        long invalidCount = 0;
+        long firstInvalidIndex = -1;
+        for (int i = 0, position = timestampOffset; i < chunkRecordCount; i++, position += recordLength) {
+            long epochValue = buffer.getLong(position);
+            min = Math.min(min, epochValue);
+            max = Math.max(max, epochValue);
+            if (!predicate.test(epochValue)) {
+                long index = firstRecord + i;
+                if (invalidCount++ == 0) {
+                    firstInvalidIndex = index;
+                }
+                if (failures != null) {
+                    failures.add(index);
+                }
+            }
+        }
+
+        result.recordCount = chunkRecordCount;
+        result.invalidCount = invalidCount;
+        result.firstInvalidIndex = firstInvalidIndex;
+        result.minEpochValue = min;
+        result.maxEpochValue = max;
+        if (failures != null && !failures.isEmpty()) {
+            result.failures.add(failures);
+        }
+        return result;
+    }
+
+    @Override
+    @SuppressWarnings("nls")
+    public String toString() {
+        return "TimestampFileValidator[constraint=" + constraint() + ",format=" + format + "]";
+    }
+
+    /**
+     * The combined result of one or more consecutive chunks.
+     *
+     * @author Rob Spoor
+     */
+    private static final class Result {
+
+        private long recordCount;
+        private long invalidCount;
+        private long firstInvalidIndex = -1;
+        private long minEpochValue = Long.MAX_VALUE;
+        private long maxEpochValue = Long.MIN_VALUE;
+        private int trailingByteCount;
+        private final List<FailureIndexFile.Part> failures = new ArrayList<>();
+
+        private Result combine(Result suffix) {
+            if (invalidCount == 0) {
+                firstInvalidIndex = suffix.firstInvalidIndex;
+            }
+            recordCount += suffix.recordCount;
+            invalidCount += suffix.invalidCount;
+            minEpochValue = Math.min(minEpochValue, suffix.minEpochValue);
+            maxEpochValue = Math.max(maxEpochValue, suffix.maxEpochValue);
+            failures.addAll(suffix.failures);
+            return this;
+        }
+
+        private TimestampFileSummary summary() {
+            return new TimestampFileSummary(recordCount, invalidCount, firstInvalidIndex, minEpochValue, maxEpochValue, trailingByteCount);
+        }
+    }
+
+    /**
+     * A task that splits a range of chunks until only one chunk is left, and validates that chunk.
+     *
+     * @author Rob Spoor
+     */
+    @SuppressWarnings("serial")
+    private final class ChunkTask extends RecursiveTask<Result> {
+
+        private final FileChannel channel;
+        private final LongPredicate predicate;
+        private final long recordCount;
+        private final long fromChunk;
+        private final long toChunk;
+        private final boolean collectFailures;
+
+        private ChunkTask(FileChannel channel, LongPredicate predicate, long recordCount, long fromChunk, long toChunk, boolean collectFailures) {
+            this.channel = channel;
+            this.predicate = predicate;
+            this.recordCount = recordCount;
+            this.fromChunk = fromChunk;
+            this.toChunk = toChunk;
+            this.collectFailures = collectFailures;
+        }
+
+        @Override
+        protected Result compute() {
+            if (toChunk - fromChunk > 1) {
+                long middle = (fromChunk + toChunk) >>> 1;
+                ChunkTask prefixTask = new ChunkTask(channel, predicate, recordCount, fromChunk, middle, collectFailures);
+                ChunkTask suffixTask = new ChunkTask(channel, predicate, recordCount, middle, toChunk, collectFailures);
+                prefixTask.fork();
+                Result suffixResult = suffixTask.compute();
+                return prefixTask.join().combine(suffixResult);
+            }
+            try {
+                return validateChunk(channel, predicate, recordCount, fromChunk, collectFailures);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
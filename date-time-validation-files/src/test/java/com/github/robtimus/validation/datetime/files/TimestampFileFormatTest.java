@@ -0,0 +1,79 @@
+/*
+ * TimestampFileFormatTest.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.validation.datetime.files;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import java.nio.ByteOrder;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import com.github.robtimus.validation.datetime.base.EpochUnit;
+
+@SuppressWarnings({ "javadoc", "nls" })
+class TimestampFileFormatTest {
+
+    @Test
+    @DisplayName("of(EpochUnit, ByteOrder)")
+    void testOfWithoutRecordLength() {
+        TimestampFileFormat format = TimestampFileFormat.of(EpochUnit.MILLISECONDS, ByteOrder.LITTLE_ENDIAN);
+
+        assertEquals(EpochUnit.MILLISECONDS, format.unit());
+        assertEquals(ByteOrder.LITTLE_ENDIAN, format.byteOrder());
+        assertEquals(8, format.recordLength());
+        assertEquals(0, format.timestampOffset());
+    }
+
+    @Test
+    @DisplayName("of(EpochUnit, ByteOrder, int, int)")
+    void testOfWithRecordLength() {
+        TimestampFileFormat format = TimestampFileFormat.of(EpochUnit.NANOSECONDS, ByteOrder.BIG_ENDIAN, 16, 8);
+
+        assertEquals(EpochUnit.NANOSECONDS, format.unit());
+        assertEquals(ByteOrder.BIG_ENDIAN, format.byteOrder());
+        assertEquals(16, format.recordLength());
+        assertEquals(8, format.timestampOffset());
+    }
+
+    @Test
+    @DisplayName("invalid record length or offset")
+    void testInvalidRecordLengthOrOffset() {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> TimestampFileFormat.of(EpochUnit.SECONDS, ByteOrder.BIG_ENDIAN, 7, 0));
+        assertEquals("recordLength must be at least 8: 7", exception.getMessage());
+
+        exception = assertThrows(IllegalArgumentException.class, () -> TimestampFileFormat.of(EpochUnit.SECONDS, ByteOrder.BIG_ENDIAN, 16, 9));
+        assertEquals("timestampOffset must be between 0 and 8: 9", exception.getMessage());
+
+        exception = assertThrows(IllegalArgumentException.class, () -> TimestampFileFormat.of(EpochUnit.SECONDS, ByteOrder.BIG_ENDIAN, 16, -1));
+        assertEquals("timestampOffset must be between 0 and 8: -1", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("equals and hashCode")
+    void testEqualsAndHashCode() {
+        TimestampFileFormat format = TimestampFileFormat.of(EpochUnit.SECONDS, ByteOrder.BIG_ENDIAN, 16, 8);
+
+        assertEquals(format, TimestampFileFormat.of(EpochUnit.SECONDS, ByteOrder.BIG_ENDIAN, 16, 8));
+        assertEquals(format.hashCode(), TimestampFileFormat.of(EpochUnit.SECONDS, ByteOrder.BIG_ENDIAN, 16, 8).hashCode());
+        assertNotEquals(format, TimestampFileFormat.of(EpochUnit.MILLISECONDS, ByteOrder.BIG_ENDIAN, 16, 8));
+        assertNotEquals(format, TimestampFileFormat.of(EpochUnit.SECONDS, ByteOrder.LITTLE_ENDIAN, 16, 8));
+        assertNotEquals(format, TimestampFileFormat.of(EpochUnit.SECONDS, ByteOrder.BIG_ENDIAN, 24, 8));
+        assertNotEquals(format, TimestampFileFormat.of(EpochUnit.SECONDS, ByteOrder.BIG_ENDIAN, 16, 0));
+    }
+}
@@ -0,0 +1,233 @@
+/*
+ * TimestampFileValidatorTest.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.validation.datetime.files;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import java.io.IOException;
+import java.lang.annotation.Annotation;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.OptionalLong;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import com.github.robtimus.validation.datetime.After;
+import com.github.robtimus.validation.datetime.MaxBefore;
+import com.github.robtimus.validation.datetime.base.EpochUnit;
+
+@SuppressWarnings({ "javadoc", "nls" })
+class TimestampFileValidatorTest {
+
+    private static final Instant INSTANT = Instant.parse("2007-12-03T10:15:30.00Z");
+
+    // enough records for several chunks with a chunk size of 64 records
+    private static final int COUNT = 1000;
+
+    @TempDir
+    Path tempDir;
+
+    @Nested
+    @DisplayName("validate")
+    class Validate {
+
+        @Test
+        @DisplayName("big-endian epoch milliseconds")
+        void testBigEndianEpochMillis() throws IOException {
+            TimestampFileFormat format = TimestampFileFormat.of(EpochUnit.MILLISECONDS, ByteOrder.BIG_ENDIAN);
+            long[] values = epochValues(INSTANT.toEpochMilli());
+
+            testValidate(format, values, annotation("after"));
+        }
+
+        @Test
+        @DisplayName("little-endian epoch microseconds")
+        void testLittleEndianEpochMicros() throws IOException {
+            TimestampFileFormat format = TimestampFileFormat.of(EpochUnit.MICROSECONDS, ByteOrder.LITTLE_ENDIAN);
+            long[] values = epochValues(INSTANT.getEpochSecond() * 1_000_000L);
+
+            testValidate(format, values, annotation("after"));
+        }
+
+        @Test
+        @DisplayName("epoch nanoseconds in larger records")
+        void testEpochNanosInLargerRecords() throws IOException {
+            TimestampFileFormat format = TimestampFileFormat.of(EpochUnit.NANOSECONDS, ByteOrder.LITTLE_ENDIAN, 20, 4);
+            long[] values = epochValues(INSTANT.getEpochSecond() * 1_000_000_000L);
+
+            testValidate(format, values, annotation("after"));
+        }
+
+        @Test
+        @DisplayName("constraint relative to now")
+        void testConstraintRelativeToNow() throws IOException {
+            TimestampFileFormat format = TimestampFileFormat.of(EpochUnit.MILLISECONDS, ByteOrder.BIG_ENDIAN);
+            // valid values are not before now - 1 hour
+            long[] values = epochValues(INSTANT.minusSeconds(3600).toEpochMilli() - 1);
+
+            testValidate(format, values, annotation("maxBeforeNow"));
+        }
+
+        @Test
+        @DisplayName("no invalid values")
+        void testNoInvalidValues() throws IOException {
+            TimestampFileFormat format = TimestampFileFormat.of(EpochUnit.MILLISECONDS, ByteOrder.BIG_ENDIAN);
+            long[] values = LongStream.range(1, COUNT + 1)
+                    .map(i -> INSTANT.toEpochMilli() + i)
+                    .toArray();
+
+            Path file = writeFile(format, values, 0);
+            Path failureIndexFile = tempDir.resolve("failures");
+
+            TimestampFileSummary summary = validator(format, annotation("after")).validate(file, failureIndexFile);
+
+            assertEquals(COUNT, summary.recordCount());
+            assertEquals(0, summary.invalidCount());
+            assertEquals(OptionalLong.empty(), summary.firstInvalidIndex());
+            assertEquals(0, Files.size(failureIndexFile));
+            assertArrayEquals(new long[0], FailureIndexFile.read(failureIndexFile));
+        }
+
+        @Test
+        @DisplayName("empty file")
+        void testEmptyFile() throws IOException {
+            TimestampFileFormat format = TimestampFileFormat.of(EpochUnit.MILLISECONDS, ByteOrder.BIG_ENDIAN);
+
+            Path file = writeFile(format, new long[0], 3);
+
+            TimestampFileSummary summary = validator(format, annotation("after")).validate(file);
+
+            assertEquals(0, summary.recordCount());
+            assertEquals(0, summary.invalidCount());
+            assertEquals(OptionalLong.empty(), summary.minEpochValue());
+            assertEquals(OptionalLong.empty(), summary.maxEpochValue());
+            assertEquals(3, summary.trailingByteCount());
+        }
+
+        @Test
+        @DisplayName("non-existing file")
+        void testNonExistingFile() {
+            TimestampFileFormat format = TimestampFileFormat.of(EpochUnit.MILLISECONDS, ByteOrder.BIG_ENDIAN);
+            TimestampFileValidator validator = validator(format, annotation("after"));
+            Path file = tempDir.resolve("non-existing");
+
+            assertThrows(NoSuchFileException.class, () -> validator.validate(file));
+        }
+
+        private void testValidate(TimestampFileFormat format, long[] values, Annotation constraint) throws IOException {
+            Path file = writeFile(format, values, 5);
+            Path failureIndexFile = tempDir.resolve("failures");
+
+            long[] expectedFailures = LongStream.range(0, values.length)
+                    .filter(i -> i % 3 == 0)
+                    .toArray();
+
+            TimestampFileSummary summary = validator(format, constraint).validate(file, failureIndexFile);
+
+            assertEquals(values.length, summary.recordCount());
+            assertEquals(expectedFailures.length, summary.invalidCount());
+            assertEquals(values.length - expectedFailures.length, summary.validCount());
+            assertEquals(OptionalLong.of(0), summary.firstInvalidIndex());
+            assertEquals(OptionalLong.of(LongStream.of(values).min().getAsLong()), summary.minEpochValue());
+            assertEquals(OptionalLong.of(LongStream.of(values).max().getAsLong()), summary.maxEpochValue());
+            assertEquals(5, summary.trailingByteCount());
+
+            assertArrayEquals(expectedFailures, FailureIndexFile.read(failureIndexFile));
+
+            TimestampFileSummary summaryOnly = validator(format, constraint).validate(file);
+            assertEquals(summary.toString(), summaryOnly.toString());
+        }
+    }
+
+    @Test
+    @DisplayName("large gaps between failures")
+    void testLargeGapsBetweenFailures() throws IOException {
+        TimestampFileFormat format = TimestampFileFormat.of(EpochUnit.SECONDS, ByteOrder.BIG_ENDIAN);
+        long[] values = LongStream.range(0, 100_000)
+                .map(i -> i == 0 || i == 200 || i == 40_000 || i == 99_999 ? 0 : INSTANT.getEpochSecond() + 1)
+                .toArray();
+
+        Path file = writeFile(format, values, 0);
+        Path failureIndexFile = tempDir.resolve("failures");
+
+        TimestampFileSummary summary = validator(format, annotation("after")).validate(file, failureIndexFile);
+
+        assertEquals(4, summary.invalidCount());
+        assertArrayEquals(new long[] { 0, 200, 40_000, 99_999 }, FailureIndexFile.read(failureIndexFile));
+    }
+
+    @Test
+    @DisplayName("toString")
+    void testToString() {
+        TimestampFileFormat format = TimestampFileFormat.of(EpochUnit.SECONDS, ByteOrder.BIG_ENDIAN);
+        Annotation constraint = annotation("after");
+
+        TimestampFileValidator validator = TimestampFileValidator.forConstraint(constraint, format);
+
+        assertEquals("TimestampFileValidator[constraint=" + constraint + ",format=" + format + "]", validator.toString());
+    }
+
+    // every third value, starting with the first, is not after the given epoch value
+    private static long[] epochValues(long epochValue) {
+        return LongStream.range(0, COUNT)
+                .map(i -> i % 3 == 0 ? epochValue - i : epochValue + i)
+                .toArray();
+    }
+
+    private Path writeFile(TimestampFileFormat format, long[] values, int trailingByteCount) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(values.length * format.recordLength() + trailingByteCount).order(format.byteOrder());
+        for (int i = 0; i < values.length; i++) {
+            buffer.putLong(i * format.recordLength() + format.timestampOffset(), values[i]);
+        }
+        Path file = tempDir.resolve("timestamps");
+        Files.write(file, buffer.array());
+        return file;
+    }
+
+    private static TimestampFileValidator validator(TimestampFileFormat format, Annotation constraint) {
+        Clock clock = Clock.fixed(INSTANT, ZoneOffset.UTC);
+        return TimestampFileValidator.forConstraint(constraint, format, () -> clock)
+                .withChunkSize(64L * format.recordLength());
+    }
+
+    private static Annotation annotation(String fieldName) {
+        try {
+            return TestClass.class.getDeclaredField(fieldName).getAnnotations()[0];
+        } catch (NoSuchFieldException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static final class TestClass {
+
+        @After(moment = "2007-12-03T10:15:30.00Z")
+        private Instant after;
+
+        @MaxBefore(moment = "now", duration = "PT1H")
+        private Instant maxBeforeNow;
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * InvalidElementException.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.validation.datetime.flow;
+
+import java.lang.annotation.Annotation;
+
+/**
+ * Thrown to indicate that an element is not valid according to a constraint annotation.
+ * Instances are passed to {@link java.util.concurrent.Flow.Subscriber#onError(Throwable)} by {@link ValidatingProcessor#failingFast fail-fast}
+ * processors.
+ *
+ * @author Rob Spoor
+ */
+public class InvalidElementException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final transient Object element;
+    private final transient Annotation constraint;
+
+    /**
+     * Creates a new exception.
+     *
+     * @param element The invalid element.
+     * @param index The 0-based index of the element in the stream of elements received by the processor.
+     * @param constraint The constraint annotation that the element violates.
+     */
+    public InvalidElementException(Object element, long index, Annotation constraint) {
+        super(String.format("Element %d is not valid according to %s: %s", index, constraint, element)); //$NON-NLS-1$
+        this.element = element;
+        this.constraint = constraint;
+    }
+
+    /**
+     * Returns the invalid element.
+     *
+     * @return The invalid element, or {@code null} if this exception was deserialized.
+     */
+    public Object element() {
+        return element;
+    }
+
+    /**
+     * Returns the constraint annotation that the element violates.
+     *
+     * @return The constraint annotation that the element violates, or {@code null} if this exception was deserialized.
+     */
+    public Annotation constraint() {
+        return constraint;
+    }
+}
@@ -0,0 +1,542 @@
+/*
+ * ValidatingProcessor.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.validation.datetime.flow;
+
+import java.lang.annotation.Annotation;
+import java.time.Clock;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import com.github.robtimus.validation.datetime.base.TemporalPredicates;
+
+/**
+ * A {@link Flow.Processor} that validates elements against a constraint annotation, and only publishes valid elements.
+ * {@code null} elements are not allowed in flows, so all published elements are non-{@code null}.
+ * <p>
+ * Elements are validated in micro-batches using {@link TemporalPredicates#forBatches(Annotation, Class, Clock)}. A batch is validated as soon
+ * as it is full, or when all elements that were requested from the upstream publisher have been received, so a slow publisher never delays
+ * elements. All elements of a batch are validated against the same current time, and no objects are created per element.
+ * <p>
+ * Backpressure is respected in both directions: elements are only requested from the upstream publisher if the subscriber has demand for them,
+ * and at most two batches are requested ahead. What happens to invalid elements depends on how the processor was created:
+ * <ul>
+ * <li>{@link #dropping(Annotation, Class, Clock, int)} silently drops invalid elements, and requests replacements from the upstream
+ *     publisher.</li>
+ * <li>{@link #routing(Annotation, Class, Clock, int, Flow.Subscriber)} publishes invalid elements to a separate subscriber, which has its own
+ *     demand. If that subscriber has no demand for a full batch of invalid elements, no more elements are requested from the upstream
+ *     publisher. If it cancels its subscription, invalid elements are dropped instead.</li>
+ * <li>{@link #failingFast(Annotation, Class, Clock, int)} cancels the upstream subscription when it encounters an invalid element, and signals
+ *     an {@link InvalidElementException} after all valid elements before the invalid element have been published.</li>
+ * </ul>
+ * Errors and completion from the upstream publisher are signalled to the subscriber of valid elements after all valid elements received before
+ * have been published, and to the subscriber of invalid elements after all invalid elements received before have been published. These signals
+ * are independent; a subscriber of invalid elements without demand does not delay the completion of the subscriber of valid elements.
+ * <p>
+ * A processor supports only one subscriber, and can be subscribed to only one publisher.
+ *
+ * @author Rob Spoor
+ * @param <T> The type of elements to validate.
+ */
+public final class ValidatingProcessor<T> implements Flow.Processor<T, T> {
+
+    private static final int BATCHES_AHEAD = 2;
+
+    private final Annotation constraint;
+    private final Class<T> valueType;
+    private final Supplier<Predicate<T>> batchPredicates;
+    private final int batchSize;
+    private final boolean failFast;
+    private final Flow.Subscriber<? super T> rejectedSubscriber;
+
+    private final AtomicInteger wip = new AtomicInteger();
+    private final Object lock = new Object();
+
+    // all fields below are guarded by lock
+
+    private Flow.Subscription upstream;
+    private Flow.Subscriber<? super T> downstream;
+    private boolean downstreamSubscribed;
+    private boolean rejectedSubscribed;
+
+    private List<T> batch;
+    private final ArrayDeque<T> ready = new ArrayDeque<>();
+    private final ArrayDeque<T> rejected = new ArrayDeque<>();
+
+    private long requested;
+    private long rejectedRequested;
+    private long outstanding;
+    private long receivedCount;
+    private long invalidCount;
+
+    private boolean upstreamDone;
+    private Throwable error;
+    private boolean cancelled;
+    private boolean terminated;
+    private boolean rejectedTerminated;
+    private boolean rejectedCancelled;
+    private Throwable rejectedError;
+
+    private ValidatingProcessor(Annotation constraint, Class<T> valueType, Clock clock, int batchSize, boolean failFast,
+            Flow.Subscriber<? super T> rejectedSubscriber) {
+
+        if (batchSize < 1) {
+            throw new IllegalArgumentException(String.format("Batch size must be positive: %d", batchSize)); //$NON-NLS-1$
+        }
+        this.constraint = constraint;
+        this.valueType = valueType;
+        this.batchPredicates = TemporalPredicates.forBatches(constraint, valueType, clock);
+        this.batchSize = batchSize;
+        this.failFast = failFast;
+        this.rejectedSubscriber = rejectedSubscriber;
+    }
+
+    /**
+     * Creates a processor that drops invalid elements.
+     *
+     * @param <T> The type of elements to validate.
+     * @param constraint The constraint annotation to validate elements against.
+     * @param valueType The type of elements to validate.
+     * @param clock The clock that defines the current time.
+     * @param batchSize The maximum number of elements to validate at once.
+     * @return The created processor.
+     * @throws NullPointerException If the given constraint annotation, value type or clock is {@code null}.
+     * @throws IllegalArgumentException If the given batch size is not positive, if the given annotation is not a constraint annotation,
+     *                                      or if it does not support the given value type.
+     * @throws IllegalStateException If a validator of the constraint annotation could not be instantiated.
+     */
+    public static <T> ValidatingProcessor<T> dropping(Annotation constraint, Class<T> valueType, Clock clock, int batchSize) {
+        return new ValidatingProcessor<>(constraint, valueType, clock, batchSize, false, null);
+    }
+
+    /**
+     * Creates a processor that publishes invalid elements to a separate subscriber.
+     * That subscriber is subscribed when this processor is subscribed to its upstream publisher.
+     * It is completed when the subscriber of this processor cancels its subscription, or when the upstream publisher completes and all invalid
+     * elements have been published to it. It receives the same error as the subscriber of this processor otherwise, also after all invalid
+     * elements have been published to it.
+     *
+     * @param <T> The type of elements to validate.
+     * @param constraint The constraint annotation to validate elements against.
+     * @param valueType The type of elements to validate.
+     * @param clock The clock that defines the current time.
+     * @param batchSize The maximum number of elements to validate at once.
+     * @param rejectedSubscriber The subscriber for invalid elements.
+     * @return The created processor.
+     * @throws NullPointerException If the given constraint annotation, value type, clock or subscriber is {@code null}.
+     * @throws IllegalArgumentException If the given batch size is not positive, if the given annotation is not a constraint annotation,
+     *                                      or if it does not support the given value type.
+     * @throws IllegalStateException If a validator of the constraint annotation could not be instantiated.
+     */
+    public static <T> ValidatingProcessor<T> routing(Annotation constraint, Class<T> valueType, Clock clock, int batchSize,
+            Flow.Subscriber<? super T> rejectedSubscriber) {
+
+        Objects.requireNonNull(rejectedSubscriber);
+        return new ValidatingProcessor<>(constraint, valueType, clock, batchSize, false, rejectedSubscriber);
+    }
+
+    /**
+     * Creates a processor that fails with an {@link InvalidElementException} on the first invalid element.
+     *
+     * @param <T> The type of elements to validate.
+     * @param constraint The constraint annotation to validate elements against.
+     * @param valueType The type of elements to validate.
+     * @param clock The clock that defines the current time.
+     * @param batchSize The maximum number of elements to validate at once.
+     * @return The created processor.
+     * @throws NullPointerException If the given constraint annotation, value type or clock is {@code null}.
+     * @throws IllegalArgumentException If the given batch size is not positive, if the given annotation is not a constraint annotation,
+     *                                      or if it does not support the given value type.
+     * @throws IllegalStateException If a validator of the constraint annotation could not be instantiated.
+     */
+    public static <T> ValidatingProcessor<T> failingFast(Annotation constraint, Class<T> valueType, Clock clock, int batchSize) {
+        return new ValidatingProcessor<>(constraint, valueType, clock, batchSize, true, null);
+    }
+
+    /**
+     * Returns the number of invalid elements that have been received so far.
+     *
+     * @return The number of invalid elements that have been received so far.
+     */
+    public long invalidCount() {
+        synchronized (lock) {
+            return invalidCount;
+        }
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super T> subscriber) {
+        Objects.requireNonNull(subscriber);
+
+        boolean accepted;
+        synchronized (lock) {
+            accepted = downstream == null;
+            if (accepted) {
+                downstream = subscriber;
+            }
+        }
+        if (!accepted) {
+            subscriber.onSubscribe(NoopSubscription.INSTANCE);
+            subscriber.onError(new IllegalStateException("Only one subscriber is supported")); //$NON-NLS-1$
+            return;
+        }
+        subscriber.onSubscribe(new DownstreamSubscription());
+        synchronized (lock) {
+            downstreamSubscribed = true;
+        }
+        drain();
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        Objects.requireNonNull(subscription);
+
+        boolean accepted;
+        synchronized (lock) {
+            accepted = upstream == null && !cancelled;
+            if (accepted) {
+                upstream = subscription;
+            }
+        }
+        if (!accepted) {
+            subscription.cancel();
+            return;
+        }
+        if (rejectedSubscriber != null) {
+            rejectedSubscriber.onSubscribe(new RejectedSubscription());
+            synchronized (lock) {
+                rejectedSubscribed = true;
+            }
+        }
+        drain();
+    }
+
+    @Override
+    public void onNext(T item) {
+        Objects.requireNonNull(item);
+
+        List<T> fullBatch = null;
+        long firstIndex = 0;
+        synchronized (lock) {
+            if (upstreamDone || cancelled) {
+                return;
+            }
+            outstanding--;
+            if (batch == null) {
+                batch = new ArrayList<>(batchSize);
+            }
+            batch.add(item);
+            if (batch.size() >= batchSize || outstanding <= 0) {
+                fullBatch = batch;
+                batch = null;
+                firstIndex = receivedCount;
+                receivedCount += fullBatch.size();
+            }
+        }
+        if (fullBatch != null) {
+            validateBatch(fullBatch, firstIndex);
+        }
+        drain();
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        Objects.requireNonNull(throwable);
+        terminateUpstream(throwable);
+    }
+
+    @Override
+    public void onComplete() {
+        terminateUpstream(null);
+    }
+
+    private void terminateUpstream(Throwable throwable) {
+        List<T> lastBatch;
+        long firstIndex;
+        synchronized (lock) {
+            if (upstreamDone) {
+                return;
+            }
+            lastBatch = batch;
+            batch = null;
+            firstIndex = receivedCount;
+            receivedCount += lastBatch == null ? 0 : lastBatch.size();
+        }
+        if (lastBatch != null) {
+            validateBatch(lastBatch, firstIndex);
+        }
+        synchronized (lock) {
+            if (!upstreamDone) {
+                upstreamDone = true;
+                error = throwable;
+            }
+        }
+        drain();
+    }
+
+    private void validateBatch(List<T> values, long firstIndex) {
+        Predicate<T> predicate = batchPredicates.get();
+        BitSet invalid = new BitSet(values.size());
+        for (int i = 0; i < values.size(); i++) {
+            if (!predicate.test(values.get(i))) {
+                invalid.set(i);
+                if (failFast) {
+                    break;
+                }
+            }
+        }
+
+        Flow.Subscription subscriptionToCancel = null;
+        synchronized (lock) {
+            invalidCount += invalid.cardinality();
+            for (int i = 0; i < values.size(); i++) {
+                T value = values.get(i);
+                if (!invalid.get(i)) {
+                    ready.add(value);
+                } else if (failFast) {
+                    upstreamDone = true;
+                    error = new InvalidElementException(value, firstIndex + i, constraint);
+                    batch = null;
+                    subscriptionToCancel = upstream;
+                    break;
+                } else if (rejectedSubscriber != null && !rejectedCancelled) {
+                    rejected.add(value);
+                }
+            }
+        }
+        if (subscriptionToCancel != null) {
+            subscriptionToCancel.cancel();
+        }
+    }
+
+    private void drain() {
+        if (wip.getAndIncrement() != 0) {
+            return;
+        }
+        int missed = 1;
+        do {
+            emit();
+            missed = wip.addAndGet(-missed);
+        } while (missed != 0);
+    }
+
+    private void emit() {
+        while (emitOne()) {
+            // keep emitting
+        }
+
+        Flow.Subscription subscriptionToRequest = null;
+        long toRequest = 0;
+        boolean complete = false;
+        Throwable terminalError = null;
+        boolean signalRejected = false;
+        Throwable rejectedTerminalError = null;
+        synchronized (lock) {
+            if (terminated) {
+                // nothing left to do for the subscriber of valid elements
+            } else if (cancelled) {
+                terminated = true;
+                clear();
+            } else if (upstreamDone && batch == null && ready.isEmpty()) {
+                // pending invalid elements do not delay the subscriber of valid elements
+                if (downstreamSubscribed) {
+                    terminated = true;
+                    complete = error == null;
+                    terminalError = error;
+                }
+            } else if (!upstreamDone && upstream != null && downstreamSubscribed) {
+                long inFlight = outstanding + (batch == null ? 0 : batch.size());
+                long demand = requested == Long.MAX_VALUE ? Long.MAX_VALUE : requested - ready.size();
+                long limit = rejected.size() >= batchSize ? 0 : (long) BATCHES_AHEAD * batchSize - inFlight;
+                toRequest = Math.min(demand - inFlight, limit);
+                if (toRequest > 0) {
+                    outstanding += toRequest;
+                    subscriptionToRequest = upstream;
+                }
+            }
+            if (rejectedError != null && rejectedSubscribed) {
+                rejectedTerminalError = rejectedError;
+                rejectedError = null;
+            } else if (terminated && rejected.isEmpty() && rejectedSubscribed && !rejectedCancelled && !rejectedTerminated) {
+                // the subscriber of invalid elements receives the same signal as the subscriber of valid elements, after its own elements
+                rejectedTerminated = true;
+                signalRejected = true;
+                rejectedTerminalError = cancelled ? null : error;
+            }
+        }
+
+        if (rejectedTerminalError != null) {
+            rejectedSubscriber.onError(rejectedTerminalError);
+        } else if (signalRejected) {
+            rejectedSubscriber.onComplete();
+        }
+        if (complete) {
+            downstream.onComplete();
+        } else if (terminalError != null) {
+            downstream.onError(terminalError);
+        }
+        if (subscriptionToRequest != null) {
+            subscriptionToRequest.request(toRequest);
+        }
+    }
+
+    private boolean emitOne() {
+        T item;
+        Flow.Subscriber<? super T> target;
+        synchronized (lock) {
+            if (!terminated && !cancelled && downstreamSubscribed && requested > 0 && !ready.isEmpty()) {
+                item = ready.removeFirst();
+                if (requested != Long.MAX_VALUE) {
+                    requested--;
+                }
+                target = downstream;
+            } else if (rejectedSubscribed && !rejectedTerminated && rejectedRequested > 0 && !rejected.isEmpty()) {
+                item = rejected.removeFirst();
+                if (rejectedRequested != Long.MAX_VALUE) {
+                    rejectedRequested--;
+                }
+                target = rejectedSubscriber;
+            } else {
+                return false;
+            }
+        }
+        target.onNext(item);
+        return true;
+    }
+
+    private void clear() {
+        batch = null;
+        ready.clear();
+        rejected.clear();
+    }
+
+    private static long addCapped(long current, long n) {
+        long result = current + n;
+        return result < 0 ? Long.MAX_VALUE : result;
+    }
+
+    @Override
+    @SuppressWarnings("nls")
+    public String toString() {
+        return "ValidatingProcessor[constraint=" + constraint + ",valueType=" + valueType.getName() + ",batchSize=" + batchSize + "]";
+    }
+
+    /**
+     * The subscription of the subscriber of valid elements.
+     *
+     * @author Rob Spoor
+     */
+    private final class DownstreamSubscription implements Flow.Subscription {
+
+        @Override
+        public void request(long n) {
+            Flow.Subscription subscriptionToCancel = null;
+            synchronized (lock) {
+                if (n <= 0) {
+                    if (!upstreamDone) {
+                        subscriptionToCancel = upstream;
+                    }
+                    clear();
+                    upstreamDone = true;
+                    error = new IllegalArgumentException(String.format("Requested number of elements must be positive: %d", n)); //$NON-NLS-1$
+                } else {
+                    requested = addCapped(requested, n);
+                }
+            }
+            if (subscriptionToCancel != null) {
+                subscriptionToCancel.cancel();
+            }
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            Flow.Subscription subscriptionToCancel;
+            synchronized (lock) {
+                if (cancelled) {
+                    return;
+                }
+                cancelled = true;
+                subscriptionToCancel = upstreamDone ? null : upstream;
+            }
+            if (subscriptionToCancel != null) {
+                subscriptionToCancel.cancel();
+            }
+            drain();
+        }
+    }
+
+    /**
+     * The subscription of the subscriber of invalid elements.
+     *
+     * @author Rob Spoor
+     */
+    private final class RejectedSubscription implements Flow.Subscription {
+
+        @Override
+        public void request(long n) {
+            synchronized (lock) {
+                if (rejectedCancelled) {
+                    return;
+                }
+                if (n <= 0) {
+                    rejectedCancelled = true;
+                    rejected.clear();
+                    rejectedError = new IllegalArgumentException(String.format("Requested number of elements must be positive: %d", n)); //$NON-NLS-1$
+                } else {
+                    rejectedRequested = addCapped(rejectedRequested, n);
+                }
+            }
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            synchronized (lock) {
+                rejectedCancelled = true;
+                rejected.clear();
+            }
+            drain();
+        }
+    }
+
+    /**
+     * A subscription that does nothing, for rejected subscribers.
+     *
+     * @author Rob Spoor
+     */
+    private static final class NoopSubscription implements Flow.Subscription {
+
+        private static final NoopSubscription INSTANCE = new NoopSubscription();
+
+        @Override
+        public void request(long n) {
+            // does nothing
+        }
+
+        @Override
+        public void cancel() {
+            // does nothing
+        }
+    }
+}
@@ -0,0 +1,443 @@
+/*
+ * ValidatingProcessorTest.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.validation.datetime.flow;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.lang.annotation.Annotation;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import com.github.robtimus.validation.datetime.After;
+
+@SuppressWarnings({ "javadoc", "nls" })
+class ValidatingProcessorTest {
+
+    private static final Instant INSTANT = Instant.parse("2007-12-03T10:15:30.00Z");
+
+    private static final Instant VALID = INSTANT.plusSeconds(1);
+    private static final Instant INVALID = INSTANT.minusSeconds(1);
+
+    private static final Clock CLOCK = Clock.systemUTC();
+
+    private static final Annotation CONSTRAINT = annotation("after");
+
+    @Test
+    @DisplayName("invalid batch size")
+    void testInvalidBatchSize() {
+        assertThrows(IllegalArgumentException.class, () -> ValidatingProcessor.dropping(CONSTRAINT, Instant.class, CLOCK, 0));
+    }
+
+    @Nested
+    @DisplayName("dropping")
+    class Dropping {
+
+        @Test
+        @DisplayName("asynchronous publisher")
+        void testAsynchronousPublisher() throws InterruptedException {
+            // every third value is invalid
+            List<Instant> values = IntStream.range(0, 10_000)
+                    .mapToObj(i -> i % 3 == 0 ? INSTANT.minusSeconds(i) : INSTANT.plusSeconds(i))
+                    .collect(Collectors.toList());
+            List<Instant> expected = values.stream()
+                    .filter(INSTANT::isBefore)
+                    .collect(Collectors.toList());
+
+            ValidatingProcessor<Instant> processor = ValidatingProcessor.dropping(CONSTRAINT, Instant.class, CLOCK, 16);
+            TestSubscriber subscriber = new TestSubscriber(Long.MAX_VALUE);
+            processor.subscribe(subscriber);
+
+            try (SubmissionPublisher<Instant> publisher = new SubmissionPublisher<>()) {
+                publisher.subscribe(processor);
+                values.forEach(publisher::submit);
+            }
+
+            assertTrue(subscriber.await());
+            assertEquals(expected, subscriber.items());
+            assertTrue(subscriber.completed);
+            assertNull(subscriber.error);
+            assertEquals(values.size() - expected.size(), processor.invalidCount());
+        }
+
+        @Test
+        @DisplayName("backpressure")
+        void testBackpressure() {
+            ValidatingProcessor<Instant> processor = ValidatingProcessor.dropping(CONSTRAINT, Instant.class, CLOCK, 16);
+            TestSubscriber subscriber = new TestSubscriber(3);
+            processor.subscribe(subscriber);
+            TestSubscription upstream = new TestSubscription();
+            processor.onSubscribe(upstream);
+
+            assertEquals(Arrays.asList(3L), upstream.requests);
+
+            processor.onNext(VALID);
+            processor.onNext(INVALID);
+            assertEquals(Collections.emptyList(), subscriber.items());
+
+            // the batch is validated once all requested elements are received
+            processor.onNext(VALID);
+            assertEquals(Arrays.asList(VALID, VALID), subscriber.items());
+            // the dropped element is replaced
+            assertEquals(Arrays.asList(3L, 1L), upstream.requests);
+
+            processor.onNext(VALID);
+            processor.onComplete();
+
+            assertEquals(Arrays.asList(VALID, VALID, VALID), subscriber.items());
+            assertTrue(subscriber.completed);
+        }
+
+        @Test
+        @DisplayName("unbounded demand")
+        void testUnboundedDemand() {
+            ValidatingProcessor<Instant> processor = ValidatingProcessor.dropping(CONSTRAINT, Instant.class, CLOCK, 4);
+            TestSubscriber subscriber = new TestSubscriber(Long.MAX_VALUE);
+            processor.subscribe(subscriber);
+            TestSubscription upstream = new TestSubscription();
+            processor.onSubscribe(upstream);
+
+            // at most two batches are requested ahead
+            assertEquals(Arrays.asList(8L), upstream.requests);
+
+            for (int i = 0; i < 4; i++) {
+                processor.onNext(VALID);
+            }
+
+            assertEquals(4, subscriber.items().size());
+            assertEquals(Arrays.asList(8L, 4L), upstream.requests);
+        }
+
+        @Test
+        @DisplayName("upstream error")
+        void testUpstreamError() {
+            ValidatingProcessor<Instant> processor = ValidatingProcessor.dropping(CONSTRAINT, Instant.class, CLOCK, 4);
+            TestSubscriber subscriber = new TestSubscriber(1);
+            processor.subscribe(subscriber);
+            processor.onSubscribe(new TestSubscription());
+
+            processor.onNext(VALID);
+            IllegalStateException error = new IllegalStateException();
+            processor.onError(error);
+
+            assertEquals(Arrays.asList(VALID), subscriber.items());
+            assertEquals(error, subscriber.error);
+        }
+
+        @Test
+        @DisplayName("additional demand")
+        void testAdditionalDemand() {
+            ValidatingProcessor<Instant> processor = ValidatingProcessor.dropping(CONSTRAINT, Instant.class, CLOCK, 4);
+            TestSubscriber subscriber = new TestSubscriber(2);
+            processor.subscribe(subscriber);
+            processor.onSubscribe(new TestSubscription());
+
+            processor.onNext(VALID);
+            processor.onNext(VALID);
+            subscriber.subscription.request(1);
+            processor.onNext(VALID);
+            processor.onComplete();
+
+            assertEquals(3, subscriber.items().size());
+            assertTrue(subscriber.completed);
+        }
+    }
+
+    @Nested
+    @DisplayName("routing")
+    class Routing {
+
+        @Test
+        @DisplayName("invalid elements are routed")
+        void testInvalidElementsAreRouted() {
+            TestSubscriber rejectedSubscriber = new TestSubscriber(Long.MAX_VALUE);
+            ValidatingProcessor<Instant> processor = ValidatingProcessor.routing(CONSTRAINT, Instant.class, CLOCK, 4, rejectedSubscriber);
+            TestSubscriber subscriber = new TestSubscriber(Long.MAX_VALUE);
+            processor.subscribe(subscriber);
+            processor.onSubscribe(new TestSubscription());
+
+            processor.onNext(VALID);
+            processor.onNext(INVALID);
+            processor.onNext(VALID.plusSeconds(1));
+            processor.onNext(INVALID.minusSeconds(1));
+            processor.onComplete();
+
+            assertEquals(Arrays.asList(VALID, VALID.plusSeconds(1)), subscriber.items());
+            assertEquals(Arrays.asList(INVALID, INVALID.minusSeconds(1)), rejectedSubscriber.items());
+            assertTrue(subscriber.completed);
+            assertTrue(rejectedSubscriber.completed);
+        }
+
+        @Test
+        @DisplayName("backpressure of rejected subscriber")
+        void testBackpressureOfRejectedSubscriber() {
+            TestSubscriber rejectedSubscriber = new TestSubscriber(0);
+            ValidatingProcessor<Instant> processor = ValidatingProcessor.routing(CONSTRAINT, Instant.class, CLOCK, 2, rejectedSubscriber);
+            TestSubscriber subscriber = new TestSubscriber(Long.MAX_VALUE);
+            processor.subscribe(subscriber);
+            TestSubscription upstream = new TestSubscription();
+            processor.onSubscribe(upstream);
+
+            assertEquals(Arrays.asList(4L), upstream.requests);
+
+            processor.onNext(INVALID);
+            processor.onNext(INVALID);
+
+            // a full batch of invalid elements is waiting for demand
+            assertEquals(Arrays.asList(4L), upstream.requests);
+
+            rejectedSubscriber.subscription.request(2);
+
+            assertEquals(Arrays.asList(INVALID, INVALID), rejectedSubscriber.items());
+            assertEquals(Arrays.asList(4L, 2L), upstream.requests);
+        }
+
+        @Test
+        @DisplayName("completion does not wait for rejected subscriber")
+        void testCompletionDoesNotWaitForRejectedSubscriber() {
+            TestSubscriber rejectedSubscriber = new TestSubscriber(0);
+            ValidatingProcessor<Instant> processor = ValidatingProcessor.routing(CONSTRAINT, Instant.class, CLOCK, 4, rejectedSubscriber);
+            TestSubscriber subscriber = new TestSubscriber(Long.MAX_VALUE);
+            processor.subscribe(subscriber);
+            processor.onSubscribe(new TestSubscription());
+
+            processor.onNext(VALID);
+            processor.onNext(INVALID);
+            processor.onComplete();
+
+            assertEquals(Arrays.asList(VALID), subscriber.items());
+            assertTrue(subscriber.completed);
+            assertEquals(Collections.emptyList(), rejectedSubscriber.items());
+            assertFalse(rejectedSubscriber.completed);
+
+            rejectedSubscriber.subscription.request(1);
+
+            assertEquals(Arrays.asList(INVALID), rejectedSubscriber.items());
+            assertTrue(rejectedSubscriber.completed);
+        }
+
+        @Test
+        @DisplayName("error does not wait for rejected subscriber")
+        void testErrorDoesNotWaitForRejectedSubscriber() {
+            TestSubscriber rejectedSubscriber = new TestSubscriber(0);
+            ValidatingProcessor<Instant> processor = ValidatingProcessor.routing(CONSTRAINT, Instant.class, CLOCK, 4, rejectedSubscriber);
+            TestSubscriber subscriber = new TestSubscriber(Long.MAX_VALUE);
+            processor.subscribe(subscriber);
+            processor.onSubscribe(new TestSubscription());
+
+            IllegalStateException error = new IllegalStateException();
+            processor.onNext(INVALID);
+            processor.onError(error);
+
+            assertSame(error, subscriber.error);
+            assertNull(rejectedSubscriber.error);
+
+            rejectedSubscriber.subscription.request(1);
+
+            assertEquals(Arrays.asList(INVALID), rejectedSubscriber.items());
+            assertSame(error, rejectedSubscriber.error);
+        }
+    }
+
+    @Nested
+    @DisplayName("failing fast")
+    class FailingFast {
+
+        @Test
+        @DisplayName("invalid element")
+        void testInvalidElement() {
+            ValidatingProcessor<Instant> processor = ValidatingProcessor.failingFast(CONSTRAINT, Instant.class, CLOCK, 4);
+            TestSubscriber subscriber = new TestSubscriber(Long.MAX_VALUE);
+            processor.subscribe(subscriber);
+            TestSubscription upstream = new TestSubscription();
+            processor.onSubscribe(upstream);
+
+            processor.onNext(VALID);
+            processor.onNext(VALID);
+            processor.onNext(INVALID);
+            processor.onNext(VALID);
+            processor.onNext(VALID);
+
+            assertEquals(Arrays.asList(VALID, VALID), subscriber.items());
+            InvalidElementException exception = assertInstanceOf(InvalidElementException.class, subscriber.error);
+            assertEquals(INVALID, exception.element());
+            assertEquals(CONSTRAINT, exception.constraint());
+            assertTrue(exception.getMessage().startsWith("Element 2 is not valid"));
+            assertTrue(upstream.cancelled);
+            assertFalse(subscriber.completed);
+        }
+    }
+
+    @Nested
+    @DisplayName("subscriptions")
+    class Subscriptions {
+
+        @Test
+        @DisplayName("second subscriber")
+        void testSecondSubscriber() {
+            ValidatingProcessor<Instant> processor = ValidatingProcessor.dropping(CONSTRAINT, Instant.class, CLOCK, 4);
+            processor.subscribe(new TestSubscriber(1));
+
+            TestSubscriber subscriber = new TestSubscriber(1);
+            processor.subscribe(subscriber);
+
+            assertInstanceOf(IllegalStateException.class, subscriber.error);
+        }
+
+        @Test
+        @DisplayName("non-positive request")
+        void testNonPositiveRequest() {
+            ValidatingProcessor<Instant> processor = ValidatingProcessor.dropping(CONSTRAINT, Instant.class, CLOCK, 4);
+            TestSubscriber subscriber = new TestSubscriber(0);
+            processor.subscribe(subscriber);
+            TestSubscription upstream = new TestSubscription();
+            processor.onSubscribe(upstream);
+
+            subscriber.subscription.request(0);
+
+            assertInstanceOf(IllegalArgumentException.class, subscriber.error);
+            assertTrue(upstream.cancelled);
+        }
+
+        @Test
+        @DisplayName("cancel")
+        void testCancel() {
+            TestSubscriber rejectedSubscriber = new TestSubscriber(Long.MAX_VALUE);
+            ValidatingProcessor<Instant> processor = ValidatingProcessor.routing(CONSTRAINT, Instant.class, CLOCK, 4, rejectedSubscriber);
+            TestSubscriber subscriber = new TestSubscriber(Long.MAX_VALUE);
+            processor.subscribe(subscriber);
+            TestSubscription upstream = new TestSubscription();
+            processor.onSubscribe(upstream);
+
+            subscriber.subscription.cancel();
+            processor.onNext(VALID);
+
+            assertTrue(upstream.cancelled);
+            assertEquals(Collections.emptyList(), subscriber.items());
+            assertFalse(subscriber.completed);
+            assertTrue(rejectedSubscriber.completed);
+        }
+
+        @Test
+        @DisplayName("second publisher")
+        void testSecondPublisher() {
+            ValidatingProcessor<Instant> processor = ValidatingProcessor.dropping(CONSTRAINT, Instant.class, CLOCK, 4);
+            processor.onSubscribe(new TestSubscription());
+
+            TestSubscription subscription = new TestSubscription();
+            processor.onSubscribe(subscription);
+
+            assertTrue(subscription.cancelled);
+        }
+    }
+
+    private static Annotation annotation(String fieldName) {
+        try {
+            return TestClass.class.getDeclaredField(fieldName).getAnnotations()[0];
+        } catch (NoSuchFieldException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static final class TestClass {
+
+        @After(moment = "2007-12-03T10:15:30.00Z")
+        private Instant after;
+    }
+
+    private static final class TestSubscription implements Flow.Subscription {
+
+        private final List<Long> requests = new ArrayList<>();
+        private boolean cancelled;
+
+        @Override
+        public synchronized void request(long n) {
+            requests.add(n);
+        }
+
+        @Override
+        public synchronized void cancel() {
+            cancelled = true;
+        }
+    }
+
+    private static final class TestSubscriber implements Flow.Subscriber<Instant> {
+
+        private final long initialRequest;
+        private final List<Instant> items = Collections.synchronizedList(new ArrayList<>());
+        private final CountDownLatch done = new CountDownLatch(1);
+        private Flow.Subscription subscription;
+        private volatile boolean completed;
+        private volatile Throwable error;
+
+        private TestSubscriber(long initialRequest) {
+            this.initialRequest = initialRequest;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription s) {
+            subscription = s;
+            if (initialRequest > 0) {
+                s.request(initialRequest);
+            }
+        }
+
+        @Override
+        public void onNext(Instant item) {
+            items.add(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            error = throwable;
+            done.countDown();
+        }
+
+        @Override
+        public void onComplete() {
+            completed = true;
+            done.countDown();
+        }
+
+        private List<Instant> items() {
+            synchronized (items) {
+                return new ArrayList<>(items);
+            }
+        }
+
+        private boolean await() throws InterruptedException {
+            return done.await(10, TimeUnit.SECONDS);
+        }
+    }
+}
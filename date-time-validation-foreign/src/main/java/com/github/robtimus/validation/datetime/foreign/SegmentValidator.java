@@ -0,0 +1,280 @@
+/*
+ * SegmentValidator.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.validation.datetime.foreign;
+
+import java.lang.annotation.Annotation;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.ByteOrder;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.LongPredicate;
+import jakarta.validation.ClockProvider;
+import com.github.robtimus.validation.datetime.base.BulkValidator;
+import com.github.robtimus.validation.datetime.base.EpochUnit;
+
+/**
+ * A validator for columns of epoch values in {@link MemorySegment}s, for instance memory that is shared with native code.
+ * <p>
+ * Epoch values are read directly from the memory segment, without copying them to the heap. A column is a contiguous sequence of 64-bit epoch
+ * values; use {@link MemorySegment#asSlice(long, long)} to validate only a part of a segment. Epoch values are never converted to
+ * {@link Instant}s if the constraint annotation only validates values against a moment in time, for instance {@code After} or
+ * {@code MinBefore}; otherwise they are converted one at a time. See {@link BulkValidator} for more information about which constraint annotations
+ * are supported, and how the current time is determined.
+ * <p>
+ * Large segments that can be accessed from any thread, for instance segments allocated by a {@link Arena#ofShared() shared arena}, are sliced into
+ * chunks that are validated in parallel. If a call is made from within a {@link ForkJoinPool}, that pool is used; otherwise the
+ * {@link ForkJoinPool#commonPool() common pool} is used. Segments allocated by a {@link Arena#ofConfined() confined arena} can only be accessed
+ * from their owner thread, and are therefore always validated in the current thread.
+ * <p>
+ * Instances of this class are thread-safe.
+ *
+ * @author Rob Spoor
+ */
+public final class SegmentValidator {
+
+    private static final long DEFAULT_CHUNK_SIZE = 1024L * 1024;
+
+    private static final int ADDRESS_BITS_PER_WORD = 6;
+    private static final int BITS_PER_WORD = 1 << ADDRESS_BITS_PER_WORD;
+
+    private static final ValueLayout.OfLong MASK_LAYOUT = ValueLayout.JAVA_LONG_UNALIGNED;
+
+    // A thread that is never started, and can therefore never be the owner of a confined segment
+    private static final Thread NON_OWNER = new Thread(() -> { /* never started */ });
+
+    private final BulkValidator validator;
+    private final EpochUnit unit;
+    private final ValueLayout.OfLong layout;
+    private final long chunkSize;
+
+    private SegmentValidator(BulkValidator validator, EpochUnit unit, ValueLayout.OfLong layout, long chunkSize) {
+        this.validator = validator;
+        this.unit = unit;
+        this.layout = layout;
+        // chunks always start at a word boundary, so tasks never write to the same word of a mask
+        this.chunkSize = Math.max(chunkSize & -BITS_PER_WORD, BITS_PER_WORD);
+    }
+
+    /**
+     * Creates a new segment validator that uses {@link Clock#systemDefaultZone()} to determine the current time.
+     *
+     * @param constraint The constraint annotation to validate epoch values against.
+     * @param unit The unit of the epoch values.
+     * @param byteOrder The byte order of the epoch values.
+     * @return The created segment validator.
+     * @throws NullPointerException If the given constraint annotation, unit or byte order is {@code null}.
+     * @throws IllegalArgumentException If the given annotation is not a constraint annotation, or if it does not support {@link Instant}.
+     * @throws IllegalStateException If a validator of the constraint annotation could not be instantiated.
+     */
+    public static SegmentValidator forConstraint(Annotation constraint, EpochUnit unit, ByteOrder byteOrder) {
+        return forConstraint(constraint, unit, byteOrder, Clock::systemDefaultZone);
+    }
+
+    /**
+     * Creates a new segment validator.
+     *
+     * @param constraint The constraint annotation to validate epoch values against.
+     * @param unit The unit of the epoch values.
+     * @param byteOrder The byte order of the epoch values.
+     * @param clockProvider The {@link ClockProvider} that defines the current time.
+     * @return The created segment validator.
+     * @throws NullPointerException If the given constraint annotation, unit, byte order or {@link ClockProvider} is {@code null}.
+     * @throws IllegalArgumentException If the given annotation is not a constraint annotation, or if it does not support {@link Instant}.
+     * @throws IllegalStateException If a validator of the constraint annotation could not be instantiated.
+     */
+    public static SegmentValidator forConstraint(Annotation constraint, EpochUnit unit, ByteOrder byteOrder, ClockProvider clockProvider) {
+        Objects.requireNonNull(unit);
+        Objects.requireNonNull(byteOrder);
+        // segments that are shared with native code are not necessarily aligned to 8 bytes
+        ValueLayout.OfLong layout = ValueLayout.JAVA_LONG_UNALIGNED.withOrder(byteOrder);
+        return new SegmentValidator(BulkValidator.forConstraint(constraint, clockProvider), unit, layout, DEFAULT_CHUNK_SIZE);
+    }
+
+    // for testing only
+    SegmentValidator withChunkSize(long chunkSize) {
+        return new SegmentValidator(validator, unit, layout, chunkSize);
+    }
+
+    /**
+     * Returns the constraint annotation that epoch values are validated against.
+     *
+     * @return The constraint annotation that epoch values are validated against.
+     */
+    public Annotation constraint() {
+        return validator.constraint();
+    }
+
+    /**
+     * Returns the unit of the epoch values.
+     *
+     * @return The unit of the epoch values.
+     */
+    public EpochUnit unit() {
+        return unit;
+    }
+
+    /**
+     * Returns the byte order of the epoch values.
+     *
+     * @return The byte order of the epoch values.
+     */
+    public ByteOrder byteOrder() {
+        return layout.order();
+    }
+
+    /**
+     * Counts the number of invalid epoch values in a memory segment.
+     *
+     * @param epochValues The memory segment with the epoch values to validate.
+     * @return The number of invalid epoch values in the given memory segment.
+     * @throws NullPointerException If the given memory segment is {@code null}.
+     * @throws IllegalArgumentException If the size of the given memory segment is not a multiple of 8 bytes.
+     * @throws IllegalStateException If the given memory segment is no longer alive.
+     * @throws WrongThreadException If the given memory segment cannot be accessed from the current thread.
+     */
+    public long countInvalid(MemorySegment epochValues) {
+        long count = count(epochValues);
+
+        return validate(epochValues, null, count);
+    }
+
+    /**
+     * Marks the invalid epoch values in a memory segment.
+     * <p>
+     * The mask is written as {@code (n + 63) / 64} 64-bit words in native byte order, where {@code n} is the number of epoch values. It uses the
+     * same layout as {@link java.util.BitSet#toLongArray()}; bit {@code i} is set if the epoch value at index {@code i} is invalid, and cleared
+     * otherwise. Any bytes of the mask segment after these words are left unchanged.
+     *
+     * @param epochValues The memory segment with the epoch values to validate.
+     * @param mask The memory segment to write the mask to.
+     * @return The number of invalid epoch values in the given memory segment.
+     * @throws NullPointerException If either memory segment is {@code null}.
+     * @throws IllegalArgumentException If the size of the memory segment with the epoch values is not a multiple of 8 bytes,
+     *                                      if the mask segment is too small, or if the mask segment is read-only.
+     * @throws IllegalStateException If either memory segment is no longer alive.
+     * @throws WrongThreadException If either memory segment cannot be accessed from the current thread.
+     */
+    public long markInvalid(MemorySegment epochValues, MemorySegment mask) {
+        long count = count(epochValues);
+        long maskSize = wordCount(count) * Long.BYTES;
+        if (mask.byteSize() < maskSize) {
+            throw new IllegalArgumentException(String.format("mask size %d is smaller than required size %d", //$NON-NLS-1$
+                    mask.byteSize(), maskSize));
+        }
+        if (mask.isReadOnly()) {
+            throw new IllegalArgumentException("mask is read-only"); //$NON-NLS-1$
+        }
+
+        return validate(epochValues, mask, count);
+    }
+
+    private static long count(MemorySegment epochValues) {
+        long size = epochValues.byteSize();
+        if (size % Long.BYTES != 0) {
+            throw new IllegalArgumentException(String.format("segment size %d is not a multiple of %d", size, Long.BYTES)); //$NON-NLS-1$
+        }
+        return size / Long.BYTES;
+    }
+
+    private static long wordCount(long count) {
+        return (count + BITS_PER_WORD - 1) >>> ADDRESS_BITS_PER_WORD;
+    }
+
+    private long validate(MemorySegment epochValues, MemorySegment mask, long count) {
+        // the predicate determines the current time, so create it before reading the segment
+        LongPredicate predicate = validator.epochValuePredicate(unit);
+
+        if (count <= chunkSize || !isShared(epochValues) || (mask != null && !isShared(mask))) {
+            return validateRange(epochValues, mask, predicate, 0, count);
+        }
+        long chunkCount = (count + chunkSize - 1) / chunkSize;
+        return new ChunkTask(epochValues, mask, predicate, count, 0, chunkCount).invoke();
+    }
+
+    private static boolean isShared(MemorySegment segment) {
+        return segment.isAccessibleBy(NON_OWNER);
+    }
+
+    private long validateRange(MemorySegment epochValues, MemorySegment mask, LongPredicate predicate, long from, long to) {
+        long invalidCount = 0;
+        for (long start = from; start < to; start += BITS_PER_WORD) {
+            int length = (int) Math.min(BITS_PER_WORD, to - start);
+            long bits = 0;
+            for (int i = 0; i < length; i++) {
+                long invalid = predicate.test(epochValues.getAtIndex(layout, start + i)) ? 0L : 1L;
+                bits |= invalid << i;
+            }
+            invalidCount += Long.bitCount(bits);
+            if (mask != null) {
+                mask.setAtIndex(MASK_LAYOUT, start >>> ADDRESS_BITS_PER_WORD, bits);
+            }
+        }
+        return invalidCount;
+    }
+
+    @Override
+    @SuppressWarnings("nls")
+    public String toString() {
+        return "SegmentValidator[constraint=" + constraint() + ",unit=" + unit + ",byteOrder=" + byteOrder() + "]";
+    }
+
+    /**
+     * A task that splits a range of chunks until only one chunk is left, and validates that chunk.
+     *
+     * @author Rob Spoor
+     */
+    @SuppressWarnings("serial")
+    private final class ChunkTask extends RecursiveTask<Long> {
+
+        private final MemorySegment epochValues;
+        private final MemorySegment mask;
+        private final LongPredicate predicate;
+        private final long count;
+        private final long fromChunk;
+        private final long toChunk;
+
+        private ChunkTask(MemorySegment epochValues, MemorySegment mask, LongPredicate predicate, long count, long fromChunk, long toChunk) {
+            this.epochValues = epochValues;
+            this.mask = mask;
+            this.predicate = predicate;
+            this.count = count;
+            this.fromChunk = fromChunk;
+            this.toChunk = toChunk;
+        }
+
+        @Override
+        protected Long compute() {
+            if (toChunk - fromChunk > 1) {
+                long middle = (fromChunk + toChunk) >>> 1;
+                ChunkTask prefixTask = new ChunkTask(epochValues, mask, predicate, count, fromChunk, middle);
+                ChunkTask suffixTask = new ChunkTask(epochValues, mask, predicate, count, middle, toChunk);
+                prefixTask.fork();
+                long suffixCount = suffixTask.compute();
+                return prefixTask.join() + suffixCount;
+            }
+            long from = fromChunk * chunkSize;
+            long to = Math.min(from + chunkSize, count);
+            return validateRange(epochValues, mask, predicate, from, to);
+        }
+    }
+}
@@ -0,0 +1,250 @@
+/*
+ * SegmentValidatorTest.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.validation.datetime.foreign;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import java.lang.annotation.Annotation;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.ByteOrder;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.BitSet;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import com.github.robtimus.validation.datetime.After;
+import com.github.robtimus.validation.datetime.MaxBefore;
+import com.github.robtimus.validation.datetime.base.EpochUnit;
+
+@SuppressWarnings({ "javadoc", "nls" })
+class SegmentValidatorTest {
+
+    private static final Instant INSTANT = Instant.parse("2007-12-03T10:15:30.00Z");
+
+    // enough values for several chunks with a chunk size of 64 values, with a partial last word
+    private static final int COUNT = 1000;
+
+    @Nested
+    @DisplayName("validate")
+    class Validate {
+
+        @Test
+        @DisplayName("confined arena")
+        void testConfinedArena() {
+            long[] values = epochValues(INSTANT.toEpochMilli());
+
+            try (Arena arena = Arena.ofConfined()) {
+                MemorySegment segment = segment(arena, values, ByteOrder.LITTLE_ENDIAN, 0);
+
+                testValidate(arena, segment, EpochUnit.MILLISECONDS, ByteOrder.LITTLE_ENDIAN, annotation("after"));
+            }
+        }
+
+        @Test
+        @DisplayName("shared arena")
+        void testSharedArena() {
+            long[] values = epochValues(INSTANT.getEpochSecond() * 1_000_000L);
+
+            try (Arena arena = Arena.ofShared()) {
+                MemorySegment segment = segment(arena, values, ByteOrder.BIG_ENDIAN, 0);
+
+                testValidate(arena, segment, EpochUnit.MICROSECONDS, ByteOrder.BIG_ENDIAN, annotation("after"));
+            }
+        }
+
+        @Test
+        @DisplayName("unaligned slice")
+        void testUnalignedSlice() {
+            long[] values = epochValues(INSTANT.getEpochSecond() * 1_000_000_000L);
+
+            try (Arena arena = Arena.ofShared()) {
+                MemorySegment segment = segment(arena, values, ByteOrder.LITTLE_ENDIAN, 3)
+                        .asSlice(3, values.length * 8L);
+
+                testValidate(arena, segment, EpochUnit.NANOSECONDS, ByteOrder.LITTLE_ENDIAN, annotation("after"));
+            }
+        }
+
+        @Test
+        @DisplayName("heap segment")
+        void testHeapSegment() {
+            long[] values = epochValues(INSTANT.toEpochMilli());
+
+            try (Arena arena = Arena.ofConfined()) {
+                testValidate(arena, MemorySegment.ofArray(values), EpochUnit.MILLISECONDS, ByteOrder.nativeOrder(), annotation("after"));
+            }
+        }
+
+        @Test
+        @DisplayName("constraint relative to now")
+        void testConstraintRelativeToNow() {
+            // valid values are not before now - 1 hour
+            long[] values = epochValues(INSTANT.minusSeconds(3600).toEpochMilli() - 1);
+
+            try (Arena arena = Arena.ofShared()) {
+                MemorySegment segment = segment(arena, values, ByteOrder.BIG_ENDIAN, 0);
+
+                testValidate(arena, segment, EpochUnit.MILLISECONDS, ByteOrder.BIG_ENDIAN, annotation("maxBeforeNow"));
+            }
+        }
+
+        @Test
+        @DisplayName("empty segment")
+        void testEmptySegment() {
+            SegmentValidator validator = validator(EpochUnit.MILLISECONDS, ByteOrder.BIG_ENDIAN, annotation("after"));
+
+            assertEquals(0, validator.countInvalid(MemorySegment.NULL));
+            assertEquals(0, validator.markInvalid(MemorySegment.NULL, MemorySegment.NULL));
+        }
+
+        private void testValidate(Arena arena, MemorySegment segment, EpochUnit unit, ByteOrder byteOrder, Annotation constraint) {
+            BitSet expected = new BitSet();
+            LongStream.range(0, COUNT)
+                    .filter(i -> i % 3 == 0)
+                    .forEach(i -> expected.set((int) i));
+
+            SegmentValidator validator = validator(unit, byteOrder, constraint);
+
+            assertEquals(expected.cardinality(), validator.countInvalid(segment));
+
+            // fill the mask with garbage to verify that bits of valid values are cleared
+            MemorySegment mask = arena.allocate((COUNT + 63) / 64 * 8L + 8).fill((byte) -1);
+
+            assertEquals(expected.cardinality(), validator.markInvalid(segment, mask));
+            assertEquals(expected, BitSet.valueOf(mask.asSlice(0, (COUNT + 63) / 64 * 8L).toArray(ValueLayout.JAVA_LONG_UNALIGNED)));
+            // bytes after the mask are left unchanged
+            assertEquals(-1L, mask.getAtIndex(ValueLayout.JAVA_LONG_UNALIGNED, (COUNT + 63) / 64));
+
+            // validate without splitting the segment
+            assertEquals(expected.cardinality(), validator.withChunkSize(2 * COUNT).countInvalid(segment));
+        }
+    }
+
+    @Nested
+    @DisplayName("invalid arguments")
+    class InvalidArguments {
+
+        @Test
+        @DisplayName("segment size not a multiple of 8")
+        void testSegmentSizeNotMultipleOf8() {
+            SegmentValidator validator = validator(EpochUnit.MILLISECONDS, ByteOrder.BIG_ENDIAN, annotation("after"));
+
+            try (Arena arena = Arena.ofConfined()) {
+                MemorySegment segment = arena.allocate(20);
+
+                IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> validator.countInvalid(segment));
+                assertEquals("segment size 20 is not a multiple of 8", exception.getMessage());
+            }
+        }
+
+        @Test
+        @DisplayName("mask too small")
+        void testMaskTooSmall() {
+            SegmentValidator validator = validator(EpochUnit.MILLISECONDS, ByteOrder.BIG_ENDIAN, annotation("after"));
+
+            try (Arena arena = Arena.ofConfined()) {
+                MemorySegment segment = arena.allocate(65 * 8L);
+                MemorySegment mask = arena.allocate(8);
+
+                IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> validator.markInvalid(segment, mask));
+                assertEquals("mask size 8 is smaller than required size 16", exception.getMessage());
+            }
+        }
+
+        @Test
+        @DisplayName("read-only mask")
+        void testReadOnlyMask() {
+            SegmentValidator validator = validator(EpochUnit.MILLISECONDS, ByteOrder.BIG_ENDIAN, annotation("after"));
+
+            try (Arena arena = Arena.ofConfined()) {
+                MemorySegment segment = arena.allocate(8);
+                MemorySegment mask = arena.allocate(8).asReadOnly();
+
+                IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> validator.markInvalid(segment, mask));
+                assertEquals("mask is read-only", exception.getMessage());
+            }
+        }
+
+        @Test
+        @DisplayName("closed arena")
+        void testClosedArena() {
+            SegmentValidator validator = validator(EpochUnit.MILLISECONDS, ByteOrder.BIG_ENDIAN, annotation("after"));
+
+            MemorySegment segment;
+            try (Arena arena = Arena.ofShared()) {
+                segment = arena.allocate(8L * COUNT);
+            }
+
+            assertThrows(IllegalStateException.class, () -> validator.countInvalid(segment));
+        }
+    }
+
+    @Test
+    @DisplayName("toString")
+    void testToString() {
+        Annotation constraint = annotation("after");
+
+        SegmentValidator validator = SegmentValidator.forConstraint(constraint, EpochUnit.SECONDS, ByteOrder.BIG_ENDIAN);
+
+        assertEquals("SegmentValidator[constraint=" + constraint + ",unit=SECONDS,byteOrder=BIG_ENDIAN]", validator.toString());
+    }
+
+    // every third value, starting with the first, is not after the given epoch value
+    private static long[] epochValues(long epochValue) {
+        return LongStream.range(0, COUNT)
+                .map(i -> i % 3 == 0 ? epochValue - i : epochValue + i)
+                .toArray();
+    }
+
+    private static MemorySegment segment(Arena arena, long[] values, ByteOrder byteOrder, int offset) {
+        ValueLayout.OfLong layout = ValueLayout.JAVA_LONG_UNALIGNED.withOrder(byteOrder);
+        MemorySegment segment = arena.allocate(values.length * 8L + offset);
+        for (int i = 0; i < values.length; i++) {
+            segment.set(layout, offset + i * 8L, values[i]);
+        }
+        return segment;
+    }
+
+    private static SegmentValidator validator(EpochUnit unit, ByteOrder byteOrder, Annotation constraint) {
+        Clock clock = Clock.fixed(INSTANT, ZoneOffset.UTC);
+        return SegmentValidator.forConstraint(constraint, unit, byteOrder, () -> clock)
+                .withChunkSize(64);
+    }
+
+    private static Annotation annotation(String fieldName) {
+        try {
+            return TestClass.class.getDeclaredField(fieldName).getAnnotations()[0];
+        } catch (NoSuchFieldException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static final class TestClass {
+
+        @After(moment = "2007-12-03T10:15:30.00Z")
+        private Instant after;
+
+        @MaxBefore(moment = "now", duration = "PT1H")
+        private Instant maxBeforeNow;
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * EpochRangeKernels.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.validation.datetime.vector;
+
+import java.util.Objects;
+import com.github.robtimus.validation.datetime.base.EpochRange;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * SIMD versions of the kernel methods of {@link EpochRange}, implemented using the Vector API.
+ * <p>
+ * These methods produce the same results as {@link EpochRange#countOutside(long[], int, int)} and
+ * {@link EpochRange#outsideMask(long[], int, int)}, but compare several epoch values at once using the widest vector shape that the platform
+ * supports. If the platform does not support vectors of at least two {@code long} values, these methods delegate to the scalar methods of
+ * {@link EpochRange} instead.
+ *
+ * @author Rob Spoor
+ */
+public final class EpochRangeKernels {
+
+    private static final VectorSpecies<Long> SPECIES = LongVector.SPECIES_PREFERRED;
+
+    private static final int ADDRESS_BITS_PER_WORD = 6;
+    private static final int BITS_PER_WORD = 1 << ADDRESS_BITS_PER_WORD;
+
+    private EpochRangeKernels() {
+    }
+
+    /**
+     * Returns whether or not the kernel methods of this class use SIMD instructions.
+     *
+     * @return {@code true} if the platform supports vectors of at least two {@code long} values, or {@code false} otherwise.
+     */
+    public static boolean isVectorized() {
+        return SPECIES.length() > 1;
+    }
+
+    /**
+     * Counts the number of epoch values in a portion of an array that are not contained in a range.
+     *
+     * @param range The range to check against.
+     * @param epochValues The array of epoch values.
+     * @param offset The index of the first epoch value to check.
+     * @param length The number of epoch values to check.
+     * @return The number of epoch values that are not contained in the given range.
+     * @throws NullPointerException If the given range or array is {@code null}.
+     * @throws IndexOutOfBoundsException If the given offset or length is negative,
+     *                                       or if the given offset and length combined exceed the array's length.
+     * @see EpochRange#countOutside(long[], int, int)
+     */
+    public static long countOutside(EpochRange range, long[] epochValues, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, epochValues.length);
+
+        if (!isVectorized() || range.isEmpty()) {
+            return range.countOutside(epochValues, offset, length);
+        }
+
+        LongVector lower = LongVector.broadcast(SPECIES, range.lowerBound());
+        LongVector upper = LongVector.broadcast(SPECIES, range.upperBound());
+
+        long count = 0;
+        int i = 0;
+        for (int bound = SPECIES.loopBound(length); i < bound; i += SPECIES.length()) {
+            count += outside(LongVector.fromArray(SPECIES, epochValues, offset + i), lower, upper).trueCount();
+        }
+        return count + range.countOutside(epochValues, offset + i, length - i);
+    }
+
+    /**
+     * Marks the epoch values in a portion of an array that are not contained in a range.
+     *
+     * @param range The range to check against.
+     * @param epochValues The array of epoch values.
+     * @param offset The index of the first epoch value to check.
+     * @param length The number of epoch values to check.
+     * @return An array of {@code (length + 63) / 64} words with a bit set for each epoch value that is not contained in the given range.
+     * @throws NullPointerException If the given range or array is {@code null}.
+     * @throws IndexOutOfBoundsException If the given offset or length is negative,
+     *                                       or if the given offset and length combined exceed the array's length.
+     * @see EpochRange#outsideMask(long[], int, int)
+     */
+    public static long[] outsideMask(EpochRange range, long[] epochValues, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, epochValues.length);
+
+        if (!isVectorized() || range.isEmpty()) {
+            return range.outsideMask(epochValues, offset, length);
+        }
+
+        LongVector lower = LongVector.broadcast(SPECIES, range.lowerBound());
+        LongVector upper = LongVector.broadcast(SPECIES, range.upperBound());
+
+        long[] mask = new long[(length + BITS_PER_WORD - 1) >>> ADDRESS_BITS_PER_WORD];
+        int i = 0;
+        // The number of lanes is a power of 2 that is at most 64, so the lanes of a single vector never span two words
+        for (int bound = SPECIES.loopBound(length); i < bound; i += SPECIES.length()) {
+            long bits = outside(LongVector.fromArray(SPECIES, epochValues, offset + i), lower, upper).toLong();
+            mask[i >>> ADDRESS_BITS_PER_WORD] |= bits << i;
+        }
+        for (; i < length; i++) {
+            if (!range.contains(epochValues[offset + i])) {
+                mask[i >>> ADDRESS_BITS_PER_WORD] |= 1L << i;
+            }
+        }
+        return mask;
+    }
+
+    private static VectorMask<Long> outside(LongVector values, LongVector lower, LongVector upper) {
+        return values.compare(VectorOperators.LT, lower).or(values.compare(VectorOperators.GT, upper));
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * EpochRangeKernelsTest.java
+ * Copyright 2026 Rob Spoor
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.robtimus.validation.datetime.vector;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import java.util.Random;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import com.github.robtimus.validation.datetime.base.EpochRange;
+import com.github.robtimus.validation.datetime.base.EpochUnit;
+
+@SuppressWarnings("nls")
+class EpochRangeKernelsTest {
+
+    private static final long[] VALUES = createValues();
+
+    private static final EpochRange[] RANGES = {
+            EpochRange.of(1_577_836_800_000L, 1_577_836_900_000L, EpochUnit.MILLISECONDS),
+            EpochRange.of(1_577_836_800_000L, Long.MAX_VALUE, EpochUnit.MILLISECONDS),
+            EpochRange.of(Long.MIN_VALUE, 1_577_836_800_000L, EpochUnit.MILLISECONDS),
+            EpochRange.of(Long.MIN_VALUE, Long.MAX_VALUE, EpochUnit.MILLISECONDS),
+            EpochRange.of(1_577_836_800_000L, 1_577_836_800_000L, EpochUnit.MILLISECONDS),
+            EpochRange.of(0, -1, EpochUnit.MILLISECONDS),
+            EpochRange.of(-31_557_014_167_219_200L, 1_577_836_800L, EpochUnit.SECONDS),
+    };
+
+    private static final int[][] PORTIONS = {
+            { 0, VALUES.length },
+            { 0, 0 },
+            { 1, 0 },
+            { 0, 1 },
+            { 3, 61 },
+            { 5, 64 },
+            { 7, 129 },
+            { 13, VALUES.length - 20 },
+    };
+
+    @Nested
+    @DisplayName("countOutside")
+    class CountOutside {
+
+        @Test
+        @DisplayName("same result as scalar")
+        void testSameResultAsScalar() {
+            for (EpochRange range : RANGES) {
+                for (int[] portion : PORTIONS) {
+                    assertEquals(range.countOutside(VALUES, portion[0], portion[1]),
+                            EpochRangeKernels.countOutside(range, VALUES, portion[0], portion[1]),
+                            range + ", offset: " + portion[0] + ", length: " + portion[1]);
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("invalid offset or length")
+        void testInvalidOffsetOrLength() {
+            EpochRange range = RANGES[0];
+
+            assertThrows(IndexOutOfBoundsException.class, () -> EpochRangeKernels.countOutside(range, VALUES, -1, 2));
+            assertThrows(IndexOutOfBoundsException.class, () -> EpochRangeKernels.countOutside(range, VALUES, 2, -1));
+            assertThrows(IndexOutOfBoundsException.class, () -> EpochRangeKernels.countOutside(range, VALUES, 2, VALUES.length - 1));
+        }
+    }
+
+    @Nested
+    @DisplayName("outsideMask")
+    class OutsideMask {
+
+        @Test
+        @DisplayName("same result as scalar")
+        void testSameResultAsScalar() {
+            for (EpochRange range : RANGES) {
+                for (int[] portion : PORTIONS) {
+                    assertArrayEquals(range.outsideMask(VALUES, portion[0], portion[1]),
+                            EpochRangeKernels.outsideMask(range, VALUES, portion[0], portion[1]),
+                            range + ", offset: " + portion[0] + ", length: " + portion[1]);
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("bits match values")
+        void testBitsMatchValues() {
+            EpochRange range = RANGES[0];
+
+            long[] mask = EpochRangeKernels.outsideMask(range, VALUES, 3, VALUES.length - 3);
+
+            for (int i = 3; i < VALUES.length; i++) {
+                boolean outside = (mask[(i - 3) / 64] & (1L << (i - 3))) != 0;
+                assertEquals(!range.contains(VALUES[i]), outside, "index: " + i);
+            }
+        }
+
+        @Test
+        @DisplayName("invalid offset or length")
+        void testInvalidOffsetOrLength() {
+            EpochRange range = RANGES[0];
+
+            assertThrows(IndexOutOfBoundsException.class, () -> EpochRangeKernels.outsideMask(range, VALUES, -1, 2));
+            assertThrows(IndexOutOfBoundsException.class, () -> EpochRangeKernels.outsideMask(range, VALUES, 2, -1));
+            assertThrows(IndexOutOfBoundsException.class, () -> EpochRangeKernels.outsideMask(range, VALUES, 2, VALUES.length - 1));
+        }
+    }
+
+    private static long[] createValues() {
+        Random random = new Random(0);
+        long[] values = new long[1000];
+        values[0] = Long.MIN_VALUE;
+        values[1] = Long.MAX_VALUE;
+        values[2] = 0;
+        for (int i = 3; i < values.length; i++) {
+            values[i] = 1_577_836_800_000L + random.nextInt(200_000) - 50_000;
+        }
+        return values;
+    }
+}
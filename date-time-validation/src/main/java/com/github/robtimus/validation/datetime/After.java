@@ -48,6 +48,8 @@ import com.github.robtimus.validation.datetime.validators.AfterValidator;
  * <ul>
  * <li>{@link java.util.Date}</li>
  * <li>{@link java.util.Calendar}</li>
+ * <li>{@link java.lang.CharSequence}, if it contains an ISO 8601 date, time, local date-time or offset date-time</li>
+ * <li>{@link java.lang.Long}, as epoch value in the unit defined by {@link com.github.robtimus.validation.datetime.base.EpochValue}</li>
  * <li>{@link java.time.Instant}</li>
  * <li>{@link java.time.LocalDate}</li>
  * <li>{@link java.time.LocalDateTime}</li>
@@ -58,6 +60,9 @@ import com.github.robtimus.validation.datetime.validators.AfterValidator;
  * <li>{@link java.time.Year}</li>
  * <li>{@link java.time.YearMonth}</li>
  * <li>{@link java.time.ZonedDateTime}</li>
+ * <li>{@link java.time.chrono.ChronoLocalDate}, for instance {@link java.time.chrono.JapaneseDate}</li>
+ * <li>{@link java.time.chrono.ChronoLocalDateTime}</li>
+ * <li>{@link java.time.chrono.ChronoZonedDateTime}</li>
  * </ul>
  * <p>
  * {@code null} elements are considered valid.
@@ -69,6 +74,11 @@ import com.github.robtimus.validation.datetime.validators.AfterValidator;
 @Documented
 @Constraint(validatedBy = { AfterValidator.ForDate.class,
         AfterValidator.ForCalendar.class,
+        AfterValidator.ForCharSequence.class,
+        AfterValidator.ForLong.class,
+        AfterValidator.ForChronoLocalDate.class,
+        AfterValidator.ForChronoLocalDateTime.class,
+        AfterValidator.ForChronoZonedDateTime.class,
         AfterValidator.ForInstant.class,
         AfterValidator.ForLocalDate.class,
         AfterValidator.ForLocalDateTime.class,
@@ -107,7 +117,9 @@ public @interface After {
      * current time according to the virtual machine, applying the current default time zone if needed.
      * <p>
      * For {@link Date}, this value will be parsed using {@link DateTimeFormatter#ISO_INSTANT}; for {@link Calendar}, using
-     * {@link DateTimeFormatter#ISO_ZONED_DATE_TIME}.
+     * {@link DateTimeFormatter#ISO_ZONED_DATE_TIME}. For {@link java.time.chrono.ChronoLocalDate}, {@link java.time.chrono.ChronoLocalDateTime} and
+     * {@link java.time.chrono.ChronoZonedDateTime}, this value will be parsed as {@link java.time.LocalDate}, {@link java.time.LocalDateTime} and
+     * {@link java.time.ZonedDateTime} respectively, using the ISO calendar system.
      */
     String moment();
 
@@ -49,6 +49,8 @@ import com.github.robtimus.validation.datetime.validators.MinBeforeValidator;
  * <ul>
  * <li>{@link java.util.Date}</li>
  * <li>{@link java.util.Calendar}</li>
+ * <li>{@link java.lang.CharSequence}, if it contains an ISO 8601 date, time, local date-time or offset date-time</li>
+ * <li>{@link java.lang.Long}, as epoch value in the unit defined by {@link com.github.robtimus.validation.datetime.base.EpochValue}</li>
  * <li>{@link java.time.Instant}</li>
  * <li>{@link java.time.LocalDate}</li>
  * <li>{@link java.time.LocalDateTime}</li>
@@ -58,6 +60,9 @@ import com.github.robtimus.validation.datetime.validators.MinBeforeValidator;
  * <li>{@link java.time.Year}</li>
  * <li>{@link java.time.YearMonth}</li>
  * <li>{@link java.time.ZonedDateTime}</li>
+ * <li>{@link java.time.chrono.ChronoLocalDate}, for instance {@link java.time.chrono.JapaneseDate}</li>
+ * <li>{@link java.time.chrono.ChronoLocalDateTime}</li>
+ * <li>{@link java.time.chrono.ChronoZonedDateTime}</li>
  * </ul>
  * {@link java.time.MonthDay} is explicitly not supported for the same reason that it implements {@link java.time.temporal.TemporalAccessor} and not
  * {@link java.time.temporal.Temporal}.
@@ -69,6 +74,11 @@ import com.github.robtimus.validation.datetime.validators.MinBeforeValidator;
 @Documented
 @Constraint(validatedBy = { MinBeforeValidator.ForDate.class,
         MinBeforeValidator.ForCalendar.class,
+        MinBeforeValidator.ForCharSequence.class,
+        MinBeforeValidator.ForLong.class,
+        MinBeforeValidator.ForChronoLocalDate.class,
+        MinBeforeValidator.ForChronoLocalDateTime.class,
+        MinBeforeValidator.ForChronoZonedDateTime.class,
         MinBeforeValidator.ForInstant.class,
         MinBeforeValidator.ForLocalDate.class,
         MinBeforeValidator.ForLocalDateTime.class,
@@ -115,7 +125,9 @@ public @interface MinBefore {
      * current time according to the virtual machine, applying the current default time zone if needed.
      * <p>
      * For {@link Date}, this value will be parsed using {@link DateTimeFormatter#ISO_INSTANT}; for {@link Calendar}, using
-     * {@link DateTimeFormatter#ISO_ZONED_DATE_TIME}.
+     * {@link DateTimeFormatter#ISO_ZONED_DATE_TIME}. For {@link java.time.chrono.ChronoLocalDate}, {@link java.time.chrono.ChronoLocalDateTime} and
+     * {@link java.time.chrono.ChronoZonedDateTime}, this value will be parsed as {@link java.time.LocalDate}, {@link java.time.LocalDateTime} and
+     * {@link java.time.ZonedDateTime} respectively, using the ISO calendar system.
      */
     String moment();
 
@@ -48,6 +48,8 @@ import com.github.robtimus.validation.datetime.validators.NotAfterValidator;
  * <ul>
  * <li>{@link java.util.Date}</li>
  * <li>{@link java.util.Calendar}</li>
+ * <li>{@link java.lang.CharSequence}, if it contains an ISO 8601 date, time, local date-time or offset date-time</li>
+ * <li>{@link java.lang.Long}, as epoch value in the unit defined by {@link com.github.robtimus.validation.datetime.base.EpochValue}</li>
  * <li>{@link java.time.Instant}</li>
  * <li>{@link java.time.LocalDate}</li>
  * <li>{@link java.time.LocalDateTime}</li>
@@ -58,6 +60,9 @@ import com.github.robtimus.validation.datetime.validators.NotAfterValidator;
  * <li>{@link java.time.Year}</li>
  * <li>{@link java.time.YearMonth}</li>
  * <li>{@link java.time.ZonedDateTime}</li>
+ * <li>{@link java.time.chrono.ChronoLocalDate}, for instance {@link java.time.chrono.JapaneseDate}</li>
+ * <li>{@link java.time.chrono.ChronoLocalDateTime}</li>
+ * <li>{@link java.time.chrono.ChronoZonedDateTime}</li>
  * </ul>
  * <p>
  * {@code null} elements are considered valid.
@@ -70,6 +75,11 @@ import com.github.robtimus.validation.datetime.validators.NotAfterValidator;
 //Cannot delegate to MinBefore because that's not supported for MonthDay
 @Constraint(validatedBy = { NotAfterValidator.ForDate.class,
         NotAfterValidator.ForCalendar.class,
+        NotAfterValidator.ForCharSequence.class,
+        NotAfterValidator.ForLong.class,
+        NotAfterValidator.ForChronoLocalDate.class,
+        NotAfterValidator.ForChronoLocalDateTime.class,
+        NotAfterValidator.ForChronoZonedDateTime.class,
         NotAfterValidator.ForInstant.class,
         NotAfterValidator.ForLocalDate.class,
         NotAfterValidator.ForLocalDateTime.class,
@@ -108,7 +118,9 @@ public @interface NotAfter {
      * current time according to the virtual machine, applying the current default time zone if needed.
      * <p>
      * For {@link Date}, this value will be parsed using {@link DateTimeFormatter#ISO_INSTANT}; for {@link Calendar}, using
-     * {@link DateTimeFormatter#ISO_ZONED_DATE_TIME}.
+     * {@link DateTimeFormatter#ISO_ZONED_DATE_TIME}. For {@link java.time.chrono.ChronoLocalDate}, {@link java.time.chrono.ChronoLocalDateTime} and
+     * {@link java.time.chrono.ChronoZonedDateTime}, this value will be parsed as {@link java.time.LocalDate}, {@link java.time.LocalDateTime} and
+     * {@link java.time.ZonedDateTime} respectively, using the ISO calendar system.
      */
     String moment();
 
@@ -27,11 +27,18 @@ import java.time.OffsetTime;
 import java.time.Year;
 import java.time.YearMonth;
 import java.time.ZonedDateTime;
+import java.time.chrono.ChronoLocalDate;
+import java.time.chrono.ChronoLocalDateTime;
+import java.time.chrono.ChronoZonedDateTime;
 import java.util.Calendar;
 import java.util.Date;
 import com.github.robtimus.validation.datetime.After;
 import com.github.robtimus.validation.datetime.base.CalendarValidator;
+import com.github.robtimus.validation.datetime.base.CharSequenceValidator;
+import com.github.robtimus.validation.datetime.base.ChronoValueValidator;
 import com.github.robtimus.validation.datetime.base.DateValidator;
+import com.github.robtimus.validation.datetime.base.EpochValueValidator;
+import com.github.robtimus.validation.datetime.base.MomentParsers;
 import com.github.robtimus.validation.datetime.base.MomentValueValidator;
 
 /**
@@ -74,6 +81,81 @@ public final class AfterValidator {
         }
     }
 
+    /**
+     * A constraint validator for {@link After} for {@link CharSequence}.
+     *
+     * @author Rob Spoor
+     */
+    public static class ForCharSequence extends CharSequenceValidator<After> {
+
+        /**
+         * Creates a new validator.
+         */
+        public ForCharSequence() {
+            super(new ForOffsetDateTime(), new ForLocalDateTime(), new ForLocalDate(), new ForLocalTime());
+        }
+    }
+
+    /**
+     * A constraint validator for {@link After} for {@link Long}.
+     *
+     * @author Rob Spoor
+     */
+    public static class ForLong extends EpochValueValidator<After> {
+
+        /**
+         * Creates a new validator.
+         */
+        public ForLong() {
+            super(new ForInstant());
+        }
+    }
+
+    /**
+     * A constraint validator for {@link After} for {@link ChronoLocalDate}.
+     *
+     * @author Rob Spoor
+     */
+    public static class ForChronoLocalDate extends ChronoValueValidator.ForChronoLocalDate<After> {
+
+        /**
+         * Creates a new validator.
+         */
+        public ForChronoLocalDate() {
+            super(new ForLocalDate());
+        }
+    }
+
+    /**
+     * A constraint validator for {@link After} for {@link ChronoLocalDateTime}.
+     *
+     * @author Rob Spoor
+     */
+    public static class ForChronoLocalDateTime extends ChronoValueValidator.ForChronoLocalDateTime<After> {
+
+        /**
+         * Creates a new validator.
+         */
+        public ForChronoLocalDateTime() {
+            super(new ForLocalDateTime());
+        }
+    }
+
+    /**
+     * A constraint validator for {@link After} for {@link ChronoZonedDateTime}.
+     *
+     * @author Rob Spoor
+     */
+    public static class ForChronoZonedDateTime extends ChronoValueValidator.ForChronoZonedDateTime<After> {
+
+        /**
+         * Creates a new validator.
+         */
+        public ForChronoZonedDateTime() {
+            super(new ForZonedDateTime());
+        }
+    }
+
     /**
      * A constraint validator for {@link After} for {@link Instant}.
      *
@@ -85,7 +167,7 @@ public final class AfterValidator {
          * Creates a new validator.
          */
         public ForInstant() {
-            super(After::moment, Instant::parse, Instant::now, Instant::isAfter);
+            super(After::moment, MomentParsers.INSTANT, Instant::now, comparison(Instant::isAfter));
         }
     }
 
@@ -100,7 +182,7 @@ public final class AfterValidator {
          * Creates a new validator.
          */
         public ForLocalDate() {
-            super(After::moment, LocalDate::parse, LocalDate::now, LocalDate::isAfter);
+            super(After::moment, MomentParsers.LOCAL_DATE, LocalDate::now, comparison(LocalDate::isAfter));
         }
     }
 
@@ -115,7 +197,7 @@ public final class AfterValidator {
          * Creates a new validator.
          */
         public ForLocalDateTime() {
-            super(After::moment, LocalDateTime::parse, LocalDateTime::now, LocalDateTime::isAfter);
+            super(After::moment, MomentParsers.LOCAL_DATE_TIME, LocalDateTime::now, comparison(LocalDateTime::isAfter));
         }
     }
 
@@ -130,7 +212,7 @@ public final class AfterValidator {
          * Creates a new validator.
          */
         public ForLocalTime() {
-            super(After::moment, LocalTime::parse, LocalTime::now, LocalTime::isAfter);
+            super(After::moment, MomentParsers.LOCAL_TIME, LocalTime::now, comparison(LocalTime::isAfter));
         }
     }
 
@@ -145,7 +227,7 @@ public final class AfterValidator {
          * Creates a new validator.
          */
         public ForMonthDay() {
-            super(After::moment, MonthDay::parse, MonthDay::now, MonthDay::isAfter);
+            super(After::moment, MomentParsers.MONTH_DAY, MonthDay::now, comparison(MonthDay::isAfter));
         }
     }
 
@@ -160,7 +242,7 @@ public final class AfterValidator {
          * Creates a new validator.
          */
         public ForOffsetDateTime() {
-            super(After::moment, OffsetDateTime::parse, OffsetDateTime::now, OffsetDateTime::isAfter);
+            super(After::moment, MomentParsers.OFFSET_DATE_TIME, OffsetDateTime::now, comparison(OffsetDateTime::isAfter));
         }
     }
 
@@ -175,7 +257,7 @@ public final class AfterValidator {
          * Creates a new validator.
          */
         public ForOffsetTime() {
-            super(After::moment, OffsetTime::parse, OffsetTime::now, OffsetTime::isAfter);
+            super(After::moment, MomentParsers.OFFSET_TIME, OffsetTime::now, comparison(OffsetTime::isAfter));
         }
     }
 
@@ -190,7 +272,7 @@ public final class AfterValidator {
          * Creates a new validator.
          */
         public ForYear() {
-            super(After::moment, Year::parse, Year::now, Year::isAfter);
+            super(After::moment, MomentParsers.YEAR, Year::now, comparison(Year::isAfter));
         }
     }
 
@@ -205,7 +287,7 @@ public final class AfterValidator {
          * Creates a new validator.
          */
         public ForYearMonth() {
-            super(After::moment, YearMonth::parse, YearMonth::now, YearMonth::isAfter);
+            super(After::moment, MomentParsers.YEAR_MONTH, YearMonth::now, comparison(YearMonth::isAfter));
         }
     }
 
@@ -220,7 +302,7 @@ public final class AfterValidator {
          * Creates a new validator.
          */
         public ForZonedDateTime() {
-            super(After::moment, ZonedDateTime::parse, ZonedDateTime::now, ZonedDateTime::isAfter);
+            super(After::moment, MomentParsers.ZONED_DATE_TIME, ZonedDateTime::now, comparison(ZonedDateTime::isAfter));
         }
     }
 }
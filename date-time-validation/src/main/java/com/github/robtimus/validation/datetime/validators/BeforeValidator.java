@@ -27,11 +27,18 @@ import java.time.OffsetTime;
 import java.time.Year;
 import java.time.YearMonth;
 import java.time.ZonedDateTime;
+import java.time.chrono.ChronoLocalDate;
+import java.time.chrono.ChronoLocalDateTime;
+import java.time.chrono.ChronoZonedDateTime;
 import java.util.Calendar;
 import java.util.Date;
 import com.github.robtimus.validation.datetime.Before;
 import com.github.robtimus.validation.datetime.base.CalendarValidator;
+import com.github.robtimus.validation.datetime.base.CharSequenceValidator;
+import com.github.robtimus.validation.datetime.base.ChronoValueValidator;
 import com.github.robtimus.validation.datetime.base.DateValidator;
+import com.github.robtimus.validation.datetime.base.EpochValueValidator;
+import com.github.robtimus.validation.datetime.base.MomentParsers;
 import com.github.robtimus.validation.datetime.base.MomentValueValidator;
 
 /**
@@ -74,6 +81,81 @@ public final class BeforeValidator {
         }
     }
 
+    /**
+     * A constraint validator for {@link Before} for {@link CharSequence}.
+     *
+     * @author Rob Spoor
+     */
+    public static class ForCharSequence extends CharSequenceValidator<Before> {
+
+        /**
+         * Creates a new validator.
+         */
+        public ForCharSequence() {
+            super(new ForOffsetDateTime(), new ForLocalDateTime(), new ForLocalDate(), new ForLocalTime());
+        }
+    }
+
+    /**
+     * A constraint validator for {@link Before} for {@link Long}.
+     *
+     * @author Rob Spoor
+     */
+    public static class ForLong extends EpochValueValidator<Before> {
+
+        /**
+         * Creates a new validator.
+         */
+        public ForLong() {
+            super(new ForInstant());
+        }
+    }
+
+    /**
+     * A constraint validator for {@link Before} for {@link ChronoLocalDate}.
+     *
+     * @author Rob Spoor
+     */
+    public static class ForChronoLocalDate extends ChronoValueValidator.ForChronoLocalDate<Before> {
+
+        /**
+         * Creates a new validator.
+         */
+        public ForChronoLocalDate() {
+            super(new ForLocalDate());
+        }
+    }
+
+    /**
+     * A constraint validator for {@link Before} for {@link ChronoLocalDateTime}.
+     *
+     * @author Rob Spoor
+     */
+    public static class ForChronoLocalDateTime extends ChronoValueValidator.ForChronoLocalDateTime<Before> {
+
+        /**
+         * Creates a new validator.
+         */
+        public ForChronoLocalDateTime() {
+            super(new ForLocalDateTime());
+        }
+    }
+
+    /**
+     * A constraint validator for {@link Before} for {@link ChronoZonedDateTime}.
+     *
+     * @author Rob Spoor
+     */
+    public static class ForChronoZonedDateTime extends ChronoValueValidator.ForChronoZonedDateTime<Before> {
+
+        /**
+         * Creates a new validator.
+         */
+        public ForChronoZonedDateTime() {
+            super(new ForZonedDateTime());
+        }
+    }
+
     /**
      * A constraint validator for {@link Before} for {@link Instant}.
      *
@@ -85,7 +167,7 @@ public final class BeforeValidator {
          * Creates a new validator.
          */
         public ForInstant() {
-            super(Before::moment, Instant::parse, Instant::now, Instant::isBefore);
+            super(Before::moment, MomentParsers.INSTANT, Instant::now, comparison(Instant::isBefore));
         }
     }
 
@@ -100,7 +182,7 @@ public final class BeforeValidator {
          * Creates a new validator.
          */
         public ForLocalDate() {
-            super(Before::moment, LocalDate::parse, LocalDate::now, LocalDate::isBefore);
+            super(Before::moment, MomentParsers.LOCAL_DATE, LocalDate::now, comparison(LocalDate::isBefore));
         }
     }
 
@@ -115,7 +197,7 @@ public final class BeforeValidator {
          * Creates a new validator.
          */
         public ForLocalDateTime() {
-            super(Before::moment, LocalDateTime::parse, LocalDateTime::now, LocalDateTime::isBefore);
+            super(Before::moment, MomentParsers.LOCAL_DATE_TIME, LocalDateTime::now, comparison(LocalDateTime::isBefore));
         }
     }
 
@@ -130,7 +212,7 @@ public final class BeforeValidator {
          * Creates a new validator.
          */
         public ForLocalTime() {
-            super(Before::moment, LocalTime::parse, LocalTime::now, LocalTime::isBefore);
+            super(Before::moment, MomentParsers.LOCAL_TIME, LocalTime::now, comparison(LocalTime::isBefore));
         }
     }
 
@@ -145,7 +227,7 @@ public final class BeforeValidator {
          * Creates a new validator.
          */
         public ForMonthDay() {
-            super(Before::moment, MonthDay::parse, MonthDay::now, MonthDay::isBefore);
+            super(Before::moment, MomentParsers.MONTH_DAY, MonthDay::now, comparison(MonthDay::isBefore));
         }
     }
 
@@ -160,7 +242,7 @@ public final class BeforeValidator {
          * Creates a new validator.
          */
         public ForOffsetDateTime() {
-            super(Before::moment, OffsetDateTime::parse, OffsetDateTime::now, OffsetDateTime::isBefore);
+            super(Before::moment, MomentParsers.OFFSET_DATE_TIME, OffsetDateTime::now, comparison(OffsetDateTime::isBefore));
         }
     }
 
@@ -175,7 +257,7 @@ public final class BeforeValidator {
          * Creates a new validator.
          */
         public ForOffsetTime() {
-            super(Before::moment, OffsetTime::parse, OffsetTime::now, OffsetTime::isBefore);
+            super(Before::moment, MomentParsers.OFFSET_TIME, OffsetTime::now, comparison(OffsetTime::isBefore));
         }
     }
 
@@ -190,7 +272,7 @@ public final class BeforeValidator {
          * Creates a new validator.
          */
         public ForYear() {
-            super(Before::moment, Year::parse, Year::now, Year::isBefore);
+            super(Before::moment, MomentParsers.YEAR, Year::now, comparison(Year::isBefore));
         }
     }
 
@@ -205,7 +287,7 @@ public final class BeforeValidator {
          * Creates a new validator.
          */
         public ForYearMonth() {
-            super(Before::moment, YearMonth::parse, YearMonth::now, YearMonth::isBefore);
+            super(Before::moment, MomentParsers.YEAR_MONTH, YearMonth::now, comparison(YearMonth::isBefore));
         }
     }
 
@@ -220,7 +302,7 @@ public final class BeforeValidator {
          * Creates a new validator.
          */
         public ForZonedDateTime() {
-            super(Before::moment, ZonedDateTime::parse, ZonedDateTime::now, ZonedDateTime::isBefore);
+            super(Before::moment, MomentParsers.ZONED_DATE_TIME, ZonedDateTime::now, comparison(ZonedDateTime::isBefore));
         }
     }
 }
@@ -26,12 +26,19 @@ import java.time.OffsetTime;
 import java.time.Year;
 import java.time.YearMonth;
 import java.time.ZonedDateTime;
+import java.time.chrono.ChronoLocalDate;
+import java.time.chrono.ChronoLocalDateTime;
+import java.time.chrono.ChronoZonedDateTime;
 import java.util.Calendar;
 import java.util.Date;
 import com.github.robtimus.validation.datetime.MaxAfter;
 import com.github.robtimus.validation.datetime.base.BaseValidator;
 import com.github.robtimus.validation.datetime.base.CalendarValidator;
+import com.github.robtimus.validation.datetime.base.CharSequenceValidator;
+import com.github.robtimus.validation.datetime.base.ChronoValueValidator;
 import com.github.robtimus.validation.datetime.base.DateValidator;
+import com.github.robtimus.validation.datetime.base.EpochValueValidator;
+import com.github.robtimus.validation.datetime.base.MomentParsers;
 import com.github.robtimus.validation.datetime.base.MomentValueValidator;
 
 /**
@@ -74,6 +81,81 @@ public final class MaxAfterValidator {
         }
     }
 
+    /**
+     * A constraint validator for {@link MaxAfter} for {@link CharSequence}.
+     *
+     * @author Rob Spoor
+     */
+    public static class ForCharSequence extends CharSequenceValidator<MaxAfter> {
+
+        /**
+         * Creates a new validator.
+         */
+        public ForCharSequence() {
+            super(new ForOffsetDateTime(), new ForLocalDateTime(), new ForLocalDate(), new ForLocalTime());
+        }
+    }
+
+    /**
+     * A constraint validator for {@link MaxAfter} for {@link Long}.
+     *
+     * @author Rob Spoor
+     */
+    public static class ForLong extends EpochValueValidator<MaxAfter> {
+
+        /**
+         * Creates a new validator.
+         */
+        public ForLong() {
+            super(new ForInstant());
+        }
+    }
+
+    /**
+     * A constraint validator for {@link MaxAfter} for {@link ChronoLocalDate}.
+     *
+     * @author Rob Spoor
+     */
+    public static class ForChronoLocalDate extends ChronoValueValidator.ForChronoLocalDate<MaxAfter> {
+
+        /**
+         * Creates a new validator.
+         */
+        public ForChronoLocalDate() {
+            super(new ForLocalDate());
+        }
+    }
+
+    /**
+     * A constraint validator for {@link MaxAfter} for {@link ChronoLocalDateTime}.
+     *
+     * @author Rob Spoor
+     */
+    public static class ForChronoLocalDateTime extends ChronoValueValidator.ForChronoLocalDateTime<MaxAfter> {
+
+        /**
+         * Creates a new validator.
+         */
+        public ForChronoLocalDateTime() {
+            super(new ForLocalDateTime());
+        }
+    }
+
+    /**
+     * A constraint validator for {@link MaxAfter} for {@link ChronoZonedDateTime}.
+     *
+     * @author Rob Spoor
+     */
+    public static class ForChronoZonedDateTime extends ChronoValueValidator.ForChronoZonedDateTime<MaxAfter> {
+
+        /**
+         * Creates a new validator.
+         */
+        public ForChronoZonedDateTime() {
+            super(new ForZonedDateTime());
+        }
+    }
+
     /**
      * A constraint validator for {@link MaxAfter} for {@link Instant}.
      *
@@ -85,7 +167,7 @@ public final class MaxAfterValidator {
          * Creates a new validator.
          */
         public ForInstant() {
-            super(MaxAfter::moment, Instant::parse, Instant::now, MaxAfter::duration, BaseValidator::plus, not(Instant::isAfter));
+            super(MaxAfter::moment, MomentParsers.INSTANT, Instant::now, MaxAfter::duration, BaseValidator::plus, not(comparison(Instant::isAfter)));
         }
     }
 
@@ -100,7 +182,8 @@ public final class MaxAfterValidator {
          * Creates a new validator.
          */
         public ForLocalDate() {
-            super(MaxAfter::moment, LocalDate::parse, LocalDate::now, MaxAfter::duration, LocalDate::plus, not(LocalDate::isAfter));
+            super(MaxAfter::moment, MomentParsers.LOCAL_DATE, LocalDate::now, MaxAfter::duration, LocalDate::plus,
+                    not(comparison(LocalDate::isAfter)));
         }
     }
 
@@ -115,7 +198,8 @@ public final class MaxAfterValidator {
          * Creates a new validator.
          */
         public ForLocalDateTime() {
-            super(MaxAfter::moment, LocalDateTime::parse, LocalDateTime::now, MaxAfter::duration, LocalDateTime::plus, not(LocalDateTime::isAfter));
+            super(MaxAfter::moment, MomentParsers.LOCAL_DATE_TIME, LocalDateTime::now, MaxAfter::duration, LocalDateTime::plus,
+                    not(comparison(LocalDateTime::isAfter)));
         }
     }
 
@@ -130,7 +214,8 @@ public final class MaxAfterValidator {
          * Creates a new validator.
          */
         public ForLocalTime() {
-            super(MaxAfter::moment, LocalTime::parse, LocalTime::now, MaxAfter::duration, LocalTime::plus, not(LocalTime::isAfter));
+            super(MaxAfter::moment, MomentParsers.LOCAL_TIME, LocalTime::now, MaxAfter::duration, LocalTime::plus,
+                    not(comparison(LocalTime::isAfter)));
         }
     }
 
@@ -145,8 +230,8 @@ public final class MaxAfterValidator {
          * Creates a new validator.
          */
         public ForOffsetDateTime() {
-            super(MaxAfter::moment, OffsetDateTime::parse, OffsetDateTime::now, MaxAfter::duration, OffsetDateTime::plus,
-                    not(OffsetDateTime::isAfter));
+            super(MaxAfter::moment, MomentParsers.OFFSET_DATE_TIME, OffsetDateTime::now, MaxAfter::duration, OffsetDateTime::plus,
+                    not(comparison(OffsetDateTime::isAfter)));
         }
     }
 
@@ -161,7 +246,8 @@ public final class MaxAfterValidator {
          * Creates a new validator.
          */
         public ForOffsetTime() {
-            super(MaxAfter::moment, OffsetTime::parse, OffsetTime::now, MaxAfter::duration, OffsetTime::plus, not(OffsetTime::isAfter));
+            super(MaxAfter::moment, MomentParsers.OFFSET_TIME, OffsetTime::now, MaxAfter::duration, OffsetTime::plus,
+                    not(comparison(OffsetTime::isAfter)));
         }
     }
 
@@ -176,7 +262,7 @@ public final class MaxAfterValidator {
          * Creates a new validator.
          */
         public ForYear() {
-            super(MaxAfter::moment, Year::parse, Year::now, MaxAfter::duration, Year::plus, not(Year::isAfter));
+            super(MaxAfter::moment, MomentParsers.YEAR, Year::now, MaxAfter::duration, Year::plus, not(comparison(Year::isAfter)));
         }
     }
 
@@ -191,7 +277,8 @@ public final class MaxAfterValidator {
          * Creates a new validator.
          */
         public ForYearMonth() {
-            super(MaxAfter::moment, YearMonth::parse, YearMonth::now, MaxAfter::duration, YearMonth::plus, not(YearMonth::isAfter));
+            super(MaxAfter::moment, MomentParsers.YEAR_MONTH, YearMonth::now, MaxAfter::duration, YearMonth::plus,
+                    not(comparison(YearMonth::isAfter)));
         }
     }
 
@@ -206,7 +293,8 @@ public final class MaxAfterValidator {
          * Creates a new validator.
          */
         public ForZonedDateTime() {
-            super(MaxAfter::moment, ZonedDateTime::parse, ZonedDateTime::now, MaxAfter::duration, ZonedDateTime::plus, not(ZonedDateTime::isAfter));
+            super(MaxAfter::moment, MomentParsers.ZONED_DATE_TIME, ZonedDateTime::now, MaxAfter::duration, ZonedDateTime::plus,
+                    not(comparison(ZonedDateTime::isAfter)));
         }
     }
 }
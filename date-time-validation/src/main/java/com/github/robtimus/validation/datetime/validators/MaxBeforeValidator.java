@@ -26,12 +26,19 @@ import java.time.OffsetTime;
 import java.time.Year;
 import java.time.YearMonth;
 import java.time.ZonedDateTime;
+import java.time.chrono.ChronoLocalDate;
+import java.time.chrono.ChronoLocalDateTime;
+import java.time.chrono.ChronoZonedDateTime;
 import java.util.Calendar;
 import java.util.Date;
 import com.github.robtimus.validation.datetime.MaxBefore;
 import com.github.robtimus.validation.datetime.base.BaseValidator;
 import com.github.robtimus.validation.datetime.base.CalendarValidator;
+import com.github.robtimus.validation.datetime.base.CharSequenceValidator;
+import com.github.robtimus.validation.datetime.base.ChronoValueValidator;
 import com.github.robtimus.validation.datetime.base.DateValidator;
+import com.github.robtimus.validation.datetime.base.EpochValueValidator;
+import com.github.robtimus.validation.datetime.base.MomentParsers;
 import com.github.robtimus.validation.datetime.base.MomentValueValidator;
 
 /**
@@ -74,6 +81,81 @@ public final class MaxBeforeValidator {
         }
     }
 
+    /**
+     * A constraint validator for {@link MaxBefore} for {@link CharSequence}.
+     *
+     * @author Rob Spoor
+     */
+    public static class ForCharSequence extends CharSequenceValidator<MaxBefore> {
+
+        /**
+         * Creates a new validator.
+         */
+        public ForCharSequence() {
+            super(new ForOffsetDateTime(), new ForLocalDateTime(), new ForLocalDate(), new ForLocalTime());
+        }
+    }
+
+    /**
+     * A constraint validator for {@link MaxBefore} for {@link Long}.
+     *
+     * @author Rob Spoor
+     */
+    public static class ForLong extends EpochValueValidator<MaxBefore> {
+
+        /**
+         * Creates a new validator.
+         */
+        public ForLong() {
+            super(new ForInstant());
+        }
+    }
+
+    /**
+     * A constraint validator for {@link MaxBefore} for {@link ChronoLocalDate}.
+     *
+     * @author Rob Spoor
+     */
+    public static class ForChronoLocalDate extends ChronoValueValidator.ForChronoLocalDate<MaxBefore> {
+
+        /**
+         * Creates a new validator.
+         */
+        public ForChronoLocalDate() {
+            super(new ForLocalDate());
+        }
+    }
+
+    /**
+     * A constraint validator for {@link MaxBefore} for {@link ChronoLocalDateTime}.
+     *
+     * @author Rob Spoor
+     */
+    public static class ForChronoLocalDateTime extends ChronoValueValidator.ForChronoLocalDateTime<MaxBefore> {
+
+        /**
+         * Creates a new validator.
+         */
+        public ForChronoLocalDateTime() {
+            super(new ForLocalDateTime());
+        }
+    }
+
+    /**
+     * A constraint validator for {@link MaxBefore} for {@link ChronoZonedDateTime}.
+     *
+     * @author Rob Spoor
+     */
+    public static class ForChronoZonedDateTime extends ChronoValueValidator.ForChronoZonedDateTime<MaxBefore> {
+
+        /**
+         * Creates a new validator.
+         */
+        public ForChronoZonedDateTime() {
+            super(new ForZonedDateTime());
+        }
+    }
+
     /**
      * A constraint validator for {@link MaxBefore} for {@link Instant}.
      *
@@ -85,7 +167,8 @@ public final class MaxBeforeValidator {
          * Creates a new validator.
          */
         public ForInstant() {
-            super(MaxBefore::moment, Instant::parse, Instant::now, MaxBefore::duration, BaseValidator::minus, not(Instant::isBefore));
+            super(MaxBefore::moment, MomentParsers.INSTANT, Instant::now, MaxBefore::duration, BaseValidator::minus,
+                    not(comparison(Instant::isBefore)));
         }
     }
 
@@ -100,7 +183,8 @@ public final class MaxBeforeValidator {
          * Creates a new validator.
          */
         public ForLocalDate() {
-            super(MaxBefore::moment, LocalDate::parse, LocalDate::now, MaxBefore::duration, LocalDate::minus, not(LocalDate::isBefore));
+            super(MaxBefore::moment, MomentParsers.LOCAL_DATE, LocalDate::now, MaxBefore::duration, LocalDate::minus,
+                    not(comparison(LocalDate::isBefore)));
         }
     }
 
@@ -115,8 +199,8 @@ public final class MaxBeforeValidator {
          * Creates a new validator.
          */
         public ForLocalDateTime() {
-            super(MaxBefore::moment, LocalDateTime::parse, LocalDateTime::now, MaxBefore::duration, LocalDateTime::minus,
-                    not(LocalDateTime::isBefore));
+            super(MaxBefore::moment, MomentParsers.LOCAL_DATE_TIME, LocalDateTime::now, MaxBefore::duration, LocalDateTime::minus,
+                    not(comparison(LocalDateTime::isBefore)));
         }
     }
 
@@ -131,7 +215,8 @@ public final class MaxBeforeValidator {
          * Creates a new validator.
          */
         public ForLocalTime() {
-            super(MaxBefore::moment, LocalTime::parse, LocalTime::now, MaxBefore::duration, LocalTime::minus, not(LocalTime::isBefore));
+            super(MaxBefore::moment, MomentParsers.LOCAL_TIME, LocalTime::now, MaxBefore::duration, LocalTime::minus,
+                    not(comparison(LocalTime::isBefore)));
         }
     }
 
@@ -146,8 +231,8 @@ public final class MaxBeforeValidator {
          * Creates a new validator.
          */
         public ForOffsetDateTime() {
-            super(MaxBefore::moment, OffsetDateTime::parse, OffsetDateTime::now, MaxBefore::duration, OffsetDateTime::minus,
-                    not(OffsetDateTime::isBefore));
+            super(MaxBefore::moment, MomentParsers.OFFSET_DATE_TIME, OffsetDateTime::now, MaxBefore::duration, OffsetDateTime::minus,
+                    not(comparison(OffsetDateTime::isBefore)));
         }
     }
 
@@ -162,7 +247,8 @@ public final class MaxBeforeValidator {
          * Creates a new validator.
          */
         public ForOffsetTime() {
-            super(MaxBefore::moment, OffsetTime::parse, OffsetTime::now, MaxBefore::duration, OffsetTime::minus, not(OffsetTime::isBefore));
+            super(MaxBefore::moment, MomentParsers.OFFSET_TIME, OffsetTime::now, MaxBefore::duration, OffsetTime::minus,
+                    not(comparison(OffsetTime::isBefore)));
         }
     }
 
@@ -177,7 +263,7 @@ public final class MaxBeforeValidator {
          * Creates a new validator.
          */
         public ForYear() {
-            super(MaxBefore::moment, Year::parse, Year::now, MaxBefore::duration, Year::minus, not(Year::isBefore));
+            super(MaxBefore::moment, MomentParsers.YEAR, Year::now, MaxBefore::duration, Year::minus, not(comparison(Year::isBefore)));
         }
     }
 
@@ -192,7 +278,8 @@ public final class MaxBeforeValidator {
          * Creates a new validator.
          */
         public ForYearMonth() {
-            super(MaxBefore::moment, YearMonth::parse, YearMonth::now, MaxBefore::duration, YearMonth::minus, not(YearMonth::isBefore));
+            super(MaxBefore::moment, MomentParsers.YEAR_MONTH, YearMonth::now, MaxBefore::duration, YearMonth::minus,
+                    not(comparison(YearMonth::isBefore)));
         }
     }
 
@@ -207,8 +294,8 @@ public final class MaxBeforeValidator {
          * Creates a new validator.
          */
         public ForZonedDateTime() {
-            super(MaxBefore::moment, ZonedDateTime::parse, ZonedDateTime::now, MaxBefore::duration, ZonedDateTime::minus,
-                    not(ZonedDateTime::isBefore));
+            super(MaxBefore::moment, MomentParsers.ZONED_DATE_TIME, ZonedDateTime::now, MaxBefore::duration, ZonedDateTime::minus,
+                    not(comparison(ZonedDateTime::isBefore)));
         }
     }
 }
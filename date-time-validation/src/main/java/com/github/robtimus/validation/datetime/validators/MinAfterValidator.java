@@ -26,12 +26,19 @@ import java.time.OffsetTime;
 import java.time.Year;
 import java.time.YearMonth;
 import java.time.ZonedDateTime;
+import java.time.chrono.ChronoLocalDate;
+import java.time.chrono.ChronoLocalDateTime;
+import java.time.chrono.ChronoZonedDateTime;
 import java.util.Calendar;
 import java.util.Date;
 import com.github.robtimus.validation.datetime.MinAfter;
 import com.github.robtimus.validation.datetime.base.BaseValidator;
 import com.github.robtimus.validation.datetime.base.CalendarValidator;
+import com.github.robtimus.validation.datetime.base.CharSequenceValidator;
+import com.github.robtimus.validation.datetime.base.ChronoValueValidator;
 import com.github.robtimus.validation.datetime.base.DateValidator;
+import com.github.robtimus.validation.datetime.base.EpochValueValidator;
+import com.github.robtimus.validation.datetime.base.MomentParsers;
 import com.github.robtimus.validation.datetime.base.MomentValueValidator;
 
 /**
@@ -74,6 +81,81 @@ public final class MinAfterValidator {
         }
     }
 
+    /**
+     * A constraint validator for {@link MinAfter} for {@link CharSequence}.
+     *
+     * @author Rob Spoor
+     */
+    public static class ForCharSequence extends CharSequenceValidator<MinAfter> {
+
+        /**
+         * Creates a new validator.
+         */
+        public ForCharSequence() {
+            super(new ForOffsetDateTime(), new ForLocalDateTime(), new ForLocalDate(), new ForLocalTime());
+        }
+    }
+
+    /**
+     * A constraint validator for {@link MinAfter} for {@link Long}.
+     *
+     * @author Rob Spoor
+     */
+    public static class ForLong extends EpochValueValidator<MinAfter> {
+
+        /**
+         * Creates a new validator.
+         */
+        public ForLong() {
+            super(new ForInstant());
+        }
+    }
+
+    /**
+     * A constraint validator for {@link MinAfter} for {@link ChronoLocalDate}.
+     *
+     * @author Rob Spoor
+     */
+    public static class ForChronoLocalDate extends ChronoValueValidator.ForChronoLocalDate<MinAfter> {
+
+        /**
+         * Creates a new validator.
+         */
+        public ForChronoLocalDate() {
+            super(new ForLocalDate());
+        }
+    }
+
+    /**
+     * A constraint validator for {@link MinAfter} for {@link ChronoLocalDateTime}.
+     *
+     * @author Rob Spoor
+     */
+    public static class ForChronoLocalDateTime extends ChronoValueValidator.ForChronoLocalDateTime<MinAfter> {
+
+        /**
+         * Creates a new validator.
+         */
+        public ForChronoLocalDateTime() {
+            super(new ForLocalDateTime());
+        }
+    }
+
+    /**
+     * A constraint validator for {@link MinAfter} for {@link ChronoZonedDateTime}.
+     *
+     * @author Rob Spoor
+     */
+    public static class ForChronoZonedDateTime extends ChronoValueValidator.ForChronoZonedDateTime<MinAfter> {
+
+        /**
+         * Creates a new validator.
+         */
+        public ForChronoZonedDateTime() {
+            super(new ForZonedDateTime());
+        }
+    }
+
     /**
      * A constraint validator for {@link MinAfter} for {@link Instant}.
      *
@@ -85,7 +167,7 @@ public final class MinAfterValidator {
          * Creates a new validator.
          */
         public ForInstant() {
-            super(MinAfter::moment, Instant::parse, Instant::now, MinAfter::duration, BaseValidator::plus, not(Instant::isBefore));
+            super(MinAfter::moment, MomentParsers.INSTANT, Instant::now, MinAfter::duration, BaseValidator::plus, not(comparison(Instant::isBefore)));
         }
     }
 
@@ -100,7 +182,8 @@ public final class MinAfterValidator {
          * Creates a new validator.
          */
         public ForLocalDate() {
-            super(MinAfter::moment, LocalDate::parse, LocalDate::now, MinAfter::duration, LocalDate::plus, not(LocalDate::isBefore));
+            super(MinAfter::moment, MomentParsers.LOCAL_DATE, LocalDate::now, MinAfter::duration, LocalDate::plus,
+                    not(comparison(LocalDate::isBefore)));
         }
     }
 
@@ -115,7 +198,8 @@ public final class MinAfterValidator {
          * Creates a new validator.
          */
         public ForLocalDateTime() {
-            super(MinAfter::moment, LocalDateTime::parse, LocalDateTime::now, MinAfter::duration, LocalDateTime::plus, not(LocalDateTime::isBefore));
+            super(MinAfter::moment, MomentParsers.LOCAL_DATE_TIME, LocalDateTime::now, MinAfter::duration, LocalDateTime::plus,
+                    not(comparison(LocalDateTime::isBefore)));
         }
     }
 
@@ -130,7 +214,8 @@ public final class MinAfterValidator {
          * Creates a new validator.
          */
         public ForLocalTime() {
-            super(MinAfter::moment, LocalTime::parse, LocalTime::now, MinAfter::duration, LocalTime::plus, not(LocalTime::isBefore));
+            super(MinAfter::moment, MomentParsers.LOCAL_TIME, LocalTime::now, MinAfter::duration, LocalTime::plus,
+                    not(comparison(LocalTime::isBefore)));
         }
     }
 
@@ -145,8 +230,8 @@ public final class MinAfterValidator {
          * Creates a new validator.
          */
         public ForOffsetDateTime() {
-            super(MinAfter::moment, OffsetDateTime::parse, OffsetDateTime::now, MinAfter::duration, OffsetDateTime::plus,
-                    not(OffsetDateTime::isBefore));
+            super(MinAfter::moment, MomentParsers.OFFSET_DATE_TIME, OffsetDateTime::now, MinAfter::duration, OffsetDateTime::plus,
+                    not(comparison(OffsetDateTime::isBefore)));
         }
     }
 
@@ -161,7 +246,8 @@ public final class MinAfterValidator {
          * Creates a new validator.
          */
         public ForOffsetTime() {
-            super(MinAfter::moment, OffsetTime::parse, OffsetTime::now, MinAfter::duration, OffsetTime::plus, not(OffsetTime::isBefore));
+            super(MinAfter::moment, MomentParsers.OFFSET_TIME, OffsetTime::now, MinAfter::duration, OffsetTime::plus,
+                    not(comparison(OffsetTime::isBefore)));
         }
     }
 
@@ -176,7 +262,7 @@ public final class MinAfterValidator {
          * Creates a new validator.
          */
         public ForYear() {
-            super(MinAfter::moment, Year::parse, Year::now, MinAfter::duration, Year::plus, not(Year::isBefore));
+            super(MinAfter::moment, MomentParsers.YEAR, Year::now, MinAfter::duration, Year::plus, not(comparison(Year::isBefore)));
         }
     }
 
@@ -191,7 +277,8 @@ public final class MinAfterValidator {
          * Creates a new validator.
          */
         public ForYearMonth() {
-            super(MinAfter::moment, YearMonth::parse, YearMonth::now, MinAfter::duration, YearMonth::plus, not(YearMonth::isBefore));
+            super(MinAfter::moment, MomentParsers.YEAR_MONTH, YearMonth::now, MinAfter::duration, YearMonth::plus,
+                    not(comparison(YearMonth::isBefore)));
         }
     }
 
@@ -206,7 +293,8 @@ public final class MinAfterValidator {
          * Creates a new validator.
          */
         public ForZonedDateTime() {
-            super(MinAfter::moment, ZonedDateTime::parse, ZonedDateTime::now, MinAfter::duration, ZonedDateTime::plus, not(ZonedDateTime::isBefore));
+            super(MinAfter::moment, MomentParsers.ZONED_DATE_TIME, ZonedDateTime::now, MinAfter::duration, ZonedDateTime::plus,
+                    not(comparison(ZonedDateTime::isBefore)));
         }
     }
 }
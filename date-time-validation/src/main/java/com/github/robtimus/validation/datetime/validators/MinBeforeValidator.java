@@ -26,12 +26,19 @@ import java.time.OffsetTime;
 import java.time.Year;
 import java.time.YearMonth;
 import java.time.ZonedDateTime;
+import java.time.chrono.ChronoLocalDate;
+import java.time.chrono.ChronoLocalDateTime;
+import java.time.chrono.ChronoZonedDateTime;
 import java.util.Calendar;
 import java.util.Date;
 import com.github.robtimus.validation.datetime.MinBefore;
 import com.github.robtimus.validation.datetime.base.BaseValidator;
 import com.github.robtimus.validation.datetime.base.CalendarValidator;
+import com.github.robtimus.validation.datetime.base.CharSequenceValidator;
+import com.github.robtimus.validation.datetime.base.ChronoValueValidator;
 import com.github.robtimus.validation.datetime.base.DateValidator;
+import com.github.robtimus.validation.datetime.base.EpochValueValidator;
+import com.github.robtimus.validation.datetime.base.MomentParsers;
 import com.github.robtimus.validation.datetime.base.MomentValueValidator;
 
 /**
@@ -74,6 +81,81 @@ public final class MinBeforeValidator {
         }
     }
 
+    /**
+     * A constraint validator for {@link MinBefore} for {@link CharSequence}.
+     *
+     * @author Rob Spoor
+     */
+    public static class ForCharSequence extends CharSequenceValidator<MinBefore> {
+
+        /**
+         * Creates a new validator.
+         */
+        public ForCharSequence() {
+            super(new ForOffsetDateTime(), new ForLocalDateTime(), new ForLocalDate(), new ForLocalTime());
+        }
+    }
+
+    /**
+     * A constraint validator for {@link MinBefore} for {@link Long}.
+     *
+     * @author Rob Spoor
+     */
+    public static class ForLong extends EpochValueValidator<MinBefore> {
+
+        /**
+         * Creates a new validator.
+         */
+        public ForLong() {
+            super(new ForInstant());
+        }
+    }
+
+    /**
+     * A constraint validator for {@link MinBefore} for {@link ChronoLocalDate}.
+     *
+     * @author Rob Spoor
+     */
+    public static class ForChronoLocalDate extends ChronoValueValidator.ForChronoLocalDate<MinBefore> {
+
+        /**
+         * Creates a new validator.
+         */
+        public ForChronoLocalDate() {
+            super(new ForLocalDate());
+        }
+    }
+
+    /**
+     * A constraint validator for {@link MinBefore} for {@link ChronoLocalDateTime}.
+     *
+     * @author Rob Spoor
+     */
+    public static class ForChronoLocalDateTime extends ChronoValueValidator.ForChronoLocalDateTime<MinBefore> {
+
+        /**
+         * Creates a new validator.
+         */
+        public ForChronoLocalDateTime() {
+            super(new ForLocalDateTime());
+        }
+    }
+
+    /**
+     * A constraint validator for {@link MinBefore} for {@link ChronoZonedDateTime}.
+     *
+     * @author Rob Spoor
+     */
+    public static class ForChronoZonedDateTime extends ChronoValueValidator.ForChronoZonedDateTime<MinBefore> {
+
+        /**
+         * Creates a new validator.
+         */
+        public ForChronoZonedDateTime() {
+            super(new ForZonedDateTime());
+        }
+    }
+
     /**
      * A constraint validator for {@link MinBefore} for {@link Instant}.
      *
@@ -85,7 +167,8 @@ public final class MinBeforeValidator {
          * Creates a new validator.
          */
         public ForInstant() {
-            super(MinBefore::moment, Instant::parse, Instant::now, MinBefore::duration, BaseValidator::minus, not(Instant::isAfter));
+            super(MinBefore::moment, MomentParsers.INSTANT, Instant::now, MinBefore::duration, BaseValidator::minus,
+                    not(comparison(Instant::isAfter)));
         }
     }
 
@@ -100,7 +183,8 @@ public final class MinBeforeValidator {
          * Creates a new validator.
          */
         public ForLocalDate() {
-            super(MinBefore::moment, LocalDate::parse, LocalDate::now, MinBefore::duration, LocalDate::minus, not(LocalDate::isAfter));
+            super(MinBefore::moment, MomentParsers.LOCAL_DATE, LocalDate::now, MinBefore::duration, LocalDate::minus,
+                    not(comparison(LocalDate::isAfter)));
         }
     }
 
@@ -115,8 +199,8 @@ public final class MinBeforeValidator {
          * Creates a new validator.
          */
         public ForLocalDateTime() {
-            super(MinBefore::moment, LocalDateTime::parse, LocalDateTime::now, MinBefore::duration, LocalDateTime::minus,
-                    not(LocalDateTime::isAfter));
+            super(MinBefore::moment, MomentParsers.LOCAL_DATE_TIME, LocalDateTime::now, MinBefore::duration, LocalDateTime::minus,
+                    not(comparison(LocalDateTime::isAfter)));
         }
     }
 
@@ -131,7 +215,8 @@ public final class MinBeforeValidator {
          * Creates a new validator.
          */
         public ForLocalTime() {
-            super(MinBefore::moment, LocalTime::parse, LocalTime::now, MinBefore::duration, LocalTime::minus, not(LocalTime::isAfter));
+            super(MinBefore::moment, MomentParsers.LOCAL_TIME, LocalTime::now, MinBefore::duration, LocalTime::minus,
+                    not(comparison(LocalTime::isAfter)));
         }
     }
 
@@ -146,8 +231,8 @@ public final class MinBeforeValidator {
          * Creates a new validator.
          */
         public ForOffsetDateTime() {
-            super(MinBefore::moment, OffsetDateTime::parse, OffsetDateTime::now, MinBefore::duration, OffsetDateTime::minus,
-                    not(OffsetDateTime::isAfter));
+            super(MinBefore::moment, MomentParsers.OFFSET_DATE_TIME, OffsetDateTime::now, MinBefore::duration, OffsetDateTime::minus,
+                    not(comparison(OffsetDateTime::isAfter)));
         }
     }
 
@@ -162,7 +247,8 @@ public final class MinBeforeValidator {
          * Creates a new validator.
          */
         public ForOffsetTime() {
-            super(MinBefore::moment, OffsetTime::parse, OffsetTime::now, MinBefore::duration, OffsetTime::minus, not(OffsetTime::isAfter));
+            super(MinBefore::moment, MomentParsers.OFFSET_TIME, OffsetTime::now, MinBefore::duration, OffsetTime::minus,
+                    not(comparison(OffsetTime::isAfter)));
         }
     }
 
@@ -177,7 +263,7 @@ public final class MinBeforeValidator {
          * Creates a new validator.
          */
         public ForYear() {
-            super(MinBefore::moment, Year::parse, Year::now, MinBefore::duration, Year::minus, not(Year::isAfter));
+            super(MinBefore::moment, MomentParsers.YEAR, Year::now, MinBefore::duration, Year::minus, not(comparison(Year::isAfter)));
         }
     }
 
@@ -192,7 +278,8 @@ public final class MinBeforeValidator {
          * Creates a new validator.
          */
         public ForYearMonth() {
-            super(MinBefore::moment, YearMonth::parse, YearMonth::now, MinBefore::duration, YearMonth::minus, not(YearMonth::isAfter));
+            super(MinBefore::moment, MomentParsers.YEAR_MONTH, YearMonth::now, MinBefore::duration, YearMonth::minus,
+                    not(comparison(YearMonth::isAfter)));
         }
     }
 
@@ -207,8 +294,8 @@ public final class MinBeforeValidator {
          * Creates a new validator.
          */
         public ForZonedDateTime() {
-            super(MinBefore::moment, ZonedDateTime::parse, ZonedDateTime::now, MinBefore::duration, ZonedDateTime::minus,
-                    not(ZonedDateTime::isAfter));
+            super(MinBefore::moment, MomentParsers.ZONED_DATE_TIME, ZonedDateTime::now, MinBefore::duration, ZonedDateTime::minus,
+                    not(comparison(ZonedDateTime::isAfter)));
         }
     }
 }
@@ -27,11 +27,18 @@ import java.time.OffsetTime;
 import java.time.Year;
 import java.time.YearMonth;
 import java.time.ZonedDateTime;
+import java.time.chrono.ChronoLocalDate;
+import java.time.chrono.ChronoLocalDateTime;
+import java.time.chrono.ChronoZonedDateTime;
 import java.util.Calendar;
 import java.util.Date;
 import com.github.robtimus.validation.datetime.NotAfter;
 import com.github.robtimus.validation.datetime.base.CalendarValidator;
+import com.github.robtimus.validation.datetime.base.CharSequenceValidator;
+import com.github.robtimus.validation.datetime.base.ChronoValueValidator;
 import com.github.robtimus.validation.datetime.base.DateValidator;
+import com.github.robtimus.validation.datetime.base.EpochValueValidator;
+import com.github.robtimus.validation.datetime.base.MomentParsers;
 import com.github.robtimus.validation.datetime.base.MomentValueValidator;
 
 /**
@@ -74,6 +81,81 @@ public final class NotAfterValidator {
         }
     }
 
+    /**
+     * A constraint validator for {@link NotAfter} for {@link CharSequence}.
+     *
+     * @author Rob Spoor
+     */
+    public static class ForCharSequence extends CharSequenceValidator<NotAfter> {
+
+        /**
+         * Creates a new validator.
+         */
+        public ForCharSequence() {
+            super(new ForOffsetDateTime(), new ForLocalDateTime(), new ForLocalDate(), new ForLocalTime());
+        }
+    }
+
+    /**
+     * A constraint validator for {@link NotAfter} for {@link Long}.
+     *
+     * @author Rob Spoor
+     */
+    public static class ForLong extends EpochValueValidator<NotAfter> {
+
+        /**
+         * Creates a new validator.
+         */
+        public ForLong() {
+            super(new ForInstant());
+        }
+    }
+
+    /**
+     * A constraint validator for {@link NotAfter} for {@link ChronoLocalDate}.
+     *
+     * @author Rob Spoor
+     */
+    public static class ForChronoLocalDate extends ChronoValueValidator.ForChronoLocalDate<NotAfter> {
+
+        /**
+         * Creates a new validator.
+         */
+        public ForChronoLocalDate() {
+            super(new ForLocalDate());
+        }
+    }
+
+    /**
+     * A constraint validator for {@link NotAfter} for {@link ChronoLocalDateTime}.
+     *
+     * @author Rob Spoor
+     */
+    public static class ForChronoLocalDateTime extends ChronoValueValidator.ForChronoLocalDateTime<NotAfter> {
+
+        /**
+         * Creates a new validator.
+         */
+        public ForChronoLocalDateTime() {
+            super(new ForLocalDateTime());
+        }
+    }
+
+    /**
+     * A constraint validator for {@link NotAfter} for {@link ChronoZonedDateTime}.
+     *
+     * @author Rob Spoor
+     */
+    public static class ForChronoZonedDateTime extends ChronoValueValidator.ForChronoZonedDateTime<NotAfter> {
+
+        /**
+         * Creates a new validator.
+         */
+        public ForChronoZonedDateTime() {
+            super(new ForZonedDateTime());
+        }
+    }
+
     /**
      * A constraint validator for {@link NotAfter} for {@link Instant}.
      *
@@ -85,7 +167,7 @@ public final class NotAfterValidator {
          * Creates a new validator.
          */
         public ForInstant() {
-            super(NotAfter::moment, Instant::parse, Instant::now, not(Instant::isAfter));
+            super(NotAfter::moment, MomentParsers.INSTANT, Instant::now, not(comparison(Instant::isAfter)));
         }
     }
 
@@ -100,7 +182,7 @@ public final class NotAfterValidator {
          * Creates a new validator.
          */
         public ForLocalDate() {
-            super(NotAfter::moment, LocalDate::parse, LocalDate::now, not(LocalDate::isAfter));
+            super(NotAfter::moment, MomentParsers.LOCAL_DATE, LocalDate::now, not(comparison(LocalDate::isAfter)));
         }
     }
 
@@ -115,7 +197,7 @@ public final class NotAfterValidator {
          * Creates a new validator.
          */
         public ForLocalDateTime() {
-            super(NotAfter::moment, LocalDateTime::parse, LocalDateTime::now, not(LocalDateTime::isAfter));
+            super(NotAfter::moment, MomentParsers.LOCAL_DATE_TIME, LocalDateTime::now, not(comparison(LocalDateTime::isAfter)));
         }
     }
 
@@ -130,7 +212,7 @@ public final class NotAfterValidator {
          * Creates a new validator.
          */
         public ForLocalTime() {
-            super(NotAfter::moment, LocalTime::parse, LocalTime::now, not(LocalTime::isAfter));
+            super(NotAfter::moment, MomentParsers.LOCAL_TIME, LocalTime::now, not(comparison(LocalTime::isAfter)));
         }
     }
 
@@ -145,7 +227,7 @@ public final class NotAfterValidator {
          * Creates a new validator.
          */
         public ForMonthDay() {
-            super(NotAfter::moment, MonthDay::parse, MonthDay::now, not(MonthDay::isAfter));
+            super(NotAfter::moment, MomentParsers.MONTH_DAY, MonthDay::now, not(comparison(MonthDay::isAfter)));
         }
     }
 
@@ -160,7 +242,7 @@ public final class NotAfterValidator {
          * Creates a new validator.
          */
         public ForOffsetDateTime() {
-            super(NotAfter::moment, OffsetDateTime::parse, OffsetDateTime::now, not(OffsetDateTime::isAfter));
+            super(NotAfter::moment, MomentParsers.OFFSET_DATE_TIME, OffsetDateTime::now, not(comparison(OffsetDateTime::isAfter)));
         }
     }
 
@@ -175,7 +257,7 @@ public final class NotAfterValidator {
          * Creates a new validator.
          */
         public ForOffsetTime() {
-            super(NotAfter::moment, OffsetTime::parse, OffsetTime::now, not(OffsetTime::isAfter));
+            super(NotAfter::moment, MomentParsers.OFFSET_TIME, OffsetTime::now, not(comparison(OffsetTime::isAfter)));
         }
     }
 
@@ -190,7 +272,7 @@ public final class NotAfterValidator {
          * Creates a new validator.
          */
         public ForYear() {
-            super(NotAfter::moment, Year::parse, Year::now, not(Year::isAfter));
+            super(NotAfter::moment, MomentParsers.YEAR, Year::now, not(comparison(Year::isAfter)));
         }
     }
 
@@ -205,7 +287,7 @@ public final class NotAfterValidator {
          * Creates a new validator.
          */
         public ForYearMonth() {
-            super(NotAfter::moment, YearMonth::parse, YearMonth::now, not(YearMonth::isAfter));
+            super(NotAfter::moment, MomentParsers.YEAR_MONTH, YearMonth::now, not(comparison(YearMonth::isAfter)));
         }
     }
 
@@ -220,7 +302,7 @@ public final class NotAfterValidator {
          * Creates a new validator.
          */
         public ForZonedDateTime() {
-            super(NotAfter::moment, ZonedDateTime::parse, ZonedDateTime::now, not(ZonedDateTime::isAfter));
+            super(NotAfter::moment, MomentParsers.ZONED_DATE_TIME, ZonedDateTime::now, not(comparison(ZonedDateTime::isAfter)));
         }
     }
 }
@@ -27,11 +27,18 @@ import java.time.OffsetTime;
 import java.time.Year;
 import java.time.YearMonth;
 import java.time.ZonedDateTime;
+import java.time.chrono.ChronoLocalDate;
+import java.time.chrono.ChronoLocalDateTime;
+import java.time.chrono.ChronoZonedDateTime;
 import java.util.Calendar;
 import java.util.Date;
 import com.github.robtimus.validation.datetime.NotBefore;
 import com.github.robtimus.validation.datetime.base.CalendarValidator;
+import com.github.robtimus.validation.datetime.base.CharSequenceValidator;
+import com.github.robtimus.validation.datetime.base.ChronoValueValidator;
 import com.github.robtimus.validation.datetime.base.DateValidator;
+import com.github.robtimus.validation.datetime.base.EpochValueValidator;
+import com.github.robtimus.validation.datetime.base.MomentParsers;
 import com.github.robtimus.validation.datetime.base.MomentValueValidator;
 
 /**
@@ -74,6 +81,81 @@ public final class NotBeforeValidator {
         }
     }
 
+    /**
+     * A constraint validator for {@link NotBefore} for {@link CharSequence}.
+     *
+     * @author Rob Spoor
+     */
+    public static class ForCharSequence extends CharSequenceValidator<NotBefore> {
+
+        /**
+         * Creates a new validator.
+         */
+        public ForCharSequence() {
+            super(new ForOffsetDateTime(), new ForLocalDateTime(), new ForLocalDate(), new ForLocalTime());
+        }
+    }
+
+    /**
+     * A constraint validator for {@link NotBefore} for {@link Long}.
+     *
+     * @author Rob Spoor
+     */
+    public static class ForLong extends EpochValueValidator<NotBefore> {
+
+        /**
+         * Creates a new validator.
+         */
+        public ForLong() {
+            super(new ForInstant());
+        }
+    }
+
+    /**
+     * A constraint validator for {@link NotBefore} for {@link ChronoLocalDate}.
+     *
+     * @author Rob Spoor
+     */
+    public static class ForChronoLocalDate extends ChronoValueValidator.ForChronoLocalDate<NotBefore> {
+
+        /**
+         * Creates a new validator.
+         */
+        public ForChronoLocalDate() {
+            super(new ForLocalDate());
+        }
+    }
+
+    /**
+     * A constraint validator for {@link NotBefore} for {@link ChronoLocalDateTime}.
+     *
+     * @author Rob Spoor
+     */
+    public static class ForChronoLocalDateTime extends ChronoValueValidator.ForChronoLocalDateTime<NotBefore> {
+
+        /**
+         * Creates a new validator.
+         */
+        public ForChronoLocalDateTime() {
+            super(new ForLocalDateTime());
+        }
+    }
+
+    /**
+     * A constraint validator for {@link NotBefore} for {@link ChronoZonedDateTime}.
+     *
+     * @author Rob Spoor
+     */
+    public static class ForChronoZonedDateTime extends ChronoValueValidator.ForChronoZonedDateTime<NotBefore> {
+
+        /**
+         * Creates a new validator.
+         */
+        public ForChronoZonedDateTime() {
+            super(new ForZonedDateTime());
+        }
+    }
+
     /**
      * A constraint validator for {@link NotBefore} for {@link Instant}.
      *
@@ -85,7 +167,7 @@ public final class NotBeforeValidator {
          * Creates a new validator.
          */
         public ForInstant() {
-            super(NotBefore::moment, Instant::parse, Instant::now, not(Instant::isBefore));
+            super(NotBefore::moment, MomentParsers.INSTANT, Instant::now, not(comparison(Instant::isBefore)));
         }
     }
 
@@ -100,7 +182,7 @@ public final class NotBeforeValidator {
          * Creates a new validator.
          */
         public ForLocalDate() {
-            super(NotBefore::moment, LocalDate::parse, LocalDate::now, not(LocalDate::isBefore));
+            super(NotBefore::moment, MomentParsers.LOCAL_DATE, LocalDate::now, not(comparison(LocalDate::isBefore)));
         }
     }
 
@@ -115,7 +197,7 @@ public final class NotBeforeValidator {
          * Creates a new validator.
          */
         public ForLocalDateTime() {
-            super(NotBefore::moment, LocalDateTime::parse, LocalDateTime::now, not(LocalDateTime::isBefore));
+            super(NotBefore::moment, MomentParsers.LOCAL_DATE_TIME, LocalDateTime::now, not(comparison(LocalDateTime::isBefore)));
         }
     }
 
@@ -130,7 +212,7 @@ public final class NotBeforeValidator {
          * Creates a new validator.
          */
         public ForLocalTime() {
-            super(NotBefore::moment, LocalTime::parse, LocalTime::now, not(LocalTime::isBefore));
+            super(NotBefore::moment, MomentParsers.LOCAL_TIME, LocalTime::now, not(comparison(LocalTime::isBefore)));
         }
     }
 
@@ -145,7 +227,7 @@ public final class NotBeforeValidator {
          * Creates a new validator.
          */
         public ForMonthDay() {
-            super(NotBefore::moment, MonthDay::parse, MonthDay::now, not(MonthDay::isBefore));
+            super(NotBefore::moment, MomentParsers.MONTH_DAY, MonthDay::now, not(comparison(MonthDay::isBefore)));
         }
     }
 
@@ -160,7 +242,7 @@ public final class NotBeforeValidator {
          * Creates a new validator.
          */
         public ForOffsetDateTime() {
-            super(NotBefore::moment, OffsetDateTime::parse, OffsetDateTime::now, not(OffsetDateTime::isBefore));
+            super(NotBefore::moment, MomentParsers.OFFSET_DATE_TIME, OffsetDateTime::now, not(comparison(OffsetDateTime::isBefore)));
         }
     }
 
@@ -175,7 +257,7 @@ public final class NotBeforeValidator {
          * Creates a new validator.
          */
         public ForOffsetTime() {
-            super(NotBefore::moment, OffsetTime::parse, OffsetTime::now, not(OffsetTime::isBefore));
+            super(NotBefore::moment, MomentParsers.OFFSET_TIME, OffsetTime::now, not(comparison(OffsetTime::isBefore)));
         }
     }
 
@@ -190,7 +272,7 @@ public final class NotBeforeValidator {
          * Creates a new validator.
          */
         public ForYear() {
-            super(NotBefore::moment, Year::parse, Year::now, not(Year::isBefore));
+            super(NotBefore::moment, MomentParsers.YEAR, Year::now, not(comparison(Year::isBefore)));
         }
     }
 
@@ -205,7 +287,7 @@ public final class NotBeforeValidator {
          * Creates a new validator.
          */
         public ForYearMonth() {
-            super(NotBefore::moment, YearMonth::parse, YearMonth::now, not(YearMonth::isBefore));
+            super(NotBefore::moment, MomentParsers.YEAR_MONTH, YearMonth::now, not(comparison(YearMonth::isBefore)));
         }
     }
 
@@ -220,7 +302,7 @@ public final class NotBeforeValidator {
          * Creates a new validator.
          */
         public ForZonedDateTime() {
-            super(NotBefore::moment, ZonedDateTime::parse, ZonedDateTime::now, not(ZonedDateTime::isBefore));
+            super(NotBefore::moment, MomentParsers.ZONED_DATE_TIME, ZonedDateTime::now, not(comparison(ZonedDateTime::isBefore)));
         }
     }
 }
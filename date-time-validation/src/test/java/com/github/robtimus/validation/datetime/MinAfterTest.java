@@ -35,6 +35,11 @@ import java.time.YearMonth;
 import java.time.ZoneId;
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
+import java.time.chrono.ChronoLocalDate;
+import java.time.chrono.ChronoLocalDateTime;
+import java.time.chrono.ChronoZonedDateTime;
+import java.time.chrono.JapaneseDate;
+import java.time.chrono.ThaiBuddhistDate;
 import java.time.temporal.ChronoUnit;
 import java.util.Calendar;
 import java.util.Collections;
@@ -48,6 +53,7 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
+import com.github.robtimus.validation.datetime.base.EpochValue;
 import com.github.robtimus.validation.datetime.validators.MinAfterValidator;
 
 @SuppressWarnings("nls")
@@ -164,6 +170,94 @@ class MinAfterTest extends AbstractConstraintTest {
         }
     }
 
+    @Nested
+    @DisplayName("CharSequence")
+    class ForCharSequence {
+
+        @Nested
+        @DisplayName("with 'now'")
+        class WithNow extends ConstraintTest<CharSequence> {
+
+            WithNow() {
+                super(TestClassWithNow.class, "charSequence",
+                        "2009-01-04T11:16:31",
+                        "2009-01-04T11:16:30.999999999",
+                        "2009-01-04T11:16:31.000000001",
+                        () -> Clock.fixed(Instant.parse("2007-12-03T10:15:30.00Z"), ZoneId.of("UTC")));
+            }
+        }
+
+        @Nested
+        @DisplayName("with moment")
+        class WithMoment extends ConstraintTest<CharSequence> {
+
+            WithMoment() {
+                super(TestClassWithMoment.class, "charSequence",
+                        "2009-01-04T11:16:31+01:00",
+                        "2009-01-04T11:16:30.999999999+01:00",
+                        "2009-01-04T11:16:31.000000001+01:00",
+                        () -> null);
+            }
+        }
+
+        @Nested
+        @DisplayName("with different offset")
+        class WithDifferentOffset extends ConstraintTest<CharSequence> {
+
+            WithDifferentOffset() {
+                super(TestClassWithMoment.class, "charSequence",
+                        "2009-01-04T09:16:31-01:00",
+                        "2009-01-04T09:16:30.999-01:00",
+                        "2009-01-04T09:16:31.001-01:00",
+                        () -> null);
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("Long")
+    class ForLong {
+
+        @Nested
+        @DisplayName("with 'now'")
+        class WithNow extends ConstraintTest<Long> {
+
+            WithNow() {
+                super(TestClassWithNow.class, "epochMilli",
+                        Instant.parse("2009-01-04T11:16:31Z").toEpochMilli(),
+                        Instant.parse("2009-01-04T11:16:31Z").toEpochMilli() - 1,
+                        Instant.parse("2009-01-04T11:16:31Z").toEpochMilli() + 1,
+                        () -> Clock.fixed(Instant.parse("2007-12-03T10:15:30.00Z"), ZoneId.of("UTC")));
+            }
+        }
+
+        @Nested
+        @DisplayName("with moment")
+        class WithMoment extends ConstraintTest<Long> {
+
+            WithMoment() {
+                super(TestClassWithMoment.class, "epochMilli",
+                        Instant.parse("2009-01-04T11:16:31Z").toEpochMilli(),
+                        Instant.parse("2009-01-04T11:16:31Z").toEpochMilli() - 1,
+                        Instant.parse("2009-01-04T11:16:31Z").toEpochMilli() + 1,
+                        () -> null);
+            }
+        }
+
+        @Nested
+        @DisplayName("with seconds")
+        class WithSeconds extends ConstraintTest<Long> {
+
+            WithSeconds() {
+                super(TestClassWithMoment.class, "epochSecond",
+                        Instant.parse("2007-12-03T11:16:31Z").getEpochSecond(),
+                        Instant.parse("2007-12-03T11:16:31Z").getEpochSecond() - 1,
+                        Instant.parse("2007-12-03T11:16:31Z").getEpochSecond() + 1,
+                        () -> null);
+            }
+        }
+    }
+
     @Nested
     @DisplayName("Instant")
     class ForInstant {
@@ -578,6 +672,103 @@ class MinAfterTest extends AbstractConstraintTest {
         }
     }
 
+    @Nested
+    @DisplayName("ChronoLocalDate")
+    class ForChronoLocalDate {
+
+        @Nested
+        @DisplayName("with 'now'")
+        class WithNow extends ConstraintTest<ChronoLocalDate> {
+
+            WithNow() {
+                super(TestClassWithNow.class, "chronoLocalDate",
+                        JapaneseDate.from(LocalDate.parse("2009-01-04")),
+                        JapaneseDate.from(LocalDate.parse("2009-01-04")).minus(1, ChronoUnit.DAYS),
+                        JapaneseDate.from(LocalDate.parse("2009-01-04")).plus(1, ChronoUnit.DAYS),
+                        () -> Clock.fixed(Instant.parse("2007-12-03T10:15:30.00Z"), ZoneId.of("UTC")));
+            }
+        }
+
+        @Nested
+        @DisplayName("with moment")
+        class WithMoment extends ConstraintTest<ChronoLocalDate> {
+
+            WithMoment() {
+                super(TestClassWithMoment.class, "chronoLocalDate",
+                        ThaiBuddhistDate.from(LocalDate.parse("2009-01-04")),
+                        ThaiBuddhistDate.from(LocalDate.parse("2009-01-04")).minus(1, ChronoUnit.DAYS),
+                        ThaiBuddhistDate.from(LocalDate.parse("2009-01-04")).plus(1, ChronoUnit.DAYS),
+                        () -> null);
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("ChronoLocalDateTime")
+    class ForChronoLocalDateTime {
+
+        @Nested
+        @DisplayName("with 'now'")
+        class WithNow extends ConstraintTest<ChronoLocalDateTime<?>> {
+
+            WithNow() {
+                super(TestClassWithNow.class, "chronoLocalDateTime",
+                        JapaneseDate.from(LocalDate.parse("2009-01-04")).atTime(LocalTime.parse("11:16:31")),
+                        JapaneseDate.from(LocalDate.parse("2009-01-04")).atTime(LocalTime.parse("11:16:31")).minus(1, ChronoUnit.NANOS),
+                        JapaneseDate.from(LocalDate.parse("2009-01-04")).atTime(LocalTime.parse("11:16:31")).plus(1, ChronoUnit.NANOS),
+                        () -> Clock.fixed(Instant.parse("2007-12-03T10:15:30.00Z"), ZoneId.of("UTC")));
+            }
+        }
+
+        @Nested
+        @DisplayName("with moment")
+        class WithMoment extends ConstraintTest<ChronoLocalDateTime<?>> {
+
+            WithMoment() {
+                super(TestClassWithMoment.class, "chronoLocalDateTime",
+                        JapaneseDate.from(LocalDate.parse("2009-01-04")).atTime(LocalTime.parse("11:16:31")),
+                        JapaneseDate.from(LocalDate.parse("2009-01-04")).atTime(LocalTime.parse("11:16:31")).minus(1, ChronoUnit.NANOS),
+                        JapaneseDate.from(LocalDate.parse("2009-01-04")).atTime(LocalTime.parse("11:16:31")).plus(1, ChronoUnit.NANOS),
+                        () -> null);
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("ChronoZonedDateTime")
+    class ForChronoZonedDateTime {
+
+        @Nested
+        @DisplayName("with 'now'")
+        class WithNow extends ConstraintTest<ChronoZonedDateTime<?>> {
+
+            WithNow() {
+                super(TestClassWithNow.class, "chronoZonedDateTime",
+                        JapaneseDate.from(LocalDate.parse("2009-01-04")).atTime(LocalTime.parse("11:16:31")).atZone(ZoneId.of("Europe/Paris")),
+                        JapaneseDate.from(LocalDate.parse("2009-01-04")).atTime(LocalTime.parse("11:16:31")).atZone(ZoneId.of("Europe/Paris"))
+                                .minus(1, ChronoUnit.NANOS),
+                        JapaneseDate.from(LocalDate.parse("2009-01-04")).atTime(LocalTime.parse("11:16:31")).atZone(ZoneId.of("Europe/Paris"))
+                                .plus(1, ChronoUnit.NANOS),
+                        () -> Clock.fixed(ZonedDateTime.parse("2007-12-03T10:15:30+01:00[Europe/Paris]").toInstant(), ZoneId.of("Europe/Paris")));
+            }
+        }
+
+        @Nested
+        @DisplayName("with different time zone")
+        class WithDifferentTimeZone extends ConstraintTest<ChronoZonedDateTime<?>> {
+
+            WithDifferentTimeZone() {
+                super(TestClassWithMoment.class, "chronoZonedDateTime",
+                        JapaneseDate.from(LocalDate.parse("2009-01-04")).atTime(LocalTime.parse("10:16:31")).atZone(ZoneOffset.UTC),
+                        JapaneseDate.from(LocalDate.parse("2009-01-04")).atTime(LocalTime.parse("10:16:31")).atZone(ZoneOffset.UTC)
+                                .minus(1, ChronoUnit.NANOS),
+                        JapaneseDate.from(LocalDate.parse("2009-01-04")).atTime(LocalTime.parse("10:16:31")).atZone(ZoneOffset.UTC)
+                                .plus(1, ChronoUnit.NANOS),
+                        () -> null);
+            }
+        }
+    }
+
     private abstract static class ConstraintTest<T> extends AbstractConstraintTest {
 
         private final Class<?> beanType;
@@ -647,6 +838,12 @@ class MinAfterTest extends AbstractConstraintTest {
         @MinAfter(duration = "P1Y1M1DT1H1M1S", moment = "now")
         Calendar calendar;
 
+        @MinAfter(duration = "P1Y1M1DT1H1M1S", moment = "now")
+        CharSequence charSequence;
+
+        @MinAfter(duration = "P1Y1M1DT1H1M1S", moment = "now")
+        Long epochMilli;
+
         @MinAfter(duration = "P1Y1M1DT1H1M1S", moment = "now")
         Instant instant;
 
@@ -676,6 +873,15 @@ class MinAfterTest extends AbstractConstraintTest {
 
         @MinAfter(duration = "P1Y1M1DT1H1M1S", moment = "now")
         ZonedDateTime zonedDateTime;
+
+        @MinAfter(duration = "P1Y1M1D", moment = "now")
+        ChronoLocalDate chronoLocalDate;
+
+        @MinAfter(duration = "P1Y1M1DT1H1M1S", moment = "now")
+        ChronoLocalDateTime<?> chronoLocalDateTime;
+
+        @MinAfter(duration = "P1Y1M1DT1H1M1S", moment = "now")
+        ChronoZonedDateTime<?> chronoZonedDateTime;
     }
 
     private static final class TestClassWithMoment {
@@ -688,6 +894,15 @@ class MinAfterTest extends AbstractConstraintTest {
         @MinAfter(duration = "P1Y1M1DT1H1M1S", moment = "2007-12-03T10:15:30+01:00[Europe/Paris]")
         Calendar calendar;
 
+        @MinAfter(duration = "P1Y1M1DT1H1M1S", moment = "2007-12-03T10:15:30+01:00")
+        CharSequence charSequence;
+
+        @MinAfter(duration = "P1Y1M1DT1H1M1S", moment = "2007-12-03T10:15:30.00Z")
+        Long epochMilli;
+
+        @MinAfter(duration = "PT1H1M1S", moment = "2007-12-03T10:15:30.00Z", payload = EpochValue.Seconds.class)
+        Long epochSecond;
+
         @MinAfter(duration = "P1Y1M1DT1H1M1S", moment = "2007-12-03T10:15:30.00Z")
         Instant instant;
 
@@ -717,5 +932,14 @@ class MinAfterTest extends AbstractConstraintTest {
 
         @MinAfter(duration = "P1Y1M1DT1H1M1S", moment = "2007-12-03T10:15:30+01:00[Europe/Paris]")
         ZonedDateTime zonedDateTime;
+
+        @MinAfter(duration = "P1Y1M1D", moment = "2007-12-03")
+        ChronoLocalDate chronoLocalDate;
+
+        @MinAfter(duration = "P1Y1M1DT1H1M1S", moment = "2007-12-03T10:15:30")
+        ChronoLocalDateTime<?> chronoLocalDateTime;
+
+        @MinAfter(duration = "P1Y1M1DT1H1M1S", moment = "2007-12-03T10:15:30+01:00[Europe/Paris]")
+        ChronoZonedDateTime<?> chronoZonedDateTime;
     }
 }
@@ -32,6 +32,11 @@ import java.time.YearMonth;
 import java.time.ZoneId;
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
+import java.time.chrono.ChronoLocalDate;
+import java.time.chrono.ChronoLocalDateTime;
+import java.time.chrono.ChronoZonedDateTime;
+import java.time.chrono.JapaneseDate;
+import java.time.chrono.ThaiBuddhistDate;
 import java.time.temporal.ChronoUnit;
 import java.util.Calendar;
 import java.util.Collections;
@@ -43,6 +48,7 @@ import jakarta.validation.ConstraintViolation;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import com.github.robtimus.validation.datetime.base.EpochValue;
 
 @SuppressWarnings("nls")
 class NotBeforeTest extends AbstractConstraintTest {
@@ -122,6 +128,94 @@ class NotBeforeTest extends AbstractConstraintTest {
         }
     }
 
+    @Nested
+    @DisplayName("CharSequence")
+    class ForCharSequence {
+
+        @Nested
+        @DisplayName("with 'now'")
+        class WithNow extends ConstraintTest<CharSequence> {
+
+            WithNow() {
+                super(TestClassWithNow.class, "charSequence",
+                        "2007-12-03T10:15:30",
+                        "2007-12-03T10:15:29.999999999",
+                        "2007-12-03T10:15:30.000000001",
+                        () -> Clock.fixed(Instant.parse("2007-12-03T10:15:30.00Z"), ZoneId.of("UTC")));
+            }
+        }
+
+        @Nested
+        @DisplayName("with moment")
+        class WithMoment extends ConstraintTest<CharSequence> {
+
+            WithMoment() {
+                super(TestClassWithMoment.class, "charSequence",
+                        "2007-12-03T10:15:30+01:00",
+                        "2007-12-03T10:15:29.999999999+01:00",
+                        "2007-12-03T10:15:30.000000001+01:00",
+                        () -> null);
+            }
+        }
+
+        @Nested
+        @DisplayName("with different offset")
+        class WithDifferentOffset extends ConstraintTest<CharSequence> {
+
+            WithDifferentOffset() {
+                super(TestClassWithMoment.class, "charSequence",
+                        "2007-12-03T09:15:30Z",
+                        "2007-12-03T09:15:29.999Z",
+                        "2007-12-03T09:15:30.001Z",
+                        () -> null);
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("Long")
+    class ForLong {
+
+        @Nested
+        @DisplayName("with 'now'")
+        class WithNow extends ConstraintTest<Long> {
+
+            WithNow() {
+                super(TestClassWithNow.class, "epochMilli",
+                        Instant.parse("2007-12-03T10:15:30Z").toEpochMilli(),
+                        Instant.parse("2007-12-03T10:15:30Z").toEpochMilli() - 1,
+                        Instant.parse("2007-12-03T10:15:30Z").toEpochMilli() + 1,
+                        () -> Clock.fixed(Instant.parse("2007-12-03T10:15:30.00Z"), ZoneId.of("UTC")));
+            }
+        }
+
+        @Nested
+        @DisplayName("with moment")
+        class WithMoment extends ConstraintTest<Long> {
+
+            WithMoment() {
+                super(TestClassWithMoment.class, "epochMilli",
+                        Instant.parse("2007-12-03T10:15:30Z").toEpochMilli(),
+                        Instant.parse("2007-12-03T10:15:30Z").toEpochMilli() - 1,
+                        Instant.parse("2007-12-03T10:15:30Z").toEpochMilli() + 1,
+                        () -> null);
+            }
+        }
+
+        @Nested
+        @DisplayName("with seconds")
+        class WithSeconds extends ConstraintTest<Long> {
+
+            WithSeconds() {
+                super(TestClassWithMoment.class, "epochSecond",
+                        Instant.parse("2007-12-03T10:15:30Z").getEpochSecond(),
+                        Instant.parse("2007-12-03T10:15:30Z").getEpochSecond() - 1,
+                        Instant.parse("2007-12-03T10:15:30Z").getEpochSecond() + 1,
+                        () -> null);
+            }
+        }
+    }
+
     @Nested
     @DisplayName("Instant")
     class ForInstant {
@@ -471,6 +565,103 @@ class NotBeforeTest extends AbstractConstraintTest {
         }
     }
 
+    @Nested
+    @DisplayName("ChronoLocalDate")
+    class ForChronoLocalDate {
+
+        @Nested
+        @DisplayName("with 'now'")
+        class WithNow extends ConstraintTest<ChronoLocalDate> {
+
+            WithNow() {
+                super(TestClassWithNow.class, "chronoLocalDate",
+                        JapaneseDate.from(LocalDate.parse("2007-12-03")),
+                        JapaneseDate.from(LocalDate.parse("2007-12-03")).minus(1, ChronoUnit.DAYS),
+                        JapaneseDate.from(LocalDate.parse("2007-12-03")).plus(1, ChronoUnit.DAYS),
+                        () -> Clock.fixed(Instant.parse("2007-12-03T10:15:30.00Z"), ZoneId.of("UTC")));
+            }
+        }
+
+        @Nested
+        @DisplayName("with moment")
+        class WithMoment extends ConstraintTest<ChronoLocalDate> {
+
+            WithMoment() {
+                super(TestClassWithMoment.class, "chronoLocalDate",
+                        ThaiBuddhistDate.from(LocalDate.parse("2007-12-03")),
+                        ThaiBuddhistDate.from(LocalDate.parse("2007-12-03")).minus(1, ChronoUnit.DAYS),
+                        ThaiBuddhistDate.from(LocalDate.parse("2007-12-03")).plus(1, ChronoUnit.DAYS),
+                        () -> null);
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("ChronoLocalDateTime")
+    class ForChronoLocalDateTime {
+
+        @Nested
+        @DisplayName("with 'now'")
+        class WithNow extends ConstraintTest<ChronoLocalDateTime<?>> {
+
+            WithNow() {
+                super(TestClassWithNow.class, "chronoLocalDateTime",
+                        JapaneseDate.from(LocalDate.parse("2007-12-03")).atTime(LocalTime.parse("10:15:30")),
+                        JapaneseDate.from(LocalDate.parse("2007-12-03")).atTime(LocalTime.parse("10:15:30")).minus(1, ChronoUnit.NANOS),
+                        JapaneseDate.from(LocalDate.parse("2007-12-03")).atTime(LocalTime.parse("10:15:30")).plus(1, ChronoUnit.NANOS),
+                        () -> Clock.fixed(Instant.parse("2007-12-03T10:15:30.00Z"), ZoneId.of("UTC")));
+            }
+        }
+
+        @Nested
+        @DisplayName("with moment")
+        class WithMoment extends ConstraintTest<ChronoLocalDateTime<?>> {
+
+            WithMoment() {
+                super(TestClassWithMoment.class, "chronoLocalDateTime",
+                        JapaneseDate.from(LocalDate.parse("2007-12-03")).atTime(LocalTime.parse("10:15:30")),
+                        JapaneseDate.from(LocalDate.parse("2007-12-03")).atTime(LocalTime.parse("10:15:30")).minus(1, ChronoUnit.NANOS),
+                        JapaneseDate.from(LocalDate.parse("2007-12-03")).atTime(LocalTime.parse("10:15:30")).plus(1, ChronoUnit.NANOS),
+                        () -> null);
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("ChronoZonedDateTime")
+    class ForChronoZonedDateTime {
+
+        @Nested
+        @DisplayName("with 'now'")
+        class WithNow extends ConstraintTest<ChronoZonedDateTime<?>> {
+
+            WithNow() {
+                super(TestClassWithNow.class, "chronoZonedDateTime",
+                        JapaneseDate.from(LocalDate.parse("2007-12-03")).atTime(LocalTime.parse("10:15:30")).atZone(ZoneId.of("Europe/Paris")),
+                        JapaneseDate.from(LocalDate.parse("2007-12-03")).atTime(LocalTime.parse("10:15:30")).atZone(ZoneId.of("Europe/Paris"))
+                                .minus(1, ChronoUnit.NANOS),
+                        JapaneseDate.from(LocalDate.parse("2007-12-03")).atTime(LocalTime.parse("10:15:30")).atZone(ZoneId.of("Europe/Paris"))
+                                .plus(1, ChronoUnit.NANOS),
+                        () -> Clock.fixed(ZonedDateTime.parse("2007-12-03T10:15:30+01:00[Europe/Paris]").toInstant(), ZoneId.of("Europe/Paris")));
+            }
+        }
+
+        @Nested
+        @DisplayName("with different time zone")
+        class WithDifferentTimeZone extends ConstraintTest<ChronoZonedDateTime<?>> {
+
+            WithDifferentTimeZone() {
+                super(TestClassWithMoment.class, "chronoZonedDateTime",
+                        JapaneseDate.from(LocalDate.parse("2007-12-03")).atTime(LocalTime.parse("09:15:30")).atZone(ZoneOffset.UTC),
+                        JapaneseDate.from(LocalDate.parse("2007-12-03")).atTime(LocalTime.parse("09:15:30")).atZone(ZoneOffset.UTC)
+                                .minus(1, ChronoUnit.NANOS),
+                        JapaneseDate.from(LocalDate.parse("2007-12-03")).atTime(LocalTime.parse("09:15:30")).atZone(ZoneOffset.UTC)
+                                .plus(1, ChronoUnit.NANOS),
+                        () -> null);
+            }
+        }
+    }
+
     private abstract static class ConstraintTest<T> extends AbstractConstraintTest {
 
         private final Class<?> beanType;
@@ -535,6 +726,12 @@ class NotBeforeTest extends AbstractConstraintTest {
         @NotBefore(moment = "now")
         Calendar calendar;
 
+        @NotBefore(moment = "now")
+        CharSequence charSequence;
+
+        @NotBefore(moment = "now")
+        Long epochMilli;
+
         @NotBefore(moment = "now")
         Instant instant;
 
@@ -564,6 +761,15 @@ class NotBeforeTest extends AbstractConstraintTest {
 
         @NotBefore(moment = "now")
         ZonedDateTime zonedDateTime;
+
+        @NotBefore(moment = "now")
+        ChronoLocalDate chronoLocalDate;
+
+        @NotBefore(moment = "now")
+        ChronoLocalDateTime<?> chronoLocalDateTime;
+
+        @NotBefore(moment = "now")
+        ChronoZonedDateTime<?> chronoZonedDateTime;
     }
 
     private static final class TestClassWithMoment {
@@ -573,6 +779,15 @@ class NotBeforeTest extends AbstractConstraintTest {
         @NotBefore(moment = "2007-12-03T10:15:30+01:00[Europe/Paris]")
         Calendar calendar;
 
+        @NotBefore(moment = "2007-12-03T10:15:30+01:00")
+        CharSequence charSequence;
+
+        @NotBefore(moment = "2007-12-03T10:15:30.00Z")
+        Long epochMilli;
+
+        @NotBefore(moment = "2007-12-03T10:15:30.00Z", payload = EpochValue.Seconds.class)
+        Long epochSecond;
+
         @NotBefore(moment = "2007-12-03T10:15:30.00Z")
         Instant instant;
 
@@ -602,5 +817,14 @@ class NotBeforeTest extends AbstractConstraintTest {
 
         @NotBefore(moment = "2007-12-03T10:15:30+01:00[Europe/Paris]")
         ZonedDateTime zonedDateTime;
+
+        @NotBefore(moment = "2007-12-03")
+        ChronoLocalDate chronoLocalDate;
+
+        @NotBefore(moment = "2007-12-03T10:15:30")
+        ChronoLocalDateTime<?> chronoLocalDateTime;
+
+        @NotBefore(moment = "2007-12-03T10:15:30+01:00[Europe/Paris]")
+        ChronoZonedDateTime<?> chronoZonedDateTime;
     }
 }
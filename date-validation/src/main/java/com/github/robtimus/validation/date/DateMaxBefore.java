@@ -46,6 +46,8 @@ import com.github.robtimus.validation.date.validators.DateMaxBeforeValidator;
  * <ul>
  * <li>{@link java.util.Date}</li>
  * <li>{@link java.util.Calendar}</li>
+ * <li>{@link java.lang.CharSequence}, if it contains an ISO 8601 local date-time or offset date-time</li>
+ * <li>{@link java.lang.Long}, as epoch value in the unit defined by {@link com.github.robtimus.validation.datetime.base.EpochValue}</li>
  * <li>{@link java.time.Instant}</li>
  * <li>{@link java.time.LocalDateTime}</li>
  * <li>{@link java.time.OffsetDateTime}</li>
@@ -59,6 +61,8 @@ import com.github.robtimus.validation.date.validators.DateMaxBeforeValidator;
 @Documented
 @Constraint(validatedBy = { DateMaxBeforeValidator.ForDate.class,
         DateMaxBeforeValidator.ForCalendar.class,
+        DateMaxBeforeValidator.ForCharSequence.class,
+        DateMaxBeforeValidator.ForLong.class,
         DateMaxBeforeValidator.ForInstant.class,
         DateMaxBeforeValidator.ForLocalDateTime.class,
         DateMaxBeforeValidator.ForOffsetDateTime.class,
@@ -106,7 +110,8 @@ public @interface DateMaxBefore {
      * <ul>
      * <li>For {@link java.util.Calendar}, {@link java.time.OffsetDateTime} and {@link java.time.ZonedDateTime}, if the zone id is not
      *     {@code provided}, the value is converted to the given zone id before extracting the date.</li>
-     * <li>For {@link java.util.Date} and {@link java.time.Instant}, no zone id is available, so {@code provided} is not allowed.</li>
+     * <li>For {@link java.util.Date}, {@link java.time.Instant} and {@link java.lang.Long}, no zone id is available, so {@code provided} is not
+     *     allowed.</li>
      * <li>For {@link java.time.LocalDateTime}, no zone id is applicable, so only the default value ({@code system}) is allowed.</li>
      * </ul>
      */
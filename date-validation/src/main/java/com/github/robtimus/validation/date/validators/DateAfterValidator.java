@@ -26,7 +26,10 @@ import java.util.Calendar;
 import java.util.Date;
 import com.github.robtimus.validation.date.DateAfter;
 import com.github.robtimus.validation.datetime.base.CalendarValidator;
+import com.github.robtimus.validation.datetime.base.CharSequenceValidator;
 import com.github.robtimus.validation.datetime.base.DateValidator;
+import com.github.robtimus.validation.datetime.base.EpochValueValidator;
+import com.github.robtimus.validation.datetime.base.MomentParsers;
 import com.github.robtimus.validation.datetime.base.MomentPartValidator;
 
 /**
@@ -69,6 +72,36 @@ public final class DateAfterValidator {
         }
     }
 
+    /**
+     * A constraint validator for {@link DateAfter} for {@link CharSequence}.
+     *
+     * @author Rob Spoor
+     */
+    public static class ForCharSequence extends CharSequenceValidator<DateAfter> {
+
+        /**
+         * Creates a new validator.
+         */
+        public ForCharSequence() {
+            super(new ForOffsetDateTime(), new ForLocalDateTime(), null, null);
+        }
+    }
+
+    /**
+     * A constraint validator for {@link DateAfter} for {@link Long}.
+     *
+     * @author Rob Spoor
+     */
+    public static class ForLong extends EpochValueValidator<DateAfter> {
+
+        /**
+         * Creates a new validator.
+         */
+        public ForLong() {
+            super(new ForInstant());
+        }
+    }
+
     /**
      * A constraint validator for {@link DateAfter} for {@link Instant}.
      *
@@ -80,7 +113,8 @@ public final class DateAfterValidator {
          * Creates a new validator.
          */
         public ForInstant() {
-            super(DateAfter::moment, LocalDate::parse, LocalDate::now, DateAfter::zoneId, ZonedDateTime::toLocalDate, LocalDate::isAfter);
+            super(DateAfter::moment, MomentParsers.LOCAL_DATE, LocalDate::now, DateAfter::zoneId, ZonedDateTime::toLocalDate,
+                    comparison(LocalDate::isAfter));
         }
     }
 
@@ -95,7 +129,8 @@ public final class DateAfterValidator {
          * Creates a new validator.
          */
         public ForLocalDateTime() {
-            super(DateAfter::moment, LocalDate::parse, LocalDate::now, DateAfter::zoneId, LocalDateTime::toLocalDate, LocalDate::isAfter);
+            super(DateAfter::moment, MomentParsers.LOCAL_DATE, LocalDate::now, DateAfter::zoneId, LocalDateTime::toLocalDate,
+                    comparison(LocalDate::isAfter));
         }
     }
 
@@ -110,9 +145,9 @@ public final class DateAfterValidator {
          * Creates a new validator.
          */
         public ForOffsetDateTime() {
-            super(DateAfter::moment, LocalDate::parse, LocalDate::now, DateAfter::zoneId,
+            super(DateAfter::moment, MomentParsers.LOCAL_DATE, LocalDate::now, DateAfter::zoneId,
                     OffsetDateTime::toLocalDate, OffsetDateTime::atZoneSameInstant, ZonedDateTime::toLocalDate,
-                    LocalDate::isAfter);
+                    comparison(LocalDate::isAfter));
         }
     }
 
@@ -127,7 +162,8 @@ public final class DateAfterValidator {
          * Creates a new validator.
          */
         public ForZonedDateTime() {
-            super(DateAfter::moment, LocalDate::parse, LocalDate::now, DateAfter::zoneId, ZonedDateTime::toLocalDate, LocalDate::isAfter);
+            super(DateAfter::moment, MomentParsers.LOCAL_DATE, LocalDate::now, DateAfter::zoneId, ZonedDateTime::toLocalDate,
+                    comparison(LocalDate::isAfter));
         }
     }
 }
@@ -26,7 +26,10 @@ import java.util.Calendar;
 import java.util.Date;
 import com.github.robtimus.validation.date.DateBefore;
 import com.github.robtimus.validation.datetime.base.CalendarValidator;
+import com.github.robtimus.validation.datetime.base.CharSequenceValidator;
 import com.github.robtimus.validation.datetime.base.DateValidator;
+import com.github.robtimus.validation.datetime.base.EpochValueValidator;
+import com.github.robtimus.validation.datetime.base.MomentParsers;
 import com.github.robtimus.validation.datetime.base.MomentPartValidator;
 
 /**
@@ -69,6 +72,36 @@ public final class DateBeforeValidator {
         }
     }
 
+    /**
+     * A constraint validator for {@link DateBefore} for {@link CharSequence}.
+     *
+     * @author Rob Spoor
+     */
+    public static class ForCharSequence extends CharSequenceValidator<DateBefore> {
+
+        /**
+         * Creates a new validator.
+         */
+        public ForCharSequence() {
+            super(new ForOffsetDateTime(), new ForLocalDateTime(), null, null);
+        }
+    }
+
+    /**
+     * A constraint validator for {@link DateBefore} for {@link Long}.
+     *
+     * @author Rob Spoor
+     */
+    public static class ForLong extends EpochValueValidator<DateBefore> {
+
+        /**
+         * Creates a new validator.
+         */
+        public ForLong() {
+            super(new ForInstant());
+        }
+    }
+
     /**
      * A constraint validator for {@link DateBefore} for {@link Instant}.
      *
@@ -80,7 +113,8 @@ public final class DateBeforeValidator {
          * Creates a new validator.
          */
         public ForInstant() {
-            super(DateBefore::moment, LocalDate::parse, LocalDate::now, DateBefore::zoneId, ZonedDateTime::toLocalDate, LocalDate::isBefore);
+            super(DateBefore::moment, MomentParsers.LOCAL_DATE, LocalDate::now, DateBefore::zoneId, ZonedDateTime::toLocalDate,
+                    comparison(LocalDate::isBefore));
         }
     }
 
@@ -95,7 +129,8 @@ public final class DateBeforeValidator {
          * Creates a new validator.
          */
         public ForLocalDateTime() {
-            super(DateBefore::moment, LocalDate::parse, LocalDate::now, DateBefore::zoneId, LocalDateTime::toLocalDate, LocalDate::isBefore);
+            super(DateBefore::moment, MomentParsers.LOCAL_DATE, LocalDate::now, DateBefore::zoneId, LocalDateTime::toLocalDate,
+                    comparison(LocalDate::isBefore));
         }
     }
 
@@ -110,9 +145,9 @@ public final class DateBeforeValidator {
          * Creates a new validator.
          */
         public ForOffsetDateTime() {
-            super(DateBefore::moment, LocalDate::parse, LocalDate::now, DateBefore::zoneId,
+            super(DateBefore::moment, MomentParsers.LOCAL_DATE, LocalDate::now, DateBefore::zoneId,
                     OffsetDateTime::toLocalDate, OffsetDateTime::atZoneSameInstant, ZonedDateTime::toLocalDate,
-                    LocalDate::isBefore);
+                    comparison(LocalDate::isBefore));
         }
     }
 
@@ -127,7 +162,8 @@ public final class DateBeforeValidator {
          * Creates a new validator.
          */
         public ForZonedDateTime() {
-            super(DateBefore::moment, LocalDate::parse, LocalDate::now, DateBefore::zoneId, ZonedDateTime::toLocalDate, LocalDate::isBefore);
+            super(DateBefore::moment, MomentParsers.LOCAL_DATE, LocalDate::now, DateBefore::zoneId, ZonedDateTime::toLocalDate,
+                    comparison(LocalDate::isBefore));
         }
     }
 }
@@ -26,7 +26,10 @@ import java.util.Calendar;
 import java.util.Date;
 import com.github.robtimus.validation.date.DateMaxAfter;
 import com.github.robtimus.validation.datetime.base.CalendarValidator;
+import com.github.robtimus.validation.datetime.base.CharSequenceValidator;
 import com.github.robtimus.validation.datetime.base.DateValidator;
+import com.github.robtimus.validation.datetime.base.EpochValueValidator;
+import com.github.robtimus.validation.datetime.base.MomentParsers;
 import com.github.robtimus.validation.datetime.base.MomentPartValidator;
 
 /**
@@ -69,6 +72,36 @@ public final class DateMaxAfterValidator {
         }
     }
 
+    /**
+     * A constraint validator for {@link DateMaxAfter} for {@link CharSequence}.
+     *
+     * @author Rob Spoor
+     */
+    public static class ForCharSequence extends CharSequenceValidator<DateMaxAfter> {
+
+        /**
+         * Creates a new validator.
+         */
+        public ForCharSequence() {
+            super(new ForOffsetDateTime(), new ForLocalDateTime(), null, null);
+        }
+    }
+
+    /**
+     * A constraint validator for {@link DateMaxAfter} for {@link Long}.
+     *
+     * @author Rob Spoor
+     */
+    public static class ForLong extends EpochValueValidator<DateMaxAfter> {
+
+        /**
+         * Creates a new validator.
+         */
+        public ForLong() {
+            super(new ForInstant());
+        }
+    }
+
     /**
      * A constraint validator for {@link DateMaxAfter} for {@link Instant}.
      *
@@ -80,8 +113,8 @@ public final class DateMaxAfterValidator {
          * Creates a new validator.
          */
         public ForInstant() {
-            super(DateMaxAfter::moment, LocalDate::parse, LocalDate::now, DateMaxAfter::duration, LocalDate::plus, DateMaxAfter::zoneId,
-                    ZonedDateTime::toLocalDate, not(LocalDate::isAfter));
+            super(DateMaxAfter::moment, MomentParsers.LOCAL_DATE, LocalDate::now, DateMaxAfter::duration, LocalDate::plus, DateMaxAfter::zoneId,
+                    ZonedDateTime::toLocalDate, not(comparison(LocalDate::isAfter)));
         }
     }
 
@@ -96,8 +129,8 @@ public final class DateMaxAfterValidator {
          * Creates a new validator.
          */
         public ForLocalDateTime() {
-            super(DateMaxAfter::moment, LocalDate::parse, LocalDate::now, DateMaxAfter::duration, LocalDate::plus, DateMaxAfter::zoneId,
-                    LocalDateTime::toLocalDate, not(LocalDate::isAfter));
+            super(DateMaxAfter::moment, MomentParsers.LOCAL_DATE, LocalDate::now, DateMaxAfter::duration, LocalDate::plus, DateMaxAfter::zoneId,
+                    LocalDateTime::toLocalDate, not(comparison(LocalDate::isAfter)));
         }
     }
 
@@ -112,9 +145,9 @@ public final class DateMaxAfterValidator {
          * Creates a new validator.
          */
         public ForOffsetDateTime() {
-            super(DateMaxAfter::moment, LocalDate::parse, LocalDate::now, DateMaxAfter::duration, LocalDate::plus, DateMaxAfter::zoneId,
+            super(DateMaxAfter::moment, MomentParsers.LOCAL_DATE, LocalDate::now, DateMaxAfter::duration, LocalDate::plus, DateMaxAfter::zoneId,
                     OffsetDateTime::toLocalDate, OffsetDateTime::atZoneSameInstant, ZonedDateTime::toLocalDate,
-                    not(LocalDate::isAfter));
+                    not(comparison(LocalDate::isAfter)));
         }
     }
 
@@ -129,8 +162,8 @@ public final class DateMaxAfterValidator {
          * Creates a new validator.
          */
         public ForZonedDateTime() {
-            super(DateMaxAfter::moment, LocalDate::parse, LocalDate::now, DateMaxAfter::duration, LocalDate::plus, DateMaxAfter::zoneId,
-                    ZonedDateTime::toLocalDate, not(LocalDate::isAfter));
+            super(DateMaxAfter::moment, MomentParsers.LOCAL_DATE, LocalDate::now, DateMaxAfter::duration, LocalDate::plus, DateMaxAfter::zoneId,
+                    ZonedDateTime::toLocalDate, not(comparison(LocalDate::isAfter)));
         }
     }
 }
@@ -26,7 +26,10 @@ import java.util.Calendar;
 import java.util.Date;
 import com.github.robtimus.validation.date.DateMaxBefore;
 import com.github.robtimus.validation.datetime.base.CalendarValidator;
+import com.github.robtimus.validation.datetime.base.CharSequenceValidator;
 import com.github.robtimus.validation.datetime.base.DateValidator;
+import com.github.robtimus.validation.datetime.base.EpochValueValidator;
+import com.github.robtimus.validation.datetime.base.MomentParsers;
 import com.github.robtimus.validation.datetime.base.MomentPartValidator;
 
 /**
@@ -69,6 +72,36 @@ public final class DateMaxBeforeValidator {
         }
     }
 
+    /**
+     * A constraint validator for {@link DateMaxBefore} for {@link CharSequence}.
+     *
+     * @author Rob Spoor
+     */
+    public static class ForCharSequence extends CharSequenceValidator<DateMaxBefore> {
+
+        /**
+         * Creates a new validator.
+         */
+        public ForCharSequence() {
+            super(new ForOffsetDateTime(), new ForLocalDateTime(), null, null);
+        }
+    }
+
+    /**
+     * A constraint validator for {@link DateMaxBefore} for {@link Long}.
+     *
+     * @author Rob Spoor
+     */
+    public static class ForLong extends EpochValueValidator<DateMaxBefore> {
+
+        /**
+         * Creates a new validator.
+         */
+        public ForLong() {
+            super(new ForInstant());
+        }
+    }
+
     /**
      * A constraint validator for {@link DateMaxBefore} for {@link Instant}.
      *
@@ -80,8 +113,8 @@ public final class DateMaxBeforeValidator {
          * Creates a new validator.
          */
         public ForInstant() {
-            super(DateMaxBefore::moment, LocalDate::parse, LocalDate::now, DateMaxBefore::duration, LocalDate::minus, DateMaxBefore::zoneId,
-                    ZonedDateTime::toLocalDate, not(LocalDate::isBefore));
+            super(DateMaxBefore::moment, MomentParsers.LOCAL_DATE, LocalDate::now, DateMaxBefore::duration, LocalDate::minus, DateMaxBefore::zoneId,
+                    ZonedDateTime::toLocalDate, not(comparison(LocalDate::isBefore)));
         }
     }
 
@@ -96,8 +129,8 @@ public final class DateMaxBeforeValidator {
          * Creates a new validator.
          */
         public ForLocalDateTime() {
-            super(DateMaxBefore::moment, LocalDate::parse, LocalDate::now, DateMaxBefore::duration, LocalDate::minus, DateMaxBefore::zoneId,
-                    LocalDateTime::toLocalDate, not(LocalDate::isBefore));
+            super(DateMaxBefore::moment, MomentParsers.LOCAL_DATE, LocalDate::now, DateMaxBefore::duration, LocalDate::minus, DateMaxBefore::zoneId,
+                    LocalDateTime::toLocalDate, not(comparison(LocalDate::isBefore)));
         }
     }
 
@@ -112,9 +145,9 @@ public final class DateMaxBeforeValidator {
          * Creates a new validator.
          */
         public ForOffsetDateTime() {
-            super(DateMaxBefore::moment, LocalDate::parse, LocalDate::now, DateMaxBefore::duration, LocalDate::minus, DateMaxBefore::zoneId,
+            super(DateMaxBefore::moment, MomentParsers.LOCAL_DATE, LocalDate::now, DateMaxBefore::duration, LocalDate::minus, DateMaxBefore::zoneId,
                     OffsetDateTime::toLocalDate, OffsetDateTime::atZoneSameInstant, ZonedDateTime::toLocalDate,
-                    not(LocalDate::isBefore));
+                    not(comparison(LocalDate::isBefore)));
         }
     }
 
@@ -129,8 +162,8 @@ public final class DateMaxBeforeValidator {
          * Creates a new validator.
          */
         public ForZonedDateTime() {
-            super(DateMaxBefore::moment, LocalDate::parse, LocalDate::now, DateMaxBefore::duration, LocalDate::minus, DateMaxBefore::zoneId,
-                    ZonedDateTime::toLocalDate, not(LocalDate::isBefore));
+            super(DateMaxBefore::moment, MomentParsers.LOCAL_DATE, LocalDate::now, DateMaxBefore::duration, LocalDate::minus, DateMaxBefore::zoneId,
+                    ZonedDateTime::toLocalDate, not(comparison(LocalDate::isBefore)));
         }
     }
 }
@@ -26,7 +26,10 @@ import java.util.Calendar;
 import java.util.Date;
 import com.github.robtimus.validation.date.DateMinBefore;
 import com.github.robtimus.validation.datetime.base.CalendarValidator;
+import com.github.robtimus.validation.datetime.base.CharSequenceValidator;
 import com.github.robtimus.validation.datetime.base.DateValidator;
+import com.github.robtimus.validation.datetime.base.EpochValueValidator;
+import com.github.robtimus.validation.datetime.base.MomentParsers;
 import com.github.robtimus.validation.datetime.base.MomentPartValidator;
 
 /**
@@ -69,6 +72,36 @@ public final class DateMinBeforeValidator {
         }
     }
 
+    /**
+     * A constraint validator for {@link DateMinBefore} for {@link CharSequence}.
+     *
+     * @author Rob Spoor
+     */
+    public static class ForCharSequence extends CharSequenceValidator<DateMinBefore> {
+
+        /**
+         * Creates a new validator.
+         */
+        public ForCharSequence() {
+            super(new ForOffsetDateTime(), new ForLocalDateTime(), null, null);
+        }
+    }
+
+    /**
+     * A constraint validator for {@link DateMinBefore} for {@link Long}.
+     *
+     * @author Rob Spoor
+     */
+    public static class ForLong extends EpochValueValidator<DateMinBefore> {
+
+        /**
+         * Creates a new validator.
+         */
+        public ForLong() {
+            super(new ForInstant());
+        }
+    }
+
     /**
      * A constraint validator for {@link DateMinBefore} for {@link Instant}.
      *
@@ -80,8 +113,8 @@ public final class DateMinBeforeValidator {
          * Creates a new validator.
          */
         public ForInstant() {
-            super(DateMinBefore::moment, LocalDate::parse, LocalDate::now, DateMinBefore::duration, LocalDate::minus, DateMinBefore::zoneId,
-                    ZonedDateTime::toLocalDate, not(LocalDate::isAfter));
+            super(DateMinBefore::moment, MomentParsers.LOCAL_DATE, LocalDate::now, DateMinBefore::duration, LocalDate::minus, DateMinBefore::zoneId,
+                    ZonedDateTime::toLocalDate, not(comparison(LocalDate::isAfter)));
         }
     }
 
@@ -96,8 +129,8 @@ public final class DateMinBeforeValidator {
          * Creates a new validator.
          */
         public ForLocalDateTime() {
-            super(DateMinBefore::moment, LocalDate::parse, LocalDate::now, DateMinBefore::duration, LocalDate::minus, DateMinBefore::zoneId,
-                    LocalDateTime::toLocalDate, not(LocalDate::isAfter));
+            super(DateMinBefore::moment, MomentParsers.LOCAL_DATE, LocalDate::now, DateMinBefore::duration, LocalDate::minus, DateMinBefore::zoneId,
+                    LocalDateTime::toLocalDate, not(comparison(LocalDate::isAfter)));
         }
     }
 
@@ -112,9 +145,9 @@ public final class DateMinBeforeValidator {
          * Creates a new validator.
          */
         public ForOffsetDateTime() {
-            super(DateMinBefore::moment, LocalDate::parse, LocalDate::now, DateMinBefore::duration, LocalDate::minus, DateMinBefore::zoneId,
+            super(DateMinBefore::moment, MomentParsers.LOCAL_DATE, LocalDate::now, DateMinBefore::duration, LocalDate::minus, DateMinBefore::zoneId,
                     OffsetDateTime::toLocalDate, OffsetDateTime::atZoneSameInstant, ZonedDateTime::toLocalDate,
-                    not(LocalDate::isAfter));
+                    not(comparison(LocalDate::isAfter)));
         }
     }
 
@@ -129,8 +162,8 @@ public final class DateMinBeforeValidator {
          * Creates a new validator.
          */
         public ForZonedDateTime() {
-            super(DateMinBefore::moment, LocalDate::parse, LocalDate::now, DateMinBefore::duration, LocalDate::minus, DateMinBefore::zoneId,
-                    ZonedDateTime::toLocalDate, not(LocalDate::isAfter));
+            super(DateMinBefore::moment, MomentParsers.LOCAL_DATE, LocalDate::now, DateMinBefore::duration, LocalDate::minus, DateMinBefore::zoneId,
+                    ZonedDateTime::toLocalDate, not(comparison(LocalDate::isAfter)));
         }
     }
 }
@@ -41,6 +41,7 @@ import org.junit.jupiter.api.TestInstance;
 import org.junit.jupiter.api.TestInstance.Lifecycle;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
+import com.github.robtimus.validation.datetime.base.EpochValue;
 
 @SuppressWarnings("nls")
 class DateBeforeTest extends AbstractConstraintTest {
@@ -167,6 +168,144 @@ class DateBeforeTest extends AbstractConstraintTest {
         }
     }
 
+    @Nested
+    @DisplayName("CharSequence")
+    class ForCharSequence {
+
+        @Nested
+        @DisplayName("with 'now'")
+        class WithNow extends ConstraintTest<CharSequence> {
+
+            WithNow() {
+                super(TestClassWithNow.class, "charSequence",
+                        Arrays.asList(
+                                "2007-12-03T00:00:00",
+                                "2007-12-03T23:59:59.999999999"
+                        ),
+                        "2007-12-02T23:59:59.999999999",
+                        "2007-12-04T00:00:00",
+                        () -> Clock.fixed(Instant.parse("2007-12-03T10:15:30Z"), ZoneId.of("UTC")));
+            }
+        }
+
+        @Nested
+        @DisplayName("with moment")
+        class WithMoment extends ConstraintTest<CharSequence> {
+
+            WithMoment() {
+                super(TestClassWithProvidedZoneId.class, "charSequence",
+                        Arrays.asList(
+                                "2007-12-03T00:00:00+01:00",
+                                "2007-12-03T23:59:59.999999999+01:00"
+                        ),
+                        "2007-12-02T23:59:59.999999999+01:00",
+                        "2007-12-04T00:00:00+01:00",
+                        () -> null);
+            }
+        }
+
+        @Nested
+        @DisplayName("with zone id")
+        class WithZoneId extends ConstraintTest<CharSequence> {
+
+            WithZoneId() {
+                super(TestClassWithZoneId.class, "charSequence",
+                        Arrays.asList(
+                                "2007-12-03T01:00:00+01:00",
+                                "2007-12-04T00:59:59.999999999+01:00"
+                        ),
+                        "2007-12-03T00:59:59.999999999+01:00",
+                        "2007-12-04T01:00:00+01:00",
+                        () -> null);
+            }
+        }
+
+        @Nested
+        @DisplayName("with daylight saving time zone id")
+        class WithDaylightSavingTimeZoneId extends ConstraintTest<CharSequence> {
+
+            WithDaylightSavingTimeZoneId() {
+                super(TestClassWithDaylightSavingTimeZoneId.class, "charSequence",
+                        Arrays.asList(
+                                "2007-03-24T23:00:00Z",
+                                "2007-03-25T21:59:59.999999999Z"
+                        ),
+                        "2007-03-24T22:59:59.999999999Z",
+                        "2007-03-25T22:00:00Z",
+                        () -> null);
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("Long")
+    class ForLong {
+
+        @Nested
+        @DisplayName("with 'now'")
+        class WithNow extends ConstraintTest<Long> {
+
+            WithNow() {
+                super(TestClassWithNow.class, "epochMilli",
+                        Arrays.asList(
+                                utcInstantAtDefaultZone("2007-12-03T00:00:00Z").toEpochMilli(),
+                                utcInstantAtDefaultZone("2007-12-03T23:59:59.999999999Z").toEpochMilli()
+                        ),
+                        utcInstantAtDefaultZone("2007-12-02T23:59:59.999999999Z").toEpochMilli(),
+                        utcInstantAtDefaultZone("2007-12-04T00:00:00Z").toEpochMilli(),
+                        () -> Clock.fixed(Instant.parse("2007-12-03T10:15:30Z"), ZoneId.of("UTC")));
+            }
+        }
+
+        @Nested
+        @DisplayName("with zone id")
+        class WithZoneId extends ConstraintTest<Long> {
+
+            WithZoneId() {
+                super(TestClassWithZoneId.class, "epochMilli",
+                        Arrays.asList(
+                                Instant.parse("2007-12-03T00:00:00Z").toEpochMilli(),
+                                Instant.parse("2007-12-03T23:59:59.999999999Z").toEpochMilli()
+                        ),
+                        Instant.parse("2007-12-02T23:59:59.999999999Z").toEpochMilli(),
+                        Instant.parse("2007-12-04T00:00:00Z").toEpochMilli(),
+                        () -> null);
+            }
+        }
+
+        @Nested
+        @DisplayName("with seconds")
+        class WithSeconds extends ConstraintTest<Long> {
+
+            WithSeconds() {
+                super(TestClassWithZoneId.class, "epochSecond",
+                        Arrays.asList(
+                                Instant.parse("2007-12-03T00:00:00Z").getEpochSecond(),
+                                Instant.parse("2007-12-03T23:59:59.999999999Z").getEpochSecond()
+                        ),
+                        Instant.parse("2007-12-02T23:59:59.999999999Z").getEpochSecond(),
+                        Instant.parse("2007-12-04T00:00:00Z").getEpochSecond(),
+                        () -> null);
+            }
+        }
+
+        @Nested
+        @DisplayName("with daylight saving time zone id")
+        class WithDaylightSavingTimeZoneId extends ConstraintTest<Long> {
+
+            WithDaylightSavingTimeZoneId() {
+                super(TestClassWithDaylightSavingTimeZoneId.class, "epochMilli",
+                        Arrays.asList(
+                                Instant.parse("2007-03-24T23:00:00Z").toEpochMilli(),
+                                Instant.parse("2007-03-25T21:59:59.999999999Z").toEpochMilli()
+                        ),
+                        Instant.parse("2007-03-24T22:59:59.999999999Z").toEpochMilli(),
+                        Instant.parse("2007-03-25T22:00:00Z").toEpochMilli(),
+                        () -> null);
+            }
+        }
+    }
+
     @Nested
     @DisplayName("Instant")
     class ForInstant {
@@ -472,6 +611,12 @@ class DateBeforeTest extends AbstractConstraintTest {
         @DateBefore(moment = "now", zoneId = "system")
         Calendar calendar;
 
+        @DateBefore(moment = "now", zoneId = "system")
+        CharSequence charSequence;
+
+        @DateBefore(moment = "now", zoneId = "system")
+        Long epochMilli;
+
         @DateBefore(moment = "now", zoneId = "system")
         Instant instant;
 
@@ -492,6 +637,9 @@ class DateBeforeTest extends AbstractConstraintTest {
         @DateBefore(moment = "2007-12-03", zoneId = "provided")
         Calendar calendar;
 
+        @DateBefore(moment = "2007-12-03", zoneId = "provided")
+        CharSequence charSequence;
+
         @DateBefore(moment = "2007-12-03", zoneId = "provided")
         Instant instant;
 
@@ -512,6 +660,15 @@ class DateBeforeTest extends AbstractConstraintTest {
         @DateBefore(moment = "2007-12-03", zoneId = "UTC")
         Calendar calendar;
 
+        @DateBefore(moment = "2007-12-03", zoneId = "UTC")
+        CharSequence charSequence;
+
+        @DateBefore(moment = "2007-12-03", zoneId = "UTC")
+        Long epochMilli;
+
+        @DateBefore(moment = "2007-12-03", zoneId = "UTC", payload = EpochValue.Seconds.class)
+        Long epochSecond;
+
         @DateBefore(moment = "2007-12-03", zoneId = "UTC")
         Instant instant;
 
@@ -544,4 +701,12 @@ class DateBeforeTest extends AbstractConstraintTest {
         @DateBefore(moment = "2007-12-03")
         ZonedDateTime zonedDateTime;
     }
+
+    private static final class TestClassWithDaylightSavingTimeZoneId {
+        @DateBefore(moment = "2007-03-25", zoneId = "Europe/Paris")
+        CharSequence charSequence;
+
+        @DateBefore(moment = "2007-03-25", zoneId = "Europe/Paris")
+        Long epochMilli;
+    }
 }
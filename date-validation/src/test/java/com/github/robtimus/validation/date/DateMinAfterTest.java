@@ -41,6 +41,7 @@ import org.junit.jupiter.api.TestInstance;
 import org.junit.jupiter.api.TestInstance.Lifecycle;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
+import com.github.robtimus.validation.datetime.base.EpochValue;
 
 @SuppressWarnings("nls")
 class DateMinAfterTest extends AbstractConstraintTest {
@@ -171,6 +172,144 @@ class DateMinAfterTest extends AbstractConstraintTest {
         }
     }
 
+    @Nested
+    @DisplayName("CharSequence")
+    class ForCharSequence {
+
+        @Nested
+        @DisplayName("with 'now'")
+        class WithNow extends ConstraintTest<CharSequence> {
+
+            WithNow() {
+                super(TestClassWithNow.class, "charSequence",
+                        Arrays.asList(
+                                "2009-01-04T00:00:00",
+                                "2009-01-04T23:59:59.999999999"
+                        ),
+                        "2009-01-03T23:59:59.999999999",
+                        "2009-01-05T00:00:00",
+                        () -> Clock.fixed(Instant.parse("2007-12-03T10:15:30Z"), ZoneId.of("UTC")));
+            }
+        }
+
+        @Nested
+        @DisplayName("with moment")
+        class WithMoment extends ConstraintTest<CharSequence> {
+
+            WithMoment() {
+                super(TestClassWithProvidedZoneId.class, "charSequence",
+                        Arrays.asList(
+                                "2009-01-04T00:00:00+01:00",
+                                "2009-01-04T23:59:59.999999999+01:00"
+                        ),
+                        "2009-01-03T23:59:59.999999999+01:00",
+                        "2009-01-05T00:00:00+01:00",
+                        () -> null);
+            }
+        }
+
+        @Nested
+        @DisplayName("with zone id")
+        class WithZoneId extends ConstraintTest<CharSequence> {
+
+            WithZoneId() {
+                super(TestClassWithZoneId.class, "charSequence",
+                        Arrays.asList(
+                                "2009-01-04T01:00:00+01:00",
+                                "2009-01-05T00:59:59.999999999+01:00"
+                        ),
+                        "2009-01-04T00:59:59.999999999+01:00",
+                        "2009-01-05T01:00:00+01:00",
+                        () -> null);
+            }
+        }
+
+        @Nested
+        @DisplayName("with daylight saving time zone id")
+        class WithDaylightSavingTimeZoneId extends ConstraintTest<CharSequence> {
+
+            WithDaylightSavingTimeZoneId() {
+                super(TestClassWithDaylightSavingTimeZoneId.class, "charSequence",
+                        Arrays.asList(
+                                "2007-03-24T23:00:00Z",
+                                "2007-03-25T21:59:59.999999999Z"
+                        ),
+                        "2007-03-24T22:59:59.999999999Z",
+                        "2007-03-25T22:00:00Z",
+                        () -> null);
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("Long")
+    class ForLong {
+
+        @Nested
+        @DisplayName("with 'now'")
+        class WithNow extends ConstraintTest<Long> {
+
+            WithNow() {
+                super(TestClassWithNow.class, "epochMilli",
+                        Arrays.asList(
+                                utcInstantAtDefaultZone("2009-01-04T00:00:00Z").toEpochMilli(),
+                                utcInstantAtDefaultZone("2009-01-04T23:59:59.999999999Z").toEpochMilli()
+                        ),
+                        utcInstantAtDefaultZone("2009-01-03T23:59:59.999999999Z").toEpochMilli(),
+                        utcInstantAtDefaultZone("2009-01-05T00:00:00Z").toEpochMilli(),
+                        () -> Clock.fixed(Instant.parse("2007-12-03T10:15:30Z"), ZoneId.of("UTC")));
+            }
+        }
+
+        @Nested
+        @DisplayName("with zone id")
+        class WithZoneId extends ConstraintTest<Long> {
+
+            WithZoneId() {
+                super(TestClassWithZoneId.class, "epochMilli",
+                        Arrays.asList(
+                                Instant.parse("2009-01-04T00:00:00Z").toEpochMilli(),
+                                Instant.parse("2009-01-04T23:59:59.999999999Z").toEpochMilli()
+                        ),
+                        Instant.parse("2009-01-03T23:59:59.999999999Z").toEpochMilli(),
+                        Instant.parse("2009-01-05T00:00:00Z").toEpochMilli(),
+                        () -> null);
+            }
+        }
+
+        @Nested
+        @DisplayName("with seconds")
+        class WithSeconds extends ConstraintTest<Long> {
+
+            WithSeconds() {
+                super(TestClassWithZoneId.class, "epochSecond",
+                        Arrays.asList(
+                                Instant.parse("2009-01-04T00:00:00Z").getEpochSecond(),
+                                Instant.parse("2009-01-04T23:59:59.999999999Z").getEpochSecond()
+                        ),
+                        Instant.parse("2009-01-03T23:59:59.999999999Z").getEpochSecond(),
+                        Instant.parse("2009-01-05T00:00:00Z").getEpochSecond(),
+                        () -> null);
+            }
+        }
+
+        @Nested
+        @DisplayName("with daylight saving time zone id")
+        class WithDaylightSavingTimeZoneId extends ConstraintTest<Long> {
+
+            WithDaylightSavingTimeZoneId() {
+                super(TestClassWithDaylightSavingTimeZoneId.class, "epochMilli",
+                        Arrays.asList(
+                                Instant.parse("2007-03-24T23:00:00Z").toEpochMilli(),
+                                Instant.parse("2007-03-25T21:59:59.999999999Z").toEpochMilli()
+                        ),
+                        Instant.parse("2007-03-24T22:59:59.999999999Z").toEpochMilli(),
+                        Instant.parse("2007-03-25T22:00:00Z").toEpochMilli(),
+                        () -> null);
+            }
+        }
+    }
+
     @Nested
     @DisplayName("Instant")
     class ForInstant extends AbstractNonProvidedZoneIdTest<Instant> {
@@ -481,6 +620,12 @@ class DateMinAfterTest extends AbstractConstraintTest {
         @DateMinAfter(duration = "P1Y1M1D", moment = "now", zoneId = "system")
         Calendar calendar;
 
+        @DateMinAfter(duration = "P1Y1M1D", moment = "now", zoneId = "system")
+        CharSequence charSequence;
+
+        @DateMinAfter(duration = "P1Y1M1D", moment = "now", zoneId = "system")
+        Long epochMilli;
+
         @DateMinAfter(duration = "P1Y1M1D", moment = "now", zoneId = "system")
         Instant instant;
 
@@ -501,6 +646,9 @@ class DateMinAfterTest extends AbstractConstraintTest {
         @DateMinAfter(duration = "P1Y1M1D", moment = "2007-12-03", zoneId = "provided")
         Calendar calendar;
 
+        @DateMinAfter(duration = "P1Y1M1D", moment = "2007-12-03", zoneId = "provided")
+        CharSequence charSequence;
+
         @DateMinAfter(duration = "P1Y1M1D", moment = "2007-12-03", zoneId = "provided")
         Instant instant;
 
@@ -521,6 +669,15 @@ class DateMinAfterTest extends AbstractConstraintTest {
         @DateMinAfter(duration = "P1Y1M1D", moment = "2007-12-03", zoneId = "UTC")
         Calendar calendar;
 
+        @DateMinAfter(duration = "P1Y1M1D", moment = "2007-12-03", zoneId = "UTC")
+        CharSequence charSequence;
+
+        @DateMinAfter(duration = "P1Y1M1D", moment = "2007-12-03", zoneId = "UTC")
+        Long epochMilli;
+
+        @DateMinAfter(duration = "P1Y1M1D", moment = "2007-12-03", zoneId = "UTC", payload = EpochValue.Seconds.class)
+        Long epochSecond;
+
         @DateMinAfter(duration = "P1Y1M1D", moment = "2007-12-03", zoneId = "UTC")
         Instant instant;
 
@@ -553,4 +710,12 @@ class DateMinAfterTest extends AbstractConstraintTest {
         @DateMinAfter(duration = "P1Y1M1D", moment = "2007-12-03")
         ZonedDateTime zonedDateTime;
     }
+
+    private static final class TestClassWithDaylightSavingTimeZoneId {
+        @DateMinAfter(duration = "P1Y1M1D", moment = "2006-02-24", zoneId = "Europe/Paris")
+        CharSequence charSequence;
+
+        @DateMinAfter(duration = "P1Y1M1D", moment = "2006-02-24", zoneId = "Europe/Paris")
+        Long epochMilli;
+    }
 }
@@ -42,6 +42,7 @@ import com.github.robtimus.validation.dayofmonth.validators.DayOfMonthInValidato
  * <ul>
  * <li>{@link java.util.Date}</li>
  * <li>{@link java.util.Calendar}</li>
+ * <li>{@link java.lang.Long}, as epoch value in the unit defined by {@link com.github.robtimus.validation.datetime.base.EpochValue}</li>
  * <li>{@link java.time.Instant}</li>
  * <li>{@link java.time.LocalDate}</li>
  * <li>{@link java.time.LocalDateTime}</li>
@@ -57,6 +58,7 @@ import com.github.robtimus.validation.dayofmonth.validators.DayOfMonthInValidato
 @Documented
 @Constraint(validatedBy = { DayOfMonthInValidator.ForDate.class,
         DayOfMonthInValidator.ForCalendar.class,
+        DayOfMonthInValidator.ForLong.class,
         DayOfMonthInValidator.ForInstant.class,
         DayOfMonthInValidator.ForLocalDate.class,
         DayOfMonthInValidator.ForLocalDateTime.class,
@@ -95,7 +97,8 @@ public @interface DayOfMonthIn {
      * <ul>
      * <li>For {@link java.util.Calendar}, {@link java.time.OffsetDateTime} and {@link java.time.ZonedDateTime}, if the zone id is not
      *     {@code provided}, the value is converted to the given zone id before extracting the day of the month.</li>
-     * <li>For {@link java.util.Date} and {@link java.time.Instant}, no zone id is available, so {@code provided} is not allowed.</li>
+     * <li>For {@link java.util.Date}, {@link java.time.Instant} and {@link java.lang.Long}, no zone id is available, so {@code provided} is not
+     *     allowed.</li>
      * <li>For {@link java.time.LocalDate}, {@link java.time.LocalDateTime}, {@link java.time.Month} and {@link java.time.MonthDay}, no zone id is
      *     applicable, so only the default value ({@code system}) is allowed.</li>
      * </ul>
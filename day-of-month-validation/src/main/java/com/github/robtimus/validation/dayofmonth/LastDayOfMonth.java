@@ -42,6 +42,7 @@ import com.github.robtimus.validation.dayofmonth.validators.LastDayOfMonthValida
  * <ul>
  * <li>{@link java.util.Date}</li>
  * <li>{@link java.util.Calendar}</li>
+ * <li>{@link java.lang.Long}, as epoch value in the unit defined by {@link com.github.robtimus.validation.datetime.base.EpochValue}</li>
  * <li>{@link java.time.Instant}</li>
  * <li>{@link java.time.LocalDate}</li>
  * <li>{@link java.time.LocalDateTime}</li>
@@ -58,6 +59,7 @@ import com.github.robtimus.validation.dayofmonth.validators.LastDayOfMonthValida
 @Documented
 @Constraint(validatedBy = { LastDayOfMonthValidator.ForDate.class,
         LastDayOfMonthValidator.ForCalendar.class,
+        LastDayOfMonthValidator.ForLong.class,
         LastDayOfMonthValidator.ForInstant.class,
         LastDayOfMonthValidator.ForLocalDate.class,
         LastDayOfMonthValidator.ForLocalDateTime.class,
@@ -90,7 +92,8 @@ public @interface LastDayOfMonth {
      * <ul>
      * <li>For {@link java.util.Calendar}, {@link java.time.OffsetDateTime} and {@link java.time.ZonedDateTime}, if the zone id is not
      *     {@code provided}, the value is converted to the given zone id before extracting the day of the month.</li>
-     * <li>For {@link java.util.Date} and {@link java.time.Instant}, no zone id is available, so {@code provided} is not allowed.</li>
+     * <li>For {@link java.util.Date}, {@link java.time.Instant} and {@link java.lang.Long}, no zone id is available, so {@code provided} is not
+     *     allowed.</li>
      * <li>For {@link java.time.LocalDate}, {@link java.time.LocalDateTime}, {@link java.time.Month} and {@link java.time.MonthDay}, no zone id is
      *     applicable, so only the default value ({@code system}) is allowed.</li>
      * </ul>
@@ -31,6 +31,7 @@ import java.util.function.Function;
 import jakarta.validation.ClockProvider;
 import com.github.robtimus.validation.datetime.base.CalendarValidator;
 import com.github.robtimus.validation.datetime.base.DateValidator;
+import com.github.robtimus.validation.datetime.base.EpochValueValidator;
 import com.github.robtimus.validation.datetime.base.FieldValidator;
 import com.github.robtimus.validation.dayofmonth.DayOfMonthIs;
 
@@ -79,6 +80,21 @@ public final class DayOfMonthIsValidator {
         }
     }
 
+    /**
+     * A constraint validator for {@link DayOfMonthIs} for {@link Long}.
+     *
+     * @author Rob Spoor
+     */
+    public static class ForLong extends EpochValueValidator<DayOfMonthIs> {
+
+        /**
+         * Creates a new validator.
+         */
+        public ForLong() {
+            super(new ForInstant());
+        }
+    }
+
     /**
      * A constraint validator for {@link DayOfMonthIs} for {@link Instant}.
      *
@@ -32,6 +32,7 @@ import java.util.function.Function;
 import jakarta.validation.ClockProvider;
 import com.github.robtimus.validation.datetime.base.CalendarValidator;
 import com.github.robtimus.validation.datetime.base.DateValidator;
+import com.github.robtimus.validation.datetime.base.EpochValueValidator;
 import com.github.robtimus.validation.datetime.base.FieldValidator;
 import com.github.robtimus.validation.dayofmonth.DayOfMonthNotIn;
 
@@ -81,6 +82,21 @@ public final class DayOfMonthNotInValidator {
         }
     }
 
+    /**
+     * A constraint validator for {@link DayOfMonthNotIn} for {@link Long}.
+     *
+     * @author Rob Spoor
+     */
+    public static class ForLong extends EpochValueValidator<DayOfMonthNotIn> {
+
+        /**
+         * Creates a new validator.
+         */
+        public ForLong() {
+            super(new ForInstant());
+        }
+    }
+
     /**
      * A constraint validator for {@link DayOfMonthNotIn} for {@link Instant}.
      *
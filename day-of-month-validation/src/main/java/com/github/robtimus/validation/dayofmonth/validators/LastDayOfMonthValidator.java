@@ -30,6 +30,7 @@ import java.util.function.Function;
 import jakarta.validation.ClockProvider;
 import com.github.robtimus.validation.datetime.base.CalendarValidator;
 import com.github.robtimus.validation.datetime.base.DateValidator;
+import com.github.robtimus.validation.datetime.base.EpochValueValidator;
 import com.github.robtimus.validation.datetime.base.PartValidator;
 import com.github.robtimus.validation.dayofmonth.LastDayOfMonth;
 
@@ -81,6 +82,21 @@ public final class LastDayOfMonthValidator {
         }
     }
 
+    /**
+     * A constraint validator for {@link LastDayOfMonth} for {@link Long}.
+     *
+     * @author Rob Spoor
+     */
+    public static class ForLong extends EpochValueValidator<LastDayOfMonth> {
+
+        /**
+         * Creates a new validator.
+         */
+        public ForLong() {
+            super(new ForInstant());
+        }
+    }
+
     /**
      * A constraint validator for {@link LastDayOfMonth} for {@link Instant}.
      *
@@ -40,6 +40,7 @@ import org.junit.jupiter.api.TestInstance;
 import org.junit.jupiter.api.TestInstance.Lifecycle;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
+import com.github.robtimus.validation.datetime.base.EpochValue;
 
 @SuppressWarnings("nls")
 class DayOfMonthIsTest extends AbstractConstraintTest {
@@ -186,6 +187,87 @@ class DayOfMonthIsTest extends AbstractConstraintTest {
         }
     }
 
+    @Nested
+    @DisplayName("Long")
+    class ForLong extends AbstractNonProvidedZoneIdTest<Long> {
+
+        ForLong() {
+            super(TestClassWithProvidedZoneId.class, "epochMilli", System.currentTimeMillis());
+        }
+
+        @Nested
+        @DisplayName("with zone id")
+        class WithZoneId extends ConstraintTest<Long> {
+
+            WithZoneId() {
+                super(TestClassWithZoneId.class, "epochMilli",
+                        Arrays.asList(
+                                utcInstantAtOffset("2007-12-15T01:00:00Z", 1).toEpochMilli(),
+                                utcInstantAtOffset("2007-12-16T00:59:59.999Z", 1).toEpochMilli()
+                        ),
+                        Arrays.asList(
+                                utcInstantAtOffset("2007-12-15T00:59:59.999Z", 1).toEpochMilli(),
+                                utcInstantAtOffset("2007-12-16T01:00:00Z", 1).toEpochMilli()
+                        ));
+            }
+        }
+
+        @Nested
+        @DisplayName("with zone id and seconds")
+        class WithZoneIdAndSeconds extends ConstraintTest<Long> {
+
+            WithZoneIdAndSeconds() {
+                super(TestClassWithZoneId.class, "epochSecond",
+                        Arrays.asList(
+                                utcInstantAtOffset("2007-12-15T01:00:00Z", 1).getEpochSecond(),
+                                utcInstantAtOffset("2007-12-16T00:59:59Z", 1).getEpochSecond()
+                        ),
+                        Arrays.asList(
+                                utcInstantAtOffset("2007-12-15T00:59:59Z", 1).getEpochSecond(),
+                                utcInstantAtOffset("2007-12-16T01:00:00Z", 1).getEpochSecond()
+                        ));
+            }
+        }
+
+        @Nested
+        @DisplayName("with system zone id")
+        class WithSystemZoneId extends ConstraintTest<Long> {
+
+            WithSystemZoneId() {
+                super(TestClassWithSystemZoneId.class, "epochMilli",
+                        Arrays.asList(
+                                utcInstantAtOffsetAfterSystem("2007-12-15T01:00:00Z", 1).toEpochMilli(),
+                                utcInstantAtOffsetAfterSystem("2007-12-16T00:59:59.999Z", 1).toEpochMilli()
+                        ),
+                        Arrays.asList(
+                                utcInstantAtOffsetAfterSystem("2007-12-15T00:59:59.999Z", 1).toEpochMilli(),
+                                utcInstantAtOffsetAfterSystem("2007-12-16T01:00:00Z", 1).toEpochMilli()
+                        ));
+            }
+        }
+
+        @Nested
+        @DisplayName("with daylight saving time zone id")
+        class WithDaylightSavingTimeZoneId extends ConstraintTest<Long> {
+
+            WithDaylightSavingTimeZoneId() {
+                super(TestClassWithDaylightSavingTimeZoneId.class, "epochMilli",
+                        Arrays.asList(
+                                Instant.parse("2007-03-27T22:00:00Z").toEpochMilli(),
+                                Instant.parse("2007-03-28T21:59:59.999Z").toEpochMilli(),
+                                Instant.parse("2007-10-27T22:00:00Z").toEpochMilli(),
+                                Instant.parse("2007-10-28T22:59:59.999Z").toEpochMilli()
+                        ),
+                        Arrays.asList(
+                                Instant.parse("2007-03-27T21:59:59.999Z").toEpochMilli(),
+                                Instant.parse("2007-03-28T22:00:00Z").toEpochMilli(),
+                                Instant.parse("2007-10-27T21:59:59.999Z").toEpochMilli(),
+                                Instant.parse("2007-10-28T23:00:00Z").toEpochMilli()
+                        ));
+            }
+        }
+    }
+
     @Nested
     @DisplayName("LocalDate")
     class ForLocalDate extends AbstractSystemOnlyZoneIdTest<LocalDate> {
@@ -442,6 +524,9 @@ class DayOfMonthIsTest extends AbstractConstraintTest {
         @DayOfMonthIs(value = 15, zoneId = "provided")
         Calendar calendar;
 
+        @DayOfMonthIs(value = 15, zoneId = "provided")
+        Long epochMilli;
+
         @DayOfMonthIs(value = 15, zoneId = "provided")
         Instant instant;
 
@@ -468,6 +553,12 @@ class DayOfMonthIsTest extends AbstractConstraintTest {
         @DayOfMonthIs(value = 15, zoneId = "UTC")
         Calendar calendar;
 
+        @DayOfMonthIs(value = 15, zoneId = "UTC")
+        Long epochMilli;
+
+        @DayOfMonthIs(value = 15, zoneId = "UTC", payload = EpochValue.Seconds.class)
+        Long epochSecond;
+
         @DayOfMonthIs(value = 15, zoneId = "UTC")
         Instant instant;
 
@@ -494,6 +585,9 @@ class DayOfMonthIsTest extends AbstractConstraintTest {
         @DayOfMonthIs(15)
         Calendar calendar;
 
+        @DayOfMonthIs(15)
+        Long epochMilli;
+
         @DayOfMonthIs(15)
         Instant instant;
 
@@ -512,4 +606,9 @@ class DayOfMonthIsTest extends AbstractConstraintTest {
         @DayOfMonthIs(15)
         ZonedDateTime zonedDateTime;
     }
+
+    private static final class TestClassWithDaylightSavingTimeZoneId {
+        @DayOfMonthIs(value = 28, zoneId = "Europe/Paris")
+        Long epochMilli;
+    }
 }
@@ -40,6 +40,7 @@ import org.junit.jupiter.api.TestInstance;
 import org.junit.jupiter.api.TestInstance.Lifecycle;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
+import com.github.robtimus.validation.datetime.base.EpochValue;
 
 @SuppressWarnings("nls")
 class DayOfMonthNotInTest extends AbstractConstraintTest {
@@ -289,6 +290,124 @@ class DayOfMonthNotInTest extends AbstractConstraintTest {
         }
     }
 
+    @Nested
+    @DisplayName("Long")
+    class ForLong extends AbstractNonProvidedZoneIdTest<Long> {
+
+        ForLong() {
+            super(TestClassWithProvidedZoneId.class, "epochMilli", System.currentTimeMillis());
+        }
+
+        @Nested
+        @DisplayName("with zone id")
+        class WithZoneId extends ConstraintTest<Long> {
+
+            WithZoneId() {
+                super(TestClassWithZoneId.class, "epochMilli",
+                        Arrays.asList(
+                                utcInstantAtOffset("2007-12-15T00:59:59.999Z", 1).toEpochMilli(),
+                                utcInstantAtOffset("2007-12-16T01:00:00Z", 1).toEpochMilli(),
+                                utcInstantAtOffset("2007-12-20T00:59:59.999Z", 1).toEpochMilli(),
+                                utcInstantAtOffset("2007-12-21T01:00:00Z", 1).toEpochMilli()
+                        ),
+                        Arrays.asList(
+                                utcInstantAtOffset("2007-12-15T01:00:00Z", 1).toEpochMilli(),
+                                utcInstantAtOffset("2007-12-16T00:59:59.999Z", 1).toEpochMilli(),
+                                utcInstantAtOffset("2007-12-20T01:00:00Z", 1).toEpochMilli(),
+                                utcInstantAtOffset("2007-12-21T00:59:59.999Z", 1).toEpochMilli()
+                        ));
+            }
+        }
+
+        @Nested
+        @DisplayName("with zone id and seconds")
+        class WithZoneIdAndSeconds extends ConstraintTest<Long> {
+
+            WithZoneIdAndSeconds() {
+                super(TestClassWithZoneId.class, "epochSecond",
+                        Arrays.asList(
+                                utcInstantAtOffset("2007-12-15T00:59:59Z", 1).getEpochSecond(),
+                                utcInstantAtOffset("2007-12-16T01:00:00Z", 1).getEpochSecond(),
+                                utcInstantAtOffset("2007-12-20T00:59:59Z", 1).getEpochSecond(),
+                                utcInstantAtOffset("2007-12-21T01:00:00Z", 1).getEpochSecond()
+                        ),
+                        Arrays.asList(
+                                utcInstantAtOffset("2007-12-15T01:00:00Z", 1).getEpochSecond(),
+                                utcInstantAtOffset("2007-12-16T00:59:59Z", 1).getEpochSecond(),
+                                utcInstantAtOffset("2007-12-20T01:00:00Z", 1).getEpochSecond(),
+                                utcInstantAtOffset("2007-12-21T00:59:59Z", 1).getEpochSecond()
+                        ));
+            }
+        }
+
+        @Nested
+        @DisplayName("with system zone id")
+        class WithSystemZoneId extends ConstraintTest<Long> {
+
+            WithSystemZoneId() {
+                super(TestClassWithSystemZoneId.class, "epochMilli",
+                        Arrays.asList(
+                                utcInstantAtOffsetAfterSystem("2007-12-15T00:59:59.999Z", 1).toEpochMilli(),
+                                utcInstantAtOffsetAfterSystem("2007-12-16T01:00:00Z", 1).toEpochMilli(),
+                                utcInstantAtOffsetAfterSystem("2007-12-20T00:59:59.999Z", 1).toEpochMilli(),
+                                utcInstantAtOffsetAfterSystem("2007-12-21T01:00:00Z", 1).toEpochMilli()
+                        ),
+                        Arrays.asList(
+                                utcInstantAtOffsetAfterSystem("2007-12-15T01:00:00Z", 1).toEpochMilli(),
+                                utcInstantAtOffsetAfterSystem("2007-12-16T00:59:59.999Z", 1).toEpochMilli(),
+                                utcInstantAtOffsetAfterSystem("2007-12-20T01:00:00Z", 1).toEpochMilli(),
+                                utcInstantAtOffsetAfterSystem("2007-12-21T00:59:59.999Z", 1).toEpochMilli()
+                        ));
+            }
+        }
+
+        @Nested
+        @DisplayName("with daylight saving time zone id")
+        class WithDaylightSavingTimeZoneId extends ConstraintTest<Long> {
+
+            WithDaylightSavingTimeZoneId() {
+                super(TestClassWithDaylightSavingTimeZoneId.class, "epochMilli",
+                        Arrays.asList(
+                                Instant.parse("2007-03-24T22:59:59.999Z").toEpochMilli(),
+                                Instant.parse("2007-03-25T22:00:00Z").toEpochMilli(),
+                                Instant.parse("2007-10-27T21:59:59.999Z").toEpochMilli(),
+                                Instant.parse("2007-10-28T23:00:00Z").toEpochMilli()
+                        ),
+                        Arrays.asList(
+                                Instant.parse("2007-03-24T23:00:00Z").toEpochMilli(),
+                                Instant.parse("2007-03-25T21:59:59.999Z").toEpochMilli(),
+                                Instant.parse("2007-10-27T22:00:00Z").toEpochMilli(),
+                                Instant.parse("2007-10-28T22:59:59.999Z").toEpochMilli()
+                        ));
+            }
+        }
+
+        @Nested
+        @DisplayName("with no values")
+        class WithNoValues extends ConstraintTest<Long> {
+
+            WithNoValues() {
+                super(TestClassWithNoValues.class, "epochMilli",
+                        Arrays.asList(
+                                utcInstantAtOffsetAfterSystem("2007-12-15T00:59:59.999Z", 1).toEpochMilli(),
+                                utcInstantAtOffsetAfterSystem("2007-12-15T01:00:00Z", 1).toEpochMilli(),
+                                utcInstantAtOffsetAfterSystem("2007-12-16T00:59:59.999Z", 1).toEpochMilli(),
+                                utcInstantAtOffsetAfterSystem("2007-12-16T01:00:00Z", 1).toEpochMilli(),
+                                utcInstantAtOffsetAfterSystem("2007-12-20T00:59:59.999Z", 1).toEpochMilli(),
+                                utcInstantAtOffsetAfterSystem("2007-12-20T01:00:00Z", 1).toEpochMilli(),
+                                utcInstantAtOffsetAfterSystem("2007-12-21T00:59:59.999Z", 1).toEpochMilli(),
+                                utcInstantAtOffsetAfterSystem("2007-12-21T01:00:00Z", 1).toEpochMilli()
+                        ),
+                        Collections.emptyList());
+            }
+
+            @Override
+            void testNotAllowedValue(Long allowedValue) {
+                throw new UnsupportedOperationException();
+            }
+        }
+    }
+
     @Nested
     @DisplayName("LocalDate")
     class ForLocalDate extends AbstractSystemOnlyZoneIdTest<LocalDate> {
@@ -700,6 +819,9 @@ class DayOfMonthNotInTest extends AbstractConstraintTest {
         @DayOfMonthNotIn(value = { 15, 20 }, zoneId = "provided")
         Calendar calendar;
 
+        @DayOfMonthNotIn(value = { 15, 20 }, zoneId = "provided")
+        Long epochMilli;
+
         @DayOfMonthNotIn(value = { 15, 20 }, zoneId = "provided")
         Instant instant;
 
@@ -726,6 +848,12 @@ class DayOfMonthNotInTest extends AbstractConstraintTest {
         @DayOfMonthNotIn(value = { 15, 20 }, zoneId = "UTC")
         Calendar calendar;
 
+        @DayOfMonthNotIn(value = { 15, 20 }, zoneId = "UTC")
+        Long epochMilli;
+
+        @DayOfMonthNotIn(value = { 15, 20 }, zoneId = "UTC", payload = EpochValue.Seconds.class)
+        Long epochSecond;
+
         @DayOfMonthNotIn(value = { 15, 20 }, zoneId = "UTC")
         Instant instant;
 
@@ -752,6 +880,9 @@ class DayOfMonthNotInTest extends AbstractConstraintTest {
         @DayOfMonthNotIn({ 15, 20 })
         Calendar calendar;
 
+        @DayOfMonthNotIn({ 15, 20 })
+        Long epochMilli;
+
         @DayOfMonthNotIn({ 15, 20 })
         Instant instant;
 
@@ -778,6 +909,9 @@ class DayOfMonthNotInTest extends AbstractConstraintTest {
         @DayOfMonthNotIn({})
         Calendar calendar;
 
+        @DayOfMonthNotIn({})
+        Long epochMilli;
+
         @DayOfMonthNotIn({})
         Instant instant;
 
@@ -796,4 +930,9 @@ class DayOfMonthNotInTest extends AbstractConstraintTest {
         @DayOfMonthNotIn({})
         ZonedDateTime zonedDateTime;
     }
+
+    private static final class TestClassWithDaylightSavingTimeZoneId {
+        @DayOfMonthNotIn(value = { 25, 28 }, zoneId = "Europe/Paris")
+        Long epochMilli;
+    }
 }
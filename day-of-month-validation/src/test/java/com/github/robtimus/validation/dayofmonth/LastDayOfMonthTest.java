@@ -39,6 +39,7 @@ import org.junit.jupiter.api.TestInstance;
 import org.junit.jupiter.api.TestInstance.Lifecycle;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
+import com.github.robtimus.validation.datetime.base.EpochValue;
 
 @SuppressWarnings("nls")
 class LastDayOfMonthTest extends AbstractConstraintTest {
@@ -269,6 +270,123 @@ class LastDayOfMonthTest extends AbstractConstraintTest {
         }
     }
 
+    @Nested
+    @DisplayName("Long")
+    class ForLong extends AbstractNonProvidedZoneIdTest<Long> {
+
+        ForLong() {
+            super(TestClassWithProvidedZoneId.class, "epochMilli", System.currentTimeMillis());
+        }
+
+        @Nested
+        @DisplayName("with zone id")
+        class WithZoneId extends ConstraintTest<Long> {
+
+            WithZoneId() {
+                super(TestClassWithZoneId.class, "epochMilli",
+                        Arrays.asList(
+                                utcInstantAtOffset("2007-02-28T01:00:00Z", 1).toEpochMilli(),
+                                utcInstantAtOffset("2007-03-01T00:59:59.999Z", 1).toEpochMilli(),
+                                utcInstantAtOffset("2007-04-30T01:00:00Z", 1).toEpochMilli(),
+                                utcInstantAtOffset("2007-05-01T00:59:59.999Z", 1).toEpochMilli(),
+                                utcInstantAtOffset("2007-12-31T01:00:00Z", 1).toEpochMilli(),
+                                utcInstantAtOffset("2008-01-01T00:59:59.999Z", 1).toEpochMilli(),
+                                utcInstantAtOffset("2008-02-29T01:00:00Z", 1).toEpochMilli(),
+                                utcInstantAtOffset("2008-03-01T00:59:59.999Z", 1).toEpochMilli()
+                        ),
+                        Arrays.asList(
+                                utcInstantAtOffset("2007-02-28T00:59:59.999Z", 1).toEpochMilli(),
+                                utcInstantAtOffset("2007-03-01T01:00:00Z", 1).toEpochMilli(),
+                                utcInstantAtOffset("2007-04-30T00:59:59.999Z", 1).toEpochMilli(),
+                                utcInstantAtOffset("2007-05-01T01:00:00Z", 1).toEpochMilli(),
+                                utcInstantAtOffset("2007-12-31T00:59:59.999Z", 1).toEpochMilli(),
+                                utcInstantAtOffset("2008-01-01T01:00:00Z", 1).toEpochMilli(),
+                                utcInstantAtOffset("2008-02-29T00:59:59.999Z", 1).toEpochMilli(),
+                                utcInstantAtOffset("2008-03-01T01:00:00Z", 1).toEpochMilli()
+                        ));
+            }
+        }
+
+        @Nested
+        @DisplayName("with zone id and seconds")
+        class WithZoneIdAndSeconds extends ConstraintTest<Long> {
+
+            WithZoneIdAndSeconds() {
+                super(TestClassWithZoneId.class, "epochSecond",
+                        Arrays.asList(
+                                utcInstantAtOffset("2007-02-28T01:00:00Z", 1).getEpochSecond(),
+                                utcInstantAtOffset("2007-03-01T00:59:59Z", 1).getEpochSecond(),
+                                utcInstantAtOffset("2007-04-30T01:00:00Z", 1).getEpochSecond(),
+                                utcInstantAtOffset("2007-05-01T00:59:59Z", 1).getEpochSecond(),
+                                utcInstantAtOffset("2007-12-31T01:00:00Z", 1).getEpochSecond(),
+                                utcInstantAtOffset("2008-01-01T00:59:59Z", 1).getEpochSecond(),
+                                utcInstantAtOffset("2008-02-29T01:00:00Z", 1).getEpochSecond(),
+                                utcInstantAtOffset("2008-03-01T00:59:59Z", 1).getEpochSecond()
+                        ),
+                        Arrays.asList(
+                                utcInstantAtOffset("2007-02-28T00:59:59Z", 1).getEpochSecond(),
+                                utcInstantAtOffset("2007-03-01T01:00:00Z", 1).getEpochSecond(),
+                                utcInstantAtOffset("2007-04-30T00:59:59Z", 1).getEpochSecond(),
+                                utcInstantAtOffset("2007-05-01T01:00:00Z", 1).getEpochSecond(),
+                                utcInstantAtOffset("2007-12-31T00:59:59Z", 1).getEpochSecond(),
+                                utcInstantAtOffset("2008-01-01T01:00:00Z", 1).getEpochSecond(),
+                                utcInstantAtOffset("2008-02-29T00:59:59Z", 1).getEpochSecond(),
+                                utcInstantAtOffset("2008-03-01T01:00:00Z", 1).getEpochSecond()
+                        ));
+            }
+        }
+
+        @Nested
+        @DisplayName("with system zone id")
+        class WithSystemZoneId extends ConstraintTest<Long> {
+
+            WithSystemZoneId() {
+                super(TestClassWithSystemZoneId.class, "epochMilli",
+                        Arrays.asList(
+                                utcInstantAtOffsetAfterSystem("2007-02-28T01:00:00Z", 1).toEpochMilli(),
+                                utcInstantAtOffsetAfterSystem("2007-03-01T00:59:59.999Z", 1).toEpochMilli(),
+                                utcInstantAtOffsetAfterSystem("2007-04-30T01:00:00Z", 1).toEpochMilli(),
+                                utcInstantAtOffsetAfterSystem("2007-05-01T00:59:59.999Z", 1).toEpochMilli(),
+                                utcInstantAtOffsetAfterSystem("2007-12-31T01:00:00Z", 1).toEpochMilli(),
+                                utcInstantAtOffsetAfterSystem("2008-01-01T00:59:59.999Z", 1).toEpochMilli(),
+                                utcInstantAtOffsetAfterSystem("2008-02-29T01:00:00Z", 1).toEpochMilli(),
+                                utcInstantAtOffsetAfterSystem("2008-03-01T00:59:59.999Z", 1).toEpochMilli()
+                        ),
+                        Arrays.asList(
+                                utcInstantAtOffsetAfterSystem("2007-02-28T00:59:59.999Z", 1).toEpochMilli(),
+                                utcInstantAtOffsetAfterSystem("2007-03-01T01:00:00Z", 1).toEpochMilli(),
+                                utcInstantAtOffsetAfterSystem("2007-04-30T00:59:59.999Z", 1).toEpochMilli(),
+                                utcInstantAtOffsetAfterSystem("2007-05-01T01:00:00Z", 1).toEpochMilli(),
+                                utcInstantAtOffsetAfterSystem("2007-12-31T00:59:59.999Z", 1).toEpochMilli(),
+                                utcInstantAtOffsetAfterSystem("2008-01-01T01:00:00Z", 1).toEpochMilli(),
+                                utcInstantAtOffsetAfterSystem("2008-02-29T00:59:59.999Z", 1).toEpochMilli(),
+                                utcInstantAtOffsetAfterSystem("2008-03-01T01:00:00Z", 1).toEpochMilli()
+                        ));
+            }
+        }
+
+        @Nested
+        @DisplayName("with daylight saving time zone id")
+        class WithDaylightSavingTimeZoneId extends ConstraintTest<Long> {
+
+            WithDaylightSavingTimeZoneId() {
+                super(TestClassWithDaylightSavingTimeZoneId.class, "epochMilli",
+                        Arrays.asList(
+                                Instant.parse("2007-03-30T22:00:00Z").toEpochMilli(),
+                                Instant.parse("2007-03-31T21:59:59.999Z").toEpochMilli(),
+                                Instant.parse("2007-10-30T23:00:00Z").toEpochMilli(),
+                                Instant.parse("2007-10-31T22:59:59.999Z").toEpochMilli()
+                        ),
+                        Arrays.asList(
+                                Instant.parse("2007-03-30T21:59:59.999Z").toEpochMilli(),
+                                Instant.parse("2007-03-31T22:00:00Z").toEpochMilli(),
+                                Instant.parse("2007-10-30T22:59:59.999Z").toEpochMilli(),
+                                Instant.parse("2007-10-31T23:00:00Z").toEpochMilli()
+                        ));
+            }
+        }
+    }
+
     @Nested
     @DisplayName("LocalDate")
     class ForLocalDate extends AbstractSystemOnlyZoneIdTest<LocalDate> {
@@ -589,6 +707,9 @@ class LastDayOfMonthTest extends AbstractConstraintTest {
         @LastDayOfMonth(zoneId = "provided")
         Calendar calendar;
 
+        @LastDayOfMonth(zoneId = "provided")
+        Long epochMilli;
+
         @LastDayOfMonth(zoneId = "provided")
         Instant instant;
 
@@ -615,6 +736,12 @@ class LastDayOfMonthTest extends AbstractConstraintTest {
         @LastDayOfMonth(zoneId = "UTC")
         Calendar calendar;
 
+        @LastDayOfMonth(zoneId = "UTC")
+        Long epochMilli;
+
+        @LastDayOfMonth(zoneId = "UTC", payload = EpochValue.Seconds.class)
+        Long epochSecond;
+
         @LastDayOfMonth(zoneId = "UTC")
         Instant instant;
 
@@ -641,6 +768,9 @@ class LastDayOfMonthTest extends AbstractConstraintTest {
         @LastDayOfMonth
         Calendar calendar;
 
+        @LastDayOfMonth
+        Long epochMilli;
+
         @LastDayOfMonth
         Instant instant;
 
@@ -656,4 +786,9 @@ class LastDayOfMonthTest extends AbstractConstraintTest {
         @LastDayOfMonth
         ZonedDateTime zonedDateTime;
     }
+
+    private static final class TestClassWithDaylightSavingTimeZoneId {
+        @LastDayOfMonth(zoneId = "Europe/Paris")
+        Long epochMilli;
+    }
 }
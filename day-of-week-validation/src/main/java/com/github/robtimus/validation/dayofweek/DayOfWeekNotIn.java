@@ -43,6 +43,8 @@ import com.github.robtimus.validation.dayofweek.validators.DayOfWeekNotInValidat
  * <ul>
  * <li>{@link java.util.Date}</li>
  * <li>{@link java.util.Calendar}</li>
+ * <li>{@link java.lang.CharSequence}, if it contains an ISO 8601 date, local date-time or offset date-time</li>
+ * <li>{@link java.lang.Long}, as epoch value in the unit defined by {@link com.github.robtimus.validation.datetime.base.EpochValue}</li>
  * <li>{@link java.time.DayOfWeek}</li>
  * <li>{@link java.time.Instant}</li>
  * <li>{@link java.time.LocalDate}</li>
@@ -58,6 +60,8 @@ import com.github.robtimus.validation.dayofweek.validators.DayOfWeekNotInValidat
 @Documented
 @Constraint(validatedBy = { DayOfWeekNotInValidator.ForDate.class,
         DayOfWeekNotInValidator.ForCalendar.class,
+        DayOfWeekNotInValidator.ForCharSequence.class,
+        DayOfWeekNotInValidator.ForLong.class,
         DayOfWeekNotInValidator.ForDayOfWeek.class,
         DayOfWeekNotInValidator.ForInstant.class,
         DayOfWeekNotInValidator.ForLocalDate.class,
@@ -96,7 +100,8 @@ public @interface DayOfWeekNotIn {
      * <ul>
      * <li>For {@link java.util.Calendar}, {@link java.time.OffsetDateTime} and {@link java.time.ZonedDateTime}, if the zone id is not
      *     {@code provided}, the value is converted to the given zone id before extracting the day of the week.</li>
-     * <li>For {@link java.util.Date} and {@link java.time.Instant}, no zone id is available, so {@code provided} is not allowed.</li>
+     * <li>For {@link java.util.Date}, {@link java.time.Instant} and {@link java.lang.Long}, no zone id is available, so {@code provided} is not
+     *     allowed.</li>
      * <li>For {@link java.time.DayOfWeek}, {@link java.time.LocalDate} and {@link java.time.LocalDateTime}, no zone id is applicable, so only the
      *     default value ({@code system}) is allowed.</li>
      * </ul>
@@ -32,7 +32,9 @@ import java.util.function.BiPredicate;
 import java.util.function.Function;
 import jakarta.validation.ClockProvider;
 import com.github.robtimus.validation.datetime.base.CalendarValidator;
+import com.github.robtimus.validation.datetime.base.CharSequenceValidator;
 import com.github.robtimus.validation.datetime.base.DateValidator;
+import com.github.robtimus.validation.datetime.base.EpochValueValidator;
 import com.github.robtimus.validation.datetime.base.PartValidator;
 import com.github.robtimus.validation.dayofweek.DayOfWeekIn;
 
@@ -85,6 +87,36 @@ public final class DayOfWeekInValidator {
         }
     }
 
+    /**
+     * A constraint validator for {@link DayOfWeekIn} for {@link CharSequence}.
+     *
+     * @author Rob Spoor
+     */
+    public static class ForCharSequence extends CharSequenceValidator<DayOfWeekIn> {
+
+        /**
+         * Creates a new validator.
+         */
+        public ForCharSequence() {
+            super(new ForOffsetDateTime(), new ForLocalDateTime(), new ForLocalDate(), null);
+        }
+    }
+
+    /**
+     * A constraint validator for {@link DayOfWeekIn} for {@link Long}.
+     *
+     * @author Rob Spoor
+     */
+    public static class ForLong extends EpochValueValidator<DayOfWeekIn> {
+
+        /**
+         * Creates a new validator.
+         */
+        public ForLong() {
+            super(new ForInstant());
+        }
+    }
+
     /**
      * A constraint validator for {@link DayOfWeekIn} for {@link DayOfWeek}.
      *
@@ -29,7 +29,9 @@ import java.util.function.BiPredicate;
 import java.util.function.Function;
 import jakarta.validation.ClockProvider;
 import com.github.robtimus.validation.datetime.base.CalendarValidator;
+import com.github.robtimus.validation.datetime.base.CharSequenceValidator;
 import com.github.robtimus.validation.datetime.base.DateValidator;
+import com.github.robtimus.validation.datetime.base.EpochValueValidator;
 import com.github.robtimus.validation.datetime.base.PartValidator;
 import com.github.robtimus.validation.dayofweek.DayOfWeekIs;
 
@@ -78,6 +80,36 @@ public final class DayOfWeekIsValidator {
         }
     }
 
+    /**
+     * A constraint validator for {@link DayOfWeekIs} for {@link CharSequence}.
+     *
+     * @author Rob Spoor
+     */
+    public static class ForCharSequence extends CharSequenceValidator<DayOfWeekIs> {
+
+        /**
+         * Creates a new validator.
+         */
+        public ForCharSequence() {
+            super(new ForOffsetDateTime(), new ForLocalDateTime(), new ForLocalDate(), null);
+        }
+    }
+
+    /**
+     * A constraint validator for {@link DayOfWeekIs} for {@link Long}.
+     *
+     * @author Rob Spoor
+     */
+    public static class ForLong extends EpochValueValidator<DayOfWeekIs> {
+
+        /**
+         * Creates a new validator.
+         */
+        public ForLong() {
+            super(new ForInstant());
+        }
+    }
+
     /**
      * A constraint validator for {@link DayOfWeekIs} for {@link DayOfWeek}.
      *
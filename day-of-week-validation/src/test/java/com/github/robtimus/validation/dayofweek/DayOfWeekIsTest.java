@@ -133,6 +133,96 @@ class DayOfWeekIsTest extends AbstractConstraintTest {
         }
     }
 
+    @Nested
+    @DisplayName("CharSequence")
+    class ForCharSequence {
+
+        @Nested
+        @DisplayName("with provided zone id")
+        class WithProvidedZoneId extends ConstraintTest<CharSequence> {
+
+            WithProvidedZoneId() {
+                super(TestClassWithProvidedZoneId.class, "charSequence",
+                        Arrays.asList(
+                                "2007-05-17T00:00:00+02:00",
+                                "2007-05-17T23:59:59.999+02:00"
+                        ),
+                        "2007-05-16T23:59:59.999+02:00",
+                        "2007-05-18T00:00:00+02:00");
+            }
+        }
+
+        @Nested
+        @DisplayName("with zone id")
+        class WithZoneId extends ConstraintTest<CharSequence> {
+
+            WithZoneId() {
+                super(TestClassWithZoneId.class, "charSequence",
+                        Arrays.asList(
+                                "2007-05-17T02:00:00+02:00",
+                                "2007-05-18T01:59:59.999+02:00"
+                        ),
+                        "2007-05-17T01:59:59.999+02:00",
+                        "2007-05-18T02:00:00+02:00");
+            }
+        }
+
+        @Nested
+        @DisplayName("with system zone id")
+        class WithSystemZoneId extends ConstraintTest<CharSequence> {
+
+            WithSystemZoneId() {
+                super(TestClassWithSystemZoneId.class, "charSequence",
+                        Arrays.asList(
+                                "2007-05-17",
+                                "2007-05-17T00:00",
+                                "2007-05-17T23:59:59.999999999"
+                        ),
+                        "2007-05-16",
+                        "2007-05-18T00:00");
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("Long")
+    class ForLong extends AbstractNonProvidedZoneIdTest<Long> {
+
+        ForLong() {
+            super(TestClassWithProvidedZoneId.class, "epochMilli", System.currentTimeMillis());
+        }
+
+        @Nested
+        @DisplayName("with zone id")
+        class WithZoneId extends ConstraintTest<Long> {
+
+            WithZoneId() {
+                super(TestClassWithZoneId.class, "epochMilli",
+                        Arrays.asList(
+                                utcInstantAtOffset("2007-05-17T01:00:00Z", 1).toEpochMilli(),
+                                utcInstantAtOffset("2007-05-18T00:59:59.999Z", 1).toEpochMilli()
+                        ),
+                        utcInstantAtOffset("2007-05-17T00:59:59.999Z", 1).toEpochMilli(),
+                        utcInstantAtOffset("2007-05-18T01:00:00Z", 1).toEpochMilli());
+            }
+        }
+
+        @Nested
+        @DisplayName("with system zone id")
+        class WithSystemZoneId extends ConstraintTest<Long> {
+
+            WithSystemZoneId() {
+                super(TestClassWithSystemZoneId.class, "epochMilli",
+                        Arrays.asList(
+                                utcInstantAtOffsetAfterSystem("2007-05-17T01:00:00Z", 1).toEpochMilli(),
+                                utcInstantAtOffsetAfterSystem("2007-05-18T00:59:59.999Z", 1).toEpochMilli()
+                        ),
+                        utcInstantAtOffsetAfterSystem("2007-05-17T00:59:59.999Z", 1).toEpochMilli(),
+                        utcInstantAtOffsetAfterSystem("2007-05-18T01:00:00Z", 1).toEpochMilli());
+            }
+        }
+    }
+
     @Nested
     @DisplayName("DayOfWeek")
     class ForDayOfWeek extends AbstractSystemOnlyZoneIdTest<DayOfWeek> {
@@ -426,6 +516,12 @@ class DayOfWeekIsTest extends AbstractConstraintTest {
         @DayOfWeekIs(value = DayOfWeek.THURSDAY, zoneId = "provided")
         Calendar calendar;
 
+        @DayOfWeekIs(value = DayOfWeek.THURSDAY, zoneId = "provided")
+        CharSequence charSequence;
+
+        @DayOfWeekIs(value = DayOfWeek.THURSDAY, zoneId = "provided")
+        Long epochMilli;
+
         @DayOfWeekIs(value = DayOfWeek.THURSDAY, zoneId = "provided")
         DayOfWeek dayOfWeek;
 
@@ -452,6 +548,12 @@ class DayOfWeekIsTest extends AbstractConstraintTest {
         @DayOfWeekIs(value = DayOfWeek.THURSDAY, zoneId = "UTC")
         Calendar calendar;
 
+        @DayOfWeekIs(value = DayOfWeek.THURSDAY, zoneId = "UTC")
+        CharSequence charSequence;
+
+        @DayOfWeekIs(value = DayOfWeek.THURSDAY, zoneId = "UTC")
+        Long epochMilli;
+
         @DayOfWeekIs(value = DayOfWeek.THURSDAY, zoneId = "UTC")
         DayOfWeek dayOfWeek;
 
@@ -478,6 +580,12 @@ class DayOfWeekIsTest extends AbstractConstraintTest {
         @DayOfWeekIs(DayOfWeek.THURSDAY)
         Calendar calendar;
 
+        @DayOfWeekIs(DayOfWeek.THURSDAY)
+        CharSequence charSequence;
+
+        @DayOfWeekIs(DayOfWeek.THURSDAY)
+        Long epochMilli;
+
         @DayOfWeekIs(DayOfWeek.THURSDAY)
         DayOfWeek dayOfWeek;
 
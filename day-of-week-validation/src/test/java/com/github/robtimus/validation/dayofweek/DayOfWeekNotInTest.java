@@ -40,6 +40,7 @@ import org.junit.jupiter.api.TestInstance;
 import org.junit.jupiter.api.TestInstance.Lifecycle;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
+import com.github.robtimus.validation.datetime.base.EpochValue;
 
 @SuppressWarnings("nls")
 class DayOfWeekNotInTest extends AbstractConstraintTest {
@@ -264,6 +265,257 @@ class DayOfWeekNotInTest extends AbstractConstraintTest {
         }
     }
 
+    @Nested
+    @DisplayName("CharSequence")
+    class ForCharSequence {
+
+        @Nested
+        @DisplayName("with provided zone id")
+        class WithProvidedZoneId extends ConstraintTest<CharSequence> {
+
+            WithProvidedZoneId() {
+                super(TestClassWithProvidedZoneId.class, "charSequence",
+                        Arrays.asList(
+                                "2007-05-16T23:59:59.999999999+01:00",
+                                "2007-05-18T00:00:00+01:00",
+                                "2007-10-12T23:59:59.999999999+01:00",
+                                "2007-10-14T00:00:00+01:00"
+                        ),
+                        Arrays.asList(
+                                "2007-05-17T00:00:00+01:00",
+                                "2007-05-17T23:59:59.999999999+01:00",
+                                "2007-10-13T00:00:00+01:00",
+                                "2007-10-13T23:59:59.999999999+01:00"
+                        ));
+            }
+        }
+
+        @Nested
+        @DisplayName("with zone id")
+        class WithZoneId extends ConstraintTest<CharSequence> {
+
+            WithZoneId() {
+                super(TestClassWithZoneId.class, "charSequence",
+                        Arrays.asList(
+                                "2007-05-17T00:59:59.999999999+01:00",
+                                "2007-05-18T01:00:00+01:00",
+                                "2007-10-13T00:59:59.999999999+01:00",
+                                "2007-10-14T01:00:00+01:00"
+                        ),
+                        Arrays.asList(
+                                "2007-05-17T01:00:00+01:00",
+                                "2007-05-18T00:59:59.999999999+01:00",
+                                "2007-10-13T01:00:00+01:00",
+                                "2007-10-14T00:59:59.999999999+01:00"
+                        ));
+            }
+        }
+
+        @Nested
+        @DisplayName("with system zone id")
+        class WithSystemZoneId extends ConstraintTest<CharSequence> {
+
+            WithSystemZoneId() {
+                super(TestClassWithSystemZoneId.class, "charSequence",
+                        Arrays.asList(
+                                "2007-05-16T23:59:59.999999999",
+                                "2007-05-18T00:00:00",
+                                "2007-10-12T23:59:59.999999999",
+                                "2007-10-14T00:00:00"
+                        ),
+                        Arrays.asList(
+                                "2007-05-17T00:00:00",
+                                "2007-05-17T23:59:59.999999999",
+                                "2007-10-13T00:00:00",
+                                "2007-10-13T23:59:59.999999999"
+                        ));
+            }
+        }
+
+        @Nested
+        @DisplayName("with system zone id and local date")
+        class WithSystemZoneIdAndLocalDate extends ConstraintTest<CharSequence> {
+
+            WithSystemZoneIdAndLocalDate() {
+                super(TestClassWithSystemZoneId.class, "charSequence",
+                        Arrays.asList(
+                                "2007-05-16",
+                                "2007-05-18",
+                                "2007-10-12",
+                                "2007-10-14"
+                        ),
+                        Arrays.asList(
+                                "2007-05-17",
+                                "2007-10-13"
+                        ));
+            }
+        }
+
+        @Nested
+        @DisplayName("with daylight saving time zone id")
+        class WithDaylightSavingTimeZoneId extends ConstraintTest<CharSequence> {
+
+            WithDaylightSavingTimeZoneId() {
+                super(TestClassWithDaylightSavingTimeZoneId.class, "charSequence",
+                        Arrays.asList(
+                                "2007-03-24T22:59:59.999999999Z",
+                                "2007-03-25T22:00:00Z",
+                                "2007-10-27T21:59:59.999999999Z",
+                                "2007-10-28T23:00:00Z"
+                        ),
+                        Arrays.asList(
+                                "2007-03-24T23:00:00Z",
+                                "2007-03-25T21:59:59.999999999Z",
+                                "2007-10-27T22:00:00Z",
+                                "2007-10-28T22:59:59.999999999Z"
+                        ));
+            }
+        }
+
+        @Nested
+        @DisplayName("with no values")
+        class WithNoValues extends ConstraintTest<CharSequence> {
+
+            WithNoValues() {
+                super(TestClassWithNoValues.class, "charSequence",
+                        Arrays.asList(
+                                "2007-05-16T23:59:59.999999999",
+                                "2007-05-17T00:00:00",
+                                "2007-05-17T23:59:59.999999999",
+                                "2007-05-18T00:00:00",
+                                "2007-10-12T23:59:59.999999999",
+                                "2007-10-13T00:00:00",
+                                "2007-10-13T23:59:59.999999999",
+                                "2007-10-14T00:00:00"
+                        ),
+                        Collections.emptyList());
+            }
+
+            @Override
+            void testNotAllowedValue(CharSequence allowedValue) {
+                throw new UnsupportedOperationException();
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("Long")
+    class ForLong extends AbstractNonProvidedZoneIdTest<Long> {
+
+        ForLong() {
+            super(TestClassWithProvidedZoneId.class, "epochMilli", System.currentTimeMillis());
+        }
+
+        @Nested
+        @DisplayName("with zone id")
+        class WithZoneId extends ConstraintTest<Long> {
+
+            WithZoneId() {
+                super(TestClassWithZoneId.class, "epochMilli",
+                        Arrays.asList(
+                                utcInstantAtOffset("2007-05-17T00:59:59.999Z", 1).toEpochMilli(),
+                                utcInstantAtOffset("2007-05-18T01:00:00Z", 1).toEpochMilli(),
+                                utcInstantAtOffset("2007-10-13T00:59:59.999Z", 1).toEpochMilli(),
+                                utcInstantAtOffset("2007-10-14T01:00:00Z", 1).toEpochMilli()
+                        ),
+                        Arrays.asList(
+                                utcInstantAtOffset("2007-05-17T01:00:00Z", 1).toEpochMilli(),
+                                utcInstantAtOffset("2007-05-18T00:59:59.999Z", 1).toEpochMilli(),
+                                utcInstantAtOffset("2007-10-13T01:00:00Z", 1).toEpochMilli(),
+                                utcInstantAtOffset("2007-10-14T00:59:59.999Z", 1).toEpochMilli()
+                        ));
+            }
+        }
+
+        @Nested
+        @DisplayName("with zone id and seconds")
+        class WithZoneIdAndSeconds extends ConstraintTest<Long> {
+
+            WithZoneIdAndSeconds() {
+                super(TestClassWithZoneId.class, "epochSecond",
+                        Arrays.asList(
+                                utcInstantAtOffset("2007-05-17T00:59:59Z", 1).getEpochSecond(),
+                                utcInstantAtOffset("2007-05-18T01:00:00Z", 1).getEpochSecond(),
+                                utcInstantAtOffset("2007-10-13T00:59:59Z", 1).getEpochSecond(),
+                                utcInstantAtOffset("2007-10-14T01:00:00Z", 1).getEpochSecond()
+                        ),
+                        Arrays.asList(
+                                utcInstantAtOffset("2007-05-17T01:00:00Z", 1).getEpochSecond(),
+                                utcInstantAtOffset("2007-05-18T00:59:59Z", 1).getEpochSecond(),
+                                utcInstantAtOffset("2007-10-13T01:00:00Z", 1).getEpochSecond(),
+                                utcInstantAtOffset("2007-10-14T00:59:59Z", 1).getEpochSecond()
+                        ));
+            }
+        }
+
+        @Nested
+        @DisplayName("with system zone id")
+        class WithSystemZoneId extends ConstraintTest<Long> {
+
+            WithSystemZoneId() {
+                super(TestClassWithSystemZoneId.class, "epochMilli",
+                        Arrays.asList(
+                                utcInstantAtOffsetAfterSystem("2007-05-17T00:59:59.999Z", 1).toEpochMilli(),
+                                utcInstantAtOffsetAfterSystem("2007-05-18T01:00:00Z", 1).toEpochMilli(),
+                                utcInstantAtOffsetAfterSystem("2007-10-13T00:59:59.999Z", 1).toEpochMilli(),
+                                utcInstantAtOffsetAfterSystem("2007-10-14T01:00:00Z", 1).toEpochMilli()
+                        ),
+                        Arrays.asList(
+                                utcInstantAtOffsetAfterSystem("2007-05-17T01:00:00Z", 1).toEpochMilli(),
+                                utcInstantAtOffsetAfterSystem("2007-05-18T00:59:59.999Z", 1).toEpochMilli(),
+                                utcInstantAtOffsetAfterSystem("2007-10-13T01:00:00Z", 1).toEpochMilli(),
+                                utcInstantAtOffsetAfterSystem("2007-10-14T00:59:59.999Z", 1).toEpochMilli()
+                        ));
+            }
+        }
+
+        @Nested
+        @DisplayName("with daylight saving time zone id")
+        class WithDaylightSavingTimeZoneId extends ConstraintTest<Long> {
+
+            WithDaylightSavingTimeZoneId() {
+                super(TestClassWithDaylightSavingTimeZoneId.class, "epochMilli",
+                        Arrays.asList(
+                                Instant.parse("2007-03-24T22:59:59.999Z").toEpochMilli(),
+                                Instant.parse("2007-03-25T22:00:00Z").toEpochMilli(),
+                                Instant.parse("2007-10-27T21:59:59.999Z").toEpochMilli(),
+                                Instant.parse("2007-10-28T23:00:00Z").toEpochMilli()
+                        ),
+                        Arrays.asList(
+                                Instant.parse("2007-03-24T23:00:00Z").toEpochMilli(),
+                                Instant.parse("2007-03-25T21:59:59.999Z").toEpochMilli(),
+                                Instant.parse("2007-10-27T22:00:00Z").toEpochMilli(),
+                                Instant.parse("2007-10-28T22:59:59.999Z").toEpochMilli()
+                        ));
+            }
+        }
+
+        @Nested
+        @DisplayName("with no values")
+        class WithNoValues extends ConstraintTest<Long> {
+
+            WithNoValues() {
+                super(TestClassWithNoValues.class, "epochMilli",
+                        Arrays.asList(
+                                utcInstantAtOffsetAfterSystem("2007-05-17T00:59:59.999Z", 1).toEpochMilli(),
+                                utcInstantAtOffsetAfterSystem("2007-05-17T01:00:00Z", 1).toEpochMilli(),
+                                utcInstantAtOffsetAfterSystem("2007-05-18T00:59:59.999Z", 1).toEpochMilli(),
+                                utcInstantAtOffsetAfterSystem("2007-05-18T01:00:00Z", 1).toEpochMilli(),
+                                utcInstantAtOffsetAfterSystem("2007-10-13T00:59:59.999Z", 1).toEpochMilli(),
+                                utcInstantAtOffsetAfterSystem("2007-10-13T01:00:00Z", 1).toEpochMilli(),
+                                utcInstantAtOffsetAfterSystem("2007-10-14T00:59:59.999Z", 1).toEpochMilli(),
+                                utcInstantAtOffsetAfterSystem("2007-10-14T01:00:00Z", 1).toEpochMilli()
+                        ),
+                        Collections.emptyList());
+            }
+
+            @Override
+            void testNotAllowedValue(Long allowedValue) {
+                throw new UnsupportedOperationException();
+            }
+        }
+    }
+
     @Nested
     @DisplayName("Instant")
     class ForInstant extends AbstractNonProvidedZoneIdTest<Instant> {
@@ -709,6 +961,12 @@ class DayOfWeekNotInTest extends AbstractConstraintTest {
         @DayOfWeekNotIn(value = { DayOfWeek.THURSDAY, DayOfWeek.SATURDAY }, zoneId = "provided")
         DayOfWeek dayOfWeek;
 
+        @DayOfWeekNotIn(value = { DayOfWeek.THURSDAY, DayOfWeek.SATURDAY }, zoneId = "provided")
+        CharSequence charSequence;
+
+        @DayOfWeekNotIn(value = { DayOfWeek.THURSDAY, DayOfWeek.SATURDAY }, zoneId = "provided")
+        Long epochMilli;
+
         @DayOfWeekNotIn(value = { DayOfWeek.THURSDAY, DayOfWeek.SATURDAY }, zoneId = "provided")
         Instant instant;
 
@@ -735,6 +993,15 @@ class DayOfWeekNotInTest extends AbstractConstraintTest {
         @DayOfWeekNotIn(value = { DayOfWeek.THURSDAY, DayOfWeek.SATURDAY }, zoneId = "UTC")
         DayOfWeek dayOfWeek;
 
+        @DayOfWeekNotIn(value = { DayOfWeek.THURSDAY, DayOfWeek.SATURDAY }, zoneId = "UTC")
+        CharSequence charSequence;
+
+        @DayOfWeekNotIn(value = { DayOfWeek.THURSDAY, DayOfWeek.SATURDAY }, zoneId = "UTC")
+        Long epochMilli;
+
+        @DayOfWeekNotIn(value = { DayOfWeek.THURSDAY, DayOfWeek.SATURDAY }, zoneId = "UTC", payload = EpochValue.Seconds.class)
+        Long epochSecond;
+
         @DayOfWeekNotIn(value = { DayOfWeek.THURSDAY, DayOfWeek.SATURDAY }, zoneId = "UTC")
         Instant instant;
 
@@ -761,6 +1028,12 @@ class DayOfWeekNotInTest extends AbstractConstraintTest {
         @DayOfWeekNotIn({ DayOfWeek.THURSDAY, DayOfWeek.SATURDAY })
         DayOfWeek dayOfWeek;
 
+        @DayOfWeekNotIn({ DayOfWeek.THURSDAY, DayOfWeek.SATURDAY })
+        CharSequence charSequence;
+
+        @DayOfWeekNotIn({ DayOfWeek.THURSDAY, DayOfWeek.SATURDAY })
+        Long epochMilli;
+
         @DayOfWeekNotIn({ DayOfWeek.THURSDAY, DayOfWeek.SATURDAY })
         Instant instant;
 
@@ -787,6 +1060,12 @@ class DayOfWeekNotInTest extends AbstractConstraintTest {
         @DayOfWeekNotIn({})
         DayOfWeek dayOfWeek;
 
+        @DayOfWeekNotIn({})
+        CharSequence charSequence;
+
+        @DayOfWeekNotIn({})
+        Long epochMilli;
+
         @DayOfWeekNotIn({})
         Instant instant;
 
@@ -802,4 +1081,12 @@ class DayOfWeekNotInTest extends AbstractConstraintTest {
         @DayOfWeekNotIn({})
         ZonedDateTime zonedDateTime;
     }
+
+    private static final class TestClassWithDaylightSavingTimeZoneId {
+        @DayOfWeekNotIn(value = { DayOfWeek.SUNDAY }, zoneId = "Europe/Paris")
+        CharSequence charSequence;
+
+        @DayOfWeekNotIn(value = { DayOfWeek.SUNDAY }, zoneId = "Europe/Paris")
+        Long epochMilli;
+    }
 }
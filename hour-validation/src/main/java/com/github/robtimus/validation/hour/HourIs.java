@@ -42,6 +42,8 @@ import com.github.robtimus.validation.hour.validators.HourIsValidator;
  * <ul>
  * <li>{@link java.util.Date}</li>
  * <li>{@link java.util.Calendar}</li>
+ * <li>{@link java.lang.CharSequence}, if it contains an ISO 8601 time, local date-time or offset date-time</li>
+ * <li>{@link java.lang.Long}, as epoch value in the unit defined by {@link com.github.robtimus.validation.datetime.base.EpochValue}</li>
  * <li>{@link java.time.Instant}</li>
  * <li>{@link java.time.LocalDateTime}</li>
  * <li>{@link java.time.LocalTime}</li>
@@ -57,6 +59,8 @@ import com.github.robtimus.validation.hour.validators.HourIsValidator;
 @Documented
 @Constraint(validatedBy = { HourIsValidator.ForDate.class,
         HourIsValidator.ForCalendar.class,
+        HourIsValidator.ForCharSequence.class,
+        HourIsValidator.ForLong.class,
         HourIsValidator.ForInstant.class,
         HourIsValidator.ForLocalDateTime.class,
         HourIsValidator.ForLocalTime.class,
@@ -97,7 +101,8 @@ public @interface HourIs {
      *     {@code provided}, the value is converted to the given zone id before extracting the hour.</li>
      * <li>For {@link java.time.OffsetTime}, if the zone id is not {@code provided}, the value is converted to the current date at the the given zone
      *     id before extracting the hour.</li>
-     * <li>For {@link java.util.Date} and {@link java.time.Instant}, no zone id is available, so {@code provided} is not allowed.</li>
+     * <li>For {@link java.util.Date}, {@link java.time.Instant} and {@link java.lang.Long}, no zone id is available, so {@code provided} is not
+     *     allowed.</li>
      * <li>For {@link java.time.LocalDateTime} and {@link java.time.LocalTime}, no zone id is applicable, so only the default value ({@code system})
      *     is allowed.</li>
      * </ul>
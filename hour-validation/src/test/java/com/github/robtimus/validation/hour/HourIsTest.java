@@ -40,6 +40,7 @@ import org.junit.jupiter.api.TestInstance;
 import org.junit.jupiter.api.TestInstance.Lifecycle;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
+import com.github.robtimus.validation.datetime.base.EpochValue;
 
 @SuppressWarnings("nls")
 class HourIsTest extends AbstractConstraintTest {
@@ -143,6 +144,181 @@ class HourIsTest extends AbstractConstraintTest {
         }
     }
 
+    @Nested
+    @DisplayName("CharSequence")
+    class ForCharSequence {
+
+        @Nested
+        @DisplayName("with provided zone id")
+        class WithProvidedZoneId extends ConstraintTest<CharSequence> {
+
+            WithProvidedZoneId() {
+                super(TestClassWithProvidedZoneId.class, "charSequence",
+                        Arrays.asList(
+                                "2007-12-03T15:00:00+01:00",
+                                "2007-12-03T15:59:59.999999999+01:00"
+                        ),
+                        Arrays.asList(
+                                "2007-12-03T14:59:59.999999999+01:00",
+                                "2007-12-03T16:00:00+01:00"
+                        ));
+            }
+        }
+
+        @Nested
+        @DisplayName("with zone id")
+        class WithZoneId extends ConstraintTest<CharSequence> {
+
+            WithZoneId() {
+                super(TestClassWithZoneId.class, "charSequence",
+                        Arrays.asList(
+                                "2007-12-03T16:00:00+01:00",
+                                "2007-12-03T16:59:59.999999999+01:00"
+                        ),
+                        Arrays.asList(
+                                "2007-12-03T15:59:59.999999999+01:00",
+                                "2007-12-03T17:00:00+01:00"
+                        ));
+            }
+        }
+
+        @Nested
+        @DisplayName("with system zone id")
+        class WithSystemZoneId extends ConstraintTest<CharSequence> {
+
+            WithSystemZoneId() {
+                super(TestClassWithSystemZoneId.class, "charSequence",
+                        Arrays.asList(
+                                "2007-12-03T15:00:00",
+                                "2007-12-03T15:59:59.999999999"
+                        ),
+                        Arrays.asList(
+                                "2007-12-03T14:59:59.999999999",
+                                "2007-12-03T16:00:00"
+                        ));
+            }
+        }
+
+        @Nested
+        @DisplayName("with system zone id and local time")
+        class WithSystemZoneIdAndLocalTime extends ConstraintTest<CharSequence> {
+
+            WithSystemZoneIdAndLocalTime() {
+                super(TestClassWithSystemZoneId.class, "charSequence",
+                        Arrays.asList(
+                                "15:00:00",
+                                "15:59:59.999999999"
+                        ),
+                        Arrays.asList(
+                                "14:59:59.999999999",
+                                "16:00:00"
+                        ));
+            }
+        }
+
+        @Nested
+        @DisplayName("with daylight saving time zone id")
+        class WithDaylightSavingTimeZoneId extends ConstraintTest<CharSequence> {
+
+            WithDaylightSavingTimeZoneId() {
+                super(TestClassWithDaylightSavingTimeZoneId.class, "charSequence",
+                        Arrays.asList(
+                                "2007-10-28T00:00:00Z",
+                                "2007-10-28T00:59:59.999999999Z",
+                                "2007-10-28T01:00:00Z",
+                                "2007-10-28T01:59:59.999999999Z"
+                        ),
+                        Arrays.asList(
+                                "2007-03-25T00:59:59.999999999Z",
+                                "2007-03-25T01:00:00Z",
+                                "2007-10-27T23:59:59.999999999Z",
+                                "2007-10-28T02:00:00Z"
+                        ));
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("Long")
+    class ForLong extends AbstractNonProvidedZoneIdTest<Long> {
+
+        ForLong() {
+            super(TestClassWithProvidedZoneId.class, "epochMilli", System.currentTimeMillis());
+        }
+
+        @Nested
+        @DisplayName("with zone id")
+        class WithZoneId extends ConstraintTest<Long> {
+
+            WithZoneId() {
+                super(TestClassWithZoneId.class, "epochMilli",
+                        Arrays.asList(
+                                utcInstantAtOffset("2007-12-03T16:00:00Z", 1).toEpochMilli(),
+                                utcInstantAtOffset("2007-12-03T16:59:59.999Z", 1).toEpochMilli()
+                        ),
+                        Arrays.asList(
+                                utcInstantAtOffset("2007-12-03T15:59:59.999Z", 1).toEpochMilli(),
+                                utcInstantAtOffset("2007-12-03T17:00:00Z", 1).toEpochMilli()
+                        ));
+            }
+        }
+
+        @Nested
+        @DisplayName("with zone id and seconds")
+        class WithZoneIdAndSeconds extends ConstraintTest<Long> {
+
+            WithZoneIdAndSeconds() {
+                super(TestClassWithZoneId.class, "epochSecond",
+                        Arrays.asList(
+                                utcInstantAtOffset("2007-12-03T16:00:00Z", 1).getEpochSecond(),
+                                utcInstantAtOffset("2007-12-03T16:59:59Z", 1).getEpochSecond()
+                        ),
+                        Arrays.asList(
+                                utcInstantAtOffset("2007-12-03T15:59:59Z", 1).getEpochSecond(),
+                                utcInstantAtOffset("2007-12-03T17:00:00Z", 1).getEpochSecond()
+                        ));
+            }
+        }
+
+        @Nested
+        @DisplayName("with system zone id")
+        class WithSystemZoneId extends ConstraintTest<Long> {
+
+            WithSystemZoneId() {
+                super(TestClassWithSystemZoneId.class, "epochMilli",
+                        Arrays.asList(
+                                utcInstantAtOffsetAfterSystem("2007-12-03T16:00:00Z", 1).toEpochMilli(),
+                                utcInstantAtOffsetAfterSystem("2007-12-03T16:59:59.999Z", 1).toEpochMilli()
+                        ),
+                        Arrays.asList(
+                                utcInstantAtOffsetAfterSystem("2007-12-03T15:59:59.999Z", 1).toEpochMilli(),
+                                utcInstantAtOffsetAfterSystem("2007-12-03T17:00:00Z", 1).toEpochMilli()
+                        ));
+            }
+        }
+
+        @Nested
+        @DisplayName("with daylight saving time zone id")
+        class WithDaylightSavingTimeZoneId extends ConstraintTest<Long> {
+
+            WithDaylightSavingTimeZoneId() {
+                super(TestClassWithDaylightSavingTimeZoneId.class, "epochMilli",
+                        Arrays.asList(
+                                Instant.parse("2007-10-28T00:00:00Z").toEpochMilli(),
+                                Instant.parse("2007-10-28T00:59:59.999Z").toEpochMilli(),
+                                Instant.parse("2007-10-28T01:00:00Z").toEpochMilli(),
+                                Instant.parse("2007-10-28T01:59:59.999Z").toEpochMilli()
+                        ),
+                        Arrays.asList(
+                                Instant.parse("2007-03-25T00:59:59.999Z").toEpochMilli(),
+                                Instant.parse("2007-03-25T01:00:00Z").toEpochMilli(),
+                                Instant.parse("2007-10-27T23:59:59.999Z").toEpochMilli(),
+                                Instant.parse("2007-10-28T02:00:00Z").toEpochMilli()
+                        ));
+            }
+        }
+    }
+
     @Nested
     @DisplayName("Instant")
     class ForInstant extends AbstractNonProvidedZoneIdTest<Instant> {
@@ -474,6 +650,12 @@ class HourIsTest extends AbstractConstraintTest {
         @HourIs(value = 15, zoneId = "provided")
         Calendar calendar;
 
+        @HourIs(value = 15, zoneId = "provided")
+        CharSequence charSequence;
+
+        @HourIs(value = 15, zoneId = "provided")
+        Long epochMilli;
+
         @HourIs(value = 15, zoneId = "provided")
         Instant instant;
 
@@ -500,6 +682,15 @@ class HourIsTest extends AbstractConstraintTest {
         @HourIs(value = 15, zoneId = "UTC")
         Calendar calendar;
 
+        @HourIs(value = 15, zoneId = "UTC")
+        CharSequence charSequence;
+
+        @HourIs(value = 15, zoneId = "UTC")
+        Long epochMilli;
+
+        @HourIs(value = 15, zoneId = "UTC", payload = EpochValue.Seconds.class)
+        Long epochSecond;
+
         @HourIs(value = 15, zoneId = "UTC")
         Instant instant;
 
@@ -526,6 +717,12 @@ class HourIsTest extends AbstractConstraintTest {
         @HourIs(15)
         Calendar calendar;
 
+        @HourIs(15)
+        CharSequence charSequence;
+
+        @HourIs(15)
+        Long epochMilli;
+
         @HourIs(15)
         Instant instant;
 
@@ -544,4 +741,12 @@ class HourIsTest extends AbstractConstraintTest {
         @HourIs(15)
         ZonedDateTime zonedDateTime;
     }
+
+    private static final class TestClassWithDaylightSavingTimeZoneId {
+        @HourIs(value = 2, zoneId = "Europe/Paris")
+        CharSequence charSequence;
+
+        @HourIs(value = 2, zoneId = "Europe/Paris")
+        Long epochMilli;
+    }
 }
@@ -40,6 +40,7 @@ import org.junit.jupiter.api.TestInstance;
 import org.junit.jupiter.api.TestInstance.Lifecycle;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
+import com.github.robtimus.validation.datetime.base.EpochValue;
 
 @SuppressWarnings("nls")
 class HourNotInTest extends AbstractConstraintTest {
@@ -213,6 +214,259 @@ class HourNotInTest extends AbstractConstraintTest {
         }
     }
 
+    @Nested
+    @DisplayName("CharSequence")
+    class ForCharSequence {
+
+        @Nested
+        @DisplayName("with provided zone id")
+        class WithProvidedZoneId extends ConstraintTest<CharSequence> {
+
+            WithProvidedZoneId() {
+                super(TestClassWithProvidedZoneId.class, "charSequence",
+                        Arrays.asList(
+                                "2007-12-03T14:59:59.999999999+01:00",
+                                "2007-12-03T16:00:00+01:00",
+                                "2007-12-03T19:59:59.999999999+01:00",
+                                "2007-12-03T21:00:00+01:00"
+                        ),
+                        Arrays.asList(
+                                "2007-12-03T15:00:00+01:00",
+                                "2007-12-03T15:59:59.999999999+01:00",
+                                "2007-12-03T20:00:00+01:00",
+                                "2007-12-03T20:59:59.999999999+01:00"
+                        ));
+            }
+        }
+
+        @Nested
+        @DisplayName("with zone id")
+        class WithZoneId extends ConstraintTest<CharSequence> {
+
+            WithZoneId() {
+                super(TestClassWithZoneId.class, "charSequence",
+                        Arrays.asList(
+                                "2007-12-03T15:59:59.999999999+01:00",
+                                "2007-12-03T17:00:00+01:00",
+                                "2007-12-03T20:59:59.999999999+01:00",
+                                "2007-12-03T22:00:00+01:00"
+                        ),
+                        Arrays.asList(
+                                "2007-12-03T16:00:00+01:00",
+                                "2007-12-03T16:59:59.999999999+01:00",
+                                "2007-12-03T21:00:00+01:00",
+                                "2007-12-03T21:59:59.999999999+01:00"
+                        ));
+            }
+        }
+
+        @Nested
+        @DisplayName("with system zone id")
+        class WithSystemZoneId extends ConstraintTest<CharSequence> {
+
+            WithSystemZoneId() {
+                super(TestClassWithSystemZoneId.class, "charSequence",
+                        Arrays.asList(
+                                "2007-12-03T14:59:59.999999999",
+                                "2007-12-03T16:00:00",
+                                "2007-12-03T19:59:59.999999999",
+                                "2007-12-03T21:00:00"
+                        ),
+                        Arrays.asList(
+                                "2007-12-03T15:00:00",
+                                "2007-12-03T15:59:59.999999999",
+                                "2007-12-03T20:00:00",
+                                "2007-12-03T20:59:59.999999999"
+                        ));
+            }
+        }
+
+        @Nested
+        @DisplayName("with system zone id and local time")
+        class WithSystemZoneIdAndLocalTime extends ConstraintTest<CharSequence> {
+
+            WithSystemZoneIdAndLocalTime() {
+                super(TestClassWithSystemZoneId.class, "charSequence",
+                        Arrays.asList(
+                                "14:59:59.999999999",
+                                "16:00:00",
+                                "19:59:59.999999999",
+                                "21:00:00"
+                        ),
+                        Arrays.asList(
+                                "15:00:00",
+                                "15:59:59.999999999",
+                                "20:00:00",
+                                "20:59:59.999999999"
+                        ));
+            }
+        }
+
+        @Nested
+        @DisplayName("with daylight saving time zone id")
+        class WithDaylightSavingTimeZoneId extends ConstraintTest<CharSequence> {
+
+            WithDaylightSavingTimeZoneId() {
+                super(TestClassWithDaylightSavingTimeZoneId.class, "charSequence",
+                        Arrays.asList(
+                                "2007-03-25T00:59:59.999999999Z",
+                                "2007-03-25T01:00:00Z",
+                                "2007-10-27T23:59:59.999999999Z",
+                                "2007-10-28T02:00:00Z"
+                        ),
+                        Arrays.asList(
+                                "2007-10-28T00:00:00Z",
+                                "2007-10-28T00:59:59.999999999Z",
+                                "2007-10-28T01:00:00Z",
+                                "2007-10-28T01:59:59.999999999Z"
+                        ));
+            }
+        }
+
+        @Nested
+        @DisplayName("with no values")
+        class WithNoValues extends ConstraintTest<CharSequence> {
+
+            WithNoValues() {
+                super(TestClassWithNoValues.class, "charSequence",
+                        Arrays.asList(
+                                "2007-12-03T14:59:59.999999999",
+                                "2007-12-03T15:00:00",
+                                "2007-12-03T15:59:59.999999999",
+                                "2007-12-03T16:00:00",
+                                "2007-12-03T19:59:59.999999999",
+                                "2007-12-03T20:00:00",
+                                "2007-12-03T20:59:59.999999999",
+                                "2007-12-03T21:00:00"
+                        ),
+                        Collections.emptyList());
+            }
+
+            @Override
+            void testNotAllowedValue(CharSequence allowedValue) {
+                throw new UnsupportedOperationException();
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("Long")
+    class ForLong extends AbstractNonProvidedZoneIdTest<Long> {
+
+        ForLong() {
+            super(TestClassWithProvidedZoneId.class, "epochMilli", System.currentTimeMillis());
+        }
+
+        @Nested
+        @DisplayName("with zone id")
+        class WithZoneId extends ConstraintTest<Long> {
+
+            WithZoneId() {
+                super(TestClassWithZoneId.class, "epochMilli",
+                        Arrays.asList(
+                                utcInstantAtOffset("2007-12-03T15:59:59.999Z", 1).toEpochMilli(),
+                                utcInstantAtOffset("2007-12-03T17:00:00Z", 1).toEpochMilli(),
+                                utcInstantAtOffset("2007-12-03T20:59:59.999Z", 1).toEpochMilli(),
+                                utcInstantAtOffset("2007-12-03T22:00:00Z", 1).toEpochMilli()
+                        ),
+                        Arrays.asList(
+                                utcInstantAtOffset("2007-12-03T16:00:00Z", 1).toEpochMilli(),
+                                utcInstantAtOffset("2007-12-03T16:59:59.999Z", 1).toEpochMilli(),
+                                utcInstantAtOffset("2007-12-03T21:00:00Z", 1).toEpochMilli(),
+                                utcInstantAtOffset("2007-12-03T21:59:59.999Z", 1).toEpochMilli()
+                        ));
+            }
+        }
+
+        @Nested
+        @DisplayName("with zone id and seconds")
+        class WithZoneIdAndSeconds extends ConstraintTest<Long> {
+
+            WithZoneIdAndSeconds() {
+                super(TestClassWithZoneId.class, "epochSecond",
+                        Arrays.asList(
+                                utcInstantAtOffset("2007-12-03T15:59:59Z", 1).getEpochSecond(),
+                                utcInstantAtOffset("2007-12-03T17:00:00Z", 1).getEpochSecond(),
+                                utcInstantAtOffset("2007-12-03T20:59:59Z", 1).getEpochSecond(),
+                                utcInstantAtOffset("2007-12-03T22:00:00Z", 1).getEpochSecond()
+                        ),
+                        Arrays.asList(
+                                utcInstantAtOffset("2007-12-03T16:00:00Z", 1).getEpochSecond(),
+                                utcInstantAtOffset("2007-12-03T16:59:59Z", 1).getEpochSecond(),
+                                utcInstantAtOffset("2007-12-03T21:00:00Z", 1).getEpochSecond(),
+                                utcInstantAtOffset("2007-12-03T21:59:59Z", 1).getEpochSecond()
+                        ));
+            }
+        }
+
+        @Nested
+        @DisplayName("with system zone id")
+        class WithSystemZoneId extends ConstraintTest<Long> {
+
+            WithSystemZoneId() {
+                super(TestClassWithSystemZoneId.class, "epochMilli",
+                        Arrays.asList(
+                                utcInstantAtOffsetAfterSystem("2007-12-03T15:59:59.999Z", 1).toEpochMilli(),
+                                utcInstantAtOffsetAfterSystem("2007-12-03T17:00:00Z", 1).toEpochMilli(),
+                                utcInstantAtOffsetAfterSystem("2007-12-03T20:59:59.999Z", 1).toEpochMilli(),
+                                utcInstantAtOffsetAfterSystem("2007-12-03T22:00:00Z", 1).toEpochMilli()
+                        ),
+                        Arrays.asList(
+                                utcInstantAtOffsetAfterSystem("2007-12-03T16:00:00Z", 1).toEpochMilli(),
+                                utcInstantAtOffsetAfterSystem("2007-12-03T16:59:59.999Z", 1).toEpochMilli(),
+                                utcInstantAtOffsetAfterSystem("2007-12-03T21:00:00Z", 1).toEpochMilli(),
+                                utcInstantAtOffsetAfterSystem("2007-12-03T21:59:59.999Z", 1).toEpochMilli()
+                        ));
+            }
+        }
+
+        @Nested
+        @DisplayName("with daylight saving time zone id")
+        class WithDaylightSavingTimeZoneId extends ConstraintTest<Long> {
+
+            WithDaylightSavingTimeZoneId() {
+                super(TestClassWithDaylightSavingTimeZoneId.class, "epochMilli",
+                        Arrays.asList(
+                                Instant.parse("2007-03-25T00:59:59.999Z").toEpochMilli(),
+                                Instant.parse("2007-03-25T01:00:00Z").toEpochMilli(),
+                                Instant.parse("2007-10-27T23:59:59.999Z").toEpochMilli(),
+                                Instant.parse("2007-10-28T02:00:00Z").toEpochMilli()
+                        ),
+                        Arrays.asList(
+                                Instant.parse("2007-10-28T00:00:00Z").toEpochMilli(),
+                                Instant.parse("2007-10-28T00:59:59.999Z").toEpochMilli(),
+                                Instant.parse("2007-10-28T01:00:00Z").toEpochMilli(),
+                                Instant.parse("2007-10-28T01:59:59.999Z").toEpochMilli()
+                        ));
+            }
+        }
+
+        @Nested
+        @DisplayName("with no values")
+        class WithNoValues extends ConstraintTest<Long> {
+
+            WithNoValues() {
+                super(TestClassWithNoValues.class, "epochMilli",
+                        Arrays.asList(
+                                utcInstantAtOffsetAfterSystem("2007-12-03T15:59:59.999Z", 1).toEpochMilli(),
+                                utcInstantAtOffsetAfterSystem("2007-12-03T16:00:00Z", 1).toEpochMilli(),
+                                utcInstantAtOffsetAfterSystem("2007-12-03T16:59:59.999Z", 1).toEpochMilli(),
+                                utcInstantAtOffsetAfterSystem("2007-12-03T17:00:00Z", 1).toEpochMilli(),
+                                utcInstantAtOffsetAfterSystem("2007-12-03T20:59:59.999Z", 1).toEpochMilli(),
+                                utcInstantAtOffsetAfterSystem("2007-12-03T21:00:00Z", 1).toEpochMilli(),
+                                utcInstantAtOffsetAfterSystem("2007-12-03T21:59:59.999Z", 1).toEpochMilli(),
+                                utcInstantAtOffsetAfterSystem("2007-12-03T22:00:00Z", 1).toEpochMilli()
+                        ),
+                        Collections.emptyList());
+            }
+
+            @Override
+            void testNotAllowedValue(Long allowedValue) {
+                throw new UnsupportedOperationException();
+            }
+        }
+    }
+
     @Nested
     @DisplayName("Instant")
     class ForInstant extends AbstractNonProvidedZoneIdTest<Instant> {
@@ -746,6 +1000,12 @@ class HourNotInTest extends AbstractConstraintTest {
         @HourNotIn(value = { 15, 20 }, zoneId = "provided")
         Calendar calendar;
 
+        @HourNotIn(value = { 15, 20 }, zoneId = "provided")
+        CharSequence charSequence;
+
+        @HourNotIn(value = { 15, 20 }, zoneId = "provided")
+        Long epochMilli;
+
         @HourNotIn(value = { 15, 20 }, zoneId = "provided")
         Instant instant;
 
@@ -772,6 +1032,15 @@ class HourNotInTest extends AbstractConstraintTest {
         @HourNotIn(value = { 15, 20 }, zoneId = "UTC")
         Calendar calendar;
 
+        @HourNotIn(value = { 15, 20 }, zoneId = "UTC")
+        CharSequence charSequence;
+
+        @HourNotIn(value = { 15, 20 }, zoneId = "UTC")
+        Long epochMilli;
+
+        @HourNotIn(value = { 15, 20 }, zoneId = "UTC", payload = EpochValue.Seconds.class)
+        Long epochSecond;
+
         @HourNotIn(value = { 15, 20 }, zoneId = "UTC")
         Instant instant;
 
@@ -798,6 +1067,12 @@ class HourNotInTest extends AbstractConstraintTest {
         @HourNotIn({ 15, 20 })
         Calendar calendar;
 
+        @HourNotIn({ 15, 20 })
+        CharSequence charSequence;
+
+        @HourNotIn({ 15, 20 })
+        Long epochMilli;
+
         @HourNotIn({ 15, 20 })
         Instant instant;
 
@@ -824,6 +1099,12 @@ class HourNotInTest extends AbstractConstraintTest {
         @HourNotIn({})
         Calendar calendar;
 
+        @HourNotIn({})
+        CharSequence charSequence;
+
+        @HourNotIn({})
+        Long epochMilli;
+
         @HourNotIn({})
         Instant instant;
 
@@ -842,4 +1123,12 @@ class HourNotInTest extends AbstractConstraintTest {
         @HourNotIn({})
         ZonedDateTime zonedDateTime;
     }
+
+    private static final class TestClassWithDaylightSavingTimeZoneId {
+        @HourNotIn(value = { 2 }, zoneId = "Europe/Paris")
+        CharSequence charSequence;
+
+        @HourNotIn(value = { 2 }, zoneId = "Europe/Paris")
+        Long epochMilli;
+    }
 }
@@ -40,6 +40,7 @@ import org.junit.jupiter.api.TestInstance;
 import org.junit.jupiter.api.TestInstance.Lifecycle;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
+import com.github.robtimus.validation.datetime.base.EpochValue;
 
 @SuppressWarnings("nls")
 class MinuteIsTest extends AbstractConstraintTest {
@@ -143,6 +144,181 @@ class MinuteIsTest extends AbstractConstraintTest {
         }
     }
 
+    @Nested
+    @DisplayName("CharSequence")
+    class ForCharSequence {
+
+        @Nested
+        @DisplayName("with provided zone id")
+        class WithProvidedZoneId extends ConstraintTest<CharSequence> {
+
+            WithProvidedZoneId() {
+                super(TestClassWithProvidedZoneId.class, "charSequence",
+                        Arrays.asList(
+                                "2007-12-03T10:15:00+05:30",
+                                "2007-12-03T10:15:59.999999999+05:30"
+                        ),
+                        Arrays.asList(
+                                "2007-12-03T10:14:59.999999999+05:30",
+                                "2007-12-03T10:16:00+05:30"
+                        ));
+            }
+        }
+
+        @Nested
+        @DisplayName("with zone id")
+        class WithZoneId extends ConstraintTest<CharSequence> {
+
+            WithZoneId() {
+                super(TestClassWithZoneId.class, "charSequence",
+                        Arrays.asList(
+                                "2007-12-03T10:45:00+05:30",
+                                "2007-12-03T10:45:59.999999999+05:30"
+                        ),
+                        Arrays.asList(
+                                "2007-12-03T10:44:59.999999999+05:30",
+                                "2007-12-03T10:46:00+05:30"
+                        ));
+            }
+        }
+
+        @Nested
+        @DisplayName("with system zone id")
+        class WithSystemZoneId extends ConstraintTest<CharSequence> {
+
+            WithSystemZoneId() {
+                super(TestClassWithSystemZoneId.class, "charSequence",
+                        Arrays.asList(
+                                "2007-12-03T10:15:00",
+                                "2007-12-03T10:15:59.999999999"
+                        ),
+                        Arrays.asList(
+                                "2007-12-03T10:14:59.999999999",
+                                "2007-12-03T10:16:00"
+                        ));
+            }
+        }
+
+        @Nested
+        @DisplayName("with system zone id and local time")
+        class WithSystemZoneIdAndLocalTime extends ConstraintTest<CharSequence> {
+
+            WithSystemZoneIdAndLocalTime() {
+                super(TestClassWithSystemZoneId.class, "charSequence",
+                        Arrays.asList(
+                                "10:15:00",
+                                "10:15:59.999999999"
+                        ),
+                        Arrays.asList(
+                                "10:14:59.999999999",
+                                "10:16:00"
+                        ));
+            }
+        }
+
+        @Nested
+        @DisplayName("with daylight saving time zone id")
+        class WithDaylightSavingTimeZoneId extends ConstraintTest<CharSequence> {
+
+            WithDaylightSavingTimeZoneId() {
+                super(TestClassWithDaylightSavingTimeZoneId.class, "charSequence",
+                        Arrays.asList(
+                                "2007-06-15T01:45:00Z",
+                                "2007-06-15T01:45:59.999999999Z",
+                                "2007-12-15T01:15:00Z",
+                                "2007-12-15T01:15:59.999999999Z"
+                        ),
+                        Arrays.asList(
+                                "2007-06-15T01:15:00Z",
+                                "2007-06-15T01:44:59.999999999Z",
+                                "2007-12-15T01:16:00Z",
+                                "2007-12-15T01:45:00Z"
+                        ));
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("Long")
+    class ForLong extends AbstractNonProvidedZoneIdTest<Long> {
+
+        ForLong() {
+            super(TestClassWithProvidedZoneId.class, "epochMilli", System.currentTimeMillis());
+        }
+
+        @Nested
+        @DisplayName("with zone id")
+        class WithZoneId extends ConstraintTest<Long> {
+
+            WithZoneId() {
+                super(TestClassWithZoneId.class, "epochMilli",
+                        Arrays.asList(
+                                utcInstantAtOffset("2007-12-03T10:45:00Z", 30).toEpochMilli(),
+                                utcInstantAtOffset("2007-12-03T10:45:59.999Z", 30).toEpochMilli()
+                        ),
+                        Arrays.asList(
+                                utcInstantAtOffset("2007-12-03T10:44:59.999Z", 30).toEpochMilli(),
+                                utcInstantAtOffset("2007-12-03T10:46:00Z", 30).toEpochMilli()
+                        ));
+            }
+        }
+
+        @Nested
+        @DisplayName("with zone id and seconds")
+        class WithZoneIdAndSeconds extends ConstraintTest<Long> {
+
+            WithZoneIdAndSeconds() {
+                super(TestClassWithZoneId.class, "epochSecond",
+                        Arrays.asList(
+                                utcInstantAtOffset("2007-12-03T10:45:00Z", 30).getEpochSecond(),
+                                utcInstantAtOffset("2007-12-03T10:45:59Z", 30).getEpochSecond()
+                        ),
+                        Arrays.asList(
+                                utcInstantAtOffset("2007-12-03T10:44:59Z", 30).getEpochSecond(),
+                                utcInstantAtOffset("2007-12-03T10:46:00Z", 30).getEpochSecond()
+                        ));
+            }
+        }
+
+        @Nested
+        @DisplayName("with system zone id")
+        class WithSystemZoneId extends ConstraintTest<Long> {
+
+            WithSystemZoneId() {
+                super(TestClassWithSystemZoneId.class, "epochMilli",
+                        Arrays.asList(
+                                utcInstantAtOffsetAfterSystem("2007-12-03T10:45:00Z", 30).toEpochMilli(),
+                                utcInstantAtOffsetAfterSystem("2007-12-03T10:45:59.999Z", 30).toEpochMilli()
+                        ),
+                        Arrays.asList(
+                                utcInstantAtOffsetAfterSystem("2007-12-03T10:44:59.999Z", 30).toEpochMilli(),
+                                utcInstantAtOffsetAfterSystem("2007-12-03T10:46:00Z", 30).toEpochMilli()
+                        ));
+            }
+        }
+
+        @Nested
+        @DisplayName("with daylight saving time zone id")
+        class WithDaylightSavingTimeZoneId extends ConstraintTest<Long> {
+
+            WithDaylightSavingTimeZoneId() {
+                super(TestClassWithDaylightSavingTimeZoneId.class, "epochMilli",
+                        Arrays.asList(
+                                Instant.parse("2007-06-15T01:45:00Z").toEpochMilli(),
+                                Instant.parse("2007-06-15T01:45:59.999Z").toEpochMilli(),
+                                Instant.parse("2007-12-15T01:15:00Z").toEpochMilli(),
+                                Instant.parse("2007-12-15T01:15:59.999Z").toEpochMilli()
+                        ),
+                        Arrays.asList(
+                                Instant.parse("2007-06-15T01:15:00Z").toEpochMilli(),
+                                Instant.parse("2007-06-15T01:44:59.999Z").toEpochMilli(),
+                                Instant.parse("2007-12-15T01:16:00Z").toEpochMilli(),
+                                Instant.parse("2007-12-15T01:45:00Z").toEpochMilli()
+                        ));
+            }
+        }
+    }
+
     @Nested
     @DisplayName("Instant")
     class ForInstant extends AbstractNonProvidedZoneIdTest<Instant> {
@@ -474,6 +650,12 @@ class MinuteIsTest extends AbstractConstraintTest {
         @MinuteIs(value = 15, zoneId = "provided")
         Calendar calendar;
 
+        @MinuteIs(value = 15, zoneId = "provided")
+        CharSequence charSequence;
+
+        @MinuteIs(value = 15, zoneId = "provided")
+        Long epochMilli;
+
         @MinuteIs(value = 15, zoneId = "provided")
         Instant instant;
 
@@ -500,6 +682,15 @@ class MinuteIsTest extends AbstractConstraintTest {
         @MinuteIs(value = 15, zoneId = "UTC")
         Calendar calendar;
 
+        @MinuteIs(value = 15, zoneId = "UTC")
+        CharSequence charSequence;
+
+        @MinuteIs(value = 15, zoneId = "UTC")
+        Long epochMilli;
+
+        @MinuteIs(value = 15, zoneId = "UTC", payload = EpochValue.Seconds.class)
+        Long epochSecond;
+
         @MinuteIs(value = 15, zoneId = "UTC")
         Instant instant;
 
@@ -526,6 +717,12 @@ class MinuteIsTest extends AbstractConstraintTest {
         @MinuteIs(15)
         Calendar calendar;
 
+        @MinuteIs(15)
+        CharSequence charSequence;
+
+        @MinuteIs(15)
+        Long epochMilli;
+
         @MinuteIs(15)
         Instant instant;
 
@@ -544,4 +741,12 @@ class MinuteIsTest extends AbstractConstraintTest {
         @MinuteIs(15)
         ZonedDateTime zonedDateTime;
     }
+
+    private static final class TestClassWithDaylightSavingTimeZoneId {
+        @MinuteIs(value = 15, zoneId = "Australia/Lord_Howe")
+        CharSequence charSequence;
+
+        @MinuteIs(value = 15, zoneId = "Australia/Lord_Howe")
+        Long epochMilli;
+    }
 }
@@ -40,6 +40,7 @@ import org.junit.jupiter.api.TestInstance;
 import org.junit.jupiter.api.TestInstance.Lifecycle;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
+import com.github.robtimus.validation.datetime.base.EpochValue;
 
 @SuppressWarnings("nls")
 class MinuteNotInTest extends AbstractConstraintTest {
@@ -213,6 +214,259 @@ class MinuteNotInTest extends AbstractConstraintTest {
         }
     }
 
+    @Nested
+    @DisplayName("CharSequence")
+    class ForCharSequence {
+
+        @Nested
+        @DisplayName("with provided zone id")
+        class WithProvidedZoneId extends ConstraintTest<CharSequence> {
+
+            WithProvidedZoneId() {
+                super(TestClassWithProvidedZoneId.class, "charSequence",
+                        Arrays.asList(
+                                "2007-12-03T10:14:59.999999999+05:30",
+                                "2007-12-03T10:16:00+05:30",
+                                "2007-12-03T10:19:59.999999999+05:30",
+                                "2007-12-03T10:21:00+05:30"
+                        ),
+                        Arrays.asList(
+                                "2007-12-03T10:15:00+05:30",
+                                "2007-12-03T10:15:59.999999999+05:30",
+                                "2007-12-03T10:20:00+05:30",
+                                "2007-12-03T10:20:59.999999999+05:30"
+                        ));
+            }
+        }
+
+        @Nested
+        @DisplayName("with zone id")
+        class WithZoneId extends ConstraintTest<CharSequence> {
+
+            WithZoneId() {
+                super(TestClassWithZoneId.class, "charSequence",
+                        Arrays.asList(
+                                "2007-12-03T10:44:59.999999999+05:30",
+                                "2007-12-03T10:46:00+05:30",
+                                "2007-12-03T10:49:59.999999999+05:30",
+                                "2007-12-03T10:51:00+05:30"
+                        ),
+                        Arrays.asList(
+                                "2007-12-03T10:45:00+05:30",
+                                "2007-12-03T10:45:59.999999999+05:30",
+                                "2007-12-03T10:50:00+05:30",
+                                "2007-12-03T10:50:59.999999999+05:30"
+                        ));
+            }
+        }
+
+        @Nested
+        @DisplayName("with system zone id")
+        class WithSystemZoneId extends ConstraintTest<CharSequence> {
+
+            WithSystemZoneId() {
+                super(TestClassWithSystemZoneId.class, "charSequence",
+                        Arrays.asList(
+                                "2007-12-03T10:14:59.999999999",
+                                "2007-12-03T10:16:00",
+                                "2007-12-03T10:19:59.999999999",
+                                "2007-12-03T10:21:00"
+                        ),
+                        Arrays.asList(
+                                "2007-12-03T10:15:00",
+                                "2007-12-03T10:15:59.999999999",
+                                "2007-12-03T10:20:00",
+                                "2007-12-03T10:20:59.999999999"
+                        ));
+            }
+        }
+
+        @Nested
+        @DisplayName("with system zone id and local time")
+        class WithSystemZoneIdAndLocalTime extends ConstraintTest<CharSequence> {
+
+            WithSystemZoneIdAndLocalTime() {
+                super(TestClassWithSystemZoneId.class, "charSequence",
+                        Arrays.asList(
+                                "10:14:59.999999999",
+                                "10:16:00",
+                                "10:19:59.999999999",
+                                "10:21:00"
+                        ),
+                        Arrays.asList(
+                                "10:15:00",
+                                "10:15:59.999999999",
+                                "10:20:00",
+                                "10:20:59.999999999"
+                        ));
+            }
+        }
+
+        @Nested
+        @DisplayName("with daylight saving time zone id")
+        class WithDaylightSavingTimeZoneId extends ConstraintTest<CharSequence> {
+
+            WithDaylightSavingTimeZoneId() {
+                super(TestClassWithDaylightSavingTimeZoneId.class, "charSequence",
+                        Arrays.asList(
+                                "2007-06-15T01:15:00Z",
+                                "2007-06-15T01:44:59.999999999Z",
+                                "2007-12-15T01:16:00Z",
+                                "2007-12-15T01:45:00Z"
+                        ),
+                        Arrays.asList(
+                                "2007-06-15T01:45:00Z",
+                                "2007-06-15T01:45:59.999999999Z",
+                                "2007-12-15T01:15:00Z",
+                                "2007-12-15T01:15:59.999999999Z"
+                        ));
+            }
+        }
+
+        @Nested
+        @DisplayName("with no values")
+        class WithNoValues extends ConstraintTest<CharSequence> {
+
+            WithNoValues() {
+                super(TestClassWithNoValues.class, "charSequence",
+                        Arrays.asList(
+                                "2007-12-03T10:14:59.999999999",
+                                "2007-12-03T10:15:00",
+                                "2007-12-03T10:15:59.999999999",
+                                "2007-12-03T10:16:00",
+                                "2007-12-03T10:19:59.999999999",
+                                "2007-12-03T10:20:00",
+                                "2007-12-03T10:20:59.999999999",
+                                "2007-12-03T10:21:00"
+                        ),
+                        Collections.emptyList());
+            }
+
+            @Override
+            void testNotAllowedValue(CharSequence allowedValue) {
+                throw new UnsupportedOperationException();
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("Long")
+    class ForLong extends AbstractNonProvidedZoneIdTest<Long> {
+
+        ForLong() {
+            super(TestClassWithProvidedZoneId.class, "epochMilli", System.currentTimeMillis());
+        }
+
+        @Nested
+        @DisplayName("with zone id")
+        class WithZoneId extends ConstraintTest<Long> {
+
+            WithZoneId() {
+                super(TestClassWithZoneId.class, "epochMilli",
+                        Arrays.asList(
+                                utcInstantAtOffset("2007-12-03T10:44:59.999Z", 30).toEpochMilli(),
+                                utcInstantAtOffset("2007-12-03T10:46:00Z", 30).toEpochMilli(),
+                                utcInstantAtOffset("2007-12-03T10:49:59.999Z", 30).toEpochMilli(),
+                                utcInstantAtOffset("2007-12-03T10:51:00Z", 30).toEpochMilli()
+                        ),
+                        Arrays.asList(
+                                utcInstantAtOffset("2007-12-03T10:45:00Z", 30).toEpochMilli(),
+                                utcInstantAtOffset("2007-12-03T10:45:59.999Z", 30).toEpochMilli(),
+                                utcInstantAtOffset("2007-12-03T10:50:00Z", 30).toEpochMilli(),
+                                utcInstantAtOffset("2007-12-03T10:50:59.999Z", 30).toEpochMilli()
+                        ));
+            }
+        }
+
+        @Nested
+        @DisplayName("with zone id and seconds")
+        class WithZoneIdAndSeconds extends ConstraintTest<Long> {
+
+            WithZoneIdAndSeconds() {
+                super(TestClassWithZoneId.class, "epochSecond",
+                        Arrays.asList(
+                                utcInstantAtOffset("2007-12-03T10:44:59Z", 30).getEpochSecond(),
+                                utcInstantAtOffset("2007-12-03T10:46:00Z", 30).getEpochSecond(),
+                                utcInstantAtOffset("2007-12-03T10:49:59Z", 30).getEpochSecond(),
+                                utcInstantAtOffset("2007-12-03T10:51:00Z", 30).getEpochSecond()
+                        ),
+                        Arrays.asList(
+                                utcInstantAtOffset("2007-12-03T10:45:00Z", 30).getEpochSecond(),
+                                utcInstantAtOffset("2007-12-03T10:45:59Z", 30).getEpochSecond(),
+                                utcInstantAtOffset("2007-12-03T10:50:00Z", 30).getEpochSecond(),
+                                utcInstantAtOffset("2007-12-03T10:50:59Z", 30).getEpochSecond()
+                        ));
+            }
+        }
+
+        @Nested
+        @DisplayName("with system zone id")
+        class WithSystemZoneId extends ConstraintTest<Long> {
+
+            WithSystemZoneId() {
+                super(TestClassWithSystemZoneId.class, "epochMilli",
+                        Arrays.asList(
+                                utcInstantAtOffsetAfterSystem("2007-12-03T10:44:59.999Z", 30).toEpochMilli(),
+                                utcInstantAtOffsetAfterSystem("2007-12-03T10:46:00Z", 30).toEpochMilli(),
+                                utcInstantAtOffsetAfterSystem("2007-12-03T10:49:59.999Z", 30).toEpochMilli(),
+                                utcInstantAtOffsetAfterSystem("2007-12-03T10:51:00Z", 30).toEpochMilli()
+                        ),
+                        Arrays.asList(
+                                utcInstantAtOffsetAfterSystem("2007-12-03T10:45:00Z", 30).toEpochMilli(),
+                                utcInstantAtOffsetAfterSystem("2007-12-03T10:45:59.999Z", 30).toEpochMilli(),
+                                utcInstantAtOffsetAfterSystem("2007-12-03T10:50:00Z", 30).toEpochMilli(),
+                                utcInstantAtOffsetAfterSystem("2007-12-03T10:50:59.999Z", 30).toEpochMilli()
+                        ));
+            }
+        }
+
+        @Nested
+        @DisplayName("with daylight saving time zone id")
+        class WithDaylightSavingTimeZoneId extends ConstraintTest<Long> {
+
+            WithDaylightSavingTimeZoneId() {
+                super(TestClassWithDaylightSavingTimeZoneId.class, "epochMilli",
+                        Arrays.asList(
+                                Instant.parse("2007-06-15T01:15:00Z").toEpochMilli(),
+                                Instant.parse("2007-06-15T01:44:59.999Z").toEpochMilli(),
+                                Instant.parse("2007-12-15T01:16:00Z").toEpochMilli(),
+                                Instant.parse("2007-12-15T01:45:00Z").toEpochMilli()
+                        ),
+                        Arrays.asList(
+                                Instant.parse("2007-06-15T01:45:00Z").toEpochMilli(),
+                                Instant.parse("2007-06-15T01:45:59.999Z").toEpochMilli(),
+                                Instant.parse("2007-12-15T01:15:00Z").toEpochMilli(),
+                                Instant.parse("2007-12-15T01:15:59.999Z").toEpochMilli()
+                        ));
+            }
+        }
+
+        @Nested
+        @DisplayName("with no values")
+        class WithNoValues extends ConstraintTest<Long> {
+
+            WithNoValues() {
+                super(TestClassWithNoValues.class, "epochMilli",
+                        Arrays.asList(
+                                utcInstantAtOffsetAfterSystem("2007-12-03T10:44:59.999Z", 30).toEpochMilli(),
+                                utcInstantAtOffsetAfterSystem("2007-12-03T10:45:00Z", 30).toEpochMilli(),
+                                utcInstantAtOffsetAfterSystem("2007-12-03T10:45:59.999Z", 30).toEpochMilli(),
+                                utcInstantAtOffsetAfterSystem("2007-12-03T10:46:00Z", 30).toEpochMilli(),
+                                utcInstantAtOffsetAfterSystem("2007-12-03T10:49:59.999Z", 30).toEpochMilli(),
+                                utcInstantAtOffsetAfterSystem("2007-12-03T10:50:00Z", 30).toEpochMilli(),
+                                utcInstantAtOffsetAfterSystem("2007-12-03T10:50:59.999Z", 30).toEpochMilli(),
+                                utcInstantAtOffsetAfterSystem("2007-12-03T10:51:00Z", 30).toEpochMilli()
+                        ),
+                        Collections.emptyList());
+            }
+
+            @Override
+            void testNotAllowedValue(Long allowedValue) {
+                throw new UnsupportedOperationException();
+            }
+        }
+    }
+
     @Nested
     @DisplayName("Instant")
     class ForInstant extends AbstractNonProvidedZoneIdTest<Instant> {
@@ -746,6 +1000,12 @@ class MinuteNotInTest extends AbstractConstraintTest {
         @MinuteNotIn(value = { 15, 20 }, zoneId = "provided")
         Calendar calendar;
 
+        @MinuteNotIn(value = { 15, 20 }, zoneId = "provided")
+        CharSequence charSequence;
+
+        @MinuteNotIn(value = { 15, 20 }, zoneId = "provided")
+        Long epochMilli;
+
         @MinuteNotIn(value = { 15, 20 }, zoneId = "provided")
         Instant instant;
 
@@ -772,6 +1032,15 @@ class MinuteNotInTest extends AbstractConstraintTest {
         @MinuteNotIn(value = { 15, 20 }, zoneId = "UTC")
         Calendar calendar;
 
+        @MinuteNotIn(value = { 15, 20 }, zoneId = "UTC")
+        CharSequence charSequence;
+
+        @MinuteNotIn(value = { 15, 20 }, zoneId = "UTC")
+        Long epochMilli;
+
+        @MinuteNotIn(value = { 15, 20 }, zoneId = "UTC", payload = EpochValue.Seconds.class)
+        Long epochSecond;
+
         @MinuteNotIn(value = { 15, 20 }, zoneId = "UTC")
         Instant instant;
 
@@ -798,6 +1067,12 @@ class MinuteNotInTest extends AbstractConstraintTest {
         @MinuteNotIn({ 15, 20 })
         Calendar calendar;
 
+        @MinuteNotIn({ 15, 20 })
+        CharSequence charSequence;
+
+        @MinuteNotIn({ 15, 20 })
+        Long epochMilli;
+
         @MinuteNotIn({ 15, 20 })
         Instant instant;
 
@@ -824,6 +1099,12 @@ class MinuteNotInTest extends AbstractConstraintTest {
         @MinuteNotIn({})
         Calendar calendar;
 
+        @MinuteNotIn({})
+        CharSequence charSequence;
+
+        @MinuteNotIn({})
+        Long epochMilli;
+
         @MinuteNotIn({})
         Instant instant;
 
@@ -842,4 +1123,12 @@ class MinuteNotInTest extends AbstractConstraintTest {
         @MinuteNotIn({})
         ZonedDateTime zonedDateTime;
     }
+
+    private static final class TestClassWithDaylightSavingTimeZoneId {
+        @MinuteNotIn(value = { 15 }, zoneId = "Australia/Lord_Howe")
+        CharSequence charSequence;
+
+        @MinuteNotIn(value = { 15 }, zoneId = "Australia/Lord_Howe")
+        Long epochMilli;
+    }
 }
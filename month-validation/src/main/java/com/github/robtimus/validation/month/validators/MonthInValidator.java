@@ -35,6 +35,7 @@ import java.util.function.Function;
 import jakarta.validation.ClockProvider;
 import com.github.robtimus.validation.datetime.base.CalendarValidator;
 import com.github.robtimus.validation.datetime.base.DateValidator;
+import com.github.robtimus.validation.datetime.base.EpochValueValidator;
 import com.github.robtimus.validation.datetime.base.PartValidator;
 import com.github.robtimus.validation.month.MonthIn;
 
@@ -87,6 +88,21 @@ public final class MonthInValidator {
         }
     }
 
+    /**
+     * A constraint validator for {@link MonthIn} for {@link Long}.
+     *
+     * @author Rob Spoor
+     */
+    public static class ForLong extends EpochValueValidator<MonthIn> {
+
+        /**
+         * Creates a new validator.
+         */
+        public ForLong() {
+            super(new ForInstant());
+        }
+    }
+
     /**
      * A constraint validator for {@link MonthIn} for {@link Instant}.
      *
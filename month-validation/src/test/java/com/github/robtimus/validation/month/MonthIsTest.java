@@ -42,6 +42,7 @@ import org.junit.jupiter.api.TestInstance;
 import org.junit.jupiter.api.TestInstance.Lifecycle;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
+import com.github.robtimus.validation.datetime.base.EpochValue;
 
 @SuppressWarnings("nls")
 class MonthIsTest extends AbstractConstraintTest {
@@ -174,6 +175,75 @@ class MonthIsTest extends AbstractConstraintTest {
         }
     }
 
+    @Nested
+    @DisplayName("Long")
+    class ForLong extends AbstractNonProvidedZoneIdTest<Long> {
+
+        ForLong() {
+            super(TestClassWithProvidedZoneId.class, "epochMilli", System.currentTimeMillis());
+        }
+
+        @Nested
+        @DisplayName("with zone id")
+        class WithZoneId extends ConstraintTest<Long> {
+
+            WithZoneId() {
+                super(TestClassWithZoneId.class, "epochMilli",
+                        Arrays.asList(
+                                utcInstantAtOffset("2007-05-01T01:00:00Z", 1).toEpochMilli(),
+                                utcInstantAtOffset("2007-06-01T00:59:59.999Z", 1).toEpochMilli()
+                        ),
+                        utcInstantAtOffset("2007-05-01T00:59:59.999Z", 1).toEpochMilli(),
+                        utcInstantAtOffset("2007-06-01T01:00:00Z", 1).toEpochMilli());
+            }
+        }
+
+        @Nested
+        @DisplayName("with zone id and seconds")
+        class WithZoneIdAndSeconds extends ConstraintTest<Long> {
+
+            WithZoneIdAndSeconds() {
+                super(TestClassWithZoneId.class, "epochSecond",
+                        Arrays.asList(
+                                utcInstantAtOffset("2007-05-01T01:00:00Z", 1).getEpochSecond(),
+                                utcInstantAtOffset("2007-06-01T00:59:59Z", 1).getEpochSecond()
+                        ),
+                        utcInstantAtOffset("2007-05-01T00:59:59Z", 1).getEpochSecond(),
+                        utcInstantAtOffset("2007-06-01T01:00:00Z", 1).getEpochSecond());
+            }
+        }
+
+        @Nested
+        @DisplayName("with system zone id")
+        class WithSystemZoneId extends ConstraintTest<Long> {
+
+            WithSystemZoneId() {
+                super(TestClassWithSystemZoneId.class, "epochMilli",
+                        Arrays.asList(
+                                utcInstantAtOffsetAfterSystem("2007-05-01T01:00:00Z", 1).toEpochMilli(),
+                                utcInstantAtOffsetAfterSystem("2007-06-01T00:59:59.999Z", 1).toEpochMilli()
+                        ),
+                        utcInstantAtOffsetAfterSystem("2007-05-01T00:59:59.999Z", 1).toEpochMilli(),
+                        utcInstantAtOffsetAfterSystem("2007-06-01T01:00:00Z", 1).toEpochMilli());
+            }
+        }
+
+        @Nested
+        @DisplayName("with daylight saving time zone id")
+        class WithDaylightSavingTimeZoneId extends ConstraintTest<Long> {
+
+            WithDaylightSavingTimeZoneId() {
+                super(TestClassWithDaylightSavingTimeZoneId.class, "epochMilli",
+                        Arrays.asList(
+                                Instant.parse("2007-09-30T22:00:00Z").toEpochMilli(),
+                                Instant.parse("2007-10-31T22:59:59.999Z").toEpochMilli()
+                        ),
+                        Instant.parse("2007-09-30T21:59:59.999Z").toEpochMilli(),
+                        Instant.parse("2007-10-31T23:00:00Z").toEpochMilli());
+            }
+        }
+    }
+
     @Nested
     @DisplayName("LocalDate")
     class ForLocalDate extends AbstractSystemOnlyZoneIdTest<LocalDate> {
@@ -476,6 +546,9 @@ class MonthIsTest extends AbstractConstraintTest {
         @MonthIs(value = Month.MAY, zoneId = "provided")
         Calendar calendar;
 
+        @MonthIs(value = Month.MAY, zoneId = "provided")
+        Long epochMilli;
+
         @MonthIs(value = Month.MAY, zoneId = "provided")
         Instant instant;
 
@@ -508,6 +581,12 @@ class MonthIsTest extends AbstractConstraintTest {
         @MonthIs(value = Month.MAY, zoneId = "UTC")
         Calendar calendar;
 
+        @MonthIs(value = Month.MAY, zoneId = "UTC")
+        Long epochMilli;
+
+        @MonthIs(value = Month.MAY, zoneId = "UTC", payload = EpochValue.Seconds.class)
+        Long epochSecond;
+
         @MonthIs(value = Month.MAY, zoneId = "UTC")
         Instant instant;
 
@@ -540,6 +619,9 @@ class MonthIsTest extends AbstractConstraintTest {
         @MonthIs(Month.MAY)
         Calendar calendar;
 
+        @MonthIs(Month.MAY)
+        Long epochMilli;
+
         @MonthIs(Month.MAY)
         Instant instant;
 
@@ -564,4 +646,9 @@ class MonthIsTest extends AbstractConstraintTest {
         @MonthIs(Month.MAY)
         ZonedDateTime zonedDateTime;
     }
+
+    private static final class TestClassWithDaylightSavingTimeZoneId {
+        @MonthIs(value = Month.OCTOBER, zoneId = "Europe/Paris")
+        Long epochMilli;
+    }
 }
@@ -42,6 +42,7 @@ import org.junit.jupiter.api.TestInstance;
 import org.junit.jupiter.api.TestInstance.Lifecycle;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
+import com.github.robtimus.validation.datetime.base.EpochValue;
 
 @SuppressWarnings("nls")
 class MonthNotInTest extends AbstractConstraintTest {
@@ -291,6 +292,124 @@ class MonthNotInTest extends AbstractConstraintTest {
         }
     }
 
+    @Nested
+    @DisplayName("Long")
+    class ForLong extends AbstractNonProvidedZoneIdTest<Long> {
+
+        ForLong() {
+            super(TestClassWithProvidedZoneId.class, "epochMilli", System.currentTimeMillis());
+        }
+
+        @Nested
+        @DisplayName("with zone id")
+        class WithZoneId extends ConstraintTest<Long> {
+
+            WithZoneId() {
+                super(TestClassWithZoneId.class, "epochMilli",
+                        Arrays.asList(
+                                utcInstantAtOffset("2007-05-01T00:59:59.999Z", 1).toEpochMilli(),
+                                utcInstantAtOffset("2007-06-01T01:00:00Z", 1).toEpochMilli(),
+                                utcInstantAtOffset("2007-10-01T00:59:59.999Z", 1).toEpochMilli(),
+                                utcInstantAtOffset("2007-11-01T01:00:00Z", 1).toEpochMilli()
+                        ),
+                        Arrays.asList(
+                                utcInstantAtOffset("2007-05-01T01:00:00Z", 1).toEpochMilli(),
+                                utcInstantAtOffset("2007-06-01T00:59:59.999Z", 1).toEpochMilli(),
+                                utcInstantAtOffset("2007-10-01T01:00:00Z", 1).toEpochMilli(),
+                                utcInstantAtOffset("2007-11-01T00:59:59.999Z", 1).toEpochMilli()
+                        ));
+            }
+        }
+
+        @Nested
+        @DisplayName("with zone id and seconds")
+        class WithZoneIdAndSeconds extends ConstraintTest<Long> {
+
+            WithZoneIdAndSeconds() {
+                super(TestClassWithZoneId.class, "epochSecond",
+                        Arrays.asList(
+                                utcInstantAtOffset("2007-05-01T00:59:59Z", 1).getEpochSecond(),
+                                utcInstantAtOffset("2007-06-01T01:00:00Z", 1).getEpochSecond(),
+                                utcInstantAtOffset("2007-10-01T00:59:59Z", 1).getEpochSecond(),
+                                utcInstantAtOffset("2007-11-01T01:00:00Z", 1).getEpochSecond()
+                        ),
+                        Arrays.asList(
+                                utcInstantAtOffset("2007-05-01T01:00:00Z", 1).getEpochSecond(),
+                                utcInstantAtOffset("2007-06-01T00:59:59Z", 1).getEpochSecond(),
+                                utcInstantAtOffset("2007-10-01T01:00:00Z", 1).getEpochSecond(),
+                                utcInstantAtOffset("2007-11-01T00:59:59Z", 1).getEpochSecond()
+                        ));
+            }
+        }
+
+        @Nested
+        @DisplayName("with system zone id")
+        class WithSystemZoneId extends ConstraintTest<Long> {
+
+            WithSystemZoneId() {
+                super(TestClassWithSystemZoneId.class, "epochMilli",
+                        Arrays.asList(
+                                utcInstantAtOffsetAfterSystem("2007-05-01T00:59:59.999Z", 1).toEpochMilli(),
+                                utcInstantAtOffsetAfterSystem("2007-06-01T01:00:00Z", 1).toEpochMilli(),
+                                utcInstantAtOffsetAfterSystem("2007-10-01T00:59:59.999Z", 1).toEpochMilli(),
+                                utcInstantAtOffsetAfterSystem("2007-11-01T01:00:00Z", 1).toEpochMilli()
+                        ),
+                        Arrays.asList(
+                                utcInstantAtOffsetAfterSystem("2007-05-01T01:00:00Z", 1).toEpochMilli(),
+                                utcInstantAtOffsetAfterSystem("2007-06-01T00:59:59.999Z", 1).toEpochMilli(),
+                                utcInstantAtOffsetAfterSystem("2007-10-01T01:00:00Z", 1).toEpochMilli(),
+                                utcInstantAtOffsetAfterSystem("2007-11-01T00:59:59.999Z", 1).toEpochMilli()
+                        ));
+            }
+        }
+
+        @Nested
+        @DisplayName("with daylight saving time zone id")
+        class WithDaylightSavingTimeZoneId extends ConstraintTest<Long> {
+
+            WithDaylightSavingTimeZoneId() {
+                super(TestClassWithDaylightSavingTimeZoneId.class, "epochMilli",
+                        Arrays.asList(
+                                Instant.parse("2007-02-28T22:59:59.999Z").toEpochMilli(),
+                                Instant.parse("2007-03-31T22:00:00Z").toEpochMilli(),
+                                Instant.parse("2007-09-30T21:59:59.999Z").toEpochMilli(),
+                                Instant.parse("2007-10-31T23:00:00Z").toEpochMilli()
+                        ),
+                        Arrays.asList(
+                                Instant.parse("2007-02-28T23:00:00Z").toEpochMilli(),
+                                Instant.parse("2007-03-31T21:59:59.999Z").toEpochMilli(),
+                                Instant.parse("2007-09-30T22:00:00Z").toEpochMilli(),
+                                Instant.parse("2007-10-31T22:59:59.999Z").toEpochMilli()
+                        ));
+            }
+        }
+
+        @Nested
+        @DisplayName("with no values")
+        class WithNoValues extends ConstraintTest<Long> {
+
+            WithNoValues() {
+                super(TestClassWithNoValues.class, "epochMilli",
+                        Arrays.asList(
+                                utcInstantAtOffsetAfterSystem("2007-05-01T00:59:59.999Z", 1).toEpochMilli(),
+                                utcInstantAtOffsetAfterSystem("2007-05-01T01:00:00Z", 1).toEpochMilli(),
+                                utcInstantAtOffsetAfterSystem("2007-06-01T00:59:59.999Z", 1).toEpochMilli(),
+                                utcInstantAtOffsetAfterSystem("2007-06-01T01:00:00Z", 1).toEpochMilli(),
+                                utcInstantAtOffsetAfterSystem("2007-10-01T00:59:59.999Z", 1).toEpochMilli(),
+                                utcInstantAtOffsetAfterSystem("2007-10-01T01:00:00Z", 1).toEpochMilli(),
+                                utcInstantAtOffsetAfterSystem("2007-11-01T00:59:59.999Z", 1).toEpochMilli(),
+                                utcInstantAtOffsetAfterSystem("2007-11-01T01:00:00Z", 1).toEpochMilli()
+                        ),
+                        Collections.emptyList());
+            }
+
+            @Override
+            void testNotAllowedValue(Long allowedValue) {
+                throw new UnsupportedOperationException();
+            }
+        }
+    }
+
     @Nested
     @DisplayName("LocalDate")
     class ForLocalDate extends AbstractSystemOnlyZoneIdTest<LocalDate> {
@@ -820,6 +939,9 @@ class MonthNotInTest extends AbstractConstraintTest {
         @MonthNotIn(value = { Month.MAY, Month.OCTOBER }, zoneId = "provided")
         Calendar calendar;
 
+        @MonthNotIn(value = { Month.MAY, Month.OCTOBER }, zoneId = "provided")
+        Long epochMilli;
+
         @MonthNotIn(value = { Month.MAY, Month.OCTOBER }, zoneId = "provided")
         Instant instant;
 
@@ -852,6 +974,12 @@ class MonthNotInTest extends AbstractConstraintTest {
         @MonthNotIn(value = { Month.MAY, Month.OCTOBER }, zoneId = "UTC")
         Calendar calendar;
 
+        @MonthNotIn(value = { Month.MAY, Month.OCTOBER }, zoneId = "UTC")
+        Long epochMilli;
+
+        @MonthNotIn(value = { Month.MAY, Month.OCTOBER }, zoneId = "UTC", payload = EpochValue.Seconds.class)
+        Long epochSecond;
+
         @MonthNotIn(value = { Month.MAY, Month.OCTOBER }, zoneId = "UTC")
         Instant instant;
 
@@ -884,6 +1012,9 @@ class MonthNotInTest extends AbstractConstraintTest {
         @MonthNotIn({ Month.MAY, Month.OCTOBER })
         Calendar calendar;
 
+        @MonthNotIn({ Month.MAY, Month.OCTOBER })
+        Long epochMilli;
+
         @MonthNotIn({ Month.MAY, Month.OCTOBER })
         Instant instant;
 
@@ -916,6 +1047,9 @@ class MonthNotInTest extends AbstractConstraintTest {
         @MonthNotIn({})
         Calendar calendar;
 
+        @MonthNotIn({})
+        Long epochMilli;
+
         @MonthNotIn({})
         Instant instant;
 
@@ -940,4 +1074,9 @@ class MonthNotInTest extends AbstractConstraintTest {
         @MonthNotIn({})
         ZonedDateTime zonedDateTime;
     }
+
+    private static final class TestClassWithDaylightSavingTimeZoneId {
+        @MonthNotIn(value = { Month.MARCH, Month.OCTOBER }, zoneId = "Europe/Paris")
+        Long epochMilli;
+    }
 }
@@ -42,6 +42,8 @@ import com.github.robtimus.validation.time.precision.validators.MicrosecondPreci
  * <p>
  * Supported types are:
  * <ul>
+ * <li>{@link java.lang.CharSequence}, if it contains an ISO 8601 time, local date-time or offset date-time</li>
+ * <li>{@link java.lang.Long}, as epoch value in the unit defined by {@link com.github.robtimus.validation.datetime.base.EpochValue}</li>
  * <li>{@link java.time.temporal.TemporalAccessor}, as long as the implementation supports {@link ChronoField#NANO_OF_SECOND} as argument for
  *     {@link TemporalAccessor#get(TemporalField)}</li>
  * </ul>
@@ -53,7 +55,10 @@ import com.github.robtimus.validation.time.precision.validators.MicrosecondPreci
  * @author Rob Spoor
  */
 @Documented
-@Constraint(validatedBy = MicrosecondPrecisionValidator.ForTemporalAccessor.class)
+@Constraint(validatedBy = { MicrosecondPrecisionValidator.ForCharSequence.class,
+        MicrosecondPrecisionValidator.ForLong.class,
+        MicrosecondPrecisionValidator.ForTemporalAccessor.class
+})
 @Target({ METHOD, FIELD, ANNOTATION_TYPE, CONSTRUCTOR, PARAMETER, TYPE_USE })
 @Retention(RUNTIME)
 @Repeatable(List.class)
@@ -44,6 +44,8 @@ import com.github.robtimus.validation.time.precision.validators.MinutePrecisionV
  * <ul>
  * <li>{@link java.util.Date}</li>
  * <li>{@link java.util.Calendar}</li>
+ * <li>{@link java.lang.CharSequence}, if it contains an ISO 8601 time, local date-time or offset date-time</li>
+ * <li>{@link java.lang.Long}, as epoch value in the unit defined by {@link com.github.robtimus.validation.datetime.base.EpochValue}</li>
  * <li>{@link java.time.Instant}</li>
  * <li>{@link java.time.temporal.TemporalAccessor}, as long as the implementation supports both {@link ChronoField#SECOND_OF_MINUTE} and
  *     {@link ChronoField#NANO_OF_SECOND} as argument {@link TemporalAccessor#get(TemporalField)}</li>
@@ -56,6 +58,8 @@ import com.github.robtimus.validation.time.precision.validators.MinutePrecisionV
 @Documented
 @Constraint(validatedBy = { MinutePrecisionValidator.ForDate.class,
         MinutePrecisionValidator.ForCalendar.class,
+        MinutePrecisionValidator.ForCharSequence.class,
+        MinutePrecisionValidator.ForLong.class,
         MinutePrecisionValidator.ForInstant.class,
         MinutePrecisionValidator.ForTemporalAccessor.class
 })
@@ -44,6 +44,8 @@ import com.github.robtimus.validation.time.precision.validators.SecondPrecisionV
  * <ul>
  * <li>{@link java.util.Date}</li>
  * <li>{@link java.util.Calendar}</li>
+ * <li>{@link java.lang.CharSequence}, if it contains an ISO 8601 time, local date-time or offset date-time</li>
+ * <li>{@link java.lang.Long}, as epoch value in the unit defined by {@link com.github.robtimus.validation.datetime.base.EpochValue}</li>
  * <li>{@link java.time.temporal.TemporalAccessor}, as long as the implementation supports {@link ChronoField#NANO_OF_SECOND} as argument for
  *     {@link TemporalAccessor#get(TemporalField)}</li>
  * </ul>
@@ -55,6 +57,8 @@ import com.github.robtimus.validation.time.precision.validators.SecondPrecisionV
 @Documented
 @Constraint(validatedBy = { SecondPrecisionValidator.ForDate.class,
         SecondPrecisionValidator.ForCalendar.class,
+        SecondPrecisionValidator.ForCharSequence.class,
+        SecondPrecisionValidator.ForLong.class,
         SecondPrecisionValidator.ForTemporalAccessor.class
 })
 @Target({ METHOD, FIELD, ANNOTATION_TYPE, CONSTRUCTOR, PARAMETER, TYPE_USE })
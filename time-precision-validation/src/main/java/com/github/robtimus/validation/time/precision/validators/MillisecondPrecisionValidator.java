@@ -21,7 +21,10 @@ import java.time.temporal.ChronoField;
 import java.time.temporal.TemporalAccessor;
 import java.util.function.BiPredicate;
 import java.util.function.Function;
+import java.util.function.LongPredicate;
 import jakarta.validation.ClockProvider;
+import com.github.robtimus.validation.datetime.base.CharSequenceValidator;
+import com.github.robtimus.validation.datetime.base.EpochValueValidator;
 import com.github.robtimus.validation.datetime.base.ValueValidator;
 import com.github.robtimus.validation.time.precision.MillisecondPrecision;
 
@@ -37,9 +40,41 @@ public final class MillisecondPrecisionValidator {
 
     private static final Function<MillisecondPrecision, BiPredicate<TemporalAccessor, ClockProvider>> PREDICATE_EXTRACTOR = annotation -> PREDICATE;
 
+    private static final LongPredicate NANO_OF_DAY_PREDICATE = nanoOfDay -> nanoOfDay % 1000_000 == 0;
+
     private MillisecondPrecisionValidator() {
     }
 
+    /**
+     * A constraint validator for {@link MillisecondPrecision} for {@link CharSequence}.
+     *
+     * @author Rob Spoor
+     */
+    public static class ForCharSequence extends CharSequenceValidator<MillisecondPrecision> {
+
+        /**
+         * Creates a new validator.
+         */
+        public ForCharSequence() {
+            super(NANO_OF_DAY_PREDICATE);
+        }
+    }
+
+    /**
+     * A constraint validator for {@link MillisecondPrecision} for {@link Long}.
+     *
+     * @author Rob Spoor
+     */
+    public static class ForLong extends EpochValueValidator<MillisecondPrecision> {
+
+        /**
+         * Creates a new validator.
+         */
+        public ForLong() {
+            super(NANO_OF_DAY_PREDICATE);
+        }
+    }
+
     /**
      * A constraint validator for {@link MillisecondPrecision} for {@link TemporalAccessor}.
      *
@@ -25,9 +25,12 @@ import java.util.Calendar;
 import java.util.Date;
 import java.util.function.BiPredicate;
 import java.util.function.Function;
+import java.util.function.LongPredicate;
 import jakarta.validation.ClockProvider;
 import com.github.robtimus.validation.datetime.base.CalendarValidator;
+import com.github.robtimus.validation.datetime.base.CharSequenceValidator;
 import com.github.robtimus.validation.datetime.base.DateValidator;
+import com.github.robtimus.validation.datetime.base.EpochValueValidator;
 import com.github.robtimus.validation.datetime.base.ValueValidator;
 import com.github.robtimus.validation.time.precision.MinutePrecision;
 
@@ -43,6 +46,8 @@ public final class MinutePrecisionValidator {
 
     private static final Function<MinutePrecision, BiPredicate<TemporalAccessor, ClockProvider>> PREDICATE_EXTRACTOR = annotation -> PREDICATE;
 
+    private static final LongPredicate NANO_OF_DAY_PREDICATE = nanoOfDay -> nanoOfDay % 60_000_000_000L == 0;
+
     private static final BiPredicate<Instant, ClockProvider> INSTANT_PREDICATE = (value, provider)
             -> PREDICATE.test(value.atZone(ZoneOffset.UTC), provider);
 
@@ -81,6 +86,36 @@ public final class MinutePrecisionValidator {
         }
     }
 
+    /**
+     * A constraint validator for {@link MinutePrecision} for {@link CharSequence}.
+     *
+     * @author Rob Spoor
+     */
+    public static class ForCharSequence extends CharSequenceValidator<MinutePrecision> {
+
+        /**
+         * Creates a new validator.
+         */
+        public ForCharSequence() {
+            super(NANO_OF_DAY_PREDICATE);
+        }
+    }
+
+    /**
+     * A constraint validator for {@link MinutePrecision} for {@link Long}.
+     *
+     * @author Rob Spoor
+     */
+    public static class ForLong extends EpochValueValidator<MinutePrecision> {
+
+        /**
+         * Creates a new validator.
+         */
+        public ForLong() {
+            super(NANO_OF_DAY_PREDICATE);
+        }
+    }
+
     /**
      * A constraint validator for {@link MinutePrecision} for {@link Instant}.
      *
@@ -23,9 +23,12 @@ import java.util.Calendar;
 import java.util.Date;
 import java.util.function.BiPredicate;
 import java.util.function.Function;
+import java.util.function.LongPredicate;
 import jakarta.validation.ClockProvider;
 import com.github.robtimus.validation.datetime.base.CalendarValidator;
+import com.github.robtimus.validation.datetime.base.CharSequenceValidator;
 import com.github.robtimus.validation.datetime.base.DateValidator;
+import com.github.robtimus.validation.datetime.base.EpochValueValidator;
 import com.github.robtimus.validation.datetime.base.ValueValidator;
 import com.github.robtimus.validation.time.precision.SecondPrecision;
 
@@ -40,6 +43,8 @@ public final class SecondPrecisionValidator {
 
     private static final Function<SecondPrecision, BiPredicate<TemporalAccessor, ClockProvider>> PREDICATE_EXTRACTOR = annotation -> PREDICATE;
 
+    private static final LongPredicate NANO_OF_DAY_PREDICATE = nanoOfDay -> nanoOfDay % 1_000_000_000L == 0;
+
     private SecondPrecisionValidator() {
     }
 
@@ -73,6 +78,36 @@ public final class SecondPrecisionValidator {
         }
     }
 
+    /**
+     * A constraint validator for {@link SecondPrecision} for {@link CharSequence}.
+     *
+     * @author Rob Spoor
+     */
+    public static class ForCharSequence extends CharSequenceValidator<SecondPrecision> {
+
+        /**
+         * Creates a new validator.
+         */
+        public ForCharSequence() {
+            super(NANO_OF_DAY_PREDICATE);
+        }
+    }
+
+    /**
+     * A constraint validator for {@link SecondPrecision} for {@link Long}.
+     *
+     * @author Rob Spoor
+     */
+    public static class ForLong extends EpochValueValidator<SecondPrecision> {
+
+        /**
+         * Creates a new validator.
+         */
+        public ForLong() {
+            super(NANO_OF_DAY_PREDICATE);
+        }
+    }
+
     /**
      * A constraint validator for {@link SecondPrecision} for {@link TemporalAccessor}.
      *
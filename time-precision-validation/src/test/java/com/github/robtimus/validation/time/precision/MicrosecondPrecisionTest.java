@@ -50,6 +50,7 @@ import org.junit.jupiter.api.TestInstance;
 import org.junit.jupiter.api.TestInstance.Lifecycle;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
+import com.github.robtimus.validation.datetime.base.EpochValue;
 
 @SuppressWarnings("nls")
 class MicrosecondPrecisionTest extends AbstractConstraintTest {
@@ -72,6 +73,59 @@ class MicrosecondPrecisionTest extends AbstractConstraintTest {
         }
     }
 
+    @Nested
+    @DisplayName("CharSequence")
+    class ForCharSequence extends ConstraintTest<CharSequence> {
+
+        ForCharSequence() {
+            super("charSequence",
+                    Arrays.asList(
+                            "10:45",
+                            "10:45:01",
+                            "10:45:01.000001",
+                            "2007-12-03T10:45:59.999999",
+                            "2007-12-03T10:45:00.000001000+01:00",
+                            "2007-10-28T02:30:00.123456+02:00",
+                            "2007-10-28T02:30:00.123456000+01:00"
+                    ),
+                    Arrays.asList(
+                            "10:45:00.0000001",
+                            "10:45:01.999999999",
+                            "2007-12-03T10:45:01.000000001Z",
+                            "2007-10-28T02:30:00.1234567+02:00",
+                            "2007-10-28T02:30:00.123456001+01:00",
+                            "2007-12-03",
+                            "not a time"
+                    ));
+        }
+    }
+
+    @Nested
+    @DisplayName("Long")
+    class ForLong {
+
+        @Nested
+        @DisplayName("with nanoseconds")
+        class WithNanoseconds extends ConstraintTest<Long> {
+
+            WithNanoseconds() {
+                super("epochNano",
+                        Arrays.asList(
+                                1_196_678_700_000_000_000L,
+                                1_196_678_700_000_001_000L,
+                                0L,
+                                -1_000L
+                        ),
+                        Arrays.asList(
+                                1_196_678_700_000_000_001L,
+                                1_196_678_700_000_000_999L,
+                                -1L,
+                                -999L
+                        ));
+            }
+        }
+    }
+
     @Nested
     @DisplayName("DayOfWeek")
     class ForDayOfWeek extends NotSupportedTest<DayOfWeek> {
@@ -430,6 +484,12 @@ class MicrosecondPrecisionTest extends AbstractConstraintTest {
         @MicrosecondPrecision
         Calendar calendar;
 
+        @MicrosecondPrecision
+        CharSequence charSequence;
+
+        @MicrosecondPrecision(payload = EpochValue.Nanoseconds.class)
+        Long epochNano;
+
         @MicrosecondPrecision
         TemporalAccessor temporalAccessor;
     }
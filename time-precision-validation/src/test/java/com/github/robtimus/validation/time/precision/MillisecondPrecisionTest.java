@@ -50,6 +50,7 @@ import org.junit.jupiter.api.TestInstance;
 import org.junit.jupiter.api.TestInstance.Lifecycle;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
+import com.github.robtimus.validation.datetime.base.EpochValue;
 
 @SuppressWarnings("nls")
 class MillisecondPrecisionTest extends AbstractConstraintTest {
@@ -72,6 +73,81 @@ class MillisecondPrecisionTest extends AbstractConstraintTest {
         }
     }
 
+    @Nested
+    @DisplayName("CharSequence")
+    class ForCharSequence extends ConstraintTest<CharSequence> {
+
+        ForCharSequence() {
+            super("charSequence",
+                    Arrays.asList(
+                            "10:45",
+                            "10:45:01",
+                            "10:45:01.001",
+                            "2007-12-03T10:45:59.999",
+                            "2007-12-03T10:45:00.000000+01:00",
+                            "2007-10-28T02:30:00.123+02:00",
+                            "2007-10-28T02:30:00.123000+01:00"
+                    ),
+                    Arrays.asList(
+                            "10:45:00.0001",
+                            "10:45:01.999999999",
+                            "2007-12-03T10:45:01.000001",
+                            "2007-12-03T10:45:59.5001Z",
+                            "2007-10-28T02:30:00.1234+02:00",
+                            "2007-10-28T02:30:00.123000001+01:00",
+                            "2007-12-03",
+                            "not a time"
+                    ));
+        }
+    }
+
+    @Nested
+    @DisplayName("Long")
+    class ForLong {
+
+        @Nested
+        @DisplayName("with microseconds")
+        class WithMicroseconds extends ConstraintTest<Long> {
+
+            WithMicroseconds() {
+                super("epochMicro",
+                        Arrays.asList(
+                                1_196_678_700_000_000L,
+                                1_196_678_700_001_000L,
+                                0L,
+                                -1_000L
+                        ),
+                        Arrays.asList(
+                                1_196_678_700_000_001L,
+                                1_196_678_700_000_999L,
+                                -1L,
+                                -999L
+                        ));
+            }
+        }
+
+        @Nested
+        @DisplayName("with nanoseconds")
+        class WithNanoseconds extends ConstraintTest<Long> {
+
+            WithNanoseconds() {
+                super("epochNano",
+                        Arrays.asList(
+                                1_196_678_700_000_000_000L,
+                                1_196_678_700_001_000_000L,
+                                0L,
+                                -1_000_000L
+                        ),
+                        Arrays.asList(
+                                1_196_678_700_000_000_001L,
+                                1_196_678_700_000_999_999L,
+                                -1L,
+                                -999_999L
+                        ));
+            }
+        }
+    }
+
     @Nested
     @DisplayName("DayOfWeek")
     class ForDayOfWeek extends NotSupportedTest<DayOfWeek> {
@@ -430,6 +506,15 @@ class MillisecondPrecisionTest extends AbstractConstraintTest {
         @MillisecondPrecision
         Calendar calendar;
 
+        @MillisecondPrecision
+        CharSequence charSequence;
+
+        @MillisecondPrecision(payload = EpochValue.Microseconds.class)
+        Long epochMicro;
+
+        @MillisecondPrecision(payload = EpochValue.Nanoseconds.class)
+        Long epochNano;
+
         @MillisecondPrecision
         TemporalAccessor temporalAccessor;
     }
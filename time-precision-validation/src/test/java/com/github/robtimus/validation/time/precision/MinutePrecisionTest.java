@@ -50,6 +50,7 @@ import org.junit.jupiter.api.TestInstance;
 import org.junit.jupiter.api.TestInstance.Lifecycle;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
+import com.github.robtimus.validation.datetime.base.EpochValue;
 
 @SuppressWarnings("nls")
 class MinutePrecisionTest extends AbstractConstraintTest {
@@ -98,6 +99,78 @@ class MinutePrecisionTest extends AbstractConstraintTest {
         }
     }
 
+    @Nested
+    @DisplayName("CharSequence")
+    class ForCharSequence extends ConstraintTest<CharSequence> {
+
+        ForCharSequence() {
+            super("charSequence",
+                    Arrays.asList(
+                            "10:45",
+                            "10:45:00",
+                            "2007-12-03T10:45",
+                            "2007-12-03T10:45:00.000+01:00",
+                            "2007-10-28T02:30+02:00",
+                            "2007-10-28T02:30:00.000000000+01:00"
+                    ),
+                    Arrays.asList(
+                            "10:45:01",
+                            "10:45:00.001",
+                            "2007-12-03T10:45:59.999999999",
+                            "2007-12-03T10:45:00.000000001Z",
+                            "2007-10-28T02:30:01+02:00",
+                            "2007-10-28T02:30:00.5+01:00",
+                            "2007-12-03",
+                            "not a time"
+                    ));
+        }
+    }
+
+    @Nested
+    @DisplayName("Long")
+    class ForLong {
+
+        @Nested
+        @DisplayName("with seconds")
+        class WithSeconds extends ConstraintTest<Long> {
+
+            WithSeconds() {
+                super("epochSecond",
+                        Arrays.asList(
+                                Instant.parse("2007-12-03T10:45:00Z").getEpochSecond(),
+                                0L,
+                                -60L
+                        ),
+                        Arrays.asList(
+                                Instant.parse("2007-12-03T10:45:01Z").getEpochSecond(),
+                                Instant.parse("2007-12-03T10:45:59Z").getEpochSecond(),
+                                -1L,
+                                -59L
+                        ));
+            }
+        }
+
+        @Nested
+        @DisplayName("with milliseconds")
+        class WithMilliseconds extends ConstraintTest<Long> {
+
+            WithMilliseconds() {
+                super("epochMilli",
+                        Arrays.asList(
+                                Instant.parse("2007-12-03T10:45:00Z").toEpochMilli(),
+                                0L,
+                                -60_000L
+                        ),
+                        Arrays.asList(
+                                Instant.parse("2007-12-03T10:45:00.001Z").toEpochMilli(),
+                                Instant.parse("2007-12-03T10:45:59.999Z").toEpochMilli(),
+                                -1L,
+                                -59_999L
+                        ));
+            }
+        }
+    }
+
     @Nested
     @DisplayName("DayOfWeek")
     class ForDayOfWeek extends NotSupportedTest<DayOfWeek> {
@@ -437,6 +510,15 @@ class MinutePrecisionTest extends AbstractConstraintTest {
         @MinutePrecision
         Calendar calendar;
 
+        @MinutePrecision
+        CharSequence charSequence;
+
+        @MinutePrecision
+        Long epochMilli;
+
+        @MinutePrecision(payload = EpochValue.Seconds.class)
+        Long epochSecond;
+
         @MinutePrecision
         Instant instant;
 
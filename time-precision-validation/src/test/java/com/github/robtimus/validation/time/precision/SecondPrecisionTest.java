@@ -50,6 +50,7 @@ import org.junit.jupiter.api.TestInstance;
 import org.junit.jupiter.api.TestInstance.Lifecycle;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
+import com.github.robtimus.validation.datetime.base.EpochValue;
 
 @SuppressWarnings("nls")
 class SecondPrecisionTest extends AbstractConstraintTest {
@@ -98,6 +99,73 @@ class SecondPrecisionTest extends AbstractConstraintTest {
         }
     }
 
+    @Nested
+    @DisplayName("CharSequence")
+    class ForCharSequence extends ConstraintTest<CharSequence> {
+
+        ForCharSequence() {
+            super("charSequence",
+                    Arrays.asList(
+                            "10:45",
+                            "10:45:01",
+                            "2007-12-03T10:45:59",
+                            "2007-12-03T10:45:00.000+01:00"
+                    ),
+                    Arrays.asList(
+                            "10:45:00.001",
+                            "10:45:01.999999999",
+                            "2007-12-03T10:45:01.000001",
+                            "2007-12-03T10:45:59.5Z",
+                            "2007-12-03",
+                            "not a time"
+                    ));
+        }
+    }
+
+    @Nested
+    @DisplayName("Long")
+    class ForLong {
+
+        @Nested
+        @DisplayName("with milliseconds")
+        class WithMilliseconds extends ConstraintTest<Long> {
+
+            WithMilliseconds() {
+                super("epochMilli",
+                        Arrays.asList(
+                                Instant.parse("2007-12-03T10:45:00Z").toEpochMilli(),
+                                Instant.parse("2007-12-03T10:45:59Z").toEpochMilli(),
+                                0L,
+                                -1000L
+                        ),
+                        Arrays.asList(
+                                Instant.parse("2007-12-03T10:45:00.001Z").toEpochMilli(),
+                                Instant.parse("2007-12-03T10:45:00.999Z").toEpochMilli(),
+                                -1L,
+                                -999L
+                        ));
+            }
+        }
+
+        @Nested
+        @DisplayName("with microseconds")
+        class WithMicroseconds extends ConstraintTest<Long> {
+
+            WithMicroseconds() {
+                super("epochMicro",
+                        Arrays.asList(
+                                1_196_678_700_000_000L,
+                                -1_000_000L
+                        ),
+                        Arrays.asList(
+                                1_196_678_700_000_001L,
+                                1_196_678_700_999_999L,
+                                -1L
+                        ));
+            }
+        }
+    }
+
     @Nested
     @DisplayName("DayOfWeek")
     class ForDayOfWeek extends NotSupportedTest<DayOfWeek> {
@@ -437,6 +505,15 @@ class SecondPrecisionTest extends AbstractConstraintTest {
         @SecondPrecision
         Calendar calendar;
 
+        @SecondPrecision
+        CharSequence charSequence;
+
+        @SecondPrecision
+        Long epochMilli;
+
+        @SecondPrecision(payload = EpochValue.Microseconds.class)
+        Long epochMicro;
+
         @SecondPrecision
         TemporalAccessor temporalAccessor;
     }
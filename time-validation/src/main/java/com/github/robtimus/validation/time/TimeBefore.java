@@ -46,6 +46,8 @@ import com.github.robtimus.validation.time.validators.TimeBeforeValidator;
  * <ul>
  * <li>{@link java.util.Date}</li>
  * <li>{@link java.util.Calendar}</li>
+ * <li>{@link java.lang.CharSequence}, if it contains an ISO 8601 local date-time or offset date-time</li>
+ * <li>{@link java.lang.Long}, as epoch value in the unit defined by {@link com.github.robtimus.validation.datetime.base.EpochValue}</li>
  * <li>{@link java.time.Instant}</li>
  * <li>{@link java.time.LocalDateTime}</li>
  * <li>{@link java.time.OffsetDateTime}</li>
@@ -59,6 +61,8 @@ import com.github.robtimus.validation.time.validators.TimeBeforeValidator;
 @Documented
 @Constraint(validatedBy = { TimeBeforeValidator.ForDate.class,
         TimeBeforeValidator.ForCalendar.class,
+        TimeBeforeValidator.ForCharSequence.class,
+        TimeBeforeValidator.ForLong.class,
         TimeBeforeValidator.ForInstant.class,
         TimeBeforeValidator.ForLocalDateTime.class,
         TimeBeforeValidator.ForOffsetDateTime.class,
@@ -98,7 +102,8 @@ public @interface TimeBefore {
      * <ul>
      * <li>For {@link java.util.Calendar}, {@link java.time.OffsetDateTime} and {@link java.time.ZonedDateTime}, if the zone id is not
      *     {@code provided}, the value is converted to the given zone id before extracting the time.</li>
-     * <li>For {@link java.util.Date} and {@link java.time.Instant}, no zone id is available, so {@code provided} is not allowed.</li>
+     * <li>For {@link java.util.Date}, {@link java.time.Instant} and {@link java.lang.Long}, no zone id is available, so {@code provided} is not
+     *     allowed.</li>
      * <li>For {@link java.time.LocalDateTime}, no zone id is applicable, so only the default value ({@code system}) is allowed.</li>
      * </ul>
      */
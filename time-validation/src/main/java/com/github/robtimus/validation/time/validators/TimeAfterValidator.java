@@ -25,7 +25,10 @@ import java.time.ZonedDateTime;
 import java.util.Calendar;
 import java.util.Date;
 import com.github.robtimus.validation.datetime.base.CalendarValidator;
+import com.github.robtimus.validation.datetime.base.CharSequenceValidator;
 import com.github.robtimus.validation.datetime.base.DateValidator;
+import com.github.robtimus.validation.datetime.base.EpochValueValidator;
+import com.github.robtimus.validation.datetime.base.MomentParsers;
 import com.github.robtimus.validation.datetime.base.MomentPartValidator;
 import com.github.robtimus.validation.time.TimeAfter;
 
@@ -69,6 +72,36 @@ public final class TimeAfterValidator {
         }
     }
 
+    /**
+     * A constraint validator for {@link TimeAfter} for {@link CharSequence}.
+     *
+     * @author Rob Spoor
+     */
+    public static class ForCharSequence extends CharSequenceValidator<TimeAfter> {
+
+        /**
+         * Creates a new validator.
+         */
+        public ForCharSequence() {
+            super(new ForOffsetDateTime(), new ForLocalDateTime(), null, null);
+        }
+    }
+
+    /**
+     * A constraint validator for {@link TimeAfter} for {@link Long}.
+     *
+     * @author Rob Spoor
+     */
+    public static class ForLong extends EpochValueValidator<TimeAfter> {
+
+        /**
+         * Creates a new validator.
+         */
+        public ForLong() {
+            super(new ForInstant());
+        }
+    }
+
     /**
      * A constraint validator for {@link TimeAfter} for {@link Instant}.
      *
@@ -80,7 +113,8 @@ public final class TimeAfterValidator {
          * Creates a new validator.
          */
         public ForInstant() {
-            super(TimeAfter::moment, LocalTime::parse, LocalTime::now, TimeAfter::zoneId, ZonedDateTime::toLocalTime, LocalTime::isAfter);
+            super(TimeAfter::moment, MomentParsers.LOCAL_TIME, LocalTime::now, TimeAfter::zoneId, ZonedDateTime::toLocalTime,
+                    comparison(LocalTime::isAfter));
         }
     }
 
@@ -95,7 +129,8 @@ public final class TimeAfterValidator {
          * Creates a new validator.
          */
         public ForLocalDateTime() {
-            super(TimeAfter::moment, LocalTime::parse, LocalTime::now, TimeAfter::zoneId, LocalDateTime::toLocalTime, LocalTime::isAfter);
+            super(TimeAfter::moment, MomentParsers.LOCAL_TIME, LocalTime::now, TimeAfter::zoneId, LocalDateTime::toLocalTime,
+                    comparison(LocalTime::isAfter));
         }
     }
 
@@ -110,9 +145,9 @@ public final class TimeAfterValidator {
          * Creates a new validator.
          */
         public ForOffsetDateTime() {
-            super(TimeAfter::moment, LocalTime::parse, LocalTime::now, TimeAfter::zoneId,
+            super(TimeAfter::moment, MomentParsers.LOCAL_TIME, LocalTime::now, TimeAfter::zoneId,
                     OffsetDateTime::toLocalTime, OffsetDateTime::atZoneSameInstant, ZonedDateTime::toLocalTime,
-                    LocalTime::isAfter);
+                    comparison(LocalTime::isAfter));
         }
     }
 
@@ -127,7 +162,8 @@ public final class TimeAfterValidator {
          * Creates a new validator.
          */
         public ForZonedDateTime() {
-            super(TimeAfter::moment, LocalTime::parse, LocalTime::now, TimeAfter::zoneId, ZonedDateTime::toLocalTime, LocalTime::isAfter);
+            super(TimeAfter::moment, MomentParsers.LOCAL_TIME, LocalTime::now, TimeAfter::zoneId, ZonedDateTime::toLocalTime,
+                    comparison(LocalTime::isAfter));
         }
     }
 }
@@ -25,7 +25,10 @@ import java.time.ZonedDateTime;
 import java.util.Calendar;
 import java.util.Date;
 import com.github.robtimus.validation.datetime.base.CalendarValidator;
+import com.github.robtimus.validation.datetime.base.CharSequenceValidator;
 import com.github.robtimus.validation.datetime.base.DateValidator;
+import com.github.robtimus.validation.datetime.base.EpochValueValidator;
+import com.github.robtimus.validation.datetime.base.MomentParsers;
 import com.github.robtimus.validation.datetime.base.MomentPartValidator;
 import com.github.robtimus.validation.time.TimeBefore;
 
@@ -69,6 +72,36 @@ public final class TimeBeforeValidator {
         }
     }
 
+    /**
+     * A constraint validator for {@link TimeBefore} for {@link CharSequence}.
+     *
+     * @author Rob Spoor
+     */
+    public static class ForCharSequence extends CharSequenceValidator<TimeBefore> {
+
+        /**
+         * Creates a new validator.
+         */
+        public ForCharSequence() {
+            super(new ForOffsetDateTime(), new ForLocalDateTime(), null, null);
+        }
+    }
+
+    /**
+     * A constraint validator for {@link TimeBefore} for {@link Long}.
+     *
+     * @author Rob Spoor
+     */
+    public static class ForLong extends EpochValueValidator<TimeBefore> {
+
+        /**
+         * Creates a new validator.
+         */
+        public ForLong() {
+            super(new ForInstant());
+        }
+    }
+
     /**
      * A constraint validator for {@link TimeBefore} for {@link Instant}.
      *
@@ -80,7 +113,8 @@ public final class TimeBeforeValidator {
          * Creates a new validator.
          */
         public ForInstant() {
-            super(TimeBefore::moment, LocalTime::parse, LocalTime::now, TimeBefore::zoneId, ZonedDateTime::toLocalTime, LocalTime::isBefore);
+            super(TimeBefore::moment, MomentParsers.LOCAL_TIME, LocalTime::now, TimeBefore::zoneId, ZonedDateTime::toLocalTime,
+                    comparison(LocalTime::isBefore));
         }
     }
 
@@ -95,7 +129,8 @@ public final class TimeBeforeValidator {
          * Creates a new validator.
          */
         public ForLocalDateTime() {
-            super(TimeBefore::moment, LocalTime::parse, LocalTime::now, TimeBefore::zoneId, LocalDateTime::toLocalTime, LocalTime::isBefore);
+            super(TimeBefore::moment, MomentParsers.LOCAL_TIME, LocalTime::now, TimeBefore::zoneId, LocalDateTime::toLocalTime,
+                    comparison(LocalTime::isBefore));
         }
     }
 
@@ -110,9 +145,9 @@ public final class TimeBeforeValidator {
          * Creates a new validator.
          */
         public ForOffsetDateTime() {
-            super(TimeBefore::moment, LocalTime::parse, LocalTime::now, TimeBefore::zoneId,
+            super(TimeBefore::moment, MomentParsers.LOCAL_TIME, LocalTime::now, TimeBefore::zoneId,
                     OffsetDateTime::toLocalTime, OffsetDateTime::atZoneSameInstant, ZonedDateTime::toLocalTime,
-                    LocalTime::isBefore);
+                    comparison(LocalTime::isBefore));
         }
     }
 
@@ -127,7 +162,8 @@ public final class TimeBeforeValidator {
          * Creates a new validator.
          */
         public ForZonedDateTime() {
-            super(TimeBefore::moment, LocalTime::parse, LocalTime::now, TimeBefore::zoneId, ZonedDateTime::toLocalTime, LocalTime::isBefore);
+            super(TimeBefore::moment, MomentParsers.LOCAL_TIME, LocalTime::now, TimeBefore::zoneId, ZonedDateTime::toLocalTime,
+                    comparison(LocalTime::isBefore));
         }
     }
 }
@@ -25,7 +25,10 @@ import java.time.ZonedDateTime;
 import java.util.Calendar;
 import java.util.Date;
 import com.github.robtimus.validation.datetime.base.CalendarValidator;
+import com.github.robtimus.validation.datetime.base.CharSequenceValidator;
 import com.github.robtimus.validation.datetime.base.DateValidator;
+import com.github.robtimus.validation.datetime.base.EpochValueValidator;
+import com.github.robtimus.validation.datetime.base.MomentParsers;
 import com.github.robtimus.validation.datetime.base.MomentPartValidator;
 import com.github.robtimus.validation.time.TimeMaxAfter;
 
@@ -69,6 +72,36 @@ public final class TimeMaxAfterValidator {
         }
     }
 
+    /**
+     * A constraint validator for {@link TimeMaxAfter} for {@link CharSequence}.
+     *
+     * @author Rob Spoor
+     */
+    public static class ForCharSequence extends CharSequenceValidator<TimeMaxAfter> {
+
+        /**
+         * Creates a new validator.
+         */
+        public ForCharSequence() {
+            super(new ForOffsetDateTime(), new ForLocalDateTime(), null, null);
+        }
+    }
+
+    /**
+     * A constraint validator for {@link TimeMaxAfter} for {@link Long}.
+     *
+     * @author Rob Spoor
+     */
+    public static class ForLong extends EpochValueValidator<TimeMaxAfter> {
+
+        /**
+         * Creates a new validator.
+         */
+        public ForLong() {
+            super(new ForInstant());
+        }
+    }
+
     /**
      * A constraint validator for {@link TimeMaxAfter} for {@link Instant}.
      *
@@ -80,8 +113,8 @@ public final class TimeMaxAfterValidator {
          * Creates a new validator.
          */
         public ForInstant() {
-            super(TimeMaxAfter::moment, LocalTime::parse, LocalTime::now, TimeMaxAfter::duration, LocalTime::plus, TimeMaxAfter::zoneId,
-                    ZonedDateTime::toLocalTime, not(LocalTime::isAfter));
+            super(TimeMaxAfter::moment, MomentParsers.LOCAL_TIME, LocalTime::now, TimeMaxAfter::duration, LocalTime::plus, TimeMaxAfter::zoneId,
+                    ZonedDateTime::toLocalTime, not(comparison(LocalTime::isAfter)));
         }
     }
 
@@ -96,8 +129,8 @@ public final class TimeMaxAfterValidator {
          * Creates a new validator.
          */
         public ForLocalDateTime() {
-            super(TimeMaxAfter::moment, LocalTime::parse, LocalTime::now, TimeMaxAfter::duration, LocalTime::plus, TimeMaxAfter::zoneId,
-                    LocalDateTime::toLocalTime, not(LocalTime::isAfter));
+            super(TimeMaxAfter::moment, MomentParsers.LOCAL_TIME, LocalTime::now, TimeMaxAfter::duration, LocalTime::plus, TimeMaxAfter::zoneId,
+                    LocalDateTime::toLocalTime, not(comparison(LocalTime::isAfter)));
         }
     }
 
@@ -112,9 +145,9 @@ public final class TimeMaxAfterValidator {
          * Creates a new validator.
          */
         public ForOffsetDateTime() {
-            super(TimeMaxAfter::moment, LocalTime::parse, LocalTime::now, TimeMaxAfter::duration, LocalTime::plus, TimeMaxAfter::zoneId,
+            super(TimeMaxAfter::moment, MomentParsers.LOCAL_TIME, LocalTime::now, TimeMaxAfter::duration, LocalTime::plus, TimeMaxAfter::zoneId,
                     OffsetDateTime::toLocalTime, OffsetDateTime::atZoneSameInstant, ZonedDateTime::toLocalTime,
-                    not(LocalTime::isAfter));
+                    not(comparison(LocalTime::isAfter)));
         }
     }
 
@@ -129,8 +162,8 @@ public final class TimeMaxAfterValidator {
          * Creates a new validator.
          */
         public ForZonedDateTime() {
-            super(TimeMaxAfter::moment, LocalTime::parse, LocalTime::now, TimeMaxAfter::duration, LocalTime::plus, TimeMaxAfter::zoneId,
-                    ZonedDateTime::toLocalTime, not(LocalTime::isAfter));
+            super(TimeMaxAfter::moment, MomentParsers.LOCAL_TIME, LocalTime::now, TimeMaxAfter::duration, LocalTime::plus, TimeMaxAfter::zoneId,
+                    ZonedDateTime::toLocalTime, not(comparison(LocalTime::isAfter)));
         }
     }
 }
@@ -25,7 +25,10 @@ import java.time.ZonedDateTime;
 import java.util.Calendar;
 import java.util.Date;
 import com.github.robtimus.validation.datetime.base.CalendarValidator;
+import com.github.robtimus.validation.datetime.base.CharSequenceValidator;
 import com.github.robtimus.validation.datetime.base.DateValidator;
+import com.github.robtimus.validation.datetime.base.EpochValueValidator;
+import com.github.robtimus.validation.datetime.base.MomentParsers;
 import com.github.robtimus.validation.datetime.base.MomentPartValidator;
 import com.github.robtimus.validation.time.TimeMaxBefore;
 
@@ -69,6 +72,36 @@ public final class TimeMaxBeforeValidator {
         }
     }
 
+    /**
+     * A constraint validator for {@link TimeMaxBefore} for {@link CharSequence}.
+     *
+     * @author Rob Spoor
+     */
+    public static class ForCharSequence extends CharSequenceValidator<TimeMaxBefore> {
+
+        /**
+         * Creates a new validator.
+         */
+        public ForCharSequence() {
+            super(new ForOffsetDateTime(), new ForLocalDateTime(), null, null);
+        }
+    }
+
+    /**
+     * A constraint validator for {@link TimeMaxBefore} for {@link Long}.
+     *
+     * @author Rob Spoor
+     */
+    public static class ForLong extends EpochValueValidator<TimeMaxBefore> {
+
+        /**
+         * Creates a new validator.
+         */
+        public ForLong() {
+            super(new ForInstant());
+        }
+    }
+
     /**
      * A constraint validator for {@link TimeMaxBefore} for {@link Instant}.
      *
@@ -80,8 +113,8 @@ public final class TimeMaxBeforeValidator {
          * Creates a new validator.
          */
         public ForInstant() {
-            super(TimeMaxBefore::moment, LocalTime::parse, LocalTime::now, TimeMaxBefore::duration, LocalTime::minus, TimeMaxBefore::zoneId,
-                    ZonedDateTime::toLocalTime, not(LocalTime::isBefore));
+            super(TimeMaxBefore::moment, MomentParsers.LOCAL_TIME, LocalTime::now, TimeMaxBefore::duration, LocalTime::minus, TimeMaxBefore::zoneId,
+                    ZonedDateTime::toLocalTime, not(comparison(LocalTime::isBefore)));
         }
     }
 
@@ -96,8 +129,8 @@ public final class TimeMaxBeforeValidator {
          * Creates a new validator.
          */
         public ForLocalDateTime() {
-            super(TimeMaxBefore::moment, LocalTime::parse, LocalTime::now, TimeMaxBefore::duration, LocalTime::minus, TimeMaxBefore::zoneId,
-                    LocalDateTime::toLocalTime, not(LocalTime::isBefore));
+            super(TimeMaxBefore::moment, MomentParsers.LOCAL_TIME, LocalTime::now, TimeMaxBefore::duration, LocalTime::minus, TimeMaxBefore::zoneId,
+                    LocalDateTime::toLocalTime, not(comparison(LocalTime::isBefore)));
         }
     }
 
@@ -112,9 +145,9 @@ public final class TimeMaxBeforeValidator {
          * Creates a new validator.
          */
         public ForOffsetDateTime() {
-            super(TimeMaxBefore::moment, LocalTime::parse, LocalTime::now, TimeMaxBefore::duration, LocalTime::minus, TimeMaxBefore::zoneId,
+            super(TimeMaxBefore::moment, MomentParsers.LOCAL_TIME, LocalTime::now, TimeMaxBefore::duration, LocalTime::minus, TimeMaxBefore::zoneId,
                     OffsetDateTime::toLocalTime, OffsetDateTime::atZoneSameInstant, ZonedDateTime::toLocalTime,
-                    not(LocalTime::isBefore));
+                    not(comparison(LocalTime::isBefore)));
         }
     }
 
@@ -129,8 +162,8 @@ public final class TimeMaxBeforeValidator {
          * Creates a new validator.
          */
         public ForZonedDateTime() {
-            super(TimeMaxBefore::moment, LocalTime::parse, LocalTime::now, TimeMaxBefore::duration, LocalTime::minus, TimeMaxBefore::zoneId,
-                    ZonedDateTime::toLocalTime, not(LocalTime::isBefore));
+            super(TimeMaxBefore::moment, MomentParsers.LOCAL_TIME, LocalTime::now, TimeMaxBefore::duration, LocalTime::minus, TimeMaxBefore::zoneId,
+                    ZonedDateTime::toLocalTime, not(comparison(LocalTime::isBefore)));
         }
     }
 }
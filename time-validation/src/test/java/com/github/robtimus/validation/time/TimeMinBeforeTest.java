@@ -37,6 +37,7 @@ import jakarta.validation.ConstraintViolation;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import com.github.robtimus.validation.datetime.base.EpochValue;
 
 @SuppressWarnings("nls")
 class TimeMinBeforeTest extends AbstractConstraintTest {
@@ -148,6 +149,150 @@ class TimeMinBeforeTest extends AbstractConstraintTest {
         }
     }
 
+    @Nested
+    @DisplayName("CharSequence")
+    class ForCharSequence {
+
+        @Nested
+        @DisplayName("with 'now'")
+        class WithNow extends ConstraintTest<CharSequence> {
+
+            WithNow() {
+                super(TestClassWithNow.class, "charSequence",
+                        "2021-10-24T09:14:29",
+                        "2021-10-24T09:14:28.999999999",
+                        "2021-10-24T09:14:29.000000001",
+                        () -> Clock.fixed(Instant.parse("2007-12-03T10:15:30.00Z"), ZoneId.of("UTC")));
+            }
+        }
+
+        @Nested
+        @DisplayName("with moment")
+        class WithMoment extends ConstraintTest<CharSequence> {
+
+            WithMoment() {
+                super(TestClassWithProvidedZoneId.class, "charSequence",
+                        "2021-10-24T09:14:29+02:00",
+                        "2021-10-24T09:14:28.999999999+02:00",
+                        "2021-10-24T09:14:29.000000001+02:00",
+                        () -> null);
+            }
+        }
+
+        @Nested
+        @DisplayName("with zone id")
+        class WithZoneId extends ConstraintTest<CharSequence> {
+
+            WithZoneId() {
+                super(TestClassWithZoneId.class, "charSequence",
+                        "2021-10-24T11:14:29+02:00",
+                        "2021-10-24T11:14:28.999999999+02:00",
+                        "2021-10-24T11:14:29.000000001+02:00",
+                        () -> null);
+            }
+        }
+
+        @Nested
+        @DisplayName("with zone id in daylight saving time")
+        class WithZoneIdInDaylightSavingTime extends ConstraintTest<CharSequence> {
+
+            WithZoneIdInDaylightSavingTime() {
+                super(TestClassWithDaylightSavingTimeZoneId.class, "charSequence",
+                        "2007-10-27T07:14:29Z",
+                        "2007-10-27T07:14:28.999999999Z",
+                        "2007-10-27T07:14:29.000000001Z",
+                        () -> null);
+            }
+        }
+
+        @Nested
+        @DisplayName("with zone id in standard time")
+        class WithZoneIdInStandardTime extends ConstraintTest<CharSequence> {
+
+            WithZoneIdInStandardTime() {
+                super(TestClassWithDaylightSavingTimeZoneId.class, "charSequence",
+                        "2007-10-28T08:14:29Z",
+                        "2007-10-28T08:14:28.999999999Z",
+                        "2007-10-28T08:14:29.000000001Z",
+                        () -> null);
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("Long")
+    class ForLong extends AbstractNonProvidedZoneIdTest<Long> {
+
+        ForLong() {
+            super(TestClassWithProvidedZoneId.class, "epochMilli", System.currentTimeMillis());
+        }
+
+        @Nested
+        @DisplayName("with 'now'")
+        class WithNow extends ConstraintTest<Long> {
+
+            WithNow() {
+                super(TestClassWithNow.class, "epochMilli",
+                        utcInstantAtDefaultZone("2021-10-24T09:14:29.00Z").toEpochMilli(),
+                        utcInstantAtDefaultZone("2021-10-24T09:14:29.00Z").toEpochMilli() - 1,
+                        utcInstantAtDefaultZone("2021-10-24T09:14:29.00Z").toEpochMilli() + 1,
+                        () -> Clock.fixed(Instant.parse("2007-12-03T10:15:30.00Z"), ZoneId.of("UTC")));
+            }
+        }
+
+        @Nested
+        @DisplayName("with zone id")
+        class WithZoneId extends ConstraintTest<Long> {
+
+            WithZoneId() {
+                super(TestClassWithZoneId.class, "epochMilli",
+                        Instant.parse("2021-10-24T09:14:29.00Z").toEpochMilli(),
+                        Instant.parse("2021-10-24T09:14:29.00Z").toEpochMilli() - 1,
+                        Instant.parse("2021-10-24T09:14:29.00Z").toEpochMilli() + 1,
+                        () -> null);
+            }
+        }
+
+        @Nested
+        @DisplayName("with zone id and seconds")
+        class WithZoneIdAndSeconds extends ConstraintTest<Long> {
+
+            WithZoneIdAndSeconds() {
+                super(TestClassWithZoneId.class, "epochSecond",
+                        Instant.parse("2021-10-24T09:14:29.00Z").getEpochSecond(),
+                        Instant.parse("2021-10-24T09:14:29.00Z").getEpochSecond() - 1,
+                        Instant.parse("2021-10-24T09:14:29.00Z").getEpochSecond() + 1,
+                        () -> null);
+            }
+        }
+
+        @Nested
+        @DisplayName("with zone id in daylight saving time")
+        class WithZoneIdInDaylightSavingTime extends ConstraintTest<Long> {
+
+            WithZoneIdInDaylightSavingTime() {
+                super(TestClassWithDaylightSavingTimeZoneId.class, "epochMilli",
+                        Instant.parse("2007-10-27T07:14:29Z").toEpochMilli(),
+                        Instant.parse("2007-10-27T07:14:29Z").toEpochMilli() - 1,
+                        Instant.parse("2007-10-27T07:14:29Z").toEpochMilli() + 1,
+                        () -> null);
+            }
+        }
+
+        @Nested
+        @DisplayName("with zone id in standard time")
+        class WithZoneIdInStandardTime extends ConstraintTest<Long> {
+
+            WithZoneIdInStandardTime() {
+                super(TestClassWithDaylightSavingTimeZoneId.class, "epochMilli",
+                        Instant.parse("2007-10-28T08:14:29Z").toEpochMilli(),
+                        Instant.parse("2007-10-28T08:14:29Z").toEpochMilli() - 1,
+                        Instant.parse("2007-10-28T08:14:29Z").toEpochMilli() + 1,
+                        () -> null);
+            }
+        }
+    }
+
     @Nested
     @DisplayName("Instant")
     class ForInstant extends AbstractNonProvidedZoneIdTest<Instant> {
@@ -411,6 +556,12 @@ class TimeMinBeforeTest extends AbstractConstraintTest {
         @TimeMinBefore(duration = "PT1H1M1S", moment = "now", zoneId = "system")
         Calendar calendar;
 
+        @TimeMinBefore(duration = "PT1H1M1S", moment = "now", zoneId = "system")
+        CharSequence charSequence;
+
+        @TimeMinBefore(duration = "PT1H1M1S", moment = "now", zoneId = "system")
+        Long epochMilli;
+
         @TimeMinBefore(duration = "PT1H1M1S", moment = "now", zoneId = "system")
         Instant instant;
 
@@ -431,6 +582,12 @@ class TimeMinBeforeTest extends AbstractConstraintTest {
         @TimeMinBefore(duration = "PT1H1M1S", moment = "10:15:30", zoneId = "provided")
         Calendar calendar;
 
+        @TimeMinBefore(duration = "PT1H1M1S", moment = "10:15:30", zoneId = "provided")
+        CharSequence charSequence;
+
+        @TimeMinBefore(duration = "PT1H1M1S", moment = "10:15:30", zoneId = "provided")
+        Long epochMilli;
+
         @TimeMinBefore(duration = "PT1H1M1S", moment = "10:15:30", zoneId = "provided")
         Instant instant;
 
@@ -451,6 +608,15 @@ class TimeMinBeforeTest extends AbstractConstraintTest {
         @TimeMinBefore(duration = "PT1H1M1S", moment = "10:15:30", zoneId = "UTC")
         Calendar calendar;
 
+        @TimeMinBefore(duration = "PT1H1M1S", moment = "10:15:30", zoneId = "UTC")
+        CharSequence charSequence;
+
+        @TimeMinBefore(duration = "PT1H1M1S", moment = "10:15:30", zoneId = "UTC")
+        Long epochMilli;
+
+        @TimeMinBefore(duration = "PT1H1M1S", moment = "10:15:30", zoneId = "UTC", payload = EpochValue.Seconds.class)
+        Long epochSecond;
+
         @TimeMinBefore(duration = "PT1H1M1S", moment = "10:15:30", zoneId = "UTC")
         Instant instant;
 
@@ -483,4 +649,12 @@ class TimeMinBeforeTest extends AbstractConstraintTest {
         @TimeMinBefore(duration = "PT1H1M1S", moment = "10:15:30")
         ZonedDateTime zonedDateTime;
     }
+
+    private static final class TestClassWithDaylightSavingTimeZoneId {
+        @TimeMinBefore(duration = "PT1H1M1S", moment = "10:15:30", zoneId = "Europe/Paris")
+        CharSequence charSequence;
+
+        @TimeMinBefore(duration = "PT1H1M1S", moment = "10:15:30", zoneId = "Europe/Paris")
+        Long epochMilli;
+    }
 }
@@ -46,6 +46,7 @@ import com.github.robtimus.validation.yearmonth.validators.YearMonthMaxAfterVali
  * <ul>
  * <li>{@link java.util.Date}</li>
  * <li>{@link java.util.Calendar}</li>
+ * <li>{@link java.lang.Long}, as epoch value in the unit defined by {@link com.github.robtimus.validation.datetime.base.EpochValue}</li>
  * <li>{@link java.time.Instant}</li>
  * <li>{@link java.time.LocalDate}</li>
  * <li>{@link java.time.LocalDateTime}</li>
@@ -60,6 +61,7 @@ import com.github.robtimus.validation.yearmonth.validators.YearMonthMaxAfterVali
 @Documented
 @Constraint(validatedBy = { YearMonthMaxAfterValidator.ForDate.class,
         YearMonthMaxAfterValidator.ForCalendar.class,
+        YearMonthMaxAfterValidator.ForLong.class,
         YearMonthMaxAfterValidator.ForInstant.class,
         YearMonthMaxAfterValidator.ForLocalDate.class,
         YearMonthMaxAfterValidator.ForLocalDateTime.class,
@@ -108,7 +110,8 @@ public @interface YearMonthMaxAfter {
      * <ul>
      * <li>For {@link java.util.Calendar}, {@link java.time.OffsetDateTime} and {@link java.time.ZonedDateTime}, if the zone id is not
      *     {@code provided}, the value is converted to the given zone id before extracting the year-month.</li>
-     * <li>For {@link java.util.Date} and {@link java.time.Instant}, no zone id is available, so {@code provided} is not allowed.</li>
+     * <li>For {@link java.util.Date}, {@link java.time.Instant} and {@link java.lang.Long}, no zone id is available, so {@code provided} is not
+     *     allowed.</li>
      * <li>For {@link java.time.LocalDate} and {@link java.time.LocalDateTime}, no zone id is applicable, so only the default value ({@code system})
      *     is allowed.</li>
      * </ul>
@@ -27,6 +27,8 @@ import java.util.Calendar;
 import java.util.Date;
 import com.github.robtimus.validation.datetime.base.CalendarValidator;
 import com.github.robtimus.validation.datetime.base.DateValidator;
+import com.github.robtimus.validation.datetime.base.EpochValueValidator;
+import com.github.robtimus.validation.datetime.base.MomentParsers;
 import com.github.robtimus.validation.datetime.base.MomentPartValidator;
 import com.github.robtimus.validation.yearmonth.YearMonthAfter;
 
@@ -70,6 +72,21 @@ public final class YearMonthAfterValidator {
         }
     }
 
+    /**
+     * A constraint validator for {@link YearMonthAfter} for {@link Long}.
+     *
+     * @author Rob Spoor
+     */
+    public static class ForLong extends EpochValueValidator<YearMonthAfter> {
+
+        /**
+         * Creates a new validator.
+         */
+        public ForLong() {
+            super(new ForInstant());
+        }
+    }
+
     /**
      * A constraint validator for {@link YearMonthAfter} for {@link Instant}.
      *
@@ -81,7 +98,8 @@ public final class YearMonthAfterValidator {
          * Creates a new validator.
          */
         public ForInstant() {
-            super(YearMonthAfter::moment, YearMonth::parse, YearMonth::now, YearMonthAfter::zoneId, YearMonth::from, YearMonth::isAfter);
+            super(YearMonthAfter::moment, MomentParsers.YEAR_MONTH, YearMonth::now, YearMonthAfter::zoneId, YearMonth::from,
+                    comparison(YearMonth::isAfter));
         }
     }
 
@@ -96,7 +114,8 @@ public final class YearMonthAfterValidator {
          * Creates a new validator.
          */
         public ForLocalDate() {
-            super(YearMonthAfter::moment, YearMonth::parse, YearMonth::now, YearMonthAfter::zoneId, YearMonth::from, YearMonth::isAfter);
+            super(YearMonthAfter::moment, MomentParsers.YEAR_MONTH, YearMonth::now, YearMonthAfter::zoneId, YearMonth::from,
+                    comparison(YearMonth::isAfter));
         }
     }
 
@@ -111,7 +130,8 @@ public final class YearMonthAfterValidator {
          * Creates a new validator.
          */
         public ForLocalDateTime() {
-            super(YearMonthAfter::moment, YearMonth::parse, YearMonth::now, YearMonthAfter::zoneId, YearMonth::from, YearMonth::isAfter);
+            super(YearMonthAfter::moment, MomentParsers.YEAR_MONTH, YearMonth::now, YearMonthAfter::zoneId, YearMonth::from,
+                    comparison(YearMonth::isAfter));
         }
     }
 
@@ -126,9 +146,9 @@ public final class YearMonthAfterValidator {
          * Creates a new validator.
          */
         public ForOffsetDateTime() {
-            super(YearMonthAfter::moment, YearMonth::parse, YearMonth::now, YearMonthAfter::zoneId,
+            super(YearMonthAfter::moment, MomentParsers.YEAR_MONTH, YearMonth::now, YearMonthAfter::zoneId,
                     YearMonth::from, OffsetDateTime::atZoneSameInstant, YearMonth::from,
-                    YearMonth::isAfter);
+                    comparison(YearMonth::isAfter));
         }
     }
 
@@ -143,7 +163,8 @@ public final class YearMonthAfterValidator {
          * Creates a new validator.
          */
         public ForZonedDateTime() {
-            super(YearMonthAfter::moment, YearMonth::parse, YearMonth::now, YearMonthAfter::zoneId, YearMonth::from, YearMonth::isAfter);
+            super(YearMonthAfter::moment, MomentParsers.YEAR_MONTH, YearMonth::now, YearMonthAfter::zoneId, YearMonth::from,
+                    comparison(YearMonth::isAfter));
         }
     }
 }
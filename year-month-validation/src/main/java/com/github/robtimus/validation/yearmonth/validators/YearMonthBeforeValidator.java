@@ -27,6 +27,8 @@ import java.util.Calendar;
 import java.util.Date;
 import com.github.robtimus.validation.datetime.base.CalendarValidator;
 import com.github.robtimus.validation.datetime.base.DateValidator;
+import com.github.robtimus.validation.datetime.base.EpochValueValidator;
+import com.github.robtimus.validation.datetime.base.MomentParsers;
 import com.github.robtimus.validation.datetime.base.MomentPartValidator;
 import com.github.robtimus.validation.yearmonth.YearMonthBefore;
 
@@ -70,6 +72,21 @@ public final class YearMonthBeforeValidator {
         }
     }
 
+    /**
+     * A constraint validator for {@link YearMonthBefore} for {@link Long}.
+     *
+     * @author Rob Spoor
+     */
+    public static class ForLong extends EpochValueValidator<YearMonthBefore> {
+
+        /**
+         * Creates a new validator.
+         */
+        public ForLong() {
+            super(new ForInstant());
+        }
+    }
+
     /**
      * A constraint validator for {@link YearMonthBefore} for {@link Instant}.
      *
@@ -81,7 +98,8 @@ public final class YearMonthBeforeValidator {
          * Creates a new validator.
          */
         public ForInstant() {
-            super(YearMonthBefore::moment, YearMonth::parse, YearMonth::now, YearMonthBefore::zoneId, YearMonth::from, YearMonth::isBefore);
+            super(YearMonthBefore::moment, MomentParsers.YEAR_MONTH, YearMonth::now, YearMonthBefore::zoneId, YearMonth::from,
+                    comparison(YearMonth::isBefore));
         }
     }
 
@@ -96,7 +114,8 @@ public final class YearMonthBeforeValidator {
          * Creates a new validator.
          */
         public ForLocalDate() {
-            super(YearMonthBefore::moment, YearMonth::parse, YearMonth::now, YearMonthBefore::zoneId, YearMonth::from, YearMonth::isBefore);
+            super(YearMonthBefore::moment, MomentParsers.YEAR_MONTH, YearMonth::now, YearMonthBefore::zoneId, YearMonth::from,
+                    comparison(YearMonth::isBefore));
         }
     }
 
@@ -111,7 +130,8 @@ public final class YearMonthBeforeValidator {
          * Creates a new validator.
          */
         public ForLocalDateTime() {
-            super(YearMonthBefore::moment, YearMonth::parse, YearMonth::now, YearMonthBefore::zoneId, YearMonth::from, YearMonth::isBefore);
+            super(YearMonthBefore::moment, MomentParsers.YEAR_MONTH, YearMonth::now, YearMonthBefore::zoneId, YearMonth::from,
+                    comparison(YearMonth::isBefore));
         }
     }
 
@@ -126,9 +146,9 @@ public final class YearMonthBeforeValidator {
          * Creates a new validator.
          */
         public ForOffsetDateTime() {
-            super(YearMonthBefore::moment, YearMonth::parse, YearMonth::now, YearMonthBefore::zoneId,
+            super(YearMonthBefore::moment, MomentParsers.YEAR_MONTH, YearMonth::now, YearMonthBefore::zoneId,
                     YearMonth::from, OffsetDateTime::atZoneSameInstant, YearMonth::from,
-                    YearMonth::isBefore);
+                    comparison(YearMonth::isBefore));
         }
     }
 
@@ -143,7 +163,8 @@ public final class YearMonthBeforeValidator {
          * Creates a new validator.
          */
         public ForZonedDateTime() {
-            super(YearMonthBefore::moment, YearMonth::parse, YearMonth::now, YearMonthBefore::zoneId, YearMonth::from, YearMonth::isBefore);
+            super(YearMonthBefore::moment, MomentParsers.YEAR_MONTH, YearMonth::now, YearMonthBefore::zoneId, YearMonth::from,
+                    comparison(YearMonth::isBefore));
         }
     }
 }
@@ -27,6 +27,8 @@ import java.util.Calendar;
 import java.util.Date;
 import com.github.robtimus.validation.datetime.base.CalendarValidator;
 import com.github.robtimus.validation.datetime.base.DateValidator;
+import com.github.robtimus.validation.datetime.base.EpochValueValidator;
+import com.github.robtimus.validation.datetime.base.MomentParsers;
 import com.github.robtimus.validation.datetime.base.MomentPartValidator;
 import com.github.robtimus.validation.yearmonth.YearMonthMaxAfter;
 
@@ -70,6 +72,21 @@ public final class YearMonthMaxAfterValidator {
         }
     }
 
+    /**
+     * A constraint validator for {@link YearMonthMaxAfter} for {@link Long}.
+     *
+     * @author Rob Spoor
+     */
+    public static class ForLong extends EpochValueValidator<YearMonthMaxAfter> {
+
+        /**
+         * Creates a new validator.
+         */
+        public ForLong() {
+            super(new ForInstant());
+        }
+    }
+
     /**
      * A constraint validator for {@link YearMonthMaxAfter} for {@link Instant}.
      *
@@ -81,8 +98,8 @@ public final class YearMonthMaxAfterValidator {
          * Creates a new validator.
          */
         public ForInstant() {
-            super(YearMonthMaxAfter::moment, YearMonth::parse, YearMonth::now, YearMonthMaxAfter::duration, YearMonth::plus,
-                    YearMonthMaxAfter::zoneId, YearMonth::from, not(YearMonth::isAfter));
+            super(YearMonthMaxAfter::moment, MomentParsers.YEAR_MONTH, YearMonth::now, YearMonthMaxAfter::duration, YearMonth::plus,
+                    YearMonthMaxAfter::zoneId, YearMonth::from, not(comparison(YearMonth::isAfter)));
         }
     }
 
@@ -97,8 +114,8 @@ public final class YearMonthMaxAfterValidator {
          * Creates a new validator.
          */
         public ForLocalDate() {
-            super(YearMonthMaxAfter::moment, YearMonth::parse, YearMonth::now, YearMonthMaxAfter::duration, YearMonth::plus,
-                    YearMonthMaxAfter::zoneId, YearMonth::from, not(YearMonth::isAfter));
+            super(YearMonthMaxAfter::moment, MomentParsers.YEAR_MONTH, YearMonth::now, YearMonthMaxAfter::duration, YearMonth::plus,
+                    YearMonthMaxAfter::zoneId, YearMonth::from, not(comparison(YearMonth::isAfter)));
         }
     }
 
@@ -113,8 +130,8 @@ public final class YearMonthMaxAfterValidator {
          * Creates a new validator.
          */
         public ForLocalDateTime() {
-            super(YearMonthMaxAfter::moment, YearMonth::parse, YearMonth::now, YearMonthMaxAfter::duration, YearMonth::plus,
-                    YearMonthMaxAfter::zoneId, YearMonth::from, not(YearMonth::isAfter));
+            super(YearMonthMaxAfter::moment, MomentParsers.YEAR_MONTH, YearMonth::now, YearMonthMaxAfter::duration, YearMonth::plus,
+                    YearMonthMaxAfter::zoneId, YearMonth::from, not(comparison(YearMonth::isAfter)));
         }
     }
 
@@ -129,10 +146,10 @@ public final class YearMonthMaxAfterValidator {
          * Creates a new validator.
          */
         public ForOffsetDateTime() {
-            super(YearMonthMaxAfter::moment, YearMonth::parse, YearMonth::now, YearMonthMaxAfter::duration, YearMonth::plus,
+            super(YearMonthMaxAfter::moment, MomentParsers.YEAR_MONTH, YearMonth::now, YearMonthMaxAfter::duration, YearMonth::plus,
                     YearMonthMaxAfter::zoneId,
                     YearMonth::from, OffsetDateTime::atZoneSameInstant, YearMonth::from,
-                    not(YearMonth::isAfter));
+                    not(comparison(YearMonth::isAfter)));
         }
     }
 
@@ -147,8 +164,8 @@ public final class YearMonthMaxAfterValidator {
          * Creates a new validator.
          */
         public ForZonedDateTime() {
-            super(YearMonthMaxAfter::moment, YearMonth::parse, YearMonth::now, YearMonthMaxAfter::duration, YearMonth::plus,
-                    YearMonthMaxAfter::zoneId, YearMonth::from, not(YearMonth::isAfter));
+            super(YearMonthMaxAfter::moment, MomentParsers.YEAR_MONTH, YearMonth::now, YearMonthMaxAfter::duration, YearMonth::plus,
+                    YearMonthMaxAfter::zoneId, YearMonth::from, not(comparison(YearMonth::isAfter)));
         }
     }
 }
@@ -27,6 +27,8 @@ import java.util.Calendar;
 import java.util.Date;
 import com.github.robtimus.validation.datetime.base.CalendarValidator;
 import com.github.robtimus.validation.datetime.base.DateValidator;
+import com.github.robtimus.validation.datetime.base.EpochValueValidator;
+import com.github.robtimus.validation.datetime.base.MomentParsers;
 import com.github.robtimus.validation.datetime.base.MomentPartValidator;
 import com.github.robtimus.validation.yearmonth.YearMonthMaxBefore;
 
@@ -70,6 +72,21 @@ public final class YearMonthMaxBeforeValidator {
         }
     }
 
+    /**
+     * A constraint validator for {@link YearMonthMaxBefore} for {@link Long}.
+     *
+     * @author Rob Spoor
+     */
+    public static class ForLong extends EpochValueValidator<YearMonthMaxBefore> {
+
+        /**
+         * Creates a new validator.
+         */
+        public ForLong() {
+            super(new ForInstant());
+        }
+    }
+
     /**
      * A constraint validator for {@link YearMonthMaxBefore} for {@link Instant}.
      *
@@ -81,8 +98,8 @@ public final class YearMonthMaxBeforeValidator {
          * Creates a new validator.
          */
         public ForInstant() {
-            super(YearMonthMaxBefore::moment, YearMonth::parse, YearMonth::now, YearMonthMaxBefore::duration, YearMonth::minus,
-                    YearMonthMaxBefore::zoneId, YearMonth::from, not(YearMonth::isBefore));
+            super(YearMonthMaxBefore::moment, MomentParsers.YEAR_MONTH, YearMonth::now, YearMonthMaxBefore::duration, YearMonth::minus,
+                    YearMonthMaxBefore::zoneId, YearMonth::from, not(comparison(YearMonth::isBefore)));
         }
     }
 
@@ -97,8 +114,8 @@ public final class YearMonthMaxBeforeValidator {
          * Creates a new validator.
          */
         public ForLocalDate() {
-            super(YearMonthMaxBefore::moment, YearMonth::parse, YearMonth::now, YearMonthMaxBefore::duration, YearMonth::minus,
-                    YearMonthMaxBefore::zoneId, YearMonth::from, not(YearMonth::isBefore));
+            super(YearMonthMaxBefore::moment, MomentParsers.YEAR_MONTH, YearMonth::now, YearMonthMaxBefore::duration, YearMonth::minus,
+                    YearMonthMaxBefore::zoneId, YearMonth::from, not(comparison(YearMonth::isBefore)));
         }
     }
 
@@ -113,8 +130,8 @@ public final class YearMonthMaxBeforeValidator {
          * Creates a new validator.
          */
         public ForLocalDateTime() {
-            super(YearMonthMaxBefore::moment, YearMonth::parse, YearMonth::now, YearMonthMaxBefore::duration, YearMonth::minus,
-                    YearMonthMaxBefore::zoneId, YearMonth::from, not(YearMonth::isBefore));
+            super(YearMonthMaxBefore::moment, MomentParsers.YEAR_MONTH, YearMonth::now, YearMonthMaxBefore::duration, YearMonth::minus,
+                    YearMonthMaxBefore::zoneId, YearMonth::from, not(comparison(YearMonth::isBefore)));
         }
     }
 
@@ -129,10 +146,10 @@ public final class YearMonthMaxBeforeValidator {
          * Creates a new validator.
          */
         public ForOffsetDateTime() {
-            super(YearMonthMaxBefore::moment, YearMonth::parse, YearMonth::now, YearMonthMaxBefore::duration, YearMonth::minus,
+            super(YearMonthMaxBefore::moment, MomentParsers.YEAR_MONTH, YearMonth::now, YearMonthMaxBefore::duration, YearMonth::minus,
                     YearMonthMaxBefore::zoneId,
                     YearMonth::from, OffsetDateTime::atZoneSameInstant, YearMonth::from,
-                    not(YearMonth::isBefore));
+                    not(comparison(YearMonth::isBefore)));
         }
     }
 
@@ -147,8 +164,8 @@ public final class YearMonthMaxBeforeValidator {
          * Creates a new validator.
          */
         public ForZonedDateTime() {
-            super(YearMonthMaxBefore::moment, YearMonth::parse, YearMonth::now, YearMonthMaxBefore::duration, YearMonth::minus,
-                    YearMonthMaxBefore::zoneId, YearMonth::from, not(YearMonth::isBefore));
+            super(YearMonthMaxBefore::moment, MomentParsers.YEAR_MONTH, YearMonth::now, YearMonthMaxBefore::duration, YearMonth::minus,
+                    YearMonthMaxBefore::zoneId, YearMonth::from, not(comparison(YearMonth::isBefore)));
         }
     }
 }
@@ -27,6 +27,8 @@ import java.util.Calendar;
 import java.util.Date;
 import com.github.robtimus.validation.datetime.base.CalendarValidator;
 import com.github.robtimus.validation.datetime.base.DateValidator;
+import com.github.robtimus.validation.datetime.base.EpochValueValidator;
+import com.github.robtimus.validation.datetime.base.MomentParsers;
 import com.github.robtimus.validation.datetime.base.MomentPartValidator;
 import com.github.robtimus.validation.yearmonth.YearMonthMinAfter;
 
@@ -70,6 +72,21 @@ public final class YearMonthMinAfterValidator {
         }
     }
 
+    /**
+     * A constraint validator for {@link YearMonthMinAfter} for {@link Long}.
+     *
+     * @author Rob Spoor
+     */
+    public static class ForLong extends EpochValueValidator<YearMonthMinAfter> {
+
+        /**
+         * Creates a new validator.
+         */
+        public ForLong() {
+            super(new ForInstant());
+        }
+    }
+
     /**
      * A constraint validator for {@link YearMonthMinAfter} for {@link Instant}.
      *
@@ -81,8 +98,8 @@ public final class YearMonthMinAfterValidator {
          * Creates a new validator.
          */
         public ForInstant() {
-            super(YearMonthMinAfter::moment, YearMonth::parse, YearMonth::now, YearMonthMinAfter::duration, YearMonth::plus,
-                    YearMonthMinAfter::zoneId, YearMonth::from, not(YearMonth::isBefore));
+            super(YearMonthMinAfter::moment, MomentParsers.YEAR_MONTH, YearMonth::now, YearMonthMinAfter::duration, YearMonth::plus,
+                    YearMonthMinAfter::zoneId, YearMonth::from, not(comparison(YearMonth::isBefore)));
         }
     }
 
@@ -97,8 +114,8 @@ public final class YearMonthMinAfterValidator {
          * Creates a new validator.
          */
         public ForLocalDate() {
-            super(YearMonthMinAfter::moment, YearMonth::parse, YearMonth::now, YearMonthMinAfter::duration, YearMonth::plus,
-                    YearMonthMinAfter::zoneId, YearMonth::from, not(YearMonth::isBefore));
+            super(YearMonthMinAfter::moment, MomentParsers.YEAR_MONTH, YearMonth::now, YearMonthMinAfter::duration, YearMonth::plus,
+                    YearMonthMinAfter::zoneId, YearMonth::from, not(comparison(YearMonth::isBefore)));
         }
     }
 
@@ -113,8 +130,8 @@ public final class YearMonthMinAfterValidator {
          * Creates a new validator.
          */
         public ForLocalDateTime() {
-            super(YearMonthMinAfter::moment, YearMonth::parse, YearMonth::now, YearMonthMinAfter::duration, YearMonth::plus,
-                    YearMonthMinAfter::zoneId, YearMonth::from, not(YearMonth::isBefore));
+            super(YearMonthMinAfter::moment, MomentParsers.YEAR_MONTH, YearMonth::now, YearMonthMinAfter::duration, YearMonth::plus,
+                    YearMonthMinAfter::zoneId, YearMonth::from, not(comparison(YearMonth::isBefore)));
         }
     }
 
@@ -129,10 +146,10 @@ public final class YearMonthMinAfterValidator {
          * Creates a new validator.
          */
         public ForOffsetDateTime() {
-            super(YearMonthMinAfter::moment, YearMonth::parse, YearMonth::now, YearMonthMinAfter::duration, YearMonth::plus,
+            super(YearMonthMinAfter::moment, MomentParsers.YEAR_MONTH, YearMonth::now, YearMonthMinAfter::duration, YearMonth::plus,
                     YearMonthMinAfter::zoneId,
                     YearMonth::from, OffsetDateTime::atZoneSameInstant, YearMonth::from,
-                    not(YearMonth::isBefore));
+                    not(comparison(YearMonth::isBefore)));
         }
     }
 
@@ -147,8 +164,8 @@ public final class YearMonthMinAfterValidator {
          * Creates a new validator.
          */
         public ForZonedDateTime() {
-            super(YearMonthMinAfter::moment, YearMonth::parse, YearMonth::now, YearMonthMinAfter::duration, YearMonth::plus,
-                    YearMonthMinAfter::zoneId, YearMonth::from, not(YearMonth::isBefore));
+            super(YearMonthMinAfter::moment, MomentParsers.YEAR_MONTH, YearMonth::now, YearMonthMinAfter::duration, YearMonth::plus,
+                    YearMonthMinAfter::zoneId, YearMonth::from, not(comparison(YearMonth::isBefore)));
         }
     }
 }
@@ -42,6 +42,7 @@ import org.junit.jupiter.api.TestInstance;
 import org.junit.jupiter.api.TestInstance.Lifecycle;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
+import com.github.robtimus.validation.datetime.base.EpochValue;
 
 @SuppressWarnings("nls")
 class YearMonthMaxAfterTest extends AbstractConstraintTest {
@@ -229,6 +230,95 @@ class YearMonthMaxAfterTest extends AbstractConstraintTest {
         }
     }
 
+    @Nested
+    @DisplayName("Long")
+    class ForLong extends AbstractNonProvidedZoneIdTest<Long> {
+
+        ForLong() {
+            super(TestClassWithProvidedZoneId.class, "epochMilli", System.currentTimeMillis());
+        }
+
+        @Nested
+        @DisplayName("with 'now'")
+        class WithNow extends ConstraintTest<Long> {
+
+            WithNow() {
+                super(TestClassWithNow.class, "epochMilli",
+                        Arrays.asList(
+                                utcInstantAtDefaultZone("2009-01-01T00:00:00Z").toEpochMilli(),
+                                utcInstantAtDefaultZone("2009-01-31T00:59:59.999Z").toEpochMilli()
+                        ),
+                        utcInstantAtDefaultZone("2008-12-31T23:59:59.999Z").toEpochMilli(),
+                        utcInstantAtDefaultZone("2009-02-01T00:00:00Z").toEpochMilli(),
+                        () -> Clock.fixed(Instant.parse("2007-12-03T10:15:30Z"), ZoneId.of("UTC")));
+            }
+        }
+
+        @Nested
+        @DisplayName("with zone id")
+        class WithZoneId extends ConstraintTest<Long> {
+
+            WithZoneId() {
+                super(TestClassWithZoneId.class, "epochMilli",
+                        Arrays.asList(
+                                utcInstantAtOffset("2009-01-01T01:00:00Z", 1).toEpochMilli(),
+                                utcInstantAtOffset("2009-02-01T00:59:59.999Z", 1).toEpochMilli()
+                        ),
+                        utcInstantAtOffset("2009-01-01T00:59:59.999Z", 1).toEpochMilli(),
+                        utcInstantAtOffset("2009-02-01T01:00:00Z", 1).toEpochMilli(),
+                        () -> null);
+            }
+        }
+
+        @Nested
+        @DisplayName("with zone id and seconds")
+        class WithZoneIdAndSeconds extends ConstraintTest<Long> {
+
+            WithZoneIdAndSeconds() {
+                super(TestClassWithZoneId.class, "epochSecond",
+                        Arrays.asList(
+                                utcInstantAtOffset("2009-01-01T01:00:00Z", 1).getEpochSecond(),
+                                utcInstantAtOffset("2009-02-01T00:59:59Z", 1).getEpochSecond()
+                        ),
+                        utcInstantAtOffset("2009-01-01T00:59:59Z", 1).getEpochSecond(),
+                        utcInstantAtOffset("2009-02-01T01:00:00Z", 1).getEpochSecond(),
+                        () -> null);
+            }
+        }
+
+        @Nested
+        @DisplayName("with system zone id")
+        class WithSystemZoneId extends ConstraintTest<Long> {
+
+            WithSystemZoneId() {
+                super(TestClassWithSystemZoneId.class, "epochMilli",
+                        Arrays.asList(
+                                utcInstantAtOffsetAfterSystem("2009-01-01T01:00:00Z", 1).toEpochMilli(),
+                                utcInstantAtOffsetAfterSystem("2009-02-01T00:59:59.999Z", 1).toEpochMilli()
+                        ),
+                        utcInstantAtOffsetAfterSystem("2009-01-01T00:59:59.999Z", 1).toEpochMilli(),
+                        utcInstantAtOffsetAfterSystem("2009-02-01T01:00:00Z", 1).toEpochMilli(),
+                        () -> null);
+            }
+        }
+
+        @Nested
+        @DisplayName("with daylight saving time zone id")
+        class WithDaylightSavingTimeZoneId extends ConstraintTest<Long> {
+
+            WithDaylightSavingTimeZoneId() {
+                super(TestClassWithDaylightSavingTimeZoneId.class, "epochMilli",
+                        Arrays.asList(
+                                Instant.parse("2008-12-31T13:00:00Z").toEpochMilli(),
+                                Instant.parse("2009-01-31T12:59:59.999Z").toEpochMilli()
+                        ),
+                        Instant.parse("2008-12-31T12:59:59.999Z").toEpochMilli(),
+                        Instant.parse("2009-01-31T13:00:00Z").toEpochMilli(),
+                        () -> null);
+            }
+        }
+    }
+
     @Nested
     @DisplayName("LocalDate")
     class ForLocalDate extends AbstractSystemOnlyZoneIdTest<LocalDate> {
@@ -523,6 +613,9 @@ class YearMonthMaxAfterTest extends AbstractConstraintTest {
         @YearMonthMaxAfter(duration = "P1Y1M", moment = "now", zoneId = "system")
         Calendar calendar;
 
+        @YearMonthMaxAfter(duration = "P1Y1M", moment = "now", zoneId = "system")
+        Long epochMilli;
+
         @YearMonthMaxAfter(duration = "P1Y1M", moment = "now", zoneId = "system")
         Instant instant;
 
@@ -546,6 +639,9 @@ class YearMonthMaxAfterTest extends AbstractConstraintTest {
         @YearMonthMaxAfter(duration = "P1Y1M", moment = "2007-12", zoneId = "provided")
         Calendar calendar;
 
+        @YearMonthMaxAfter(duration = "P1Y1M", moment = "2007-12", zoneId = "provided")
+        Long epochMilli;
+
         @YearMonthMaxAfter(duration = "P1Y1M", moment = "2007-12", zoneId = "provided")
         Instant instant;
 
@@ -569,6 +665,12 @@ class YearMonthMaxAfterTest extends AbstractConstraintTest {
         @YearMonthMaxAfter(duration = "P1Y1M", moment = "2007-12", zoneId = "UTC")
         Calendar calendar;
 
+        @YearMonthMaxAfter(duration = "P1Y1M", moment = "2007-12", zoneId = "UTC")
+        Long epochMilli;
+
+        @YearMonthMaxAfter(duration = "P1Y1M", moment = "2007-12", zoneId = "UTC", payload = EpochValue.Seconds.class)
+        Long epochSecond;
+
         @YearMonthMaxAfter(duration = "P1Y1M", moment = "2007-12", zoneId = "UTC")
         Instant instant;
 
@@ -592,6 +694,9 @@ class YearMonthMaxAfterTest extends AbstractConstraintTest {
         @YearMonthMaxAfter(duration = "P1Y1M", moment = "2007-12")
         Calendar calendar;
 
+        @YearMonthMaxAfter(duration = "P1Y1M", moment = "2007-12")
+        Long epochMilli;
+
         @YearMonthMaxAfter(duration = "P1Y1M", moment = "2007-12")
         Instant instant;
 
@@ -607,4 +712,9 @@ class YearMonthMaxAfterTest extends AbstractConstraintTest {
         @YearMonthMaxAfter(duration = "P1Y1M", moment = "2007-12")
         ZonedDateTime zonedDateTime;
     }
+
+    private static final class TestClassWithDaylightSavingTimeZoneId {
+        @YearMonthMaxAfter(duration = "P1Y1M", moment = "2007-12", zoneId = "Australia/Sydney")
+        Long epochMilli;
+    }
 }
@@ -28,6 +28,8 @@ import java.util.Calendar;
 import java.util.Date;
 import com.github.robtimus.validation.datetime.base.CalendarValidator;
 import com.github.robtimus.validation.datetime.base.DateValidator;
+import com.github.robtimus.validation.datetime.base.EpochValueValidator;
+import com.github.robtimus.validation.datetime.base.MomentParsers;
 import com.github.robtimus.validation.datetime.base.MomentPartValidator;
 import com.github.robtimus.validation.year.YearAfter;
 
@@ -71,6 +73,21 @@ public final class YearAfterValidator {
         }
     }
 
+    /**
+     * A constraint validator for {@link YearAfter} for {@link Long}.
+     *
+     * @author Rob Spoor
+     */
+    public static class ForLong extends EpochValueValidator<YearAfter> {
+
+        /**
+         * Creates a new validator.
+         */
+        public ForLong() {
+            super(new ForInstant());
+        }
+    }
+
     /**
      * A constraint validator for {@link YearAfter} for {@link Instant}.
      *
@@ -82,7 +99,7 @@ public final class YearAfterValidator {
          * Creates a new validator.
          */
         public ForInstant() {
-            super(YearAfter::moment, Year::parse, Year::now, YearAfter::zoneId, Year::from, Year::isAfter);
+            super(YearAfter::moment, MomentParsers.YEAR, Year::now, YearAfter::zoneId, Year::from, comparison(Year::isAfter));
         }
     }
 
@@ -97,7 +114,7 @@ public final class YearAfterValidator {
          * Creates a new validator.
          */
         public ForLocalDate() {
-            super(YearAfter::moment, Year::parse, Year::now, YearAfter::zoneId, Year::from, Year::isAfter);
+            super(YearAfter::moment, MomentParsers.YEAR, Year::now, YearAfter::zoneId, Year::from, comparison(Year::isAfter));
         }
     }
 
@@ -112,7 +129,7 @@ public final class YearAfterValidator {
          * Creates a new validator.
          */
         public ForLocalDateTime() {
-            super(YearAfter::moment, Year::parse, Year::now, YearAfter::zoneId, Year::from, Year::isAfter);
+            super(YearAfter::moment, MomentParsers.YEAR, Year::now, YearAfter::zoneId, Year::from, comparison(Year::isAfter));
         }
     }
 
@@ -127,9 +144,9 @@ public final class YearAfterValidator {
          * Creates a new validator.
          */
         public ForOffsetDateTime() {
-            super(YearAfter::moment, Year::parse, Year::now, YearAfter::zoneId,
+            super(YearAfter::moment, MomentParsers.YEAR, Year::now, YearAfter::zoneId,
                     Year::from, OffsetDateTime::atZoneSameInstant, Year::from,
-                    Year::isAfter);
+                    comparison(Year::isAfter));
         }
     }
 
@@ -144,7 +161,7 @@ public final class YearAfterValidator {
          * Creates a new validator.
          */
         public ForYearMonth() {
-            super(YearAfter::moment, Year::parse, Year::now, YearAfter::zoneId, Year::from, Year::isAfter);
+            super(YearAfter::moment, MomentParsers.YEAR, Year::now, YearAfter::zoneId, Year::from, comparison(Year::isAfter));
         }
     }
 
@@ -159,7 +176,7 @@ public final class YearAfterValidator {
          * Creates a new validator.
          */
         public ForZonedDateTime() {
-            super(YearAfter::moment, Year::parse, Year::now, YearAfter::zoneId, Year::from, Year::isAfter);
+            super(YearAfter::moment, MomentParsers.YEAR, Year::now, YearAfter::zoneId, Year::from, comparison(Year::isAfter));
         }
     }
 }
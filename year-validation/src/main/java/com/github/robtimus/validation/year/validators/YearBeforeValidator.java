@@ -28,6 +28,8 @@ import java.util.Calendar;
 import java.util.Date;
 import com.github.robtimus.validation.datetime.base.CalendarValidator;
 import com.github.robtimus.validation.datetime.base.DateValidator;
+import com.github.robtimus.validation.datetime.base.EpochValueValidator;
+import com.github.robtimus.validation.datetime.base.MomentParsers;
 import com.github.robtimus.validation.datetime.base.MomentPartValidator;
 import com.github.robtimus.validation.year.YearBefore;
 
@@ -71,6 +73,21 @@ public final class YearBeforeValidator {
         }
     }
 
+    /**
+     * A constraint validator for {@link YearBefore} for {@link Long}.
+     *
+     * @author Rob Spoor
+     */
+    public static class ForLong extends EpochValueValidator<YearBefore> {
+
+        /**
+         * Creates a new validator.
+         */
+        public ForLong() {
+            super(new ForInstant());
+        }
+    }
+
     /**
      * A constraint validator for {@link YearBefore} for {@link Instant}.
      *
@@ -82,7 +99,7 @@ public final class YearBeforeValidator {
          * Creates a new validator.
          */
         public ForInstant() {
-            super(YearBefore::moment, Year::parse, Year::now, YearBefore::zoneId, Year::from, Year::isBefore);
+            super(YearBefore::moment, MomentParsers.YEAR, Year::now, YearBefore::zoneId, Year::from, comparison(Year::isBefore));
         }
     }
 
@@ -97,7 +114,7 @@ public final class YearBeforeValidator {
          * Creates a new validator.
          */
         public ForLocalDate() {
-            super(YearBefore::moment, Year::parse, Year::now, YearBefore::zoneId, Year::from, Year::isBefore);
+            super(YearBefore::moment, MomentParsers.YEAR, Year::now, YearBefore::zoneId, Year::from, comparison(Year::isBefore));
         }
     }
 
@@ -112,7 +129,7 @@ public final class YearBeforeValidator {
          * Creates a new validator.
          */
         public ForLocalDateTime() {
-            super(YearBefore::moment, Year::parse, Year::now, YearBefore::zoneId, Year::from, Year::isBefore);
+            super(YearBefore::moment, MomentParsers.YEAR, Year::now, YearBefore::zoneId, Year::from, comparison(Year::isBefore));
         }
     }
 
@@ -127,9 +144,9 @@ public final class YearBeforeValidator {
          * Creates a new validator.
          */
         public ForOffsetDateTime() {
-            super(YearBefore::moment, Year::parse, Year::now, YearBefore::zoneId,
+            super(YearBefore::moment, MomentParsers.YEAR, Year::now, YearBefore::zoneId,
                     Year::from, OffsetDateTime::atZoneSameInstant, Year::from,
-                    Year::isBefore);
+                    comparison(Year::isBefore));
         }
     }
 
@@ -144,7 +161,7 @@ public final class YearBeforeValidator {
          * Creates a new validator.
          */
         public ForYearMonth() {
-            super(YearBefore::moment, Year::parse, Year::now, YearBefore::zoneId, Year::from, Year::isBefore);
+            super(YearBefore::moment, MomentParsers.YEAR, Year::now, YearBefore::zoneId, Year::from, comparison(Year::isBefore));
         }
     }
 
@@ -159,7 +176,7 @@ public final class YearBeforeValidator {
          * Creates a new validator.
          */
         public ForZonedDateTime() {
-            super(YearBefore::moment, Year::parse, Year::now, YearBefore::zoneId, Year::from, Year::isBefore);
+            super(YearBefore::moment, MomentParsers.YEAR, Year::now, YearBefore::zoneId, Year::from, comparison(Year::isBefore));
         }
     }
 }
@@ -28,6 +28,8 @@ import java.util.Calendar;
 import java.util.Date;
 import com.github.robtimus.validation.datetime.base.CalendarValidator;
 import com.github.robtimus.validation.datetime.base.DateValidator;
+import com.github.robtimus.validation.datetime.base.EpochValueValidator;
+import com.github.robtimus.validation.datetime.base.MomentParsers;
 import com.github.robtimus.validation.datetime.base.MomentPartValidator;
 import com.github.robtimus.validation.year.YearMaxAfter;
 
@@ -71,6 +73,21 @@ public final class YearMaxAfterValidator {
         }
     }
 
+    /**
+     * A constraint validator for {@link YearMaxAfter} for {@link Long}.
+     *
+     * @author Rob Spoor
+     */
+    public static class ForLong extends EpochValueValidator<YearMaxAfter> {
+
+        /**
+         * Creates a new validator.
+         */
+        public ForLong() {
+            super(new ForInstant());
+        }
+    }
+
     /**
      * A constraint validator for {@link YearMaxAfter} for {@link Instant}.
      *
@@ -82,8 +99,8 @@ public final class YearMaxAfterValidator {
          * Creates a new validator.
          */
         public ForInstant() {
-            super(YearMaxAfter::moment, Year::parse, Year::now, YearMaxAfterValidator::extractDuration, Year::plus,
-                    YearMaxAfter::zoneId, Year::from, not(Year::isAfter));
+            super(YearMaxAfter::moment, MomentParsers.YEAR, Year::now, YearMaxAfterValidator::extractDuration, Year::plus,
+                    YearMaxAfter::zoneId, Year::from, not(comparison(Year::isAfter)));
         }
     }
 
@@ -98,8 +115,8 @@ public final class YearMaxAfterValidator {
          * Creates a new validator.
          */
         public ForLocalDate() {
-            super(YearMaxAfter::moment, Year::parse, Year::now, YearMaxAfterValidator::extractDuration, Year::plus,
-                    YearMaxAfter::zoneId, Year::from, not(Year::isAfter));
+            super(YearMaxAfter::moment, MomentParsers.YEAR, Year::now, YearMaxAfterValidator::extractDuration, Year::plus,
+                    YearMaxAfter::zoneId, Year::from, not(comparison(Year::isAfter)));
         }
     }
 
@@ -114,8 +131,8 @@ public final class YearMaxAfterValidator {
          * Creates a new validator.
          */
         public ForLocalDateTime() {
-            super(YearMaxAfter::moment, Year::parse, Year::now, YearMaxAfterValidator::extractDuration, Year::plus,
-                    YearMaxAfter::zoneId, Year::from, not(Year::isAfter));
+            super(YearMaxAfter::moment, MomentParsers.YEAR, Year::now, YearMaxAfterValidator::extractDuration, Year::plus,
+                    YearMaxAfter::zoneId, Year::from, not(comparison(Year::isAfter)));
         }
     }
 
@@ -130,10 +147,10 @@ public final class YearMaxAfterValidator {
          * Creates a new validator.
          */
         public ForOffsetDateTime() {
-            super(YearMaxAfter::moment, Year::parse, Year::now, YearMaxAfterValidator::extractDuration, Year::plus,
+            super(YearMaxAfter::moment, MomentParsers.YEAR, Year::now, YearMaxAfterValidator::extractDuration, Year::plus,
                     YearMaxAfter::zoneId,
                     Year::from, OffsetDateTime::atZoneSameInstant, Year::from,
-                    not(Year::isAfter));
+                    not(comparison(Year::isAfter)));
         }
     }
 
@@ -148,8 +165,8 @@ public final class YearMaxAfterValidator {
          * Creates a new validator.
          */
         public ForYearMonth() {
-            super(YearMaxAfter::moment, Year::parse, Year::now, YearMaxAfterValidator::extractDuration, Year::plus,
-                    YearMaxAfter::zoneId, Year::from, not(Year::isAfter));
+            super(YearMaxAfter::moment, MomentParsers.YEAR, Year::now, YearMaxAfterValidator::extractDuration, Year::plus,
+                    YearMaxAfter::zoneId, Year::from, not(comparison(Year::isAfter)));
         }
     }
 
@@ -164,8 +181,8 @@ public final class YearMaxAfterValidator {
          * Creates a new validator.
          */
         public ForZonedDateTime() {
-            super(YearMaxAfter::moment, Year::parse, Year::now, YearMaxAfterValidator::extractDuration, Year::plus,
-                    YearMaxAfter::zoneId, Year::from, not(Year::isAfter));
+            super(YearMaxAfter::moment, MomentParsers.YEAR, Year::now, YearMaxAfterValidator::extractDuration, Year::plus,
+                    YearMaxAfter::zoneId, Year::from, not(comparison(Year::isAfter)));
         }
     }
 
@@ -28,6 +28,8 @@ import java.util.Calendar;
 import java.util.Date;
 import com.github.robtimus.validation.datetime.base.CalendarValidator;
 import com.github.robtimus.validation.datetime.base.DateValidator;
+import com.github.robtimus.validation.datetime.base.EpochValueValidator;
+import com.github.robtimus.validation.datetime.base.MomentParsers;
 import com.github.robtimus.validation.datetime.base.MomentPartValidator;
 import com.github.robtimus.validation.year.YearMaxBefore;
 
@@ -71,6 +73,21 @@ public final class YearMaxBeforeValidator {
         }
     }
 
+    /**
+     * A constraint validator for {@link YearMaxBefore} for {@link Long}.
+     *
+     * @author Rob Spoor
+     */
+    public static class ForLong extends EpochValueValidator<YearMaxBefore> {
+
+        /**
+         * Creates a new validator.
+         */
+        public ForLong() {
+            super(new ForInstant());
+        }
+    }
+
     /**
      * A constraint validator for {@link YearMaxBefore} for {@link Instant}.
      *
@@ -82,8 +99,8 @@ public final class YearMaxBeforeValidator {
          * Creates a new validator.
          */
         public ForInstant() {
-            super(YearMaxBefore::moment, Year::parse, Year::now, YearMaxBeforeValidator::extractDuration, Year::minus,
-                    YearMaxBefore::zoneId, Year::from, not(Year::isBefore));
+            super(YearMaxBefore::moment, MomentParsers.YEAR, Year::now, YearMaxBeforeValidator::extractDuration, Year::minus,
+                    YearMaxBefore::zoneId, Year::from, not(comparison(Year::isBefore)));
         }
     }
 
@@ -98,8 +115,8 @@ public final class YearMaxBeforeValidator {
          * Creates a new validator.
          */
         public ForLocalDate() {
-            super(YearMaxBefore::moment, Year::parse, Year::now, YearMaxBeforeValidator::extractDuration, Year::minus,
-                    YearMaxBefore::zoneId, Year::from, not(Year::isBefore));
+            super(YearMaxBefore::moment, MomentParsers.YEAR, Year::now, YearMaxBeforeValidator::extractDuration, Year::minus,
+                    YearMaxBefore::zoneId, Year::from, not(comparison(Year::isBefore)));
         }
     }
 
@@ -114,8 +131,8 @@ public final class YearMaxBeforeValidator {
          * Creates a new validator.
          */
         public ForLocalDateTime() {
-            super(YearMaxBefore::moment, Year::parse, Year::now, YearMaxBeforeValidator::extractDuration, Year::minus,
-                    YearMaxBefore::zoneId, Year::from, not(Year::isBefore));
+            super(YearMaxBefore::moment, MomentParsers.YEAR, Year::now, YearMaxBeforeValidator::extractDuration, Year::minus,
+                    YearMaxBefore::zoneId, Year::from, not(comparison(Year::isBefore)));
         }
     }
 
@@ -130,10 +147,10 @@ public final class YearMaxBeforeValidator {
          * Creates a new validator.
          */
         public ForOffsetDateTime() {
-            super(YearMaxBefore::moment, Year::parse, Year::now, YearMaxBeforeValidator::extractDuration, Year::minus,
+            super(YearMaxBefore::moment, MomentParsers.YEAR, Year::now, YearMaxBeforeValidator::extractDuration, Year::minus,
                     YearMaxBefore::zoneId,
                     Year::from, OffsetDateTime::atZoneSameInstant, Year::from,
-                    not(Year::isBefore));
+                    not(comparison(Year::isBefore)));
         }
     }
 
@@ -148,8 +165,8 @@ public final class YearMaxBeforeValidator {
          * Creates a new validator.
          */
         public ForYearMonth() {
-            super(YearMaxBefore::moment, Year::parse, Year::now, YearMaxBeforeValidator::extractDuration, Year::minus,
-                    YearMaxBefore::zoneId, Year::from, not(Year::isBefore));
+            super(YearMaxBefore::moment, MomentParsers.YEAR, Year::now, YearMaxBeforeValidator::extractDuration, Year::minus,
+                    YearMaxBefore::zoneId, Year::from, not(comparison(Year::isBefore)));
         }
     }
 
@@ -164,8 +181,8 @@ public final class YearMaxBeforeValidator {
          * Creates a new validator.
          */
         public ForZonedDateTime() {
-            super(YearMaxBefore::moment, Year::parse, Year::now, YearMaxBeforeValidator::extractDuration, Year::minus,
-                    YearMaxBefore::zoneId, Year::from, not(Year::isBefore));
+            super(YearMaxBefore::moment, MomentParsers.YEAR, Year::now, YearMaxBeforeValidator::extractDuration, Year::minus,
+                    YearMaxBefore::zoneId, Year::from, not(comparison(Year::isBefore)));
         }
     }
 
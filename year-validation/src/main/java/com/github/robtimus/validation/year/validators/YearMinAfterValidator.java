@@ -28,6 +28,8 @@ import java.util.Calendar;
 import java.util.Date;
 import com.github.robtimus.validation.datetime.base.CalendarValidator;
 import com.github.robtimus.validation.datetime.base.DateValidator;
+import com.github.robtimus.validation.datetime.base.EpochValueValidator;
+import com.github.robtimus.validation.datetime.base.MomentParsers;
 import com.github.robtimus.validation.datetime.base.MomentPartValidator;
 import com.github.robtimus.validation.year.YearMinAfter;
 
@@ -71,6 +73,21 @@ public final class YearMinAfterValidator {
         }
     }
 
+    /**
+     * A constraint validator for {@link YearMinAfter} for {@link Long}.
+     *
+     * @author Rob Spoor
+     */
+    public static class ForLong extends EpochValueValidator<YearMinAfter> {
+
+        /**
+         * Creates a new validator.
+         */
+        public ForLong() {
+            super(new ForInstant());
+        }
+    }
+
     /**
      * A constraint validator for {@link YearMinAfter} for {@link Instant}.
      *
@@ -82,8 +99,8 @@ public final class YearMinAfterValidator {
          * Creates a new validator.
          */
         public ForInstant() {
-            super(YearMinAfter::moment, Year::parse, Year::now, YearMinAfterValidator::extractDuration, Year::plus,
-                    YearMinAfter::zoneId, Year::from, not(Year::isBefore));
+            super(YearMinAfter::moment, MomentParsers.YEAR, Year::now, YearMinAfterValidator::extractDuration, Year::plus,
+                    YearMinAfter::zoneId, Year::from, not(comparison(Year::isBefore)));
         }
     }
 
@@ -98,8 +115,8 @@ public final class YearMinAfterValidator {
          * Creates a new validator.
          */
         public ForLocalDate() {
-            super(YearMinAfter::moment, Year::parse, Year::now, YearMinAfterValidator::extractDuration, Year::plus,
-                    YearMinAfter::zoneId, Year::from, not(Year::isBefore));
+            super(YearMinAfter::moment, MomentParsers.YEAR, Year::now, YearMinAfterValidator::extractDuration, Year::plus,
+                    YearMinAfter::zoneId, Year::from, not(comparison(Year::isBefore)));
         }
     }
 
@@ -114,8 +131,8 @@ public final class YearMinAfterValidator {
          * Creates a new validator.
          */
         public ForLocalDateTime() {
-            super(YearMinAfter::moment, Year::parse, Year::now, YearMinAfterValidator::extractDuration, Year::plus,
-                    YearMinAfter::zoneId, Year::from, not(Year::isBefore));
+            super(YearMinAfter::moment, MomentParsers.YEAR, Year::now, YearMinAfterValidator::extractDuration, Year::plus,
+                    YearMinAfter::zoneId, Year::from, not(comparison(Year::isBefore)));
         }
     }
 
@@ -130,10 +147,10 @@ public final class YearMinAfterValidator {
          * Creates a new validator.
          */
         public ForOffsetDateTime() {
-            super(YearMinAfter::moment, Year::parse, Year::now, YearMinAfterValidator::extractDuration, Year::plus,
+            super(YearMinAfter::moment, MomentParsers.YEAR, Year::now, YearMinAfterValidator::extractDuration, Year::plus,
                     YearMinAfter::zoneId,
                     Year::from, OffsetDateTime::atZoneSameInstant, Year::from,
-                    not(Year::isBefore));
+                    not(comparison(Year::isBefore)));
         }
     }
 
@@ -148,8 +165,8 @@ public final class YearMinAfterValidator {
          * Creates a new validator.
          */
         public ForYearMonth() {
-            super(YearMinAfter::moment, Year::parse, Year::now, YearMinAfterValidator::extractDuration, Year::plus,
-                    YearMinAfter::zoneId, Year::from, not(Year::isBefore));
+            super(YearMinAfter::moment, MomentParsers.YEAR, Year::now, YearMinAfterValidator::extractDuration, Year::plus,
+                    YearMinAfter::zoneId, Year::from, not(comparison(Year::isBefore)));
         }
     }
 
@@ -164,8 +181,8 @@ public final class YearMinAfterValidator {
          * Creates a new validator.
          */
         public ForZonedDateTime() {
-            super(YearMinAfter::moment, Year::parse, Year::now, YearMinAfterValidator::extractDuration, Year::plus,
-                    YearMinAfter::zoneId, Year::from, not(Year::isBefore));
+            super(YearMinAfter::moment, MomentParsers.YEAR, Year::now, YearMinAfterValidator::extractDuration, Year::plus,
+                    YearMinAfter::zoneId, Year::from, not(comparison(Year::isBefore)));
         }
     }
 
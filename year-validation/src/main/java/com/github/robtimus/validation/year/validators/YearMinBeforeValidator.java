@@ -28,6 +28,8 @@ import java.util.Calendar;
 import java.util.Date;
 import com.github.robtimus.validation.datetime.base.CalendarValidator;
 import com.github.robtimus.validation.datetime.base.DateValidator;
+import com.github.robtimus.validation.datetime.base.EpochValueValidator;
+import com.github.robtimus.validation.datetime.base.MomentParsers;
 import com.github.robtimus.validation.datetime.base.MomentPartValidator;
 import com.github.robtimus.validation.year.YearMinBefore;
 
@@ -71,6 +73,21 @@ public final class YearMinBeforeValidator {
         }
     }
 
+    /**
+     * A constraint validator for {@link YearMinBefore} for {@link Long}.
+     *
+     * @author Rob Spoor
+     */
+    public static class ForLong extends EpochValueValidator<YearMinBefore> {
+
+        /**
+         * Creates a new validator.
+         */
+        public ForLong() {
+            super(new ForInstant());
+        }
+    }
+
     /**
      * A constraint validator for {@link YearMinBefore} for {@link Instant}.
      *
@@ -82,8 +99,8 @@ public final class YearMinBeforeValidator {
          * Creates a new validator.
          */
         public ForInstant() {
-            super(YearMinBefore::moment, Year::parse, Year::now, YearMinBeforeValidator::extractDuration, Year::minus,
-                    YearMinBefore::zoneId, Year::from, not(Year::isAfter));
+            super(YearMinBefore::moment, MomentParsers.YEAR, Year::now, YearMinBeforeValidator::extractDuration, Year::minus,
+                    YearMinBefore::zoneId, Year::from, not(comparison(Year::isAfter)));
         }
     }
 
@@ -98,8 +115,8 @@ public final class YearMinBeforeValidator {
          * Creates a new validator.
          */
         public ForLocalDate() {
-            super(YearMinBefore::moment, Year::parse, Year::now, YearMinBeforeValidator::extractDuration, Year::minus,
-                    YearMinBefore::zoneId, Year::from, not(Year::isAfter));
+            super(YearMinBefore::moment, MomentParsers.YEAR, Year::now, YearMinBeforeValidator::extractDuration, Year::minus,
+                    YearMinBefore::zoneId, Year::from, not(comparison(Year::isAfter)));
         }
     }
 
@@ -114,8 +131,8 @@ public final class YearMinBeforeValidator {
          * Creates a new validator.
          */
         public ForLocalDateTime() {
-            super(YearMinBefore::moment, Year::parse, Year::now, YearMinBeforeValidator::extractDuration, Year::minus,
-                    YearMinBefore::zoneId, Year::from, not(Year::isAfter));
+            super(YearMinBefore::moment, MomentParsers.YEAR, Year::now, YearMinBeforeValidator::extractDuration, Year::minus,
+                    YearMinBefore::zoneId, Year::from, not(comparison(Year::isAfter)));
         }
     }
 
@@ -130,10 +147,10 @@ public final class YearMinBeforeValidator {
          * Creates a new validator.
          */
         public ForOffsetDateTime() {
-            super(YearMinBefore::moment, Year::parse, Year::now, YearMinBeforeValidator::extractDuration, Year::minus,
+            super(YearMinBefore::moment, MomentParsers.YEAR, Year::now, YearMinBeforeValidator::extractDuration, Year::minus,
                     YearMinBefore::zoneId,
                     Year::from, OffsetDateTime::atZoneSameInstant, Year::from,
-                    not(Year::isAfter));
+                    not(comparison(Year::isAfter)));
         }
     }
 
@@ -148,8 +165,8 @@ public final class YearMinBeforeValidator {
          * Creates a new validator.
          */
         public ForYearMonth() {
-            super(YearMinBefore::moment, Year::parse, Year::now, YearMinBeforeValidator::extractDuration, Year::minus,
-                    YearMinBefore::zoneId, Year::from, not(Year::isAfter));
+            super(YearMinBefore::moment, MomentParsers.YEAR, Year::now, YearMinBeforeValidator::extractDuration, Year::minus,
+                    YearMinBefore::zoneId, Year::from, not(comparison(Year::isAfter)));
         }
     }
 
@@ -164,8 +181,8 @@ public final class YearMinBeforeValidator {
          * Creates a new validator.
          */
         public ForZonedDateTime() {
-            super(YearMinBefore::moment, Year::parse, Year::now, YearMinBeforeValidator::extractDuration, Year::minus,
-                    YearMinBefore::zoneId, Year::from, not(Year::isAfter));
+            super(YearMinBefore::moment, MomentParsers.YEAR, Year::now, YearMinBeforeValidator::extractDuration, Year::minus,
+                    YearMinBefore::zoneId, Year::from, not(comparison(Year::isAfter)));
         }
     }
 
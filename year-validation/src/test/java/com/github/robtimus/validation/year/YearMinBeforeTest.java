@@ -43,6 +43,7 @@ import org.junit.jupiter.api.TestInstance;
 import org.junit.jupiter.api.TestInstance.Lifecycle;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
+import com.github.robtimus.validation.datetime.base.EpochValue;
 
 @SuppressWarnings("nls")
 class YearMinBeforeTest extends AbstractConstraintTest {
@@ -230,6 +231,95 @@ class YearMinBeforeTest extends AbstractConstraintTest {
         }
     }
 
+    @Nested
+    @DisplayName("Long")
+    class ForLong extends AbstractNonProvidedZoneIdTest<Long> {
+
+        ForLong() {
+            super(TestClassWithProvidedZoneId.class, "epochMilli", System.currentTimeMillis());
+        }
+
+        @Nested
+        @DisplayName("with 'now'")
+        class WithNow extends ConstraintTest<Long> {
+
+            WithNow() {
+                super(TestClassWithNow.class, "epochMilli",
+                        Arrays.asList(
+                                utcInstantAtDefaultZone("2006-01-01T00:00:00Z").toEpochMilli(),
+                                utcInstantAtDefaultZone("2006-12-31T00:59:59.999Z").toEpochMilli()
+                        ),
+                        utcInstantAtDefaultZone("2005-12-31T23:59:59.999Z").toEpochMilli(),
+                        utcInstantAtDefaultZone("2007-01-01T00:00:00Z").toEpochMilli(),
+                        () -> Clock.fixed(Instant.parse("2007-12-03T10:15:30Z"), ZoneId.of("UTC")));
+            }
+        }
+
+        @Nested
+        @DisplayName("with zone id")
+        class WithZoneId extends ConstraintTest<Long> {
+
+            WithZoneId() {
+                super(TestClassWithZoneId.class, "epochMilli",
+                        Arrays.asList(
+                                utcInstantAtOffset("2006-01-01T01:00:00Z", 1).toEpochMilli(),
+                                utcInstantAtOffset("2007-01-01T00:59:59.999Z", 1).toEpochMilli()
+                        ),
+                        utcInstantAtOffset("2006-01-01T00:59:59.999Z", 1).toEpochMilli(),
+                        utcInstantAtOffset("2007-01-01T01:00:00Z", 1).toEpochMilli(),
+                        () -> null);
+            }
+        }
+
+        @Nested
+        @DisplayName("with zone id and seconds")
+        class WithZoneIdAndSeconds extends ConstraintTest<Long> {
+
+            WithZoneIdAndSeconds() {
+                super(TestClassWithZoneId.class, "epochSecond",
+                        Arrays.asList(
+                                utcInstantAtOffset("2006-01-01T01:00:00Z", 1).getEpochSecond(),
+                                utcInstantAtOffset("2007-01-01T00:59:59Z", 1).getEpochSecond()
+                        ),
+                        utcInstantAtOffset("2006-01-01T00:59:59Z", 1).getEpochSecond(),
+                        utcInstantAtOffset("2007-01-01T01:00:00Z", 1).getEpochSecond(),
+                        () -> null);
+            }
+        }
+
+        @Nested
+        @DisplayName("with system zone id")
+        class WithSystemZoneId extends ConstraintTest<Long> {
+
+            WithSystemZoneId() {
+                super(TestClassWithSystemZoneId.class, "epochMilli",
+                        Arrays.asList(
+                                utcInstantAtOffsetAfterSystem("2006-01-01T01:00:00Z", 1).toEpochMilli(),
+                                utcInstantAtOffsetAfterSystem("2007-01-01T00:59:59.999Z", 1).toEpochMilli()
+                        ),
+                        utcInstantAtOffsetAfterSystem("2006-01-01T00:59:59.999Z", 1).toEpochMilli(),
+                        utcInstantAtOffsetAfterSystem("2007-01-01T01:00:00Z", 1).toEpochMilli(),
+                        () -> null);
+            }
+        }
+
+        @Nested
+        @DisplayName("with daylight saving time zone id")
+        class WithDaylightSavingTimeZoneId extends ConstraintTest<Long> {
+
+            WithDaylightSavingTimeZoneId() {
+                super(TestClassWithDaylightSavingTimeZoneId.class, "epochMilli",
+                        Arrays.asList(
+                                Instant.parse("2005-12-31T13:00:00Z").toEpochMilli(),
+                                Instant.parse("2006-12-31T12:59:59.999Z").toEpochMilli()
+                        ),
+                        Instant.parse("2005-12-31T12:59:59.999Z").toEpochMilli(),
+                        Instant.parse("2006-12-31T13:00:00Z").toEpochMilli(),
+                        () -> null);
+            }
+        }
+    }
+
     @Nested
     @DisplayName("LocalDate")
     class ForLocalDate extends AbstractSystemOnlyZoneIdTest<LocalDate> {
@@ -565,6 +655,9 @@ class YearMinBeforeTest extends AbstractConstraintTest {
         @YearMinBefore(years = 1, moment = "now", zoneId = "system")
         Calendar calendar;
 
+        @YearMinBefore(years = 1, moment = "now", zoneId = "system")
+        Long epochMilli;
+
         @YearMinBefore(years = 1, moment = "now", zoneId = "system")
         Instant instant;
 
@@ -591,6 +684,9 @@ class YearMinBeforeTest extends AbstractConstraintTest {
         @YearMinBefore(years = 1, moment = "2007", zoneId = "provided")
         Calendar calendar;
 
+        @YearMinBefore(years = 1, moment = "2007", zoneId = "provided")
+        Long epochMilli;
+
         @YearMinBefore(years = 1, moment = "2007", zoneId = "provided")
         Instant instant;
 
@@ -617,6 +713,12 @@ class YearMinBeforeTest extends AbstractConstraintTest {
         @YearMinBefore(years = 1, moment = "2007", zoneId = "UTC")
         Calendar calendar;
 
+        @YearMinBefore(years = 1, moment = "2007", zoneId = "UTC")
+        Long epochMilli;
+
+        @YearMinBefore(years = 1, moment = "2007", zoneId = "UTC", payload = EpochValue.Seconds.class)
+        Long epochSecond;
+
         @YearMinBefore(years = 1, moment = "2007", zoneId = "UTC")
         Instant instant;
 
@@ -643,6 +745,9 @@ class YearMinBeforeTest extends AbstractConstraintTest {
         @YearMinBefore(years = 1, moment = "2007")
         Calendar calendar;
 
+        @YearMinBefore(years = 1, moment = "2007")
+        Long epochMilli;
+
         @YearMinBefore(years = 1, moment = "2007")
         Instant instant;
 
@@ -661,4 +766,9 @@ class YearMinBeforeTest extends AbstractConstraintTest {
         @YearMinBefore(years = 1, moment = "2007")
         ZonedDateTime zonedDateTime;
     }
+
+    private static final class TestClassWithDaylightSavingTimeZoneId {
+        @YearMinBefore(years = 1, moment = "2007", zoneId = "Australia/Sydney")
+        Long epochMilli;
+    }
 }